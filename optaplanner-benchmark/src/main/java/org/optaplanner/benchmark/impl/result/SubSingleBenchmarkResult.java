@@ -33,6 +33,7 @@ import org.optaplanner.benchmark.impl.statistic.StatisticType;
 import org.optaplanner.benchmark.impl.statistic.SubSingleStatistic;
 import org.optaplanner.benchmark.impl.statistic.subsingle.constraintmatchtotalbestscore.ConstraintMatchTotalBestScoreSubSingleStatistic;
 import org.optaplanner.benchmark.impl.statistic.subsingle.constraintmatchtotalstepscore.ConstraintMatchTotalStepScoreSubSingleStatistic;
+import org.optaplanner.benchmark.impl.statistic.subsingle.constraintprofiling.ConstraintProfilingSubSingleStatistic;
 import org.optaplanner.benchmark.impl.statistic.subsingle.pickedmovetypebestscore.PickedMoveTypeBestScoreDiffSubSingleStatistic;
 import org.optaplanner.benchmark.impl.statistic.subsingle.pickedmovetypestepscore.PickedMoveTypeStepScoreDiffSubSingleStatistic;
 import org.optaplanner.core.api.score.Score;
@@ -60,7 +61,9 @@ public class SubSingleBenchmarkResult implements BenchmarkResult {
             @XmlElement(name = "pickedMoveTypeBestScoreDiffSubSingleStatistic",
                     type = PickedMoveTypeBestScoreDiffSubSingleStatistic.class),
             @XmlElement(name = "pickedMoveTypeStepScoreDiffSubSingleStatistic",
-                    type = PickedMoveTypeStepScoreDiffSubSingleStatistic.class)
+                    type = PickedMoveTypeStepScoreDiffSubSingleStatistic.class),
+            @XmlElement(name = "constraintProfilingSubSingleStatistic",
+                    type = ConstraintProfilingSubSingleStatistic.class)
     })
     private List<PureSubSingleStatistic> pureSubSingleStatisticList = null;
 
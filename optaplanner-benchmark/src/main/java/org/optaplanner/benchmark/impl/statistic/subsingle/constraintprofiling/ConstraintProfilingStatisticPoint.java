@@ -0,0 +1,109 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.statistic.subsingle.constraintprofiling;
+
+import org.optaplanner.benchmark.impl.statistic.StatisticPoint;
+
+public class ConstraintProfilingStatisticPoint extends StatisticPoint {
+
+    private final long timeMillisSpent;
+    private final long scoreCalculationCount;
+    private final String constraintPackage;
+    private final String constraintName;
+    private final long evaluationCount;
+    private final long createdTupleCount;
+    private final long retractedTupleCount;
+    private final long constraintTimeNanosSpent;
+    private final long allocatedBytes;
+
+    public ConstraintProfilingStatisticPoint(long timeMillisSpent, long scoreCalculationCount,
+            String constraintPackage, String constraintName,
+            long evaluationCount, long createdTupleCount, long retractedTupleCount,
+            long constraintTimeNanosSpent, long allocatedBytes) {
+        this.timeMillisSpent = timeMillisSpent;
+        this.scoreCalculationCount = scoreCalculationCount;
+        this.constraintPackage = constraintPackage;
+        this.constraintName = constraintName;
+        this.evaluationCount = evaluationCount;
+        this.createdTupleCount = createdTupleCount;
+        this.retractedTupleCount = retractedTupleCount;
+        this.constraintTimeNanosSpent = constraintTimeNanosSpent;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    public long getTimeMillisSpent() {
+        return timeMillisSpent;
+    }
+
+    public long getScoreCalculationCount() {
+        return scoreCalculationCount;
+    }
+
+    public String getConstraintPackage() {
+        return constraintPackage;
+    }
+
+    public String getConstraintName() {
+        return constraintName;
+    }
+
+    public long getEvaluationCount() {
+        return evaluationCount;
+    }
+
+    public long getCreatedTupleCount() {
+        return createdTupleCount;
+    }
+
+    public long getRetractedTupleCount() {
+        return retractedTupleCount;
+    }
+
+    public long getConstraintTimeNanosSpent() {
+        return constraintTimeNanosSpent;
+    }
+
+    /**
+     * @return -1 if the JVM doesn't support measuring the allocated bytes per thread
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * @return -1 if the allocated bytes aren't measured or no score was calculated yet
+     */
+    public long getAllocatedBytesPerScoreCalculation() {
+        if (allocatedBytes < 0L || scoreCalculationCount == 0L) {
+            return -1L;
+        }
+        return allocatedBytes / scoreCalculationCount;
+    }
+
+    public String getConstraintId() {
+        return constraintPackage + "/" + constraintName;
+    }
+
+    @Override
+    public String toCsvLine() {
+        return buildCsvLineWithStrings(timeMillisSpent, Long.toString(scoreCalculationCount),
+                constraintPackage, constraintName,
+                Long.toString(evaluationCount), Long.toString(createdTupleCount), Long.toString(retractedTupleCount),
+                Long.toString(constraintTimeNanosSpent), Long.toString(allocatedBytes));
+    }
+
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.statistic.subsingle.constraintprofiling;
+
+import java.io.File;
+import java.text.NumberFormat;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.xml.bind.annotation.XmlTransient;
+
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYItemRenderer;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.optaplanner.benchmark.config.statistic.SingleStatisticType;
+import org.optaplanner.benchmark.impl.report.BenchmarkReport;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.statistic.PureSubSingleStatistic;
+import org.optaplanner.benchmark.impl.statistic.common.MillisecondsSpentNumberFormat;
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.score.constraint.ConstraintProfile;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.solver.DefaultSolver;
+
+public class ConstraintProfilingSubSingleStatistic<Solution_>
+        extends PureSubSingleStatistic<Solution_, ConstraintProfilingStatisticPoint> {
+
+    /**
+     * Every point holds a snapshot of all constraints, so this limits the size of the CSV file.
+     */
+    private static final long MINIMUM_MILLIS_BETWEEN_SNAPSHOTS = 100L;
+
+    @XmlTransient
+    private ConstraintProfilingSubSingleStatisticListener listener;
+
+    @XmlTransient
+    protected List<File> graphFileList = null;
+
+    public ConstraintProfilingSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        super(subSingleBenchmarkResult, SingleStatisticType.CONSTRAINT_PROFILING);
+        listener = new ConstraintProfilingSubSingleStatisticListener();
+    }
+
+    /**
+     * @return never null
+     */
+    @Override
+    public List<File> getGraphFileList() {
+        return graphFileList;
+    }
+
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    @Override
+    public void open(Solver<Solution_> solver) {
+        DefaultSolver<Solution_> defaultSolver = (DefaultSolver<Solution_>) solver;
+        defaultSolver.getSolverScope().getScoreDirector().overwriteConstraintProfilingEnabledPreference(true);
+        defaultSolver.addPhaseLifecycleListener(listener);
+    }
+
+    @Override
+    public void close(Solver<Solution_> solver) {
+        ((DefaultSolver<Solution_>) solver).removePhaseLifecycleListener(listener);
+    }
+
+    private class ConstraintProfilingSubSingleStatisticListener extends PhaseLifecycleListenerAdapter<Solution_> {
+
+        private boolean constraintProfilingEnabled;
+        private long lastSnapshotTimeMillisSpent = -MINIMUM_MILLIS_BETWEEN_SNAPSHOTS;
+
+        @Override
+        public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
+            InnerScoreDirector<Solution_, ?> scoreDirector = phaseScope.getScoreDirector();
+            constraintProfilingEnabled = scoreDirector.isConstraintProfilingEnabled();
+            if (!constraintProfilingEnabled) {
+                logger.warn("The subSingleStatistic ({}) cannot function properly" +
+                        " because constraint profiling is not supported on the ScoreDirector.", singleStatisticType);
+            }
+        }
+
+        @Override
+        public void stepEnded(AbstractStepScope<Solution_> stepScope) {
+            long timeMillisSpent = stepScope.getPhaseScope().calculateSolverTimeMillisSpentUpToNow();
+            if (timeMillisSpent - lastSnapshotTimeMillisSpent >= MINIMUM_MILLIS_BETWEEN_SNAPSHOTS) {
+                takeSnapshot(stepScope.getPhaseScope(), timeMillisSpent);
+            }
+        }
+
+        @Override
+        public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+            takeSnapshot(phaseScope, phaseScope.calculateSolverTimeMillisSpentUpToNow());
+        }
+
+        private void takeSnapshot(AbstractPhaseScope<Solution_> phaseScope, long timeMillisSpent) {
+            if (!constraintProfilingEnabled) {
+                return;
+            }
+            lastSnapshotTimeMillisSpent = timeMillisSpent;
+            long scoreCalculationCount = phaseScope.getSolverScope().getScoreCalculationCount();
+            for (ConstraintProfile constraintProfile : phaseScope.getScoreDirector().getConstraintProfileMap().values()) {
+                pointList.add(new ConstraintProfilingStatisticPoint(
+                        timeMillisSpent,
+                        scoreCalculationCount,
+                        constraintProfile.getConstraintPackage(),
+                        constraintProfile.getConstraintName(),
+                        constraintProfile.getEvaluationCount(),
+                        constraintProfile.getCreatedTupleCount(),
+                        constraintProfile.getRetractedTupleCount(),
+                        constraintProfile.getTimeNanosSpent(),
+                        constraintProfile.getAllocatedBytes()));
+            }
+        }
+
+    }
+
+    // ************************************************************************
+    // CSV methods
+    // ************************************************************************
+
+    @Override
+    protected String getCsvHeader() {
+        return ConstraintProfilingStatisticPoint.buildCsvLine(
+                "timeMillisSpent", "scoreCalculationCount", "constraintPackage", "constraintName",
+                "evaluationCount", "createdTupleCount", "retractedTupleCount",
+                "constraintTimeNanosSpent", "allocatedBytes");
+    }
+
+    @Override
+    protected ConstraintProfilingStatisticPoint createPointFromCsvLine(ScoreDefinition scoreDefinition,
+            List<String> csvLine) {
+        return new ConstraintProfilingStatisticPoint(Long.parseLong(csvLine.get(0)), Long.parseLong(csvLine.get(1)),
+                csvLine.get(2), csvLine.get(3),
+                Long.parseLong(csvLine.get(4)), Long.parseLong(csvLine.get(5)), Long.parseLong(csvLine.get(6)),
+                Long.parseLong(csvLine.get(7)), Long.parseLong(csvLine.get(8)));
+    }
+
+    // ************************************************************************
+    // Write methods
+    // ************************************************************************
+
+    @Override
+    public void writeGraphFiles(BenchmarkReport benchmarkReport) {
+        Map<String, XYSeries> constraintIdToSeriesMap = new LinkedHashMap<>();
+        for (ConstraintProfilingStatisticPoint point : getPointList()) {
+            XYSeries series = constraintIdToSeriesMap.computeIfAbsent(point.getConstraintId(),
+                    k -> new XYSeries(point.getConstraintName()));
+            // A problem change resets the counters, because it sets a new working solution
+            series.add(point.getTimeMillisSpent(), point.getConstraintTimeNanosSpent() / 1_000_000.0);
+        }
+        XYPlot plot = createPlot(benchmarkReport);
+        XYItemRenderer renderer = new XYLineAndShapeRenderer(true, false);
+        plot.setRenderer(renderer);
+        XYSeriesCollection seriesCollection = new XYSeriesCollection();
+        for (XYSeries series : constraintIdToSeriesMap.values()) {
+            seriesCollection.addSeries(series);
+        }
+        plot.setDataset(seriesCollection);
+        JFreeChart chart = new JFreeChart(subSingleBenchmarkResult.getName() + " constraint profiling statistic",
+                JFreeChart.DEFAULT_TITLE_FONT, plot, true);
+        graphFileList = Collections.singletonList(writeChartToImageFile(chart, "ConstraintProfilingStatistic"));
+    }
+
+    private XYPlot createPlot(BenchmarkReport benchmarkReport) {
+        Locale locale = benchmarkReport.getLocale();
+        NumberAxis xAxis = new NumberAxis("Time spent");
+        xAxis.setNumberFormatOverride(new MillisecondsSpentNumberFormat(locale));
+        NumberAxis yAxis = new NumberAxis("Time spent in constraint");
+        yAxis.setNumberFormatOverride(new MillisecondsSpentNumberFormat(locale));
+        XYPlot plot = new XYPlot(null, xAxis, yAxis, null);
+        plot.setOrientation(PlotOrientation.VERTICAL);
+        return plot;
+    }
+
+}
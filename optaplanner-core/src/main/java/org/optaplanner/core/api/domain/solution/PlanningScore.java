@@ -22,9 +22,11 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
+import java.math.BigDecimal;
 
 import org.optaplanner.core.api.score.AbstractBendableScore;
 import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.buildin.hardsoftbigdecimal.HardSoftBigDecimalScore;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 
@@ -62,6 +64,23 @@ public @interface PlanningScore {
     /** Workaround for annotation limitation in {@link #bendableHardLevelsSize()} and {@link #bendableSoftLevelsSize()}. */
     int NO_LEVEL_SIZE = -1;
 
+    /**
+     * Optional for a {@link HardSoftBigDecimalScore}, not supported for other scores.
+     * <p>
+     * Declares that no score level ever needs more decimals than this scale,
+     * so constraint streams can calculate the score with scaled {@code long} values
+     * instead of {@link BigDecimal} arithmetic, which is faster.
+     * Every constraint weight and every impact must be exactly representable in that scale,
+     * or solving fails fast.
+     * The calculation is overflow-checked, so the score levels multiplied by 10^scale must fit in a {@code long}.
+     *
+     * @return 0 or higher to calculate at that fixed scale, {@link #NO_BIG_DECIMAL_SCALE} otherwise
+     */
+    int bigDecimalScale() default NO_BIG_DECIMAL_SCALE;
+
+    /** Workaround for annotation limitation in {@link #bigDecimalScale()}. */
+    int NO_BIG_DECIMAL_SCALE = -1;
+
     /**
      * Overrides the default determined {@link ScoreDefinition} to implement a custom one.
      * <p>
@@ -54,11 +54,17 @@ import org.optaplanner.core.api.function.ToLongQuadFunction;
 import org.optaplanner.core.api.function.ToLongTriFunction;
 import org.optaplanner.core.api.function.TriFunction;
 import org.optaplanner.core.api.score.stream.bi.BiConstraintCollector;
+import org.optaplanner.core.api.score.stream.common.LoadBalance;
+import org.optaplanner.core.api.score.stream.common.SequenceChain;
 import org.optaplanner.core.api.score.stream.quad.QuadConstraintCollector;
 import org.optaplanner.core.api.score.stream.tri.TriConstraintCollector;
 import org.optaplanner.core.api.score.stream.uni.UniConstraintCollector;
 import org.optaplanner.core.api.score.stream.uni.UniConstraintStream;
 import org.optaplanner.core.impl.score.stream.bi.DefaultBiConstraintCollector;
+import org.optaplanner.core.impl.score.stream.common.ConsecutiveSetTree;
+import org.optaplanner.core.impl.score.stream.common.DefaultLoadBalance;
+import org.optaplanner.core.impl.score.stream.common.LongCountHeap;
+import org.optaplanner.core.impl.score.stream.common.SlidingWindowCountTree;
 import org.optaplanner.core.impl.score.stream.quad.DefaultQuadConstraintCollector;
 import org.optaplanner.core.impl.score.stream.tri.DefaultTriConstraintCollector;
 import org.optaplanner.core.impl.score.stream.uni.DefaultUniConstraintCollector;
@@ -84,12 +90,9 @@ public final class ConstraintCollectors {
      */
     public static <A> UniConstraintCollector<A, ?, Integer> count() {
         return new DefaultUniConstraintCollector<>(
-                () -> new int[1],
-                (resultContainer, a) -> {
-                    resultContainer[0]++;
-                    return () -> resultContainer[0]--;
-                },
-                resultContainer -> resultContainer[0]);
+                IntCountResultContainer::new,
+                (resultContainer, a) -> resultContainer.increment(),
+                resultContainer -> resultContainer.count);
     }
 
     /**
@@ -97,12 +100,9 @@ public final class ConstraintCollectors {
      */
     public static <A> UniConstraintCollector<A, ?, Long> countLong() {
         return new DefaultUniConstraintCollector<>(
-                () -> new long[1],
-                (resultContainer, a) -> {
-                    resultContainer[0]++;
-                    return () -> resultContainer[0]--;
-                },
-                resultContainer -> resultContainer[0]);
+                LongCountResultContainer::new,
+                (resultContainer, a) -> resultContainer.increment(),
+                resultContainer -> resultContainer.count);
     }
 
     /**
@@ -110,12 +110,9 @@ public final class ConstraintCollectors {
      */
     public static <A, B> BiConstraintCollector<A, B, ?, Integer> countBi() {
         return new DefaultBiConstraintCollector<>(
-                () -> new int[1],
-                (resultContainer, a, b) -> {
-                    resultContainer[0]++;
-                    return (() -> resultContainer[0]--);
-                },
-                resultContainer -> resultContainer[0]);
+                IntCountResultContainer::new,
+                (resultContainer, a, b) -> resultContainer.increment(),
+                resultContainer -> resultContainer.count);
     }
 
     /**
@@ -123,12 +120,9 @@ public final class ConstraintCollectors {
      */
     public static <A, B> BiConstraintCollector<A, B, ?, Long> countLongBi() {
         return new DefaultBiConstraintCollector<>(
-                () -> new long[1],
-                (resultContainer, a, b) -> {
-                    resultContainer[0]++;
-                    return () -> resultContainer[0]--;
-                },
-                resultContainer -> resultContainer[0]);
+                LongCountResultContainer::new,
+                (resultContainer, a, b) -> resultContainer.increment(),
+                resultContainer -> resultContainer.count);
     }
 
     /**
@@ -136,12 +130,9 @@ public final class ConstraintCollectors {
      */
     public static <A, B, C> TriConstraintCollector<A, B, C, ?, Integer> countTri() {
         return new DefaultTriConstraintCollector<>(
-                () -> new int[1],
-                (resultContainer, a, b, c) -> {
-                    resultContainer[0]++;
-                    return (() -> resultContainer[0]--);
-                },
-                resultContainer -> resultContainer[0]);
+                IntCountResultContainer::new,
+                (resultContainer, a, b, c) -> resultContainer.increment(),
+                resultContainer -> resultContainer.count);
     }
 
     /**
@@ -149,12 +140,9 @@ public final class ConstraintCollectors {
      */
     public static <A, B, C> TriConstraintCollector<A, B, C, ?, Long> countLongTri() {
         return new DefaultTriConstraintCollector<>(
-                () -> new long[1],
-                (resultContainer, a, b, c) -> {
-                    resultContainer[0]++;
-                    return () -> resultContainer[0]--;
-                },
-                resultContainer -> resultContainer[0]);
+                LongCountResultContainer::new,
+                (resultContainer, a, b, c) -> resultContainer.increment(),
+                resultContainer -> resultContainer.count);
     }
 
     /**
@@ -162,12 +150,9 @@ public final class ConstraintCollectors {
      */
     public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Integer> countQuad() {
         return new DefaultQuadConstraintCollector<>(
-                () -> new int[1],
-                (resultContainer, a, b, c, d) -> {
-                    resultContainer[0]++;
-                    return () -> resultContainer[0]--;
-                },
-                resultContainer -> resultContainer[0]);
+                IntCountResultContainer::new,
+                (resultContainer, a, b, c, d) -> resultContainer.increment(),
+                resultContainer -> resultContainer.count);
     }
 
     /**
@@ -175,12 +160,30 @@ public final class ConstraintCollectors {
      */
     public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Long> countLongQuad() {
         return new DefaultQuadConstraintCollector<>(
-                () -> new long[1],
-                (resultContainer, a, b, c, d) -> {
-                    resultContainer[0]++;
-                    return () -> resultContainer[0]--;
-                },
-                resultContainer -> resultContainer[0]);
+                LongCountResultContainer::new,
+                (resultContainer, a, b, c, d) -> resultContainer.increment(),
+                resultContainer -> resultContainer.count);
+    }
+
+    private static class IntCountResultContainer {
+        int count = 0;
+        // The undo is the same for every accumulated tuple, so it's created once per group instead of per tuple
+        final Runnable decrement = () -> count--;
+
+        Runnable increment() {
+            count++;
+            return decrement;
+        }
+    }
+
+    private static class LongCountResultContainer {
+        long count = 0L;
+        final Runnable decrement = () -> count--;
+
+        Runnable increment() {
+            count++;
+            return decrement;
+        }
     }
 
     // ************************************************************************
@@ -317,14 +320,14 @@ public final class ConstraintCollectors {
             resultContainer.count++;
         }
         objectCount[0]++;
+        // The objectCount stays mapped as long as it isn't 0, so the undo doesn't need to look it up again
         return () -> {
-            int[] objectCount2 = resultContainer.objectCountMap.get(value);
-            if (objectCount2 == null) {
+            if (objectCount[0] == 0L) {
                 throw new IllegalStateException("Impossible state: the value (" + value +
                         ") is removed more times than it was added.");
             }
-            objectCount2[0]--;
-            if (objectCount2[0] == 0L) {
+            objectCount[0]--;
+            if (objectCount[0] == 0L) {
                 resultContainer.objectCountMap.remove(value);
                 resultContainer.count--;
             }
@@ -342,14 +345,14 @@ public final class ConstraintCollectors {
             resultContainer.count++;
         }
         objectCount[0]++;
+        // The objectCount stays mapped as long as it isn't 0, so the undo doesn't need to look it up again
         return () -> {
-            long[] objectCount2 = resultContainer.objectCountMap.get(value);
-            if (objectCount2 == null) {
+            if (objectCount[0] == 0L) {
                 throw new IllegalStateException("Impossible state: the value (" + value +
                         ") is removed more times than it was added.");
             }
-            objectCount2[0]--;
-            if (objectCount2[0] == 0L) {
+            objectCount[0]--;
+            if (objectCount[0] == 0L) {
                 resultContainer.objectCountMap.remove(value);
                 resultContainer.count--;
             }
@@ -796,6 +799,126 @@ public final class ConstraintCollectors {
         return minOrMax(groupValueMapping, comparator, true);
     }
 
+    /**
+     * Returns a collector that finds the minimum of an {@code int} property of the elements that are being grouped.
+     * <p>
+     * Unlike {@link #min(Function)}, it doesn't box the property
+     * and it doesn't allocate a map entry per distinct property value.
+     * <p>
+     * For example, {@code [Ann(age = 20), Beth(age = 25), Cathy(age = 30), David(age = 30), Eric(age = 20)]} with
+     * {@code .groupBy(minInt(Person::getAge))} returns {@code 20}.
+     *
+     * @param <A> type of the matched fact
+     * @param groupValueMapping never null, maps facts from the matched type to the property
+     * @return never null
+     */
+    public static <A> UniConstraintCollector<A, ?, Integer> minInt(ToIntFunction<? super A> groupValueMapping) {
+        return new DefaultUniConstraintCollector<>(
+                () -> new LongCountHeap(true),
+                (resultContainer, a) -> {
+                    int value = groupValueMapping.applyAsInt(a);
+                    return minOrMaxAccumulator(resultContainer, value);
+                },
+                ConstraintCollectors::minOrMaxIntFinisher);
+    }
+
+    /**
+     * As defined by {@link #minInt(ToIntFunction)}.
+     */
+    public static <A, B> BiConstraintCollector<A, B, ?, Integer> minInt(
+            ToIntBiFunction<? super A, ? super B> groupValueMapping) {
+        return new DefaultBiConstraintCollector<>(
+                () -> new LongCountHeap(true),
+                (resultContainer, a, b) -> {
+                    int value = groupValueMapping.applyAsInt(a, b);
+                    return minOrMaxAccumulator(resultContainer, value);
+                },
+                ConstraintCollectors::minOrMaxIntFinisher);
+    }
+
+    /**
+     * As defined by {@link #minInt(ToIntFunction)}.
+     */
+    public static <A, B, C> TriConstraintCollector<A, B, C, ?, Integer> minInt(
+            ToIntTriFunction<? super A, ? super B, ? super C> groupValueMapping) {
+        return new DefaultTriConstraintCollector<>(
+                () -> new LongCountHeap(true),
+                (resultContainer, a, b, c) -> {
+                    int value = groupValueMapping.applyAsInt(a, b, c);
+                    return minOrMaxAccumulator(resultContainer, value);
+                },
+                ConstraintCollectors::minOrMaxIntFinisher);
+    }
+
+    /**
+     * As defined by {@link #minInt(ToIntFunction)}.
+     */
+    public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Integer> minInt(
+            ToIntQuadFunction<? super A, ? super B, ? super C, ? super D> groupValueMapping) {
+        return new DefaultQuadConstraintCollector<>(
+                () -> new LongCountHeap(true),
+                (resultContainer, a, b, c, d) -> {
+                    int value = groupValueMapping.applyAsInt(a, b, c, d);
+                    return minOrMaxAccumulator(resultContainer, value);
+                },
+                ConstraintCollectors::minOrMaxIntFinisher);
+    }
+
+    /**
+     * As defined by {@link #minInt(ToIntFunction)}.
+     */
+    public static <A> UniConstraintCollector<A, ?, Long> minLong(ToLongFunction<? super A> groupValueMapping) {
+        return new DefaultUniConstraintCollector<>(
+                () -> new LongCountHeap(true),
+                (resultContainer, a) -> {
+                    long value = groupValueMapping.applyAsLong(a);
+                    return minOrMaxAccumulator(resultContainer, value);
+                },
+                ConstraintCollectors::minOrMaxLongFinisher);
+    }
+
+    /**
+     * As defined by {@link #minInt(ToIntFunction)}.
+     */
+    public static <A, B> BiConstraintCollector<A, B, ?, Long> minLong(
+            ToLongBiFunction<? super A, ? super B> groupValueMapping) {
+        return new DefaultBiConstraintCollector<>(
+                () -> new LongCountHeap(true),
+                (resultContainer, a, b) -> {
+                    long value = groupValueMapping.applyAsLong(a, b);
+                    return minOrMaxAccumulator(resultContainer, value);
+                },
+                ConstraintCollectors::minOrMaxLongFinisher);
+    }
+
+    /**
+     * As defined by {@link #minInt(ToIntFunction)}.
+     */
+    public static <A, B, C> TriConstraintCollector<A, B, C, ?, Long> minLong(
+            ToLongTriFunction<? super A, ? super B, ? super C> groupValueMapping) {
+        return new DefaultTriConstraintCollector<>(
+                () -> new LongCountHeap(true),
+                (resultContainer, a, b, c) -> {
+                    long value = groupValueMapping.applyAsLong(a, b, c);
+                    return minOrMaxAccumulator(resultContainer, value);
+                },
+                ConstraintCollectors::minOrMaxLongFinisher);
+    }
+
+    /**
+     * As defined by {@link #minInt(ToIntFunction)}.
+     */
+    public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Long> minLong(
+            ToLongQuadFunction<? super A, ? super B, ? super C, ? super D> groupValueMapping) {
+        return new DefaultQuadConstraintCollector<>(
+                () -> new LongCountHeap(true),
+                (resultContainer, a, b, c, d) -> {
+                    long value = groupValueMapping.applyAsLong(a, b, c, d);
+                    return minOrMaxAccumulator(resultContainer, value);
+                },
+                ConstraintCollectors::minOrMaxLongFinisher);
+    }
+
     // ************************************************************************
     // max
     // ************************************************************************
@@ -951,6 +1074,126 @@ public final class ConstraintCollectors {
                 resultContainer -> minOrMaxFinisher(resultContainer, min));
     }
 
+    /**
+     * Returns a collector that finds the maximum of an {@code int} property of the elements that are being grouped.
+     * <p>
+     * Unlike {@link #max(Function)}, it doesn't box the property
+     * and it doesn't allocate a map entry per distinct property value.
+     * <p>
+     * For example, {@code [Ann(age = 20), Beth(age = 25), Cathy(age = 30), David(age = 30), Eric(age = 20)]} with
+     * {@code .groupBy(maxInt(Person::getAge))} returns {@code 30}.
+     *
+     * @param <A> type of the matched fact
+     * @param groupValueMapping never null, maps facts from the matched type to the property
+     * @return never null
+     */
+    public static <A> UniConstraintCollector<A, ?, Integer> maxInt(ToIntFunction<? super A> groupValueMapping) {
+        return new DefaultUniConstraintCollector<>(
+                () -> new LongCountHeap(false),
+                (resultContainer, a) -> {
+                    int value = groupValueMapping.applyAsInt(a);
+                    return minOrMaxAccumulator(resultContainer, value);
+                },
+                ConstraintCollectors::minOrMaxIntFinisher);
+    }
+
+    /**
+     * As defined by {@link #maxInt(ToIntFunction)}.
+     */
+    public static <A, B> BiConstraintCollector<A, B, ?, Integer> maxInt(
+            ToIntBiFunction<? super A, ? super B> groupValueMapping) {
+        return new DefaultBiConstraintCollector<>(
+                () -> new LongCountHeap(false),
+                (resultContainer, a, b) -> {
+                    int value = groupValueMapping.applyAsInt(a, b);
+                    return minOrMaxAccumulator(resultContainer, value);
+                },
+                ConstraintCollectors::minOrMaxIntFinisher);
+    }
+
+    /**
+     * As defined by {@link #maxInt(ToIntFunction)}.
+     */
+    public static <A, B, C> TriConstraintCollector<A, B, C, ?, Integer> maxInt(
+            ToIntTriFunction<? super A, ? super B, ? super C> groupValueMapping) {
+        return new DefaultTriConstraintCollector<>(
+                () -> new LongCountHeap(false),
+                (resultContainer, a, b, c) -> {
+                    int value = groupValueMapping.applyAsInt(a, b, c);
+                    return minOrMaxAccumulator(resultContainer, value);
+                },
+                ConstraintCollectors::minOrMaxIntFinisher);
+    }
+
+    /**
+     * As defined by {@link #maxInt(ToIntFunction)}.
+     */
+    public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Integer> maxInt(
+            ToIntQuadFunction<? super A, ? super B, ? super C, ? super D> groupValueMapping) {
+        return new DefaultQuadConstraintCollector<>(
+                () -> new LongCountHeap(false),
+                (resultContainer, a, b, c, d) -> {
+                    int value = groupValueMapping.applyAsInt(a, b, c, d);
+                    return minOrMaxAccumulator(resultContainer, value);
+                },
+                ConstraintCollectors::minOrMaxIntFinisher);
+    }
+
+    /**
+     * As defined by {@link #maxInt(ToIntFunction)}.
+     */
+    public static <A> UniConstraintCollector<A, ?, Long> maxLong(ToLongFunction<? super A> groupValueMapping) {
+        return new DefaultUniConstraintCollector<>(
+                () -> new LongCountHeap(false),
+                (resultContainer, a) -> {
+                    long value = groupValueMapping.applyAsLong(a);
+                    return minOrMaxAccumulator(resultContainer, value);
+                },
+                ConstraintCollectors::minOrMaxLongFinisher);
+    }
+
+    /**
+     * As defined by {@link #maxInt(ToIntFunction)}.
+     */
+    public static <A, B> BiConstraintCollector<A, B, ?, Long> maxLong(
+            ToLongBiFunction<? super A, ? super B> groupValueMapping) {
+        return new DefaultBiConstraintCollector<>(
+                () -> new LongCountHeap(false),
+                (resultContainer, a, b) -> {
+                    long value = groupValueMapping.applyAsLong(a, b);
+                    return minOrMaxAccumulator(resultContainer, value);
+                },
+                ConstraintCollectors::minOrMaxLongFinisher);
+    }
+
+    /**
+     * As defined by {@link #maxInt(ToIntFunction)}.
+     */
+    public static <A, B, C> TriConstraintCollector<A, B, C, ?, Long> maxLong(
+            ToLongTriFunction<? super A, ? super B, ? super C> groupValueMapping) {
+        return new DefaultTriConstraintCollector<>(
+                () -> new LongCountHeap(false),
+                (resultContainer, a, b, c) -> {
+                    long value = groupValueMapping.applyAsLong(a, b, c);
+                    return minOrMaxAccumulator(resultContainer, value);
+                },
+                ConstraintCollectors::minOrMaxLongFinisher);
+    }
+
+    /**
+     * As defined by {@link #maxInt(ToIntFunction)}.
+     */
+    public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Long> maxLong(
+            ToLongQuadFunction<? super A, ? super B, ? super C, ? super D> groupValueMapping) {
+        return new DefaultQuadConstraintCollector<>(
+                () -> new LongCountHeap(false),
+                (resultContainer, a, b, c, d) -> {
+                    long value = groupValueMapping.applyAsLong(a, b, c, d);
+                    return minOrMaxAccumulator(resultContainer, value);
+                },
+                ConstraintCollectors::minOrMaxLongFinisher);
+    }
+
     private static <Mapped> Runnable minOrMaxAccumulator(SortedMap<Mapped, Long> resultContainer, Mapped mapped) {
         resultContainer.compute(mapped, (key, value) -> value == null ? 1L : value + 1L);
         return () -> resultContainer.compute(mapped, (key, value) -> value == 1L ? null : value - 1L);
@@ -961,6 +1204,19 @@ public final class ConstraintCollectors {
         return resultContainer.isEmpty() ? null : keySupplier.apply(resultContainer);
     }
 
+    private static Runnable minOrMaxAccumulator(LongCountHeap resultContainer, long value) {
+        resultContainer.add(value);
+        return () -> resultContainer.remove(value);
+    }
+
+    private static Integer minOrMaxIntFinisher(LongCountHeap resultContainer) {
+        return resultContainer.isEmpty() ? null : (int) resultContainer.peek();
+    }
+
+    private static Long minOrMaxLongFinisher(LongCountHeap resultContainer) {
+        return resultContainer.isEmpty() ? null : resultContainer.peek();
+    }
+
     public static <A, Result extends Collection<A>> UniConstraintCollector<A, ?, Result> toCollection(
             IntFunction<Result> collectionFunction) {
         return toCollection(Function.identity(), collectionFunction);
@@ -1966,6 +2222,314 @@ public final class ConstraintCollectors {
                                 ConstraintCollectors::throwOnKeyConflict, TreeMap::new)));
     }
 
+    // ************************************************************************
+    // consecutive sequences and sliding windows
+    // ************************************************************************
+
+    /**
+     * Returns a collector that splits the elements that are being grouped into sequences of consecutive indexes,
+     * with a break between every 2 sequences.
+     * Adding or removing an element only updates the sequences around its index, in O(log n),
+     * instead of recalculating all sequences from a sorted collection.
+     * <p>
+     * For example, {@code [Shift(day = 1), Shift(day = 2), Shift(day = 3), Shift(day = 5), Shift(day = 7)]} with
+     * {@code .groupBy(toConsecutiveSequences(Shift::getDay))} returns the sequences {@code [1, 3]}, {@code [5, 5]}
+     * and {@code [7, 7]}, with 2 breaks of length {@code 1}.
+     * <p>
+     * The result is a live view that is updated in place, not a snapshot:
+     * don't use it as a constraint match justification, but {@code map()} it to the values you need first.
+     * See {@link SequenceChain}.
+     *
+     * @param indexMapping never null, maps the matched fact to its index, such as its day
+     * @param <A> type of the matched fact
+     * @return never null
+     */
+    public static <A> UniConstraintCollector<A, ?, SequenceChain<A>> toConsecutiveSequences(
+            ToIntFunction<A> indexMapping) {
+        return new DefaultUniConstraintCollector<>(
+                (Supplier<ConsecutiveSetTree<A>>) ConsecutiveSetTree::new,
+                (resultContainer, a) -> {
+                    int index = indexMapping.applyAsInt(a);
+                    return consecutiveSequencesAccumulator(resultContainer, index, a);
+                },
+                resultContainer -> resultContainer);
+    }
+
+    /**
+     * As defined by {@link #toConsecutiveSequences(ToIntFunction)}.
+     *
+     * @param resultMapping never null, maps the matched facts to the element of the sequences
+     * @param indexMapping never null, maps that element to its index
+     * @return never null
+     */
+    public static <A, B, Result_> BiConstraintCollector<A, B, ?, SequenceChain<Result_>>
+            toConsecutiveSequences(BiFunction<A, B, Result_> resultMapping, ToIntFunction<Result_> indexMapping) {
+        return new DefaultBiConstraintCollector<>(
+                (Supplier<ConsecutiveSetTree<Result_>>) ConsecutiveSetTree::new,
+                (resultContainer, a, b) -> {
+                    Result_ result = resultMapping.apply(a, b);
+                    int index = indexMapping.applyAsInt(result);
+                    return consecutiveSequencesAccumulator(resultContainer, index, result);
+                },
+                resultContainer -> resultContainer);
+    }
+
+    /**
+     * As defined by {@link #toConsecutiveSequences(ToIntFunction)}.
+     *
+     * @param resultMapping never null, maps the matched facts to the element of the sequences
+     * @param indexMapping never null, maps that element to its index
+     * @return never null
+     */
+    public static <A, B, C, Result_> TriConstraintCollector<A, B, C, ?, SequenceChain<Result_>>
+            toConsecutiveSequences(TriFunction<A, B, C, Result_> resultMapping, ToIntFunction<Result_> indexMapping) {
+        return new DefaultTriConstraintCollector<>(
+                (Supplier<ConsecutiveSetTree<Result_>>) ConsecutiveSetTree::new,
+                (resultContainer, a, b, c) -> {
+                    Result_ result = resultMapping.apply(a, b, c);
+                    int index = indexMapping.applyAsInt(result);
+                    return consecutiveSequencesAccumulator(resultContainer, index, result);
+                },
+                resultContainer -> resultContainer);
+    }
+
+    /**
+     * As defined by {@link #toConsecutiveSequences(ToIntFunction)}.
+     *
+     * @param resultMapping never null, maps the matched facts to the element of the sequences
+     * @param indexMapping never null, maps that element to its index
+     * @return never null
+     */
+    public static <A, B, C, D, Result_> QuadConstraintCollector<A, B, C, D, ?, SequenceChain<Result_>>
+            toConsecutiveSequences(QuadFunction<A, B, C, D, Result_> resultMapping, ToIntFunction<Result_> indexMapping) {
+        return new DefaultQuadConstraintCollector<>(
+                (Supplier<ConsecutiveSetTree<Result_>>) ConsecutiveSetTree::new,
+                (resultContainer, a, b, c, d) -> {
+                    Result_ result = resultMapping.apply(a, b, c, d);
+                    int index = indexMapping.applyAsInt(result);
+                    return consecutiveSequencesAccumulator(resultContainer, index, result);
+                },
+                resultContainer -> resultContainer);
+    }
+
+    /**
+     * Returns a collector that finds the highest number of elements that are being grouped
+     * in any window of {@code windowSize} consecutive indexes.
+     * Adding or removing an element takes O(log(index range)),
+     * instead of recounting every window from a sorted collection.
+     * <p>
+     * For example, {@code [Shift(day = 1), Shift(day = 2), Shift(day = 5), Shift(day = 6), Shift(day = 7)]} with
+     * {@code .groupBy(maxCountInWindow(Shift::getDay, 3))} returns {@code 3}, for the days 5, 6 and 7.
+     *
+     * @param indexMapping never null, maps the matched fact to its index, such as its day
+     * @param windowSize at least 1, the number of consecutive indexes in a window
+     * @param <A> type of the matched fact
+     * @return never null
+     */
+    public static <A> UniConstraintCollector<A, ?, Integer> maxCountInWindow(ToIntFunction<? super A> indexMapping,
+            int windowSize) {
+        assertWindowSize(windowSize);
+        return new DefaultUniConstraintCollector<>(
+                () -> new SlidingWindowCountTree(windowSize),
+                (resultContainer, a) -> {
+                    int index = indexMapping.applyAsInt(a);
+                    return slidingWindowAccumulator(resultContainer, index);
+                },
+                SlidingWindowCountTree::getMaxCount);
+    }
+
+    /**
+     * As defined by {@link #maxCountInWindow(ToIntFunction, int)}.
+     */
+    public static <A, B> BiConstraintCollector<A, B, ?, Integer> maxCountInWindow(
+            ToIntBiFunction<? super A, ? super B> indexMapping, int windowSize) {
+        assertWindowSize(windowSize);
+        return new DefaultBiConstraintCollector<>(
+                () -> new SlidingWindowCountTree(windowSize),
+                (resultContainer, a, b) -> {
+                    int index = indexMapping.applyAsInt(a, b);
+                    return slidingWindowAccumulator(resultContainer, index);
+                },
+                SlidingWindowCountTree::getMaxCount);
+    }
+
+    /**
+     * As defined by {@link #maxCountInWindow(ToIntFunction, int)}.
+     */
+    public static <A, B, C> TriConstraintCollector<A, B, C, ?, Integer> maxCountInWindow(
+            ToIntTriFunction<? super A, ? super B, ? super C> indexMapping, int windowSize) {
+        assertWindowSize(windowSize);
+        return new DefaultTriConstraintCollector<>(
+                () -> new SlidingWindowCountTree(windowSize),
+                (resultContainer, a, b, c) -> {
+                    int index = indexMapping.applyAsInt(a, b, c);
+                    return slidingWindowAccumulator(resultContainer, index);
+                },
+                SlidingWindowCountTree::getMaxCount);
+    }
+
+    /**
+     * As defined by {@link #maxCountInWindow(ToIntFunction, int)}.
+     */
+    public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Integer> maxCountInWindow(
+            ToIntQuadFunction<? super A, ? super B, ? super C, ? super D> indexMapping, int windowSize) {
+        assertWindowSize(windowSize);
+        return new DefaultQuadConstraintCollector<>(
+                () -> new SlidingWindowCountTree(windowSize),
+                (resultContainer, a, b, c, d) -> {
+                    int index = indexMapping.applyAsInt(a, b, c, d);
+                    return slidingWindowAccumulator(resultContainer, index);
+                },
+                SlidingWindowCountTree::getMaxCount);
+    }
+
+    private static <Value_> Runnable consecutiveSequencesAccumulator(ConsecutiveSetTree<Value_> resultContainer,
+            int index, Value_ value) {
+        resultContainer.add(index, value);
+        // The index is captured, because the fact might have changed by the time it is retracted
+        return () -> resultContainer.remove(index, value);
+    }
+
+    private static void assertWindowSize(int windowSize) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("The windowSize (" + windowSize + ") must be at least 1.");
+        }
+    }
+
+    private static Runnable slidingWindowAccumulator(SlidingWindowCountTree resultContainer, int index) {
+        resultContainer.add(index);
+        return () -> resultContainer.remove(index);
+    }
+
+    // ************************************************************************
+    // load balance
+    // ************************************************************************
+
+    /**
+     * As defined by {@link #loadBalance(Function, ToLongFunction)}, where every element has a load of {@code 1}.
+     * For example, {@code .groupBy(loadBalance(Shift::getEmployee))} balances the number of shifts per employee.
+     *
+     * @param balancedMapping never null, maps the matched fact to the balanced item, such as its employee
+     * @param <A> type of the matched fact
+     * @param <Balanced_> type of the balanced item
+     * @return never null
+     */
+    public static <A, Balanced_> UniConstraintCollector<A, ?, LoadBalance<Balanced_>> loadBalance(
+            Function<A, Balanced_> balancedMapping) {
+        return loadBalance(balancedMapping, a -> 1L);
+    }
+
+    /**
+     * Returns a collector that sums the load of every balanced item in the group,
+     * to express fairness in a single {@code groupBy()},
+     * instead of a {@code groupBy()} that counts per balanced item and a second {@code groupBy()} that collects
+     * those counts to calculate their deviation.
+     * Adding or removing an element updates the count, sum and sum of squares of the loads in O(1),
+     * so calculating the fairness doesn't visit every balanced item.
+     * <p>
+     * For example, {@code [Shift(duration = 8, employee = Ann), Shift(duration = 4, employee = Ann),
+     * Shift(duration = 8, employee = Beth)]} with
+     * {@code .groupBy(loadBalance(Shift::getEmployee, Shift::getDuration))} returns the loads {@code Ann = 12} and
+     * {@code Beth = 8}, with a sum of squares of {@code 208} and a squared deviation of {@code 8}.
+     * <p>
+     * The result is a live view that is updated in place, not a snapshot:
+     * don't use it as a constraint match justification, but {@code map()} it to the values you need first.
+     * See {@link LoadBalance}.
+     *
+     * @param balancedMapping never null, maps the matched fact to the balanced item, such as its employee
+     * @param loadMapping never null, maps the matched fact to its load on the balanced item, such as its duration
+     * @param <A> type of the matched fact
+     * @param <Balanced_> type of the balanced item
+     * @return never null
+     */
+    public static <A, Balanced_> UniConstraintCollector<A, ?, LoadBalance<Balanced_>> loadBalance(
+            Function<A, Balanced_> balancedMapping, ToLongFunction<A> loadMapping) {
+        return new DefaultUniConstraintCollector<>(
+                (Supplier<DefaultLoadBalance<Balanced_>>) DefaultLoadBalance::new,
+                (resultContainer, a) -> {
+                    Balanced_ balanced = balancedMapping.apply(a);
+                    long load = loadMapping.applyAsLong(a);
+                    return loadBalanceAccumulator(resultContainer, balanced, load);
+                },
+                resultContainer -> resultContainer);
+    }
+
+    /**
+     * As defined by {@link #loadBalance(Function)}.
+     */
+    public static <A, B, Balanced_> BiConstraintCollector<A, B, ?, LoadBalance<Balanced_>> loadBalance(
+            BiFunction<A, B, Balanced_> balancedMapping) {
+        return loadBalance(balancedMapping, (a, b) -> 1L);
+    }
+
+    /**
+     * As defined by {@link #loadBalance(Function, ToLongFunction)}.
+     */
+    public static <A, B, Balanced_> BiConstraintCollector<A, B, ?, LoadBalance<Balanced_>> loadBalance(
+            BiFunction<A, B, Balanced_> balancedMapping, ToLongBiFunction<A, B> loadMapping) {
+        return new DefaultBiConstraintCollector<>(
+                (Supplier<DefaultLoadBalance<Balanced_>>) DefaultLoadBalance::new,
+                (resultContainer, a, b) -> {
+                    Balanced_ balanced = balancedMapping.apply(a, b);
+                    long load = loadMapping.applyAsLong(a, b);
+                    return loadBalanceAccumulator(resultContainer, balanced, load);
+                },
+                resultContainer -> resultContainer);
+    }
+
+    /**
+     * As defined by {@link #loadBalance(Function)}.
+     */
+    public static <A, B, C, Balanced_> TriConstraintCollector<A, B, C, ?, LoadBalance<Balanced_>> loadBalance(
+            TriFunction<A, B, C, Balanced_> balancedMapping) {
+        return loadBalance(balancedMapping, (a, b, c) -> 1L);
+    }
+
+    /**
+     * As defined by {@link #loadBalance(Function, ToLongFunction)}.
+     */
+    public static <A, B, C, Balanced_> TriConstraintCollector<A, B, C, ?, LoadBalance<Balanced_>> loadBalance(
+            TriFunction<A, B, C, Balanced_> balancedMapping, ToLongTriFunction<A, B, C> loadMapping) {
+        return new DefaultTriConstraintCollector<>(
+                (Supplier<DefaultLoadBalance<Balanced_>>) DefaultLoadBalance::new,
+                (resultContainer, a, b, c) -> {
+                    Balanced_ balanced = balancedMapping.apply(a, b, c);
+                    long load = loadMapping.applyAsLong(a, b, c);
+                    return loadBalanceAccumulator(resultContainer, balanced, load);
+                },
+                resultContainer -> resultContainer);
+    }
+
+    /**
+     * As defined by {@link #loadBalance(Function)}.
+     */
+    public static <A, B, C, D, Balanced_> QuadConstraintCollector<A, B, C, D, ?, LoadBalance<Balanced_>> loadBalance(
+            QuadFunction<A, B, C, D, Balanced_> balancedMapping) {
+        return loadBalance(balancedMapping, (a, b, c, d) -> 1L);
+    }
+
+    /**
+     * As defined by {@link #loadBalance(Function, ToLongFunction)}.
+     */
+    public static <A, B, C, D, Balanced_> QuadConstraintCollector<A, B, C, D, ?, LoadBalance<Balanced_>> loadBalance(
+            QuadFunction<A, B, C, D, Balanced_> balancedMapping, ToLongQuadFunction<A, B, C, D> loadMapping) {
+        return new DefaultQuadConstraintCollector<>(
+                (Supplier<DefaultLoadBalance<Balanced_>>) DefaultLoadBalance::new,
+                (resultContainer, a, b, c, d) -> {
+                    Balanced_ balanced = balancedMapping.apply(a, b, c, d);
+                    long load = loadMapping.applyAsLong(a, b, c, d);
+                    return loadBalanceAccumulator(resultContainer, balanced, load);
+                },
+                resultContainer -> resultContainer);
+    }
+
+    private static <Balanced_> Runnable loadBalanceAccumulator(DefaultLoadBalance<Balanced_> resultContainer,
+            Balanced_ balanced, long load) {
+        resultContainer.add(balanced, load);
+        // The load is captured, because the fact might have changed by the time it is retracted
+        return () -> resultContainer.remove(balanced, load);
+    }
+
     private ConstraintCollectors() {
     }
 
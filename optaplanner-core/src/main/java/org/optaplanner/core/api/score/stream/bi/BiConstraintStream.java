@@ -685,6 +685,60 @@ public interface BiConstraintStream<A, B> extends ConstraintStream {
                     BiConstraintCollector<A, B, ResultContainerC_, ResultC_> collectorC,
                     BiConstraintCollector<A, B, ResultContainerD_, ResultD_> collectorD);
 
+    // ************************************************************************
+    // Map, flatten and distinct
+    // ************************************************************************
+
+    /**
+     * Convert the {@link BiConstraintStream} to a {@link UniConstraintStream},
+     * containing one tuple per incoming tuple, with the return value of the mapping function as its fact.
+     * <p>
+     * Unlike {@link #groupBy(BiFunction)}, this doesn't merge equal results,
+     * so the new stream can contain duplicate tuples.
+     * Use {@link UniConstraintStream#distinct()} to remove them.
+     * <p>
+     * When a fact in the incoming tuple changes, the mapping function is applied again.
+     * It must therefore be a pure function without side effects.
+     *
+     * @param mapping never null, function to convert the facts in the original tuple to a single fact
+     * @param <ResultA_> the type of the only fact in the destination {@link UniConstraintStream}'s tuple
+     * @return never null
+     */
+    <ResultA_> UniConstraintStream<ResultA_> map(BiFunction<A, B, ResultA_> mapping);
+
+    /**
+     * Convert the {@link BiConstraintStream} to a different {@link BiConstraintStream},
+     * containing one tuple per element of the {@link Iterable} returned by the mapping function
+     * applied on the last fact.
+     * The first fact of every new tuple is the first fact of its incoming tuple.
+     * <p>
+     * For example, {@code from(Shift.class).join(Employee.class, ...).flattenLast(Employee::getUnavailableDateList)}
+     * creates a tuple for every shift and every unavailable date of the employee it was joined with.
+     * Use {@link #distinct()} to merge equal tuples.
+     * <p>
+     * When a fact in the incoming tuple changes, the mapping function is applied again.
+     * It must therefore be a pure function without side effects.
+     *
+     * @param mapping never null, function to convert the last fact in the original tuple into an {@link Iterable},
+     *        which must not be modified while it is in use by the stream
+     * @param <ResultB_> the type of the last fact in the destination {@link BiConstraintStream}'s tuple
+     * @return never null
+     */
+    <ResultB_> BiConstraintStream<A, ResultB_> flattenLast(Function<B, Iterable<ResultB_>> mapping);
+
+    /**
+     * Remove duplicate tuples from the {@link BiConstraintStream},
+     * so neither tuple of the new stream {@link Objects#equals(Object, Object)} any other.
+     * Two tuples are equal if both of their facts are equal.
+     * <p>
+     * A tuple is only removed from the new stream after all of its equal incoming tuples are removed.
+     * Only a stream built with {@link #flattenLast(Function)} or {@link UniConstraintStream#map(Function)} upstream
+     * can contain duplicate tuples.
+     *
+     * @return never null
+     */
+    BiConstraintStream<A, B> distinct();
+
     // ************************************************************************
     // Penalize/reward
     // ************************************************************************
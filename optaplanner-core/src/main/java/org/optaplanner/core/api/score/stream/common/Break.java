@@ -0,0 +1,45 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.score.stream.common;
+
+/**
+ * The gap between 2 {@link Sequence}s, such as the days off of an employee between 2 working stretches.
+ * <p>
+ * Like its {@link SequenceChain}, this is a live view that is updated in place,
+ * so don't keep a reference to it or use it as a constraint match justification.
+ *
+ * @param <Value_> the type of the elements
+ * @see SequenceChain
+ */
+public interface Break<Value_> {
+
+    /**
+     * @return never null
+     */
+    Sequence<Value_> getPreviousSequence();
+
+    /**
+     * @return never null
+     */
+    Sequence<Value_> getNextSequence();
+
+    /**
+     * @return the number of missing indexes, at least 1
+     */
+    int getLength();
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.score.stream.common;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.optaplanner.core.api.score.stream.ConstraintCollectors;
+
+/**
+ * The load of every balanced item (such as an employee) in a group,
+ * with the aggregates that fairness constraints need.
+ * <p>
+ * Usually created with {@link ConstraintCollectors#loadBalance(Function)}.
+ * The collector maintains the count, sum and sum of squares of the loads incrementally,
+ * so every aggregate is calculated in O(1), without visiting every balanced item.
+ * <p>
+ * <strong>This is a live view, not a snapshot.</strong>
+ * The collector updates the same instance in place while elements are added and removed,
+ * so its loads and aggregates change after the score is calculated.
+ * Therefore:
+ * <ul>
+ * <li>Don't keep a reference to it outside of the constraint stream lambda that receives it.</li>
+ * <li>Don't use it as a constraint match justification,
+ * for example by penalizing it directly or by grouping on it:
+ * the justification of an older match would silently show the latest state of the group.
+ * Instead, {@code map()} it to the values you need first, such as {@link #getLoads()},
+ * which returns a new {@link Map}.</li>
+ * </ul>
+ * <p>
+ * Only balanced items with at least 1 element in the group are known.
+ * For example, an employee without any shift isn't part of the {@link #getCount() count}.
+ *
+ * @param <Balanced_> the type of the balanced items
+ */
+public interface LoadBalance<Balanced_> {
+
+    /**
+     * Creates a new {@link Map}, so this takes O(n), unlike the other methods.
+     *
+     * @return never null, the load of every balanced item
+     */
+    Map<Balanced_, Long> getLoads();
+
+    /**
+     * @param balanced sometimes null
+     * @return 0 if the balanced item has no elements in the group
+     */
+    long getLoad(Balanced_ balanced);
+
+    /**
+     * @return at least 0, the number of balanced items
+     */
+    int getCount();
+
+    /**
+     * @return the sum of all loads
+     */
+    long getSum();
+
+    /**
+     * Minimizing the sum of squares makes the loads fairer, as long as the {@link #getSum() sum} is fixed.
+     * For example, the loads {@code [2, 2]} have a sum of squares of {@code 8},
+     * but the loads {@code [3, 1]} have a sum of squares of {@code 10}.
+     *
+     * The loads are squared without rounding,
+     * so an {@link ArithmeticException} is thrown while collecting if the sum of squares overflows a long.
+     * For example, that happens once a single load exceeds {@code 3_037_000_499}.
+     *
+     * @return at least 0, the sum of the square of every load
+     */
+    long getSumOfSquares();
+
+    /**
+     * The sum of the square of the difference between every load and the average load.
+     * Divide it by the {@link #getCount() count} to get the variance.
+     *
+     * @return never null, 0 if every load is the same or if there are no balanced items
+     */
+    BigDecimal getSquaredDeviation();
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.score.stream.common;
+
+import java.util.List;
+
+/**
+ * Elements with consecutive indexes, such as the shifts of an employee on consecutive days.
+ * Multiple elements can have the same index.
+ * <p>
+ * Like its {@link SequenceChain}, this is a live view that is updated in place,
+ * so don't keep a reference to it or use it as a constraint match justification.
+ *
+ * @param <Value_> the type of the elements
+ * @see SequenceChain
+ */
+public interface Sequence<Value_> {
+
+    /**
+     * @return the lowest index
+     */
+    int getFirstIndex();
+
+    /**
+     * @return the highest index, at least {@link #getFirstIndex()}
+     */
+    int getLastIndex();
+
+    /**
+     * @return never null, an element with the lowest index
+     */
+    Value_ getFirstItem();
+
+    /**
+     * @return never null, an element with the highest index
+     */
+    Value_ getLastItem();
+
+    /**
+     * @return never null, never empty, in ascending index order
+     */
+    List<Value_> getItems();
+
+    /**
+     * @return the number of elements, at least {@link #getLength()}
+     */
+    int getCount();
+
+    /**
+     * @return the number of distinct indexes, so {@code getLastIndex() - getFirstIndex() + 1}
+     */
+    int getLength();
+
+    /**
+     * @return null if this is the first sequence
+     */
+    Break<Value_> getPreviousBreak();
+
+    /**
+     * @return null if this is the last sequence
+     */
+    Break<Value_> getNextBreak();
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.score.stream.common;
+
+import java.util.Collection;
+import java.util.function.ToIntFunction;
+
+import org.optaplanner.core.api.score.stream.ConstraintCollectors;
+
+/**
+ * The elements of a group, split into {@link Sequence}s of consecutive indexes, with a {@link Break} between them.
+ * <p>
+ * Usually created with {@link ConstraintCollectors#toConsecutiveSequences(ToIntFunction)}.
+ * <p>
+ * <strong>This is a live view, not a snapshot.</strong>
+ * The collector updates the same instance in place while elements are added and removed,
+ * so its {@link Sequence}s and {@link Break}s change (or disappear) after the score is calculated.
+ * Therefore:
+ * <ul>
+ * <li>Don't keep a reference to it, or to any of its {@link Sequence}s or {@link Break}s,
+ * outside of the constraint stream lambda that receives it.</li>
+ * <li>Don't use it as a constraint match justification,
+ * for example by penalizing it directly or by grouping on it:
+ * the justification of an older match would silently show the latest state of the group.
+ * Instead, {@code map()} it to the values you need first,
+ * such as {@code map(chain -> chain.getBreaks().stream().map(Break::getLength).collect(toList()))}.</li>
+ * </ul>
+ *
+ * @param <Value_> the type of the elements
+ */
+public interface SequenceChain<Value_> {
+
+    /**
+     * @return never null, in ascending index order
+     */
+    Collection<Sequence<Value_>> getConsecutiveSequences();
+
+    /**
+     * @return never null, in ascending index order, one less than the number of {@link Sequence}s (if there are any)
+     */
+    Collection<Break<Value_>> getBreaks();
+
+    /**
+     * @return null if there are no elements
+     */
+    Sequence<Value_> getFirstSequence();
+
+    /**
+     * @return null if there are no elements
+     */
+    Sequence<Value_> getLastSequence();
+
+}
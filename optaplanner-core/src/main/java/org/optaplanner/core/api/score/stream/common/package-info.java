@@ -1,5 +1,5 @@
 /*
- * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -14,11 +14,7 @@
  * limitations under the License.
  */
 
-package org.optaplanner.core.impl.score.inliner;
-
-@FunctionalInterface
-public interface UndoScoreImpacter {
-
-    void undoScoreImpact();
-
-}
+/**
+ * Result types of {@link org.optaplanner.core.api.score.stream.ConstraintCollectors} that all stream arities share.
+ */
+package org.optaplanner.core.api.score.stream.common;
@@ -867,6 +867,57 @@ public interface UniConstraintStream<A> extends ConstraintStream {
                     UniConstraintCollector<A, ResultContainerC_, ResultC_> collectorC,
                     UniConstraintCollector<A, ResultContainerD_, ResultD_> collectorD);
 
+    // ************************************************************************
+    // Map, flatten and distinct
+    // ************************************************************************
+
+    /**
+     * Convert the {@link UniConstraintStream} to a different {@link UniConstraintStream},
+     * containing one tuple per incoming tuple, with the return value of the mapping function as its fact.
+     * <p>
+     * Unlike {@link #groupBy(Function)}, this doesn't merge equal results,
+     * so the new stream can contain duplicate tuples.
+     * Use {@link #distinct()} to remove them.
+     * <p>
+     * When the fact in the incoming tuple changes, the mapping function is applied again.
+     * It must therefore be a pure function without side effects.
+     *
+     * @param mapping never null, function to convert the fact in the original tuple to a different fact
+     * @param <ResultA_> the type of the only fact in the destination {@link UniConstraintStream}'s tuple
+     * @return never null
+     */
+    <ResultA_> UniConstraintStream<ResultA_> map(Function<A, ResultA_> mapping);
+
+    /**
+     * Convert the {@link UniConstraintStream} to a different {@link UniConstraintStream},
+     * containing one tuple per element of the {@link Iterable} returned by the mapping function.
+     * <p>
+     * For example, {@code from(Employee.class).flattenLast(Employee::getUnavailableDateList)}
+     * creates a tuple for every unavailable date of every employee.
+     * Two employees unavailable on the same date result in two equal tuples, use {@link #distinct()} to merge them.
+     * <p>
+     * When the fact in the incoming tuple changes, the mapping function is applied again.
+     * It must therefore be a pure function without side effects.
+     *
+     * @param mapping never null, function to convert the fact in the original tuple into an {@link Iterable},
+     *        which must not be modified while it is in use by the stream
+     * @param <ResultA_> the type of the only fact in the destination {@link UniConstraintStream}'s tuple
+     * @return never null
+     */
+    <ResultA_> UniConstraintStream<ResultA_> flattenLast(Function<A, Iterable<ResultA_>> mapping);
+
+    /**
+     * Remove duplicate tuples from the {@link UniConstraintStream},
+     * so neither tuple of the new stream {@link Objects#equals(Object, Object)} any other.
+     * <p>
+     * A tuple is only removed from the new stream after all of its equal incoming tuples are removed.
+     * Only a stream built with {@link #map(Function)}, {@link #flattenLast(Function)}
+     * or their {@link BiConstraintStream} counterparts upstream can contain duplicate tuples.
+     *
+     * @return never null
+     */
+    UniConstraintStream<A> distinct();
+
     // ************************************************************************
     // Penalize/reward
     // ************************************************************************
@@ -209,7 +209,33 @@ public interface SolverManager<Solution_, ProblemId_> extends AutoCloseable {
      *        If null it defaults to logging the exception as an error.
      * @return never null
      */
-    SolverJob<Solution_, ProblemId_> solve(ProblemId_ problemId,
+    default SolverJob<Solution_, ProblemId_> solve(ProblemId_ problemId,
+            Function<? super ProblemId_, ? extends Solution_> problemFinder,
+            Consumer<? super Solution_> finalBestSolutionConsumer,
+            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler) {
+        return solve(problemId, 0, problemFinder, finalBestSolutionConsumer, exceptionHandler);
+    }
+
+    /**
+     * As defined by {@link #solve(Object, Function, Consumer)}.
+     * <p>
+     * If all solver threads are busy, the planning problem waits until one is available.
+     * The waiting planning problem with the highest priority starts first.
+     * Planning problems with the same priority start in the order in which they have been submitted.
+     * A planning problem that is already solving is never interrupted by one with a higher priority.
+     *
+     * @param problemId never null, a ID for each planning problem. This must be unique.
+     *        Use this problemId to {@link #terminateEarly(Object) terminate} the solver early,
+     *        {@link #getSolverStatus(Object) to get the status} or if the problem changes while solving.
+     * @param priority the higher, the sooner it starts solving. The methods without a priority use {@code 0}.
+     * @param problemFinder never null, function that returns a {@link PlanningSolution}, usually with uninitialized planning
+     *        variables
+     * @param finalBestSolutionConsumer sometimes null, called only once, at the end, on a consumer thread
+     * @param exceptionHandler sometimes null, called if an exception or error occurs.
+     *        If null it defaults to logging the exception as an error.
+     * @return never null
+     */
+    SolverJob<Solution_, ProblemId_> solve(ProblemId_ problemId, int priority,
             Function<? super ProblemId_, ? extends Solution_> problemFinder,
             Consumer<? super Solution_> finalBestSolutionConsumer,
             BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler);
@@ -281,7 +307,34 @@ public interface SolverManager<Solution_, ProblemId_> extends AutoCloseable {
      *        If null it defaults to logging the exception as an error.
      * @return never null
      */
-    SolverJob<Solution_, ProblemId_> solveAndListen(ProblemId_ problemId,
+    default SolverJob<Solution_, ProblemId_> solveAndListen(ProblemId_ problemId,
+            Function<? super ProblemId_, ? extends Solution_> problemFinder,
+            Consumer<? super Solution_> bestSolutionConsumer,
+            Consumer<? super Solution_> finalBestSolutionConsumer,
+            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler) {
+        return solveAndListen(problemId, 0, problemFinder, bestSolutionConsumer, finalBestSolutionConsumer,
+                exceptionHandler);
+    }
+
+    /**
+     * As defined by {@link #solveAndListen(Object, Function, Consumer, Consumer, BiConsumer)}.
+     * <p>
+     * The priority works as defined by {@link #solve(Object, int, Function, Consumer, BiConsumer)}.
+     *
+     * @param problemId never null, an ID for each planning problem. This must be unique.
+     *        Use this problemId to {@link #terminateEarly(Object) terminate} the solver early,
+     *        {@link #getSolverStatus(Object) to get the status} or if the problem changes while solving.
+     * @param priority the higher, the sooner it starts solving. The methods without a priority use {@code 0}.
+     * @param problemFinder never null, function that returns a {@link PlanningSolution}, usually with uninitialized planning
+     *        variables
+     * @param bestSolutionConsumer never null, called multiple times, on a consumer thread
+     * @param finalBestSolutionConsumer sometimes null, called only once, at the end, on a consumer thread.
+     *        That final best solution is already consumed by the bestSolutionConsumer earlier.
+     * @param exceptionHandler sometimes null, called if an exception or error occurs.
+     *        If null it defaults to logging the exception as an error.
+     * @return never null
+     */
+    SolverJob<Solution_, ProblemId_> solveAndListen(ProblemId_ problemId, int priority,
             Function<? super ProblemId_, ? extends Solution_> problemFinder,
             Consumer<? super Solution_> bestSolutionConsumer,
             Consumer<? super Solution_> finalBestSolutionConsumer,
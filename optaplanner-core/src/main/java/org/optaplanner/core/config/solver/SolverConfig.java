@@ -72,6 +72,7 @@ import org.optaplanner.core.impl.solver.random.RandomFactory;
         "randomFactoryClass",
         "moveThreadCount",
         "moveThreadBufferSize",
+        "moveThreadBatchSize",
         "threadFactoryClass",
         "solutionClass",
         "entityClassList",
@@ -237,6 +238,7 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
     protected Class<? extends RandomFactory> randomFactoryClass = null;
     protected String moveThreadCount = null;
     protected Integer moveThreadBufferSize = null;
+    protected Integer moveThreadBatchSize = null;
     protected Class<? extends ThreadFactory> threadFactoryClass = null;
 
     protected Class<?> solutionClass = null;
@@ -355,6 +357,14 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         this.moveThreadBufferSize = moveThreadBufferSize;
     }
 
+    public Integer getMoveThreadBatchSize() {
+        return moveThreadBatchSize;
+    }
+
+    public void setMoveThreadBatchSize(Integer moveThreadBatchSize) {
+        this.moveThreadBatchSize = moveThreadBatchSize;
+    }
+
     public Class<? extends ThreadFactory> getThreadFactoryClass() {
         return threadFactoryClass;
     }
@@ -450,6 +460,11 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         return this;
     }
 
+    public SolverConfig withMoveThreadBatchSize(Integer moveThreadBatchSize) {
+        this.moveThreadBatchSize = moveThreadBatchSize;
+        return this;
+    }
+
     public SolverConfig withThreadFactoryClass(Class<? extends ThreadFactory> threadFactoryClass) {
         this.threadFactoryClass = threadFactoryClass;
         return this;
@@ -580,6 +595,8 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
                 inheritedConfig.getMoveThreadCount());
         moveThreadBufferSize = ConfigUtils.inheritOverwritableProperty(moveThreadBufferSize,
                 inheritedConfig.getMoveThreadBufferSize());
+        moveThreadBatchSize = ConfigUtils.inheritOverwritableProperty(moveThreadBatchSize,
+                inheritedConfig.getMoveThreadBatchSize());
         threadFactoryClass = ConfigUtils.inheritOverwritableProperty(threadFactoryClass,
                 inheritedConfig.getThreadFactoryClass());
         solutionClass = ConfigUtils.inheritOverwritableProperty(solutionClass, inheritedConfig.getSolutionClass());
@@ -16,30 +16,38 @@
 
 package org.optaplanner.core.config.solver;
 
+import java.time.Duration;
 import java.util.concurrent.ThreadFactory;
 
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 
 import org.optaplanner.core.config.AbstractConfig;
 import org.optaplanner.core.config.util.ConfigUtils;
+import org.optaplanner.core.impl.io.jaxb.adapter.JaxbDurationAdapter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @XmlType(propOrder = {
         "parallelSolverCount",
-        "threadFactoryClass"
+        "runnableThreadLimit",
+        "threadFactoryClass",
+        "throttlingDelay"
 })
 public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
 
     public static final String PARALLEL_SOLVER_COUNT_AUTO = "AUTO";
+    public static final String RUNNABLE_THREAD_LIMIT_AUTO = "AUTO";
 
     private static final Logger logger = LoggerFactory.getLogger(SolverManagerConfig.class);
 
     protected String parallelSolverCount = null;
+    protected String runnableThreadLimit = null;
     protected Class<? extends ThreadFactory> threadFactoryClass = null;
+    @XmlJavaTypeAdapter(JaxbDurationAdapter.class)
+    protected Duration throttlingDelay = null;
 
     // Future features:
-    // throttlingDelay
     // congestionStrategy
 
     // ************************************************************************
@@ -57,6 +65,37 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
         this.parallelSolverCount = parallelSolverCount;
     }
 
+    /**
+     * Limits the number of solver threads, move threads and partition threads that can run at the same time,
+     * over all solver jobs together.
+     * A solver job only starts solving if its solver, with all its move threads or partition threads,
+     * fits in that limit next to the solver jobs that are already solving.
+     * This limit is applied on top of the {@link #getParallelSolverCount() parallelSolverCount}.
+     * If a single solver needs more threads than that limit, the solver jobs still solve, but 1 at a time.
+     * <p>
+     * Defaults to unlimited.
+     * Use {@value #RUNNABLE_THREAD_LIMIT_AUTO} to limit it to the number of available processors.
+     *
+     * @return null, a number or {@value #RUNNABLE_THREAD_LIMIT_AUTO}
+     */
+    public String getRunnableThreadLimit() {
+        return runnableThreadLimit;
+    }
+
+    public void setRunnableThreadLimit(String runnableThreadLimit) {
+        this.runnableThreadLimit = runnableThreadLimit;
+    }
+
+    /**
+     * Creates the solver threads and the consumer threads of the SolverManager.
+     * For the move threads and partition threads, use {@link SolverConfig#getThreadFactoryClass()} instead.
+     * <p>
+     * For example, on a JDK that supports virtual threads, a {@link ThreadFactory} that creates virtual threads
+     * avoids dedicating a platform thread to every consumer that waits on I/O.
+     * It doesn't add any CPU capacity to the solver threads: use {@link #getRunnableThreadLimit()} for that.
+     *
+     * @return sometimes null, with a public no-arg constructor
+     */
     public Class<? extends ThreadFactory> getThreadFactoryClass() {
         return threadFactoryClass;
     }
@@ -65,6 +104,20 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
         this.threadFactoryClass = threadFactoryClass;
     }
 
+    /**
+     * The minimum time between 2 calls of the same bestSolutionConsumer.
+     * A new best solution found in the meantime replaces the one that is waiting to be consumed.
+     *
+     * @return sometimes null, defaults to {@link Duration#ZERO}
+     */
+    public Duration getThrottlingDelay() {
+        return throttlingDelay;
+    }
+
+    public void setThrottlingDelay(Duration throttlingDelay) {
+        this.throttlingDelay = throttlingDelay;
+    }
+
     // ************************************************************************
     // With methods
     // ************************************************************************
@@ -74,11 +127,21 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
         return this;
     }
 
+    public SolverManagerConfig withRunnableThreadLimit(String runnableThreadLimit) {
+        this.runnableThreadLimit = runnableThreadLimit;
+        return this;
+    }
+
     public SolverManagerConfig withThreadFactoryClass(Class<? extends ThreadFactory> threadFactoryClass) {
         this.threadFactoryClass = threadFactoryClass;
         return this;
     }
 
+    public SolverManagerConfig withThrottlingDelay(Duration throttlingDelay) {
+        this.throttlingDelay = throttlingDelay;
+        return this;
+    }
+
     // ************************************************************************
     // Builder methods
     // ************************************************************************
@@ -106,6 +169,38 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
         return resolvedParallelSolverCount;
     }
 
+    /**
+     * @return null if unlimited, otherwise at least 1
+     */
+    public Integer resolveRunnableThreadLimit() {
+        if (runnableThreadLimit == null) {
+            return null;
+        }
+        int resolvedRunnableThreadLimit;
+        if (runnableThreadLimit.equals(RUNNABLE_THREAD_LIMIT_AUTO)) {
+            resolvedRunnableThreadLimit = getAvailableProcessors();
+        } else {
+            resolvedRunnableThreadLimit = ConfigUtils.resolvePoolSize("runnableThreadLimit",
+                    runnableThreadLimit, RUNNABLE_THREAD_LIMIT_AUTO);
+        }
+        if (resolvedRunnableThreadLimit < 1) {
+            throw new IllegalArgumentException("The runnableThreadLimit (" + runnableThreadLimit
+                    + ") resulted in a resolvedRunnableThreadLimit (" + resolvedRunnableThreadLimit
+                    + ") that is lower than 1.");
+        }
+        return resolvedRunnableThreadLimit;
+    }
+
+    public long resolveThrottlingDelayMillis() {
+        if (throttlingDelay == null) {
+            return 0L;
+        }
+        if (throttlingDelay.isNegative()) {
+            throw new IllegalArgumentException("The throttlingDelay (" + throttlingDelay + ") cannot be negative.");
+        }
+        return throttlingDelay.toMillis();
+    }
+
     protected int getAvailableProcessors() {
         return Runtime.getRuntime().availableProcessors();
     }
@@ -123,8 +218,12 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
     public SolverManagerConfig inherit(SolverManagerConfig inheritedConfig) {
         parallelSolverCount = ConfigUtils.inheritOverwritableProperty(parallelSolverCount,
                 inheritedConfig.getParallelSolverCount());
+        runnableThreadLimit = ConfigUtils.inheritOverwritableProperty(runnableThreadLimit,
+                inheritedConfig.getRunnableThreadLimit());
         threadFactoryClass = ConfigUtils.inheritOverwritableProperty(threadFactoryClass,
                 inheritedConfig.getThreadFactoryClass());
+        throttlingDelay = ConfigUtils.inheritOverwritableProperty(throttlingDelay,
+                inheritedConfig.getThrottlingDelay());
         return this;
     }
 
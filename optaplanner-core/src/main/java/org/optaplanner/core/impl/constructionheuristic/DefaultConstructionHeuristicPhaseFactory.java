@@ -123,11 +123,19 @@ public class DefaultConstructionHeuristicPhaseFactory<Solution_>
                 // If it's too high, more moves are selected that aren't foraged
                 moveThreadBufferSize = 10;
             }
+            Integer moveThreadBatchSize = configPolicy.getMoveThreadBatchSize();
+            if (moveThreadBatchSize == null) {
+                // Half the moveThreadBufferSize, so a move thread usually has another batch queued when it's done
+                moveThreadBatchSize = Math.max(moveThreadBufferSize / 2, 1);
+            } else if (moveThreadBatchSize < 1 || moveThreadBatchSize > moveThreadBufferSize) {
+                throw new IllegalArgumentException("The moveThreadBatchSize (" + moveThreadBatchSize
+                        + ") must be at least 1 and at most the moveThreadBufferSize (" + moveThreadBufferSize + ").");
+            }
             ThreadFactory threadFactory = configPolicy.buildThreadFactory(ChildThreadType.MOVE_THREAD);
             int selectedMoveBufferSize = moveThreadCount * moveThreadBufferSize;
             MultiThreadedConstructionHeuristicDecider<Solution_> multiThreadedDecider =
                     new MultiThreadedConstructionHeuristicDecider<>(configPolicy.getLogIndentation(), termination, forager,
-                            threadFactory, moveThreadCount, selectedMoveBufferSize);
+                            threadFactory, moveThreadCount, selectedMoveBufferSize, moveThreadBatchSize);
             if (environmentMode.isNonIntrusiveFullAsserted()) {
                 multiThreadedDecider.setAssertStepScoreFromScratch(true);
             }
@@ -19,9 +19,7 @@ package org.optaplanner.core.impl.constructionheuristic.decider;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
@@ -38,7 +36,7 @@ import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.heuristic.thread.ApplyStepOperation;
 import org.optaplanner.core.impl.heuristic.thread.DestroyOperation;
 import org.optaplanner.core.impl.heuristic.thread.MoveEvaluationOperation;
-import org.optaplanner.core.impl.heuristic.thread.MoveThreadOperation;
+import org.optaplanner.core.impl.heuristic.thread.MoveThreadOperationQueue;
 import org.optaplanner.core.impl.heuristic.thread.MoveThreadRunner;
 import org.optaplanner.core.impl.heuristic.thread.OrderByMoveIndexBlockingQueue;
 import org.optaplanner.core.impl.heuristic.thread.SetupOperation;
@@ -54,24 +52,27 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
     protected final ThreadFactory threadFactory;
     protected final int moveThreadCount;
     protected final int selectedMoveBufferSize;
+    protected final int moveThreadBatchSize;
 
     protected boolean assertStepScoreFromScratch = false;
     protected boolean assertExpectedStepScore = false;
     protected boolean assertShadowVariablesAreNotStaleAfterStep = false;
 
-    protected BlockingQueue<MoveThreadOperation<Solution_>> operationQueue;
+    protected List<MoveThreadOperationQueue<Solution_>> operationQueueList;
     protected OrderByMoveIndexBlockingQueue<Solution_> resultQueue;
-    protected CyclicBarrier moveThreadBarrier;
     protected ExecutorService executor;
     protected List<MoveThreadRunner<Solution_, ?>> moveThreadRunnerList;
+    /** The moveThreadIndex from which the next least loaded move thread is searched. */
+    protected int nextMoveThreadIndex;
 
     public MultiThreadedConstructionHeuristicDecider(String logIndentation, Termination<Solution_> termination,
             ConstructionHeuristicForager<Solution_> forager, ThreadFactory threadFactory, int moveThreadCount,
-            int selectedMoveBufferSize) {
+            int selectedMoveBufferSize, int moveThreadBatchSize) {
         super(logIndentation, termination, forager);
         this.threadFactory = threadFactory;
         this.moveThreadCount = moveThreadCount;
         this.selectedMoveBufferSize = selectedMoveBufferSize;
+        this.moveThreadBatchSize = moveThreadBatchSize;
     }
 
     public void setAssertStepScoreFromScratch(boolean assertStepScoreFromScratch) {
@@ -89,34 +90,39 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
     @Override
     public void phaseStarted(ConstructionHeuristicPhaseScope<Solution_> phaseScope) {
         super.phaseStarted(phaseScope);
-        // Capacity: number of moves in circulation + number of setup xor step operations + number of destroy operations
-        operationQueue = new ArrayBlockingQueue<>(selectedMoveBufferSize + moveThreadCount + moveThreadCount);
-        // Capacity: number of moves in circulation + number of exception handling results
-        resultQueue = new OrderByMoveIndexBlockingQueue<>(selectedMoveBufferSize + moveThreadCount);
-        moveThreadBarrier = new CyclicBarrier(moveThreadCount);
+        // Capacity: number of moves in circulation
+        resultQueue = new OrderByMoveIndexBlockingQueue<>(selectedMoveBufferSize);
         InnerScoreDirector<Solution_, ?> scoreDirector = phaseScope.getScoreDirector();
         executor = createThreadPoolExecutor();
+        operationQueueList = new ArrayList<>(moveThreadCount);
         moveThreadRunnerList = new ArrayList<>(moveThreadCount);
+        CountDownLatch setupLatch = new CountDownLatch(moveThreadCount);
         for (int moveThreadIndex = 0; moveThreadIndex < moveThreadCount; moveThreadIndex++) {
+            // Capacity: number of moves in circulation + 1 setup xor step operation + 1 destroy operation
+            MoveThreadOperationQueue<Solution_> operationQueue =
+                    new MoveThreadOperationQueue<>(selectedMoveBufferSize + 2);
+            operationQueueList.add(operationQueue);
             MoveThreadRunner<Solution_, ?> moveThreadRunner = new MoveThreadRunner<>(
                     logIndentation, moveThreadIndex, false,
-                    operationQueue, resultQueue, moveThreadBarrier,
+                    operationQueue, resultQueue, setupLatch,
                     assertMoveScoreFromScratch, assertExpectedUndoMoveScore,
                     assertStepScoreFromScratch, assertExpectedStepScore, assertShadowVariablesAreNotStaleAfterStep);
             moveThreadRunnerList.add(moveThreadRunner);
             executor.submit(moveThreadRunner);
             operationQueue.add(new SetupOperation<>(scoreDirector));
         }
+        nextMoveThreadIndex = 0;
+        // Don't do a step on the working solution until every move thread has cloned it
+        ThreadUtils.awaitUninterruptibly(setupLatch);
     }
 
     @Override
     public void phaseEnded(ConstructionHeuristicPhaseScope<Solution_> phaseScope) {
         super.phaseEnded(phaseScope);
         // Tell the move thread runners to stop
-        // Don't clear the operationsQueue to avoid moveThreadBarrier deadlock:
-        // The MoveEvaluationOperations are already cleared and the new ApplyStepOperation isn't added yet.
+        // The remaining MoveEvaluationOperations are already discarded.
         DestroyOperation<Solution_> destroyOperation = new DestroyOperation<>();
-        for (int i = 0; i < moveThreadCount; i++) {
+        for (MoveThreadOperationQueue<Solution_> operationQueue : operationQueueList) {
             operationQueue.add(destroyOperation);
         }
         // TODO This should probably be in a finally that spans at least the entire phase, maybe even the entire solve
@@ -126,7 +132,7 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
             childThreadsScoreCalculationCount += moveThreadRunner.getCalculationCount();
         }
         phaseScope.addChildThreadsScoreCalculationCount(childThreadsScoreCalculationCount);
-        operationQueue = null;
+        operationQueueList = null;
         resultQueue = null;
         moveThreadRunnerList = null;
     }
@@ -148,6 +154,9 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
         resultQueue.startNextStep(stepIndex);
         int selectingMoveIndex = 0;
         int foragingMoveIndex = 0;
+        // The selected moves from the dispatchedMoveIndex onwards aren't handed to a move thread yet
+        int dispatchedMoveIndex = 0;
+        List<Move<Solution_>> selectedMoveList = new ArrayList<>(moveThreadBatchSize);
         Iterator<Move<Solution_>> moveIterator = placement.iterator();
         do {
             boolean moveIteratorEmpty = !moveIterator.hasNext();
@@ -155,27 +164,43 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
             // For reproducibility, the selectedMoveBufferSize always need to be entirely selected,
             // even if some of those moves won't end up being evaluated or foraged
             if (selectingMoveIndex >= selectedMoveBufferSize || moveIteratorEmpty) {
+                if (foragingMoveIndex >= dispatchedMoveIndex && !selectedMoveList.isEmpty()) {
+                    // Don't wait for a full batch if the move that needs to be foraged is in it
+                    nextMoveThreadIndex = MoveThreadOperationQueue.addToShortestQueue(operationQueueList,
+                            nextMoveThreadIndex, new MoveEvaluationOperation<>(stepIndex, dispatchedMoveIndex,
+                                    selectedMoveList));
+                    dispatchedMoveIndex = selectingMoveIndex;
+                    selectedMoveList = new ArrayList<>(moveThreadBatchSize);
+                }
                 if (forageResult(stepScope, stepIndex)) {
                     break;
                 }
                 foragingMoveIndex++;
             }
             if (!moveIteratorEmpty) {
-                Move<Solution_> selectingMove = moveIterator.next();
-                operationQueue.add(new MoveEvaluationOperation<>(stepIndex, selectingMoveIndex, selectingMove));
+                selectedMoveList.add(moveIterator.next());
                 selectingMoveIndex++;
+                if (selectedMoveList.size() >= moveThreadBatchSize) {
+                    nextMoveThreadIndex = MoveThreadOperationQueue.addToShortestQueue(operationQueueList,
+                            nextMoveThreadIndex, new MoveEvaluationOperation<>(stepIndex, dispatchedMoveIndex,
+                                    selectedMoveList));
+                    dispatchedMoveIndex = selectingMoveIndex;
+                    selectedMoveList = new ArrayList<>(moveThreadBatchSize);
+                }
             }
         } while (foragingMoveIndex < selectingMoveIndex);
 
         // Do not evaluate the remaining selected moves for this step that haven't started evaluation yet
-        operationQueue.clear();
+        for (MoveThreadOperationQueue<Solution_> operationQueue : operationQueueList) {
+            operationQueue.discardMoveEvaluations(stepIndex);
+        }
         pickMove(stepScope);
         // Start doing the step on every move thread. Don't wait for the stepEnded() event.
         if (stepScope.getStep() != null) {
             // Increase stepIndex by 1, because it's a preliminary action
             ApplyStepOperation<Solution_, ?> stepOperation = new ApplyStepOperation<>(stepIndex + 1,
                     stepScope.getStep(), (Score) stepScope.getScore());
-            for (int i = 0; i < moveThreadCount; i++) {
+            for (MoveThreadOperationQueue<Solution_> operationQueue : operationQueueList) {
                 operationQueue.add(stepOperation);
             }
         }
@@ -193,7 +218,8 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
             throw new IllegalStateException("Impossible situation: the solverThread's stepIndex (" + stepIndex
                     + ") differs from the result's stepIndex (" + result.getStepIndex() + ").");
         }
-        Move<Solution_> foragingMove = result.getMove().rebase(stepScope.getScoreDirector());
+        // The result holds the move as selected by this thread, so it doesn't need to be rebased
+        Move<Solution_> foragingMove = result.getMove();
         int foragingMoveIndex = result.getMoveIndex();
         ConstructionHeuristicMoveScope<Solution_> moveScope = new ConstructionHeuristicMoveScope<>(stepScope, foragingMoveIndex,
                 foragingMove);
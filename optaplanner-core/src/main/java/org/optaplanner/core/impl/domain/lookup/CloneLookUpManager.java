@@ -0,0 +1,119 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.lookup;
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.optaplanner.core.api.domain.lookup.PlanningId;
+import org.optaplanner.core.api.domain.solution.cloner.DeepPlanningClone;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.solution.cloner.FieldAccessingSolutionCloner;
+
+/**
+ * Looks up the working objects of a planning clone by the objects of the solution it was cloned from.
+ * <p>
+ * Only the objects that the planning clone has copied (the solution, the planning entities
+ * and the {@link DeepPlanningClone} objects) are mapped.
+ * Every other object, such as a problem fact, is shared by both solutions, so it is its own working object.
+ * Unlike the {@link PlanningId} based lookup, the problem facts aren't indexed,
+ * so a move thread doesn't build an index of every problem fact.
+ * <p>
+ * It overrides every method of {@link LookUpManager}, because it doesn't use a {@link LookUpStrategyResolver}.
+ *
+ * @see FieldAccessingSolutionCloner#cloneSolution(Object, Map)
+ */
+public final class CloneLookUpManager extends LookUpManager {
+
+    private final FieldAccessingSolutionCloner<?> solutionCloner;
+
+    private Map<Object, Object> originalToCloneMap;
+
+    /**
+     * @param solutionCloner never null, the solution cloner that filled the originalToCloneMap
+     * @param originalToCloneMap never null, an identity map
+     */
+    public CloneLookUpManager(FieldAccessingSolutionCloner<?> solutionCloner, Map<Object, Object> originalToCloneMap) {
+        // No LookUpStrategy is used, so the problem facts don't need a planningId
+        super(null);
+        this.solutionCloner = solutionCloner;
+        this.originalToCloneMap = originalToCloneMap;
+    }
+
+    @Override
+    public void resetWorkingObjects(Collection<Object> allFacts) {
+        // Do nothing: the originalToCloneMap already maps every original object that has been cloned
+    }
+
+    @Override
+    public void addWorkingObject(Object workingObject) {
+        // Do nothing: an object added to the clone has no original
+    }
+
+    @Override
+    public void removeWorkingObject(Object workingObject) {
+        // Do nothing: a removed object is never looked up, because it isn't part of the original either
+    }
+
+    @Override
+    public void clearWorkingObjects() {
+        originalToCloneMap = null;
+    }
+
+    /**
+     * As defined by {@link ScoreDirector#lookUpWorkingObject(Object)}.
+     *
+     * @param externalObject sometimes null, an object of the original solution
+     * @return null if externalObject is null
+     * @throws IllegalStateException if externalObject is of a cloned class, but it hasn't been cloned
+     * @param <E> the object type
+     */
+    @Override
+    public <E> E lookUpWorkingObject(E externalObject) {
+        if (externalObject == null) {
+            return null;
+        }
+        E workingObject = lookUpWorkingObjectOrReturnNull(externalObject);
+        if (workingObject == null) {
+            throw new IllegalStateException("The externalObject (" + externalObject
+                    + ") has no known workingObject.\n"
+                    + "Maybe the externalObject is not part of the solution that was planning cloned.");
+        }
+        return workingObject;
+    }
+
+    /**
+     * As defined by {@link ScoreDirector#lookUpWorkingObjectOrReturnNull(Object)}.
+     *
+     * @param externalObject sometimes null, an object of the original solution
+     * @return null if externalObject is null or if it is of a cloned class, but it hasn't been cloned
+     * @param <E> the object type
+     */
+    @Override
+    public <E> E lookUpWorkingObjectOrReturnNull(E externalObject) {
+        if (externalObject == null) {
+            return null;
+        }
+        E workingObject = (E) originalToCloneMap.get(externalObject);
+        if (workingObject != null) {
+            return workingObject;
+        }
+        // An object of a class that isn't cloned is shared by the original solution and its clone
+        return solutionCloner.isCloned(externalObject) ? null : externalObject;
+    }
+
+}
@@ -73,6 +73,31 @@ public class FieldAccessingSolutionCloner<Solution_> implements SolutionCloner<S
         return new FieldAccessingSolutionClonerRun().cloneSolution(originalSolution);
     }
 
+    /**
+     * Like {@link #cloneSolution(Object)}, but also exposes which objects have been cloned.
+     * Every object reachable from the clone that isn't in the originalToCloneMap,
+     * such as a problem fact, is shared with the original solution.
+     *
+     * @param originalSolution never null
+     * @param originalToCloneMap never null, an empty identity map,
+     *        filled with every original object that has been cloned, mapped to its clone
+     * @return never null
+     */
+    public Solution_ cloneSolution(Solution_ originalSolution, Map<Object, Object> originalToCloneMap) {
+        return new FieldAccessingSolutionClonerRun().cloneSolution(originalSolution, originalToCloneMap);
+    }
+
+    /**
+     * This method is thread-safe.
+     *
+     * @param original never null
+     * @return true if a planning clone clones that object (such as a planning entity),
+     *         false if it shares it with the original solution (such as a problem fact)
+     */
+    public boolean isCloned(Object original) {
+        return deepCloningUtils.retrieveDeepCloneDecisionForActualValueClass(original.getClass());
+    }
+
     /**
      * This method is thread-safe.
      *
@@ -128,10 +153,14 @@ public class FieldAccessingSolutionCloner<Solution_> implements SolutionCloner<S
         protected Queue<Unprocessed> unprocessedQueue;
 
         protected Solution_ cloneSolution(Solution_ originalSolution) {
+            int entityCount = solutionDescriptor.getEntityCount(originalSolution);
+            return cloneSolution(originalSolution, new IdentityHashMap<>(entityCount + 1));
+        }
+
+        protected Solution_ cloneSolution(Solution_ originalSolution, Map<Object, Object> originalToCloneMap) {
             int entityCount = solutionDescriptor.getEntityCount(originalSolution);
             unprocessedQueue = new ArrayDeque<>(entityCount + 1);
-            originalToCloneMap = new IdentityHashMap<>(
-                    entityCount + 1);
+            this.originalToCloneMap = originalToCloneMap;
             Solution_ cloneSolution = clone(originalSolution);
             processQueue();
             validateCloneSolution(originalSolution, cloneSolution);
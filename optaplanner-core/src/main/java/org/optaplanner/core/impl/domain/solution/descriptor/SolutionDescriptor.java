@@ -578,6 +578,26 @@ public class SolutionDescriptor<Solution_> {
 
     public ScoreDefinition buildScoreDefinition(Class<? extends Score> scoreType, PlanningScore annotation) {
         Class<? extends ScoreDefinition> scoreDefinitionClass = annotation.scoreDefinitionClass();
+        int bigDecimalScale = annotation.bigDecimalScale();
+        if (bigDecimalScale != PlanningScore.NO_BIG_DECIMAL_SCALE) {
+            if (scoreDefinitionClass != PlanningScore.NullScoreDefinition.class
+                    || !scoreType.equals(HardSoftBigDecimalScore.class)) {
+                throw new IllegalArgumentException("The solutionClass (" + solutionClass
+                        + ") has a " + PlanningScore.class.getSimpleName()
+                        + " annotated member (" + scoreMemberAccessor
+                        + ") that returns a scoreType (" + scoreType
+                        + ") that must not have a bigDecimalScale (" + bigDecimalScale + ").\n"
+                        + "Maybe return a " + HardSoftBigDecimalScore.class.getSimpleName()
+                        + " without a scoreDefinitionClass.");
+            }
+            if (bigDecimalScale < 0) {
+                throw new IllegalArgumentException("The solutionClass (" + solutionClass
+                        + ") has a " + PlanningScore.class.getSimpleName()
+                        + " annotated member (" + scoreMemberAccessor
+                        + ") with a bigDecimalScale (" + bigDecimalScale + ") that must be 0 or higher.");
+            }
+            return new HardSoftBigDecimalScoreDefinition(bigDecimalScale);
+        }
         if (scoreDefinitionClass != PlanningScore.NullScoreDefinition.class) {
             if (annotation.bendableHardLevelsSize() != PlanningScore.NO_LEVEL_SIZE
                     || annotation.bendableSoftLevelsSize() != PlanningScore.NO_LEVEL_SIZE) {
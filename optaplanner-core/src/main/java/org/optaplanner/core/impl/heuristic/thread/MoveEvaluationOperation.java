@@ -16,30 +16,49 @@
 
 package org.optaplanner.core.impl.heuristic.thread;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.optaplanner.core.impl.heuristic.move.Move;
 
+/**
+ * Evaluates a batch of moves with consecutive move indexes,
+ * so the cost of handing them to a move thread is shared by the entire batch.
+ */
 public class MoveEvaluationOperation<Solution_> extends MoveThreadOperation<Solution_> {
 
     private final int stepIndex;
     private final int moveIndex;
-    private final Move<Solution_> move;
+    private final List<Move<Solution_>> moveList;
 
     public MoveEvaluationOperation(int stepIndex, int moveIndex, Move<Solution_> move) {
+        this(stepIndex, moveIndex, Collections.singletonList(move));
+    }
+
+    /**
+     * @param stepIndex at least 0
+     * @param moveIndex at least 0, the move index of the first move
+     * @param moveList never null, never empty, as selected by the solver thread
+     */
+    public MoveEvaluationOperation(int stepIndex, int moveIndex, List<Move<Solution_>> moveList) {
         this.stepIndex = stepIndex;
         this.moveIndex = moveIndex;
-        this.move = move;
+        this.moveList = moveList;
     }
 
     public int getStepIndex() {
         return stepIndex;
     }
 
+    /**
+     * @return the move index of the first move in {@link #getMoveList()}
+     */
     public int getMoveIndex() {
         return moveIndex;
     }
 
-    public Move<Solution_> getMove() {
-        return move;
+    public List<Move<Solution_>> getMoveList() {
+        return moveList;
     }
 
 }
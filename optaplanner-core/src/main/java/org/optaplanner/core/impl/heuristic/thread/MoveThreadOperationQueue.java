@@ -0,0 +1,240 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.thread;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+
+/**
+ * A bounded, lock-free queue of {@link MoveThreadOperation}s for exactly 1 move thread.
+ * The solver thread is the only producer and that move thread is the only consumer.
+ * <p>
+ * Each side caches the other side's index and only rereads it when its cached batch is exhausted,
+ * so consecutive operations are handed off without touching the other side's cache line.
+ * A waiting consumer spins briefly before it parks, and the producer only unparks it if it parked.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class MoveThreadOperationQueue<Solution_> {
+
+    /**
+     * How many times a waiting thread yields before it parks, also used by {@link OrderByMoveIndexBlockingQueue}.
+     * A move evaluation is usually short, so the awaited operation or result often arrives while spinning.
+     */
+    static final int SPIN_COUNT = 100;
+    /**
+     * How long a producer parks while the queue is full, also used by {@link OrderByMoveIndexBlockingQueue}.
+     * The consumer doesn't unpark the producer when it frees a slot, so the producer polls instead.
+     * That's only a safety net: the deciders size both queues for every operation and result in circulation,
+     * so they are never full.
+     * 10 microseconds is about the duration of a small move evaluation,
+     * so a waiting producer notices a freed slot soon enough without keeping a CPU busy.
+     */
+    static final long FULL_PARK_NANOS = 10_000L;
+
+    private final MoveThreadOperation<Solution_>[] buffer;
+    private final int mask;
+
+    /** Written by the producer only. */
+    private final AtomicLong producerIndex = new AtomicLong(0L);
+    /** Written by the consumer only. Lazily published, because only the producer polls it. */
+    private final AtomicLong consumerIndex = new AtomicLong(0L);
+    /** Only used by the producer. */
+    private long cachedConsumerIndex = 0L;
+    /** Only used by the consumer. */
+    private long cachedProducerIndex = 0L;
+
+    private volatile Thread consumerThread = null;
+    private volatile boolean consumerParked = false;
+    private volatile boolean consumerClosed = false;
+    /** Written by the producer only. */
+    private volatile int discardedStepIndex = Integer.MIN_VALUE;
+
+    /**
+     * @param minimumCapacity at least 1, rounded up to a power of 2
+     */
+    public MoveThreadOperationQueue(int minimumCapacity) {
+        if (minimumCapacity < 1) {
+            throw new IllegalArgumentException("The minimumCapacity (" + minimumCapacity + ") must be at least 1.");
+        }
+        int capacity = Integer.highestOneBit(minimumCapacity);
+        if (capacity < minimumCapacity) {
+            capacity <<= 1;
+        }
+        buffer = new MoveThreadOperation[capacity];
+        mask = capacity - 1;
+    }
+
+    // ************************************************************************
+    // Producer methods
+    // ************************************************************************
+
+    /**
+     * Not thread-safe. Can only be called from the solver thread.
+     * Waits if the queue is full, unless the consumer has already stopped,
+     * in which case the operation is dropped.
+     *
+     * @param operation never null
+     */
+    public void add(MoveThreadOperation<Solution_> operation) {
+        long index = producerIndex.get();
+        int spinCount = 0;
+        while (index - cachedConsumerIndex >= buffer.length) {
+            cachedConsumerIndex = consumerIndex.get();
+            if (index - cachedConsumerIndex < buffer.length) {
+                break;
+            }
+            if (consumerClosed) {
+                return;
+            }
+            if (spinCount < SPIN_COUNT) {
+                spinCount++;
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(this, FULL_PARK_NANOS);
+            }
+        }
+        buffer[(int) index & mask] = operation;
+        // A volatile write (not a lazy one), so the read of consumerParked can't be reordered before it
+        producerIndex.set(index + 1L);
+        if (consumerParked) {
+            LockSupport.unpark(consumerThread);
+        }
+    }
+
+    /**
+     * Not thread-safe. Can only be called from the solver thread.
+     * Hands the operation to the move thread with the fewest queued operations,
+     * so a slow move evaluation doesn't hold up the batches queued behind it.
+     * The result order doesn't depend on which move thread evaluates the move, so this is reproducible.
+     *
+     * @param operationQueueList never null, not empty, 1 queue per move thread
+     * @param startIndex at least 0, the queue to consider first on a tie, usually the return value of the previous call
+     * @param operation never null
+     * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+     * @return the index of the queue after the selected queue, to pass as the startIndex of the next call
+     */
+    public static <Solution_> int addToShortestQueue(List<MoveThreadOperationQueue<Solution_>> operationQueueList,
+            int startIndex, MoveThreadOperation<Solution_> operation) {
+        int queueCount = operationQueueList.size();
+        int selectedIndex = startIndex;
+        int selectedSize = Integer.MAX_VALUE;
+        for (int i = 0; i < queueCount; i++) {
+            int index = (startIndex + i) % queueCount;
+            int size = operationQueueList.get(index).size();
+            if (size < selectedSize) {
+                selectedIndex = index;
+                selectedSize = size;
+                if (size == 0) {
+                    break;
+                }
+            }
+        }
+        operationQueueList.get(selectedIndex).add(operation);
+        return (selectedIndex + 1) % queueCount;
+    }
+
+    /**
+     * Not thread-safe. Can only be called from the solver thread.
+     * The consumer skips every {@link MoveEvaluationOperation} of that step (or an earlier step)
+     * that it hasn't taken yet.
+     * This replaces clearing the queue, which only the consumer can do safely.
+     *
+     * @param stepIndex at least 0
+     */
+    public void discardMoveEvaluations(int stepIndex) {
+        discardedStepIndex = stepIndex;
+    }
+
+    /**
+     * This method is thread-safe.
+     * Allows the consumer to abandon a {@link MoveEvaluationOperation} it already took, in the middle of its batch.
+     *
+     * @param stepIndex at least 0
+     * @return true if {@link #discardMoveEvaluations(int)} has been called for that step (or a later step)
+     */
+    public boolean isMoveEvaluationDiscarded(int stepIndex) {
+        return stepIndex <= discardedStepIndex;
+    }
+
+    /**
+     * This method is thread-safe.
+     * Includes the operations the consumer will skip.
+     *
+     * @return at least 0
+     */
+    public int size() {
+        return (int) (producerIndex.get() - consumerIndex.get());
+    }
+
+    // ************************************************************************
+    // Consumer methods
+    // ************************************************************************
+
+    /**
+     * Not thread-safe. Can only be called from the move thread.
+     *
+     * @return never null
+     * @throws InterruptedException if interrupted
+     */
+    public MoveThreadOperation<Solution_> take() throws InterruptedException {
+        if (consumerThread == null) {
+            consumerThread = Thread.currentThread();
+        }
+        long index = consumerIndex.get();
+        int spinCount = 0;
+        while (true) {
+            if (index < cachedProducerIndex || index < (cachedProducerIndex = producerIndex.get())) {
+                int offset = (int) index & mask;
+                MoveThreadOperation<Solution_> operation = buffer[offset];
+                buffer[offset] = null;
+                index++;
+                consumerIndex.lazySet(index);
+                if (operation instanceof MoveEvaluationOperation
+                        && ((MoveEvaluationOperation<Solution_>) operation).getStepIndex() <= discardedStepIndex) {
+                    continue;
+                }
+                return operation;
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            if (spinCount < SPIN_COUNT) {
+                spinCount++;
+                Thread.yield();
+            } else {
+                consumerParked = true;
+                if (index >= producerIndex.get()) {
+                    LockSupport.park(this);
+                }
+                consumerParked = false;
+            }
+        }
+    }
+
+    /**
+     * This method is thread-safe. Called by the consumer when it stops,
+     * so the producer doesn't wait for capacity that will never become available.
+     */
+    public void close() {
+        consumerClosed = true;
+    }
+
+}
@@ -16,9 +16,9 @@
 
 package org.optaplanner.core.impl.heuristic.thread;
 
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.BrokenBarrierException;
-import java.util.concurrent.CyclicBarrier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.optaplanner.core.api.score.Score;
@@ -36,9 +36,9 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
     private final int moveThreadIndex;
     private final boolean evaluateDoable;
 
-    private final BlockingQueue<MoveThreadOperation<Solution_>> operationQueue;
+    private final MoveThreadOperationQueue<Solution_> operationQueue;
     private final OrderByMoveIndexBlockingQueue<Solution_> resultQueue;
-    private final CyclicBarrier moveThreadBarrier;
+    private final CountDownLatch setupLatch;
 
     private final boolean assertMoveScoreFromScratch;
     private final boolean assertExpectedUndoMoveScore;
@@ -50,9 +50,9 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
     private AtomicLong calculationCount = new AtomicLong(-1);
 
     public MoveThreadRunner(String logIndentation, int moveThreadIndex, boolean evaluateDoable,
-            BlockingQueue<MoveThreadOperation<Solution_>> operationQueue,
+            MoveThreadOperationQueue<Solution_> operationQueue,
             OrderByMoveIndexBlockingQueue<Solution_> resultQueue,
-            CyclicBarrier moveThreadBarrier,
+            CountDownLatch setupLatch,
             boolean assertMoveScoreFromScratch, boolean assertExpectedUndoMoveScore,
             boolean assertStepScoreFromScratch, boolean assertExpectedStepScore,
             boolean assertShadowVariablesAreNotStaleAfterStep) {
@@ -61,7 +61,7 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
         this.evaluateDoable = evaluateDoable;
         this.operationQueue = operationQueue;
         this.resultQueue = resultQueue;
-        this.moveThreadBarrier = moveThreadBarrier;
+        this.setupLatch = setupLatch;
         this.assertMoveScoreFromScratch = assertMoveScoreFromScratch;
         this.assertExpectedUndoMoveScore = assertExpectedUndoMoveScore;
         this.assertStepScoreFromScratch = assertStepScoreFromScratch;
@@ -87,26 +87,20 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
                     SetupOperation<Solution_, Score_> setupOperation = (SetupOperation<Solution_, Score_>) operation;
                     scoreDirector = setupOperation.getScoreDirector()
                             .createChildThreadScoreDirector(ChildThreadType.MOVE_THREAD);
+                    // The solver thread doesn't change its working solution until every move thread has cloned it
+                    setupLatch.countDown();
                     stepIndex = 0;
                     lastStepScore = scoreDirector.calculateScore();
                     logger.trace("{}            Move thread ({}) setup: step index ({}), score ({}).",
                             logIndentation, moveThreadIndex, stepIndex, lastStepScore);
-                    try {
-                        // Don't consume another operation until every moveThread took this SetupOperation
-                        moveThreadBarrier.await();
-                    } catch (InterruptedException | BrokenBarrierException e) {
-                        Thread.currentThread().interrupt();
-                        break;
-                    }
                 } else if (operation instanceof DestroyOperation) {
                     logger.trace("{}            Move thread ({}) destroy: step index ({}).",
                             logIndentation, moveThreadIndex, stepIndex);
                     calculationCount.set(scoreDirector.getCalculationCount());
                     break;
                 } else if (operation instanceof ApplyStepOperation) {
-                    // TODO Performance gain with specialized 2-phase cyclic barrier:
-                    // As soon as the last move thread has taken its ApplyStepOperation,
-                    // other move threads can already depart from the moveThreadStepBarrier: no need to wait until the step is done.
+                    // Every move thread has its own operationQueue, so it never needs to wait for the other move threads:
+                    // the MoveEvaluationOperations of the next step are always queued after its ApplyStepOperation.
                     ApplyStepOperation<Solution_, Score_> applyStepOperation =
                             (ApplyStepOperation<Solution_, Score_>) operation;
                     if (stepIndex + 1 != applyStepOperation.getStepIndex()) {
@@ -122,37 +116,15 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
                     lastStepScore = score;
                     logger.trace("{}            Move thread ({}) step: step index ({}), score ({}).",
                             logIndentation, moveThreadIndex, stepIndex, lastStepScore);
-                    try {
-                        // Don't consume an MoveEvaluationOperation until every moveThread took this ApplyStepOperation
-                        moveThreadBarrier.await();
-                    } catch (InterruptedException | BrokenBarrierException e) {
-                        Thread.currentThread().interrupt();
-                        break;
-                    }
                 } else if (operation instanceof MoveEvaluationOperation) {
                     MoveEvaluationOperation<Solution_> moveEvaluationOperation = (MoveEvaluationOperation<Solution_>) operation;
-                    int moveIndex = moveEvaluationOperation.getMoveIndex();
                     if (stepIndex != moveEvaluationOperation.getStepIndex()) {
                         throw new IllegalStateException("Impossible situation: the moveThread's stepIndex ("
                                 + stepIndex + ") differs from the operation's stepIndex ("
                                 + moveEvaluationOperation.getStepIndex() + ") with moveIndex ("
-                                + moveIndex + ").");
-                    }
-                    Move<Solution_> move = moveEvaluationOperation.getMove().rebase(scoreDirector);
-                    if (evaluateDoable && !move.isMoveDoable(scoreDirector)) {
-                        logger.trace("{}            Move thread ({}) evaluation: step index ({}), move index ({}), not doable.",
-                                logIndentation, moveThreadIndex, stepIndex, moveIndex);
-                        resultQueue.addUndoableMove(moveThreadIndex, stepIndex, moveIndex, move);
-                    } else {
-                        Score<?> score = scoreDirector.doAndProcessMove(move, assertMoveScoreFromScratch);
-                        if (assertExpectedUndoMoveScore) {
-                            scoreDirector.assertExpectedUndoMoveScore(move, lastStepScore);
-                        }
-                        logger.trace("{}            Move thread ({}) evaluation: step index ({}), move index ({}), score ({}).",
-                                logIndentation, moveThreadIndex, stepIndex, moveIndex, score);
-                        // Deliberately add to fail fast if there is not enough capacity (which is impossible)
-                        resultQueue.addMove(moveThreadIndex, stepIndex, moveIndex, move, score);
+                                + moveEvaluationOperation.getMoveIndex() + ").");
                     }
+                    evaluateMoveBatch(stepIndex, moveEvaluationOperation, lastStepScore);
                 } else {
                     throw new IllegalStateException("Unknown operation (" + operation + ").");
                 }
@@ -166,10 +138,49 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
                     logIndentation, moveThreadIndex, throwable);
             resultQueue.addExceptionThrown(moveThreadIndex, throwable);
         } finally {
+            operationQueue.close();
             if (scoreDirector != null) {
                 scoreDirector.close();
+            } else {
+                // The setup failed or never happened, so the solver thread mustn't wait for it
+                setupLatch.countDown();
+            }
+        }
+    }
+
+    private void evaluateMoveBatch(int stepIndex, MoveEvaluationOperation<Solution_> moveEvaluationOperation,
+            Score_ lastStepScore) {
+        List<Move<Solution_>> moveList = moveEvaluationOperation.getMoveList();
+        List<OrderByMoveIndexBlockingQueue.MoveResult<Solution_>> resultList = new ArrayList<>(moveList.size());
+        int moveIndex = moveEvaluationOperation.getMoveIndex();
+        for (Move<Solution_> selectedMove : moveList) {
+            if (operationQueue.isMoveEvaluationDiscarded(stepIndex)) {
+                // The solver thread has ended the step already, so the rest of the batch won't be foraged
+                logger.trace("{}            Move thread ({}) evaluation: step index ({}), move index ({}), discarded.",
+                        logIndentation, moveThreadIndex, stepIndex, moveIndex);
+                return;
+            }
+            // The result holds the selected move instead of the rebased move,
+            // so the solver thread doesn't need to rebase it back to its own working solution
+            Move<Solution_> move = selectedMove.rebase(scoreDirector);
+            if (evaluateDoable && !move.isMoveDoable(scoreDirector)) {
+                logger.trace("{}            Move thread ({}) evaluation: step index ({}), move index ({}), not doable.",
+                        logIndentation, moveThreadIndex, stepIndex, moveIndex);
+                resultList.add(new OrderByMoveIndexBlockingQueue.MoveResult<>(moveThreadIndex, stepIndex, moveIndex,
+                        selectedMove, false, null));
+            } else {
+                Score<?> score = scoreDirector.doAndProcessMove(move, assertMoveScoreFromScratch);
+                if (assertExpectedUndoMoveScore) {
+                    scoreDirector.assertExpectedUndoMoveScore(move, lastStepScore);
+                }
+                logger.trace("{}            Move thread ({}) evaluation: step index ({}), move index ({}), score ({}).",
+                        logIndentation, moveThreadIndex, stepIndex, moveIndex, score);
+                resultList.add(new OrderByMoveIndexBlockingQueue.MoveResult<>(moveThreadIndex, stepIndex, moveIndex,
+                        selectedMove, true, score));
             }
+            moveIndex++;
         }
+        resultQueue.addResultBatch(resultList);
     }
 
     protected void predictWorkingStepScore(Move<Solution_> step, Score_ score) {
@@ -16,25 +16,52 @@
 
 package org.optaplanner.core.impl.heuristic.thread;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
 
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.heuristic.move.Move;
 
+/**
+ * Relays the move results from the move threads to the solver thread, in the order of their moveIndex.
+ * <p>
+ * Lock-free: every batch of results has its own slot, determined by the moveIndex of its first result,
+ * so the move threads don't contend with each other and the solver thread just waits on the slot of the next moveIndex.
+ * A batch of an earlier step stays in its slot until a batch of a later step overwrites it.
+ */
 public class OrderByMoveIndexBlockingQueue<Solution_> {
 
-    private final BlockingQueue<MoveResult<Solution_>> innerQueue;
-    private final Map<Integer, MoveResult<Solution_>> backlog;
+    private final AtomicReferenceArray<List<MoveResult<Solution_>>> slotArray;
+    private final int mask;
+    private final AtomicReference<MoveResult<Solution_>> exceptionResult = new AtomicReference<>(null);
 
-    private int filterStepIndex = Integer.MIN_VALUE;
+    private volatile int filterStepIndex = Integer.MIN_VALUE;
+    /** Only used by the solver thread. */
     private int nextMoveIndex = Integer.MIN_VALUE;
+    /** Only used by the solver thread. The batch that contains the nextMoveIndex, if it has been taken already. */
+    private List<MoveResult<Solution_>> takingResultList = Collections.emptyList();
+    /** Only used by the solver thread. */
+    private int takingResultListIndex = 0;
+
+    private volatile Thread solverThread = null;
+    private volatile boolean solverParked = false;
 
+    /**
+     * @param capacity at least the number of moves in circulation, rounded up to a power of 2
+     */
     public OrderByMoveIndexBlockingQueue(int capacity) {
-        innerQueue = new ArrayBlockingQueue<>(capacity);
-        backlog = new HashMap<>(capacity);
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity (" + capacity + ") must be at least 1.");
+        }
+        int slotCount = Integer.highestOneBit(capacity);
+        if (slotCount < capacity) {
+            slotCount <<= 1;
+        }
+        slotArray = new AtomicReferenceArray<>(slotCount);
+        mask = slotCount - 1;
     }
 
     /**
@@ -43,24 +70,18 @@ public class OrderByMoveIndexBlockingQueue<Solution_> {
      * @param stepIndex at least 0
      */
     public void startNextStep(int stepIndex) {
-        synchronized (this) {
-            if (filterStepIndex >= stepIndex) {
-                throw new IllegalStateException("The old filterStepIndex (" + filterStepIndex
-                        + ") must be less than the stepIndex (" + stepIndex + ")");
-            }
-            filterStepIndex = stepIndex;
-            MoveResult<Solution_> exceptionResult = innerQueue.stream().filter(MoveResult::hasThrownException)
-                    .findFirst().orElse(null);
-            if (exceptionResult != null) {
-                throw new IllegalStateException("The move thread with moveThreadIndex ("
-                        + exceptionResult.getMoveThreadIndex() + ") has thrown an exception."
-                        + " Relayed here in the parent thread.",
-                        exceptionResult.getThrowable());
-            }
-            innerQueue.clear();
+        if (filterStepIndex >= stepIndex) {
+            throw new IllegalStateException("The old filterStepIndex (" + filterStepIndex
+                    + ") must be less than the stepIndex (" + stepIndex + ")");
+        }
+        if (solverThread == null) {
+            solverThread = Thread.currentThread();
         }
+        filterStepIndex = stepIndex;
+        throwIfExceptionThrown();
         nextMoveIndex = 0;
-        backlog.clear();
+        takingResultList = Collections.emptyList();
+        takingResultListIndex = 0;
     }
 
     /**
@@ -70,17 +91,9 @@ public class OrderByMoveIndexBlockingQueue<Solution_> {
      * @param stepIndex at least 0
      * @param moveIndex at least 0
      * @param move never null
-     * @see BlockingQueue#add(Object)
      */
     public void addUndoableMove(int moveThreadIndex, int stepIndex, int moveIndex, Move<Solution_> move) {
-        MoveResult<Solution_> result = new MoveResult<>(moveThreadIndex, stepIndex, moveIndex, move, false, null);
-        synchronized (this) {
-            if (result.getStepIndex() != filterStepIndex) {
-                // Discard element from previous step
-                return;
-            }
-            innerQueue.add(result);
-        }
+        addResultBatch(Collections.singletonList(new MoveResult<>(moveThreadIndex, stepIndex, moveIndex, move, false, null)));
     }
 
     /**
@@ -91,69 +104,121 @@ public class OrderByMoveIndexBlockingQueue<Solution_> {
      * @param moveIndex at least 0
      * @param move never null
      * @param score never null
-     * @see BlockingQueue#add(Object)
      */
     public void addMove(int moveThreadIndex, int stepIndex, int moveIndex, Move<Solution_> move, Score score) {
-        MoveResult<Solution_> result = new MoveResult<>(moveThreadIndex, stepIndex, moveIndex, move, true, score);
-        synchronized (this) {
+        addResultBatch(Collections.singletonList(new MoveResult<>(moveThreadIndex, stepIndex, moveIndex, move, true, score)));
+    }
+
+    /**
+     * This method is thread-safe. It can be called from any move thread.
+     * Publishes all results at once, so the solver thread is woken up only once for the entire batch.
+     *
+     * @param resultList never null, never empty, of the same step and with consecutive moveIndexes
+     */
+    public void addResultBatch(List<MoveResult<Solution_>> resultList) {
+        MoveResult<Solution_> result = resultList.get(0);
+        int slotIndex = result.getMoveIndex() & mask;
+        int spinCount = 0;
+        while (true) {
             if (result.getStepIndex() != filterStepIndex) {
                 // Discard element from previous step
                 return;
             }
-            innerQueue.add(result);
+            List<MoveResult<Solution_>> occupantList = slotArray.get(slotIndex);
+            MoveResult<Solution_> occupant = occupantList == null ? null : occupantList.get(0);
+            if (occupant == null || occupant.getStepIndex() < result.getStepIndex()) {
+                if (slotArray.compareAndSet(slotIndex, occupantList, resultList)) {
+                    break;
+                }
+            } else if (occupant.getStepIndex() > result.getStepIndex()) {
+                // Discard element from previous step
+                return;
+            } else if (spinCount < MoveThreadOperationQueue.SPIN_COUNT) {
+                // Only if the capacity is less than the number of moves in circulation:
+                // wait until the solver thread takes the result with the lower moveIndex
+                spinCount++;
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(this, MoveThreadOperationQueue.FULL_PARK_NANOS);
+            }
+        }
+        if (solverParked) {
+            LockSupport.unpark(solverThread);
         }
     }
 
     /**
      * This method is thread-safe. It can be called from any move thread.
-     * Previous results (that haven't been consumed yet), will still be returned during iteration
-     * before the iteration throws an exception,
-     * unless there's a lower moveIndex that isn't in the queue yet.
+     * The next call to {@link #take()} or {@link #startNextStep(int)} throws an exception,
+     * even if there are results that haven't been taken yet.
      *
      * @param moveThreadIndex {@code 0 <= moveThreadIndex < moveThreadCount}
      * @param throwable never null
      */
     public void addExceptionThrown(int moveThreadIndex, Throwable throwable) {
         MoveResult<Solution_> result = new MoveResult<>(moveThreadIndex, throwable);
-        synchronized (this) {
-            innerQueue.add(result);
+        // If 2 exceptions are added from different threads concurrently, either one could end up first.
+        // This is a known deviation from 100% reproducibility, that never occurs in a success scenario.
+        exceptionResult.compareAndSet(null, result);
+        if (solverParked) {
+            LockSupport.unpark(solverThread);
         }
     }
 
     /**
      * Not thread-safe. Can only be called from the solver thread.
+     * Spins briefly before it parks, because a move evaluation is usually short.
      *
      * @return never null
      * @throws InterruptedException if interrupted
-     * @see BlockingQueue#take()
      */
     public MoveResult<Solution_> take() throws InterruptedException {
+        throwIfExceptionThrown();
+        if (takingResultListIndex < takingResultList.size()) {
+            nextMoveIndex++;
+            return takingResultList.get(takingResultListIndex++);
+        }
         int moveIndex = nextMoveIndex;
-        nextMoveIndex++;
-        if (!backlog.isEmpty()) {
-            MoveResult<Solution_> result = backlog.remove(moveIndex);
-            if (result != null) {
+        int slotIndex = moveIndex & mask;
+        int spinCount = 0;
+        while (true) {
+            throwIfExceptionThrown();
+            List<MoveResult<Solution_>> resultList = slotArray.get(slotIndex);
+            MoveResult<Solution_> result = resultList == null ? null : resultList.get(0);
+            if (result != null && result.getStepIndex() == filterStepIndex && result.getMoveIndex() == moveIndex) {
+                slotArray.set(slotIndex, null);
+                takingResultList = resultList;
+                takingResultListIndex = 1;
+                nextMoveIndex++;
                 return result;
             }
-        }
-        while (true) {
-            MoveResult<Solution_> result = innerQueue.take();
-            // If 2 exceptions are added from different threads concurrently, either one could end up first.
-            // This is a known deviation from 100% reproducibility, that never occurs in a success scenario.
-            if (result.hasThrownException()) {
-                throw new IllegalStateException("The move thread with moveThreadIndex ("
-                        + result.getMoveThreadIndex() + ") has thrown an exception."
-                        + " Relayed here in the parent thread.",
-                        result.getThrowable());
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
             }
-            if (result.getMoveIndex() == moveIndex) {
-                return result;
+            if (spinCount < MoveThreadOperationQueue.SPIN_COUNT) {
+                spinCount++;
+                Thread.yield();
             } else {
-                backlog.put(result.getMoveIndex(), result);
+                solverParked = true;
+                // Recheck after announcing the park, so a concurrent add() can't be missed
+                if (slotArray.get(slotIndex) == resultList && exceptionResult.get() == null) {
+                    LockSupport.park(this);
+                }
+                solverParked = false;
             }
         }
     }
 
+    private void throwIfExceptionThrown() {
+        MoveResult<Solution_> result = exceptionResult.get();
+        if (result != null) {
+            throw new IllegalStateException("The move thread with moveThreadIndex ("
+                    + result.getMoveThreadIndex() + ") has thrown an exception."
+                    + " Relayed here in the parent thread.",
+                    result.getThrowable());
+        }
+    }
+
     public static class MoveResult<Solution_> {
 
         private final int moveThreadIndex;
@@ -185,10 +250,6 @@ public class OrderByMoveIndexBlockingQueue<Solution_> {
             this.throwable = throwable;
         }
 
-        private boolean hasThrownException() {
-            return throwable != null;
-        }
-
         public int getMoveThreadIndex() {
             return moveThreadIndex;
         }
@@ -22,6 +22,7 @@ import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
 import org.optaplanner.core.impl.score.ScoreUtils;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 
 /**
  * The time gradient implementation of simulated annealing.
@@ -34,6 +35,8 @@ public class SimulatedAnnealingAcceptor<Solution_> extends AbstractAcceptor<Solu
     protected double[] startingTemperatureLevels;
     // No protected Score temperature do avoid rounding errors when using Score.multiply(double)
     protected double[] temperatureLevels;
+    // Reused for every evaluated move, because isAccepted() is only called by the solver thread
+    protected double[] moveScoreDifferenceLevels;
 
     protected double temperatureMinimum = 1.0E-100; // Double.MIN_NORMAL is E-308
 
@@ -57,6 +60,7 @@ public class SimulatedAnnealingAcceptor<Solution_> extends AbstractAcceptor<Solu
         startingTemperatureLevels = ScoreUtils.extractLevelDoubles(startingTemperature);
         temperatureLevels = startingTemperatureLevels;
         levelsLength = startingTemperatureLevels.length;
+        moveScoreDifferenceLevels = new double[levelsLength];
     }
 
     @Override
@@ -64,6 +68,7 @@ public class SimulatedAnnealingAcceptor<Solution_> extends AbstractAcceptor<Solu
         super.phaseEnded(phaseScope);
         startingTemperatureLevels = null;
         temperatureLevels = null;
+        moveScoreDifferenceLevels = null;
         levelsLength = -1;
     }
 
@@ -75,8 +80,8 @@ public class SimulatedAnnealingAcceptor<Solution_> extends AbstractAcceptor<Solu
         if (moveScore.compareTo(lastStepScore) >= 0) {
             return true;
         }
-        Score moveScoreDifference = lastStepScore.subtract(moveScore);
-        double[] moveScoreDifferenceLevels = ScoreUtils.extractLevelDoubles(moveScoreDifference);
+        ScoreDefinition scoreDefinition = phaseScope.getScoreDefinition();
+        scoreDefinition.subtractToLevelDoubles(lastStepScore, moveScore, moveScoreDifferenceLevels);
         double acceptChance = 1.0;
         for (int i = 0; i < levelsLength; i++) {
             double moveScoreDifferenceLevel = moveScoreDifferenceLevels[i];
@@ -94,7 +94,11 @@ public class DefaultPartitionedSearchPhaseFactory<Solution_>
         }
     }
 
-    protected Integer resolveActiveThreadCount(String runnablePartThreadLimit) {
+    /**
+     * @param runnablePartThreadLimit sometimes null
+     * @return null if unlimited, otherwise at least 1
+     */
+    public Integer resolveActiveThreadCount(String runnablePartThreadLimit) {
         int availableProcessorCount = getAvailableProcessors();
         Integer resolvedActiveThreadCount;
         final boolean threadLimitNullOrAuto =
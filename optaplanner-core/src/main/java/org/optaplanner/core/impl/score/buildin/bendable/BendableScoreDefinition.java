@@ -69,6 +69,16 @@ public class BendableScoreDefinition extends AbstractBendableScoreDefinition<Ben
         return score;
     }
 
+    @Override
+    public void subtractToLevelDoubles(BendableScore minuend, BendableScore subtrahend, double[] levelDoubles) {
+        for (int i = 0; i < hardLevelsSize; i++) {
+            levelDoubles[i] = minuend.getHardScore(i) - subtrahend.getHardScore(i);
+        }
+        for (int i = 0; i < softLevelsSize; i++) {
+            levelDoubles[hardLevelsSize + i] = minuend.getSoftScore(i) - subtrahend.getSoftScore(i);
+        }
+    }
+
     @Override
     public BendableScore fromLevelNumbers(int initScore, Number[] levelNumbers) {
         if (levelNumbers.length != getLevelsSize()) {
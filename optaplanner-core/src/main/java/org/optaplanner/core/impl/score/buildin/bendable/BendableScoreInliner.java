@@ -62,7 +62,6 @@ public class BendableScoreInliner extends ScoreInliner<BendableScore> {
                         matchScoreConsumer
                                 .accept(BendableScore.ofHard(hardScores.length, softScores.length, level, hardImpact));
                     }
-                    return () -> this.hardScores[level] -= hardImpact;
                 };
             } else {
                 int level = singleLevel - constraintWeight.getHardLevelsSize();
@@ -73,34 +72,30 @@ public class BendableScoreInliner extends ScoreInliner<BendableScore> {
                         matchScoreConsumer
                                 .accept(BendableScore.ofSoft(hardScores.length, softScores.length, level, softImpact));
                     }
-                    return () -> {
-                        this.softScores[level] -= softImpact;
-                    };
                 };
             }
         } else {
+            int[] hardConstraintWeights = constraintWeight.getHardScores();
+            int[] softConstraintWeights = constraintWeight.getSoftScores();
             return (int matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
-                int[] hardImpacts = new int[hardScores.length];
-                int[] softImpacts = new int[softScores.length];
-                for (int i = 0; i < hardImpacts.length; i++) {
-                    hardImpacts[i] = constraintWeight.getHardScore(i) * matchWeight;
-                    this.hardScores[i] += hardImpacts[i];
+                // Accumulate in place, so only a constraint match needs arrays for its match score
+                for (int i = 0; i < hardConstraintWeights.length; i++) {
+                    this.hardScores[i] += hardConstraintWeights[i] * matchWeight;
                 }
-                for (int i = 0; i < softImpacts.length; i++) {
-                    softImpacts[i] = constraintWeight.getSoftScore(i) * matchWeight;
-                    this.softScores[i] += softImpacts[i];
+                for (int i = 0; i < softConstraintWeights.length; i++) {
+                    this.softScores[i] += softConstraintWeights[i] * matchWeight;
                 }
                 if (constraintMatchEnabled) {
-                    matchScoreConsumer.accept(BendableScore.of(hardImpacts, softImpacts));
-                }
-                return () -> {
+                    int[] hardImpacts = new int[hardConstraintWeights.length];
                     for (int i = 0; i < hardImpacts.length; i++) {
-                        this.hardScores[i] -= hardImpacts[i];
+                        hardImpacts[i] = hardConstraintWeights[i] * matchWeight;
                     }
+                    int[] softImpacts = new int[softConstraintWeights.length];
                     for (int i = 0; i < softImpacts.length; i++) {
-                        this.softScores[i] -= softImpacts[i];
+                        softImpacts[i] = softConstraintWeights[i] * matchWeight;
                     }
-                };
+                    matchScoreConsumer.accept(BendableScore.of(hardImpacts, softImpacts));
+                }
             };
         }
     }
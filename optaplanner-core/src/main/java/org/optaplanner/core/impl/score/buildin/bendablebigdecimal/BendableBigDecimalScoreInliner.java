@@ -65,7 +65,6 @@ public class BendableBigDecimalScoreInliner extends ScoreInliner<BendableBigDeci
                         matchScoreConsumer.accept(
                                 BendableBigDecimalScore.ofHard(hardScores.length, softScores.length, level, hardImpact));
                     }
-                    return () -> this.hardScores[level] = this.hardScores[level].subtract(hardImpact);
                 };
             } else {
                 int level = singleLevel - constraintWeight.getHardLevelsSize();
@@ -76,7 +75,6 @@ public class BendableBigDecimalScoreInliner extends ScoreInliner<BendableBigDeci
                         matchScoreConsumer.accept(
                                 BendableBigDecimalScore.ofSoft(hardScores.length, softScores.length, level, softImpact));
                     }
-                    return () -> this.softScores[level] = this.softScores[level].subtract(softImpact);
                 };
             }
         } else {
@@ -94,14 +92,6 @@ public class BendableBigDecimalScoreInliner extends ScoreInliner<BendableBigDeci
                 if (constraintMatchEnabled) {
                     matchScoreConsumer.accept(BendableBigDecimalScore.of(hardImpacts, softImpacts));
                 }
-                return () -> {
-                    for (int i = 0; i < hardImpacts.length; i++) {
-                        this.hardScores[i] = this.hardScores[i].subtract(hardImpacts[i]);
-                    }
-                    for (int i = 0; i < softImpacts.length; i++) {
-                        this.softScores[i] = this.softScores[i].subtract(softImpacts[i]);
-                    }
-                };
             };
         }
     }
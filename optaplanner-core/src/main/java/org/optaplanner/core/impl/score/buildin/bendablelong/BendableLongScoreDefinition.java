@@ -69,6 +69,16 @@ public class BendableLongScoreDefinition extends AbstractBendableScoreDefinition
         return score;
     }
 
+    @Override
+    public void subtractToLevelDoubles(BendableLongScore minuend, BendableLongScore subtrahend, double[] levelDoubles) {
+        for (int i = 0; i < hardLevelsSize; i++) {
+            levelDoubles[i] = minuend.getHardScore(i) - subtrahend.getHardScore(i);
+        }
+        for (int i = 0; i < softLevelsSize; i++) {
+            levelDoubles[hardLevelsSize + i] = minuend.getSoftScore(i) - subtrahend.getSoftScore(i);
+        }
+    }
+
     @Override
     public BendableLongScore fromLevelNumbers(int initScore, Number[] levelNumbers) {
         if (levelNumbers.length != getLevelsSize()) {
@@ -62,7 +62,6 @@ public class BendableLongScoreInliner extends ScoreInliner<BendableLongScore> {
                         matchScoreConsumer
                                 .accept(BendableLongScore.ofHard(hardScores.length, softScores.length, level, hardImpact));
                     }
-                    return () -> this.hardScores[level] -= hardImpact;
                 };
             } else {
                 int level = singleLevel - constraintWeight.getHardLevelsSize();
@@ -73,32 +72,30 @@ public class BendableLongScoreInliner extends ScoreInliner<BendableLongScore> {
                         matchScoreConsumer
                                 .accept(BendableLongScore.ofSoft(hardScores.length, softScores.length, level, softImpact));
                     }
-                    return () -> this.softScores[level] -= softImpact;
                 };
             }
         } else {
+            long[] hardConstraintWeights = constraintWeight.getHardScores();
+            long[] softConstraintWeights = constraintWeight.getSoftScores();
             return (long matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
-                long[] hardImpacts = new long[hardScores.length];
-                long[] softImpacts = new long[softScores.length];
-                for (int i = 0; i < hardImpacts.length; i++) {
-                    hardImpacts[i] = constraintWeight.getHardScore(i) * matchWeight;
-                    this.hardScores[i] += hardImpacts[i];
+                // Accumulate in place, so only a constraint match needs arrays for its match score
+                for (int i = 0; i < hardConstraintWeights.length; i++) {
+                    this.hardScores[i] += hardConstraintWeights[i] * matchWeight;
                 }
-                for (int i = 0; i < softImpacts.length; i++) {
-                    softImpacts[i] = constraintWeight.getSoftScore(i) * matchWeight;
-                    this.softScores[i] += softImpacts[i];
+                for (int i = 0; i < softConstraintWeights.length; i++) {
+                    this.softScores[i] += softConstraintWeights[i] * matchWeight;
                 }
                 if (constraintMatchEnabled) {
-                    matchScoreConsumer.accept(BendableLongScore.of(hardImpacts, softImpacts));
-                }
-                return () -> {
+                    long[] hardImpacts = new long[hardConstraintWeights.length];
                     for (int i = 0; i < hardImpacts.length; i++) {
-                        this.hardScores[i] -= hardImpacts[i];
+                        hardImpacts[i] = hardConstraintWeights[i] * matchWeight;
                     }
+                    long[] softImpacts = new long[softConstraintWeights.length];
                     for (int i = 0; i < softImpacts.length; i++) {
-                        this.softScores[i] -= softImpacts[i];
+                        softImpacts[i] = softConstraintWeights[i] * matchWeight;
                     }
-                };
+                    matchScoreConsumer.accept(BendableLongScore.of(hardImpacts, softImpacts));
+                }
             };
         }
     }
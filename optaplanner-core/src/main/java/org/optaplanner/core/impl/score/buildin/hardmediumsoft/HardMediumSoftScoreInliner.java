@@ -49,7 +49,6 @@ public class HardMediumSoftScoreInliner extends ScoreInliner<HardMediumSoftScore
                 if (constraintMatchEnabled) {
                     matchScoreConsumer.accept(HardMediumSoftScore.ofHard(hardImpact));
                 }
-                return () -> this.hardScore -= hardImpact;
             };
         } else if (hardConstraintWeight == 0 && softConstraintWeight == 0) {
             return (int matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
@@ -58,7 +57,6 @@ public class HardMediumSoftScoreInliner extends ScoreInliner<HardMediumSoftScore
                 if (constraintMatchEnabled) {
                     matchScoreConsumer.accept(HardMediumSoftScore.ofMedium(mediumImpact));
                 }
-                return () -> this.mediumScore -= mediumImpact;
             };
         } else if (hardConstraintWeight == 0 && mediumConstraintWeight == 0) {
             return (int matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
@@ -67,7 +65,6 @@ public class HardMediumSoftScoreInliner extends ScoreInliner<HardMediumSoftScore
                 if (constraintMatchEnabled) {
                     matchScoreConsumer.accept(HardMediumSoftScore.ofSoft(softImpact));
                 }
-                return () -> this.softScore -= softImpact;
             };
         } else {
             return (int matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
@@ -80,11 +77,6 @@ public class HardMediumSoftScoreInliner extends ScoreInliner<HardMediumSoftScore
                 if (constraintMatchEnabled) {
                     matchScoreConsumer.accept(HardMediumSoftScore.of(hardImpact, mediumImpact, softImpact));
                 }
-                return () -> {
-                    this.hardScore -= hardImpact;
-                    this.mediumScore -= mediumImpact;
-                    this.softScore -= softImpact;
-                };
             };
         }
     }
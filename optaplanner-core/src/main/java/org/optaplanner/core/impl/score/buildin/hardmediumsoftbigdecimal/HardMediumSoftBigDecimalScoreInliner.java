@@ -50,7 +50,6 @@ public class HardMediumSoftBigDecimalScoreInliner extends ScoreInliner<HardMediu
                 if (constraintMatchEnabled) {
                     matchScoreConsumer.accept(HardMediumSoftBigDecimalScore.ofHard(hardImpact));
                 }
-                return () -> this.hardScore = this.hardScore.subtract(hardImpact);
             };
         } else if (hardConstraintWeight.equals(BigDecimal.ZERO) && softConstraintWeight.equals(BigDecimal.ZERO)) {
             return (BigDecimal matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
@@ -59,7 +58,6 @@ public class HardMediumSoftBigDecimalScoreInliner extends ScoreInliner<HardMediu
                 if (constraintMatchEnabled) {
                     matchScoreConsumer.accept(HardMediumSoftBigDecimalScore.ofMedium(mediumImpact));
                 }
-                return () -> this.mediumScore = this.mediumScore.subtract(mediumImpact);
             };
         } else if (hardConstraintWeight.equals(BigDecimal.ZERO) && mediumConstraintWeight.equals(BigDecimal.ZERO)) {
             return (BigDecimal matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
@@ -68,7 +66,6 @@ public class HardMediumSoftBigDecimalScoreInliner extends ScoreInliner<HardMediu
                 if (constraintMatchEnabled) {
                     matchScoreConsumer.accept(HardMediumSoftBigDecimalScore.ofSoft(softImpact));
                 }
-                return () -> this.softScore = this.softScore.subtract(softImpact);
             };
         } else {
             return (BigDecimal matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
@@ -81,11 +78,6 @@ public class HardMediumSoftBigDecimalScoreInliner extends ScoreInliner<HardMediu
                 if (constraintMatchEnabled) {
                     matchScoreConsumer.accept(HardMediumSoftBigDecimalScore.of(hardImpact, mediumImpact, softImpact));
                 }
-                return () -> {
-                    this.hardScore = this.hardScore.subtract(hardImpact);
-                    this.mediumScore = this.mediumScore.subtract(mediumImpact);
-                    this.softScore = this.softScore.subtract(softImpact);
-                };
             };
         }
     }
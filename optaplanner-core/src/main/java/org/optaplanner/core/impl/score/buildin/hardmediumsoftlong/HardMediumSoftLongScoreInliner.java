@@ -49,7 +49,6 @@ public class HardMediumSoftLongScoreInliner extends ScoreInliner<HardMediumSoftL
                 if (constraintMatchEnabled) {
                     matchScoreConsumer.accept(HardMediumSoftLongScore.ofHard(hardImpact));
                 }
-                return () -> this.hardScore -= hardImpact;
             };
         } else if (hardConstraintWeight == 0L && softConstraintWeight == 0L) {
             return (long matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
@@ -58,7 +57,6 @@ public class HardMediumSoftLongScoreInliner extends ScoreInliner<HardMediumSoftL
                 if (constraintMatchEnabled) {
                     matchScoreConsumer.accept(HardMediumSoftLongScore.ofMedium(mediumImpact));
                 }
-                return () -> this.mediumScore -= mediumImpact;
             };
         } else if (hardConstraintWeight == 0L && mediumConstraintWeight == 0L) {
             return (long matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
@@ -67,7 +65,6 @@ public class HardMediumSoftLongScoreInliner extends ScoreInliner<HardMediumSoftL
                 if (constraintMatchEnabled) {
                     matchScoreConsumer.accept(HardMediumSoftLongScore.ofSoft(softImpact));
                 }
-                return () -> this.softScore -= softImpact;
             };
         } else {
             return (long matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
@@ -80,11 +77,6 @@ public class HardMediumSoftLongScoreInliner extends ScoreInliner<HardMediumSoftL
                 if (constraintMatchEnabled) {
                     matchScoreConsumer.accept(HardMediumSoftLongScore.of(hardImpact, mediumImpact, softImpact));
                 }
-                return () -> {
-                    this.hardScore -= hardImpact;
-                    this.mediumScore -= mediumImpact;
-                    this.softScore -= softImpact;
-                };
             };
         }
     }
@@ -47,7 +47,6 @@ public class HardSoftScoreInliner extends ScoreInliner<HardSoftScore> {
                 if (constraintMatchEnabled) {
                     matchScoreConsumer.accept(HardSoftScore.ofHard(hardImpact));
                 }
-                return () -> this.hardScore -= hardImpact;
             };
         } else if (hardConstraintWeight == 0) {
             return (int matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
@@ -56,7 +55,6 @@ public class HardSoftScoreInliner extends ScoreInliner<HardSoftScore> {
                 if (constraintMatchEnabled) {
                     matchScoreConsumer.accept(HardSoftScore.ofSoft(softImpact));
                 }
-                return () -> this.softScore -= softImpact;
             };
         } else {
             return (int matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
@@ -67,10 +65,6 @@ public class HardSoftScoreInliner extends ScoreInliner<HardSoftScore> {
                 if (constraintMatchEnabled) {
                     matchScoreConsumer.accept(HardSoftScore.of(hardImpact, softImpact));
                 }
-                return () -> {
-                    this.hardScore -= hardImpact;
-                    this.softScore -= softImpact;
-                };
             };
         }
     }
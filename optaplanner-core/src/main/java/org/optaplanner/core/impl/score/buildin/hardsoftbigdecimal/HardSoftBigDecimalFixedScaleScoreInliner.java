@@ -0,0 +1,166 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.buildin.hardsoftbigdecimal;
+
+import java.math.BigDecimal;
+import java.util.function.Consumer;
+
+import org.optaplanner.core.api.domain.solution.PlanningScore;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.buildin.hardsoftbigdecimal.HardSoftBigDecimalScore;
+import org.optaplanner.core.impl.score.inliner.BigDecimalWeightedScoreImpacter;
+import org.optaplanner.core.impl.score.inliner.ScoreInliner;
+
+/**
+ * Calculates a {@link HardSoftBigDecimalScore} with scaled longs instead of {@link BigDecimal} arithmetic:
+ * every score level is kept as a long multiplied by 10^scale.
+ * A {@link BigDecimal} is only created when a {@link Score} is extracted, for example for a constraint match.
+ *
+ * @see PlanningScore#bigDecimalScale()
+ */
+public class HardSoftBigDecimalFixedScaleScoreInliner extends ScoreInliner<HardSoftBigDecimalScore> {
+
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        POWERS_OF_TEN[0] = 1L;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10L;
+        }
+    }
+
+    protected final int scale;
+
+    protected long scaledHardScore = 0L;
+    protected long scaledSoftScore = 0L;
+
+    protected HardSoftBigDecimalFixedScaleScoreInliner(boolean constraintMatchEnabled, int scale) {
+        super(constraintMatchEnabled);
+        if (scale < 0) {
+            throw new IllegalArgumentException("The scale (" + scale + ") must be 0 or higher.");
+        }
+        this.scale = scale;
+    }
+
+    @Override
+    public BigDecimalWeightedScoreImpacter buildWeightedScoreImpacter(HardSoftBigDecimalScore constraintWeight) {
+        if (constraintWeight.equals(HardSoftBigDecimalScore.ZERO)) {
+            throw new IllegalArgumentException("The constraintWeight (" + constraintWeight + ") cannot be zero,"
+                    + " this constraint should have been culled during node creation.");
+        }
+        BigDecimal hardConstraintWeight = constraintWeight.getHardScore();
+        BigDecimal softConstraintWeight = constraintWeight.getSoftScore();
+        long scaledHardConstraintWeight = toScaledConstraintWeight(constraintWeight, hardConstraintWeight);
+        long scaledSoftConstraintWeight = toScaledConstraintWeight(constraintWeight, softConstraintWeight);
+        if (scaledSoftConstraintWeight == 0L) {
+            return (BigDecimal matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
+                long hardImpact = multiply(scaledHardConstraintWeight, hardConstraintWeight, matchWeight);
+                this.scaledHardScore = add(this.scaledHardScore, hardImpact);
+                if (constraintMatchEnabled) {
+                    matchScoreConsumer.accept(HardSoftBigDecimalScore.ofHard(BigDecimal.valueOf(hardImpact, scale)));
+                }
+            };
+        } else if (scaledHardConstraintWeight == 0L) {
+            return (BigDecimal matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
+                long softImpact = multiply(scaledSoftConstraintWeight, softConstraintWeight, matchWeight);
+                this.scaledSoftScore = add(this.scaledSoftScore, softImpact);
+                if (constraintMatchEnabled) {
+                    matchScoreConsumer.accept(HardSoftBigDecimalScore.ofSoft(BigDecimal.valueOf(softImpact, scale)));
+                }
+            };
+        } else {
+            return (BigDecimal matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
+                long hardImpact = multiply(scaledHardConstraintWeight, hardConstraintWeight, matchWeight);
+                long softImpact = multiply(scaledSoftConstraintWeight, softConstraintWeight, matchWeight);
+                this.scaledHardScore = add(this.scaledHardScore, hardImpact);
+                this.scaledSoftScore = add(this.scaledSoftScore, softImpact);
+                if (constraintMatchEnabled) {
+                    matchScoreConsumer.accept(HardSoftBigDecimalScore.of(
+                            BigDecimal.valueOf(hardImpact, scale), BigDecimal.valueOf(softImpact, scale)));
+                }
+            };
+        }
+    }
+
+    private long toScaledConstraintWeight(HardSoftBigDecimalScore constraintWeight, BigDecimal constraintWeightLevel) {
+        try {
+            return constraintWeightLevel.setScale(scale).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("The constraintWeight (" + constraintWeight
+                    + ") can't be represented as a long with the fixed scale (" + scale + ").\n"
+                    + "Maybe increase the " + PlanningScore.class.getSimpleName()
+                    + "'s bigDecimalScale if it needs more decimals, or decrease it if it overflows.", e);
+        }
+    }
+
+    /**
+     * @param scaledConstraintWeight the constraintWeight multiplied by 10^scale
+     * @param constraintWeight never null
+     * @param matchWeight never null
+     * @return the impact multiplied by 10^scale
+     */
+    private long multiply(long scaledConstraintWeight, BigDecimal constraintWeight, BigDecimal matchWeight) {
+        int matchWeightScale = matchWeight.scale();
+        if (matchWeightScale >= 0 && matchWeightScale < POWERS_OF_TEN.length) {
+            try {
+                // Usually the matchWeight has no more decimals than the scale, so the impact fits without rounding
+                long unscaledMatchWeight = matchWeightScale == 0 ? matchWeight.longValueExact()
+                        : matchWeight.scaleByPowerOfTen(matchWeightScale).longValueExact();
+                long product = Math.multiplyExact(scaledConstraintWeight, unscaledMatchWeight);
+                long divisor = POWERS_OF_TEN[matchWeightScale];
+                if (product % divisor == 0L) {
+                    return product / divisor;
+                }
+            } catch (ArithmeticException e) {
+                // An intermediate value overflows, so fall back to the exact BigDecimal calculation
+            }
+        }
+        BigDecimal impact = constraintWeight.multiply(matchWeight);
+        try {
+            return impact.setScale(scale).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("The impact (" + impact + ") of the matchWeight (" + matchWeight
+                    + ") with the constraintWeight (" + constraintWeight
+                    + ") can't be represented as a long with the fixed scale (" + scale + ").\n"
+                    + "Maybe increase the " + PlanningScore.class.getSimpleName()
+                    + "'s bigDecimalScale if it needs more decimals, or decrease it if it overflows.", e);
+        }
+    }
+
+    private long add(long scaledScore, long impact) {
+        try {
+            return Math.addExact(scaledScore, impact);
+        } catch (ArithmeticException e) {
+            throw new IllegalStateException("The score level (" + BigDecimal.valueOf(scaledScore, scale)
+                    + ") overflows a long with the fixed scale (" + scale
+                    + ") when adding the impact (" + BigDecimal.valueOf(impact, scale) + ").\n"
+                    + "Maybe decrease the " + PlanningScore.class.getSimpleName() + "'s bigDecimalScale.", e);
+        }
+    }
+
+    @Override
+    public HardSoftBigDecimalScore extractScore(int initScore) {
+        return HardSoftBigDecimalScore.ofUninitialized(initScore,
+                BigDecimal.valueOf(scaledHardScore, scale), BigDecimal.valueOf(scaledSoftScore, scale));
+    }
+
+    @Override
+    public String toString() {
+        return HardSoftBigDecimalScore.class.getSimpleName() + " inliner with fixed scale " + scale;
+    }
+
+}
@@ -21,12 +21,29 @@ import java.util.Arrays;
 
 import org.optaplanner.core.api.score.buildin.hardsoftbigdecimal.HardSoftBigDecimalScore;
 import org.optaplanner.core.impl.score.definition.AbstractScoreDefinition;
+import org.optaplanner.core.impl.score.inliner.ScoreInliner;
 import org.optaplanner.core.impl.score.trend.InitializingScoreTrend;
 
 public class HardSoftBigDecimalScoreDefinition extends AbstractScoreDefinition<HardSoftBigDecimalScore> {
 
+    /** Negative if the score is calculated with {@link BigDecimal} arithmetic. */
+    private final int fixedScale;
+
     public HardSoftBigDecimalScoreDefinition() {
+        this(-1);
+    }
+
+    /**
+     * @param fixedScale 0 or higher to let {@link #buildScoreInliner(boolean)} calculate with scaled longs,
+     *        negative to calculate with {@link BigDecimal} arithmetic
+     */
+    public HardSoftBigDecimalScoreDefinition(int fixedScale) {
         super(new String[] { "hard score", "soft score" });
+        this.fixedScale = fixedScale;
+    }
+
+    public int getFixedScale() {
+        return fixedScale;
     }
 
     // ************************************************************************
@@ -73,7 +90,10 @@ public class HardSoftBigDecimalScoreDefinition extends AbstractScoreDefinition<H
     }
 
     @Override
-    public HardSoftBigDecimalScoreInliner buildScoreInliner(boolean constraintMatchEnabled) {
+    public ScoreInliner<HardSoftBigDecimalScore> buildScoreInliner(boolean constraintMatchEnabled) {
+        if (fixedScale >= 0) {
+            return new HardSoftBigDecimalFixedScaleScoreInliner(constraintMatchEnabled, fixedScale);
+        }
         return new HardSoftBigDecimalScoreInliner(constraintMatchEnabled);
     }
 
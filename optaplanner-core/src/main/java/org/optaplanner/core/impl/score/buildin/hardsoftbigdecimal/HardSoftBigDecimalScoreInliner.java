@@ -48,7 +48,6 @@ public class HardSoftBigDecimalScoreInliner extends ScoreInliner<HardSoftBigDeci
                 if (constraintMatchEnabled) {
                     matchScoreConsumer.accept(HardSoftBigDecimalScore.ofHard(hardImpact));
                 }
-                return () -> this.hardScore = this.hardScore.subtract(hardImpact);
             };
         } else if (hardConstraintWeight.equals(BigDecimal.ZERO)) {
             return (BigDecimal matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
@@ -57,7 +56,6 @@ public class HardSoftBigDecimalScoreInliner extends ScoreInliner<HardSoftBigDeci
                 if (constraintMatchEnabled) {
                     matchScoreConsumer.accept(HardSoftBigDecimalScore.ofSoft(softImpact));
                 }
-                return () -> this.softScore = this.softScore.subtract(softImpact);
             };
         } else {
             return (BigDecimal matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
@@ -68,10 +66,6 @@ public class HardSoftBigDecimalScoreInliner extends ScoreInliner<HardSoftBigDeci
                 if (constraintMatchEnabled) {
                     matchScoreConsumer.accept(HardSoftBigDecimalScore.of(hardImpact, softImpact));
                 }
-                return () -> {
-                    this.hardScore = this.hardScore.subtract(hardImpact);
-                    this.softScore = this.softScore.subtract(softImpact);
-                };
             };
         }
     }
@@ -47,7 +47,6 @@ public class HardSoftLongScoreInliner extends ScoreInliner<HardSoftLongScore> {
                 if (constraintMatchEnabled) {
                     matchScoreConsumer.accept(HardSoftLongScore.ofHard(hardImpact));
                 }
-                return () -> this.hardScore -= hardImpact;
             };
         } else if (hardConstraintWeight == 0L) {
             return (long matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
@@ -56,7 +55,6 @@ public class HardSoftLongScoreInliner extends ScoreInliner<HardSoftLongScore> {
                 if (constraintMatchEnabled) {
                     matchScoreConsumer.accept(HardSoftLongScore.ofSoft(softImpact));
                 }
-                return () -> this.softScore -= softImpact;
             };
         } else {
             return (long matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
@@ -67,10 +65,6 @@ public class HardSoftLongScoreInliner extends ScoreInliner<HardSoftLongScore> {
                 if (constraintMatchEnabled) {
                     matchScoreConsumer.accept(HardSoftLongScore.of(hardImpact, softImpact));
                 }
-                return () -> {
-                    this.hardScore -= hardImpact;
-                    this.softScore -= softImpact;
-                };
             };
         }
     }
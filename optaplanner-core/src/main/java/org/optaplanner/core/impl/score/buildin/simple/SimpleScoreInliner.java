@@ -44,7 +44,6 @@ public class SimpleScoreInliner extends ScoreInliner<SimpleScore> {
             if (constraintMatchEnabled) {
                 matchScoreConsumer.accept(SimpleScore.of(impact));
             }
-            return () -> this.score -= impact;
         };
     }
 
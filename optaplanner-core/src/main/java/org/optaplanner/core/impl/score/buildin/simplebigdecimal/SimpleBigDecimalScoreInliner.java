@@ -45,7 +45,6 @@ public class SimpleBigDecimalScoreInliner extends ScoreInliner<SimpleBigDecimalS
             if (constraintMatchEnabled) {
                 matchScoreConsumer.accept(SimpleBigDecimalScore.of(impact));
             }
-            return () -> this.score = this.score.subtract(impact);
         };
     }
 
@@ -44,7 +44,6 @@ public class SimpleLongScoreInliner extends ScoreInliner<SimpleLongScore> {
             if (constraintMatchEnabled) {
                 matchScoreConsumer.accept(SimpleLongScore.of(impact));
             }
-            return () -> this.score -= impact;
         };
     }
 
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.constraint;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * The score calculation cost of 1 constraint, since the working solution was set.
+ * Immutable snapshot.
+ *
+ * @see InnerScoreDirector#getConstraintProfileMap()
+ */
+public final class ConstraintProfile {
+
+    /**
+     * @param constraintPackage never null
+     * @param constraintName never null
+     * @param counterList never null, the counters of every part of the constraint, such as a node or a rule
+     * @return never null
+     */
+    public static ConstraintProfile of(String constraintPackage, String constraintName,
+            List<ConstraintProfileCounter> counterList) {
+        long evaluationCount = 0L;
+        long createdTupleCount = 0L;
+        long retractedTupleCount = 0L;
+        long timeNanosSpent = 0L;
+        long allocatedBytes = 0L;
+        for (ConstraintProfileCounter counter : counterList) {
+            evaluationCount += counter.getEvaluationCount();
+            createdTupleCount += counter.getCreatedTupleCount();
+            retractedTupleCount += counter.getRetractedTupleCount();
+            timeNanosSpent += counter.getTimeNanosSpent();
+            allocatedBytes += counter.getAllocatedBytes();
+        }
+        if (!ConstraintProfileCounter.isAllocationTracked()) {
+            allocatedBytes = -1L;
+        }
+        return new ConstraintProfile(constraintPackage, constraintName,
+                evaluationCount, createdTupleCount, retractedTupleCount, timeNanosSpent, allocatedBytes);
+    }
+
+    private final String constraintPackage;
+    private final String constraintName;
+    private final long evaluationCount;
+    private final long createdTupleCount;
+    private final long retractedTupleCount;
+    private final long timeNanosSpent;
+    private final long allocatedBytes;
+
+    public ConstraintProfile(String constraintPackage, String constraintName, long evaluationCount,
+            long createdTupleCount, long retractedTupleCount, long timeNanosSpent, long allocatedBytes) {
+        this.constraintPackage = requireNonNull(constraintPackage);
+        this.constraintName = requireNonNull(constraintName);
+        this.evaluationCount = evaluationCount;
+        this.createdTupleCount = createdTupleCount;
+        this.retractedTupleCount = retractedTupleCount;
+        this.timeNanosSpent = timeNanosSpent;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    public String getConstraintPackage() {
+        return constraintPackage;
+    }
+
+    public String getConstraintName() {
+        return constraintName;
+    }
+
+    public String getConstraintId() {
+        return ConstraintMatchTotal.composeConstraintId(constraintPackage, constraintName);
+    }
+
+    /**
+     * @return the number of node refreshes for constraint streams, the number of rule firings for Drools
+     */
+    public long getEvaluationCount() {
+        return evaluationCount;
+    }
+
+    /**
+     * @return the number of created tuples for constraint streams, the number of created matches for Drools
+     */
+    public long getCreatedTupleCount() {
+        return createdTupleCount;
+    }
+
+    /**
+     * @return the number of retracted tuples for constraint streams, the number of cancelled matches for Drools
+     */
+    public long getRetractedTupleCount() {
+        return retractedTupleCount;
+    }
+
+    /**
+     * @return the time spent in the node refreshes for constraint streams,
+     *         in the rule consequences (but not in the rule conditions) for Drools
+     */
+    public long getTimeNanosSpent() {
+        return timeNanosSpent;
+    }
+
+    public long getTimeMillisSpent() {
+        return timeNanosSpent / 1_000_000L;
+    }
+
+    /**
+     * @return the heap memory allocated during {@link #getTimeNanosSpent()},
+     *         -1 if the JVM doesn't support measuring the allocated memory of a thread
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    @Override
+    public String toString() {
+        return getConstraintId() + " (" + evaluationCount + " evaluations, "
+                + createdTupleCount + " created, " + retractedTupleCount + " retracted, "
+                + getTimeMillisSpent() + " ms" + (allocatedBytes < 0L ? "" : ", " + allocatedBytes + " bytes") + ")";
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.constraint;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Accumulates the score calculation cost of 1 part of a constraint session, such as a node or a rule.
+ * Every {@link #start()} must be followed by a {@link #stop()} on the same thread.
+ * <p>
+ * An instance of this class must be used in only one thread.
+ *
+ * @see ConstraintProfile
+ */
+public final class ConstraintProfileCounter {
+
+    /** Null if the JVM can't measure the allocated memory of the current thread. */
+    private static final ThreadMXBean ALLOCATION_THREAD_MX_BEAN = findAllocationThreadMXBean();
+
+    private static ThreadMXBean findAllocationThreadMXBean() {
+        try {
+            ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+            if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean castedThreadMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+                if (castedThreadMXBean.isThreadAllocatedMemorySupported()
+                        && castedThreadMXBean.isThreadAllocatedMemoryEnabled()) {
+                    return threadMXBean;
+                }
+            }
+        } catch (LinkageError | SecurityException e) {
+            // Not a HotSpot or OpenJ9 JVM, or not allowed, so don't track the allocated memory
+        }
+        return null;
+    }
+
+    public static boolean isAllocationTracked() {
+        return ALLOCATION_THREAD_MX_BEAN != null;
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        if (ALLOCATION_THREAD_MX_BEAN == null) {
+            return 0L;
+        }
+        return ((com.sun.management.ThreadMXBean) ALLOCATION_THREAD_MX_BEAN)
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private long evaluationCount = 0L;
+    private long createdTupleCount = 0L;
+    private long retractedTupleCount = 0L;
+    private long timeNanosSpent = 0L;
+    private long allocatedBytes = 0L;
+
+    private long startTimeNanos;
+    private long startAllocatedBytes;
+
+    public void start() {
+        startAllocatedBytes = currentThreadAllocatedBytes();
+        startTimeNanos = System.nanoTime();
+    }
+
+    public void stop() {
+        timeNanosSpent += System.nanoTime() - startTimeNanos;
+        allocatedBytes += currentThreadAllocatedBytes() - startAllocatedBytes;
+    }
+
+    public void incrementEvaluationCount() {
+        evaluationCount++;
+    }
+
+    public void incrementCreatedTupleCount() {
+        createdTupleCount++;
+    }
+
+    public void incrementRetractedTupleCount() {
+        retractedTupleCount++;
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    public long getEvaluationCount() {
+        return evaluationCount;
+    }
+
+    public long getCreatedTupleCount() {
+        return createdTupleCount;
+    }
+
+    public long getRetractedTupleCount() {
+        return retractedTupleCount;
+    }
+
+    public long getTimeNanosSpent() {
+        return timeNanosSpent;
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+}
@@ -108,6 +108,22 @@ public interface ScoreDefinition<Score_ extends Score<Score_>> {
         return score.compareTo(getZeroScore()) <= 0;
     }
 
+    /**
+     * Writes the difference of 2 scores in levelDoubles, as if calling
+     * {@code ScoreUtils.extractLevelDoubles(minuend.subtract(subtrahend))}.
+     * Called for every evaluated move by some acceptors,
+     * so a {@link Score} implementation with array based levels should override it to avoid allocating.
+     * @param minuend never null
+     * @param subtrahend never null
+     * @param levelDoubles never null, its length must be {@link #getLevelsSize()}
+     */
+    default void subtractToLevelDoubles(Score_ minuend, Score_ subtrahend, double[] levelDoubles) {
+        Number[] levelNumbers = minuend.subtract(subtrahend).toLevelNumbers();
+        for (int i = 0; i < levelNumbers.length; i++) {
+            levelDoubles[i] = levelNumbers[i].doubleValue();
+        }
+    }
+
     /**
      * Returns a {@link String} representation of the {@link Score}.
      *
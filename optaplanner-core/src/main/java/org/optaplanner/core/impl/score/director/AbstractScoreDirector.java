@@ -45,13 +45,16 @@ import org.optaplanner.core.config.util.ConfigUtils;
 import org.optaplanner.core.impl.domain.common.accessor.MemberAccessor;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.lookup.ClassAndPlanningIdComparator;
+import org.optaplanner.core.impl.domain.lookup.CloneLookUpManager;
 import org.optaplanner.core.impl.domain.lookup.LookUpManager;
+import org.optaplanner.core.impl.domain.solution.cloner.FieldAccessingSolutionCloner;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.ShadowVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.listener.support.VariableListenerSupport;
 import org.optaplanner.core.impl.domain.variable.supply.SupplyManager;
 import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.score.constraint.ConstraintProfile;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.solver.thread.ChildThreadType;
 import org.slf4j.Logger;
@@ -76,8 +79,10 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
     private final Map<Class, MemberAccessor> planningIdAccessorCacheMap = new HashMap<>(0);
     protected final Factory_ scoreDirectorFactory;
     protected final boolean lookUpEnabled;
-    protected final LookUpManager lookUpManager;
+    /** Not final, because a move thread's score director replaces it with a {@link CloneLookUpManager}. */
+    protected LookUpManager lookUpManager;
     protected boolean constraintMatchEnabledPreference;
+    protected boolean constraintProfilingEnabledPreference = false;
     protected final VariableListenerSupport<Solution_> variableListenerSupport;
 
     protected Solution_ workingSolution;
@@ -128,6 +133,23 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         this.constraintMatchEnabledPreference = constraintMatchEnabledPreference;
     }
 
+    @Override
+    public void overwriteConstraintProfilingEnabledPreference(boolean constraintProfilingEnabledPreference) {
+        this.constraintProfilingEnabledPreference = constraintProfilingEnabledPreference;
+    }
+
+    @Override
+    public boolean isConstraintProfilingEnabled() {
+        return false;
+    }
+
+    @Override
+    public Map<String, ConstraintProfile> getConstraintProfileMap() {
+        throw new IllegalStateException("The scoreDirector (" + getClass().getSimpleName()
+                + ") doesn't support constraint profiling.\n"
+                + "Maybe use Constraint Streams or Drools score calculation.");
+    }
+
     @Override
     public Solution_ getWorkingSolution() {
         return workingSolution;
@@ -246,34 +268,38 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     @Override
     public Solution_ cloneSolution(Solution_ originalSolution) {
+        Solution_ cloneSolution = getSolutionDescriptor().getSolutionCloner().cloneSolution(originalSolution);
+        if (scoreDirectorFactory.isAssertClonedSolution()) {
+            assertClonedSolution(originalSolution, cloneSolution);
+        }
+        return cloneSolution;
+    }
+
+    private void assertClonedSolution(Solution_ originalSolution, Solution_ cloneSolution) {
         SolutionDescriptor<Solution_> solutionDescriptor = getSolutionDescriptor();
         Score_ originalScore = (Score_) solutionDescriptor.getScore(originalSolution);
-        Solution_ cloneSolution = solutionDescriptor.getSolutionCloner().cloneSolution(originalSolution);
         Score_ cloneScore = (Score_) solutionDescriptor.getScore(cloneSolution);
-        if (scoreDirectorFactory.isAssertClonedSolution()) {
-            if (!Objects.equals(originalScore, cloneScore)) {
+        if (!Objects.equals(originalScore, cloneScore)) {
+            throw new IllegalStateException("Cloning corruption: "
+                    + "the original's score (" + originalScore
+                    + ") is different from the clone's score (" + cloneScore + ").\n"
+                    + "Check the " + SolutionCloner.class.getSimpleName() + ".");
+        }
+        List<Object> originalEntityList = solutionDescriptor.getEntityList(originalSolution);
+        Map<Object, Object> originalEntityMap = new IdentityHashMap<>(originalEntityList.size());
+        for (Object originalEntity : originalEntityList) {
+            originalEntityMap.put(originalEntity, null);
+        }
+        for (Object cloneEntity : solutionDescriptor.getEntityList(cloneSolution)) {
+            if (originalEntityMap.containsKey(cloneEntity)) {
                 throw new IllegalStateException("Cloning corruption: "
-                        + "the original's score (" + originalScore
-                        + ") is different from the clone's score (" + cloneScore + ").\n"
+                        + "the same entity (" + cloneEntity
+                        + ") is present in both the original and the clone.\n"
+                        + "So when a planning variable in the original solution changes, "
+                        + "the cloned solution will change too.\n"
                         + "Check the " + SolutionCloner.class.getSimpleName() + ".");
             }
-            List<Object> originalEntityList = solutionDescriptor.getEntityList(originalSolution);
-            Map<Object, Object> originalEntityMap = new IdentityHashMap<>(originalEntityList.size());
-            for (Object originalEntity : originalEntityList) {
-                originalEntityMap.put(originalEntity, null);
-            }
-            for (Object cloneEntity : solutionDescriptor.getEntityList(cloneSolution)) {
-                if (originalEntityMap.containsKey(cloneEntity)) {
-                    throw new IllegalStateException("Cloning corruption: "
-                            + "the same entity (" + cloneEntity
-                            + ") is present in both the original and the clone.\n"
-                            + "So when a planning variable in the original solution changes, "
-                            + "the cloned solution will change too.\n"
-                            + "Check the " + SolutionCloner.class.getSimpleName() + ".");
-                }
-            }
         }
-        return cloneSolution;
     }
 
     @Override
@@ -328,7 +354,25 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
             AbstractScoreDirector<Solution_, Score_, Factory_> childThreadScoreDirector =
                     (AbstractScoreDirector<Solution_, Score_, Factory_>) scoreDirectorFactory
                             .buildScoreDirector(true, constraintMatchEnabledPreference);
-            childThreadScoreDirector.setWorkingSolution(cloneWorkingSolution());
+            SolutionCloner<Solution_> solutionCloner = getSolutionDescriptor().getSolutionCloner();
+            if (solutionCloner instanceof FieldAccessingSolutionCloner) {
+                // The planning clone only copies the solution, the planning entities and the deep cloned objects,
+                // so the move thread shares the problem facts (and their collections) with this thread.
+                // It only looks up those cloned objects, instead of indexing every problem fact again.
+                FieldAccessingSolutionCloner<Solution_> fieldAccessingSolutionCloner =
+                        (FieldAccessingSolutionCloner<Solution_>) solutionCloner;
+                Map<Object, Object> originalToCloneMap =
+                        new IdentityHashMap<>(getSolutionDescriptor().getEntityCount(workingSolution) + 1);
+                Solution_ cloneSolution = fieldAccessingSolutionCloner.cloneSolution(workingSolution, originalToCloneMap);
+                if (scoreDirectorFactory.isAssertClonedSolution()) {
+                    assertClonedSolution(workingSolution, cloneSolution);
+                }
+                childThreadScoreDirector.lookUpManager =
+                        new CloneLookUpManager(fieldAccessingSolutionCloner, originalToCloneMap);
+                childThreadScoreDirector.setWorkingSolution(cloneSolution);
+            } else {
+                childThreadScoreDirector.setWorkingSolution(cloneWorkingSolution());
+            }
             return childThreadScoreDirector;
         } else {
             throw new IllegalStateException("The childThreadType (" + childThreadType + ") is not implemented.");
@@ -36,6 +36,7 @@ import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.supply.SupplyManager;
 import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.score.constraint.ConstraintProfile;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.solver.thread.ChildThreadType;
 
@@ -107,6 +108,30 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
      */
     void overwriteConstraintMatchEnabledPreference(boolean constraintMatchEnabledPreference);
 
+    /**
+     * @return true if {@link #getConstraintProfileMap()} can be called
+     */
+    boolean isConstraintProfilingEnabled();
+
+    /**
+     * Measures the score calculation cost of each {@link Constraint} (or score rule),
+     * to find the constraints that dominate the score calculation time.
+     * Only the score calculations of this {@link ScoreDirector} are included,
+     * so not those of the move threads of multithreaded solving.
+     *
+     * @return never null, the key is the {@link ConstraintProfile#getConstraintId() constraintId}
+     * @throws IllegalStateException if {@link #isConstraintProfilingEnabled()} returns false
+     */
+    Map<String, ConstraintProfile> getConstraintProfileMap();
+
+    /**
+     * Takes effect when the next working solution is set.
+     *
+     * @param constraintProfilingEnabledPreference true if a {@link ScoreDirector} implementation
+     *        should profile the score calculation cost of each {@link Constraint}, if it supports it.
+     */
+    void overwriteConstraintProfilingEnabledPreference(boolean constraintProfilingEnabledPreference);
+
     /**
      * @return used to check {@link #isWorkingEntityListDirty(long)} later on
      */
@@ -49,12 +49,51 @@ import org.optaplanner.core.impl.score.director.drools.DroolsScoreDirectorFactor
 import org.optaplanner.core.impl.score.director.drools.testgen.TestGenDroolsScoreDirectorFactory;
 import org.optaplanner.core.impl.score.director.easy.EasyScoreDirectorFactory;
 import org.optaplanner.core.impl.score.director.incremental.IncrementalScoreDirectorFactory;
+import org.optaplanner.core.impl.score.director.stream.ConstraintSessionFactoryCache;
 import org.optaplanner.core.impl.score.director.stream.ConstraintStreamScoreDirectorFactory;
 import org.optaplanner.core.impl.score.trend.InitializingScoreTrend;
 
 public class ScoreDirectorFactoryFactory<Solution_, Score_ extends Score<Score_>> {
 
     private static final String GENERATE_DROOLS_TEST_ON_ERROR_PROPERTY_NAME = "optaplanner.drools.generateTestOnError";
+    private static final String CONSTRAINT_SESSION_FACTORY_CACHE_PROPERTY_NAME =
+            "optaplanner.constraintStreams.sessionFactoryCache";
+    private static final ConstraintSessionFactoryCache CONSTRAINT_SESSION_FACTORY_CACHE =
+            new ConstraintSessionFactoryCache();
+    private static volatile boolean constraintSessionFactoryCacheForced = false;
+
+    /**
+     * Enables the {@link ConstraintSessionFactoryCache} for every score director factory built afterwards
+     * in this JVM, regardless of the system property {@code optaplanner.constraintStreams.sessionFactoryCache},
+     * until {@link #disableConstraintSessionFactoryCache()} is called.
+     * <p>
+     * Used by integrations that build the constraints ahead of time,
+     * such as the Quarkus extension during static init, which is part of the image build of a native executable.
+     */
+    public static void enableConstraintSessionFactoryCache() {
+        constraintSessionFactoryCacheForced = true;
+    }
+
+    /**
+     * Reverts {@link #enableConstraintSessionFactoryCache()} and empties the {@link ConstraintSessionFactoryCache},
+     * so the cached constraints no longer keep their constraint provider classes (and their class loader) reachable.
+     * <p>
+     * Called when the application that enabled it shuts down, so another application (or test) in the same JVM
+     * doesn't inherit it.
+     */
+    public static void disableConstraintSessionFactoryCache() {
+        constraintSessionFactoryCacheForced = false;
+        CONSTRAINT_SESSION_FACTORY_CACHE.clear();
+    }
+
+    /**
+     * For tests and diagnostics, such as to check that the constraints were built ahead of time.
+     *
+     * @return never null, the cache used while the {@link ConstraintSessionFactoryCache} is enabled
+     */
+    public static ConstraintSessionFactoryCache getConstraintSessionFactoryCache() {
+        return CONSTRAINT_SESSION_FACTORY_CACHE;
+    }
 
     private final ScoreDirectorFactoryConfig config;
 
@@ -97,7 +136,7 @@ public class ScoreDirectorFactoryFactory<Solution_, Score_ extends Score<Score_>
         EasyScoreDirectorFactory<Solution_, Score_> easyScoreDirectorFactory =
                 buildEasyScoreDirectorFactory(solutionDescriptor);
         ConstraintStreamScoreDirectorFactory<Solution_, Score_> constraintStreamScoreDirectorFactory =
-                buildConstraintStreamScoreDirectorFactory(solutionDescriptor);
+                buildConstraintStreamScoreDirectorFactory(classLoader, solutionDescriptor);
         IncrementalScoreDirectorFactory<Solution_, Score_> incrementalScoreDirectorFactory =
                 buildIncrementalScoreDirectorFactory(solutionDescriptor);
         DroolsScoreDirectorFactory<Solution_, Score_> droolsScoreDirectorFactory = buildDroolsScoreDirectorFactory(
@@ -184,20 +223,23 @@ public class ScoreDirectorFactoryFactory<Solution_, Score_ extends Score<Score_>
     }
 
     protected ConstraintStreamScoreDirectorFactory<Solution_, Score_> buildConstraintStreamScoreDirectorFactory(
-            SolutionDescriptor<Solution_> solutionDescriptor) {
+            ClassLoader classLoader, SolutionDescriptor<Solution_> solutionDescriptor) {
         if (config.getConstraintProviderClass() != null) {
             if (!ConstraintProvider.class.isAssignableFrom(config.getConstraintProviderClass())) {
                 throw new IllegalArgumentException(
                         "The constraintProviderClass (" + config.getConstraintProviderClass()
                                 + ") does not implement " + ConstraintProvider.class.getSimpleName() + ".");
             }
-            ConstraintProvider constraintProvider = ConfigUtils.newInstance(config,
-                    "constraintProviderClass", config.getConstraintProviderClass());
-            ConfigUtils.applyCustomProperties(constraintProvider, "constraintProviderClass",
-                    config.getConstraintProviderCustomProperties(), "constraintProviderCustomProperties");
             ConstraintStreamImplType constraintStreamImplType_ = defaultIfNull(config.getConstraintStreamImplType(),
                     ConstraintStreamImplType.DROOLS);
-            return new ConstraintStreamScoreDirectorFactory<>(solutionDescriptor, constraintProvider,
+            boolean sessionFactoryCacheEnabled = constraintSessionFactoryCacheForced
+                    || Boolean.parseBoolean(System.getProperty(CONSTRAINT_SESSION_FACTORY_CACHE_PROPERTY_NAME, "false"));
+            if (sessionFactoryCacheEnabled) {
+                return CONSTRAINT_SESSION_FACTORY_CACHE.buildScoreDirectorFactory(classLoader, solutionDescriptor,
+                        config.getConstraintProviderClass(), config.getConstraintProviderCustomProperties(),
+                        constraintStreamImplType_, this::buildConstraintProvider);
+            }
+            return new ConstraintStreamScoreDirectorFactory<>(solutionDescriptor, buildConstraintProvider(),
                     constraintStreamImplType_);
         } else {
             if (config.getConstraintProviderCustomProperties() != null) {
@@ -209,6 +251,14 @@ public class ScoreDirectorFactoryFactory<Solution_, Score_ extends Score<Score_>
         }
     }
 
+    private ConstraintProvider buildConstraintProvider() {
+        ConstraintProvider constraintProvider = ConfigUtils.newInstance(config,
+                "constraintProviderClass", config.getConstraintProviderClass());
+        ConfigUtils.applyCustomProperties(constraintProvider, "constraintProviderClass",
+                config.getConstraintProviderCustomProperties(), "constraintProviderCustomProperties");
+        return constraintProvider;
+    }
+
     protected IncrementalScoreDirectorFactory<Solution_, Score_> buildIncrementalScoreDirectorFactory(
             SolutionDescriptor<Solution_> solutionDescriptor) {
         if (config.getIncrementalScoreCalculatorClass() != null) {
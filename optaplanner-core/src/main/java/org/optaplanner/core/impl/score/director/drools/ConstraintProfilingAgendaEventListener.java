@@ -0,0 +1,83 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.director.drools;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.kie.api.definition.rule.Rule;
+import org.kie.api.event.rule.AfterMatchFiredEvent;
+import org.kie.api.event.rule.BeforeMatchFiredEvent;
+import org.kie.api.event.rule.DefaultAgendaEventListener;
+import org.kie.api.event.rule.MatchCancelledEvent;
+import org.kie.api.event.rule.MatchCreatedEvent;
+import org.optaplanner.core.impl.score.constraint.ConstraintProfile;
+import org.optaplanner.core.impl.score.constraint.ConstraintProfileCounter;
+
+/**
+ * Profiles the score calculation cost of each rule, for {@link DroolsScoreDirector}
+ * and the Drools implementation of Constraint Streams.
+ * The agenda doesn't expose the evaluation of the rule conditions in the Rete network,
+ * so only the rule consequences are timed.
+ * <p>
+ * An instance of this class must be used in only one thread.
+ */
+public final class ConstraintProfilingAgendaEventListener extends DefaultAgendaEventListener {
+
+    private final Map<Rule, ConstraintProfileCounter> ruleToCounterMap = new LinkedHashMap<>();
+
+    private ConstraintProfileCounter retrieveCounter(Rule rule) {
+        return ruleToCounterMap.computeIfAbsent(rule, k -> new ConstraintProfileCounter());
+    }
+
+    @Override
+    public void matchCreated(MatchCreatedEvent event) {
+        retrieveCounter(event.getMatch().getRule()).incrementCreatedTupleCount();
+    }
+
+    @Override
+    public void matchCancelled(MatchCancelledEvent event) {
+        retrieveCounter(event.getMatch().getRule()).incrementRetractedTupleCount();
+    }
+
+    @Override
+    public void beforeMatchFired(BeforeMatchFiredEvent event) {
+        ConstraintProfileCounter counter = retrieveCounter(event.getMatch().getRule());
+        counter.incrementEvaluationCount();
+        counter.start();
+    }
+
+    @Override
+    public void afterMatchFired(AfterMatchFiredEvent event) {
+        retrieveCounter(event.getMatch().getRule()).stop();
+    }
+
+    /**
+     * @return never null, only contains the rules that had at least 1 match
+     */
+    public Map<String, ConstraintProfile> buildConstraintProfileMap() {
+        Map<String, ConstraintProfile> constraintProfileMap = new LinkedHashMap<>(ruleToCounterMap.size());
+        ruleToCounterMap.forEach((rule, counter) -> {
+            ConstraintProfile constraintProfile = ConstraintProfile.of(rule.getPackageName(), rule.getName(),
+                    Collections.singletonList(counter));
+            constraintProfileMap.put(constraintProfile.getConstraintId(), constraintProfile);
+        });
+        return constraintProfileMap;
+    }
+
+}
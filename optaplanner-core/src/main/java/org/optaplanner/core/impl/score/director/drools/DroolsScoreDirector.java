@@ -17,9 +17,17 @@
 package org.optaplanner.core.impl.score.director.drools;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Function;
 
+import org.drools.core.common.InternalWorkingMemoryActions;
+import org.drools.core.impl.InternalKnowledgeBase;
+import org.drools.core.reteoo.PropertySpecificUtil;
+import org.drools.core.rule.TypeDeclaration;
+import org.drools.core.util.bitmask.AllSetBitMask;
+import org.drools.core.util.bitmask.BitMask;
 import org.kie.api.definition.rule.Rule;
 import org.kie.api.runtime.KieSession;
 import org.kie.api.runtime.rule.FactHandle;
@@ -29,6 +37,7 @@ import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
 import org.optaplanner.core.api.score.constraint.Indictment;
 import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.score.constraint.ConstraintProfile;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
 import org.optaplanner.core.impl.score.director.AbstractScoreDirector;
@@ -49,6 +58,13 @@ public class DroolsScoreDirector<Solution_, Score_ extends Score<Score_>>
 
     protected KieSession kieSession;
     protected AbstractScoreHolder<Score_> scoreHolder;
+    /**
+     * The modified property mask of every genuine variable, so an update doesn't recalculate it from its name.
+     * Every kieSession of the {@link DroolsScoreDirectorFactory} shares the same KieBase, so it survives a reset.
+     */
+    private final Map<VariableDescriptor<Solution_>, BitMask> variableMaskMap = new HashMap<>();
+    /** Null if constraint profiling is disabled. */
+    private ConstraintProfilingAgendaEventListener constraintProfilingListener = null;
 
     public DroolsScoreDirector(DroolsScoreDirectorFactory<Solution_, Score_> scoreDirectorFactory,
             boolean lookUpEnabled, boolean constraintMatchEnabledPreference) {
@@ -75,6 +91,12 @@ public class DroolsScoreDirector<Solution_, Score_ extends Score<Score_>>
         }
         kieSession = scoreDirectorFactory.newKieSession();
         ((RuleEventManager) kieSession).addEventListener(new OptaPlannerRuleEventListener());
+        if (constraintProfilingEnabledPreference) {
+            constraintProfilingListener = new ConstraintProfilingAgendaEventListener();
+            kieSession.addEventListener(constraintProfilingListener);
+        } else {
+            constraintProfilingListener = null;
+        }
         resetScoreHolder();
         // TODO Adjust when uninitialized entities from getWorkingFacts get added automatically too (and call afterEntityAdded)
         Collection<Object> workingFacts = getWorkingFacts();
@@ -123,6 +145,24 @@ public class DroolsScoreDirector<Solution_, Score_ extends Score<Score_>>
         return scoreHolder.getConstraintMatchTotalMap();
     }
 
+    @Override
+    public boolean isConstraintProfilingEnabled() {
+        return constraintProfilingListener != null;
+    }
+
+    @Override
+    public Map<String, ConstraintProfile> getConstraintProfileMap() {
+        if (workingSolution == null) {
+            throw new IllegalStateException(
+                    "The method setWorkingSolution() must be called before the method getConstraintProfileMap().");
+        }
+        if (constraintProfilingListener == null) {
+            throw new IllegalStateException("When constraintProfilingEnabled (false) is disabled"
+                    + " before the method setWorkingSolution(), this method should not be called.");
+        }
+        return constraintProfilingListener.buildConstraintProfileMap();
+    }
+
     @Override
     public Map<Object, Indictment<Score_>> getIndictmentMap() {
         if (workingSolution == null) {
@@ -172,11 +212,11 @@ public class DroolsScoreDirector<Solution_, Score_ extends Score<Score_>>
 
     @Override
     public void afterVariableChanged(VariableDescriptor variableDescriptor, Object entity) {
-        update(entity, variableDescriptor.getVariableName());
+        update(entity, variableDescriptor);
         super.afterVariableChanged(variableDescriptor, entity);
     }
 
-    private void update(Object entity, String variableName) {
+    private void update(Object entity, VariableDescriptor<Solution_> variableDescriptor) {
         FactHandle factHandle = kieSession.getFactHandle(entity);
         if (factHandle == null) {
             throw new IllegalArgumentException("The entity (" + entity
@@ -185,7 +225,32 @@ public class DroolsScoreDirector<Solution_, Score_ extends Score<Score_>>
                     + PlanningSolution.class.getSimpleName() + "'s entity members ("
                     + getSolutionDescriptor().getEntityMemberAndEntityCollectionMemberNames() + ").");
         }
-        kieSession.update(factHandle, entity, variableName);
+        Class<?> entityClass = entity.getClass();
+        BitMask mask;
+        if (entityClass == variableDescriptor.getEntityDescriptor().getEntityClass()) {
+            mask = variableMaskMap.computeIfAbsent(variableDescriptor,
+                    descriptor -> calculateMask(entityClass, descriptor.getVariableName()));
+        } else {
+            // A subclass can have other accessible properties, so its mask isn't cached
+            mask = calculateMask(entityClass, variableDescriptor.getVariableName());
+        }
+        // Equivalent to kieSession.update(factHandle, entity, variableName), without recalculating the mask
+        ((InternalWorkingMemoryActions) kieSession).update(factHandle, entity, mask, entityClass, null);
+    }
+
+    /**
+     * Only alpha and beta nodes that constrain the variable are reevaluated,
+     * if the entity class is property reactive.
+     * Otherwise, every node on the entity class is reevaluated, just like without a mask.
+     */
+    private BitMask calculateMask(Class<?> entityClass, String variableName) {
+        TypeDeclaration typeDeclaration = ((InternalKnowledgeBase) kieSession.getKieBase())
+                .getOrCreateExactTypeDeclaration(entityClass);
+        if (!typeDeclaration.isPropertyReactive()) {
+            return AllSetBitMask.get();
+        }
+        return PropertySpecificUtil.calculatePositiveMask(entityClass, Collections.singletonList(variableName),
+                typeDeclaration.getAccessibleProperties());
     }
 
     // public void beforeEntityRemoved(EntityDescriptor entityDescriptor, Object entity) // Do nothing
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.director.stream;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import org.optaplanner.core.api.domain.common.DomainAccessType;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.stream.ConstraintProvider;
+import org.optaplanner.core.api.score.stream.ConstraintStreamImplType;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.score.stream.ConstraintSessionFactory;
+
+/**
+ * Shares the defined constraints and their {@link ConstraintSessionFactory}
+ * between every {@link ConstraintStreamScoreDirectorFactory} with the same constraint provider and domain configuration,
+ * so building another solver doesn't define the constraints and build the Drools KieBase again.
+ * <p>
+ * The key holds the constraintProviderClass, its custom properties, the constraintStreamImplType,
+ * the class loader, the solution and entity classes and the {@link DomainAccessType}.
+ * A constraintProviderClass is instantiated with its custom properties only,
+ * so every solver with the same key defines the same constraints.
+ * The domainAccessType is part of the key, because the constraints capture member accessors of the domain,
+ * such as the planning id getter of {@link org.optaplanner.core.api.score.stream.ConstraintFactory#fromUniquePair}.
+ * <p>
+ * The cached constraints hold the lambdas of their constraint provider,
+ * so they can't be written to disk and they keep those classes (and their class loader) reachable.
+ * Therefore, this is opt-in and the cache only evicts when it is {@link #clear() cleared}.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class ConstraintSessionFactoryCache {
+
+    private final ConcurrentMap<List<Object>, ConstraintStreamScoreDirectorFactory<?, ?>> templateMap =
+            new ConcurrentHashMap<>();
+
+    /**
+     * @param classLoader sometimes null, the class loader that the solver config uses
+     * @param solutionDescriptor never null
+     * @param constraintProviderClass never null
+     * @param constraintProviderCustomProperties sometimes null
+     * @param constraintStreamImplType never null
+     * @param constraintProviderSupplier never null, only called on a cache miss
+     * @param <Solution_> the solution type
+     * @param <Score_> the score type
+     * @return never null, a new instance that shares its constraints with every other instance with the same key
+     */
+    public <Solution_, Score_ extends Score<Score_>> ConstraintStreamScoreDirectorFactory<Solution_, Score_>
+            buildScoreDirectorFactory(ClassLoader classLoader, SolutionDescriptor<Solution_> solutionDescriptor,
+                    Class<? extends ConstraintProvider> constraintProviderClass,
+                    Map<String, String> constraintProviderCustomProperties,
+                    ConstraintStreamImplType constraintStreamImplType,
+                    Supplier<ConstraintProvider> constraintProviderSupplier) {
+        List<Object> key = Arrays.asList(constraintProviderClass,
+                constraintProviderCustomProperties == null ? null : new TreeMap<>(constraintProviderCustomProperties),
+                constraintStreamImplType,
+                classLoader,
+                solutionDescriptor.getSolutionClass(),
+                new HashSet<>(solutionDescriptor.getEntityClassSet()),
+                solutionDescriptor.getDomainAccessType());
+        ConstraintStreamScoreDirectorFactory<Solution_, Score_> template =
+                (ConstraintStreamScoreDirectorFactory<Solution_, Score_>) templateMap.computeIfAbsent(key,
+                        k -> new ConstraintStreamScoreDirectorFactory<>(solutionDescriptor,
+                                constraintProviderSupplier.get(), constraintStreamImplType));
+        // The template itself isn't returned, because the caller configures the instance it receives
+        return new ConstraintStreamScoreDirectorFactory<>(solutionDescriptor, template);
+    }
+
+    /**
+     * Removes every cached constraint session factory.
+     * The score director factories built before keep working.
+     */
+    public void clear() {
+        templateMap.clear();
+    }
+
+    /**
+     * @return at least 0
+     */
+    public int size() {
+        return templateMap.size();
+    }
+
+}
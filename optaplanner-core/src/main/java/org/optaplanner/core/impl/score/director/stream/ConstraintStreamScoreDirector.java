@@ -17,7 +17,10 @@
 package org.optaplanner.core.impl.score.director.stream;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.Set;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
@@ -26,6 +29,7 @@ import org.optaplanner.core.api.score.constraint.Indictment;
 import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.score.constraint.ConstraintProfile;
 import org.optaplanner.core.impl.score.director.AbstractScoreDirector;
 import org.optaplanner.core.impl.score.stream.ConstraintSession;
 
@@ -61,10 +65,15 @@ public class ConstraintStreamScoreDirector<Solution_, Score_ extends Score<Score
         if (session != null) {
             session.close();
         }
-        session = scoreDirectorFactory.newConstraintStreamingSession(constraintMatchEnabledPreference, workingSolution);
+        session = scoreDirectorFactory.newConstraintStreamingSession(constraintMatchEnabledPreference,
+                constraintProfilingEnabledPreference, workingSolution);
         Collection<Object> workingFacts = getSolutionDescriptor().getAllFacts(workingSolution);
+        // The same instance can be in the working solution more than once, but it's only 1 fact
+        Set<Object> insertedFactSet = Collections.newSetFromMap(new IdentityHashMap<>(workingFacts.size()));
         for (Object fact : workingFacts) {
-            session.insert(fact);
+            if (insertedFactSet.add(fact)) {
+                session.insert(fact);
+            }
         }
     }
 
@@ -99,6 +108,20 @@ public class ConstraintStreamScoreDirector<Solution_, Score_ extends Score<Score
         return session.getIndictmentMap();
     }
 
+    @Override
+    public boolean isConstraintProfilingEnabled() {
+        return constraintProfilingEnabledPreference;
+    }
+
+    @Override
+    public Map<String, ConstraintProfile> getConstraintProfileMap() {
+        if (workingSolution == null) {
+            throw new IllegalStateException(
+                    "The method setWorkingSolution() must be called before the method getConstraintProfileMap().");
+        }
+        return session.getConstraintProfileMap();
+    }
+
     @Override
     public void close() {
         super.close();
@@ -77,6 +77,21 @@ public class ConstraintStreamScoreDirectorFactory<Solution_, Score_ extends Scor
                 (ConstraintSessionFactory<Solution_, Score_>) constraintFactory.buildSessionFactory(constraints);
     }
 
+    /**
+     * Shares the constraints and the {@link ConstraintSessionFactory} of another instance,
+     * instead of defining the constraints and building the session factory again.
+     *
+     * @param solutionDescriptor never null, for the same domain classes as the template
+     * @param template never null
+     * @see ConstraintSessionFactoryCache
+     */
+    public ConstraintStreamScoreDirectorFactory(SolutionDescriptor<Solution_> solutionDescriptor,
+            ConstraintStreamScoreDirectorFactory<Solution_, Score_> template) {
+        super(solutionDescriptor);
+        this.constraints = template.constraints;
+        this.constraintSessionFactory = template.constraintSessionFactory;
+    }
+
     // ************************************************************************
     // Complex methods
     // ************************************************************************
@@ -89,7 +104,13 @@ public class ConstraintStreamScoreDirectorFactory<Solution_, Score_ extends Scor
 
     public ConstraintSession<Solution_, Score_> newConstraintStreamingSession(boolean constraintMatchEnabled,
             Solution_ workingSolution) {
-        return constraintSessionFactory.buildSession(constraintMatchEnabled, workingSolution);
+        return newConstraintStreamingSession(constraintMatchEnabled, false, workingSolution);
+    }
+
+    public ConstraintSession<Solution_, Score_> newConstraintStreamingSession(boolean constraintMatchEnabled,
+            boolean constraintProfilingEnabled, Solution_ workingSolution) {
+        return constraintSessionFactory.buildSession(constraintMatchEnabled, constraintProfilingEnabled,
+                workingSolution);
     }
 
     // ************************************************************************
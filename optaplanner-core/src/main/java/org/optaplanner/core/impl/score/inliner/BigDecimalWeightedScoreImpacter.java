@@ -28,8 +28,18 @@ public interface BigDecimalWeightedScoreImpacter extends WeightedScoreImpacter {
     /**
      * @param matchWeight never null
      * @param scoreConsumer null if {@link InnerScoreDirector#isConstraintMatchEnabled()} is false
-     * @return never null
      */
-    UndoScoreImpacter impactScore(BigDecimal matchWeight, Consumer<Score<?>> scoreConsumer);
+    void impactScore(BigDecimal matchWeight, Consumer<Score<?>> scoreConsumer);
+
+    /**
+     * Reverts an earlier {@link #impactScore(BigDecimal, Consumer)} call with the same matchWeight.
+     * The caller keeps that matchWeight, so an impact doesn't need to allocate an undo object.
+     * <p>
+     * Negating the matchWeight reverts the impact exactly, because BigDecimal multiplication doesn't round.
+     * @param matchWeight never null, the same matchWeight as the impact to revert
+     */
+    default void undoScoreImpact(BigDecimal matchWeight) {
+        impactScore(matchWeight.negate(), IGNORING_MATCH_SCORE_CONSUMER);
+    }
 
 }
@@ -27,8 +27,19 @@ public interface IntWeightedScoreImpacter extends WeightedScoreImpacter {
     /**
      * @param matchWeight never null
      * @param matchScoreConsumer null if {@link InnerScoreDirector#isConstraintMatchEnabled()} is false
-     * @return never null
      */
-    UndoScoreImpacter impactScore(int matchWeight, Consumer<Score<?>> matchScoreConsumer);
+    void impactScore(int matchWeight, Consumer<Score<?>> matchScoreConsumer);
+
+    /**
+     * Reverts an earlier {@link #impactScore(int, Consumer)} call with the same matchWeight.
+     * The caller keeps that matchWeight, so an impact doesn't need to allocate an undo object.
+     * <p>
+     * Negating the matchWeight reverts the impact exactly, even if the original impact overflowed,
+     * because int multiplication and addition wrap around.
+     * @param matchWeight the same matchWeight as the impact to revert
+     */
+    default void undoScoreImpact(int matchWeight) {
+        impactScore(-matchWeight, IGNORING_MATCH_SCORE_CONSUMER);
+    }
 
 }
@@ -27,8 +27,19 @@ public interface LongWeightedScoreImpacter extends WeightedScoreImpacter {
     /**
      * @param matchWeight never null
      * @param scoreConsumer null if {@link InnerScoreDirector#isConstraintMatchEnabled()} is false
-     * @return never null
      */
-    UndoScoreImpacter impactScore(long matchWeight, Consumer<Score<?>> scoreConsumer);
+    void impactScore(long matchWeight, Consumer<Score<?>> scoreConsumer);
+
+    /**
+     * Reverts an earlier {@link #impactScore(long, Consumer)} call with the same matchWeight.
+     * The caller keeps that matchWeight, so an impact doesn't need to allocate an undo object.
+     * <p>
+     * Negating the matchWeight reverts the impact exactly, even if the original impact overflowed,
+     * because long multiplication and addition wrap around.
+     * @param matchWeight the same matchWeight as the impact to revert
+     */
+    default void undoScoreImpact(long matchWeight) {
+        impactScore(-matchWeight, IGNORING_MATCH_SCORE_CONSUMER);
+    }
 
 }
@@ -16,6 +16,17 @@
 
 package org.optaplanner.core.impl.score.inliner;
 
+import java.util.function.Consumer;
+
+import org.optaplanner.core.api.score.Score;
+
 public interface WeightedScoreImpacter {
 
+    /**
+     * Receives the match score of an undone impact, which is ignored
+     * because the caller removes the constraint match of the original impact itself.
+     */
+    Consumer<Score<?>> IGNORING_MATCH_SCORE_CONSUMER = matchScore -> {
+    };
+
 }
@@ -21,6 +21,7 @@ import java.util.Map;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
 import org.optaplanner.core.api.score.constraint.Indictment;
+import org.optaplanner.core.impl.score.constraint.ConstraintProfile;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 
 /**
@@ -50,6 +51,14 @@ public interface ConstraintSession<Solution_, Score_ extends Score<Score_>> exte
      */
     Map<Object, Indictment<Score_>> getIndictmentMap();
 
+    /**
+     * As defined by {@link InnerScoreDirector#getConstraintProfileMap()}.
+     *
+     * @return never null
+     * @throws IllegalStateException if the session wasn't built with constraint profiling enabled
+     */
+    Map<String, ConstraintProfile> getConstraintProfileMap();
+
     @Override
     void close();
 
@@ -19,7 +19,9 @@ package org.optaplanner.core.impl.score.stream;
 import static java.util.stream.Collectors.toList;
 import static org.optaplanner.core.api.score.stream.Joiners.lessThan;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
@@ -39,6 +41,9 @@ import org.optaplanner.core.impl.score.stream.bi.FilteringBiJoiner;
 
 public abstract class InnerConstraintFactory<Solution_> implements ConstraintFactory {
 
+    /** Reusing the same getter instance per class allows node sharing in Bavet. */
+    private final Map<Class<?>, Function<?, Comparable>> planningIdGetterMap = new HashMap<>();
+
     // ************************************************************************
     // from
     // ************************************************************************
@@ -56,15 +61,8 @@ public abstract class InnerConstraintFactory<Solution_> implements ConstraintFac
 
     @Override
     public <A> BiConstraintStream<A, A> fromUniquePair(Class<A> fromClass, BiJoiner<A, A> joiner) {
-        MemberAccessor planningIdMemberAccessor =
-                ConfigUtils.findPlanningIdMemberAccessor(fromClass, getSolutionDescriptor().getDomainAccessType());
-        if (planningIdMemberAccessor == null) {
-            throw new IllegalArgumentException("The fromClass (" + fromClass + ") has no member with a @"
-                    + PlanningId.class.getSimpleName() + " annotation,"
-                    + " so the pairs cannot be made unique ([A,B] vs [B,A]).");
-        }
-        // TODO In Bavet breaks node sharing + involves unneeded indirection
-        Function<A, Comparable> planningIdGetter = fact -> (Comparable<?>) planningIdMemberAccessor.executeGetter(fact);
+        Function<A, Comparable> planningIdGetter = (Function<A, Comparable>) planningIdGetterMap.computeIfAbsent(
+                fromClass, key -> buildPlanningIdGetter(fromClass));
         // Joiner.filtering() must come last, yet Bavet requires that Joiner.lessThan() be last. This is a workaround.
         if (joiner instanceof FilteringBiJoiner) {
             BiPredicate<A, A> filter = ((FilteringBiJoiner<A, A>) joiner).getFilter();
@@ -77,6 +75,18 @@ public abstract class InnerConstraintFactory<Solution_> implements ConstraintFac
         }
     }
 
+    private <A> Function<A, Comparable> buildPlanningIdGetter(Class<A> fromClass) {
+        MemberAccessor planningIdMemberAccessor =
+                ConfigUtils.findPlanningIdMemberAccessor(fromClass, getSolutionDescriptor().getDomainAccessType());
+        if (planningIdMemberAccessor == null) {
+            throw new IllegalArgumentException("The fromClass (" + fromClass + ") has no member with a @"
+                    + PlanningId.class.getSimpleName() + " annotation,"
+                    + " so the pairs cannot be made unique ([A,B] vs [B,A]).");
+        }
+        // TODO involves unneeded indirection
+        return fact -> (Comparable<?>) planningIdMemberAccessor.executeGetter(fact);
+    }
+
     public <A> void assertValidFromType(Class<A> fromType) {
         SolutionDescriptor<Solution_> solutionDescriptor = getSolutionDescriptor();
         Set<Class<?>> problemFactOrEntityClassSet = solutionDescriptor.getProblemFactOrEntityClassSet();
@@ -47,6 +47,7 @@ public final class BavetConstraint<Solution_> extends AbstractConstraint<Solutio
     public void createNodes(BavetNodeBuildPolicy<Solution_> buildPolicy,
             Map<Class<?>, BavetFromUniNode<Object>> declaredClassToNodeMap,
             Score<?> constraintWeight) {
+        buildPolicy.setConstraint(this);
         for (BavetFromUniConstraintStream<Solution_, Object> fromStream : fromStreamList) {
             BavetFromUniNode<Object> node = fromStream.createNodeChain(buildPolicy, constraintWeight, null);
             BavetFromUniNode<Object> oldNode = declaredClassToNodeMap.putIfAbsent(fromStream.getFromClass(), node);
@@ -25,11 +25,15 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
 
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.constraint.ConstraintMatch;
 import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
 import org.optaplanner.core.api.score.constraint.Indictment;
+import org.optaplanner.core.impl.score.constraint.ConstraintProfile;
+import org.optaplanner.core.impl.score.constraint.ConstraintProfileCounter;
+import org.optaplanner.core.impl.score.constraint.DefaultConstraintMatchTotal;
 import org.optaplanner.core.impl.score.constraint.DefaultIndictment;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.score.inliner.ScoreInliner;
@@ -46,6 +50,7 @@ public final class BavetConstraintSession<Solution_, Score_ extends Score<Score_
         implements ConstraintSession<Solution_, Score_> {
 
     private final boolean constraintMatchEnabled;
+    private final boolean constraintProfilingEnabled;
     private final Score_ zeroScore;
     private final ScoreInliner<Score_> scoreInliner;
 
@@ -56,28 +61,62 @@ public final class BavetConstraintSession<Solution_, Score_ extends Score<Score_
 
     private final Map<Class<?>, List<BavetFromUniNode<Object>>> effectiveClassToNodeListMap;
 
+    /** Null if {@link #constraintMatchEnabled} is false. */
+    private final Map<String, ConstraintMatchTotal<Score_>> constraintMatchTotalMap;
+    /** Null if {@link #constraintMatchEnabled} is false. */
+    private final Map<Object, Indictment<Score_>> indictmentMap;
+    /** Null if {@link #constraintProfilingEnabled} is false. */
+    private final ConstraintProfileCounter[] nodeIndexToProfileCounterMap;
+    /** Null if {@link #constraintProfilingEnabled} is false. */
+    private final Map<BavetConstraint<Solution_>, List<ConstraintProfileCounter>> constraintToProfileCounterListMap;
+
     private final List<Queue<BavetAbstractTuple>> nodeIndexToDirtyTupleQueueMap;
-    private final Map<Object, List<BavetFromUniTuple<Object>>> fromTupleListMap;
+    private final Map<Object, BavetFromUniTuple<Object>[]> fromTuplesMap;
 
-    public BavetConstraintSession(boolean constraintMatchEnabled, ScoreDefinition<Score_> scoreDefinition,
-            Map<BavetConstraint<Solution_>, Score_> constraintToWeightMap) {
+    public BavetConstraintSession(boolean constraintMatchEnabled, boolean constraintProfilingEnabled,
+            ScoreDefinition<Score_> scoreDefinition, Map<BavetConstraint<Solution_>, Score_> constraintToWeightMap) {
         this.constraintMatchEnabled = constraintMatchEnabled;
+        this.constraintProfilingEnabled = constraintProfilingEnabled;
         zeroScore = scoreDefinition.getZeroScore();
         scoreInliner = scoreDefinition.buildScoreInliner(constraintMatchEnabled);
+        constraintMatchTotalMap = constraintMatchEnabled ? new LinkedHashMap<>(constraintToWeightMap.size()) : null;
+        // TODO Can we set the initial capacity of this map more accurately by using entitySize?
+        indictmentMap = constraintMatchEnabled ? new LinkedHashMap<>() : null;
         declaredClassToNodeMap = new HashMap<>(50);
         BavetNodeBuildPolicy<Solution_> buildPolicy = new BavetNodeBuildPolicy<>(this, constraintToWeightMap.size());
+        Map<BavetConstraint<Solution_>, Set<BavetNode>> constraintToNodeSetMap =
+                new LinkedHashMap<>(constraintToWeightMap.size());
         constraintToWeightMap.forEach((constraint, constraintWeight) -> {
             constraint.createNodes(buildPolicy, declaredClassToNodeMap, constraintWeight);
+            constraintToNodeSetMap.put(constraint, buildPolicy.pollRetrievedNodeSet());
         });
         nodeIndexedNodeMap = buildPolicy.getCreatedNodes();
         nodeCount = nodeIndexedNodeMap.size();
+        if (constraintProfilingEnabled) {
+            nodeIndexToProfileCounterMap = new ConstraintProfileCounter[nodeCount];
+            for (int i = 0; i < nodeCount; i++) {
+                nodeIndexToProfileCounterMap[i] = new ConstraintProfileCounter();
+            }
+            // A node shared by multiple constraints counts for each of those constraints
+            constraintToProfileCounterListMap = new LinkedHashMap<>(constraintToNodeSetMap.size());
+            constraintToNodeSetMap.forEach((constraint, nodeSet) -> {
+                List<ConstraintProfileCounter> counterList = new ArrayList<>(nodeSet.size());
+                for (BavetNode node : nodeSet) {
+                    counterList.add(nodeIndexToProfileCounterMap[node.getNodeIndex()]);
+                }
+                constraintToProfileCounterListMap.put(constraint, counterList);
+            });
+        } else {
+            nodeIndexToProfileCounterMap = null;
+            constraintToProfileCounterListMap = null;
+        }
         constraintIdToScoringNodeMap = buildPolicy.getConstraintIdToScoringNodeMap();
         effectiveClassToNodeListMap = new HashMap<>(declaredClassToNodeMap.size());
         nodeIndexToDirtyTupleQueueMap = new ArrayList<>(nodeCount);
         for (int i = 0; i < nodeCount; i++) {
             nodeIndexToDirtyTupleQueueMap.add(new ArrayDeque<>(1000));
         }
-        fromTupleListMap = new IdentityHashMap<>(1000);
+        fromTuplesMap = new IdentityHashMap<>(1000);
     }
 
     private static void refreshTuple(BavetAbstractTuple tuple) {
@@ -124,43 +163,49 @@ public final class BavetConstraintSession<Solution_, Score_ extends Score<Score_
     public void insert(Object fact) {
         Class<?> factClass = fact.getClass();
         List<BavetFromUniNode<Object>> fromNodeList = findFromNodeList(factClass);
-        List<BavetFromUniTuple<Object>> tupleList = new ArrayList<>(fromNodeList.size());
-        List<BavetFromUniTuple<Object>> old = fromTupleListMap.put(fact, tupleList);
+        BavetFromUniTuple<Object>[] tuples = new BavetFromUniTuple[fromNodeList.size()];
+        BavetFromUniTuple<Object>[] old = fromTuplesMap.put(fact, tuples);
         if (old != null) {
             throw new IllegalStateException("The fact (" + fact + ") was already inserted, so it cannot insert again.");
         }
-        for (BavetFromUniNode<Object> node : fromNodeList) {
-            BavetFromUniTuple<Object> tuple = node.createTuple(fact);
-            tupleList.add(tuple);
+        for (int i = 0; i < tuples.length; i++) {
+            BavetFromUniTuple<Object> tuple = fromNodeList.get(i).createTuple(fact);
+            tuples[i] = tuple;
             transitionTuple(tuple, BavetTupleState.CREATING);
         }
     }
 
     @Override
     public void update(Object fact) {
-        List<BavetFromUniTuple<Object>> tupleList = fromTupleListMap.get(fact);
-        if (tupleList == null) {
+        BavetFromUniTuple<Object>[] tuples = fromTuplesMap.get(fact);
+        if (tuples == null) {
             throw new IllegalStateException("The fact (" + fact + ") was never inserted, so it cannot update.");
         }
-        for (BavetFromUniTuple<Object> tuple : tupleList) {
+        for (BavetFromUniTuple<Object> tuple : tuples) {
             transitionTuple(tuple, BavetTupleState.UPDATING);
         }
     }
 
     @Override
     public void retract(Object fact) {
-        List<BavetFromUniTuple<Object>> tupleList = fromTupleListMap.remove(fact);
-        if (tupleList == null) {
+        BavetFromUniTuple<Object>[] tuples = fromTuplesMap.remove(fact);
+        if (tuples == null) {
             throw new IllegalStateException("The fact (" + fact + ") was never inserted, so it cannot retract.");
         }
-        for (BavetFromUniTuple<Object> tuple : tupleList) {
+        for (BavetFromUniTuple<Object> tuple : tuples) {
             transitionTuple(tuple, BavetTupleState.DYING);
         }
     }
 
+    /**
+     * @param tuple never null
+     * @param newState never null, {@link BavetTupleState#CREATING}, {@link BavetTupleState#UPDATING}
+     * or {@link BavetTupleState#DYING}
+     */
     public void transitionTuple(BavetAbstractTuple tuple, BavetTupleState newState) {
         if (tuple.isDirty()) {
-            if (tuple.getState() != newState) {
+            // A creating or dying tuple ignores an update, because its refresh covers that anyway
+            if (tuple.getState() != newState && newState != BavetTupleState.UPDATING) {
                 if ((tuple.getState() == BavetTupleState.CREATING && newState == BavetTupleState.DYING)) {
                     tuple.setState(BavetTupleState.ABORTING);
                 } else if ((tuple.getState() == BavetTupleState.UPDATING && newState == BavetTupleState.DYING)) {
@@ -182,46 +227,143 @@ public final class BavetConstraintSession<Solution_, Score_ extends Score<Score_
     public Score_ calculateScore(int initScore) {
         for (int i = 0; i < nodeCount; i++) {
             Queue<BavetAbstractTuple> queue = nodeIndexToDirtyTupleQueueMap.get(i);
-            BavetAbstractTuple tuple = queue.poll();
-            while (tuple != null) {
-                refreshTuple(tuple);
-                tuple = queue.poll();
+            if (constraintProfilingEnabled) {
+                refreshTuplesProfiled(queue, nodeIndexToProfileCounterMap[i]);
+            } else {
+                BavetAbstractTuple tuple = queue.poll();
+                while (tuple != null) {
+                    refreshTuple(tuple);
+                    tuple = queue.poll();
+                }
             }
         }
         return scoreInliner.extractScore(initScore);
     }
 
+    private static void refreshTuplesProfiled(Queue<BavetAbstractTuple> queue, ConstraintProfileCounter counter) {
+        if (queue.isEmpty()) {
+            return;
+        }
+        counter.start();
+        BavetAbstractTuple tuple = queue.poll();
+        while (tuple != null) {
+            counter.incrementEvaluationCount();
+            switch (tuple.getState()) {
+                case CREATING:
+                    counter.incrementCreatedTupleCount();
+                    break;
+                case DYING:
+                case ABORTING:
+                    counter.incrementRetractedTupleCount();
+                    break;
+                default:
+                    break;
+            }
+            refreshTuple(tuple);
+            tuple = queue.poll();
+        }
+        counter.stop();
+    }
+
+    /**
+     * Called by every {@link BavetScoringNode} during node creation.
+     * @param constraintPackage never null
+     * @param constraintName never null
+     * @param constraintWeight never null
+     * @return null if {@link #isConstraintMatchEnabled()} is false
+     */
+    public DefaultConstraintMatchTotal<Score_> registerConstraintMatchTotal(String constraintPackage,
+            String constraintName, Score_ constraintWeight) {
+        if (!constraintMatchEnabled) {
+            return null;
+        }
+        DefaultConstraintMatchTotal<Score_> constraintMatchTotal = new DefaultConstraintMatchTotal<>(
+                constraintPackage, constraintName, constraintWeight, zeroScore);
+        constraintMatchTotalMap.put(constraintMatchTotal.getConstraintId(), constraintMatchTotal);
+        return constraintMatchTotal;
+    }
+
+    /**
+     * Keeps the constraintMatchTotal and the indictments of the justifications up to date.
+     * @param constraintMatchTotal never null
+     * @param justificationList never null
+     * @param score never null
+     * @return never null, to pass to {@link #removeConstraintMatch(DefaultConstraintMatchTotal, ConstraintMatch)}
+     */
+    public ConstraintMatch<Score_> addConstraintMatch(DefaultConstraintMatchTotal<Score_> constraintMatchTotal,
+            List<Object> justificationList, Score_ score) {
+        ConstraintMatch<Score_> constraintMatch = constraintMatchTotal.addConstraintMatch(justificationList, score);
+        for (int i = 0; i < justificationList.size(); i++) {
+            Object justification = justificationList.get(i);
+            // One match might have the same justification twice
+            if (justificationList.indexOf(justification) == i) {
+                DefaultIndictment<Score_> indictment = (DefaultIndictment<Score_>) indictmentMap.computeIfAbsent(
+                        justification, k -> new DefaultIndictment<>(justification, zeroScore));
+                indictment.addConstraintMatch(constraintMatch);
+            }
+        }
+        return constraintMatch;
+    }
+
+    /**
+     * @param constraintMatchTotal never null
+     * @param constraintMatch never null
+     */
+    public void removeConstraintMatch(DefaultConstraintMatchTotal<Score_> constraintMatchTotal,
+            ConstraintMatch<Score_> constraintMatch) {
+        constraintMatchTotal.removeConstraintMatch(constraintMatch);
+        List<Object> justificationList = constraintMatch.getJustificationList();
+        for (int i = 0; i < justificationList.size(); i++) {
+            Object justification = justificationList.get(i);
+            if (justificationList.indexOf(justification) == i) {
+                DefaultIndictment<Score_> indictment = (DefaultIndictment<Score_>) indictmentMap.get(justification);
+                if (indictment == null) {
+                    throw new IllegalStateException("The justification (" + justification
+                            + ") of the constraintMatch (" + constraintMatch + ") has no indictment.\n"
+                            + "Maybe its hashCode() changed while it was a justification.");
+                }
+                indictment.removeConstraintMatch(constraintMatch);
+                if (indictment.getConstraintMatchSet().isEmpty()) {
+                    indictmentMap.remove(justification);
+                }
+            }
+        }
+    }
+
     @Override
     public Map<String, ConstraintMatchTotal<Score_>> getConstraintMatchTotalMap() {
-        Map<String, ConstraintMatchTotal<Score_>> constraintMatchTotalMap =
-                new LinkedHashMap<>(constraintIdToScoringNodeMap.size());
-        constraintIdToScoringNodeMap.forEach((constraintId, scoringNode) -> {
-            ConstraintMatchTotal<Score_> constraintMatchTotal = scoringNode.buildConstraintMatchTotal(zeroScore);
-            constraintMatchTotalMap.put(constraintId, constraintMatchTotal);
-        });
+        assertConstraintMatchEnabled();
         return constraintMatchTotalMap;
     }
 
     @Override
     public Map<Object, Indictment<Score_>> getIndictmentMap() {
-        // TODO This is temporary, inefficient code, replace it!
-        Map<Object, Indictment<Score_>> indictmentMap = new LinkedHashMap<>(); // TODO use entitySize
-        Map<String, ConstraintMatchTotal<Score_>> constraintMatchTotalMap = getConstraintMatchTotalMap();
-        for (ConstraintMatchTotal<Score_> constraintMatchTotal : constraintMatchTotalMap.values()) {
-            for (ConstraintMatch<Score_> constraintMatch : constraintMatchTotal.getConstraintMatchSet()) {
-                constraintMatch.getJustificationList().stream()
-                        .distinct() // One match might have the same justification twice
-                        .forEach(justification -> {
-                            DefaultIndictment<Score_> indictment =
-                                    (DefaultIndictment<Score_>) indictmentMap.computeIfAbsent(justification,
-                                            k -> new DefaultIndictment<>(justification, zeroScore));
-                            indictment.addConstraintMatch(constraintMatch);
-                        });
-            }
-        }
+        assertConstraintMatchEnabled();
         return indictmentMap;
     }
 
+    @Override
+    public Map<String, ConstraintProfile> getConstraintProfileMap() {
+        if (!constraintProfilingEnabled) {
+            throw new IllegalStateException("When constraintProfilingEnabled (" + constraintProfilingEnabled
+                    + ") is disabled in the constructor, this method should not be called.");
+        }
+        Map<String, ConstraintProfile> constraintProfileMap = new LinkedHashMap<>(constraintToProfileCounterListMap.size());
+        constraintToProfileCounterListMap.forEach((constraint, counterList) -> {
+            ConstraintProfile constraintProfile = ConstraintProfile.of(constraint.getConstraintPackage(),
+                    constraint.getConstraintName(), counterList);
+            constraintProfileMap.put(constraintProfile.getConstraintId(), constraintProfile);
+        });
+        return constraintProfileMap;
+    }
+
+    private void assertConstraintMatchEnabled() {
+        if (!constraintMatchEnabled) {
+            throw new IllegalStateException("When constraintMatchEnabled (" + constraintMatchEnabled
+                    + ") is disabled in the constructor, this method should not be called.");
+        }
+    }
+
     @Override
     public void close() {
     }
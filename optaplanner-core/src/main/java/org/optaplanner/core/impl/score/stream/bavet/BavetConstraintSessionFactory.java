@@ -44,7 +44,7 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
 
     @Override
     public ConstraintSession<Solution_, Score_> buildSession(boolean constraintMatchEnabled,
-            Solution_ workingSolution) {
+            boolean constraintProfilingEnabled, Solution_ workingSolution) {
         ScoreDefinition<Score_> scoreDefinition = solutionDescriptor.getScoreDefinition();
         Score_ zeroScore = scoreDefinition.getZeroScore();
         Map<BavetConstraint<Solution_>, Score_> constraintToWeightMap = new LinkedHashMap<>(constraintList.size());
@@ -54,7 +54,8 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
                 constraintToWeightMap.put(constraint, constraintWeight);
             }
         }
-        return new BavetConstraintSession<>(constraintMatchEnabled, scoreDefinition, constraintToWeightMap);
+        return new BavetConstraintSession<>(constraintMatchEnabled, constraintProfilingEnabled, scoreDefinition,
+                constraintToWeightMap);
     }
 
 }
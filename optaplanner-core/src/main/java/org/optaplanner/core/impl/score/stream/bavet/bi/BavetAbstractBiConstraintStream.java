@@ -18,12 +18,16 @@ package org.optaplanner.core.impl.score.stream.bavet.bi;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
+import java.util.function.Function;
 import java.util.function.ToIntBiFunction;
 import java.util.function.ToLongBiFunction;
 
+import org.optaplanner.core.api.function.TriPredicate;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.stream.Constraint;
 import org.optaplanner.core.api.score.stream.ConstraintFactory;
@@ -36,14 +40,20 @@ import org.optaplanner.core.api.score.stream.uni.UniConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraint;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
 import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndexFactory;
+import org.optaplanner.core.impl.score.stream.bavet.quad.BavetGroupQuadConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.tri.BavetGroupTriConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.tri.BavetJoinTriConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.uni.BavetAbstractUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetGroupUniConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetMapUniConstraintStream;
 import org.optaplanner.core.impl.score.stream.bi.InnerBiConstraintStream;
 import org.optaplanner.core.impl.score.stream.common.ScoreImpactType;
 import org.optaplanner.core.impl.score.stream.tri.AbstractTriJoiner;
+import org.optaplanner.core.impl.score.stream.tri.FilteringTriJoiner;
 
 public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends BavetAbstractConstraintStream<Solution_>
         implements InnerBiConstraintStream<A, B> {
@@ -93,14 +103,19 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
         }
         if (!(joiner instanceof AbstractTriJoiner)) {
             throw new IllegalArgumentException("The joiner class (" + joiner.getClass() + ") is not supported.");
+        } else if (joiner instanceof FilteringTriJoiner) {
+            return join(otherStream)
+                    .filter(((FilteringTriJoiner<A, B, C>) joiner).getFilter());
         }
         AbstractTriJoiner<A, B, C> castedJoiner = (AbstractTriJoiner<A, B, C>) joiner;
         BavetIndexFactory indexFactory = new BavetIndexFactory(castedJoiner);
         BavetJoinBridgeBiConstraintStream<Solution_, A, B> leftBridge = new BavetJoinBridgeBiConstraintStream<>(
-                constraintFactory, this, true, castedJoiner.getLeftCombinedMapping(), indexFactory);
+                constraintFactory, this, true, castedJoiner,
+                castedJoiner.getLeftCombinedMapping(), indexFactory);
         addChildStream(leftBridge);
         BavetJoinBridgeUniConstraintStream<Solution_, C> rightBridge = new BavetJoinBridgeUniConstraintStream<>(
-                constraintFactory, other, false, castedJoiner.getRightCombinedMapping(), indexFactory);
+                constraintFactory, other, false, castedJoiner,
+                castedJoiner.getRightCombinedMapping(), indexFactory);
         other.addChildStream(rightBridge);
         BavetJoinTriConstraintStream<Solution_, A, B, C> joinStream = new BavetJoinTriConstraintStream<>(constraintFactory,
                 leftBridge, rightBridge);
@@ -116,13 +131,50 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
     @SafeVarargs
     @Override
     public final <C> BiConstraintStream<A, B> ifExists(Class<C> otherClass, TriJoiner<A, B, C>... joiners) {
-        throw new UnsupportedOperationException();
+        return ifExistsOrNot(true, otherClass, joiners);
     }
 
     @SafeVarargs
     @Override
     public final <C> BiConstraintStream<A, B> ifNotExists(Class<C> otherClass, TriJoiner<A, B, C>... joiners) {
-        throw new UnsupportedOperationException();
+        return ifExistsOrNot(false, otherClass, joiners);
+    }
+
+    @SafeVarargs
+    private final <C> BiConstraintStream<A, B> ifExistsOrNot(boolean shouldExist, Class<C> otherClass,
+            TriJoiner<A, B, C>... joiners) {
+        constraintFactory.assertValidFromType(otherClass);
+        List<TriJoiner<A, B, C>> indexingJoinerList = new ArrayList<>(joiners.length);
+        TriPredicate<A, B, C> filter = null;
+        for (TriJoiner<A, B, C> joiner : joiners) {
+            if (joiner instanceof FilteringTriJoiner) {
+                // Merge all filters into one, to only index on the indexing joiners
+                TriPredicate<A, B, C> joinerFilter = ((FilteringTriJoiner<A, B, C>) joiner).getFilter();
+                filter = (filter == null) ? joinerFilter : filter.and(joinerFilter);
+            } else if (filter != null) {
+                throw new IllegalArgumentException("The indexing joiner (" + joiner
+                        + ") must not follow a filtering joiner in the joiners (" + Arrays.toString(joiners) + ").");
+            } else {
+                indexingJoinerList.add(joiner);
+            }
+        }
+        AbstractTriJoiner<A, B, C> indexingJoiner = AbstractTriJoiner.merge(
+                indexingJoinerList.toArray(new TriJoiner[0]));
+        BavetIndexFactory indexFactory = new BavetIndexFactory(indexingJoiner);
+        BavetJoinBridgeBiConstraintStream<Solution_, A, B> leftBridge = new BavetJoinBridgeBiConstraintStream<>(
+                constraintFactory, this, true, indexingJoiner,
+                indexingJoiner.getLeftCombinedMapping(), indexFactory);
+        addChildStream(leftBridge);
+        BavetAbstractUniConstraintStream<Solution_, C> other = constraintFactory.fromUnfiltered(otherClass);
+        BavetJoinBridgeUniConstraintStream<Solution_, C> rightBridge = new BavetJoinBridgeUniConstraintStream<>(
+                constraintFactory, other, false, indexingJoiner,
+                indexingJoiner.getRightCombinedMapping(), indexFactory);
+        other.addChildStream(rightBridge);
+        BavetIfExistsBiConstraintStream<Solution_, A, B, C> ifExistsStream = new BavetIfExistsBiConstraintStream<>(
+                constraintFactory, leftBridge, rightBridge, shouldExist, filter);
+        leftBridge.setJoinStream(ifExistsStream);
+        rightBridge.setJoinStream(ifExistsStream);
+        return ifExistsStream;
     }
 
     // ************************************************************************
@@ -132,14 +184,16 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
     @Override
     public <ResultContainer_, Result_> UniConstraintStream<Result_> groupBy(
             BiConstraintCollector<A, B, ResultContainer_, Result_> collector) {
-        throw new UnsupportedOperationException();
+        return buildGroupBy(Collections.emptyList(), Collections.singletonList(collector),
+                new BavetGroupUniConstraintStream<>(constraintFactory, this));
     }
 
     @Override
     public <ResultContainerA_, ResultA_, ResultContainerB_, ResultB_> BiConstraintStream<ResultA_, ResultB_> groupBy(
             BiConstraintCollector<A, B, ResultContainerA_, ResultA_> collectorA,
             BiConstraintCollector<A, B, ResultContainerB_, ResultB_> collectorB) {
-        throw new UnsupportedOperationException();
+        return buildGroupBy(Collections.emptyList(), Arrays.asList(collectorA, collectorB),
+                new BavetGroupBiConstraintStream<>(constraintFactory, this));
     }
 
     @Override
@@ -148,7 +202,8 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
             groupBy(BiConstraintCollector<A, B, ResultContainerA_, ResultA_> collectorA,
                     BiConstraintCollector<A, B, ResultContainerB_, ResultB_> collectorB,
                     BiConstraintCollector<A, B, ResultContainerC_, ResultC_> collectorC) {
-        throw new UnsupportedOperationException();
+        return buildGroupBy(Collections.emptyList(), Arrays.asList(collectorA, collectorB, collectorC),
+                new BavetGroupTriConstraintStream<>(constraintFactory, this));
     }
 
     @Override
@@ -158,12 +213,14 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
                     BiConstraintCollector<A, B, ResultContainerB_, ResultB_> collectorB,
                     BiConstraintCollector<A, B, ResultContainerC_, ResultC_> collectorC,
                     BiConstraintCollector<A, B, ResultContainerD_, ResultD_> collectorD) {
-        throw new UnsupportedOperationException();
+        return buildGroupBy(Collections.emptyList(), Arrays.asList(collectorA, collectorB, collectorC, collectorD),
+                new BavetGroupQuadConstraintStream<>(constraintFactory, this));
     }
 
     @Override
     public <GroupKey_> UniConstraintStream<GroupKey_> groupBy(BiFunction<A, B, GroupKey_> groupKeyMapping) {
-        throw new UnsupportedOperationException();
+        return buildGroupBy(Collections.singletonList(groupKeyMapping), Collections.emptyList(),
+                new BavetGroupUniConstraintStream<>(constraintFactory, this));
     }
 
     @Override
@@ -171,7 +228,8 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
             TriConstraintStream<GroupKey_, ResultB_, ResultC_> groupBy(BiFunction<A, B, GroupKey_> groupKeyMapping,
                     BiConstraintCollector<A, B, ResultContainerB_, ResultB_> collectorB,
                     BiConstraintCollector<A, B, ResultContainerC_, ResultC_> collectorC) {
-        throw new UnsupportedOperationException();
+        return buildGroupBy(Collections.singletonList(groupKeyMapping), Arrays.asList(collectorB, collectorC),
+                new BavetGroupTriConstraintStream<>(constraintFactory, this));
     }
 
     @Override
@@ -180,33 +238,32 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
                     BiConstraintCollector<A, B, ResultContainerB_, ResultB_> collectorB,
                     BiConstraintCollector<A, B, ResultContainerC_, ResultC_> collectorC,
                     BiConstraintCollector<A, B, ResultContainerD_, ResultD_> collectorD) {
-        throw new UnsupportedOperationException();
+        return buildGroupBy(Collections.singletonList(groupKeyMapping),
+                Arrays.asList(collectorB, collectorC, collectorD),
+                new BavetGroupQuadConstraintStream<>(constraintFactory, this));
     }
 
     @Override
     public <GroupKey_, ResultContainer_, Result_> BiConstraintStream<GroupKey_, Result_> groupBy(
             BiFunction<A, B, GroupKey_> groupKeyMapping,
             BiConstraintCollector<A, B, ResultContainer_, Result_> collector) {
-        BavetGroupBridgeBiConstraintStream<Solution_, A, B, GroupKey_, ResultContainer_, Result_> bridge =
-                new BavetGroupBridgeBiConstraintStream<>(constraintFactory, this, groupKeyMapping, collector);
-        childStreamList.add(bridge);
-        BavetGroupBiConstraintStream<Solution_, GroupKey_, ResultContainer_, Result_> groupStream =
-                new BavetGroupBiConstraintStream<>(constraintFactory, bridge, collector.finisher());
-        bridge.setGroupStream(groupStream);
-        return groupStream;
+        return buildGroupBy(Collections.singletonList(groupKeyMapping), Collections.singletonList(collector),
+                new BavetGroupBiConstraintStream<>(constraintFactory, this));
     }
 
     @Override
     public <GroupKeyA_, GroupKeyB_> BiConstraintStream<GroupKeyA_, GroupKeyB_> groupBy(
             BiFunction<A, B, GroupKeyA_> groupKeyAMapping, BiFunction<A, B, GroupKeyB_> groupKeyBMapping) {
-        throw new UnsupportedOperationException();
+        return buildGroupBy(Arrays.asList(groupKeyAMapping, groupKeyBMapping), Collections.emptyList(),
+                new BavetGroupBiConstraintStream<>(constraintFactory, this));
     }
 
     @Override
     public <GroupKeyA_, GroupKeyB_, ResultContainer_, Result_> TriConstraintStream<GroupKeyA_, GroupKeyB_, Result_> groupBy(
             BiFunction<A, B, GroupKeyA_> groupKeyAMapping, BiFunction<A, B, GroupKeyB_> groupKeyBMapping,
             BiConstraintCollector<A, B, ResultContainer_, Result_> collector) {
-        throw new UnsupportedOperationException();
+        return buildGroupBy(Arrays.asList(groupKeyAMapping, groupKeyBMapping), Collections.singletonList(collector),
+                new BavetGroupTriConstraintStream<>(constraintFactory, this));
     }
 
     @Override
@@ -215,7 +272,44 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
                     BiFunction<A, B, GroupKeyA_> groupKeyAMapping, BiFunction<A, B, GroupKeyB_> groupKeyBMapping,
                     BiConstraintCollector<A, B, ResultContainerC_, ResultC_> collectorC,
                     BiConstraintCollector<A, B, ResultContainerD_, ResultD_> collectorD) {
-        throw new UnsupportedOperationException();
+        return buildGroupBy(Arrays.asList(groupKeyAMapping, groupKeyBMapping), Arrays.asList(collectorC, collectorD),
+                new BavetGroupQuadConstraintStream<>(constraintFactory, this));
+    }
+
+    private <Stream_ extends BavetGroupConstraintStream<Solution_>> Stream_ buildGroupBy(
+            List<BiFunction<A, B, ?>> groupKeyMappingList,
+            List<BiConstraintCollector<A, B, ?, ?>> collectorList, Stream_ groupStream) {
+        BavetGroupBridgeBiConstraintStream<Solution_, A, B> bridge = new BavetGroupBridgeBiConstraintStream<>(
+                constraintFactory, this, groupKeyMappingList, collectorList);
+        addChildStream(bridge);
+        bridge.setGroupStream(groupStream);
+        return groupStream;
+    }
+
+    // ************************************************************************
+    // Map, flatten and distinct
+    // ************************************************************************
+
+    @Override
+    public <ResultA_> UniConstraintStream<ResultA_> map(BiFunction<A, B, ResultA_> mapping) {
+        BavetMapUniConstraintStream<Solution_, ResultA_> mapStream = new BavetMapUniConstraintStream<>(constraintFactory,
+                this);
+        BavetMapBridgeBiConstraintStream<Solution_, A, B, ResultA_> bridge = new BavetMapBridgeBiConstraintStream<>(
+                constraintFactory, this, mapping);
+        addChildStream(bridge);
+        bridge.setMapStream(mapStream);
+        return mapStream;
+    }
+
+    @Override
+    public <ResultB_> BiConstraintStream<A, ResultB_> flattenLast(Function<B, Iterable<ResultB_>> mapping) {
+        BavetMapBiConstraintStream<Solution_, A, ResultB_> mapStream = new BavetMapBiConstraintStream<>(
+                constraintFactory, this);
+        BavetFlattenLastBridgeBiConstraintStream<Solution_, A, B, ResultB_> bridge =
+                new BavetFlattenLastBridgeBiConstraintStream<>(constraintFactory, this, mapping);
+        addChildStream(bridge);
+        bridge.setMapStream(mapStream);
+        return mapStream;
     }
 
     // ************************************************************************
@@ -341,8 +435,21 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
                     + "Maybe don't create it.");
         }
         for (BavetAbstractBiConstraintStream<Solution_, A, B> childStream : childStreamList) {
-            childStream.createNodeChain(buildPolicy, constraintWeight, node);
+            // A child stream that is only reused by other constraints gets its nodes when those are built
+            if (childStream.leadsTo(buildPolicy.getConstraint())) {
+                childStream.createNodeChain(buildPolicy, constraintWeight, node);
+            }
+        }
+    }
+
+    @Override
+    public boolean leadsTo(BavetConstraint<Solution_> constraint) {
+        for (BavetAbstractBiConstraintStream<Solution_, A, B> childStream : childStreamList) {
+            if (childStream.leadsTo(constraint)) {
+                return true;
+            }
         }
+        return false;
     }
 
     protected abstract BavetAbstractBiNode<A, B> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
@@ -77,8 +77,7 @@ public final class BavetFilterBiNode<A, B> extends BavetAbstractBiNode<A, B> {
 
     @Override
     public BavetFilterBiTuple<A, B> createTuple(BavetAbstractBiTuple<A, B> parentTuple) {
-        // TODO Use childNodeList.size() to improve the tuple's childTupleList's capacity
-        return new BavetFilterBiTuple<>(this, parentTuple);
+        return new BavetFilterBiTuple<>(this, parentTuple, childNodeList.size());
     }
 
     @Override
@@ -87,17 +86,16 @@ public final class BavetFilterBiNode<A, B> extends BavetAbstractBiNode<A, B> {
         A a = tuple.getFactA();
         B b = tuple.getFactB();
         List<BavetAbstractTuple> childTupleList = tuple.getChildTupleList();
-        for (BavetAbstractTuple childTuple : childTupleList) {
-            session.transitionTuple(childTuple, BavetTupleState.DYING);
-        }
-        childTupleList.clear();
-        if (tuple.isActive()) {
-            if (predicate.test(a, b)) {
-                for (BavetAbstractBiNode<A, B> childNode : childNodeList) {
-                    BavetAbstractBiTuple<A, B> childTuple = childNode.createTuple(tuple);
-                    childTupleList.add(childTuple);
-                    session.transitionTuple(childTuple, BavetTupleState.CREATING);
-                }
+        if (!tuple.isActive() || !predicate.test(a, b)) {
+            killChildTuples(childTupleList);
+        } else if (!childTupleList.isEmpty()) {
+            // It passed before too, so its child tuples only need to be refreshed
+            updateChildTuples(childTupleList);
+        } else {
+            for (BavetAbstractBiNode<A, B> childNode : childNodeList) {
+                BavetAbstractBiTuple<A, B> childTuple = childNode.createTuple(tuple);
+                childTupleList.add(childTuple);
+                session.transitionTuple(childTuple, BavetTupleState.CREATING);
             }
         }
     }
@@ -25,11 +25,12 @@ public final class BavetFilterBiTuple<A, B> extends BavetAbstractBiTuple<A, B> {
 
     private final BavetFilterBiNode<A, B> node;
     private final BavetAbstractBiTuple<A, B> parentTuple;
-    private final List<BavetAbstractTuple> childTupleList = new ArrayList<>(1);
+    private final List<BavetAbstractTuple> childTupleList;
 
-    public BavetFilterBiTuple(BavetFilterBiNode<A, B> node, BavetAbstractBiTuple<A, B> parentTuple) {
+    public BavetFilterBiTuple(BavetFilterBiNode<A, B> node, BavetAbstractBiTuple<A, B> parentTuple, int childTupleListSize) {
         this.node = node;
         this.parentTuple = parentTuple;
+        childTupleList = new ArrayList<>(childTupleListSize);
     }
 
     @Override
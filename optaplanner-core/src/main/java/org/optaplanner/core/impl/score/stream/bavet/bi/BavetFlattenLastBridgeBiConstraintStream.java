@@ -0,0 +1,94 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.bi;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraint;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetFromUniConstraintStream;
+
+public final class BavetFlattenLastBridgeBiConstraintStream<Solution_, A, B, ResultB_>
+        extends BavetAbstractBiConstraintStream<Solution_, A, B> {
+
+    private final BavetAbstractBiConstraintStream<Solution_, A, B> parent;
+    private final Function<B, Iterable<ResultB_>> mapping;
+    private BavetMapBiConstraintStream<Solution_, A, ResultB_> mapStream;
+
+    public BavetFlattenLastBridgeBiConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
+            BavetAbstractBiConstraintStream<Solution_, A, B> parent, Function<B, Iterable<ResultB_>> mapping) {
+        super(constraintFactory);
+        this.parent = parent;
+        this.mapping = mapping;
+        if (mapping == null) {
+            throw new IllegalArgumentException("The mapping (null) cannot be null.");
+        }
+    }
+
+    public void setMapStream(BavetMapBiConstraintStream<Solution_, A, ResultB_> mapStream) {
+        this.mapStream = mapStream;
+    }
+
+    @Override
+    public List<BavetFromUniConstraintStream<Solution_, Object>> getFromStreamList() {
+        return parent.getFromStreamList();
+    }
+
+    // ************************************************************************
+    // Node creation
+    // ************************************************************************
+
+    @Override
+    protected BavetFlattenLastBridgeBiNode<A, B, ResultB_> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, BavetAbstractBiNode<A, B> parentNode) {
+        return new BavetFlattenLastBridgeBiNode<>(buildPolicy.getSession(), buildPolicy.nextNodeIndex(), parentNode,
+                mapping);
+    }
+
+    @Override
+    protected void createChildNodeChains(BavetNodeBuildPolicy<Solution_> buildPolicy, Score<?> constraintWeight,
+            BavetAbstractBiNode<A, B> node) {
+        if (!childStreamList.isEmpty()) {
+            throw new IllegalStateException("Impossible state: the stream (" + this
+                    + ") has an non-empty childStreamList (" + childStreamList + ") but it's a flattenLast bridge.");
+        }
+        BavetFlattenLastBridgeBiNode<A, B, ResultB_> flattenLastBridgeNode =
+                (BavetFlattenLastBridgeBiNode<A, B, ResultB_>) node;
+        // If the flattenLastBridgeNode is shared, this returns its existing mapNode
+        BavetMapBiNode<A, ResultB_> mapNode = mapStream.createNodeChain(buildPolicy, constraintWeight,
+                flattenLastBridgeNode);
+        flattenLastBridgeNode.setMapNode(mapNode);
+    }
+
+    @Override
+    public boolean leadsTo(BavetConstraint<Solution_> constraint) {
+        return mapStream.leadsTo(constraint);
+    }
+
+    @Override
+    public String toString() {
+        return "FlattenLastBridge()";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
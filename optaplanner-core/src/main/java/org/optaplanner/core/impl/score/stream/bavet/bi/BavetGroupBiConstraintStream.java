@@ -18,25 +18,26 @@ package org.optaplanner.core.impl.score.stream.bavet.bi;
 
 import java.util.List;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetNode;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
 import org.optaplanner.core.impl.score.stream.bavet.uni.BavetFromUniConstraintStream;
 
-public final class BavetGroupBiConstraintStream<Solution_, GroupKey_, ResultContainer_, Result_>
-        extends BavetAbstractBiConstraintStream<Solution_, GroupKey_, Result_> {
+public final class BavetGroupBiConstraintStream<Solution_, A, B>
+        extends BavetAbstractBiConstraintStream<Solution_, A, B>
+        implements BavetGroupConstraintStream<Solution_> {
 
     private final BavetAbstractConstraintStream<Solution_> parent;
-    private final Function<ResultContainer_, Result_> finisher;
 
     public BavetGroupBiConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
-            BavetAbstractConstraintStream<Solution_> parent,
-            Function<ResultContainer_, Result_> finisher) {
+            BavetAbstractConstraintStream<Solution_> parent) {
         super(constraintFactory);
         this.parent = parent;
-        this.finisher = finisher;
     }
 
     @Override
@@ -49,20 +50,21 @@ public final class BavetGroupBiConstraintStream<Solution_, GroupKey_, ResultCont
     // ************************************************************************
 
     @Override
-    public BavetGroupBiNode<GroupKey_, ResultContainer_, Result_> createNodeChain(BavetNodeBuildPolicy<Solution_> buildPolicy,
-            Score<?> constraintWeight, BavetAbstractBiNode<GroupKey_, Result_> parentNode) {
-        return (BavetGroupBiNode<GroupKey_, ResultContainer_, Result_>) super.createNodeChain(buildPolicy, constraintWeight,
-                parentNode);
+    public BavetGroupBiNode<A, B> createNodeChain(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, BavetNode groupBridgeNode, int groupKeyCount,
+            List<Supplier<?>> resultContainerSupplierList, List<Function<Object, ?>> finisherList) {
+        BavetGroupBiNode<A, B> node = new BavetGroupBiNode<>(buildPolicy.getSession(),
+                buildPolicy.nextNodeIndex(), groupBridgeNode, groupKeyCount,
+                resultContainerSupplierList, finisherList);
+        node = (BavetGroupBiNode<A, B>) processNode(buildPolicy, null, node);
+        createChildNodeChains(buildPolicy, constraintWeight, node);
+        return node;
     }
 
     @Override
-    protected BavetGroupBiNode<GroupKey_, ResultContainer_, Result_> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
-            Score<?> constraintWeight, BavetAbstractBiNode<GroupKey_, Result_> parentNode) {
-        if (parentNode != null) {
-            throw new IllegalStateException("Impossible state: the stream (" + this
-                    + ") cannot have a parentNode (" + parentNode + ").");
-        }
-        return new BavetGroupBiNode<>(buildPolicy.getSession(), buildPolicy.nextNodeIndex(), finisher);
+    protected BavetGroupBiNode<A, B> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, BavetAbstractBiNode<A, B> parentNode) {
+        throw new IllegalStateException("Impossible state: this code is never called.");
     }
 
     @Override
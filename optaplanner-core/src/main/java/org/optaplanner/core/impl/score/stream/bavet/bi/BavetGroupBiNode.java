@@ -17,32 +17,51 @@
 package org.optaplanner.core.impl.score.stream.bavet.bi;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupKey;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetNode;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
 
-public final class BavetGroupBiNode<GroupKey_, ResultContainer_, Result_> extends BavetAbstractBiNode<GroupKey_, Result_> {
+public final class BavetGroupBiNode<A, B> extends BavetAbstractBiNode<A, B>
+        implements BavetGroupNode {
 
-    private final Function<ResultContainer_, Result_> finisher;
+    private final BavetNode parentNode;
+    private final int groupKeyCount;
+    private final List<Supplier<?>> resultContainerSupplierList;
+    private final List<Function<Object, ?>> finisherList;
 
-    private final List<BavetAbstractBiNode<GroupKey_, Result_>> childNodeList = new ArrayList<>();
+    private final Map<Object, BavetGroupBiTuple<A, B>> tupleMap = new HashMap<>();
+    private final List<BavetAbstractBiNode<A, B>> childNodeList = new ArrayList<>();
 
-    public BavetGroupBiNode(BavetConstraintSession session, int nodeIndex,
-            Function<ResultContainer_, Result_> finisher) {
+    public BavetGroupBiNode(BavetConstraintSession session, int nodeIndex, BavetNode parentNode, int groupKeyCount,
+            List<Supplier<?>> resultContainerSupplierList, List<Function<Object, ?>> finisherList) {
         super(session, nodeIndex);
-        this.finisher = finisher;
+        this.parentNode = parentNode;
+        this.groupKeyCount = groupKeyCount;
+        this.resultContainerSupplierList = resultContainerSupplierList;
+        this.finisherList = finisherList;
+        if (groupKeyCount + finisherList.size() != 2) {
+            throw new IllegalArgumentException("The groupKeyCount (" + groupKeyCount
+                    + ") plus the collector count (" + finisherList.size() + ") must be 2.");
+        }
     }
 
     @Override
-    public void addChildNode(BavetAbstractBiNode<GroupKey_, Result_> childNode) {
+    public void addChildNode(BavetAbstractBiNode<A, B> childNode) {
         childNodeList.add(childNode);
     }
 
     @Override
-    public List<BavetAbstractBiNode<GroupKey_, Result_>> getChildNodeList() {
+    public List<BavetAbstractBiNode<A, B>> getChildNodeList() {
         return childNodeList;
     }
 
@@ -50,43 +69,102 @@ public final class BavetGroupBiNode<GroupKey_, ResultContainer_, Result_> extend
     // Equality for node sharing
     // ************************************************************************
 
-    // TODO
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(parentNode);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetGroupBiNode) {
+            BavetGroupBiNode<?, ?> other = (BavetGroupBiNode<?, ?>) o;
+            // The parent group bridge node is only shared if the groupKeyMappings and collectors are equal too
+            return parentNode == other.parentNode;
+        } else {
+            return false;
+        }
+    }
 
     // ************************************************************************
     // Runtime
     // ************************************************************************
 
     @Override
-    public BavetGroupBiTuple<GroupKey_, ResultContainer_, Result_> createTuple(
-            BavetAbstractBiTuple<GroupKey_, Result_> parentTuple) {
+    public BavetGroupBiTuple<A, B> createTuple(BavetAbstractBiTuple<A, B> parentTuple) {
         throw new IllegalStateException("The Grouped node (" + getClass().getSimpleName()
                 + ") can't have a parentTuple (" + parentTuple + ");");
     }
 
-    public BavetGroupBiTuple<GroupKey_, ResultContainer_, Result_> createTuple(
-            GroupKey_ groupKey, ResultContainer_ resultContainer) {
-        return new BavetGroupBiTuple<>(this, groupKey, resultContainer);
+    @Override
+    public BavetGroupBiTuple<A, B> acquireGroupTuple(Object groupKey) {
+        BavetGroupBiTuple<A, B> tuple = tupleMap.get(groupKey);
+        if (tuple == null) {
+            Object[] resultContainers = new Object[resultContainerSupplierList.size()];
+            for (int i = 0; i < resultContainers.length; i++) {
+                resultContainers[i] = resultContainerSupplierList.get(i).get();
+            }
+            tuple = new BavetGroupBiTuple<>(this, groupKey, resultContainers, childNodeList.size());
+            tupleMap.put(groupKey, tuple);
+        }
+        int parentCount = tuple.increaseParentCount();
+        if (parentCount == 1) {
+            session.transitionTuple(tuple, BavetTupleState.CREATING);
+        } else if (tuple.getState() != BavetTupleState.CREATING) {
+            // It might have just been created by an earlier tuple in the same nodeIndex
+            session.transitionTuple(tuple, BavetTupleState.UPDATING);
+        }
+        return tuple;
+    }
+
+    @Override
+    public void releaseGroupTuple(BavetGroupTuple uncastTuple) {
+        BavetGroupBiTuple<A, B> tuple = (BavetGroupBiTuple<A, B>) uncastTuple;
+        int parentCount = tuple.decreaseParentCount();
+        if (parentCount == 0) {
+            // Clean up tupleMap
+            tupleMap.remove(tuple.getGroupKey());
+            session.transitionTuple(tuple, BavetTupleState.DYING);
+        } else if (tuple.getState() != BavetTupleState.CREATING) {
+            session.transitionTuple(tuple, BavetTupleState.UPDATING);
+        }
     }
 
     @Override
     public void refresh(BavetAbstractTuple uncastTuple) {
-        BavetGroupBiTuple<GroupKey_, ResultContainer_, Result_> tuple =
-                (BavetGroupBiTuple<GroupKey_, ResultContainer_, Result_>) uncastTuple;
+        BavetGroupBiTuple<A, B> tuple = (BavetGroupBiTuple<A, B>) uncastTuple;
         List<BavetAbstractTuple> childTupleList = tuple.getChildTupleList();
-        for (BavetAbstractTuple childTuple : childTupleList) {
-            session.transitionTuple(childTuple, BavetTupleState.DYING);
+        if (!tuple.isActive()) {
+            killChildTuples(childTupleList);
+            return;
         }
-        childTupleList.clear();
-        if (tuple.isActive()) {
-            tuple.updateResult(finisher);
-            for (BavetAbstractBiNode<GroupKey_, Result_> childNode : childNodeList) {
-                BavetAbstractBiTuple<GroupKey_, Result_> childTuple = childNode.createTuple(tuple);
+        tuple.updateFacts((A) extractFact(tuple, 0),
+                (B) extractFact(tuple, 1));
+        if (!childTupleList.isEmpty()) {
+            // The facts changed in place, so the child tuples only need to be refreshed
+            updateChildTuples(childTupleList);
+        } else {
+            for (BavetAbstractBiNode<A, B> childNode : childNodeList) {
+                BavetAbstractBiTuple<A, B> childTuple = childNode.createTuple(tuple);
                 childTupleList.add(childTuple);
                 session.transitionTuple(childTuple, BavetTupleState.CREATING);
             }
         }
     }
 
+    /**
+     * The group keys come first, followed by the collector results.
+     */
+    private Object extractFact(BavetGroupBiTuple<A, B> tuple, int factIndex) {
+        if (factIndex < groupKeyCount) {
+            Object groupKey = tuple.getGroupKey();
+            return (groupKeyCount == 1) ? groupKey : ((BavetGroupKey) groupKey).get(factIndex);
+        }
+        int collectorIndex = factIndex - groupKeyCount;
+        return finisherList.get(collectorIndex).apply(tuple.getResultContainers()[collectorIndex]);
+    }
+
     @Override
     public String toString() {
         return "Group() with " + childNodeList.size() + " children";
@@ -18,29 +18,28 @@ package org.optaplanner.core.impl.score.stream.bavet.bi;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Function;
 
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupTuple;
 
-public final class BavetGroupBiTuple<GroupKey_, ResultContainer_, Result_> extends BavetAbstractBiTuple<GroupKey_, Result_>
+public final class BavetGroupBiTuple<A, B> extends BavetAbstractBiTuple<A, B>
         implements BavetGroupTuple {
 
-    private final BavetGroupBiNode<GroupKey_, ResultContainer_, Result_> node;
+    private final BavetGroupBiNode<A, B> node;
+    private final Object groupKey;
+    private final Object[] resultContainers;
 
-    private GroupKey_ groupKey;
     private int parentCount;
-    private ResultContainer_ resultContainer;
-    private Result_ result;
-    private final List<BavetAbstractTuple> childTupleList = new ArrayList<>(1);
+    private A factA;
+    private B factB;
+    private final List<BavetAbstractTuple> childTupleList;
 
-    public BavetGroupBiTuple(BavetGroupBiNode<GroupKey_, ResultContainer_, Result_> node,
-            GroupKey_ groupKey, ResultContainer_ resultContainer) {
+    public BavetGroupBiTuple(BavetGroupBiNode<A, B> node, Object groupKey, Object[] resultContainers, int childTupleListSize) {
         this.node = node;
         this.groupKey = groupKey;
+        this.resultContainers = resultContainers;
         parentCount = 0;
-        this.resultContainer = resultContainer;
-        result = null;
+        childTupleList = new ArrayList<>(childTupleListSize);
     }
 
     public int increaseParentCount() {
@@ -57,12 +56,9 @@ public final class BavetGroupBiTuple<GroupKey_, ResultContainer_, Result_> exten
         return parentCount;
     }
 
-    public void clearResult() {
-        result = null;
-    }
-
-    public void updateResult(Function<ResultContainer_, Result_> finisher) {
-        result = finisher.apply(resultContainer);
+    public void updateFacts(A factA, B factB) {
+        this.factA = factA;
+        this.factB = factB;
     }
 
     @Override
@@ -75,7 +71,7 @@ public final class BavetGroupBiTuple<GroupKey_, ResultContainer_, Result_> exten
     // ************************************************************************
 
     @Override
-    public BavetGroupBiNode<GroupKey_, ResultContainer_, Result_> getNode() {
+    public BavetGroupBiNode<A, B> getNode() {
         return node;
     }
 
@@ -85,21 +81,23 @@ public final class BavetGroupBiTuple<GroupKey_, ResultContainer_, Result_> exten
     }
 
     @Override
-    public GroupKey_ getFactA() {
-        return groupKey;
+    public A getFactA() {
+        return factA;
     }
 
     @Override
-    public Result_ getFactB() {
-        return result;
+    public B getFactB() {
+        return factB;
     }
 
-    public GroupKey_ getGroupKey() {
+    @Override
+    public Object getGroupKey() {
         return groupKey;
     }
 
-    public ResultContainer_ getResultContainer() {
-        return resultContainer;
+    @Override
+    public Object[] getResultContainers() {
+        return resultContainers;
     }
 
 }
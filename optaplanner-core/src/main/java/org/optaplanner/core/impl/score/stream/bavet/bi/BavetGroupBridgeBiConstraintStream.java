@@ -18,31 +18,39 @@ package org.optaplanner.core.impl.score.stream.bavet.bi;
 
 import java.util.List;
 import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
+import org.optaplanner.core.api.function.TriFunction;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.stream.bi.BiConstraintCollector;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraint;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupNode;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
 import org.optaplanner.core.impl.score.stream.bavet.uni.BavetFromUniConstraintStream;
 
-public final class BavetGroupBridgeBiConstraintStream<Solution_, A, B, NewA, ResultContainer_, NewB>
+public final class BavetGroupBridgeBiConstraintStream<Solution_, A, B>
         extends BavetAbstractBiConstraintStream<Solution_, A, B> {
 
     private final BavetAbstractBiConstraintStream<Solution_, A, B> parent;
-    private final BiFunction<A, B, NewA> groupKeyMapping;
-    private final BiConstraintCollector<A, B, ResultContainer_, NewB> collector;
-    private BavetGroupBiConstraintStream<Solution_, NewA, ResultContainer_, NewB> groupStream;
+    private final List<BiFunction<A, B, ?>> groupKeyMappingList;
+    private final List<BiConstraintCollector<A, B, ?, ?>> collectorList;
+    private BavetGroupConstraintStream<Solution_> groupStream;
 
     public BavetGroupBridgeBiConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
             BavetAbstractBiConstraintStream<Solution_, A, B> parent,
-            BiFunction<A, B, NewA> groupKeyMapping, BiConstraintCollector<A, B, ResultContainer_, NewB> collector) {
+            List<BiFunction<A, B, ?>> groupKeyMappingList,
+            List<BiConstraintCollector<A, B, ?, ?>> collectorList) {
         super(constraintFactory);
         this.parent = parent;
-        this.groupKeyMapping = groupKeyMapping;
-        this.collector = collector;
+        this.groupKeyMappingList = groupKeyMappingList;
+        this.collectorList = collectorList;
     }
 
-    public void setGroupStream(BavetGroupBiConstraintStream<Solution_, NewA, ResultContainer_, NewB> groupStream) {
+    public void setGroupStream(BavetGroupConstraintStream<Solution_> groupStream) {
         this.groupStream = groupStream;
     }
 
@@ -56,10 +64,19 @@ public final class BavetGroupBridgeBiConstraintStream<Solution_, A, B, NewA, Res
     // ************************************************************************
 
     @Override
-    protected BavetAbstractBiNode<A, B> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
+    protected BavetGroupBridgeBiNode<A, B> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
             Score<?> constraintWeight, BavetAbstractBiNode<A, B> parentNode) {
+        List<Supplier<?>> resultContainerSupplierList = collectorList.stream()
+                .map(BiConstraintCollector::supplier)
+                .collect(Collectors.toList());
+        List<TriFunction<Object, A, B, Runnable>> accumulatorList = collectorList.stream()
+                .map(collector -> (TriFunction<Object, A, B, Runnable>) collector.accumulator())
+                .collect(Collectors.toList());
+        List<Function<Object, ?>> finisherList = collectorList.stream()
+                .map(collector -> (Function<Object, ?>) collector.finisher())
+                .collect(Collectors.toList());
         return new BavetGroupBridgeBiNode<>(buildPolicy.getSession(), buildPolicy.nextNodeIndex(), parentNode,
-                groupKeyMapping, collector);
+                groupKeyMappingList, resultContainerSupplierList, accumulatorList, finisherList);
     }
 
     @Override
@@ -69,11 +86,26 @@ public final class BavetGroupBridgeBiConstraintStream<Solution_, A, B, NewA, Res
             throw new IllegalStateException("Impossible state: the stream (" + this
                     + ") has an non-empty childStreamList (" + childStreamList + ") but it's a groupBy bridge.");
         }
-        BavetGroupBiNode<NewA, ResultContainer_, NewB> groupNode = groupStream.createNodeChain(buildPolicy,
-                constraintWeight, null);
-        BavetGroupBridgeBiNode<A, B, NewA, ResultContainer_, NewB> groupBridgeNode =
-                (BavetGroupBridgeBiNode<A, B, NewA, ResultContainer_, NewB>) node;
+        BavetGroupBridgeBiNode<A, B> groupBridgeNode = (BavetGroupBridgeBiNode<A, B>) node;
+        // If the groupBridgeNode is shared, this returns its existing groupNode
+        BavetGroupNode groupNode = groupStream.createNodeChain(buildPolicy, constraintWeight, groupBridgeNode,
+                groupKeyMappingList.size(), groupBridgeNode.getResultContainerSupplierList(),
+                groupBridgeNode.getFinisherList());
         groupBridgeNode.setGroupNode(groupNode);
+    }
 
+    @Override
+    public boolean leadsTo(BavetConstraint<Solution_> constraint) {
+        return groupStream.leadsTo(constraint);
+    }
+
+    @Override
+    public String toString() {
+        return "GroupBridge()";
     }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
 }
@@ -16,37 +16,77 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.bi;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
+import java.util.Objects;
 import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
-import org.optaplanner.core.api.score.stream.bi.BiConstraintCollector;
+import org.optaplanner.core.api.function.TriFunction;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
-import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupKey;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupTuple;
 
-public class BavetGroupBridgeBiNode<A, B, NewA, ResultContainer_, NewB> extends BavetAbstractBiNode<A, B> {
+public final class BavetGroupBridgeBiNode<A, B> extends BavetAbstractBiNode<A, B> {
 
-    private final BiFunction<A, B, NewA> groupKeyMapping;
-    private final BiConstraintCollector<A, B, ResultContainer_, NewB> collector;
-    private BavetGroupBiNode<NewA, ResultContainer_, NewB> groupNode;
+    private final BavetAbstractBiNode<A, B> parentNode;
+    private final List<BiFunction<A, B, ?>> groupKeyMappingList;
+    private final List<Supplier<?>> resultContainerSupplierList;
+    private final List<TriFunction<Object, A, B, Runnable>> accumulatorList;
+    private final List<Function<Object, ?>> finisherList;
+    private BavetGroupNode groupNode;
 
-    private final Map<NewA, BavetGroupBiTuple<NewA, ResultContainer_, NewB>> tupleMap;
-
-    public BavetGroupBridgeBiNode(BavetConstraintSession session, int nodeIndex, BavetAbstractBiNode<A, B> parentNode,
-            BiFunction<A, B, NewA> groupKeyMapping, BiConstraintCollector<A, B, ResultContainer_, NewB> collector) {
+    public BavetGroupBridgeBiNode(BavetConstraintSession session, int nodeIndex,
+            BavetAbstractBiNode<A, B> parentNode, List<BiFunction<A, B, ?>> groupKeyMappingList,
+            List<Supplier<?>> resultContainerSupplierList, List<TriFunction<Object, A, B, Runnable>> accumulatorList,
+            List<Function<Object, ?>> finisherList) {
         super(session, nodeIndex);
-        this.groupKeyMapping = groupKeyMapping;
-        this.collector = collector;
-        tupleMap = new HashMap<>();
+        this.parentNode = parentNode;
+        this.groupKeyMappingList = groupKeyMappingList;
+        this.resultContainerSupplierList = resultContainerSupplierList;
+        this.accumulatorList = accumulatorList;
+        this.finisherList = finisherList;
     }
 
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
     @Override
-    public BavetGroupBridgeBiTuple<A, B, NewA, ResultContainer_, NewB> createTuple(BavetAbstractBiTuple<A, B> parentTuple) {
-        return new BavetGroupBridgeBiTuple<>(this, parentTuple);
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(parentNode), identityHashCode(groupKeyMappingList),
+                identityHashCode(resultContainerSupplierList), identityHashCode(accumulatorList),
+                identityHashCode(finisherList));
     }
 
-    public void setGroupNode(BavetGroupBiNode<NewA, ResultContainer_, NewB> groupNode) {
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetGroupBridgeBiNode) {
+            BavetGroupBridgeBiNode<?, ?> other = (BavetGroupBridgeBiNode<?, ?>) o;
+            return parentNode == other.parentNode
+                    && identityEquals(groupKeyMappingList, other.groupKeyMappingList)
+                    && identityEquals(resultContainerSupplierList, other.resultContainerSupplierList)
+                    && identityEquals(accumulatorList, other.accumulatorList)
+                    && identityEquals(finisherList, other.finisherList);
+        } else {
+            return false;
+        }
+    }
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    @Override
+    public BavetGroupBridgeBiTuple<A, B> createTuple(BavetAbstractBiTuple<A, B> parentTuple) {
+        return new BavetGroupBridgeBiTuple<>(this, parentTuple, accumulatorList.size());
+    }
+
+    public void setGroupNode(BavetGroupNode groupNode) {
         this.groupNode = groupNode;
     }
 
@@ -56,44 +96,42 @@ public class BavetGroupBridgeBiNode<A, B, NewA, ResultContainer_, NewB> extends
             throw new IllegalStateException("Impossible state: GroupBridgeNode (" + this +
                     ") has no child GroupNode (" + groupNode + ").");
         }
-        BavetGroupBridgeBiTuple<A, B, NewA, ResultContainer_, NewB> tuple =
-                (BavetGroupBridgeBiTuple<A, B, NewA, ResultContainer_, NewB>) uncastTuple;
-        if (tuple.getChildTuple() != null) {
-            BavetGroupBiTuple<NewA, ResultContainer_, NewB> childTuple = tuple.getChildTuple();
-            NewA oldGroupKey = childTuple.getGroupKey();
-            int parentCount = childTuple.decreaseParentCount();
-            tuple.getUndoAccumulator().run();
-            childTuple.clearResult();
-            tuple.setChildTuple(null);
-            tuple.setUndoAccumulator(null);
-            if (parentCount == 0) {
-                // Clean up tupleMap
-                tupleMap.remove(oldGroupKey);
-                session.transitionTuple(childTuple, BavetTupleState.DYING);
-            } else {
-                session.transitionTuple(childTuple, BavetTupleState.UPDATING);
+        BavetGroupBridgeBiTuple<A, B> tuple = (BavetGroupBridgeBiTuple<A, B>) uncastTuple;
+        Runnable[] undoAccumulators = tuple.getUndoAccumulators();
+        BavetGroupTuple oldChildTuple = tuple.getChildTuple();
+        if (oldChildTuple != null) {
+            for (int i = 0; i < undoAccumulators.length; i++) {
+                undoAccumulators[i].run();
+                undoAccumulators[i] = null;
             }
+            tuple.setChildTuple(null);
+            groupNode.releaseGroupTuple(oldChildTuple);
         }
         if (tuple.isActive()) {
             A a = tuple.getFactA();
             B b = tuple.getFactB();
-            NewA groupKey = groupKeyMapping.apply(a, b);
-            BavetGroupBiTuple<NewA, ResultContainer_, NewB> childTuple = tupleMap.computeIfAbsent(groupKey,
-                    k -> groupNode.createTuple(groupKey, collector.supplier().get()));
-            int parentCount = childTuple.increaseParentCount();
-
-            Runnable undoAccumulator = collector.accumulator().apply(childTuple.getResultContainer(), a, b);
-            tuple.setUndoAccumulator(undoAccumulator);
-            childTuple.clearResult();
+            BavetGroupTuple childTuple = groupNode.acquireGroupTuple(extractGroupKey(a, b));
+            Object[] resultContainers = childTuple.getResultContainers();
+            for (int i = 0; i < undoAccumulators.length; i++) {
+                undoAccumulators[i] = accumulatorList.get(i).apply(resultContainers[i], a, b);
+            }
             tuple.setChildTuple(childTuple);
-            if (parentCount == 1) {
-                session.transitionTuple(childTuple, BavetTupleState.CREATING);
-            } else {
-                // It might have just been created by an earlier tuple in the same nodeIndex
-                if (childTuple.getState() != BavetTupleState.CREATING) {
-                    session.transitionTuple(childTuple, BavetTupleState.UPDATING);
+        }
+    }
+
+    private Object extractGroupKey(A a, B b) {
+        int groupKeyCount = groupKeyMappingList.size();
+        switch (groupKeyCount) {
+            case 0:
+                return BavetGroupKey.EMPTY;
+            case 1:
+                return groupKeyMappingList.get(0).apply(a, b);
+            default:
+                Object[] groupKeys = new Object[groupKeyCount];
+                for (int i = 0; i < groupKeyCount; i++) {
+                    groupKeys[i] = groupKeyMappingList.get(i).apply(a, b);
                 }
-            }
+                return new BavetGroupKey(groupKeys);
         }
     }
 
@@ -106,4 +144,12 @@ public class BavetGroupBridgeBiNode<A, B, NewA, ResultContainer_, NewB> extends
     // Getters/setters
     // ************************************************************************
 
+    public List<Supplier<?>> getResultContainerSupplierList() {
+        return resultContainerSupplierList;
+    }
+
+    public List<Function<Object, ?>> getFinisherList() {
+        return finisherList;
+    }
+
 }
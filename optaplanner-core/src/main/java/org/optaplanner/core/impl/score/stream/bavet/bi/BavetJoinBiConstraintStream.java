@@ -61,9 +61,11 @@ public final class BavetJoinBiConstraintStream<Solution_, A, B> extends BavetAbs
         BavetJoinBridgeUniNode<B> rightNode = (BavetJoinBridgeUniNode<B>) rightNode_;
         BavetJoinBiNode<A, B> node = new BavetJoinBiNode<>(buildPolicy.getSession(), buildPolicy.nextNodeIndex(),
                 leftNode, rightNode);
-        leftNode.setChildTupleRefresher(node::refreshChildTuplesLeft); // TODO don't register if shared
-        rightNode.setChildTupleRefresher(node::refreshChildTuplesRight);
-        node = (BavetJoinBiNode<A, B>) processNode(buildPolicy, null, node); // TODO Sharing never happens
+        BavetJoinBiNode<A, B> sharedNode = (BavetJoinBiNode<A, B>) processNode(buildPolicy, null, node);
+        if (sharedNode == node) {
+            node.registerChildTupleRefreshers();
+        }
+        node = sharedNode;
         createChildNodeChains(buildPolicy, constraintWeight, node);
         return node;
     }
@@ -18,7 +18,7 @@ package org.optaplanner.core.impl.score.stream.bavet.bi;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
+import java.util.Objects;
 
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
@@ -33,6 +33,11 @@ public final class BavetJoinBiNode<A, B> extends BavetAbstractBiNode<A, B> imple
     private final BavetJoinBridgeUniNode<A> leftParentNode;
     private final BavetJoinBridgeUniNode<B> rightParentNode;
 
+    /** The index of this node's childTupleList in every left parent tuple. */
+    private int leftChildTupleListIndex = -1;
+    /** The index of this node's childTupleList in every right parent tuple. */
+    private int rightChildTupleListIndex = -1;
+
     private final List<BavetAbstractBiNode<A, B>> childNodeList = new ArrayList<>();
 
     public BavetJoinBiNode(BavetConstraintSession session, int nodeIndex,
@@ -52,11 +57,38 @@ public final class BavetJoinBiNode<A, B> extends BavetAbstractBiNode<A, B> imple
         return childNodeList;
     }
 
+    /**
+     * Only called if this node isn't shared,
+     * so a shared parent node propagates to it only once.
+     */
+    public void registerChildTupleRefreshers() {
+        leftChildTupleListIndex = leftParentNode.addChildTupleRefresher(this::refreshChildTuplesLeft,
+                this::updateChildTuplesLeft);
+        rightChildTupleListIndex = rightParentNode.addChildTupleRefresher(this::refreshChildTuplesRight,
+                this::updateChildTuplesRight);
+    }
+
     // ************************************************************************
     // Equality for node sharing
     // ************************************************************************
 
-    // TODO
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(leftParentNode), System.identityHashCode(rightParentNode));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetJoinBiNode) {
+            BavetJoinBiNode<?, ?> other = (BavetJoinBiNode<?, ?>) o;
+            return leftParentNode == other.leftParentNode
+                    && rightParentNode == other.rightParentNode;
+        } else {
+            return false;
+        }
+    }
 
     // ************************************************************************
     // Runtime
@@ -70,18 +102,19 @@ public final class BavetJoinBiNode<A, B> extends BavetAbstractBiNode<A, B> imple
 
     public BavetJoinBiTuple<A, B> createTuple(
             BavetJoinBridgeUniTuple<A> aTuple, BavetJoinBridgeUniTuple<B> bTuple) {
-        return new BavetJoinBiTuple<>(this, aTuple, bTuple);
+        return new BavetJoinBiTuple<>(this, aTuple, bTuple, childNodeList.size());
     }
 
     @Override
     public void refresh(BavetAbstractTuple uncastTuple) {
         BavetJoinBiTuple<A, B> tuple = (BavetJoinBiTuple<A, B>) uncastTuple;
         List<BavetAbstractTuple> childTupleList = tuple.getChildTupleList();
-        for (BavetAbstractTuple childTuple : childTupleList) {
-            session.transitionTuple(childTuple, BavetTupleState.DYING);
-        }
-        childTupleList.clear();
-        if (tuple.isActive()) {
+        if (tuple.getState() == BavetTupleState.UPDATING) {
+            // A parent tuple was updated, but kept its index entry, so this is still the same match
+            updateChildTuples(childTupleList);
+        } else if (!tuple.isActive()) {
+            killChildTuples(childTupleList);
+        } else {
             for (BavetAbstractBiNode<A, B> childNode : childNodeList) {
                 BavetAbstractBiTuple<A, B> childTuple = childNode.createTuple(tuple);
                 childTupleList.add(childTuple);
@@ -90,11 +123,19 @@ public final class BavetJoinBiNode<A, B> extends BavetAbstractBiNode<A, B> imple
         }
     }
 
+    public void updateChildTuplesLeft(BavetJoinBridgeUniTuple<A> leftParentTuple) {
+        updateChildTuples(leftParentTuple.getChildTupleList(leftChildTupleListIndex));
+    }
+
+    public void updateChildTuplesRight(BavetJoinBridgeUniTuple<B> rightParentTuple) {
+        updateChildTuples(rightParentTuple.getChildTupleList(rightChildTupleListIndex));
+    }
+
     public void refreshChildTuplesLeft(BavetJoinBridgeUniTuple<A> leftParentTuple) {
-        List<BavetAbstractTuple> leftTupleSet = leftParentTuple.getChildTupleList();
+        List<BavetAbstractTuple> leftTupleSet = leftParentTuple.getChildTupleList(leftChildTupleListIndex);
         for (BavetAbstractTuple tuple_ : leftTupleSet) {
             BavetJoinBiTuple<A, B> tuple = (BavetJoinBiTuple<A, B>) tuple_;
-            boolean removed = tuple.getBTuple().getChildTupleList().remove(tuple);
+            boolean removed = tuple.getBTuple().getChildTupleList(rightChildTupleListIndex).remove(tuple);
             if (!removed) {
                 throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactA()
                         + ")'s tuple cannot be removed from the other fact (" + tuple.getFactB()
@@ -104,23 +145,23 @@ public final class BavetJoinBiNode<A, B> extends BavetAbstractBiNode<A, B> imple
         }
         leftTupleSet.clear();
         if (leftParentTuple.isActive()) {
-            Set<BavetJoinBridgeUniTuple<B>> rightParentTupleList = getRightIndex().get(leftParentTuple.getIndexProperties());
-            for (BavetJoinBridgeUniTuple<B> rightParentTuple : rightParentTupleList) {
-                if (!rightParentTuple.isDirty()) {
+            getRightIndex().visit(leftParentTuple.getIndexProperties(), rightParentTuple -> {
+                // An updating right tuple that keeps its index entry won't look for new matches itself
+                if (rightParentTuple.isActive()) {
                     BavetJoinBiTuple<A, B> childTuple = createTuple(leftParentTuple, rightParentTuple);
                     leftTupleSet.add(childTuple);
-                    rightParentTuple.getChildTupleList().add(childTuple);
+                    rightParentTuple.getChildTupleList(rightChildTupleListIndex).add(childTuple);
                     session.transitionTuple(childTuple, BavetTupleState.CREATING);
                 }
-            }
+            });
         }
     }
 
     public void refreshChildTuplesRight(BavetJoinBridgeUniTuple<B> rightParentTuple) {
-        List<BavetAbstractTuple> rightTupleSet = rightParentTuple.getChildTupleList();
+        List<BavetAbstractTuple> rightTupleSet = rightParentTuple.getChildTupleList(rightChildTupleListIndex);
         for (BavetAbstractTuple uncastTuple : rightTupleSet) {
             BavetJoinBiTuple<A, B> tuple = (BavetJoinBiTuple<A, B>) uncastTuple;
-            boolean removed = tuple.getATuple().getChildTupleList().remove(tuple);
+            boolean removed = tuple.getATuple().getChildTupleList(leftChildTupleListIndex).remove(tuple);
             if (!removed) {
                 throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactB()
                         + ")'s tuple cannot be removed from the other fact (" + tuple.getFactA()
@@ -130,15 +171,15 @@ public final class BavetJoinBiNode<A, B> extends BavetAbstractBiNode<A, B> imple
         }
         rightTupleSet.clear();
         if (rightParentTuple.isActive()) {
-            Set<BavetJoinBridgeUniTuple<A>> leftParentTupleList = getLeftIndex().get(rightParentTuple.getIndexProperties());
-            for (BavetJoinBridgeUniTuple<A> leftParentTuple : leftParentTupleList) {
-                if (!leftParentTuple.isDirty()) {
+            getLeftIndex().visit(rightParentTuple.getIndexProperties(), leftParentTuple -> {
+                // An updating left tuple that keeps its index entry won't look for new matches itself
+                if (leftParentTuple.isActive()) {
                     BavetJoinBiTuple<A, B> childTuple = createTuple(leftParentTuple, rightParentTuple);
-                    leftParentTuple.getChildTupleList().add(childTuple);
+                    leftParentTuple.getChildTupleList(leftChildTupleListIndex).add(childTuple);
                     rightTupleSet.add(childTuple);
                     session.transitionTuple(childTuple, BavetTupleState.CREATING);
                 }
-            }
+            });
         }
     }
 
@@ -29,13 +29,14 @@ public final class BavetJoinBiTuple<A, B> extends BavetAbstractBiTuple<A, B>
     private final BavetJoinBiNode<A, B> node;
     private final BavetJoinBridgeUniTuple<A> aTuple;
     private final BavetJoinBridgeUniTuple<B> bTuple;
-    private final List<BavetAbstractTuple> childTupleList = new ArrayList<>(1);
+    private final List<BavetAbstractTuple> childTupleList;
 
     public BavetJoinBiTuple(BavetJoinBiNode<A, B> node,
-            BavetJoinBridgeUniTuple<A> aTuple, BavetJoinBridgeUniTuple<B> bTuple) {
+            BavetJoinBridgeUniTuple<A> aTuple, BavetJoinBridgeUniTuple<B> bTuple, int childTupleListSize) {
         this.node = node;
         this.aTuple = aTuple;
         this.bTuple = bTuple;
+        childTupleList = new ArrayList<>(childTupleListSize);
     }
 
     @Override
@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.function.BiFunction;
 
 import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraint;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeNode;
@@ -27,6 +28,7 @@ import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinConstraintSt
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
 import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndexFactory;
 import org.optaplanner.core.impl.score.stream.bavet.uni.BavetFromUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.common.AbstractJoiner;
 
 public final class BavetJoinBridgeBiConstraintStream<Solution_, A, B>
         extends BavetAbstractBiConstraintStream<Solution_, A, B>
@@ -35,16 +37,18 @@ public final class BavetJoinBridgeBiConstraintStream<Solution_, A, B>
     private final BavetAbstractBiConstraintStream<Solution_, A, B> parent;
     private BavetJoinConstraintStream<Solution_> joinStream;
     private final boolean isLeftBridge;
+    private final AbstractJoiner joiner;
     private final BiFunction<A, B, Object[]> mapping;
     private final BavetIndexFactory indexFactory;
 
     public BavetJoinBridgeBiConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
             BavetAbstractBiConstraintStream<Solution_, A, B> parent,
-            boolean isLeftBridge,
+            boolean isLeftBridge, AbstractJoiner joiner,
             BiFunction<A, B, Object[]> mapping, BavetIndexFactory indexFactory) {
         super(constraintFactory);
         this.parent = parent;
         this.isLeftBridge = isLeftBridge;
+        this.joiner = joiner;
         this.mapping = mapping;
         this.indexFactory = indexFactory;
     }
@@ -65,8 +69,8 @@ public final class BavetJoinBridgeBiConstraintStream<Solution_, A, B>
     @Override
     protected BavetJoinBridgeBiNode<A, B> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
             Score<?> constraintWeight, BavetAbstractBiNode<A, B> parentNode) {
-        return new BavetJoinBridgeBiNode<>(buildPolicy.getSession(), buildPolicy.nextNodeIndex(), parentNode, mapping,
-                indexFactory.buildIndex(isLeftBridge));
+        return new BavetJoinBridgeBiNode<>(buildPolicy.getSession(), buildPolicy.nextNodeIndex(), parentNode,
+                isLeftBridge, joiner, mapping, indexFactory.buildIndex(isLeftBridge));
     }
 
     @Override
@@ -77,7 +81,8 @@ public final class BavetJoinBridgeBiConstraintStream<Solution_, A, B>
                     + ") has an non-empty childStreamList (" + childStreamList + ") but it's a join bridge.");
         }
         BavetJoinBridgeBiNode<A, B> node = (BavetJoinBridgeBiNode<A, B>) uncastedNode;
-        BavetJoinBridgeNode otherBridgeNode = buildPolicy.getJoinConstraintStreamToJoinBridgeNodeMap().get(joinStream);
+        // Remove the other bridge node once paired, so another constraint that reuses this join stream pairs again
+        BavetJoinBridgeNode otherBridgeNode = buildPolicy.getJoinConstraintStreamToJoinBridgeNodeMap().remove(joinStream);
         if (otherBridgeNode == null) {
             buildPolicy.getJoinConstraintStreamToJoinBridgeNodeMap().put(joinStream, node);
         } else {
@@ -87,6 +92,11 @@ public final class BavetJoinBridgeBiConstraintStream<Solution_, A, B>
         }
     }
 
+    @Override
+    public boolean leadsTo(BavetConstraint<Solution_> constraint) {
+        return joinStream.leadsTo(constraint);
+    }
+
     @Override
     public String toString() {
         return "JoinBridge()";
@@ -16,6 +16,9 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.bi;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 
@@ -25,25 +28,66 @@ import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeNode;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
 import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndex;
 import org.optaplanner.core.impl.score.stream.bavet.tri.BavetJoinTriNode;
+import org.optaplanner.core.impl.score.stream.common.AbstractJoiner;
 
 public final class BavetJoinBridgeBiNode<A, B> extends BavetAbstractBiNode<A, B>
         implements BavetJoinBridgeNode {
 
     private final BavetAbstractBiNode<A, B> parentNode;
     private final BiFunction<A, B, Object[]> mapping;
-    /** Calls {@link BavetJoinTriNode#refreshChildTuplesLeft(BavetJoinBridgeBiTuple)}, right or tri/quad/... variants. */
-    private Consumer<BavetJoinBridgeBiTuple<A, B>> childTupleRefresher;
+    private final boolean isLeftBridge;
+    private final AbstractJoiner joiner;
+    /**
+     * Calls {@link BavetJoinTriNode#refreshChildTuplesLeft(BavetJoinBridgeBiTuple)}, right or tri/quad/... variants.
+     * Has 1 element per child join node, because join bridge nodes are shared.
+     */
+    private final List<Consumer<BavetJoinBridgeBiTuple<A, B>>> childTupleRefresherList = new ArrayList<>();
+    /**
+     * Called instead of {@link #childTupleRefresherList} if an updated tuple's index properties didn't change.
+     * Has the same order as {@link #childTupleRefresherList}.
+     */
+    private final List<Consumer<BavetJoinBridgeBiTuple<A, B>>> childTupleUpdaterList = new ArrayList<>();
 
     private final BavetIndex<BavetJoinBridgeBiTuple<A, B>> index;
 
     public BavetJoinBridgeBiNode(BavetConstraintSession session, int nodeIndex, BavetAbstractBiNode<A, B> parentNode,
-            BiFunction<A, B, Object[]> mapping, BavetIndex<BavetJoinBridgeBiTuple<A, B>> index) {
+            boolean isLeftBridge, AbstractJoiner joiner, BiFunction<A, B, Object[]> mapping,
+            BavetIndex<BavetJoinBridgeBiTuple<A, B>> index) {
         super(session, nodeIndex);
         this.parentNode = parentNode;
+        this.isLeftBridge = isLeftBridge;
+        this.joiner = joiner;
         this.mapping = mapping;
         this.index = index;
     }
 
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(parentNode), isLeftBridge, joiner);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetJoinBridgeBiNode) {
+            BavetJoinBridgeBiNode<?, ?> other = (BavetJoinBridgeBiNode<?, ?>) o;
+            return parentNode == other.parentNode
+                    && isLeftBridge == other.isLeftBridge
+                    && joiner.equals(other.joiner);
+        } else {
+            return false;
+        }
+    }
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
     @Override
     public BavetJoinBridgeBiTuple<A, B> createTuple(BavetAbstractBiTuple<A, B> parentTuple) {
         return new BavetJoinBridgeBiTuple<>(this, parentTuple);
@@ -54,15 +98,25 @@ public final class BavetJoinBridgeBiNode<A, B> extends BavetAbstractBiNode<A, B>
         BavetJoinBridgeBiTuple<A, B> tuple = (BavetJoinBridgeBiTuple<A, B>) uncastTuple;
         A a = tuple.getFactA();
         B b = tuple.getFactB();
+        Object[] indexProperties = tuple.isActive() ? mapping.apply(a, b) : null;
+        if (tuple.getState() == BavetTupleState.UPDATING
+                && isIndexUnchanged(tuple.getIndexProperties(), indexProperties)) {
+            // Keep the index entry, because every child join node still has the same matches for this tuple
+            for (Consumer<BavetJoinBridgeBiTuple<A, B>> childTupleUpdater : childTupleUpdaterList) {
+                childTupleUpdater.accept(tuple);
+            }
+            return;
+        }
         if (tuple.getState() != BavetTupleState.CREATING) {
             // Clean up index
             index.remove(tuple);
         }
-        if (tuple.isActive()) {
-            Object[] indexProperties = mapping.apply(a, b);
+        if (indexProperties != null) {
             index.put(indexProperties, tuple);
         }
-        childTupleRefresher.accept(tuple);
+        for (Consumer<BavetJoinBridgeBiTuple<A, B>> childTupleRefresher : childTupleRefresherList) {
+            childTupleRefresher.accept(tuple);
+        }
     }
 
     @Override
@@ -78,8 +132,20 @@ public final class BavetJoinBridgeBiNode<A, B> extends BavetAbstractBiNode<A, B>
         return index;
     }
 
-    public void setChildTupleRefresher(Consumer<BavetJoinBridgeBiTuple<A, B>> childTupleRefresher) {
-        this.childTupleRefresher = childTupleRefresher;
+    /**
+     * @param childTupleRefresher never null, called when a tuple of this node is created, killed or reindexed
+     * @param childTupleUpdater never null, called when a tuple of this node is updated but keeps its index entry
+     * @return the index of the childTupleList, in every tuple of this node, that belongs to that child join node
+     */
+    public int addChildTupleRefresher(Consumer<BavetJoinBridgeBiTuple<A, B>> childTupleRefresher,
+            Consumer<BavetJoinBridgeBiTuple<A, B>> childTupleUpdater) {
+        childTupleRefresherList.add(childTupleRefresher);
+        childTupleUpdaterList.add(childTupleUpdater);
+        return childTupleRefresherList.size() - 1;
+    }
+
+    public int getChildTupleRefresherCount() {
+        return childTupleRefresherList.size();
     }
 
 }
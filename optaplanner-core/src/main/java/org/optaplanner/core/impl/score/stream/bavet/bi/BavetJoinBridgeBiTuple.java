@@ -27,7 +27,8 @@ public final class BavetJoinBridgeBiTuple<A, B> extends BavetAbstractBiTuple<A,
 
     protected final BavetAbstractBiTuple<A, B> parentTuple;
     private final BavetJoinBridgeBiNode<A, B> node;
-    private final List<BavetAbstractTuple> childTupleList = new ArrayList<>();
+    /** 1 childTupleList per child join node of the (shared) node. */
+    private final List<BavetAbstractTuple>[] childTupleLists;
 
     private Object[] indexProperties;
 
@@ -35,11 +36,15 @@ public final class BavetJoinBridgeBiTuple<A, B> extends BavetAbstractBiTuple<A,
             BavetAbstractBiTuple<A, B> parentTuple) {
         this.parentTuple = parentTuple;
         this.node = node;
+        childTupleLists = new List[node.getChildTupleRefresherCount()];
+        for (int i = 0; i < childTupleLists.length; i++) {
+            childTupleLists[i] = new ArrayList<>();
+        }
     }
 
     @Override
     public String toString() {
-        return "JoinBridge(" + getFactsString() + ") with " + childTupleList.size() + " children";
+        return "JoinBridge(" + getFactsString() + ") with " + childTupleLists.length + " child joins";
     }
 
     // ************************************************************************
@@ -53,7 +58,16 @@ public final class BavetJoinBridgeBiTuple<A, B> extends BavetAbstractBiTuple<A,
 
     @Override
     public List<BavetAbstractTuple> getChildTupleList() {
-        return childTupleList;
+        throw new UnsupportedOperationException("Impossible state: the join bridge tuple (" + this
+                + ") has a childTupleList per child join node.");
+    }
+
+    /**
+     * @param childTupleListIndex as returned by {@link BavetJoinBridgeBiNode#addChildTupleRefresher}
+     * @return never null
+     */
+    public List<BavetAbstractTuple> getChildTupleList(int childTupleListIndex) {
+        return childTupleLists[childTupleListIndex];
     }
 
     @Override
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.bi;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+
+/**
+ * Holds the tuples of a map or flattenLast bridge node.
+ * That bridge node sets their facts and creates, updates and kills them.
+ */
+public final class BavetMapBiNode<A, B> extends BavetAbstractBiNode<A, B> {
+
+    private final BavetNode parentNode;
+
+    private final List<BavetAbstractBiNode<A, B>> childNodeList = new ArrayList<>();
+
+    public BavetMapBiNode(BavetConstraintSession session, int nodeIndex, BavetNode parentNode) {
+        super(session, nodeIndex);
+        this.parentNode = parentNode;
+    }
+
+    @Override
+    public void addChildNode(BavetAbstractBiNode<A, B> childNode) {
+        childNodeList.add(childNode);
+    }
+
+    @Override
+    public List<BavetAbstractBiNode<A, B>> getChildNodeList() {
+        return childNodeList;
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(parentNode);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetMapBiNode) {
+            BavetMapBiNode<?, ?> other = (BavetMapBiNode<?, ?>) o;
+            // The parent bridge node is only shared if its mapping is the same too
+            return parentNode == other.parentNode;
+        } else {
+            return false;
+        }
+    }
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    @Override
+    public BavetMapBiTuple<A, B> createTuple(BavetAbstractBiTuple<A, B> parentTuple) {
+        throw new IllegalStateException("The map node (" + getClass().getSimpleName()
+                + ") can't have a parentTuple (" + parentTuple + ");");
+    }
+
+    public BavetMapBiTuple<A, B> createMappedTuple(A factA, B factB) {
+        return new BavetMapBiTuple<>(this, factA, factB, childNodeList.size());
+    }
+
+    @Override
+    public void refresh(BavetAbstractTuple uncastTuple) {
+        BavetMapBiTuple<A, B> tuple = (BavetMapBiTuple<A, B>) uncastTuple;
+        List<BavetAbstractTuple> childTupleList = tuple.getChildTupleList();
+        if (!tuple.isActive()) {
+            killChildTuples(childTupleList);
+        } else if (!childTupleList.isEmpty()) {
+            // The facts changed in place, so the child tuples only need to be refreshed
+            updateChildTuples(childTupleList);
+        } else {
+            for (BavetAbstractBiNode<A, B> childNode : childNodeList) {
+                BavetAbstractBiTuple<A, B> childTuple = childNode.createTuple(tuple);
+                childTupleList.add(childTuple);
+                session.transitionTuple(childTuple, BavetTupleState.CREATING);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Map() with " + childNodeList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
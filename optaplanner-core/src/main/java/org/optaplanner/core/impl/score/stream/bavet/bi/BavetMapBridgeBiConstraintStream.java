@@ -0,0 +1,93 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.bi;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraint;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetFromUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetMapUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetMapUniNode;
+
+public final class BavetMapBridgeBiConstraintStream<Solution_, A, B, ResultA_>
+        extends BavetAbstractBiConstraintStream<Solution_, A, B> {
+
+    private final BavetAbstractBiConstraintStream<Solution_, A, B> parent;
+    private final BiFunction<A, B, ResultA_> mapping;
+    private BavetMapUniConstraintStream<Solution_, ResultA_> mapStream;
+
+    public BavetMapBridgeBiConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
+            BavetAbstractBiConstraintStream<Solution_, A, B> parent, BiFunction<A, B, ResultA_> mapping) {
+        super(constraintFactory);
+        this.parent = parent;
+        this.mapping = mapping;
+        if (mapping == null) {
+            throw new IllegalArgumentException("The mapping (null) cannot be null.");
+        }
+    }
+
+    public void setMapStream(BavetMapUniConstraintStream<Solution_, ResultA_> mapStream) {
+        this.mapStream = mapStream;
+    }
+
+    @Override
+    public List<BavetFromUniConstraintStream<Solution_, Object>> getFromStreamList() {
+        return parent.getFromStreamList();
+    }
+
+    // ************************************************************************
+    // Node creation
+    // ************************************************************************
+
+    @Override
+    protected BavetMapBridgeBiNode<A, B, ResultA_> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, BavetAbstractBiNode<A, B> parentNode) {
+        return new BavetMapBridgeBiNode<>(buildPolicy.getSession(), buildPolicy.nextNodeIndex(), parentNode, mapping);
+    }
+
+    @Override
+    protected void createChildNodeChains(BavetNodeBuildPolicy<Solution_> buildPolicy, Score<?> constraintWeight,
+            BavetAbstractBiNode<A, B> node) {
+        if (!childStreamList.isEmpty()) {
+            throw new IllegalStateException("Impossible state: the stream (" + this
+                    + ") has an non-empty childStreamList (" + childStreamList + ") but it's a map bridge.");
+        }
+        BavetMapBridgeBiNode<A, B, ResultA_> mapBridgeNode = (BavetMapBridgeBiNode<A, B, ResultA_>) node;
+        // If the mapBridgeNode is shared, this returns its existing mapNode
+        BavetMapUniNode<ResultA_> mapNode = mapStream.createNodeChain(buildPolicy, constraintWeight, mapBridgeNode);
+        mapBridgeNode.setMapNode(mapNode);
+    }
+
+    @Override
+    public boolean leadsTo(BavetConstraint<Solution_> constraint) {
+        return mapStream.leadsTo(constraint);
+    }
+
+    @Override
+    public String toString() {
+        return "MapBridge()";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.bi;
+
+import java.util.Objects;
+import java.util.function.BiFunction;
+
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetMapUniNode;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetMapUniTuple;
+
+/**
+ * Every tuple keeps its mapped child tuple for its entire lifetime
+ * and changes that child tuple's fact in place when it is updated,
+ * so the nodes downstream only see an update.
+ */
+public final class BavetMapBridgeBiNode<A, B, ResultA_> extends BavetAbstractBiNode<A, B> {
+
+    private final BavetAbstractBiNode<A, B> parentNode;
+    private final BiFunction<A, B, ResultA_> mapping;
+    private BavetMapUniNode<ResultA_> mapNode;
+
+    public BavetMapBridgeBiNode(BavetConstraintSession session, int nodeIndex,
+            BavetAbstractBiNode<A, B> parentNode, BiFunction<A, B, ResultA_> mapping) {
+        super(session, nodeIndex);
+        this.parentNode = parentNode;
+        this.mapping = mapping;
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(parentNode), System.identityHashCode(mapping));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetMapBridgeBiNode) {
+            BavetMapBridgeBiNode<?, ?, ?> other = (BavetMapBridgeBiNode<?, ?, ?>) o;
+            return parentNode == other.parentNode
+                    && mapping == other.mapping;
+        } else {
+            return false;
+        }
+    }
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    @Override
+    public BavetMapBridgeBiTuple<A, B, ResultA_> createTuple(BavetAbstractBiTuple<A, B> parentTuple) {
+        return new BavetMapBridgeBiTuple<>(this, parentTuple);
+    }
+
+    public void setMapNode(BavetMapUniNode<ResultA_> mapNode) {
+        this.mapNode = mapNode;
+    }
+
+    @Override
+    public void refresh(BavetAbstractTuple uncastTuple) {
+        if (mapNode == null) {
+            throw new IllegalStateException("Impossible state: MapBridgeNode (" + this +
+                    ") has no child MapNode (" + mapNode + ").");
+        }
+        BavetMapBridgeBiTuple<A, B, ResultA_> tuple = (BavetMapBridgeBiTuple<A, B, ResultA_>) uncastTuple;
+        BavetMapUniTuple<ResultA_> childTuple = tuple.getChildTuple();
+        if (!tuple.isActive()) {
+            if (childTuple != null) {
+                session.transitionTuple(childTuple, BavetTupleState.DYING);
+                tuple.setChildTuple(null);
+            }
+            return;
+        }
+        ResultA_ resultA = mapping.apply(tuple.getFactA(), tuple.getFactB());
+        if (childTuple == null) {
+            childTuple = mapNode.createMappedTuple(resultA);
+            tuple.setChildTuple(childTuple);
+            session.transitionTuple(childTuple, BavetTupleState.CREATING);
+        } else {
+            childTuple.updateFacts(resultA);
+            session.transitionTuple(childTuple, BavetTupleState.UPDATING);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MapBridge()";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.bi;
+
+import java.util.List;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetMapUniTuple;
+
+public final class BavetMapBridgeBiTuple<A, B, ResultA_> extends BavetAbstractBiTuple<A, B> {
+
+    private final BavetMapBridgeBiNode<A, B, ResultA_> node;
+    private final BavetAbstractBiTuple<A, B> parentTuple;
+
+    private BavetMapUniTuple<ResultA_> childTuple;
+
+    public BavetMapBridgeBiTuple(BavetMapBridgeBiNode<A, B, ResultA_> node, BavetAbstractBiTuple<A, B> parentTuple) {
+        this.node = node;
+        this.parentTuple = parentTuple;
+    }
+
+    @Override
+    public String toString() {
+        return "MapBridge(" + getFactsString() + ") with " + (childTuple == null ? 0 : 1) + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    @Override
+    public BavetMapBridgeBiNode<A, B, ResultA_> getNode() {
+        return node;
+    }
+
+    @Override
+    public List<BavetAbstractTuple> getChildTupleList() {
+        throw new IllegalStateException("Impossible state: map bridges only have 1 child tuple.");
+    }
+
+    @Override
+    public A getFactA() {
+        return parentTuple.getFactA();
+    }
+
+    @Override
+    public B getFactB() {
+        return parentTuple.getFactB();
+    }
+
+    public BavetMapUniTuple<ResultA_> getChildTuple() {
+        return childTuple;
+    }
+
+    public void setChildTuple(BavetMapUniTuple<ResultA_> childTuple) {
+        this.childTuple = childTuple;
+    }
+
+}
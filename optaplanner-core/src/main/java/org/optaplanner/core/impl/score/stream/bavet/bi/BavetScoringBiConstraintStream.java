@@ -19,22 +19,22 @@ package org.optaplanner.core.impl.score.stream.bavet.bi;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.function.BiFunction;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.ToIntBiFunction;
 import java.util.function.ToLongBiFunction;
 
-import org.optaplanner.core.api.function.TriFunction;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.stream.bi.BiConstraintStream;
 import org.optaplanner.core.impl.score.inliner.BigDecimalWeightedScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.IntWeightedScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.LongWeightedScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.ScoreInliner;
-import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.WeightedScoreImpacter;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraint;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoringTuple;
 import org.optaplanner.core.impl.score.stream.bavet.uni.BavetFromUniConstraintStream;
 
 public final class BavetScoringBiConstraintStream<Solution_, A, B>
@@ -108,18 +108,21 @@ public final class BavetScoringBiConstraintStream<Solution_, A, B>
             Score<?> constraintWeight, BavetAbstractBiNode<A, B> parentNode) {
         ScoreInliner scoreInliner = buildPolicy.getSession().getScoreInliner();
         WeightedScoreImpacter weightedScoreImpacter = scoreInliner.buildWeightedScoreImpacter(constraintWeight);
-        TriFunction<A, B, Consumer<Score<?>>, UndoScoreImpacter> scoreImpacter;
+        BiConsumer<BavetScoringBiTuple<A, B>, Consumer<Score<?>>> scoreImpacter;
         if (weightedScoreImpacter instanceof IntWeightedScoreImpacter) {
             IntWeightedScoreImpacter castedWeightedScoreImpacter = (IntWeightedScoreImpacter) weightedScoreImpacter;
             if (intMatchWeigher != null) {
-                scoreImpacter = (A a, B b, Consumer<Score<?>> matchScoreConsumer) -> {
-                    int matchWeight = intMatchWeigher.applyAsInt(a, b);
+                scoreImpacter = (BavetScoringBiTuple<A, B> tuple, Consumer<Score<?>> matchScoreConsumer) -> {
+                    int matchWeight = intMatchWeigher.applyAsInt(tuple.getFactA(), tuple.getFactB());
                     constraint.assertCorrectImpact(matchWeight);
-                    return castedWeightedScoreImpacter.impactScore(matchWeight, matchScoreConsumer);
+                    castedWeightedScoreImpacter.impactScore(matchWeight, matchScoreConsumer);
+                    tuple.setMatchWeight(matchWeight);
                 };
             } else if (noMatchWeigher) {
-                scoreImpacter = (A a, B b, Consumer<Score<?>> matchScoreConsumer) -> castedWeightedScoreImpacter.impactScore(1,
-                        matchScoreConsumer);
+                scoreImpacter = (BavetScoringBiTuple<A, B> tuple, Consumer<Score<?>> matchScoreConsumer) -> {
+                    castedWeightedScoreImpacter.impactScore(1, matchScoreConsumer);
+                    tuple.setMatchWeight(1L);
+                };
             } else {
                 throw new IllegalStateException("The matchWeigher of " + BiConstraintStream.class.getSimpleName()
                         + ".penalize(matchWeigher) of the constraint (" + constraint.getConstraintId()
@@ -129,14 +132,17 @@ public final class BavetScoringBiConstraintStream<Solution_, A, B>
         } else if (weightedScoreImpacter instanceof LongWeightedScoreImpacter) {
             LongWeightedScoreImpacter castedWeightedScoreImpacter = (LongWeightedScoreImpacter) weightedScoreImpacter;
             if (longMatchWeigher != null) {
-                scoreImpacter = (A a, B b, Consumer<Score<?>> matchScoreConsumer) -> {
-                    long matchWeight = longMatchWeigher.applyAsLong(a, b);
+                scoreImpacter = (BavetScoringBiTuple<A, B> tuple, Consumer<Score<?>> matchScoreConsumer) -> {
+                    long matchWeight = longMatchWeigher.applyAsLong(tuple.getFactA(), tuple.getFactB());
                     constraint.assertCorrectImpact(matchWeight);
-                    return castedWeightedScoreImpacter.impactScore(matchWeight, matchScoreConsumer);
+                    castedWeightedScoreImpacter.impactScore(matchWeight, matchScoreConsumer);
+                    tuple.setMatchWeight(matchWeight);
                 };
             } else if (noMatchWeigher) {
-                scoreImpacter = (A a, B b, Consumer<Score<?>> matchScoreConsumer) -> castedWeightedScoreImpacter.impactScore(1L,
-                        matchScoreConsumer);
+                scoreImpacter = (BavetScoringBiTuple<A, B> tuple, Consumer<Score<?>> matchScoreConsumer) -> {
+                    castedWeightedScoreImpacter.impactScore(1L, matchScoreConsumer);
+                    tuple.setMatchWeight(1L);
+                };
             } else {
                 throw new IllegalStateException("The matchWeigher of " + BiConstraintStream.class.getSimpleName()
                         + ".penalize(matchWeigher) of the constraint (" + constraint.getConstraintId()
@@ -147,14 +153,17 @@ public final class BavetScoringBiConstraintStream<Solution_, A, B>
             BigDecimalWeightedScoreImpacter castedWeightedScoreImpacter =
                     (BigDecimalWeightedScoreImpacter) weightedScoreImpacter;
             if (bigDecimalMatchWeigher != null) {
-                scoreImpacter = (A a, B b, Consumer<Score<?>> matchScoreConsumer) -> {
-                    BigDecimal matchWeight = bigDecimalMatchWeigher.apply(a, b);
+                scoreImpacter = (BavetScoringBiTuple<A, B> tuple, Consumer<Score<?>> matchScoreConsumer) -> {
+                    BigDecimal matchWeight = bigDecimalMatchWeigher.apply(tuple.getFactA(), tuple.getFactB());
                     constraint.assertCorrectImpact(matchWeight);
-                    return castedWeightedScoreImpacter.impactScore(matchWeight, matchScoreConsumer);
+                    castedWeightedScoreImpacter.impactScore(matchWeight, matchScoreConsumer);
+                    tuple.setBigDecimalMatchWeight(matchWeight);
                 };
             } else if (noMatchWeigher) {
-                scoreImpacter = (A a, B b, Consumer<Score<?>> matchScoreConsumer) -> castedWeightedScoreImpacter
-                        .impactScore(BigDecimal.ONE, matchScoreConsumer);
+                scoreImpacter = (BavetScoringBiTuple<A, B> tuple, Consumer<Score<?>> matchScoreConsumer) -> {
+                    castedWeightedScoreImpacter.impactScore(BigDecimal.ONE, matchScoreConsumer);
+                    tuple.setBigDecimalMatchWeight(BigDecimal.ONE);
+                };
             } else {
                 throw new IllegalStateException("The matchWeigher of " + BiConstraintStream.class.getSimpleName()
                         + ".penalize(matchWeigher) of the constraint (" + constraint.getConstraintId()
@@ -165,7 +174,8 @@ public final class BavetScoringBiConstraintStream<Solution_, A, B>
             throw new IllegalStateException("Unsupported weightedScoreImpacter (" + weightedScoreImpacter + ").");
         }
         BavetScoringBiNode<A, B> node = new BavetScoringBiNode<>(buildPolicy.getSession(), buildPolicy.nextNodeIndex(),
-                constraint.getConstraintPackage(), constraint.getConstraintName(), constraintWeight, scoreImpacter);
+                constraint.getConstraintPackage(), constraint.getConstraintName(), constraintWeight, scoreImpacter,
+                BavetScoringTuple.buildUndoScoreImpacter(weightedScoreImpacter));
         buildPolicy.addScoringNode(node);
         return node;
     }
@@ -179,6 +189,11 @@ public final class BavetScoringBiConstraintStream<Solution_, A, B>
         }
     }
 
+    @Override
+    public boolean leadsTo(BavetConstraint<Solution_> constraint) {
+        return this.constraint == constraint;
+    }
+
     @Override
     public String toString() {
         return "Scoring()";
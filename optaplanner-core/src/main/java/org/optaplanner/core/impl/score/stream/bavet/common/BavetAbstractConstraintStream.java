@@ -62,6 +62,14 @@ public abstract class BavetAbstractConstraintStream<Solution_> extends AbstractC
 
     public abstract List<BavetFromUniConstraintStream<Solution_, Object>> getFromStreamList();
 
+    /**
+     * A stream can be reused by several constraints,
+     * but a constraint must only create the nodes of the streams that end in its own scoring stream.
+     * @param constraint never null
+     * @return true if the scoring stream of the constraint is this stream or a descendant of it
+     */
+    public abstract boolean leadsTo(BavetConstraint<Solution_> constraint);
+
     // ************************************************************************
     // Getters/setters
     // ************************************************************************
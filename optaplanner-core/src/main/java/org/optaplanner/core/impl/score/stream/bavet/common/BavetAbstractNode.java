@@ -16,6 +16,9 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.common;
 
+import java.util.List;
+import java.util.Objects;
+
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
 
 public abstract class BavetAbstractNode implements BavetNode {
@@ -30,6 +33,84 @@ public abstract class BavetAbstractNode implements BavetNode {
 
     public abstract void refresh(BavetAbstractTuple tuple);
 
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    /**
+     * Lambdas don't implement {@link Object#equals(Object)}, so lists of them are compared by element identity.
+     * @param list never null
+     * @return consistent with {@link #identityEquals(List, List)}
+     */
+    protected static int identityHashCode(List<?> list) {
+        int hashCode = 1;
+        for (Object element : list) {
+            hashCode = 31 * hashCode + System.identityHashCode(element);
+        }
+        return hashCode;
+    }
+
+    /**
+     * @param list never null
+     * @param otherList never null
+     * @return true if both lists have the same size and the same instances in the same order
+     */
+    protected static boolean identityEquals(List<?> list, List<?> otherList) {
+        if (list.size() != otherList.size()) {
+            return false;
+        }
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i) != otherList.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    /**
+     * Propagates an update to the existing child tuples, instead of killing and recreating them.
+     * The child tuples read their facts through their parent tuple, so they don't need to be replaced.
+     * @param childTupleList never null
+     */
+    protected void updateChildTuples(List<BavetAbstractTuple> childTupleList) {
+        for (BavetAbstractTuple childTuple : childTupleList) {
+            session.transitionTuple(childTuple, BavetTupleState.UPDATING);
+        }
+    }
+
+    /**
+     * @param childTupleList never null, empty afterwards
+     */
+    protected void killChildTuples(List<BavetAbstractTuple> childTupleList) {
+        for (BavetAbstractTuple childTuple : childTupleList) {
+            session.transitionTuple(childTuple, BavetTupleState.DYING);
+        }
+        childTupleList.clear();
+    }
+
+    /**
+     * The old index properties are the snapshot stored in the index,
+     * so a collection index property that was mutated in place no longer equals its new value.
+     * @param oldIndexProperties never null
+     * @param newIndexProperties never null
+     * @return true if the tuple can keep its index entry and all of its join partners
+     */
+    protected static boolean isIndexUnchanged(Object[] oldIndexProperties, Object[] newIndexProperties) {
+        if (oldIndexProperties.length != newIndexProperties.length) {
+            return false;
+        }
+        for (int i = 0; i < oldIndexProperties.length; i++) {
+            if (!Objects.equals(oldIndexProperties[i], newIndexProperties[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     // ************************************************************************
     // Getters/setters
     // ************************************************************************
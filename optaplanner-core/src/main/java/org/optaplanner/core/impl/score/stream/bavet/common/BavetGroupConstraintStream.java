@@ -0,0 +1,48 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraint;
+
+public interface BavetGroupConstraintStream<Solution_> {
+
+    /**
+     * @param buildPolicy never null
+     * @param constraintWeight never null
+     * @param groupBridgeNode never null, the parent node of the group node, used for node sharing
+     * @param groupKeyCount {@code >= 0}, the first facts of every group tuple
+     * @param resultContainerSupplierList never null, one per collector
+     * @param finisherList never null, one per collector, provide the facts after the group keys
+     * @return never null
+     */
+    BavetGroupNode createNodeChain(BavetNodeBuildPolicy<Solution_> buildPolicy, Score<?> constraintWeight,
+            BavetNode groupBridgeNode, int groupKeyCount, List<Supplier<?>> resultContainerSupplierList,
+            List<Function<Object, ?>> finisherList);
+
+    /**
+     * @param constraint never null
+     * @return true if the scoring stream of the constraint is this stream or a descendant of it
+     * @see BavetAbstractConstraintStream#leadsTo(BavetConstraint)
+     */
+    boolean leadsTo(BavetConstraint<Solution_> constraint);
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common;
+
+import java.util.Arrays;
+
+/**
+ * The group key of a groupBy with no or multiple group key mappings.
+ * A groupBy with a single group key mapping uses that group key directly.
+ */
+public final class BavetGroupKey {
+
+    public static final BavetGroupKey EMPTY = new BavetGroupKey(new Object[0]);
+
+    private final Object[] groupKeys;
+    private final int hashCode;
+
+    public BavetGroupKey(Object[] groupKeys) {
+        this.groupKeys = groupKeys;
+        hashCode = Arrays.hashCode(groupKeys);
+    }
+
+    public Object get(int index) {
+        return groupKeys[index];
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetGroupKey) {
+            BavetGroupKey other = (BavetGroupKey) o;
+            return hashCode == other.hashCode
+                    && Arrays.equals(groupKeys, other.groupKeys);
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(groupKeys);
+    }
+
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common;
+
+public interface BavetGroupNode extends BavetNode {
+
+    /**
+     * Called by the group bridge when one of its tuples starts contributing to a group.
+     * @param groupKey sometimes null
+     * @return never null, the existing tuple of that group or a new one
+     */
+    BavetGroupTuple acquireGroupTuple(Object groupKey);
+
+    /**
+     * Called by the group bridge when one of its tuples no longer contributes to a group,
+     * after it has undone its accumulations.
+     * @param tuple never null, previously returned by {@link #acquireGroupTuple(Object)}
+     */
+    void releaseGroupTuple(BavetGroupTuple tuple);
+
+}
@@ -18,4 +18,11 @@ package org.optaplanner.core.impl.score.stream.bavet.common;
 
 public interface BavetGroupTuple extends BavetTuple {
 
+    Object getGroupKey();
+
+    /**
+     * @return never null, one per collector
+     */
+    Object[] getResultContainers();
+
 }
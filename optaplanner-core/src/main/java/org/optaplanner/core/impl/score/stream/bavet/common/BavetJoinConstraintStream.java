@@ -17,10 +17,18 @@
 package org.optaplanner.core.impl.score.stream.bavet.common;
 
 import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraint;
 
 public interface BavetJoinConstraintStream<Solution_> {
 
     BavetJoinNode createNodeChain(BavetNodeBuildPolicy<Solution_> buildPolicy, Score<?> constraintWeight,
             BavetJoinBridgeNode leftNode, BavetJoinBridgeNode rightNode);
 
+    /**
+     * @param constraint never null
+     * @return true if the scoring stream of the constraint is this stream or a descendant of it
+     * @see BavetAbstractConstraintStream#leadsTo(BavetConstraint)
+     */
+    boolean leadsTo(BavetConstraint<Solution_> constraint);
+
 }
@@ -18,14 +18,17 @@ package org.optaplanner.core.impl.score.stream.bavet.common;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraint;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
 
 public class BavetNodeBuildPolicy<Solution_> {
@@ -33,10 +36,13 @@ public class BavetNodeBuildPolicy<Solution_> {
     private final BavetConstraintSession session;
 
     private int nextNodeIndex = 0;
+    private BavetConstraint<Solution_> constraint;
     private Map<String, BavetScoringNode> constraintIdToScoringNodeMap;
     private Map<BavetJoinConstraintStream<Solution_>, BavetJoinBridgeNode> joinConstraintStreamToJoinBridgeNodeMap =
             new HashMap<>();
     private Map<BavetAbstractNode, BavetAbstractNode> sharableNodeMap = new HashMap<>();
+    /** Every node retrieved since the last {@link #pollRetrievedNodeSet()}, including the shared ones. */
+    private Set<BavetNode> retrievedNodeSet = new HashSet<>();
 
     public BavetNodeBuildPolicy(BavetConstraintSession session, int constraintCount) {
         this.session = session;
@@ -49,9 +55,20 @@ public class BavetNodeBuildPolicy<Solution_> {
             // We are throwing away the new instance; throw away the new index, too.
             nextNodeIndex = node.getNodeIndex();
         }
+        retrievedNodeSet.add(sharedNode);
         return sharedNode;
     }
 
+    /**
+     * Called after a constraint created its nodes, to know which nodes that constraint uses.
+     * @return never null, every node retrieved since the previous call, including those shared with other constraints
+     */
+    public Set<BavetNode> pollRetrievedNodeSet() {
+        Set<BavetNode> nodeSet = retrievedNodeSet;
+        retrievedNodeSet = new HashSet<>();
+        return nodeSet;
+    }
+
     public void addScoringNode(BavetScoringNode scoringNode) {
         constraintIdToScoringNodeMap.put(scoringNode.getConstraintId(), scoringNode);
     }
@@ -68,6 +85,17 @@ public class BavetNodeBuildPolicy<Solution_> {
         return nextNodeIndex++;
     }
 
+    /**
+     * @return never null, the constraint whose nodes are being created
+     */
+    public BavetConstraint<Solution_> getConstraint() {
+        return constraint;
+    }
+
+    public void setConstraint(BavetConstraint<Solution_> constraint) {
+        this.constraint = constraint;
+    }
+
     public Map<String, BavetScoringNode> getConstraintIdToScoringNodeMap() {
         return constraintIdToScoringNodeMap;
     }
@@ -17,7 +17,6 @@
 package org.optaplanner.core.impl.score.stream.bavet.common;
 
 import org.optaplanner.core.api.score.Score;
-import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
 
 public interface BavetScoringNode extends BavetNode {
 
@@ -41,11 +40,4 @@ public interface BavetScoringNode extends BavetNode {
      */
     Score<?> getConstraintWeight();
 
-    /**
-     * @param zeroScore never null
-     * @return never null
-     * @param <Score_> the {@link Score} type
-     */
-    <Score_ extends Score<Score_>> ConstraintMatchTotal<Score_> buildConstraintMatchTotal(Score_ zeroScore);
-
 }
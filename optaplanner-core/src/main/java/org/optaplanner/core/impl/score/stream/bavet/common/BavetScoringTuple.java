@@ -16,17 +16,81 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.common;
 
+import java.math.BigDecimal;
+import java.util.function.Consumer;
+
 import org.optaplanner.core.api.score.Score;
-import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
+import org.optaplanner.core.api.score.constraint.ConstraintMatch;
+import org.optaplanner.core.impl.score.inliner.BigDecimalWeightedScoreImpacter;
+import org.optaplanner.core.impl.score.inliner.IntWeightedScoreImpacter;
+import org.optaplanner.core.impl.score.inliner.LongWeightedScoreImpacter;
+import org.optaplanner.core.impl.score.inliner.WeightedScoreImpacter;
 
 public interface BavetScoringTuple {
 
-    UndoScoreImpacter getUndoScoreImpacter();
+    /**
+     * Builds the function that reverts the score impact of a tuple,
+     * based on the match weight that tuple holds, and clears that match weight.
+     * It does nothing if the tuple doesn't impact the score.
+     * @param weightedScoreImpacter never null
+     * @return never null
+     */
+    static Consumer<BavetScoringTuple> buildUndoScoreImpacter(WeightedScoreImpacter weightedScoreImpacter) {
+        if (weightedScoreImpacter instanceof IntWeightedScoreImpacter) {
+            IntWeightedScoreImpacter castedWeightedScoreImpacter = (IntWeightedScoreImpacter) weightedScoreImpacter;
+            return tuple -> {
+                int matchWeight = (int) tuple.getMatchWeight();
+                if (matchWeight != 0) {
+                    castedWeightedScoreImpacter.undoScoreImpact(matchWeight);
+                    tuple.setMatchWeight(0L);
+                }
+            };
+        } else if (weightedScoreImpacter instanceof LongWeightedScoreImpacter) {
+            LongWeightedScoreImpacter castedWeightedScoreImpacter = (LongWeightedScoreImpacter) weightedScoreImpacter;
+            return tuple -> {
+                long matchWeight = tuple.getMatchWeight();
+                if (matchWeight != 0L) {
+                    castedWeightedScoreImpacter.undoScoreImpact(matchWeight);
+                    tuple.setMatchWeight(0L);
+                }
+            };
+        } else if (weightedScoreImpacter instanceof BigDecimalWeightedScoreImpacter) {
+            BigDecimalWeightedScoreImpacter castedWeightedScoreImpacter =
+                    (BigDecimalWeightedScoreImpacter) weightedScoreImpacter;
+            return tuple -> {
+                BigDecimal matchWeight = tuple.getBigDecimalMatchWeight();
+                if (matchWeight != null) {
+                    castedWeightedScoreImpacter.undoScoreImpact(matchWeight);
+                    tuple.setBigDecimalMatchWeight(null);
+                }
+            };
+        } else {
+            throw new IllegalStateException("Unsupported weightedScoreImpacter (" + weightedScoreImpacter + ").");
+        }
+    }
+
+    /**
+     * The match weight of the current score impact, kept as a primitive so undoing that impact doesn't allocate.
+     * An int match weight is widened to a long.
+     * @return 0 if the score isn't impacted by this tuple or if the score is {@link BigDecimal} based
+     */
+    long getMatchWeight();
+
+    void setMatchWeight(long matchWeight);
 
-    void setUndoScoreImpacter(UndoScoreImpacter undoScoreImpacter);
+    /**
+     * @return null if the score isn't impacted by this tuple or if the score isn't {@link BigDecimal} based
+     */
+    BigDecimal getBigDecimalMatchWeight();
+
+    void setBigDecimalMatchWeight(BigDecimal bigDecimalMatchWeight);
 
     Score<?> getMatchScore();
 
     void setMatchScore(Score<?> matchScore);
 
+    ConstraintMatch<?> getConstraintMatch();
+
+    void setConstraintMatch(ConstraintMatch<?> constraintMatch);
+
 }
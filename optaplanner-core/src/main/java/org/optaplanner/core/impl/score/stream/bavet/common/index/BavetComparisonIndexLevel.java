@@ -0,0 +1,105 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common.index;
+
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.optaplanner.core.impl.score.stream.common.JoinerType;
+
+/**
+ * Indexes on 1 comparable index property, so a lookup only visits the matching range of keys.
+ * Chaining several of these narrows the lookup on each comparison index property in turn.
+ * @param <Tuple_> the tuple type
+ */
+final class BavetComparisonIndexLevel<Tuple_> extends BavetIndexLevel<Tuple_> {
+
+    private final int propertyIndex;
+    private final JoinerType comparisonJoinerType;
+    private final Supplier<BavetIndexLevel<Tuple_>> nextLevelSupplier;
+    private final NavigableMap<Object, BavetIndexLevel<Tuple_>> nextLevelMap = new TreeMap<>();
+
+    BavetComparisonIndexLevel(int propertyIndex, JoinerType comparisonJoinerType,
+            Supplier<BavetIndexLevel<Tuple_>> nextLevelSupplier) {
+        switch (comparisonJoinerType) {
+            case LESS_THAN:
+            case LESS_THAN_OR_EQUAL:
+            case GREATER_THAN:
+            case GREATER_THAN_OR_EQUAL:
+                break;
+            default:
+                throw new IllegalArgumentException("The comparisonJoinerType (" + comparisonJoinerType
+                        + ") is not one of the 4 comparison types.");
+        }
+        this.propertyIndex = propertyIndex;
+        this.comparisonJoinerType = comparisonJoinerType;
+        this.nextLevelSupplier = nextLevelSupplier;
+    }
+
+    @Override
+    void put(Object[] indexProperties, Tuple_ tuple) {
+        nextLevelMap.computeIfAbsent(indexProperties[propertyIndex], k -> nextLevelSupplier.get())
+                .put(indexProperties, tuple);
+    }
+
+    @Override
+    boolean remove(Object[] indexProperties, Tuple_ tuple) {
+        Object key = indexProperties[propertyIndex];
+        BavetIndexLevel<Tuple_> nextLevel = nextLevelMap.get(key);
+        if (nextLevel == null || !nextLevel.remove(indexProperties, tuple)) {
+            return false;
+        }
+        if (nextLevel.isEmpty()) {
+            nextLevelMap.remove(key);
+        }
+        return true;
+    }
+
+    @Override
+    void visit(Object[] indexProperties, Consumer<Tuple_> tupleVisitor) {
+        Object key = indexProperties[propertyIndex];
+        NavigableMap<Object, BavetIndexLevel<Tuple_>> selectedMap;
+        switch (comparisonJoinerType) {
+            case LESS_THAN:
+                selectedMap = nextLevelMap.headMap(key, false);
+                break;
+            case LESS_THAN_OR_EQUAL:
+                selectedMap = nextLevelMap.headMap(key, true);
+                break;
+            case GREATER_THAN:
+                selectedMap = nextLevelMap.tailMap(key, false);
+                break;
+            case GREATER_THAN_OR_EQUAL:
+                selectedMap = nextLevelMap.tailMap(key, true);
+                break;
+            default:
+                throw new IllegalStateException("Impossible state: the comparisonJoinerType (" + comparisonJoinerType
+                        + ") is not one of the 4 comparison types.");
+        }
+        for (BavetIndexLevel<Tuple_> nextLevel : selectedMap.values()) {
+            nextLevel.visit(indexProperties, tupleVisitor);
+        }
+    }
+
+    @Override
+    boolean isEmpty() {
+        return nextLevelMap.isEmpty();
+    }
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common.index;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
+
+/**
+ * Indexes on any mix of equals and comparison index properties,
+ * by chaining a {@link BavetIndexLevel} per group of index properties.
+ * @param <Tuple_> the tuple type
+ */
+public class BavetCompositeIndex<Tuple_ extends BavetJoinBridgeTuple> extends BavetIndex<Tuple_> {
+
+    private final BavetIndexLevel<Tuple_> rootLevel;
+
+    BavetCompositeIndex(BavetIndexLevel<Tuple_> rootLevel) {
+        this.rootLevel = rootLevel;
+    }
+
+    @Override
+    public void remove(Tuple_ tuple) {
+        boolean removed = rootLevel.remove(tuple.getIndexProperties(), tuple);
+        if (!removed) {
+            throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactsString()
+                    + ")'s tuple cannot be removed in the index with indexProperties ("
+                    + Arrays.toString(tuple.getIndexProperties()) + ").");
+        }
+        tuple.setIndexProperties(null);
+    }
+
+    @Override
+    public void put(Object[] indexProperties, Tuple_ tuple) {
+        Object[] storedIndexProperties = snapshotIndexProperties(indexProperties);
+        rootLevel.put(storedIndexProperties, tuple);
+        tuple.setIndexProperties(storedIndexProperties);
+    }
+
+    @Override
+    public void visit(Object[] indexProperties, Consumer<Tuple_> tupleVisitor) {
+        rootLevel.visit(indexProperties, tupleVisitor);
+    }
+
+}
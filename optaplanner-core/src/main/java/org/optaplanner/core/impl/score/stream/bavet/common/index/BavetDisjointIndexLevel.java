@@ -0,0 +1,97 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common.index;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Indexes on 1 collection index property for {@link org.optaplanner.core.impl.score.stream.common.JoinerType#DISJOINT}.
+ * It maps every element of the stored collection to its tuples (an inverted index),
+ * so a lookup excludes the tuples that share an element with the other side
+ * without checking each collection with {@link Collection#contains(Object)}.
+ * @param <Tuple_> the tuple type
+ */
+final class BavetDisjointIndexLevel<Tuple_> extends BavetIndexLevel<Tuple_> {
+
+    private final int propertyIndex;
+    private final BavetIndexLevel<Tuple_> nextLevel;
+    private final Map<Object, Set<Tuple_>> elementToTupleSetMap = new HashMap<>();
+
+    BavetDisjointIndexLevel(int propertyIndex, Supplier<BavetIndexLevel<Tuple_>> nextLevelSupplier) {
+        this.propertyIndex = propertyIndex;
+        this.nextLevel = nextLevelSupplier.get();
+    }
+
+    private Collection<Object> extractElements(Object[] indexProperties) {
+        return BavetIntersectingIndexLevel.distinctElements((Collection<Object>) indexProperties[propertyIndex]);
+    }
+
+    @Override
+    void put(Object[] indexProperties, Tuple_ tuple) {
+        nextLevel.put(indexProperties, tuple);
+        for (Object element : extractElements(indexProperties)) {
+            elementToTupleSetMap.computeIfAbsent(element, k -> new HashSet<>()).add(tuple);
+        }
+    }
+
+    @Override
+    boolean remove(Object[] indexProperties, Tuple_ tuple) {
+        if (!nextLevel.remove(indexProperties, tuple)) {
+            return false;
+        }
+        for (Object element : extractElements(indexProperties)) {
+            Set<Tuple_> tupleSet = elementToTupleSetMap.get(element);
+            if (tupleSet != null && tupleSet.remove(tuple) && tupleSet.isEmpty()) {
+                elementToTupleSetMap.remove(element);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    void visit(Object[] indexProperties, Consumer<Tuple_> tupleVisitor) {
+        Collection<Object> otherElements = extractElements(indexProperties);
+        Set<Tuple_> intersectingTupleSet = new HashSet<>();
+        for (Object otherElement : otherElements) {
+            Set<Tuple_> tupleSet = elementToTupleSetMap.get(otherElement);
+            if (tupleSet != null) {
+                intersectingTupleSet.addAll(tupleSet);
+            }
+        }
+        if (intersectingTupleSet.isEmpty()) {
+            nextLevel.visit(indexProperties, tupleVisitor);
+            return;
+        }
+        nextLevel.visit(indexProperties, tuple -> {
+            if (!intersectingTupleSet.contains(tuple)) {
+                tupleVisitor.accept(tuple);
+            }
+        });
+    }
+
+    @Override
+    boolean isEmpty() {
+        return nextLevel.isEmpty();
+    }
+
+}
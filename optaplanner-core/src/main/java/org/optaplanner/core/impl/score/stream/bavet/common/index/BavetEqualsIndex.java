@@ -17,11 +17,11 @@
 package org.optaplanner.core.impl.score.stream.bavet.common.index;
 
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
 
@@ -46,23 +46,24 @@ public class BavetEqualsIndex<Tuple_ extends BavetJoinBridgeTuple> extends Bavet
 
     @Override
     public void put(Object[] indexProperties, Tuple_ tuple) {
-        Set<Tuple_> tupleSet = map.computeIfAbsent(new BavetIndexKey(indexProperties), k -> new LinkedHashSet<>());
+        Object[] storedIndexProperties = snapshotIndexProperties(indexProperties);
+        Set<Tuple_> tupleSet = map.computeIfAbsent(new BavetIndexKey(storedIndexProperties),
+                k -> new LinkedHashSet<>());
         boolean added = tupleSet.add(tuple);
         if (!added) {
             throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactsString()
                     + ") with indexProperties (" + Arrays.toString(indexProperties)
                     + ") was already added in the index to the tupleSet (" + tupleSet + ").");
         }
-        tuple.setIndexProperties(indexProperties);
+        tuple.setIndexProperties(storedIndexProperties);
     }
 
     @Override
-    public Set<Tuple_> get(Object[] indexProperties) {
+    public void visit(Object[] indexProperties, Consumer<Tuple_> tupleVisitor) {
         Set<Tuple_> tupleSet = map.get(new BavetIndexKey(indexProperties));
-        if (tupleSet == null) {
-            return Collections.emptySet();
+        if (tupleSet != null) {
+            tupleSet.forEach(tupleVisitor);
         }
-        return tupleSet;
     }
 
 }
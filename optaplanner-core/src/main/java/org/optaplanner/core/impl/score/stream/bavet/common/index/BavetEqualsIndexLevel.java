@@ -0,0 +1,87 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common.index;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Indexes on all {@link org.optaplanner.core.impl.score.stream.common.JoinerType#EQUAL} index properties
+ * with a single hash lookup.
+ * @param <Tuple_> the tuple type
+ */
+final class BavetEqualsIndexLevel<Tuple_> extends BavetIndexLevel<Tuple_> {
+
+    private final int[] propertyIndexes;
+    private final Supplier<BavetIndexLevel<Tuple_>> nextLevelSupplier;
+    private final Map<Object, BavetIndexLevel<Tuple_>> nextLevelMap = new HashMap<>();
+
+    /**
+     * @param propertyIndexes never null, not empty
+     * @param nextLevelSupplier never null
+     */
+    BavetEqualsIndexLevel(int[] propertyIndexes, Supplier<BavetIndexLevel<Tuple_>> nextLevelSupplier) {
+        this.propertyIndexes = propertyIndexes;
+        this.nextLevelSupplier = nextLevelSupplier;
+    }
+
+    private Object extractKey(Object[] indexProperties) {
+        if (propertyIndexes.length == 1) {
+            return indexProperties[propertyIndexes[0]];
+        }
+        Object[] keyProperties = new Object[propertyIndexes.length];
+        for (int i = 0; i < propertyIndexes.length; i++) {
+            keyProperties[i] = indexProperties[propertyIndexes[i]];
+        }
+        return new BavetIndexKey(keyProperties);
+    }
+
+    @Override
+    void put(Object[] indexProperties, Tuple_ tuple) {
+        nextLevelMap.computeIfAbsent(extractKey(indexProperties), k -> nextLevelSupplier.get())
+                .put(indexProperties, tuple);
+    }
+
+    @Override
+    boolean remove(Object[] indexProperties, Tuple_ tuple) {
+        Object key = extractKey(indexProperties);
+        BavetIndexLevel<Tuple_> nextLevel = nextLevelMap.get(key);
+        if (nextLevel == null || !nextLevel.remove(indexProperties, tuple)) {
+            return false;
+        }
+        if (nextLevel.isEmpty()) {
+            nextLevelMap.remove(key);
+        }
+        return true;
+    }
+
+    @Override
+    void visit(Object[] indexProperties, Consumer<Tuple_> tupleVisitor) {
+        BavetIndexLevel<Tuple_> nextLevel = nextLevelMap.get(extractKey(indexProperties));
+        if (nextLevel != null) {
+            nextLevel.visit(indexProperties, tupleVisitor);
+        }
+    }
+
+    @Override
+    boolean isEmpty() {
+        return nextLevelMap.isEmpty();
+    }
+
+}
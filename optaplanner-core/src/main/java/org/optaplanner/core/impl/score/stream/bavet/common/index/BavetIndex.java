@@ -16,7 +16,12 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.common.index;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
 
@@ -26,6 +31,41 @@ public abstract class BavetIndex<Tuple_ extends BavetJoinBridgeTuple> {
 
     public abstract void put(Object[] indexProperties, Tuple_ tuple);
 
-    public abstract Set<Tuple_> get(Object[] indexProperties);
+    /**
+     * Calls the tupleVisitor for every tuple that matches the indexProperties of the other side of the join.
+     * <p>
+     * The tupleVisitor must not modify this index.
+     * @param indexProperties never null
+     * @param tupleVisitor never null
+     */
+    public abstract void visit(Object[] indexProperties, Consumer<Tuple_> tupleVisitor);
+
+    /**
+     * The stored index properties are used later to remove the tuple,
+     * so a collection index property that the user mutates in place must not leak into the index.
+     * @param indexProperties never null
+     * @return never null, the same array if none of the index properties is a {@link Collection}
+     */
+    protected static Object[] snapshotIndexProperties(Object[] indexProperties) {
+        Object[] snapshot = indexProperties;
+        for (int i = 0; i < indexProperties.length; i++) {
+            Object indexProperty = indexProperties[i];
+            if (indexProperty instanceof Collection) {
+                if (snapshot == indexProperties) {
+                    snapshot = indexProperties.clone();
+                }
+                snapshot[i] = snapshotCollection((Collection<?>) indexProperty);
+            }
+        }
+        return snapshot;
+    }
+
+    private static Collection<?> snapshotCollection(Collection<?> collection) {
+        // Keep Set equality semantics, so an unchanged set still equals its snapshot
+        if (collection instanceof Set) {
+            return Collections.unmodifiableSet(new LinkedHashSet<>(collection));
+        }
+        return Collections.unmodifiableList(new ArrayList<>(collection));
+    }
 
 }
@@ -16,6 +16,12 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.common.index;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
 import org.optaplanner.core.impl.score.stream.common.AbstractJoiner;
 import org.optaplanner.core.impl.score.stream.common.JoinerType;
@@ -26,15 +32,19 @@ public class BavetIndexFactory {
 
     public BavetIndexFactory(AbstractJoiner joiner) {
         joinerTypes = joiner.getJoinerTypes();
-        for (int i = 0; i < joinerTypes.length; i++) {
-            if (joinerTypes[i] != JoinerType.EQUAL && i != (joinerTypes.length - 1)) {
-                throw new IllegalArgumentException("The joinerType (" + joinerTypes[i]
-                        + ") is currently only supported as the last joinerType.\n"
-                        + ((joinerTypes[i + 1] == JoinerType.EQUAL)
-                                ? "Maybe move the next joinerType (" + joinerTypes[i + 1]
-                                        + ") before this joinerType (" + joinerTypes[i] + ")."
-                                : "Maybe put the next joinerType (" + joinerTypes[i + 1]
-                                        + ") in a filter() predicate after the join() call for now."));
+        for (JoinerType joinerType : joinerTypes) {
+            switch (joinerType) {
+                case EQUAL:
+                case LESS_THAN:
+                case LESS_THAN_OR_EQUAL:
+                case GREATER_THAN:
+                case GREATER_THAN_OR_EQUAL:
+                case CONTAINING:
+                case INTERSECTING:
+                case DISJOINT:
+                    continue;
+                default:
+                    throw new UnsupportedOperationException("Unsupported joiner type (" + joinerType + ").");
             }
         }
     }
@@ -43,13 +53,84 @@ public class BavetIndexFactory {
         if (joinerTypes.length == 0) {
             return new BavetNoneIndex<>();
         }
-        JoinerType lastJoinerType = joinerTypes[joinerTypes.length - 1];
-        if (lastJoinerType == JoinerType.EQUAL) {
+        int[] equalsPropertyIndexes = IntStream.range(0, joinerTypes.length)
+                .filter(i -> joinerTypes[i] == JoinerType.EQUAL)
+                .toArray();
+        if (equalsPropertyIndexes.length == joinerTypes.length) {
             return new BavetEqualsIndex<>();
-        } else {
+        }
+        // The equals index properties are hashed first, regardless of the joiner order, to narrow the other levels
+        List<Function<Supplier<BavetIndexLevel<Tuple_>>, BavetIndexLevel<Tuple_>>> levelFactoryList =
+                new ArrayList<>(joinerTypes.length - equalsPropertyIndexes.length);
+        for (int i = 0; i < joinerTypes.length; i++) {
+            int propertyIndex = i;
+            switch (joinerTypes[i]) {
+                case EQUAL:
+                    continue;
+                case CONTAINING:
+                    // The left side is the collection, the right side is the element
+                    levelFactoryList.add(nextLevelSupplier -> new BavetIntersectingIndexLevel<>(
+                            propertyIndex, isLeftBridge, !isLeftBridge, nextLevelSupplier));
+                    continue;
+                case INTERSECTING:
+                    levelFactoryList.add(nextLevelSupplier -> new BavetIntersectingIndexLevel<>(
+                            propertyIndex, true, true, nextLevelSupplier));
+                    continue;
+                case DISJOINT:
+                    levelFactoryList.add(nextLevelSupplier -> new BavetDisjointIndexLevel<>(
+                            propertyIndex, nextLevelSupplier));
+                    continue;
+                default:
+                    break;
+            }
             // Use flip() to model A < B as B > A
-            return new BavetEqualsAndComparisonIndex<>(isLeftBridge ? lastJoinerType : lastJoinerType.flip());
+            JoinerType comparisonJoinerType = isLeftBridge ? joinerTypes[i] : joinerTypes[i].flip();
+            int nextPropertyIndex = i + 1;
+            JoinerType nextComparisonJoinerType = null;
+            if (nextPropertyIndex < joinerTypes.length && isComparison(joinerTypes[nextPropertyIndex])) {
+                nextComparisonJoinerType = isLeftBridge ? joinerTypes[nextPropertyIndex]
+                        : joinerTypes[nextPropertyIndex].flip();
+            }
+            if (isLessThan(comparisonJoinerType) && isGreaterThan(nextComparisonJoinerType)) {
+                // Such as Joiners.overlapping(): the start must be less than the other end and vice versa
+                JoinerType endJoinerType = nextComparisonJoinerType;
+                levelFactoryList.add(nextLevelSupplier -> new BavetIntervalIndexLevel<>(
+                        propertyIndex, comparisonJoinerType, nextPropertyIndex, endJoinerType, nextLevelSupplier));
+                i++;
+            } else if (isGreaterThan(comparisonJoinerType) && isLessThan(nextComparisonJoinerType)) {
+                JoinerType startJoinerType = nextComparisonJoinerType;
+                levelFactoryList.add(nextLevelSupplier -> new BavetIntervalIndexLevel<>(
+                        nextPropertyIndex, startJoinerType, propertyIndex, comparisonJoinerType, nextLevelSupplier));
+                i++;
+            } else {
+                levelFactoryList.add(nextLevelSupplier -> new BavetComparisonIndexLevel<>(
+                        propertyIndex, comparisonJoinerType, nextLevelSupplier));
+            }
+        }
+        Supplier<BavetIndexLevel<Tuple_>> levelSupplier = BavetTupleSetIndexLevel::new;
+        for (int i = levelFactoryList.size() - 1; i >= 0; i--) {
+            Function<Supplier<BavetIndexLevel<Tuple_>>, BavetIndexLevel<Tuple_>> levelFactory =
+                    levelFactoryList.get(i);
+            Supplier<BavetIndexLevel<Tuple_>> nextLevelSupplier = levelSupplier;
+            levelSupplier = () -> levelFactory.apply(nextLevelSupplier);
         }
+        if (equalsPropertyIndexes.length > 0) {
+            Supplier<BavetIndexLevel<Tuple_>> nextLevelSupplier = levelSupplier;
+            levelSupplier = () -> new BavetEqualsIndexLevel<>(equalsPropertyIndexes, nextLevelSupplier);
+        }
+        return new BavetCompositeIndex<>(levelSupplier.get());
+    }
+
+    private static boolean isComparison(JoinerType joinerType) {
+        return isLessThan(joinerType) || isGreaterThan(joinerType);
+    }
+
+    private static boolean isLessThan(JoinerType joinerType) {
+        return joinerType == JoinerType.LESS_THAN || joinerType == JoinerType.LESS_THAN_OR_EQUAL;
+    }
+
+    private static boolean isGreaterThan(JoinerType joinerType) {
+        return joinerType == JoinerType.GREATER_THAN || joinerType == JoinerType.GREATER_THAN_OR_EQUAL;
     }
 
 }
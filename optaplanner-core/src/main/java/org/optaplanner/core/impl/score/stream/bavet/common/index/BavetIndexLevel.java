@@ -0,0 +1,41 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common.index;
+
+import java.util.function.Consumer;
+
+/**
+ * One level of a {@link BavetCompositeIndex}, which indexes on 1 or more of the index properties
+ * and delegates the remaining index properties to its next levels.
+ * @param <Tuple_> the tuple type
+ */
+abstract class BavetIndexLevel<Tuple_> {
+
+    abstract void put(Object[] indexProperties, Tuple_ tuple);
+
+    /**
+     * @param indexProperties never null
+     * @param tuple never null
+     * @return true if the tuple was removed
+     */
+    abstract boolean remove(Object[] indexProperties, Tuple_ tuple);
+
+    abstract void visit(Object[] indexProperties, Consumer<Tuple_> tupleVisitor);
+
+    abstract boolean isEmpty();
+
+}
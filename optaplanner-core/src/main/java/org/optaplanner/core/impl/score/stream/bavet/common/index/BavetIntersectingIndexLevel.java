@@ -0,0 +1,137 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common.index;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * An inverted index on 1 index property: it maps every element of the stored collection to its tuples,
+ * so a lookup only visits the tuples that share at least 1 element with the other side.
+ * Supports {@link org.optaplanner.core.impl.score.stream.common.JoinerType#INTERSECTING}
+ * (a collection on both sides) and {@link org.optaplanner.core.impl.score.stream.common.JoinerType#CONTAINING}
+ * (a collection on 1 side and a single element on the other side).
+ * @param <Tuple_> the tuple type
+ */
+final class BavetIntersectingIndexLevel<Tuple_> extends BavetIndexLevel<Tuple_> {
+
+    /**
+     * The key for tuples with an empty collection, which never match but must still be removable.
+     */
+    private static final Object NO_ELEMENT_KEY = new Object();
+
+    private final int propertyIndex;
+    private final boolean storedCollection;
+    private final boolean otherCollection;
+    private final Supplier<BavetIndexLevel<Tuple_>> nextLevelSupplier;
+    private final Map<Object, BavetIndexLevel<Tuple_>> nextLevelMap = new HashMap<>();
+
+    /**
+     * @param propertyIndex the index property
+     * @param storedCollection true if the index property of the stored tuples is a {@link Collection}
+     * @param otherCollection true if the index property of the other side is a {@link Collection}
+     * @param nextLevelSupplier never null
+     */
+    BavetIntersectingIndexLevel(int propertyIndex, boolean storedCollection, boolean otherCollection,
+            Supplier<BavetIndexLevel<Tuple_>> nextLevelSupplier) {
+        if (!storedCollection && !otherCollection) {
+            throw new IllegalArgumentException("Impossible state: neither side of the index property ("
+                    + propertyIndex + ") is a collection.");
+        }
+        this.propertyIndex = propertyIndex;
+        this.storedCollection = storedCollection;
+        this.otherCollection = otherCollection;
+        this.nextLevelSupplier = nextLevelSupplier;
+    }
+
+    private Collection<Object> extractKeys(Object[] indexProperties, boolean collection) {
+        Object indexProperty = indexProperties[propertyIndex];
+        if (!collection) {
+            return Collections.singleton(indexProperty);
+        }
+        return distinctElements((Collection<Object>) indexProperty);
+    }
+
+    static Collection<Object> distinctElements(Collection<Object> collection) {
+        return collection instanceof Set ? collection : new HashSet<>(collection);
+    }
+
+    @Override
+    void put(Object[] indexProperties, Tuple_ tuple) {
+        Collection<Object> keys = extractKeys(indexProperties, storedCollection);
+        if (keys.isEmpty()) {
+            keys = Collections.singleton(NO_ELEMENT_KEY);
+        }
+        for (Object key : keys) {
+            nextLevelMap.computeIfAbsent(key, k -> nextLevelSupplier.get())
+                    .put(indexProperties, tuple);
+        }
+    }
+
+    @Override
+    boolean remove(Object[] indexProperties, Tuple_ tuple) {
+        Collection<Object> keys = extractKeys(indexProperties, storedCollection);
+        if (keys.isEmpty()) {
+            keys = Collections.singleton(NO_ELEMENT_KEY);
+        }
+        boolean removed = false;
+        for (Object key : keys) {
+            BavetIndexLevel<Tuple_> nextLevel = nextLevelMap.get(key);
+            if (nextLevel == null || !nextLevel.remove(indexProperties, tuple)) {
+                continue;
+            }
+            removed = true;
+            if (nextLevel.isEmpty()) {
+                nextLevelMap.remove(key);
+            }
+        }
+        return removed;
+    }
+
+    @Override
+    void visit(Object[] indexProperties, Consumer<Tuple_> tupleVisitor) {
+        Collection<Object> keys = extractKeys(indexProperties, otherCollection);
+        Consumer<Tuple_> distinctTupleVisitor = tupleVisitor;
+        if (storedCollection && keys.size() > 1) {
+            // A stored tuple that shares several elements with the other side must only be visited once
+            Set<Tuple_> visitedTupleSet = new HashSet<>();
+            distinctTupleVisitor = tuple -> {
+                if (visitedTupleSet.add(tuple)) {
+                    tupleVisitor.accept(tuple);
+                }
+            };
+        }
+        for (Object key : keys) {
+            BavetIndexLevel<Tuple_> nextLevel = nextLevelMap.get(key);
+            if (nextLevel != null) {
+                nextLevel.visit(indexProperties, distinctTupleVisitor);
+            }
+        }
+    }
+
+    @Override
+    boolean isEmpty() {
+        return nextLevelMap.isEmpty();
+    }
+
+}
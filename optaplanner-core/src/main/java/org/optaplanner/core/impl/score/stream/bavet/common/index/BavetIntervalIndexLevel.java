@@ -0,0 +1,281 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common.index;
+
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.optaplanner.core.impl.score.stream.common.JoinerType;
+
+/**
+ * Indexes on a pair of comparable index properties that form an interval,
+ * such as the 2 comparisons of {@link org.optaplanner.core.api.score.stream.Joiners#overlapping}.
+ * A lookup only visits the tuples whose start is before the other start
+ * and whose end is after the other end, in {@code O(log(n) + k)} for well-formed intervals.
+ * <p>
+ * Implemented as an AVL tree on the start property, augmented with the maximum end property of each subtree.
+ * @param <Tuple_> the tuple type
+ */
+final class BavetIntervalIndexLevel<Tuple_> extends BavetIndexLevel<Tuple_> {
+
+    private final int startPropertyIndex;
+    private final boolean startInclusive;
+    private final int endPropertyIndex;
+    private final boolean endInclusive;
+    private final Supplier<BavetIndexLevel<Tuple_>> nextLevelSupplier;
+    private IntervalNode root = null;
+
+    /**
+     * @param startPropertyIndex the index property that must be less than the other start
+     * @param startJoinerType {@link JoinerType#LESS_THAN} or {@link JoinerType#LESS_THAN_OR_EQUAL}
+     * @param endPropertyIndex the index property that must be greater than the other end
+     * @param endJoinerType {@link JoinerType#GREATER_THAN} or {@link JoinerType#GREATER_THAN_OR_EQUAL}
+     * @param nextLevelSupplier never null
+     */
+    BavetIntervalIndexLevel(int startPropertyIndex, JoinerType startJoinerType,
+            int endPropertyIndex, JoinerType endJoinerType, Supplier<BavetIndexLevel<Tuple_>> nextLevelSupplier) {
+        if (startJoinerType != JoinerType.LESS_THAN && startJoinerType != JoinerType.LESS_THAN_OR_EQUAL) {
+            throw new IllegalArgumentException("The startJoinerType (" + startJoinerType
+                    + ") must be " + JoinerType.LESS_THAN + " or " + JoinerType.LESS_THAN_OR_EQUAL + ".");
+        }
+        if (endJoinerType != JoinerType.GREATER_THAN && endJoinerType != JoinerType.GREATER_THAN_OR_EQUAL) {
+            throw new IllegalArgumentException("The endJoinerType (" + endJoinerType
+                    + ") must be " + JoinerType.GREATER_THAN + " or " + JoinerType.GREATER_THAN_OR_EQUAL + ".");
+        }
+        this.startPropertyIndex = startPropertyIndex;
+        this.startInclusive = startJoinerType == JoinerType.LESS_THAN_OR_EQUAL;
+        this.endPropertyIndex = endPropertyIndex;
+        this.endInclusive = endJoinerType == JoinerType.GREATER_THAN_OR_EQUAL;
+        this.nextLevelSupplier = nextLevelSupplier;
+    }
+
+    @Override
+    void put(Object[] indexProperties, Tuple_ tuple) {
+        root = put(root, indexProperties, tuple);
+    }
+
+    private IntervalNode put(IntervalNode node, Object[] indexProperties, Tuple_ tuple) {
+        Object start = indexProperties[startPropertyIndex];
+        if (node == null) {
+            node = new IntervalNode(start);
+            node.put(indexProperties, tuple);
+            node.update();
+            return node;
+        }
+        int comparison = compare(start, node.start);
+        if (comparison < 0) {
+            node.left = put(node.left, indexProperties, tuple);
+        } else if (comparison > 0) {
+            node.right = put(node.right, indexProperties, tuple);
+        } else {
+            node.put(indexProperties, tuple);
+        }
+        return rebalance(node);
+    }
+
+    @Override
+    boolean remove(Object[] indexProperties, Tuple_ tuple) {
+        Object start = indexProperties[startPropertyIndex];
+        IntervalNode node = root;
+        while (node != null) {
+            int comparison = compare(start, node.start);
+            if (comparison == 0) {
+                break;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        if (node == null || !node.remove(indexProperties, tuple)) {
+            return false;
+        }
+        // Refresh the maximum ends on the path to the node and delete it if it became empty
+        root = refreshPath(root, start);
+        return true;
+    }
+
+    private IntervalNode refreshPath(IntervalNode node, Object start) {
+        int comparison = compare(start, node.start);
+        if (comparison < 0) {
+            node.left = refreshPath(node.left, start);
+        } else if (comparison > 0) {
+            node.right = refreshPath(node.right, start);
+        } else if (node.endMap.isEmpty()) {
+            return delete(node);
+        }
+        return rebalance(node);
+    }
+
+    private IntervalNode delete(IntervalNode node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        IntervalNode successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        node.right = deleteMin(node.right);
+        successor.left = node.left;
+        successor.right = node.right;
+        return rebalance(successor);
+    }
+
+    private IntervalNode deleteMin(IntervalNode node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = deleteMin(node.left);
+        return rebalance(node);
+    }
+
+    @Override
+    void visit(Object[] indexProperties, Consumer<Tuple_> tupleVisitor) {
+        visit(root, indexProperties, tupleVisitor);
+    }
+
+    private void visit(IntervalNode node, Object[] indexProperties, Consumer<Tuple_> tupleVisitor) {
+        if (node == null) {
+            return;
+        }
+        Object otherEnd = indexProperties[endPropertyIndex];
+        if (!isEndAfter(node.maxEnd, otherEnd)) {
+            // No interval in this subtree ends late enough
+            return;
+        }
+        visit(node.left, indexProperties, tupleVisitor);
+        if (!isStartBefore(node.start, indexProperties[startPropertyIndex])) {
+            // The right subtree starts even later
+            return;
+        }
+        for (BavetIndexLevel<Tuple_> nextLevel : node.endMap.tailMap(otherEnd, endInclusive).values()) {
+            nextLevel.visit(indexProperties, tupleVisitor);
+        }
+        visit(node.right, indexProperties, tupleVisitor);
+    }
+
+    private boolean isStartBefore(Object start, Object otherStart) {
+        int comparison = compare(start, otherStart);
+        return startInclusive ? comparison <= 0 : comparison < 0;
+    }
+
+    private boolean isEndAfter(Object end, Object otherEnd) {
+        int comparison = compare(end, otherEnd);
+        return endInclusive ? comparison >= 0 : comparison > 0;
+    }
+
+    @Override
+    boolean isEmpty() {
+        return root == null;
+    }
+
+    private static int compare(Object a, Object b) {
+        return ((Comparable) a).compareTo(b);
+    }
+
+    private int height(IntervalNode node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private IntervalNode rebalance(IntervalNode node) {
+        node.update();
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        } else if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private IntervalNode rotateLeft(IntervalNode node) {
+        IntervalNode newParent = node.right;
+        node.right = newParent.left;
+        newParent.left = node;
+        node.update();
+        newParent.update();
+        return newParent;
+    }
+
+    private IntervalNode rotateRight(IntervalNode node) {
+        IntervalNode newParent = node.left;
+        node.left = newParent.right;
+        newParent.right = node;
+        node.update();
+        newParent.update();
+        return newParent;
+    }
+
+    private final class IntervalNode {
+
+        private final Object start;
+        private final NavigableMap<Object, BavetIndexLevel<Tuple_>> endMap = new TreeMap<>();
+        private Object maxEnd = null;
+        private int height = 1;
+        private IntervalNode left = null;
+        private IntervalNode right = null;
+
+        private IntervalNode(Object start) {
+            this.start = start;
+        }
+
+        private void put(Object[] indexProperties, Tuple_ tuple) {
+            endMap.computeIfAbsent(indexProperties[endPropertyIndex], k -> nextLevelSupplier.get())
+                    .put(indexProperties, tuple);
+        }
+
+        private boolean remove(Object[] indexProperties, Tuple_ tuple) {
+            Object end = indexProperties[endPropertyIndex];
+            BavetIndexLevel<Tuple_> nextLevel = endMap.get(end);
+            if (nextLevel == null || !nextLevel.remove(indexProperties, tuple)) {
+                return false;
+            }
+            if (nextLevel.isEmpty()) {
+                endMap.remove(end);
+            }
+            return true;
+        }
+
+        private void update() {
+            height = 1 + Math.max(height(left), height(right));
+            // An empty node is about to be deleted, so its own ends are ignored
+            Object newMaxEnd = endMap.isEmpty() ? null : endMap.lastKey();
+            newMaxEnd = max(newMaxEnd, left == null ? null : left.maxEnd);
+            maxEnd = max(newMaxEnd, right == null ? null : right.maxEnd);
+        }
+
+        private Object max(Object a, Object b) {
+            if (a == null) {
+                return b;
+            }
+            if (b == null) {
+                return a;
+            }
+            return compare(a, b) >= 0 ? a : b;
+        }
+
+    }
+
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common.index;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * The last level of a {@link BavetCompositeIndex}, which holds the tuples.
+ * @param <Tuple_> the tuple type
+ */
+final class BavetTupleSetIndexLevel<Tuple_> extends BavetIndexLevel<Tuple_> {
+
+    private final Set<Tuple_> tupleSet = new LinkedHashSet<>();
+
+    @Override
+    void put(Object[] indexProperties, Tuple_ tuple) {
+        boolean added = tupleSet.add(tuple);
+        if (!added) {
+            throw new IllegalStateException("Impossible state: the tuple (" + tuple
+                    + ") was already added in the index to the tupleSet (" + tupleSet + ").");
+        }
+    }
+
+    @Override
+    boolean remove(Object[] indexProperties, Tuple_ tuple) {
+        return tupleSet.remove(tuple);
+    }
+
+    @Override
+    void visit(Object[] indexProperties, Consumer<Tuple_> tupleVisitor) {
+        tupleSet.forEach(tupleVisitor);
+    }
+
+    @Override
+    boolean isEmpty() {
+        return tupleSet.isEmpty();
+    }
+
+}
@@ -0,0 +1,394 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.quad;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.optaplanner.core.api.function.PentaPredicate;
+import org.optaplanner.core.api.function.QuadFunction;
+import org.optaplanner.core.api.function.QuadPredicate;
+import org.optaplanner.core.api.function.ToIntQuadFunction;
+import org.optaplanner.core.api.function.ToLongQuadFunction;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.bi.BiConstraintStream;
+import org.optaplanner.core.api.score.stream.penta.PentaJoiner;
+import org.optaplanner.core.api.score.stream.quad.QuadConstraintCollector;
+import org.optaplanner.core.api.score.stream.quad.QuadConstraintStream;
+import org.optaplanner.core.api.score.stream.tri.TriConstraintStream;
+import org.optaplanner.core.api.score.stream.uni.UniConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraint;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
+import org.optaplanner.core.impl.score.stream.bavet.bi.BavetGroupBiConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndexFactory;
+import org.optaplanner.core.impl.score.stream.bavet.tri.BavetGroupTriConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetAbstractUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetGroupUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.common.ScoreImpactType;
+import org.optaplanner.core.impl.score.stream.penta.AbstractPentaJoiner;
+import org.optaplanner.core.impl.score.stream.penta.FilteringPentaJoiner;
+import org.optaplanner.core.impl.score.stream.quad.InnerQuadConstraintStream;
+
+public abstract class BavetAbstractQuadConstraintStream<Solution_, A, B, C, D>
+        extends BavetAbstractConstraintStream<Solution_>
+        implements InnerQuadConstraintStream<A, B, C, D> {
+
+    protected final List<BavetAbstractQuadConstraintStream<Solution_, A, B, C, D>> childStreamList = new ArrayList<>(2);
+
+    public BavetAbstractQuadConstraintStream(BavetConstraintFactory<Solution_> constraintFactory) {
+        super(constraintFactory);
+    }
+
+    // ************************************************************************
+    // Stream builder methods
+    // ************************************************************************
+
+    protected void addChildStream(BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> childStream) {
+        childStreamList.add(childStream);
+    }
+
+    // ************************************************************************
+    // Filter
+    // ************************************************************************
+
+    @Override
+    public BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> filter(QuadPredicate<A, B, C, D> predicate) {
+        BavetFilterQuadConstraintStream<Solution_, A, B, C, D> stream =
+                new BavetFilterQuadConstraintStream<>(constraintFactory, this, predicate);
+        addChildStream(stream);
+        return stream;
+    }
+
+    // ************************************************************************
+    // If (not) exists
+    // ************************************************************************
+
+    @SafeVarargs
+    @Override
+    public final <E> QuadConstraintStream<A, B, C, D> ifExists(Class<E> otherClass, PentaJoiner<A, B, C, D, E>... joiners) {
+        return ifExistsOrNot(true, otherClass, joiners);
+    }
+
+    @SafeVarargs
+    @Override
+    public final <E> QuadConstraintStream<A, B, C, D> ifNotExists(Class<E> otherClass, PentaJoiner<A, B, C, D, E>... joiners) {
+        return ifExistsOrNot(false, otherClass, joiners);
+    }
+
+    @SafeVarargs
+    private final <E> QuadConstraintStream<A, B, C, D> ifExistsOrNot(boolean shouldExist, Class<E> otherClass,
+            PentaJoiner<A, B, C, D, E>... joiners) {
+        constraintFactory.assertValidFromType(otherClass);
+        List<PentaJoiner<A, B, C, D, E>> indexingJoinerList = new ArrayList<>(joiners.length);
+        PentaPredicate<A, B, C, D, E> filter = null;
+        for (PentaJoiner<A, B, C, D, E> joiner : joiners) {
+            if (joiner instanceof FilteringPentaJoiner) {
+                // Merge all filters into one, to only index on the indexing joiners
+                PentaPredicate<A, B, C, D, E> joinerFilter = ((FilteringPentaJoiner<A, B, C, D, E>) joiner).getFilter();
+                filter = (filter == null) ? joinerFilter : filter.and(joinerFilter);
+            } else if (filter != null) {
+                throw new IllegalArgumentException("The indexing joiner (" + joiner
+                        + ") must not follow a filtering joiner in the joiners (" + Arrays.toString(joiners) + ").");
+            } else {
+                indexingJoinerList.add(joiner);
+            }
+        }
+        AbstractPentaJoiner<A, B, C, D, E> indexingJoiner = AbstractPentaJoiner.merge(
+                indexingJoinerList.toArray(new PentaJoiner[0]));
+        BavetIndexFactory indexFactory = new BavetIndexFactory(indexingJoiner);
+        BavetJoinBridgeQuadConstraintStream<Solution_, A, B, C, D> leftBridge = new BavetJoinBridgeQuadConstraintStream<>(
+                constraintFactory, this, true, indexingJoiner,
+                indexingJoiner.getLeftCombinedMapping(), indexFactory);
+        addChildStream(leftBridge);
+        BavetAbstractUniConstraintStream<Solution_, E> other = constraintFactory.fromUnfiltered(otherClass);
+        BavetJoinBridgeUniConstraintStream<Solution_, E> rightBridge = new BavetJoinBridgeUniConstraintStream<>(
+                constraintFactory, other, false, indexingJoiner,
+                indexingJoiner.getRightCombinedMapping(), indexFactory);
+        other.addChildStream(rightBridge);
+        BavetIfExistsQuadConstraintStream<Solution_, A, B, C, D, E> ifExistsStream = new BavetIfExistsQuadConstraintStream<>(
+                constraintFactory, leftBridge, rightBridge, shouldExist, filter);
+        leftBridge.setJoinStream(ifExistsStream);
+        rightBridge.setJoinStream(ifExistsStream);
+        return ifExistsStream;
+    }
+
+    // ************************************************************************
+    // Group by
+    // ************************************************************************
+
+    @Override
+    public <ResultContainer_, Result_> UniConstraintStream<Result_> groupBy(
+            QuadConstraintCollector<A, B, C, D, ResultContainer_, Result_> collector) {
+        return buildGroupBy(Collections.emptyList(), Collections.singletonList(collector),
+                new BavetGroupUniConstraintStream<>(constraintFactory, this));
+    }
+
+    @Override
+    public <ResultContainerA_, ResultA_, ResultContainerB_, ResultB_> BiConstraintStream<ResultA_, ResultB_> groupBy(
+            QuadConstraintCollector<A, B, C, D, ResultContainerA_, ResultA_> collectorA,
+            QuadConstraintCollector<A, B, C, D, ResultContainerB_, ResultB_> collectorB) {
+        return buildGroupBy(Collections.emptyList(), Arrays.asList(collectorA, collectorB),
+                new BavetGroupBiConstraintStream<>(constraintFactory, this));
+    }
+
+    @Override
+    public <ResultContainerA_, ResultA_, ResultContainerB_, ResultB_, ResultContainerC_, ResultC_>
+            TriConstraintStream<ResultA_, ResultB_, ResultC_> groupBy(
+                    QuadConstraintCollector<A, B, C, D, ResultContainerA_, ResultA_> collectorA,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerB_, ResultB_> collectorB,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerC_, ResultC_> collectorC) {
+        return buildGroupBy(Collections.emptyList(), Arrays.asList(collectorA, collectorB, collectorC),
+                new BavetGroupTriConstraintStream<>(constraintFactory, this));
+    }
+
+    @Override
+    public <ResultContainerA_, ResultA_, ResultContainerB_, ResultB_, ResultContainerC_, ResultC_, ResultContainerD_, ResultD_>
+            QuadConstraintStream<ResultA_, ResultB_, ResultC_, ResultD_> groupBy(
+                    QuadConstraintCollector<A, B, C, D, ResultContainerA_, ResultA_> collectorA,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerB_, ResultB_> collectorB,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerC_, ResultC_> collectorC,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerD_, ResultD_> collectorD) {
+        return buildGroupBy(Collections.emptyList(), Arrays.asList(collectorA, collectorB, collectorC, collectorD),
+                new BavetGroupQuadConstraintStream<>(constraintFactory, this));
+    }
+
+    @Override
+    public <GroupKey_> UniConstraintStream<GroupKey_> groupBy(QuadFunction<A, B, C, D, GroupKey_> groupKeyMapping) {
+        return buildGroupBy(Collections.singletonList(groupKeyMapping), Collections.emptyList(),
+                new BavetGroupUniConstraintStream<>(constraintFactory, this));
+    }
+
+    @Override
+    public <GroupKey_, ResultContainer_, Result_> BiConstraintStream<GroupKey_, Result_> groupBy(
+            QuadFunction<A, B, C, D, GroupKey_> groupKeyMapping,
+            QuadConstraintCollector<A, B, C, D, ResultContainer_, Result_> collector) {
+        return buildGroupBy(Collections.singletonList(groupKeyMapping), Collections.singletonList(collector),
+                new BavetGroupBiConstraintStream<>(constraintFactory, this));
+    }
+
+    @Override
+    public <GroupKey_, ResultContainerB_, ResultB_, ResultContainerC_, ResultC_>
+            TriConstraintStream<GroupKey_, ResultB_, ResultC_> groupBy(
+                    QuadFunction<A, B, C, D, GroupKey_> groupKeyMapping,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerB_, ResultB_> collectorB,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerC_, ResultC_> collectorC) {
+        return buildGroupBy(Collections.singletonList(groupKeyMapping), Arrays.asList(collectorB, collectorC),
+                new BavetGroupTriConstraintStream<>(constraintFactory, this));
+    }
+
+    @Override
+    public <GroupKey_, ResultContainerB_, ResultB_, ResultContainerC_, ResultC_, ResultContainerD_, ResultD_>
+            QuadConstraintStream<GroupKey_, ResultB_, ResultC_, ResultD_> groupBy(
+                    QuadFunction<A, B, C, D, GroupKey_> groupKeyMapping,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerB_, ResultB_> collectorB,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerC_, ResultC_> collectorC,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerD_, ResultD_> collectorD) {
+        return buildGroupBy(Collections.singletonList(groupKeyMapping),
+                Arrays.asList(collectorB, collectorC, collectorD),
+                new BavetGroupQuadConstraintStream<>(constraintFactory, this));
+    }
+
+    @Override
+    public <GroupKeyA_, GroupKeyB_> BiConstraintStream<GroupKeyA_, GroupKeyB_> groupBy(
+            QuadFunction<A, B, C, D, GroupKeyA_> groupKeyAMapping,
+            QuadFunction<A, B, C, D, GroupKeyB_> groupKeyBMapping) {
+        return buildGroupBy(Arrays.asList(groupKeyAMapping, groupKeyBMapping), Collections.emptyList(),
+                new BavetGroupBiConstraintStream<>(constraintFactory, this));
+    }
+
+    @Override
+    public <GroupKeyA_, GroupKeyB_, ResultContainer_, Result_> TriConstraintStream<GroupKeyA_, GroupKeyB_, Result_> groupBy(
+            QuadFunction<A, B, C, D, GroupKeyA_> groupKeyAMapping,
+            QuadFunction<A, B, C, D, GroupKeyB_> groupKeyBMapping,
+            QuadConstraintCollector<A, B, C, D, ResultContainer_, Result_> collector) {
+        return buildGroupBy(Arrays.asList(groupKeyAMapping, groupKeyBMapping), Collections.singletonList(collector),
+                new BavetGroupTriConstraintStream<>(constraintFactory, this));
+    }
+
+    @Override
+    public <GroupKeyA_, GroupKeyB_, ResultContainerC_, ResultC_, ResultContainerD_, ResultD_>
+            QuadConstraintStream<GroupKeyA_, GroupKeyB_, ResultC_, ResultD_> groupBy(
+                    QuadFunction<A, B, C, D, GroupKeyA_> groupKeyAMapping,
+                    QuadFunction<A, B, C, D, GroupKeyB_> groupKeyBMapping,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerC_, ResultC_> collectorC,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerD_, ResultD_> collectorD) {
+        return buildGroupBy(Arrays.asList(groupKeyAMapping, groupKeyBMapping), Arrays.asList(collectorC, collectorD),
+                new BavetGroupQuadConstraintStream<>(constraintFactory, this));
+    }
+
+    private <Stream_ extends BavetGroupConstraintStream<Solution_>> Stream_ buildGroupBy(
+            List<QuadFunction<A, B, C, D, ?>> groupKeyMappingList,
+            List<QuadConstraintCollector<A, B, C, D, ?, ?>> collectorList, Stream_ groupStream) {
+        BavetGroupBridgeQuadConstraintStream<Solution_, A, B, C, D> bridge = new BavetGroupBridgeQuadConstraintStream<>(
+                constraintFactory, this, groupKeyMappingList, collectorList);
+        addChildStream(bridge);
+        bridge.setGroupStream(groupStream);
+        return groupStream;
+    }
+
+    // ************************************************************************
+    // Penalize/reward
+    // ************************************************************************
+
+    @Override
+    public final Constraint impactScore(String constraintPackage, String constraintName, Score<?> constraintWeight,
+            ScoreImpactType impactType) {
+        BavetConstraint<Solution_> constraint = buildConstraint(constraintPackage, constraintName, constraintWeight,
+                impactType);
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream =
+                new BavetScoringQuadConstraintStream<>(constraintFactory, this, constraint);
+        childStreamList.add(stream);
+        return constraint;
+    }
+
+    @Override
+    public final Constraint impactScore(String constraintPackage, String constraintName, Score<?> constraintWeight,
+            ToIntQuadFunction<A, B, C, D> matchWeigher, ScoreImpactType impactType) {
+        BavetConstraint<Solution_> constraint = buildConstraint(constraintPackage, constraintName, constraintWeight,
+                impactType);
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream =
+                new BavetScoringQuadConstraintStream<>(constraintFactory, this, constraint, matchWeigher);
+        childStreamList.add(stream);
+        return constraint;
+    }
+
+    @Override
+    public final Constraint impactScoreLong(String constraintPackage, String constraintName,
+            Score<?> constraintWeight, ToLongQuadFunction<A, B, C, D> matchWeigher, ScoreImpactType impactType) {
+        BavetConstraint<Solution_> constraint = buildConstraint(constraintPackage, constraintName, constraintWeight,
+                impactType);
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream =
+                new BavetScoringQuadConstraintStream<>(constraintFactory, this, constraint, matchWeigher);
+        childStreamList.add(stream);
+        return constraint;
+    }
+
+    @Override
+    public final Constraint impactScoreBigDecimal(String constraintPackage, String constraintName,
+            Score<?> constraintWeight, QuadFunction<A, B, C, D, BigDecimal> matchWeigher, ScoreImpactType impactType) {
+        BavetConstraint<Solution_> constraint = buildConstraint(constraintPackage, constraintName, constraintWeight,
+                impactType);
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream =
+                new BavetScoringQuadConstraintStream<>(constraintFactory, this, constraint, matchWeigher);
+        childStreamList.add(stream);
+        return constraint;
+    }
+
+    @Override
+    public final Constraint impactScoreConfigurable(String constraintPackage, String constraintName,
+            ScoreImpactType impactType) {
+        BavetConstraint<Solution_> constraint = buildConstraintConfigurable(constraintPackage, constraintName,
+                impactType);
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream =
+                new BavetScoringQuadConstraintStream<>(constraintFactory, this, constraint);
+        childStreamList.add(stream);
+        return constraint;
+    }
+
+    @Override
+    public final Constraint impactScoreConfigurable(String constraintPackage, String constraintName,
+            ToIntQuadFunction<A, B, C, D> matchWeigher, ScoreImpactType impactType) {
+        BavetConstraint<Solution_> constraint = buildConstraintConfigurable(constraintPackage, constraintName,
+                impactType);
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream =
+                new BavetScoringQuadConstraintStream<>(constraintFactory, this, constraint, matchWeigher);
+        childStreamList.add(stream);
+        return constraint;
+    }
+
+    @Override
+    public final Constraint impactScoreConfigurableLong(String constraintPackage, String constraintName,
+            ToLongQuadFunction<A, B, C, D> matchWeigher, ScoreImpactType impactType) {
+        BavetConstraint<Solution_> constraint = buildConstraintConfigurable(constraintPackage, constraintName,
+                impactType);
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream =
+                new BavetScoringQuadConstraintStream<>(constraintFactory, this, constraint, matchWeigher);
+        childStreamList.add(stream);
+        return constraint;
+    }
+
+    @Override
+    public final Constraint impactScoreConfigurableBigDecimal(String constraintPackage, String constraintName,
+            QuadFunction<A, B, C, D, BigDecimal> matchWeigher, ScoreImpactType impactType) {
+        BavetConstraint<Solution_> constraint = buildConstraintConfigurable(constraintPackage, constraintName,
+                impactType);
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream =
+                new BavetScoringQuadConstraintStream<>(constraintFactory, this, constraint, matchWeigher);
+        childStreamList.add(stream);
+        return constraint;
+    }
+
+    // ************************************************************************
+    // Node creation
+    // ************************************************************************
+
+    public BavetAbstractQuadNode<A, B, C, D> createNodeChain(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, BavetAbstractQuadNode<A, B, C, D> parentNode) {
+        BavetAbstractQuadNode<A, B, C, D> node = createNode(buildPolicy, constraintWeight, parentNode);
+        node = processNode(buildPolicy, parentNode, node);
+        createChildNodeChains(buildPolicy, constraintWeight, node);
+        return node;
+    }
+
+    protected BavetAbstractQuadNode<A, B, C, D> processNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            BavetAbstractQuadNode<A, B, C, D> parentNode, BavetAbstractQuadNode<A, B, C, D> node) {
+        BavetAbstractQuadNode<A, B, C, D> sharedNode = buildPolicy.retrieveSharedNode(node);
+        if (sharedNode != node) { // Share node
+            return sharedNode;
+        }
+        if (parentNode != null) { // TODO remove null check and don't go through this for from and joins
+            parentNode.addChildNode(node);
+        }
+        return node;
+    }
+
+    protected void createChildNodeChains(BavetNodeBuildPolicy<Solution_> buildPolicy, Score<?> constraintWeight,
+            BavetAbstractQuadNode<A, B, C, D> node) {
+        if (childStreamList.isEmpty()) {
+            throw new IllegalStateException("The stream (" + this + ") leads to nowhere.\n"
+                    + "Maybe don't create it.");
+        }
+        for (BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> childStream : childStreamList) {
+            // A child stream that is only reused by other constraints gets its nodes when those are built
+            if (childStream.leadsTo(buildPolicy.getConstraint())) {
+                childStream.createNodeChain(buildPolicy, constraintWeight, node);
+            }
+        }
+    }
+
+    @Override
+    public boolean leadsTo(BavetConstraint<Solution_> constraint) {
+        for (BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> childStream : childStreamList) {
+            if (childStream.leadsTo(constraint)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected abstract BavetAbstractQuadNode<A, B, C, D> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, BavetAbstractQuadNode<A, B, C, D> parentNode);
+
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.quad;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.optaplanner.core.api.function.PentaFunction;
+import org.optaplanner.core.api.function.QuadFunction;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupKey;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupTuple;
+
+public final class BavetGroupBridgeQuadNode<A, B, C, D> extends BavetAbstractQuadNode<A, B, C, D> {
+
+    private final BavetAbstractQuadNode<A, B, C, D> parentNode;
+    private final List<QuadFunction<A, B, C, D, ?>> groupKeyMappingList;
+    private final List<Supplier<?>> resultContainerSupplierList;
+    private final List<PentaFunction<Object, A, B, C, D, Runnable>> accumulatorList;
+    private final List<Function<Object, ?>> finisherList;
+    private BavetGroupNode groupNode;
+
+    public BavetGroupBridgeQuadNode(BavetConstraintSession session, int nodeIndex,
+            BavetAbstractQuadNode<A, B, C, D> parentNode, List<QuadFunction<A, B, C, D, ?>> groupKeyMappingList,
+            List<Supplier<?>> resultContainerSupplierList, List<PentaFunction<Object, A, B, C, D, Runnable>> accumulatorList,
+            List<Function<Object, ?>> finisherList) {
+        super(session, nodeIndex);
+        this.parentNode = parentNode;
+        this.groupKeyMappingList = groupKeyMappingList;
+        this.resultContainerSupplierList = resultContainerSupplierList;
+        this.accumulatorList = accumulatorList;
+        this.finisherList = finisherList;
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(parentNode), identityHashCode(groupKeyMappingList),
+                identityHashCode(resultContainerSupplierList), identityHashCode(accumulatorList),
+                identityHashCode(finisherList));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetGroupBridgeQuadNode) {
+            BavetGroupBridgeQuadNode<?, ?, ?, ?> other = (BavetGroupBridgeQuadNode<?, ?, ?, ?>) o;
+            return parentNode == other.parentNode
+                    && identityEquals(groupKeyMappingList, other.groupKeyMappingList)
+                    && identityEquals(resultContainerSupplierList, other.resultContainerSupplierList)
+                    && identityEquals(accumulatorList, other.accumulatorList)
+                    && identityEquals(finisherList, other.finisherList);
+        } else {
+            return false;
+        }
+    }
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    @Override
+    public BavetGroupBridgeQuadTuple<A, B, C, D> createTuple(BavetAbstractQuadTuple<A, B, C, D> parentTuple) {
+        return new BavetGroupBridgeQuadTuple<>(this, parentTuple, accumulatorList.size());
+    }
+
+    public void setGroupNode(BavetGroupNode groupNode) {
+        this.groupNode = groupNode;
+    }
+
+    @Override
+    public void refresh(BavetAbstractTuple uncastTuple) {
+        if (groupNode == null) {
+            throw new IllegalStateException("Impossible state: GroupBridgeNode (" + this +
+                    ") has no child GroupNode (" + groupNode + ").");
+        }
+        BavetGroupBridgeQuadTuple<A, B, C, D> tuple = (BavetGroupBridgeQuadTuple<A, B, C, D>) uncastTuple;
+        Runnable[] undoAccumulators = tuple.getUndoAccumulators();
+        BavetGroupTuple oldChildTuple = tuple.getChildTuple();
+        if (oldChildTuple != null) {
+            for (int i = 0; i < undoAccumulators.length; i++) {
+                undoAccumulators[i].run();
+                undoAccumulators[i] = null;
+            }
+            tuple.setChildTuple(null);
+            groupNode.releaseGroupTuple(oldChildTuple);
+        }
+        if (tuple.isActive()) {
+            A a = tuple.getFactA();
+            B b = tuple.getFactB();
+            C c = tuple.getFactC();
+            D d = tuple.getFactD();
+            BavetGroupTuple childTuple = groupNode.acquireGroupTuple(extractGroupKey(a, b, c, d));
+            Object[] resultContainers = childTuple.getResultContainers();
+            for (int i = 0; i < undoAccumulators.length; i++) {
+                undoAccumulators[i] = accumulatorList.get(i).apply(resultContainers[i], a, b, c, d);
+            }
+            tuple.setChildTuple(childTuple);
+        }
+    }
+
+    private Object extractGroupKey(A a, B b, C c, D d) {
+        int groupKeyCount = groupKeyMappingList.size();
+        switch (groupKeyCount) {
+            case 0:
+                return BavetGroupKey.EMPTY;
+            case 1:
+                return groupKeyMappingList.get(0).apply(a, b, c, d);
+            default:
+                Object[] groupKeys = new Object[groupKeyCount];
+                for (int i = 0; i < groupKeyCount; i++) {
+                    groupKeys[i] = groupKeyMappingList.get(i).apply(a, b, c, d);
+                }
+                return new BavetGroupKey(groupKeys);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "GroupBridge()";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    public List<Supplier<?>> getResultContainerSupplierList() {
+        return resultContainerSupplierList;
+    }
+
+    public List<Function<Object, ?>> getFinisherList() {
+        return finisherList;
+    }
+
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.quad;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.optaplanner.core.api.function.QuadFunction;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndex;
+import org.optaplanner.core.impl.score.stream.common.AbstractJoiner;
+
+public final class BavetJoinBridgeQuadNode<A, B, C, D> extends BavetAbstractQuadNode<A, B, C, D>
+        implements BavetJoinBridgeNode {
+
+    private final BavetAbstractQuadNode<A, B, C, D> parentNode;
+    private final QuadFunction<A, B, C, D, Object[]> mapping;
+    private final boolean isLeftBridge;
+    private final AbstractJoiner joiner;
+    /**
+     * Calls {@link BavetIfExistsQuadNode#refreshChildTuplesLeft(BavetJoinBridgeQuadTuple)}, or the right variant.
+     * Has 1 element per child join node, because join bridge nodes are shared.
+     */
+    private final List<Consumer<BavetJoinBridgeQuadTuple<A, B, C, D>>> childTupleRefresherList = new ArrayList<>();
+    /**
+     * Called instead of {@link #childTupleRefresherList} if an updated tuple's index properties didn't change.
+     * Has the same order as {@link #childTupleRefresherList}.
+     */
+    private final List<Consumer<BavetJoinBridgeQuadTuple<A, B, C, D>>> childTupleUpdaterList = new ArrayList<>();
+
+    private final BavetIndex<BavetJoinBridgeQuadTuple<A, B, C, D>> index;
+
+    public BavetJoinBridgeQuadNode(BavetConstraintSession session, int nodeIndex,
+            BavetAbstractQuadNode<A, B, C, D> parentNode,
+            boolean isLeftBridge, AbstractJoiner joiner, QuadFunction<A, B, C, D, Object[]> mapping,
+            BavetIndex<BavetJoinBridgeQuadTuple<A, B, C, D>> index) {
+        super(session, nodeIndex);
+        this.parentNode = parentNode;
+        this.isLeftBridge = isLeftBridge;
+        this.joiner = joiner;
+        this.mapping = mapping;
+        this.index = index;
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(parentNode), isLeftBridge, joiner);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetJoinBridgeQuadNode) {
+            BavetJoinBridgeQuadNode<?, ?, ?, ?> other = (BavetJoinBridgeQuadNode<?, ?, ?, ?>) o;
+            return parentNode == other.parentNode
+                    && isLeftBridge == other.isLeftBridge
+                    && joiner.equals(other.joiner);
+        } else {
+            return false;
+        }
+    }
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    @Override
+    public BavetJoinBridgeQuadTuple<A, B, C, D> createTuple(BavetAbstractQuadTuple<A, B, C, D> parentTuple) {
+        return new BavetJoinBridgeQuadTuple<>(this, parentTuple);
+    }
+
+    @Override
+    public void refresh(BavetAbstractTuple uncastTuple) {
+        BavetJoinBridgeQuadTuple<A, B, C, D> tuple = (BavetJoinBridgeQuadTuple<A, B, C, D>) uncastTuple;
+        A a = tuple.getFactA();
+        B b = tuple.getFactB();
+        C c = tuple.getFactC();
+        D d = tuple.getFactD();
+        Object[] indexProperties = tuple.isActive() ? mapping.apply(a, b, c, d) : null;
+        if (tuple.getState() == BavetTupleState.UPDATING
+                && isIndexUnchanged(tuple.getIndexProperties(), indexProperties)) {
+            // Keep the index entry, because every child join node still has the same matches for this tuple
+            for (Consumer<BavetJoinBridgeQuadTuple<A, B, C, D>> childTupleUpdater : childTupleUpdaterList) {
+                childTupleUpdater.accept(tuple);
+            }
+            return;
+        }
+        if (tuple.getState() != BavetTupleState.CREATING) {
+            // Clean up index
+            index.remove(tuple);
+        }
+        if (indexProperties != null) {
+            index.put(indexProperties, tuple);
+        }
+        for (Consumer<BavetJoinBridgeQuadTuple<A, B, C, D>> childTupleRefresher : childTupleRefresherList) {
+            childTupleRefresher.accept(tuple);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "JoinBridge()";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    public BavetIndex<BavetJoinBridgeQuadTuple<A, B, C, D>> getIndex() {
+        return index;
+    }
+
+    /**
+     * @param childTupleRefresher never null, called when a tuple of this node is created, killed or reindexed
+     * @param childTupleUpdater never null, called when a tuple of this node is updated but keeps its index entry
+     * @return the index of the childTupleList, in every tuple of this node, that belongs to that child join node
+     */
+    public int addChildTupleRefresher(Consumer<BavetJoinBridgeQuadTuple<A, B, C, D>> childTupleRefresher,
+            Consumer<BavetJoinBridgeQuadTuple<A, B, C, D>> childTupleUpdater) {
+        childTupleRefresherList.add(childTupleRefresher);
+        childTupleUpdaterList.add(childTupleUpdater);
+        return childTupleRefresherList.size() - 1;
+    }
+
+    public int getChildTupleRefresherCount() {
+        return childTupleRefresherList.size();
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.quad;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
+
+public final class BavetJoinBridgeQuadTuple<A, B, C, D> extends BavetAbstractQuadTuple<A, B, C, D>
+        implements BavetJoinBridgeTuple {
+
+    protected final BavetAbstractQuadTuple<A, B, C, D> parentTuple;
+    private final BavetJoinBridgeQuadNode<A, B, C, D> node;
+    /** 1 childTupleList per child join node of the (shared) node. */
+    private final List<BavetAbstractTuple>[] childTupleLists;
+
+    private Object[] indexProperties;
+
+    public BavetJoinBridgeQuadTuple(BavetJoinBridgeQuadNode<A, B, C, D> node,
+            BavetAbstractQuadTuple<A, B, C, D> parentTuple) {
+        this.parentTuple = parentTuple;
+        this.node = node;
+        childTupleLists = new List[node.getChildTupleRefresherCount()];
+        for (int i = 0; i < childTupleLists.length; i++) {
+            childTupleLists[i] = new ArrayList<>();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "JoinBridge(" + getFactsString() + ") with " + childTupleLists.length + " child joins";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    @Override
+    public BavetJoinBridgeQuadNode<A, B, C, D> getNode() {
+        return node;
+    }
+
+    @Override
+    public List<BavetAbstractTuple> getChildTupleList() {
+        throw new UnsupportedOperationException("Impossible state: the join bridge tuple (" + this
+                + ") has a childTupleList per child join node.");
+    }
+
+    /**
+     * @param childTupleListIndex as returned by {@link BavetJoinBridgeQuadNode#addChildTupleRefresher}
+     * @return never null
+     */
+    public List<BavetAbstractTuple> getChildTupleList(int childTupleListIndex) {
+        return childTupleLists[childTupleListIndex];
+    }
+
+    @Override
+    public A getFactA() {
+        return parentTuple.getFactA();
+    }
+
+    @Override
+    public B getFactB() {
+        return parentTuple.getFactB();
+    }
+
+    @Override
+    public C getFactC() {
+        return parentTuple.getFactC();
+    }
+
+    @Override
+    public D getFactD() {
+        return parentTuple.getFactD();
+    }
+
+    @Override
+    public Object[] getIndexProperties() {
+        return indexProperties;
+    }
+
+    @Override
+    public void setIndexProperties(Object[] indexProperties) {
+        this.indexProperties = indexProperties;
+    }
+
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.quad;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndex;
+import org.optaplanner.core.impl.score.stream.bavet.tri.BavetJoinBridgeTriNode;
+import org.optaplanner.core.impl.score.stream.bavet.tri.BavetJoinBridgeTriTuple;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniNode;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniTuple;
+
+public final class BavetJoinQuadNode<A, B, C, D> extends BavetAbstractQuadNode<A, B, C, D>
+        implements BavetJoinNode {
+
+    private final BavetJoinBridgeTriNode<A, B, C> leftParentNode;
+    private final BavetJoinBridgeUniNode<D> rightParentNode;
+
+    /** The index of this node's childTupleList in every left parent tuple. */
+    private int leftChildTupleListIndex = -1;
+    /** The index of this node's childTupleList in every right parent tuple. */
+    private int rightChildTupleListIndex = -1;
+
+    private final List<BavetAbstractQuadNode<A, B, C, D>> childNodeList = new ArrayList<>();
+
+    public BavetJoinQuadNode(BavetConstraintSession session, int nodeIndex,
+            BavetJoinBridgeTriNode<A, B, C> leftParentNode, BavetJoinBridgeUniNode<D> rightParentNode) {
+        super(session, nodeIndex);
+        this.leftParentNode = leftParentNode;
+        this.rightParentNode = rightParentNode;
+    }
+
+    @Override
+    public void addChildNode(BavetAbstractQuadNode<A, B, C, D> childNode) {
+        childNodeList.add(childNode);
+    }
+
+    @Override
+    public List<BavetAbstractQuadNode<A, B, C, D>> getChildNodeList() {
+        return childNodeList;
+    }
+
+    /**
+     * Only called if this node isn't shared,
+     * so a shared parent node propagates to it only once.
+     */
+    public void registerChildTupleRefreshers() {
+        leftChildTupleListIndex = leftParentNode.addChildTupleRefresher(this::refreshChildTuplesLeft,
+                this::updateChildTuplesLeft);
+        rightChildTupleListIndex = rightParentNode.addChildTupleRefresher(this::refreshChildTuplesRight,
+                this::updateChildTuplesRight);
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(leftParentNode), System.identityHashCode(rightParentNode));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetJoinQuadNode) {
+            BavetJoinQuadNode<?, ?, ?, ?> other = (BavetJoinQuadNode<?, ?, ?, ?>) o;
+            return leftParentNode == other.leftParentNode
+                    && rightParentNode == other.rightParentNode;
+        } else {
+            return false;
+        }
+    }
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    @Override
+    public BavetJoinQuadTuple<A, B, C, D> createTuple(BavetAbstractQuadTuple<A, B, C, D> parentTuple) {
+        throw new IllegalStateException("The join node (" + getClass().getSimpleName()
+                + ") can't have a parentTuple (" + parentTuple + ");");
+    }
+
+    public BavetJoinQuadTuple<A, B, C, D> createTuple(
+            BavetJoinBridgeTriTuple<A, B, C> abcTuple, BavetJoinBridgeUniTuple<D> dTuple) {
+        return new BavetJoinQuadTuple<>(this, abcTuple, dTuple, childNodeList.size());
+    }
+
+    @Override
+    public void refresh(BavetAbstractTuple uncastTuple) {
+        BavetJoinQuadTuple<A, B, C, D> tuple = (BavetJoinQuadTuple<A, B, C, D>) uncastTuple;
+        List<BavetAbstractTuple> childTupleList = tuple.getChildTupleList();
+        if (tuple.getState() == BavetTupleState.UPDATING) {
+            // A parent tuple was updated, but kept its index entry, so this is still the same match
+            updateChildTuples(childTupleList);
+        } else if (!tuple.isActive()) {
+            killChildTuples(childTupleList);
+        } else {
+            for (BavetAbstractQuadNode<A, B, C, D> childNode : childNodeList) {
+                BavetAbstractQuadTuple<A, B, C, D> childTuple = childNode.createTuple(tuple);
+                childTupleList.add(childTuple);
+                session.transitionTuple(childTuple, BavetTupleState.CREATING);
+            }
+        }
+    }
+
+    public void updateChildTuplesLeft(BavetJoinBridgeTriTuple<A, B, C> leftParentTuple) {
+        updateChildTuples(leftParentTuple.getChildTupleList(leftChildTupleListIndex));
+    }
+
+    public void updateChildTuplesRight(BavetJoinBridgeUniTuple<D> rightParentTuple) {
+        updateChildTuples(rightParentTuple.getChildTupleList(rightChildTupleListIndex));
+    }
+
+    public void refreshChildTuplesLeft(BavetJoinBridgeTriTuple<A, B, C> leftParentTuple) {
+        List<BavetAbstractTuple> leftTupleSet = leftParentTuple.getChildTupleList(leftChildTupleListIndex);
+        for (BavetAbstractTuple tuple_ : leftTupleSet) {
+            BavetJoinQuadTuple<A, B, C, D> tuple = (BavetJoinQuadTuple<A, B, C, D>) tuple_;
+            boolean removed = tuple.getDTuple().getChildTupleList(rightChildTupleListIndex).remove(tuple);
+            if (!removed) {
+                throw new IllegalStateException("Impossible state: the facts (" + tuple.getFactA()
+                        + ", " + tuple.getFactB() + ", " + tuple.getFactC()
+                        + ")'s tuple cannot be removed from the other fact (" + tuple.getFactD()
+                        + ")'s join bridge.");
+            }
+            session.transitionTuple(tuple, BavetTupleState.DYING);
+        }
+        leftTupleSet.clear();
+        if (leftParentTuple.isActive()) {
+            getRightIndex().visit(leftParentTuple.getIndexProperties(), rightParentTuple -> {
+                // An updating right tuple that keeps its index entry won't look for new matches itself
+                if (rightParentTuple.isActive()) {
+                    BavetJoinQuadTuple<A, B, C, D> childTuple = createTuple(leftParentTuple, rightParentTuple);
+                    leftTupleSet.add(childTuple);
+                    rightParentTuple.getChildTupleList(rightChildTupleListIndex).add(childTuple);
+                    session.transitionTuple(childTuple, BavetTupleState.CREATING);
+                }
+            });
+        }
+    }
+
+    public void refreshChildTuplesRight(BavetJoinBridgeUniTuple<D> rightParentTuple) {
+        List<BavetAbstractTuple> rightTupleSet = rightParentTuple.getChildTupleList(rightChildTupleListIndex);
+        for (BavetAbstractTuple uncastTuple : rightTupleSet) {
+            BavetJoinQuadTuple<A, B, C, D> tuple = (BavetJoinQuadTuple<A, B, C, D>) uncastTuple;
+            boolean removed = tuple.getAbcTuple().getChildTupleList(leftChildTupleListIndex).remove(tuple);
+            if (!removed) {
+                throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactD()
+                        + ")'s tuple cannot be removed from the other facts (" + tuple.getFactA()
+                        + ", " + tuple.getFactB() + ", " + tuple.getFactC() + ")'s join bridge.");
+            }
+            session.transitionTuple(tuple, BavetTupleState.DYING);
+        }
+        rightTupleSet.clear();
+        if (rightParentTuple.isActive()) {
+            getLeftIndex().visit(rightParentTuple.getIndexProperties(), leftParentTuple -> {
+                // An updating left tuple that keeps its index entry won't look for new matches itself
+                if (leftParentTuple.isActive()) {
+                    BavetJoinQuadTuple<A, B, C, D> childTuple = createTuple(leftParentTuple, rightParentTuple);
+                    leftParentTuple.getChildTupleList(leftChildTupleListIndex).add(childTuple);
+                    rightTupleSet.add(childTuple);
+                    session.transitionTuple(childTuple, BavetTupleState.CREATING);
+                }
+            });
+        }
+    }
+
+    public BavetIndex<BavetJoinBridgeTriTuple<A, B, C>> getLeftIndex() {
+        return leftParentNode.getIndex();
+    }
+
+    public BavetIndex<BavetJoinBridgeUniTuple<D>> getRightIndex() {
+        return rightParentNode.getIndex();
+    }
+
+    @Override
+    public String toString() {
+        return "Join() with " + childNodeList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.quad;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import org.optaplanner.core.api.function.QuadFunction;
+import org.optaplanner.core.api.function.ToIntQuadFunction;
+import org.optaplanner.core.api.function.ToLongQuadFunction;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.stream.quad.QuadConstraintStream;
+import org.optaplanner.core.impl.score.inliner.BigDecimalWeightedScoreImpacter;
+import org.optaplanner.core.impl.score.inliner.IntWeightedScoreImpacter;
+import org.optaplanner.core.impl.score.inliner.LongWeightedScoreImpacter;
+import org.optaplanner.core.impl.score.inliner.ScoreInliner;
+import org.optaplanner.core.impl.score.inliner.WeightedScoreImpacter;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraint;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoringTuple;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetFromUniConstraintStream;
+
+public final class BavetScoringQuadConstraintStream<Solution_, A, B, C, D>
+        extends BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> {
+
+    private final BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> parent;
+    private final BavetConstraint<Solution_> constraint;
+    private final boolean noMatchWeigher;
+    private final ToIntQuadFunction<A, B, C, D> intMatchWeigher;
+    private final ToLongQuadFunction<A, B, C, D> longMatchWeigher;
+    private final QuadFunction<A, B, C, D, BigDecimal> bigDecimalMatchWeigher;
+
+    public BavetScoringQuadConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
+            BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> parent,
+            BavetConstraint<Solution_> constraint) {
+        this(constraintFactory, parent, constraint, true, null, null, null);
+    }
+
+    public BavetScoringQuadConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
+            BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> parent,
+            BavetConstraint<Solution_> constraint, ToIntQuadFunction<A, B, C, D> intMatchWeigher) {
+        this(constraintFactory, parent, constraint, false, intMatchWeigher, null, null);
+        if (intMatchWeigher == null) {
+            throw new IllegalArgumentException("The matchWeigher (null) cannot be null.");
+        }
+    }
+
+    public BavetScoringQuadConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
+            BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> parent,
+            BavetConstraint<Solution_> constraint, ToLongQuadFunction<A, B, C, D> longMatchWeigher) {
+        this(constraintFactory, parent, constraint, false, null, longMatchWeigher, null);
+        if (longMatchWeigher == null) {
+            throw new IllegalArgumentException("The matchWeigher (null) cannot be null.");
+        }
+    }
+
+    public BavetScoringQuadConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
+            BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> parent,
+            BavetConstraint<Solution_> constraint, QuadFunction<A, B, C, D, BigDecimal> bigDecimalMatchWeigher) {
+        this(constraintFactory, parent, constraint, false, null, null, bigDecimalMatchWeigher);
+        if (bigDecimalMatchWeigher == null) {
+            throw new IllegalArgumentException("The matchWeigher (null) cannot be null.");
+        }
+    }
+
+    private BavetScoringQuadConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
+            BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> parent,
+            BavetConstraint<Solution_> constraint, boolean noMatchWeigher,
+            ToIntQuadFunction<A, B, C, D> intMatchWeigher, ToLongQuadFunction<A, B, C, D> longMatchWeigher,
+            QuadFunction<A, B, C, D, BigDecimal> bigDecimalMatchWeigher) {
+        super(constraintFactory);
+        this.parent = parent;
+        this.constraint = constraint;
+        this.noMatchWeigher = noMatchWeigher;
+        this.intMatchWeigher = intMatchWeigher;
+        this.longMatchWeigher = longMatchWeigher;
+        this.bigDecimalMatchWeigher = bigDecimalMatchWeigher;
+    }
+
+    @Override
+    public List<BavetFromUniConstraintStream<Solution_, Object>> getFromStreamList() {
+        return parent.getFromStreamList();
+    }
+
+    // ************************************************************************
+    // Node creation
+    // ************************************************************************
+
+    @Override
+    protected BavetScoringQuadNode<A, B, C, D> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, BavetAbstractQuadNode<A, B, C, D> parentNode) {
+        ScoreInliner scoreInliner = buildPolicy.getSession().getScoreInliner();
+        WeightedScoreImpacter weightedScoreImpacter = scoreInliner.buildWeightedScoreImpacter(constraintWeight);
+        BiConsumer<BavetScoringQuadTuple<A, B, C, D>, Consumer<Score<?>>> scoreImpacter;
+        if (weightedScoreImpacter instanceof IntWeightedScoreImpacter) {
+            IntWeightedScoreImpacter castedWeightedScoreImpacter = (IntWeightedScoreImpacter) weightedScoreImpacter;
+            if (intMatchWeigher != null) {
+                scoreImpacter = (BavetScoringQuadTuple<A, B, C, D> tuple, Consumer<Score<?>> matchScoreConsumer) -> {
+                    int matchWeight = intMatchWeigher.applyAsInt(tuple.getFactA(), tuple.getFactB(), tuple.getFactC(),
+                            tuple.getFactD());
+                    constraint.assertCorrectImpact(matchWeight);
+                    castedWeightedScoreImpacter.impactScore(matchWeight, matchScoreConsumer);
+                    tuple.setMatchWeight(matchWeight);
+                };
+            } else if (noMatchWeigher) {
+                scoreImpacter = (BavetScoringQuadTuple<A, B, C, D> tuple, Consumer<Score<?>> matchScoreConsumer) -> {
+                    castedWeightedScoreImpacter.impactScore(1, matchScoreConsumer);
+                    tuple.setMatchWeight(1L);
+                };
+            } else {
+                throw new IllegalStateException("The matchWeigher of " + QuadConstraintStream.class.getSimpleName()
+                        + ".penalize(matchWeigher) of the constraint (" + constraint.getConstraintId()
+                        + ") must return an int.\n" +
+                        "Maybe switch to penalize() or reward().");
+            }
+        } else if (weightedScoreImpacter instanceof LongWeightedScoreImpacter) {
+            LongWeightedScoreImpacter castedWeightedScoreImpacter = (LongWeightedScoreImpacter) weightedScoreImpacter;
+            if (longMatchWeigher != null) {
+                scoreImpacter = (BavetScoringQuadTuple<A, B, C, D> tuple, Consumer<Score<?>> matchScoreConsumer) -> {
+                    long matchWeight = longMatchWeigher.applyAsLong(tuple.getFactA(), tuple.getFactB(), tuple.getFactC(),
+                            tuple.getFactD());
+                    constraint.assertCorrectImpact(matchWeight);
+                    castedWeightedScoreImpacter.impactScore(matchWeight, matchScoreConsumer);
+                    tuple.setMatchWeight(matchWeight);
+                };
+            } else if (noMatchWeigher) {
+                scoreImpacter = (BavetScoringQuadTuple<A, B, C, D> tuple, Consumer<Score<?>> matchScoreConsumer) -> {
+                    castedWeightedScoreImpacter.impactScore(1L, matchScoreConsumer);
+                    tuple.setMatchWeight(1L);
+                };
+            } else {
+                throw new IllegalStateException("The matchWeigher of " + QuadConstraintStream.class.getSimpleName()
+                        + ".penalize(matchWeigher) of the constraint (" + constraint.getConstraintId()
+                        + ") must return a long.\n" +
+                        "Maybe switch to penalizeLong() or rewardLong().");
+            }
+        } else if (weightedScoreImpacter instanceof BigDecimalWeightedScoreImpacter) {
+            BigDecimalWeightedScoreImpacter castedWeightedScoreImpacter =
+                    (BigDecimalWeightedScoreImpacter) weightedScoreImpacter;
+            if (bigDecimalMatchWeigher != null) {
+                scoreImpacter = (BavetScoringQuadTuple<A, B, C, D> tuple, Consumer<Score<?>> matchScoreConsumer) -> {
+                    BigDecimal matchWeight = bigDecimalMatchWeigher.apply(tuple.getFactA(), tuple.getFactB(), tuple.getFactC(),
+                            tuple.getFactD());
+                    constraint.assertCorrectImpact(matchWeight);
+                    castedWeightedScoreImpacter.impactScore(matchWeight, matchScoreConsumer);
+                    tuple.setBigDecimalMatchWeight(matchWeight);
+                };
+            } else if (noMatchWeigher) {
+                scoreImpacter = (BavetScoringQuadTuple<A, B, C, D> tuple, Consumer<Score<?>> matchScoreConsumer) -> {
+                    castedWeightedScoreImpacter.impactScore(BigDecimal.ONE, matchScoreConsumer);
+                    tuple.setBigDecimalMatchWeight(BigDecimal.ONE);
+                };
+            } else {
+                throw new IllegalStateException("The matchWeigher of " + QuadConstraintStream.class.getSimpleName()
+                        + ".penalize(matchWeigher) of the constraint (" + constraint.getConstraintId()
+                        + ") must return a " + BigDecimal.class.getSimpleName() + ".\n" +
+                        "Maybe switch to penalizeBigDecimal() or rewardBigDecimal().");
+            }
+        } else {
+            throw new IllegalStateException("Unsupported weightedScoreImpacter (" + weightedScoreImpacter + ").");
+        }
+        BavetScoringQuadNode<A, B, C, D> node = new BavetScoringQuadNode<>(buildPolicy.getSession(),
+                buildPolicy.nextNodeIndex(), constraint.getConstraintPackage(), constraint.getConstraintName(),
+                constraintWeight, scoreImpacter, BavetScoringTuple.buildUndoScoreImpacter(weightedScoreImpacter));
+        buildPolicy.addScoringNode(node);
+        return node;
+    }
+
+    @Override
+    protected void createChildNodeChains(BavetNodeBuildPolicy<Solution_> buildPolicy, Score<?> constraintWeight,
+            BavetAbstractQuadNode<A, B, C, D> node) {
+        if (!childStreamList.isEmpty()) {
+            throw new IllegalStateException("Impossible state: the stream (" + this
+                    + ") has an non-empty childStreamList (" + childStreamList + ") but it's an endpoint.");
+        }
+    }
+
+    @Override
+    public boolean leadsTo(BavetConstraint<Solution_> constraint) {
+        return this.constraint == constraint;
+    }
+
+    @Override
+    public String toString() {
+        return "Scoring()";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
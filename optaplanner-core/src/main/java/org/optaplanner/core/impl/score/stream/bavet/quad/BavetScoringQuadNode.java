@@ -0,0 +1,126 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.quad;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+import org.optaplanner.core.impl.score.constraint.DefaultConstraintMatchTotal;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoringNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoringTuple;
+
+public final class BavetScoringQuadNode<A, B, C, D> extends BavetAbstractQuadNode<A, B, C, D>
+        implements BavetScoringNode {
+
+    private final String constraintPackage;
+    private final String constraintName;
+    private final Score<?> constraintWeight;
+    private final BiConsumer<BavetScoringQuadTuple<A, B, C, D>, Consumer<Score<?>>> scoreImpacter;
+    private final Consumer<BavetScoringTuple> undoScoreImpacter;
+
+    private final boolean constraintMatchEnabled;
+    /** Null if {@link #constraintMatchEnabled} is false. */
+    private final DefaultConstraintMatchTotal constraintMatchTotal;
+
+    public BavetScoringQuadNode(BavetConstraintSession session, int nodeIndex,
+            String constraintPackage, String constraintName, Score<?> constraintWeight,
+            BiConsumer<BavetScoringQuadTuple<A, B, C, D>, Consumer<Score<?>>> scoreImpacter,
+            Consumer<BavetScoringTuple> undoScoreImpacter) {
+        super(session, nodeIndex);
+        this.constraintPackage = constraintPackage;
+        this.constraintName = constraintName;
+        this.constraintWeight = constraintWeight;
+        this.scoreImpacter = scoreImpacter;
+        this.undoScoreImpacter = undoScoreImpacter;
+        this.constraintMatchEnabled = session.isConstraintMatchEnabled();
+        constraintMatchTotal = session.registerConstraintMatchTotal(constraintPackage, constraintName, constraintWeight);
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    // No node sharing
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    @Override
+    public BavetScoringQuadTuple<A, B, C, D> createTuple(BavetAbstractQuadTuple<A, B, C, D> parentTuple) {
+        return new BavetScoringQuadTuple<>(this, parentTuple);
+    }
+
+    @Override
+    public void refresh(BavetAbstractTuple uncastTuple) {
+        BavetScoringQuadTuple<A, B, C, D> tuple = (BavetScoringQuadTuple<A, B, C, D>) uncastTuple;
+        A a = tuple.getFactA();
+        B b = tuple.getFactB();
+        C c = tuple.getFactC();
+        D d = tuple.getFactD();
+        undoScoreImpacter.accept(tuple);
+        if (constraintMatchEnabled && tuple.getConstraintMatch() != null) {
+            tuple.setMatchScore(null);
+            session.removeConstraintMatch(constraintMatchTotal, tuple.getConstraintMatch());
+            tuple.setConstraintMatch(null);
+        }
+        if (tuple.isActive()) {
+            if (constraintMatchEnabled) {
+                scoreImpacter.accept(tuple, tuple::setMatchScore);
+                tuple.setConstraintMatch(session.addConstraintMatch(constraintMatchTotal,
+                        Arrays.asList(a, b, c, d), tuple.getMatchScore()));
+            } else {
+                scoreImpacter.accept(tuple, null);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Scoring(" + constraintWeight + ")";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    @Override
+    public String getConstraintPackage() {
+        return constraintPackage;
+    }
+
+    @Override
+    public String getConstraintName() {
+        return constraintName;
+    }
+
+    @Override
+    public String getConstraintId() {
+        return ConstraintMatchTotal.composeConstraintId(constraintPackage, constraintName);
+    }
+
+    @Override
+    public Score<?> getConstraintWeight() {
+        return constraintWeight;
+    }
+
+}
@@ -18,14 +18,18 @@ package org.optaplanner.core.impl.score.stream.bavet.tri;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
+import org.optaplanner.core.api.function.QuadPredicate;
 import org.optaplanner.core.api.function.ToIntTriFunction;
 import org.optaplanner.core.api.function.ToLongTriFunction;
 import org.optaplanner.core.api.function.TriFunction;
 import org.optaplanner.core.api.function.TriPredicate;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.ConstraintFactory;
 import org.optaplanner.core.api.score.stream.bi.BiConstraintStream;
 import org.optaplanner.core.api.score.stream.quad.QuadConstraintStream;
 import org.optaplanner.core.api.score.stream.quad.QuadJoiner;
@@ -34,9 +38,19 @@ import org.optaplanner.core.api.score.stream.tri.TriConstraintStream;
 import org.optaplanner.core.api.score.stream.uni.UniConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraint;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
+import org.optaplanner.core.impl.score.stream.bavet.bi.BavetGroupBiConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndexFactory;
+import org.optaplanner.core.impl.score.stream.bavet.quad.BavetGroupQuadConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.quad.BavetJoinQuadConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetAbstractUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetGroupUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniConstraintStream;
 import org.optaplanner.core.impl.score.stream.common.ScoreImpactType;
+import org.optaplanner.core.impl.score.stream.quad.AbstractQuadJoiner;
+import org.optaplanner.core.impl.score.stream.quad.FilteringQuadJoiner;
 import org.optaplanner.core.impl.score.stream.tri.InnerTriConstraintStream;
 
 public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> extends BavetAbstractConstraintStream<Solution_>
@@ -74,7 +88,38 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
 
     @Override
     public <D> QuadConstraintStream<A, B, C, D> join(UniConstraintStream<D> otherStream, QuadJoiner<A, B, C, D> joiner) {
-        throw new UnsupportedOperationException();
+        if (!(otherStream instanceof BavetAbstractUniConstraintStream)) {
+            throw new IllegalStateException("The streams (" + this + ", " + otherStream
+                    + ") are not build from the same " + ConstraintFactory.class.getSimpleName() + ".");
+        }
+        BavetAbstractUniConstraintStream<Solution_, D> other = (BavetAbstractUniConstraintStream<Solution_, D>) otherStream;
+        if (constraintFactory != other.getConstraintFactory()) {
+            throw new IllegalStateException("The streams (" + this + ", " + other
+                    + ") are build from different constraintFactories (" + constraintFactory + ", "
+                    + other.getConstraintFactory()
+                    + ").");
+        }
+        if (!(joiner instanceof AbstractQuadJoiner)) {
+            throw new IllegalArgumentException("The joiner class (" + joiner.getClass() + ") is not supported.");
+        } else if (joiner instanceof FilteringQuadJoiner) {
+            return join(otherStream)
+                    .filter(((FilteringQuadJoiner<A, B, C, D>) joiner).getFilter());
+        }
+        AbstractQuadJoiner<A, B, C, D> castedJoiner = (AbstractQuadJoiner<A, B, C, D>) joiner;
+        BavetIndexFactory indexFactory = new BavetIndexFactory(castedJoiner);
+        BavetJoinBridgeTriConstraintStream<Solution_, A, B, C> leftBridge = new BavetJoinBridgeTriConstraintStream<>(
+                constraintFactory, this, true, castedJoiner,
+                castedJoiner.getLeftCombinedMapping(), indexFactory);
+        addChildStream(leftBridge);
+        BavetJoinBridgeUniConstraintStream<Solution_, D> rightBridge = new BavetJoinBridgeUniConstraintStream<>(
+                constraintFactory, other, false, castedJoiner,
+                castedJoiner.getRightCombinedMapping(), indexFactory);
+        other.addChildStream(rightBridge);
+        BavetJoinQuadConstraintStream<Solution_, A, B, C, D> joinStream = new BavetJoinQuadConstraintStream<>(
+                constraintFactory, leftBridge, rightBridge);
+        leftBridge.setJoinStream(joinStream);
+        rightBridge.setJoinStream(joinStream);
+        return joinStream;
     }
 
     // ************************************************************************
@@ -84,13 +129,50 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
     @SafeVarargs
     @Override
     public final <D> TriConstraintStream<A, B, C> ifExists(Class<D> otherClass, QuadJoiner<A, B, C, D>... joiners) {
-        throw new UnsupportedOperationException();
+        return ifExistsOrNot(true, otherClass, joiners);
     }
 
     @SafeVarargs
     @Override
     public final <D> TriConstraintStream<A, B, C> ifNotExists(Class<D> otherClass, QuadJoiner<A, B, C, D>... joiners) {
-        throw new UnsupportedOperationException();
+        return ifExistsOrNot(false, otherClass, joiners);
+    }
+
+    @SafeVarargs
+    private final <D> TriConstraintStream<A, B, C> ifExistsOrNot(boolean shouldExist, Class<D> otherClass,
+            QuadJoiner<A, B, C, D>... joiners) {
+        constraintFactory.assertValidFromType(otherClass);
+        List<QuadJoiner<A, B, C, D>> indexingJoinerList = new ArrayList<>(joiners.length);
+        QuadPredicate<A, B, C, D> filter = null;
+        for (QuadJoiner<A, B, C, D> joiner : joiners) {
+            if (joiner instanceof FilteringQuadJoiner) {
+                // Merge all filters into one, to only index on the indexing joiners
+                QuadPredicate<A, B, C, D> joinerFilter = ((FilteringQuadJoiner<A, B, C, D>) joiner).getFilter();
+                filter = (filter == null) ? joinerFilter : filter.and(joinerFilter);
+            } else if (filter != null) {
+                throw new IllegalArgumentException("The indexing joiner (" + joiner
+                        + ") must not follow a filtering joiner in the joiners (" + Arrays.toString(joiners) + ").");
+            } else {
+                indexingJoinerList.add(joiner);
+            }
+        }
+        AbstractQuadJoiner<A, B, C, D> indexingJoiner = AbstractQuadJoiner.merge(
+                indexingJoinerList.toArray(new QuadJoiner[0]));
+        BavetIndexFactory indexFactory = new BavetIndexFactory(indexingJoiner);
+        BavetJoinBridgeTriConstraintStream<Solution_, A, B, C> leftBridge = new BavetJoinBridgeTriConstraintStream<>(
+                constraintFactory, this, true, indexingJoiner,
+                indexingJoiner.getLeftCombinedMapping(), indexFactory);
+        addChildStream(leftBridge);
+        BavetAbstractUniConstraintStream<Solution_, D> other = constraintFactory.fromUnfiltered(otherClass);
+        BavetJoinBridgeUniConstraintStream<Solution_, D> rightBridge = new BavetJoinBridgeUniConstraintStream<>(
+                constraintFactory, other, false, indexingJoiner,
+                indexingJoiner.getRightCombinedMapping(), indexFactory);
+        other.addChildStream(rightBridge);
+        BavetIfExistsTriConstraintStream<Solution_, A, B, C, D> ifExistsStream = new BavetIfExistsTriConstraintStream<>(
+                constraintFactory, leftBridge, rightBridge, shouldExist, filter);
+        leftBridge.setJoinStream(ifExistsStream);
+        rightBridge.setJoinStream(ifExistsStream);
+        return ifExistsStream;
     }
 
     // ************************************************************************
@@ -100,14 +182,16 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
     @Override
     public <ResultContainer_, Result_> UniConstraintStream<Result_> groupBy(
             TriConstraintCollector<A, B, C, ResultContainer_, Result_> collector) {
-        throw new UnsupportedOperationException();
+        return buildGroupBy(Collections.emptyList(), Collections.singletonList(collector),
+                new BavetGroupUniConstraintStream<>(constraintFactory, this));
     }
 
     @Override
     public <ResultContainerA_, ResultA_, ResultContainerB_, ResultB_> BiConstraintStream<ResultA_, ResultB_> groupBy(
             TriConstraintCollector<A, B, C, ResultContainerA_, ResultA_> collectorA,
             TriConstraintCollector<A, B, C, ResultContainerB_, ResultB_> collectorB) {
-        throw new UnsupportedOperationException();
+        return buildGroupBy(Collections.emptyList(), Arrays.asList(collectorA, collectorB),
+                new BavetGroupBiConstraintStream<>(constraintFactory, this));
     }
 
     @Override
@@ -116,7 +200,8 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
             groupBy(TriConstraintCollector<A, B, C, ResultContainerA_, ResultA_> collectorA,
                     TriConstraintCollector<A, B, C, ResultContainerB_, ResultB_> collectorB,
                     TriConstraintCollector<A, B, C, ResultContainerC_, ResultC_> collectorC) {
-        throw new UnsupportedOperationException();
+        return buildGroupBy(Collections.emptyList(), Arrays.asList(collectorA, collectorB, collectorC),
+                new BavetGroupTriConstraintStream<>(constraintFactory, this));
     }
 
     @Override
@@ -126,12 +211,14 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
                     TriConstraintCollector<A, B, C, ResultContainerB_, ResultB_> collectorB,
                     TriConstraintCollector<A, B, C, ResultContainerC_, ResultC_> collectorC,
                     TriConstraintCollector<A, B, C, ResultContainerD_, ResultD_> collectorD) {
-        throw new UnsupportedOperationException();
+        return buildGroupBy(Collections.emptyList(), Arrays.asList(collectorA, collectorB, collectorC, collectorD),
+                new BavetGroupQuadConstraintStream<>(constraintFactory, this));
     }
 
     @Override
     public <GroupKey_> UniConstraintStream<GroupKey_> groupBy(TriFunction<A, B, C, GroupKey_> groupKeyMapping) {
-        throw new UnsupportedOperationException();
+        return buildGroupBy(Collections.singletonList(groupKeyMapping), Collections.emptyList(),
+                new BavetGroupUniConstraintStream<>(constraintFactory, this));
     }
 
     @Override
@@ -139,7 +226,8 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
             TriConstraintStream<GroupKey_, ResultB_, ResultC_> groupBy(TriFunction<A, B, C, GroupKey_> groupKeyMapping,
                     TriConstraintCollector<A, B, C, ResultContainerB_, ResultB_> collectorB,
                     TriConstraintCollector<A, B, C, ResultContainerC_, ResultC_> collectorC) {
-        throw new UnsupportedOperationException();
+        return buildGroupBy(Collections.singletonList(groupKeyMapping), Arrays.asList(collectorB, collectorC),
+                new BavetGroupTriConstraintStream<>(constraintFactory, this));
     }
 
     @Override
@@ -149,27 +237,32 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
                     TriConstraintCollector<A, B, C, ResultContainerB_, ResultB_> collectorB,
                     TriConstraintCollector<A, B, C, ResultContainerC_, ResultC_> collectorC,
                     TriConstraintCollector<A, B, C, ResultContainerD_, ResultD_> collectorD) {
-        throw new UnsupportedOperationException();
+        return buildGroupBy(Collections.singletonList(groupKeyMapping),
+                Arrays.asList(collectorB, collectorC, collectorD),
+                new BavetGroupQuadConstraintStream<>(constraintFactory, this));
     }
 
     @Override
     public <GroupKey_, ResultContainer_, Result_> BiConstraintStream<GroupKey_, Result_> groupBy(
             TriFunction<A, B, C, GroupKey_> groupKeyMapping,
             TriConstraintCollector<A, B, C, ResultContainer_, Result_> collector) {
-        throw new UnsupportedOperationException();
+        return buildGroupBy(Collections.singletonList(groupKeyMapping), Collections.singletonList(collector),
+                new BavetGroupBiConstraintStream<>(constraintFactory, this));
     }
 
     @Override
     public <GroupKeyA_, GroupKeyB_> BiConstraintStream<GroupKeyA_, GroupKeyB_> groupBy(
             TriFunction<A, B, C, GroupKeyA_> groupKeyAMapping, TriFunction<A, B, C, GroupKeyB_> groupKeyBMapping) {
-        throw new UnsupportedOperationException();
+        return buildGroupBy(Arrays.asList(groupKeyAMapping, groupKeyBMapping), Collections.emptyList(),
+                new BavetGroupBiConstraintStream<>(constraintFactory, this));
     }
 
     @Override
     public <GroupKeyA_, GroupKeyB_, ResultContainer_, Result_> TriConstraintStream<GroupKeyA_, GroupKeyB_, Result_> groupBy(
             TriFunction<A, B, C, GroupKeyA_> groupKeyAMapping, TriFunction<A, B, C, GroupKeyB_> groupKeyBMapping,
             TriConstraintCollector<A, B, C, ResultContainer_, Result_> collector) {
-        throw new UnsupportedOperationException();
+        return buildGroupBy(Arrays.asList(groupKeyAMapping, groupKeyBMapping), Collections.singletonList(collector),
+                new BavetGroupTriConstraintStream<>(constraintFactory, this));
     }
 
     @Override
@@ -178,7 +271,18 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
                     TriFunction<A, B, C, GroupKeyA_> groupKeyAMapping, TriFunction<A, B, C, GroupKeyB_> groupKeyBMapping,
                     TriConstraintCollector<A, B, C, ResultContainerC_, ResultC_> collectorC,
                     TriConstraintCollector<A, B, C, ResultContainerD_, ResultD_> collectorD) {
-        throw new UnsupportedOperationException();
+        return buildGroupBy(Arrays.asList(groupKeyAMapping, groupKeyBMapping), Arrays.asList(collectorC, collectorD),
+                new BavetGroupQuadConstraintStream<>(constraintFactory, this));
+    }
+
+    private <Stream_ extends BavetGroupConstraintStream<Solution_>> Stream_ buildGroupBy(
+            List<TriFunction<A, B, C, ?>> groupKeyMappingList,
+            List<TriConstraintCollector<A, B, C, ?, ?>> collectorList, Stream_ groupStream) {
+        BavetGroupBridgeTriConstraintStream<Solution_, A, B, C> bridge = new BavetGroupBridgeTriConstraintStream<>(
+                constraintFactory, this, groupKeyMappingList, collectorList);
+        addChildStream(bridge);
+        bridge.setGroupStream(groupStream);
+        return groupStream;
     }
 
     // ************************************************************************
@@ -304,8 +408,21 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
                     + "Maybe don't create it.");
         }
         for (BavetAbstractTriConstraintStream<Solution_, A, B, C> childStream : childStreamList) {
-            childStream.createNodeChain(buildPolicy, constraintWeight, node);
+            // A child stream that is only reused by other constraints gets its nodes when those are built
+            if (childStream.leadsTo(buildPolicy.getConstraint())) {
+                childStream.createNodeChain(buildPolicy, constraintWeight, node);
+            }
+        }
+    }
+
+    @Override
+    public boolean leadsTo(BavetConstraint<Solution_> constraint) {
+        for (BavetAbstractTriConstraintStream<Solution_, A, B, C> childStream : childStreamList) {
+            if (childStream.leadsTo(constraint)) {
+                return true;
+            }
         }
+        return false;
     }
 
     protected abstract BavetAbstractTriNode<A, B, C> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
@@ -77,8 +77,7 @@ public final class BavetFilterTriNode<A, B, C> extends BavetAbstractTriNode<A, B
 
     @Override
     public BavetFilterTriTuple<A, B, C> createTuple(BavetAbstractTriTuple<A, B, C> parentTuple) {
-        // TODO Use childNodeList.size() to improve the tuple's childTupleList's capacity
-        return new BavetFilterTriTuple<>(this, parentTuple);
+        return new BavetFilterTriTuple<>(this, parentTuple, childNodeList.size());
     }
 
     @Override
@@ -88,17 +87,16 @@ public final class BavetFilterTriNode<A, B, C> extends BavetAbstractTriNode<A, B
         B b = tuple.getFactB();
         C c = tuple.getFactC();
         List<BavetAbstractTuple> childTupleList = tuple.getChildTupleList();
-        for (BavetAbstractTuple childTuple : childTupleList) {
-            session.transitionTuple(childTuple, BavetTupleState.DYING);
-        }
-        childTupleList.clear();
-        if (tuple.isActive()) {
-            if (predicate.test(a, b, c)) {
-                for (BavetAbstractTriNode<A, B, C> childNode : childNodeList) {
-                    BavetAbstractTriTuple<A, B, C> childTuple = childNode.createTuple(tuple);
-                    childTupleList.add(childTuple);
-                    session.transitionTuple(childTuple, BavetTupleState.CREATING);
-                }
+        if (!tuple.isActive() || !predicate.test(a, b, c)) {
+            killChildTuples(childTupleList);
+        } else if (!childTupleList.isEmpty()) {
+            // It passed before too, so its child tuples only need to be refreshed
+            updateChildTuples(childTupleList);
+        } else {
+            for (BavetAbstractTriNode<A, B, C> childNode : childNodeList) {
+                BavetAbstractTriTuple<A, B, C> childTuple = childNode.createTuple(tuple);
+                childTupleList.add(childTuple);
+                session.transitionTuple(childTuple, BavetTupleState.CREATING);
             }
         }
     }
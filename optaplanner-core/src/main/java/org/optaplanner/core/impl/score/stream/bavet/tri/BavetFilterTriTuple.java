@@ -25,11 +25,13 @@ public final class BavetFilterTriTuple<A, B, C> extends BavetAbstractTriTuple<A,
 
     private final BavetFilterTriNode<A, B, C> node;
     private final BavetAbstractTriTuple<A, B, C> parentTuple;
-    private final List<BavetAbstractTuple> childTupleList = new ArrayList<>(1);
+    private final List<BavetAbstractTuple> childTupleList;
 
-    public BavetFilterTriTuple(BavetFilterTriNode<A, B, C> node, BavetAbstractTriTuple<A, B, C> parentTuple) {
+    public BavetFilterTriTuple(BavetFilterTriNode<A, B, C> node, BavetAbstractTriTuple<A, B, C> parentTuple,
+            int childTupleListSize) {
         this.node = node;
         this.parentTuple = parentTuple;
+        childTupleList = new ArrayList<>(childTupleListSize);
     }
 
     @Override
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.tri;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.optaplanner.core.api.function.QuadFunction;
+import org.optaplanner.core.api.function.TriFunction;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.stream.tri.TriConstraintCollector;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraint;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetFromUniConstraintStream;
+
+public final class BavetGroupBridgeTriConstraintStream<Solution_, A, B, C>
+        extends BavetAbstractTriConstraintStream<Solution_, A, B, C> {
+
+    private final BavetAbstractTriConstraintStream<Solution_, A, B, C> parent;
+    private final List<TriFunction<A, B, C, ?>> groupKeyMappingList;
+    private final List<TriConstraintCollector<A, B, C, ?, ?>> collectorList;
+    private BavetGroupConstraintStream<Solution_> groupStream;
+
+    public BavetGroupBridgeTriConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
+            BavetAbstractTriConstraintStream<Solution_, A, B, C> parent,
+            List<TriFunction<A, B, C, ?>> groupKeyMappingList,
+            List<TriConstraintCollector<A, B, C, ?, ?>> collectorList) {
+        super(constraintFactory);
+        this.parent = parent;
+        this.groupKeyMappingList = groupKeyMappingList;
+        this.collectorList = collectorList;
+    }
+
+    public void setGroupStream(BavetGroupConstraintStream<Solution_> groupStream) {
+        this.groupStream = groupStream;
+    }
+
+    @Override
+    public List<BavetFromUniConstraintStream<Solution_, Object>> getFromStreamList() {
+        return parent.getFromStreamList();
+    }
+
+    // ************************************************************************
+    // Node creation
+    // ************************************************************************
+
+    @Override
+    protected BavetGroupBridgeTriNode<A, B, C> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, BavetAbstractTriNode<A, B, C> parentNode) {
+        List<Supplier<?>> resultContainerSupplierList = collectorList.stream()
+                .map(TriConstraintCollector::supplier)
+                .collect(Collectors.toList());
+        List<QuadFunction<Object, A, B, C, Runnable>> accumulatorList = collectorList.stream()
+                .map(collector -> (QuadFunction<Object, A, B, C, Runnable>) collector.accumulator())
+                .collect(Collectors.toList());
+        List<Function<Object, ?>> finisherList = collectorList.stream()
+                .map(collector -> (Function<Object, ?>) collector.finisher())
+                .collect(Collectors.toList());
+        return new BavetGroupBridgeTriNode<>(buildPolicy.getSession(), buildPolicy.nextNodeIndex(), parentNode,
+                groupKeyMappingList, resultContainerSupplierList, accumulatorList, finisherList);
+    }
+
+    @Override
+    protected void createChildNodeChains(BavetNodeBuildPolicy<Solution_> buildPolicy, Score<?> constraintWeight,
+            BavetAbstractTriNode<A, B, C> node) {
+        if (!childStreamList.isEmpty()) {
+            throw new IllegalStateException("Impossible state: the stream (" + this
+                    + ") has an non-empty childStreamList (" + childStreamList + ") but it's a groupBy bridge.");
+        }
+        BavetGroupBridgeTriNode<A, B, C> groupBridgeNode = (BavetGroupBridgeTriNode<A, B, C>) node;
+        // If the groupBridgeNode is shared, this returns its existing groupNode
+        BavetGroupNode groupNode = groupStream.createNodeChain(buildPolicy, constraintWeight, groupBridgeNode,
+                groupKeyMappingList.size(), groupBridgeNode.getResultContainerSupplierList(),
+                groupBridgeNode.getFinisherList());
+        groupBridgeNode.setGroupNode(groupNode);
+    }
+
+    @Override
+    public boolean leadsTo(BavetConstraint<Solution_> constraint) {
+        return groupStream.leadsTo(constraint);
+    }
+
+    @Override
+    public String toString() {
+        return "GroupBridge()";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.tri;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.optaplanner.core.api.function.QuadFunction;
+import org.optaplanner.core.api.function.TriFunction;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupKey;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupTuple;
+
+public final class BavetGroupBridgeTriNode<A, B, C> extends BavetAbstractTriNode<A, B, C> {
+
+    private final BavetAbstractTriNode<A, B, C> parentNode;
+    private final List<TriFunction<A, B, C, ?>> groupKeyMappingList;
+    private final List<Supplier<?>> resultContainerSupplierList;
+    private final List<QuadFunction<Object, A, B, C, Runnable>> accumulatorList;
+    private final List<Function<Object, ?>> finisherList;
+    private BavetGroupNode groupNode;
+
+    public BavetGroupBridgeTriNode(BavetConstraintSession session, int nodeIndex,
+            BavetAbstractTriNode<A, B, C> parentNode, List<TriFunction<A, B, C, ?>> groupKeyMappingList,
+            List<Supplier<?>> resultContainerSupplierList, List<QuadFunction<Object, A, B, C, Runnable>> accumulatorList,
+            List<Function<Object, ?>> finisherList) {
+        super(session, nodeIndex);
+        this.parentNode = parentNode;
+        this.groupKeyMappingList = groupKeyMappingList;
+        this.resultContainerSupplierList = resultContainerSupplierList;
+        this.accumulatorList = accumulatorList;
+        this.finisherList = finisherList;
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(parentNode), identityHashCode(groupKeyMappingList),
+                identityHashCode(resultContainerSupplierList), identityHashCode(accumulatorList),
+                identityHashCode(finisherList));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetGroupBridgeTriNode) {
+            BavetGroupBridgeTriNode<?, ?, ?> other = (BavetGroupBridgeTriNode<?, ?, ?>) o;
+            return parentNode == other.parentNode
+                    && identityEquals(groupKeyMappingList, other.groupKeyMappingList)
+                    && identityEquals(resultContainerSupplierList, other.resultContainerSupplierList)
+                    && identityEquals(accumulatorList, other.accumulatorList)
+                    && identityEquals(finisherList, other.finisherList);
+        } else {
+            return false;
+        }
+    }
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    @Override
+    public BavetGroupBridgeTriTuple<A, B, C> createTuple(BavetAbstractTriTuple<A, B, C> parentTuple) {
+        return new BavetGroupBridgeTriTuple<>(this, parentTuple, accumulatorList.size());
+    }
+
+    public void setGroupNode(BavetGroupNode groupNode) {
+        this.groupNode = groupNode;
+    }
+
+    @Override
+    public void refresh(BavetAbstractTuple uncastTuple) {
+        if (groupNode == null) {
+            throw new IllegalStateException("Impossible state: GroupBridgeNode (" + this +
+                    ") has no child GroupNode (" + groupNode + ").");
+        }
+        BavetGroupBridgeTriTuple<A, B, C> tuple = (BavetGroupBridgeTriTuple<A, B, C>) uncastTuple;
+        Runnable[] undoAccumulators = tuple.getUndoAccumulators();
+        BavetGroupTuple oldChildTuple = tuple.getChildTuple();
+        if (oldChildTuple != null) {
+            for (int i = 0; i < undoAccumulators.length; i++) {
+                undoAccumulators[i].run();
+                undoAccumulators[i] = null;
+            }
+            tuple.setChildTuple(null);
+            groupNode.releaseGroupTuple(oldChildTuple);
+        }
+        if (tuple.isActive()) {
+            A a = tuple.getFactA();
+            B b = tuple.getFactB();
+            C c = tuple.getFactC();
+            BavetGroupTuple childTuple = groupNode.acquireGroupTuple(extractGroupKey(a, b, c));
+            Object[] resultContainers = childTuple.getResultContainers();
+            for (int i = 0; i < undoAccumulators.length; i++) {
+                undoAccumulators[i] = accumulatorList.get(i).apply(resultContainers[i], a, b, c);
+            }
+            tuple.setChildTuple(childTuple);
+        }
+    }
+
+    private Object extractGroupKey(A a, B b, C c) {
+        int groupKeyCount = groupKeyMappingList.size();
+        switch (groupKeyCount) {
+            case 0:
+                return BavetGroupKey.EMPTY;
+            case 1:
+                return groupKeyMappingList.get(0).apply(a, b, c);
+            default:
+                Object[] groupKeys = new Object[groupKeyCount];
+                for (int i = 0; i < groupKeyCount; i++) {
+                    groupKeys[i] = groupKeyMappingList.get(i).apply(a, b, c);
+                }
+                return new BavetGroupKey(groupKeys);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "GroupBridge()";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    public List<Supplier<?>> getResultContainerSupplierList() {
+        return resultContainerSupplierList;
+    }
+
+    public List<Function<Object, ?>> getFinisherList() {
+        return finisherList;
+    }
+
+}
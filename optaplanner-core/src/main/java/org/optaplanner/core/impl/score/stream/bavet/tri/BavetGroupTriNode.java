@@ -0,0 +1,178 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.tri;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupKey;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+
+public final class BavetGroupTriNode<A, B, C> extends BavetAbstractTriNode<A, B, C>
+        implements BavetGroupNode {
+
+    private final BavetNode parentNode;
+    private final int groupKeyCount;
+    private final List<Supplier<?>> resultContainerSupplierList;
+    private final List<Function<Object, ?>> finisherList;
+
+    private final Map<Object, BavetGroupTriTuple<A, B, C>> tupleMap = new HashMap<>();
+    private final List<BavetAbstractTriNode<A, B, C>> childNodeList = new ArrayList<>();
+
+    public BavetGroupTriNode(BavetConstraintSession session, int nodeIndex, BavetNode parentNode, int groupKeyCount,
+            List<Supplier<?>> resultContainerSupplierList, List<Function<Object, ?>> finisherList) {
+        super(session, nodeIndex);
+        this.parentNode = parentNode;
+        this.groupKeyCount = groupKeyCount;
+        this.resultContainerSupplierList = resultContainerSupplierList;
+        this.finisherList = finisherList;
+        if (groupKeyCount + finisherList.size() != 3) {
+            throw new IllegalArgumentException("The groupKeyCount (" + groupKeyCount
+                    + ") plus the collector count (" + finisherList.size() + ") must be 3.");
+        }
+    }
+
+    @Override
+    public void addChildNode(BavetAbstractTriNode<A, B, C> childNode) {
+        childNodeList.add(childNode);
+    }
+
+    @Override
+    public List<BavetAbstractTriNode<A, B, C>> getChildNodeList() {
+        return childNodeList;
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(parentNode);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetGroupTriNode) {
+            BavetGroupTriNode<?, ?, ?> other = (BavetGroupTriNode<?, ?, ?>) o;
+            // The parent group bridge node is only shared if the groupKeyMappings and collectors are equal too
+            return parentNode == other.parentNode;
+        } else {
+            return false;
+        }
+    }
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    @Override
+    public BavetGroupTriTuple<A, B, C> createTuple(BavetAbstractTriTuple<A, B, C> parentTuple) {
+        throw new IllegalStateException("The Grouped node (" + getClass().getSimpleName()
+                + ") can't have a parentTuple (" + parentTuple + ");");
+    }
+
+    @Override
+    public BavetGroupTriTuple<A, B, C> acquireGroupTuple(Object groupKey) {
+        BavetGroupTriTuple<A, B, C> tuple = tupleMap.get(groupKey);
+        if (tuple == null) {
+            Object[] resultContainers = new Object[resultContainerSupplierList.size()];
+            for (int i = 0; i < resultContainers.length; i++) {
+                resultContainers[i] = resultContainerSupplierList.get(i).get();
+            }
+            tuple = new BavetGroupTriTuple<>(this, groupKey, resultContainers, childNodeList.size());
+            tupleMap.put(groupKey, tuple);
+        }
+        int parentCount = tuple.increaseParentCount();
+        if (parentCount == 1) {
+            session.transitionTuple(tuple, BavetTupleState.CREATING);
+        } else if (tuple.getState() != BavetTupleState.CREATING) {
+            // It might have just been created by an earlier tuple in the same nodeIndex
+            session.transitionTuple(tuple, BavetTupleState.UPDATING);
+        }
+        return tuple;
+    }
+
+    @Override
+    public void releaseGroupTuple(BavetGroupTuple uncastTuple) {
+        BavetGroupTriTuple<A, B, C> tuple = (BavetGroupTriTuple<A, B, C>) uncastTuple;
+        int parentCount = tuple.decreaseParentCount();
+        if (parentCount == 0) {
+            // Clean up tupleMap
+            tupleMap.remove(tuple.getGroupKey());
+            session.transitionTuple(tuple, BavetTupleState.DYING);
+        } else if (tuple.getState() != BavetTupleState.CREATING) {
+            session.transitionTuple(tuple, BavetTupleState.UPDATING);
+        }
+    }
+
+    @Override
+    public void refresh(BavetAbstractTuple uncastTuple) {
+        BavetGroupTriTuple<A, B, C> tuple = (BavetGroupTriTuple<A, B, C>) uncastTuple;
+        List<BavetAbstractTuple> childTupleList = tuple.getChildTupleList();
+        if (!tuple.isActive()) {
+            killChildTuples(childTupleList);
+            return;
+        }
+        tuple.updateFacts((A) extractFact(tuple, 0),
+                (B) extractFact(tuple, 1),
+                (C) extractFact(tuple, 2));
+        if (!childTupleList.isEmpty()) {
+            // The facts changed in place, so the child tuples only need to be refreshed
+            updateChildTuples(childTupleList);
+        } else {
+            for (BavetAbstractTriNode<A, B, C> childNode : childNodeList) {
+                BavetAbstractTriTuple<A, B, C> childTuple = childNode.createTuple(tuple);
+                childTupleList.add(childTuple);
+                session.transitionTuple(childTuple, BavetTupleState.CREATING);
+            }
+        }
+    }
+
+    /**
+     * The group keys come first, followed by the collector results.
+     */
+    private Object extractFact(BavetGroupTriTuple<A, B, C> tuple, int factIndex) {
+        if (factIndex < groupKeyCount) {
+            Object groupKey = tuple.getGroupKey();
+            return (groupKeyCount == 1) ? groupKey : ((BavetGroupKey) groupKey).get(factIndex);
+        }
+        int collectorIndex = factIndex - groupKeyCount;
+        return finisherList.get(collectorIndex).apply(tuple.getResultContainers()[collectorIndex]);
+    }
+
+    @Override
+    public String toString() {
+        return "Group() with " + childNodeList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
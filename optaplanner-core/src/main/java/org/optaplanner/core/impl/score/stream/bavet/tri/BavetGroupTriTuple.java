@@ -0,0 +1,111 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.tri;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupTuple;
+
+public final class BavetGroupTriTuple<A, B, C> extends BavetAbstractTriTuple<A, B, C>
+        implements BavetGroupTuple {
+
+    private final BavetGroupTriNode<A, B, C> node;
+    private final Object groupKey;
+    private final Object[] resultContainers;
+
+    private int parentCount;
+    private A factA;
+    private B factB;
+    private C factC;
+    private final List<BavetAbstractTuple> childTupleList;
+
+    public BavetGroupTriTuple(BavetGroupTriNode<A, B, C> node, Object groupKey, Object[] resultContainers,
+            int childTupleListSize) {
+        this.node = node;
+        this.groupKey = groupKey;
+        this.resultContainers = resultContainers;
+        parentCount = 0;
+        childTupleList = new ArrayList<>(childTupleListSize);
+    }
+
+    public int increaseParentCount() {
+        parentCount++;
+        return parentCount;
+    }
+
+    public int decreaseParentCount() {
+        parentCount--;
+        if (parentCount < 0) {
+            throw new IllegalStateException("The parentCount (" + parentCount + ") for groupKey (" + groupKey
+                    + ") must not be negative.");
+        }
+        return parentCount;
+    }
+
+    public void updateFacts(A factA, B factB, C factC) {
+        this.factA = factA;
+        this.factB = factB;
+        this.factC = factC;
+    }
+
+    @Override
+    public String toString() {
+        return "Group(" + getFactsString() + ")";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    @Override
+    public BavetGroupTriNode<A, B, C> getNode() {
+        return node;
+    }
+
+    @Override
+    public List<BavetAbstractTuple> getChildTupleList() {
+        return childTupleList;
+    }
+
+    @Override
+    public A getFactA() {
+        return factA;
+    }
+
+    @Override
+    public B getFactB() {
+        return factB;
+    }
+
+    @Override
+    public C getFactC() {
+        return factC;
+    }
+
+    @Override
+    public Object getGroupKey() {
+        return groupKey;
+    }
+
+    @Override
+    public Object[] getResultContainers() {
+        return resultContainers;
+    }
+
+}
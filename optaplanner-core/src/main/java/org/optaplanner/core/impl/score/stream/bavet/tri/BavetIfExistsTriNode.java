@@ -0,0 +1,238 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.tri;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.optaplanner.core.api.function.QuadPredicate;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndex;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniNode;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniTuple;
+
+/**
+ * Filters the left tuples on the existence (or absence) of a matching right tuple.
+ * <p>
+ * Every left tuple keeps a count of its matching right tuples, instead of joining with them.
+ * A right tuple change only propagates the left tuples for which that count crosses 0.
+ */
+public final class BavetIfExistsTriNode<A, B, C, D> extends BavetAbstractTriNode<A, B, C> implements BavetJoinNode {
+
+    private final BavetJoinBridgeTriNode<A, B, C> leftParentNode;
+    private final BavetJoinBridgeUniNode<D> rightParentNode;
+    private final boolean shouldExist;
+    /** Null if there are no filtering joiners. */
+    private final QuadPredicate<A, B, C, D> filter;
+
+    /** The index of this node's childTupleList in every left parent tuple. */
+    private int leftChildTupleListIndex = -1;
+    /** The index of this node's childTupleList in every right parent tuple. */
+    private int rightChildTupleListIndex = -1;
+
+    private final List<BavetAbstractTriNode<A, B, C>> childNodeList = new ArrayList<>();
+
+    public BavetIfExistsTriNode(BavetConstraintSession session, int nodeIndex,
+            BavetJoinBridgeTriNode<A, B, C> leftParentNode, BavetJoinBridgeUniNode<D> rightParentNode,
+            boolean shouldExist, QuadPredicate<A, B, C, D> filter) {
+        super(session, nodeIndex);
+        this.leftParentNode = leftParentNode;
+        this.rightParentNode = rightParentNode;
+        this.shouldExist = shouldExist;
+        this.filter = filter;
+    }
+
+    @Override
+    public void addChildNode(BavetAbstractTriNode<A, B, C> childNode) {
+        childNodeList.add(childNode);
+    }
+
+    @Override
+    public List<BavetAbstractTriNode<A, B, C>> getChildNodeList() {
+        return childNodeList;
+    }
+
+    /**
+     * Only called if this node isn't shared,
+     * so a shared parent node propagates to it only once.
+     */
+    public void registerChildTupleRefreshers() {
+        leftChildTupleListIndex = leftParentNode.addChildTupleRefresher(this::refreshChildTuplesLeft,
+                this::updateChildTuplesLeft);
+        rightChildTupleListIndex = rightParentNode.addChildTupleRefresher(this::refreshChildTuplesRight,
+                this::updateChildTuplesRight);
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(leftParentNode), System.identityHashCode(rightParentNode),
+                shouldExist, System.identityHashCode(filter));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetIfExistsTriNode) {
+            BavetIfExistsTriNode<?, ?, ?, ?> other = (BavetIfExistsTriNode<?, ?, ?, ?>) o;
+            return leftParentNode == other.leftParentNode
+                    && rightParentNode == other.rightParentNode
+                    && shouldExist == other.shouldExist
+                    && filter == other.filter;
+        } else {
+            return false;
+        }
+    }
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    @Override
+    public BavetIfExistsTriTuple<A, B, C> createTuple(BavetAbstractTriTuple<A, B, C> parentTuple) {
+        throw new IllegalStateException("The ifExists node (" + getClass().getSimpleName()
+                + ") can't have a parentTuple (" + parentTuple + ");");
+    }
+
+    @Override
+    public void refresh(BavetAbstractTuple uncastTuple) {
+        BavetIfExistsTriTuple<A, B, C> tuple = (BavetIfExistsTriTuple<A, B, C>) uncastTuple;
+        List<BavetAbstractTuple> childTupleList = tuple.getChildTupleList();
+        boolean propagate = tuple.isActive() && (tuple.getMatchCount() > 0) == shouldExist;
+        if (!propagate) {
+            killChildTuples(childTupleList);
+        } else if (!childTupleList.isEmpty()) {
+            // It propagated before too, so its child tuples only need to be refreshed
+            updateChildTuples(childTupleList);
+        } else {
+            for (BavetAbstractTriNode<A, B, C> childNode : childNodeList) {
+                BavetAbstractTriTuple<A, B, C> childTuple = childNode.createTuple(tuple);
+                childTupleList.add(childTuple);
+                session.transitionTuple(childTuple, BavetTupleState.CREATING);
+            }
+        }
+    }
+
+    public void updateChildTuplesLeft(BavetJoinBridgeTriTuple<A, B, C> leftParentTuple) {
+        if (filter != null) {
+            // The filter might not match the same right tuples anymore
+            refreshChildTuplesLeft(leftParentTuple);
+            return;
+        }
+        updateChildTuples(leftParentTuple.getChildTupleList(leftChildTupleListIndex));
+    }
+
+    public void updateChildTuplesRight(BavetJoinBridgeUniTuple<D> rightParentTuple) {
+        // Without a filter, the matchCount of every left tuple is unaffected
+        if (filter != null) {
+            refreshChildTuplesRight(rightParentTuple);
+        }
+    }
+
+    public void refreshChildTuplesLeft(BavetJoinBridgeTriTuple<A, B, C> leftParentTuple) {
+        List<BavetAbstractTuple> leftTupleList = leftParentTuple.getChildTupleList(leftChildTupleListIndex);
+        for (BavetAbstractTuple uncastTuple : leftTupleList) {
+            BavetIfExistsTriTuple<A, B, C> tuple = (BavetIfExistsTriTuple<A, B, C>) uncastTuple;
+            if (tuple.getMatchCount() > 0) {
+                getRightIndex().visit(tuple.getIndexProperties(),
+                        rightParentTuple -> rightParentTuple.getChildTupleList(rightChildTupleListIndex).remove(tuple));
+            }
+            session.transitionTuple(tuple, BavetTupleState.DYING);
+        }
+        leftTupleList.clear();
+        if (leftParentTuple.isActive()) {
+            BavetIfExistsTriTuple<A, B, C> tuple = new BavetIfExistsTriTuple<>(this, leftParentTuple, childNodeList.size());
+            getRightIndex().visit(tuple.getIndexProperties(), rightParentTuple -> {
+                // An updating right tuple that keeps its index entry won't count itself
+                if (rightParentTuple.isActive() && matches(tuple, rightParentTuple)) {
+                    rightParentTuple.getChildTupleList(rightChildTupleListIndex).add(tuple);
+                    tuple.increaseMatchCount();
+                }
+            });
+            leftTupleList.add(tuple);
+            session.transitionTuple(tuple, BavetTupleState.CREATING);
+        }
+    }
+
+    public void refreshChildTuplesRight(BavetJoinBridgeUniTuple<D> rightParentTuple) {
+        List<BavetAbstractTuple> rightTupleList = rightParentTuple.getChildTupleList(rightChildTupleListIndex);
+        for (BavetAbstractTuple uncastTuple : rightTupleList) {
+            BavetIfExistsTriTuple<A, B, C> tuple = (BavetIfExistsTriTuple<A, B, C>) uncastTuple;
+            tuple.decreaseMatchCount();
+            if (tuple.getMatchCount() == 0) {
+                markMatchCountCrossedZero(tuple);
+            }
+        }
+        rightTupleList.clear();
+        if (rightParentTuple.isActive()) {
+            getLeftIndex().visit(rightParentTuple.getIndexProperties(), leftParentTuple -> {
+                // An updating left tuple that keeps its index entry won't count its matches
+                if (leftParentTuple.isActive()) {
+                    BavetIfExistsTriTuple<A, B, C> tuple =
+                            (BavetIfExistsTriTuple<A, B, C>) leftParentTuple.getChildTupleList(leftChildTupleListIndex).get(0);
+                    if (matches(tuple, rightParentTuple)) {
+                        rightTupleList.add(tuple);
+                        tuple.increaseMatchCount();
+                        if (tuple.getMatchCount() == 1) {
+                            markMatchCountCrossedZero(tuple);
+                        }
+                    }
+                }
+            });
+        }
+    }
+
+    private boolean matches(BavetIfExistsTriTuple<A, B, C> tuple, BavetJoinBridgeUniTuple<D> rightParentTuple) {
+        if (filter == null) {
+            return true;
+        }
+        return filter.test(tuple.getFactA(), tuple.getFactB(), tuple.getFactC(), rightParentTuple.getFactA());
+    }
+
+    private void markMatchCountCrossedZero(BavetIfExistsTriTuple<A, B, C> tuple) {
+        // A creating tuple propagates its current matchCount anyway
+        if (tuple.getState() == BavetTupleState.OK) {
+            session.transitionTuple(tuple, BavetTupleState.UPDATING);
+        }
+    }
+
+    public BavetIndex<BavetJoinBridgeTriTuple<A, B, C>> getLeftIndex() {
+        return leftParentNode.getIndex();
+    }
+
+    public BavetIndex<BavetJoinBridgeUniTuple<D>> getRightIndex() {
+        return rightParentNode.getIndex();
+    }
+
+    @Override
+    public String toString() {
+        return (shouldExist ? "IfExists()" : "IfNotExists()") + " with " + childNodeList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.tri;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+
+public final class BavetIfExistsTriTuple<A, B, C> extends BavetAbstractTriTuple<A, B, C> {
+
+    private final BavetIfExistsTriNode<A, B, C, ?> node;
+    private final BavetJoinBridgeTriTuple<A, B, C> leftTuple;
+    /**
+     * The {@link #leftTuple}'s index properties at creation time,
+     * to find the right tuples that counted this tuple after the {@link #leftTuple} has been reindexed.
+     */
+    private final Object[] indexProperties;
+    private final List<BavetAbstractTuple> childTupleList;
+
+    /** The number of right tuples that match the {@link #leftTuple}. */
+    private int matchCount = 0;
+
+    public BavetIfExistsTriTuple(BavetIfExistsTriNode<A, B, C, ?> node, BavetJoinBridgeTriTuple<A, B, C> leftTuple,
+            int childTupleListSize) {
+        this.node = node;
+        this.leftTuple = leftTuple;
+        this.indexProperties = leftTuple.getIndexProperties();
+        childTupleList = new ArrayList<>(childTupleListSize);
+    }
+
+    public void increaseMatchCount() {
+        matchCount++;
+    }
+
+    public void decreaseMatchCount() {
+        matchCount--;
+    }
+
+    @Override
+    public String toString() {
+        return "IfExists(" + getFactsString() + ") with " + matchCount + " matches";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    @Override
+    public BavetIfExistsTriNode<A, B, C, ?> getNode() {
+        return node;
+    }
+
+    @Override
+    public List<BavetAbstractTuple> getChildTupleList() {
+        return childTupleList;
+    }
+
+    @Override
+    public A getFactA() {
+        return leftTuple.getFactA();
+    }
+
+    @Override
+    public B getFactB() {
+        return leftTuple.getFactB();
+    }
+
+    @Override
+    public C getFactC() {
+        return leftTuple.getFactC();
+    }
+
+    public BavetJoinBridgeTriTuple<A, B, C> getLeftTuple() {
+        return leftTuple;
+    }
+
+    public Object[] getIndexProperties() {
+        return indexProperties;
+    }
+
+    public int getMatchCount() {
+        return matchCount;
+    }
+
+}
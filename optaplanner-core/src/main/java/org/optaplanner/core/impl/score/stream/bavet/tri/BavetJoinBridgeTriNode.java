@@ -0,0 +1,153 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.tri;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.optaplanner.core.api.function.TriFunction;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndex;
+import org.optaplanner.core.impl.score.stream.bavet.quad.BavetJoinQuadNode;
+import org.optaplanner.core.impl.score.stream.common.AbstractJoiner;
+
+public final class BavetJoinBridgeTriNode<A, B, C> extends BavetAbstractTriNode<A, B, C>
+        implements BavetJoinBridgeNode {
+
+    private final BavetAbstractTriNode<A, B, C> parentNode;
+    private final TriFunction<A, B, C, Object[]> mapping;
+    private final boolean isLeftBridge;
+    private final AbstractJoiner joiner;
+    /**
+     * Calls {@link BavetJoinQuadNode#refreshChildTuplesLeft(BavetJoinBridgeTriTuple)}, or the right variant.
+     * Has 1 element per child join node, because join bridge nodes are shared.
+     */
+    private final List<Consumer<BavetJoinBridgeTriTuple<A, B, C>>> childTupleRefresherList = new ArrayList<>();
+    /**
+     * Called instead of {@link #childTupleRefresherList} if an updated tuple's index properties didn't change.
+     * Has the same order as {@link #childTupleRefresherList}.
+     */
+    private final List<Consumer<BavetJoinBridgeTriTuple<A, B, C>>> childTupleUpdaterList = new ArrayList<>();
+
+    private final BavetIndex<BavetJoinBridgeTriTuple<A, B, C>> index;
+
+    public BavetJoinBridgeTriNode(BavetConstraintSession session, int nodeIndex,
+            BavetAbstractTriNode<A, B, C> parentNode,
+            boolean isLeftBridge, AbstractJoiner joiner, TriFunction<A, B, C, Object[]> mapping,
+            BavetIndex<BavetJoinBridgeTriTuple<A, B, C>> index) {
+        super(session, nodeIndex);
+        this.parentNode = parentNode;
+        this.isLeftBridge = isLeftBridge;
+        this.joiner = joiner;
+        this.mapping = mapping;
+        this.index = index;
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(parentNode), isLeftBridge, joiner);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetJoinBridgeTriNode) {
+            BavetJoinBridgeTriNode<?, ?, ?> other = (BavetJoinBridgeTriNode<?, ?, ?>) o;
+            return parentNode == other.parentNode
+                    && isLeftBridge == other.isLeftBridge
+                    && joiner.equals(other.joiner);
+        } else {
+            return false;
+        }
+    }
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    @Override
+    public BavetJoinBridgeTriTuple<A, B, C> createTuple(BavetAbstractTriTuple<A, B, C> parentTuple) {
+        return new BavetJoinBridgeTriTuple<>(this, parentTuple);
+    }
+
+    @Override
+    public void refresh(BavetAbstractTuple uncastTuple) {
+        BavetJoinBridgeTriTuple<A, B, C> tuple = (BavetJoinBridgeTriTuple<A, B, C>) uncastTuple;
+        A a = tuple.getFactA();
+        B b = tuple.getFactB();
+        C c = tuple.getFactC();
+        Object[] indexProperties = tuple.isActive() ? mapping.apply(a, b, c) : null;
+        if (tuple.getState() == BavetTupleState.UPDATING
+                && isIndexUnchanged(tuple.getIndexProperties(), indexProperties)) {
+            // Keep the index entry, because every child join node still has the same matches for this tuple
+            for (Consumer<BavetJoinBridgeTriTuple<A, B, C>> childTupleUpdater : childTupleUpdaterList) {
+                childTupleUpdater.accept(tuple);
+            }
+            return;
+        }
+        if (tuple.getState() != BavetTupleState.CREATING) {
+            // Clean up index
+            index.remove(tuple);
+        }
+        if (indexProperties != null) {
+            index.put(indexProperties, tuple);
+        }
+        for (Consumer<BavetJoinBridgeTriTuple<A, B, C>> childTupleRefresher : childTupleRefresherList) {
+            childTupleRefresher.accept(tuple);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "JoinBridge()";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    public BavetIndex<BavetJoinBridgeTriTuple<A, B, C>> getIndex() {
+        return index;
+    }
+
+    /**
+     * @param childTupleRefresher never null, called when a tuple of this node is created, killed or reindexed
+     * @param childTupleUpdater never null, called when a tuple of this node is updated but keeps its index entry
+     * @return the index of the childTupleList, in every tuple of this node, that belongs to that child join node
+     */
+    public int addChildTupleRefresher(Consumer<BavetJoinBridgeTriTuple<A, B, C>> childTupleRefresher,
+            Consumer<BavetJoinBridgeTriTuple<A, B, C>> childTupleUpdater) {
+        childTupleRefresherList.add(childTupleRefresher);
+        childTupleUpdaterList.add(childTupleUpdater);
+        return childTupleRefresherList.size() - 1;
+    }
+
+    public int getChildTupleRefresherCount() {
+        return childTupleRefresherList.size();
+    }
+
+}
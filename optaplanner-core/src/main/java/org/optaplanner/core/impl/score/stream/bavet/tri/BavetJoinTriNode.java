@@ -18,7 +18,7 @@ package org.optaplanner.core.impl.score.stream.bavet.tri;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
+import java.util.Objects;
 
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
 import org.optaplanner.core.impl.score.stream.bavet.bi.BavetJoinBridgeBiNode;
@@ -35,6 +35,11 @@ public final class BavetJoinTriNode<A, B, C> extends BavetAbstractTriNode<A, B,
     private final BavetJoinBridgeBiNode<A, B> leftParentNode;
     private final BavetJoinBridgeUniNode<C> rightParentNode;
 
+    /** The index of this node's childTupleList in every left parent tuple. */
+    private int leftChildTupleListIndex = -1;
+    /** The index of this node's childTupleList in every right parent tuple. */
+    private int rightChildTupleListIndex = -1;
+
     private final List<BavetAbstractTriNode<A, B, C>> childNodeList = new ArrayList<>();
 
     public BavetJoinTriNode(BavetConstraintSession session, int nodeIndex,
@@ -54,11 +59,38 @@ public final class BavetJoinTriNode<A, B, C> extends BavetAbstractTriNode<A, B,
         return childNodeList;
     }
 
+    /**
+     * Only called if this node isn't shared,
+     * so a shared parent node propagates to it only once.
+     */
+    public void registerChildTupleRefreshers() {
+        leftChildTupleListIndex = leftParentNode.addChildTupleRefresher(this::refreshChildTuplesLeft,
+                this::updateChildTuplesLeft);
+        rightChildTupleListIndex = rightParentNode.addChildTupleRefresher(this::refreshChildTuplesRight,
+                this::updateChildTuplesRight);
+    }
+
     // ************************************************************************
     // Equality for node sharing
     // ************************************************************************
 
-    // TODO
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(leftParentNode), System.identityHashCode(rightParentNode));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetJoinTriNode) {
+            BavetJoinTriNode<?, ?, ?> other = (BavetJoinTriNode<?, ?, ?>) o;
+            return leftParentNode == other.leftParentNode
+                    && rightParentNode == other.rightParentNode;
+        } else {
+            return false;
+        }
+    }
 
     // ************************************************************************
     // Runtime
@@ -72,18 +104,19 @@ public final class BavetJoinTriNode<A, B, C> extends BavetAbstractTriNode<A, B,
 
     public BavetJoinTriTuple<A, B, C> createTuple(
             BavetJoinBridgeBiTuple<A, B> abTuple, BavetJoinBridgeUniTuple<C> cTuple) {
-        return new BavetJoinTriTuple<>(this, abTuple, cTuple);
+        return new BavetJoinTriTuple<>(this, abTuple, cTuple, childNodeList.size());
     }
 
     @Override
     public void refresh(BavetAbstractTuple uncastTuple) {
         BavetJoinTriTuple<A, B, C> tuple = (BavetJoinTriTuple<A, B, C>) uncastTuple;
         List<BavetAbstractTuple> childTupleList = tuple.getChildTupleList();
-        for (BavetAbstractTuple childTuple : childTupleList) {
-            session.transitionTuple(childTuple, BavetTupleState.DYING);
-        }
-        childTupleList.clear();
-        if (tuple.isActive()) {
+        if (tuple.getState() == BavetTupleState.UPDATING) {
+            // A parent tuple was updated, but kept its index entry, so this is still the same match
+            updateChildTuples(childTupleList);
+        } else if (!tuple.isActive()) {
+            killChildTuples(childTupleList);
+        } else {
             for (BavetAbstractTriNode<A, B, C> childNode : childNodeList) {
                 BavetAbstractTriTuple<A, B, C> childTuple = childNode.createTuple(tuple);
                 childTupleList.add(childTuple);
@@ -92,11 +125,19 @@ public final class BavetJoinTriNode<A, B, C> extends BavetAbstractTriNode<A, B,
         }
     }
 
+    public void updateChildTuplesLeft(BavetJoinBridgeBiTuple<A, B> leftParentTuple) {
+        updateChildTuples(leftParentTuple.getChildTupleList(leftChildTupleListIndex));
+    }
+
+    public void updateChildTuplesRight(BavetJoinBridgeUniTuple<C> rightParentTuple) {
+        updateChildTuples(rightParentTuple.getChildTupleList(rightChildTupleListIndex));
+    }
+
     public void refreshChildTuplesLeft(BavetJoinBridgeBiTuple<A, B> leftParentTuple) {
-        List<BavetAbstractTuple> leftTupleSet = leftParentTuple.getChildTupleList();
+        List<BavetAbstractTuple> leftTupleSet = leftParentTuple.getChildTupleList(leftChildTupleListIndex);
         for (BavetAbstractTuple tuple_ : leftTupleSet) {
             BavetJoinTriTuple<A, B, C> tuple = (BavetJoinTriTuple<A, B, C>) tuple_;
-            boolean removed = tuple.getCTuple().getChildTupleList().remove(tuple);
+            boolean removed = tuple.getCTuple().getChildTupleList(rightChildTupleListIndex).remove(tuple);
             if (!removed) {
                 throw new IllegalStateException("Impossible state: the facts (" + tuple.getFactA() + ", " + tuple.getFactB()
                         + ")'s tuple cannot be removed from the other fact (" + tuple.getFactC()
@@ -106,23 +147,23 @@ public final class BavetJoinTriNode<A, B, C> extends BavetAbstractTriNode<A, B,
         }
         leftTupleSet.clear();
         if (leftParentTuple.isActive()) {
-            Set<BavetJoinBridgeUniTuple<C>> rightParentTupleList = getRightIndex().get(leftParentTuple.getIndexProperties());
-            for (BavetJoinBridgeUniTuple<C> rightParentTuple : rightParentTupleList) {
-                if (!rightParentTuple.isDirty()) {
+            getRightIndex().visit(leftParentTuple.getIndexProperties(), rightParentTuple -> {
+                // An updating right tuple that keeps its index entry won't look for new matches itself
+                if (rightParentTuple.isActive()) {
                     BavetJoinTriTuple<A, B, C> childTuple = createTuple(leftParentTuple, rightParentTuple);
                     leftTupleSet.add(childTuple);
-                    rightParentTuple.getChildTupleList().add(childTuple);
+                    rightParentTuple.getChildTupleList(rightChildTupleListIndex).add(childTuple);
                     session.transitionTuple(childTuple, BavetTupleState.CREATING);
                 }
-            }
+            });
         }
     }
 
     public void refreshChildTuplesRight(BavetJoinBridgeUniTuple<C> rightParentTuple) {
-        List<BavetAbstractTuple> rightTupleSet = rightParentTuple.getChildTupleList();
+        List<BavetAbstractTuple> rightTupleSet = rightParentTuple.getChildTupleList(rightChildTupleListIndex);
         for (BavetAbstractTuple uncastTuple : rightTupleSet) {
             BavetJoinTriTuple<A, B, C> tuple = (BavetJoinTriTuple<A, B, C>) uncastTuple;
-            boolean removed = tuple.getAbTuple().getChildTupleList().remove(tuple);
+            boolean removed = tuple.getAbTuple().getChildTupleList(leftChildTupleListIndex).remove(tuple);
             if (!removed) {
                 throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactC()
                         + ")'s tuple cannot be removed from the other facts (" + tuple.getFactA() + ", " + tuple.getFactB()
@@ -132,15 +173,15 @@ public final class BavetJoinTriNode<A, B, C> extends BavetAbstractTriNode<A, B,
         }
         rightTupleSet.clear();
         if (rightParentTuple.isActive()) {
-            Set<BavetJoinBridgeBiTuple<A, B>> leftParentTupleList = getLeftIndex().get(rightParentTuple.getIndexProperties());
-            for (BavetJoinBridgeBiTuple<A, B> leftParentTuple : leftParentTupleList) {
-                if (!leftParentTuple.isDirty()) {
+            getLeftIndex().visit(rightParentTuple.getIndexProperties(), leftParentTuple -> {
+                // An updating left tuple that keeps its index entry won't look for new matches itself
+                if (leftParentTuple.isActive()) {
                     BavetJoinTriTuple<A, B, C> childTuple = createTuple(leftParentTuple, rightParentTuple);
-                    leftParentTuple.getChildTupleList().add(childTuple);
+                    leftParentTuple.getChildTupleList(leftChildTupleListIndex).add(childTuple);
                     rightTupleSet.add(childTuple);
                     session.transitionTuple(childTuple, BavetTupleState.CREATING);
                 }
-            }
+            });
         }
     }
 
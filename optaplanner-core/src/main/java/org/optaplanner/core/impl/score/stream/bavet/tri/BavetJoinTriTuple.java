@@ -30,13 +30,14 @@ public final class BavetJoinTriTuple<A, B, C> extends BavetAbstractTriTuple<A, B
     private final BavetJoinTriNode<A, B, C> node;
     private final BavetJoinBridgeBiTuple<A, B> abTuple;
     private final BavetJoinBridgeUniTuple<C> cTuple;
-    private final List<BavetAbstractTuple> childTupleList = new ArrayList<>(1);
+    private final List<BavetAbstractTuple> childTupleList;
 
     public BavetJoinTriTuple(BavetJoinTriNode<A, B, C> node,
-            BavetJoinBridgeBiTuple<A, B> abTuple, BavetJoinBridgeUniTuple<C> cTuple) {
+            BavetJoinBridgeBiTuple<A, B> abTuple, BavetJoinBridgeUniTuple<C> cTuple, int childTupleListSize) {
         this.node = node;
         this.abTuple = abTuple;
         this.cTuple = cTuple;
+        childTupleList = new ArrayList<>(childTupleListSize);
     }
 
     @Override
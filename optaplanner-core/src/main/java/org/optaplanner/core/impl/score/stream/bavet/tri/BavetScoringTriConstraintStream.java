@@ -18,9 +18,9 @@ package org.optaplanner.core.impl.score.stream.bavet.tri;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
-import org.optaplanner.core.api.function.QuadFunction;
 import org.optaplanner.core.api.function.ToIntTriFunction;
 import org.optaplanner.core.api.function.ToLongTriFunction;
 import org.optaplanner.core.api.function.TriFunction;
@@ -30,11 +30,11 @@ import org.optaplanner.core.impl.score.inliner.BigDecimalWeightedScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.IntWeightedScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.LongWeightedScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.ScoreInliner;
-import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.WeightedScoreImpacter;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraint;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoringTuple;
 import org.optaplanner.core.impl.score.stream.bavet.uni.BavetFromUniConstraintStream;
 
 public final class BavetScoringTriConstraintStream<Solution_, A, B, C>
@@ -108,18 +108,21 @@ public final class BavetScoringTriConstraintStream<Solution_, A, B, C>
             Score<?> constraintWeight, BavetAbstractTriNode<A, B, C> parentNode) {
         ScoreInliner scoreInliner = buildPolicy.getSession().getScoreInliner();
         WeightedScoreImpacter weightedScoreImpacter = scoreInliner.buildWeightedScoreImpacter(constraintWeight);
-        QuadFunction<A, B, C, Consumer<Score<?>>, UndoScoreImpacter> scoreImpacter;
+        BiConsumer<BavetScoringTriTuple<A, B, C>, Consumer<Score<?>>> scoreImpacter;
         if (weightedScoreImpacter instanceof IntWeightedScoreImpacter) {
             IntWeightedScoreImpacter castedWeightedScoreImpacter = (IntWeightedScoreImpacter) weightedScoreImpacter;
             if (intMatchWeigher != null) {
-                scoreImpacter = (A a, B b, C c, Consumer<Score<?>> matchScoreConsumer) -> {
-                    int matchWeight = intMatchWeigher.applyAsInt(a, b, c);
+                scoreImpacter = (BavetScoringTriTuple<A, B, C> tuple, Consumer<Score<?>> matchScoreConsumer) -> {
+                    int matchWeight = intMatchWeigher.applyAsInt(tuple.getFactA(), tuple.getFactB(), tuple.getFactC());
                     constraint.assertCorrectImpact(matchWeight);
-                    return castedWeightedScoreImpacter.impactScore(matchWeight, matchScoreConsumer);
+                    castedWeightedScoreImpacter.impactScore(matchWeight, matchScoreConsumer);
+                    tuple.setMatchWeight(matchWeight);
                 };
             } else if (noMatchWeigher) {
-                scoreImpacter = (A a, B b, C c, Consumer<Score<?>> matchScoreConsumer) -> castedWeightedScoreImpacter
-                        .impactScore(1, matchScoreConsumer);
+                scoreImpacter = (BavetScoringTriTuple<A, B, C> tuple, Consumer<Score<?>> matchScoreConsumer) -> {
+                    castedWeightedScoreImpacter.impactScore(1, matchScoreConsumer);
+                    tuple.setMatchWeight(1L);
+                };
             } else {
                 throw new IllegalStateException("The matchWeigher of " + TriConstraintStream.class.getSimpleName()
                         + ".penalize(matchWeigher) of the constraint (" + constraint.getConstraintId()
@@ -129,14 +132,17 @@ public final class BavetScoringTriConstraintStream<Solution_, A, B, C>
         } else if (weightedScoreImpacter instanceof LongWeightedScoreImpacter) {
             LongWeightedScoreImpacter castedWeightedScoreImpacter = (LongWeightedScoreImpacter) weightedScoreImpacter;
             if (longMatchWeigher != null) {
-                scoreImpacter = (A a, B b, C c, Consumer<Score<?>> matchScoreConsumer) -> {
-                    long matchWeight = longMatchWeigher.applyAsLong(a, b, c);
+                scoreImpacter = (BavetScoringTriTuple<A, B, C> tuple, Consumer<Score<?>> matchScoreConsumer) -> {
+                    long matchWeight = longMatchWeigher.applyAsLong(tuple.getFactA(), tuple.getFactB(), tuple.getFactC());
                     constraint.assertCorrectImpact(matchWeight);
-                    return castedWeightedScoreImpacter.impactScore(matchWeight, matchScoreConsumer);
+                    castedWeightedScoreImpacter.impactScore(matchWeight, matchScoreConsumer);
+                    tuple.setMatchWeight(matchWeight);
                 };
             } else if (noMatchWeigher) {
-                scoreImpacter = (A a, B b, C c, Consumer<Score<?>> matchScoreConsumer) -> castedWeightedScoreImpacter
-                        .impactScore(1L, matchScoreConsumer);
+                scoreImpacter = (BavetScoringTriTuple<A, B, C> tuple, Consumer<Score<?>> matchScoreConsumer) -> {
+                    castedWeightedScoreImpacter.impactScore(1L, matchScoreConsumer);
+                    tuple.setMatchWeight(1L);
+                };
             } else {
                 throw new IllegalStateException("The matchWeigher of " + TriConstraintStream.class.getSimpleName()
                         + ".penalize(matchWeigher) of the constraint (" + constraint.getConstraintId()
@@ -147,14 +153,17 @@ public final class BavetScoringTriConstraintStream<Solution_, A, B, C>
             BigDecimalWeightedScoreImpacter castedWeightedScoreImpacter =
                     (BigDecimalWeightedScoreImpacter) weightedScoreImpacter;
             if (bigDecimalMatchWeigher != null) {
-                scoreImpacter = (A a, B b, C c, Consumer<Score<?>> matchScoreConsumer) -> {
-                    BigDecimal matchWeight = bigDecimalMatchWeigher.apply(a, b, c);
+                scoreImpacter = (BavetScoringTriTuple<A, B, C> tuple, Consumer<Score<?>> matchScoreConsumer) -> {
+                    BigDecimal matchWeight = bigDecimalMatchWeigher.apply(tuple.getFactA(), tuple.getFactB(), tuple.getFactC());
                     constraint.assertCorrectImpact(matchWeight);
-                    return castedWeightedScoreImpacter.impactScore(matchWeight, matchScoreConsumer);
+                    castedWeightedScoreImpacter.impactScore(matchWeight, matchScoreConsumer);
+                    tuple.setBigDecimalMatchWeight(matchWeight);
                 };
             } else if (noMatchWeigher) {
-                scoreImpacter = (A a, B b, C c, Consumer<Score<?>> matchScoreConsumer) -> castedWeightedScoreImpacter
-                        .impactScore(BigDecimal.ONE, matchScoreConsumer);
+                scoreImpacter = (BavetScoringTriTuple<A, B, C> tuple, Consumer<Score<?>> matchScoreConsumer) -> {
+                    castedWeightedScoreImpacter.impactScore(BigDecimal.ONE, matchScoreConsumer);
+                    tuple.setBigDecimalMatchWeight(BigDecimal.ONE);
+                };
             } else {
                 throw new IllegalStateException("The matchWeigher of " + TriConstraintStream.class.getSimpleName()
                         + ".penalize(matchWeigher) of the constraint (" + constraint.getConstraintId()
@@ -166,7 +175,8 @@ public final class BavetScoringTriConstraintStream<Solution_, A, B, C>
         }
         BavetScoringTriNode<A, B, C> node = new BavetScoringTriNode<>(buildPolicy.getSession(),
                 buildPolicy.nextNodeIndex(), constraint.getConstraintPackage(), constraint.getConstraintName(),
-                constraintWeight, scoreImpacter);
+                constraintWeight, scoreImpacter,
+                BavetScoringTuple.buildUndoScoreImpacter(weightedScoreImpacter));
         buildPolicy.addScoringNode(node);
         return node;
     }
@@ -180,6 +190,11 @@ public final class BavetScoringTriConstraintStream<Solution_, A, B, C>
         }
     }
 
+    @Override
+    public boolean leadsTo(BavetConstraint<Solution_> constraint) {
+        return this.constraint == constraint;
+    }
+
     @Override
     public String toString() {
         return "Scoring()";
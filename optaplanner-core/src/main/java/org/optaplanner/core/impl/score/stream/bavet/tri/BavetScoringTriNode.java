@@ -17,39 +17,41 @@
 package org.optaplanner.core.impl.score.stream.bavet.tri;
 
 import java.util.Arrays;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
-import org.optaplanner.core.api.function.QuadFunction;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
 import org.optaplanner.core.impl.score.constraint.DefaultConstraintMatchTotal;
-import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoringNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoringTuple;
 
 public final class BavetScoringTriNode<A, B, C> extends BavetAbstractTriNode<A, B, C> implements BavetScoringNode {
 
     private final String constraintPackage;
     private final String constraintName;
     private final Score<?> constraintWeight;
-    private final QuadFunction<A, B, C, Consumer<Score<?>>, UndoScoreImpacter> scoreImpacter;
+    private final BiConsumer<BavetScoringTriTuple<A, B, C>, Consumer<Score<?>>> scoreImpacter;
+    private final Consumer<BavetScoringTuple> undoScoreImpacter;
 
     private final boolean constraintMatchEnabled;
-    private final Set<BavetScoringTriTuple<A, B, C>> tupleSet;
+    /** Null if {@link #constraintMatchEnabled} is false. */
+    private final DefaultConstraintMatchTotal constraintMatchTotal;
 
     public BavetScoringTriNode(BavetConstraintSession session, int nodeIndex,
             String constraintPackage, String constraintName, Score<?> constraintWeight,
-            QuadFunction<A, B, C, Consumer<Score<?>>, UndoScoreImpacter> scoreImpacter) {
+            BiConsumer<BavetScoringTriTuple<A, B, C>, Consumer<Score<?>>> scoreImpacter,
+            Consumer<BavetScoringTuple> undoScoreImpacter) {
         super(session, nodeIndex);
         this.constraintPackage = constraintPackage;
         this.constraintName = constraintName;
         this.constraintWeight = constraintWeight;
         this.scoreImpacter = scoreImpacter;
+        this.undoScoreImpacter = undoScoreImpacter;
         this.constraintMatchEnabled = session.isConstraintMatchEnabled();
-        tupleSet = constraintMatchEnabled ? new HashSet<>() : null;
+        constraintMatchTotal = session.registerConstraintMatchTotal(constraintPackage, constraintName, constraintWeight);
     }
 
     // ************************************************************************
@@ -73,42 +75,21 @@ public final class BavetScoringTriNode<A, B, C> extends BavetAbstractTriNode<A,
         A a = tuple.getFactA();
         B b = tuple.getFactB();
         C c = tuple.getFactC();
-        UndoScoreImpacter oldUndoScoreImpacter = tuple.getUndoScoreImpacter();
-        if (oldUndoScoreImpacter != null) {
-            oldUndoScoreImpacter.undoScoreImpact();
-            if (constraintMatchEnabled) {
-                tuple.setMatchScore(null);
-                boolean removed = tupleSet.remove(tuple);
-                if (!removed) {
-                    throw new IllegalStateException("Impossible state: The node with constraintId ("
-                            + getConstraintId() + ") could not remove the tuple (" + tuple + ") from the tupleSet.");
-                }
-            }
+        undoScoreImpacter.accept(tuple);
+        if (constraintMatchEnabled && tuple.getConstraintMatch() != null) {
+            tuple.setMatchScore(null);
+            session.removeConstraintMatch(constraintMatchTotal, tuple.getConstraintMatch());
+            tuple.setConstraintMatch(null);
         }
         if (tuple.isActive()) {
-            UndoScoreImpacter undoScoreImpacter = scoreImpacter.apply(a, b, c, tuple::setMatchScore);
-            tuple.setUndoScoreImpacter(undoScoreImpacter);
             if (constraintMatchEnabled) {
-                boolean added = tupleSet.add(tuple);
-                if (!added) {
-                    throw new IllegalStateException("Impossible state: The node with constraintId ("
-                            + getConstraintId() + ") could not add the tuple (" + tuple + ") to the tupleSet.");
-                }
+                scoreImpacter.accept(tuple, tuple::setMatchScore);
+                tuple.setConstraintMatch(session.addConstraintMatch(constraintMatchTotal,
+                        Arrays.asList(a, b, c), tuple.getMatchScore()));
+            } else {
+                scoreImpacter.accept(tuple, null);
             }
-        } else {
-            tuple.setUndoScoreImpacter(null);
-        }
-    }
-
-    @Override
-    public <Score_ extends Score<Score_>> ConstraintMatchTotal<Score_> buildConstraintMatchTotal(Score_ zeroScore) {
-        DefaultConstraintMatchTotal<Score_> constraintMatchTotal = new DefaultConstraintMatchTotal(constraintPackage,
-                constraintName, constraintWeight, zeroScore);
-        for (BavetScoringTriTuple<A, B, C> tuple : tupleSet) {
-            constraintMatchTotal.addConstraintMatch(
-                    Arrays.asList(tuple.getFactA(), tuple.getFactB(), tuple.getFactC()), (Score_) tuple.getMatchScore());
         }
-        return constraintMatchTotal;
     }
 
     @Override
@@ -16,10 +16,11 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.tri;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 import org.optaplanner.core.api.score.Score;
-import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
+import org.optaplanner.core.api.score.constraint.ConstraintMatch;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoringTuple;
@@ -29,9 +30,14 @@ public final class BavetScoringTriTuple<A, B, C> extends BavetAbstractTriTuple<A
     private final BavetScoringTriNode<A, B, C> node;
     private final BavetAbstractTriTuple<A, B, C> parentTuple;
 
-    private UndoScoreImpacter undoScoreImpacter = null;
+    /** 0 if the score isn't impacted by this tuple or if the score is BigDecimal based. */
+    private long matchWeight = 0L;
+    /** Null if the score isn't impacted by this tuple or if the score isn't BigDecimal based. */
+    private BigDecimal bigDecimalMatchWeight = null;
     /** Always null if {@link BavetConstraintSession#constraintMatchEnabled} is false. */
     private Score<?> matchScore = null;
+    /** Always null if {@link BavetConstraintSession#isConstraintMatchEnabled()} is false. */
+    private ConstraintMatch<?> constraintMatch = null;
 
     public BavetScoringTriTuple(BavetScoringTriNode<A, B, C> node, BavetAbstractTriTuple<A, B, C> parentTuple) {
         this.node = node;
@@ -73,13 +79,23 @@ public final class BavetScoringTriTuple<A, B, C> extends BavetAbstractTriTuple<A
     }
 
     @Override
-    public UndoScoreImpacter getUndoScoreImpacter() {
-        return undoScoreImpacter;
+    public long getMatchWeight() {
+        return matchWeight;
     }
 
     @Override
-    public void setUndoScoreImpacter(UndoScoreImpacter undoScoreImpacter) {
-        this.undoScoreImpacter = undoScoreImpacter;
+    public void setMatchWeight(long matchWeight) {
+        this.matchWeight = matchWeight;
+    }
+
+    @Override
+    public BigDecimal getBigDecimalMatchWeight() {
+        return bigDecimalMatchWeight;
+    }
+
+    @Override
+    public void setBigDecimalMatchWeight(BigDecimal bigDecimalMatchWeight) {
+        this.bigDecimalMatchWeight = bigDecimalMatchWeight;
     }
 
     @Override
@@ -92,4 +108,14 @@ public final class BavetScoringTriTuple<A, B, C> extends BavetAbstractTriTuple<A
         this.matchScore = matchScore;
     }
 
+    @Override
+    public ConstraintMatch<?> getConstraintMatch() {
+        return constraintMatch;
+    }
+
+    @Override
+    public void setConstraintMatch(ConstraintMatch<?> constraintMatch) {
+        this.constraintMatch = constraintMatch;
+    }
+
 }
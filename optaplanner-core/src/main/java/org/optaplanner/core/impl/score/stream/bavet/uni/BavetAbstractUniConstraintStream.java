@@ -18,7 +18,10 @@ package org.optaplanner.core.impl.score.stream.bavet.uni;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.ToIntFunction;
@@ -38,11 +41,13 @@ import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
 import org.optaplanner.core.impl.score.stream.bavet.bi.BavetGroupBiConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.bi.BavetJoinBiConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
 import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndexFactory;
+import org.optaplanner.core.impl.score.stream.bavet.quad.BavetGroupQuadConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.tri.BavetGroupTriConstraintStream;
 import org.optaplanner.core.impl.score.stream.bi.AbstractBiJoiner;
 import org.optaplanner.core.impl.score.stream.bi.FilteringBiJoiner;
-import org.optaplanner.core.impl.score.stream.common.JoinerType;
 import org.optaplanner.core.impl.score.stream.common.ScoreImpactType;
 import org.optaplanner.core.impl.score.stream.uni.InnerUniConstraintStream;
 
@@ -99,24 +104,14 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
                     .filter(((FilteringBiJoiner<A, B>) joiner).getFilter());
         }
         AbstractBiJoiner<A, B> castedJoiner = (AbstractBiJoiner<A, B>) joiner;
-        for (JoinerType type : castedJoiner.getJoinerTypes()) {
-            switch (type) {
-                case EQUAL:
-                case LESS_THAN:
-                case LESS_THAN_OR_EQUAL:
-                case GREATER_THAN:
-                case GREATER_THAN_OR_EQUAL:
-                    continue;
-                default:
-                    throw new UnsupportedOperationException("Unsupported joiner type (" + type + ").");
-            }
-        }
         BavetIndexFactory indexFactory = new BavetIndexFactory(castedJoiner);
         BavetJoinBridgeUniConstraintStream<Solution_, A> leftBridge = new BavetJoinBridgeUniConstraintStream<>(
-                constraintFactory, this, true, castedJoiner.getLeftCombinedMapping(), indexFactory);
+                constraintFactory, this, true, castedJoiner,
+                castedJoiner.getLeftCombinedMapping(), indexFactory);
         childStreamList.add(leftBridge);
         BavetJoinBridgeUniConstraintStream<Solution_, B> rightBridge = new BavetJoinBridgeUniConstraintStream<>(
-                constraintFactory, other, false, castedJoiner.getRightCombinedMapping(), indexFactory);
+                constraintFactory, other, false, castedJoiner,
+                castedJoiner.getRightCombinedMapping(), indexFactory);
         other.childStreamList.add(rightBridge);
         BavetJoinBiConstraintStream<Solution_, A, B> joinStream = new BavetJoinBiConstraintStream<>(constraintFactory,
                 leftBridge, rightBridge);
@@ -132,13 +127,50 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
     @SafeVarargs
     @Override
     public final <B> UniConstraintStream<A> ifExists(Class<B> otherClass, BiJoiner<A, B>... joiners) {
-        throw new UnsupportedOperationException();
+        return ifExistsOrNot(true, otherClass, joiners);
     }
 
     @SafeVarargs
     @Override
     public final <B> UniConstraintStream<A> ifNotExists(Class<B> otherClass, BiJoiner<A, B>... joiners) {
-        throw new UnsupportedOperationException();
+        return ifExistsOrNot(false, otherClass, joiners);
+    }
+
+    @SafeVarargs
+    private final <B> UniConstraintStream<A> ifExistsOrNot(boolean shouldExist, Class<B> otherClass,
+            BiJoiner<A, B>... joiners) {
+        constraintFactory.assertValidFromType(otherClass);
+        List<BiJoiner<A, B>> indexingJoinerList = new ArrayList<>(joiners.length);
+        BiPredicate<A, B> filter = null;
+        for (BiJoiner<A, B> joiner : joiners) {
+            if (joiner instanceof FilteringBiJoiner) {
+                // Merge all filters into one, to only index on the indexing joiners
+                BiPredicate<A, B> joinerFilter = ((FilteringBiJoiner<A, B>) joiner).getFilter();
+                filter = (filter == null) ? joinerFilter : filter.and(joinerFilter);
+            } else if (filter != null) {
+                throw new IllegalArgumentException("The indexing joiner (" + joiner
+                        + ") must not follow a filtering joiner in the joiners (" + Arrays.toString(joiners) + ").");
+            } else {
+                indexingJoinerList.add(joiner);
+            }
+        }
+        AbstractBiJoiner<A, B> indexingJoiner = AbstractBiJoiner.merge(
+                indexingJoinerList.toArray(new BiJoiner[0]));
+        BavetIndexFactory indexFactory = new BavetIndexFactory(indexingJoiner);
+        BavetJoinBridgeUniConstraintStream<Solution_, A> leftBridge = new BavetJoinBridgeUniConstraintStream<>(
+                constraintFactory, this, true, indexingJoiner,
+                indexingJoiner.getLeftCombinedMapping(), indexFactory);
+        addChildStream(leftBridge);
+        BavetAbstractUniConstraintStream<Solution_, B> other = constraintFactory.fromUnfiltered(otherClass);
+        BavetJoinBridgeUniConstraintStream<Solution_, B> rightBridge = new BavetJoinBridgeUniConstraintStream<>(
+                constraintFactory, other, false, indexingJoiner,
+                indexingJoiner.getRightCombinedMapping(), indexFactory);
+        other.addChildStream(rightBridge);
+        BavetIfExistsUniConstraintStream<Solution_, A, B> ifExistsStream = new BavetIfExistsUniConstraintStream<>(
+                constraintFactory, leftBridge, rightBridge, shouldExist, filter);
+        leftBridge.setJoinStream(ifExistsStream);
+        rightBridge.setJoinStream(ifExistsStream);
+        return ifExistsStream;
     }
 
     // ************************************************************************
@@ -148,14 +180,16 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
     @Override
     public <ResultContainer_, Result_> UniConstraintStream<Result_> groupBy(
             UniConstraintCollector<A, ResultContainer_, Result_> collector) {
-        throw new UnsupportedOperationException(); // TODO
+        return buildGroupBy(Collections.emptyList(), Collections.singletonList(collector),
+                new BavetGroupUniConstraintStream<>(constraintFactory, this));
     }
 
     @Override
     public <ResultContainerA_, ResultA_, ResultContainerB_, ResultB_> BiConstraintStream<ResultA_, ResultB_> groupBy(
             UniConstraintCollector<A, ResultContainerA_, ResultA_> collectorA,
             UniConstraintCollector<A, ResultContainerB_, ResultB_> collectorB) {
-        throw new UnsupportedOperationException(); // TODO
+        return buildGroupBy(Collections.emptyList(), Arrays.asList(collectorA, collectorB),
+                new BavetGroupBiConstraintStream<>(constraintFactory, this));
     }
 
     @Override
@@ -164,7 +198,8 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
             groupBy(UniConstraintCollector<A, ResultContainerA_, ResultA_> collectorA,
                     UniConstraintCollector<A, ResultContainerB_, ResultB_> collectorB,
                     UniConstraintCollector<A, ResultContainerC_, ResultC_> collectorC) {
-        throw new UnsupportedOperationException(); // TODO
+        return buildGroupBy(Collections.emptyList(), Arrays.asList(collectorA, collectorB, collectorC),
+                new BavetGroupTriConstraintStream<>(constraintFactory, this));
     }
 
     @Override
@@ -174,12 +209,14 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
                     UniConstraintCollector<A, ResultContainerB_, ResultB_> collectorB,
                     UniConstraintCollector<A, ResultContainerC_, ResultC_> collectorC,
                     UniConstraintCollector<A, ResultContainerD_, ResultD_> collectorD) {
-        throw new UnsupportedOperationException(); // TODO
+        return buildGroupBy(Collections.emptyList(), Arrays.asList(collectorA, collectorB, collectorC, collectorD),
+                new BavetGroupQuadConstraintStream<>(constraintFactory, this));
     }
 
     @Override
     public <GroupKey_> UniConstraintStream<GroupKey_> groupBy(Function<A, GroupKey_> groupKeyMapping) {
-        throw new UnsupportedOperationException(); // TODO
+        return buildGroupBy(Collections.singletonList(groupKeyMapping), Collections.emptyList(),
+                new BavetGroupUniConstraintStream<>(constraintFactory, this));
     }
 
     @Override
@@ -187,7 +224,8 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
             TriConstraintStream<GroupKey_, ResultB_, ResultC_> groupBy(Function<A, GroupKey_> groupKeyMapping,
                     UniConstraintCollector<A, ResultContainerB_, ResultB_> collectorB,
                     UniConstraintCollector<A, ResultContainerC_, ResultC_> collectorC) {
-        throw new UnsupportedOperationException(); // TODO
+        return buildGroupBy(Collections.singletonList(groupKeyMapping), Arrays.asList(collectorB, collectorC),
+                new BavetGroupTriConstraintStream<>(constraintFactory, this));
     }
 
     @Override
@@ -196,33 +234,32 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
             groupBy(Function<A, GroupKey_> groupKeyMapping, UniConstraintCollector<A, ResultContainerB_, ResultB_> collectorB,
                     UniConstraintCollector<A, ResultContainerC_, ResultC_> collectorC,
                     UniConstraintCollector<A, ResultContainerD_, ResultD_> collectorD) {
-        throw new UnsupportedOperationException(); // TODO
+        return buildGroupBy(Collections.singletonList(groupKeyMapping),
+                Arrays.asList(collectorB, collectorC, collectorD),
+                new BavetGroupQuadConstraintStream<>(constraintFactory, this));
     }
 
     @Override
     public <GroupKeyA_, GroupKeyB_> BiConstraintStream<GroupKeyA_, GroupKeyB_> groupBy(
             Function<A, GroupKeyA_> groupKeyAMapping, Function<A, GroupKeyB_> groupKeyBMapping) {
-        throw new UnsupportedOperationException(); // TODO
+        return buildGroupBy(Arrays.asList(groupKeyAMapping, groupKeyBMapping), Collections.emptyList(),
+                new BavetGroupBiConstraintStream<>(constraintFactory, this));
     }
 
     @Override
     public <GroupKey_, ResultContainer_, Result_> BiConstraintStream<GroupKey_, Result_> groupBy(
             Function<A, GroupKey_> groupKeyMapping,
             UniConstraintCollector<A, ResultContainer_, Result_> collector) {
-        BavetGroupBridgeUniConstraintStream<Solution_, A, GroupKey_, ResultContainer_, Result_> bridge =
-                new BavetGroupBridgeUniConstraintStream<>(constraintFactory, this, groupKeyMapping, collector);
-        childStreamList.add(bridge);
-        BavetGroupBiConstraintStream<Solution_, GroupKey_, ResultContainer_, Result_> groupStream =
-                new BavetGroupBiConstraintStream<>(constraintFactory, bridge, collector.finisher());
-        bridge.setGroupStream(groupStream);
-        return groupStream;
+        return buildGroupBy(Collections.singletonList(groupKeyMapping), Collections.singletonList(collector),
+                new BavetGroupBiConstraintStream<>(constraintFactory, this));
     }
 
     @Override
     public <GroupKeyA_, GroupKeyB_, ResultContainer_, Result_> TriConstraintStream<GroupKeyA_, GroupKeyB_, Result_> groupBy(
             Function<A, GroupKeyA_> groupKeyAMapping, Function<A, GroupKeyB_> groupKeyBMapping,
             UniConstraintCollector<A, ResultContainer_, Result_> collector) {
-        throw new UnsupportedOperationException(); // TODO
+        return buildGroupBy(Arrays.asList(groupKeyAMapping, groupKeyBMapping), Collections.singletonList(collector),
+                new BavetGroupTriConstraintStream<>(constraintFactory, this));
     }
 
     @Override
@@ -231,7 +268,44 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
                     Function<A, GroupKeyA_> groupKeyAMapping,
                     Function<A, GroupKeyB_> groupKeyBMapping, UniConstraintCollector<A, ResultContainerC_, ResultC_> collectorC,
                     UniConstraintCollector<A, ResultContainerD_, ResultD_> collectorD) {
-        throw new UnsupportedOperationException(); // TODO
+        return buildGroupBy(Arrays.asList(groupKeyAMapping, groupKeyBMapping), Arrays.asList(collectorC, collectorD),
+                new BavetGroupQuadConstraintStream<>(constraintFactory, this));
+    }
+
+    private <Stream_ extends BavetGroupConstraintStream<Solution_>> Stream_ buildGroupBy(
+            List<Function<A, ?>> groupKeyMappingList,
+            List<UniConstraintCollector<A, ?, ?>> collectorList, Stream_ groupStream) {
+        BavetGroupBridgeUniConstraintStream<Solution_, A> bridge = new BavetGroupBridgeUniConstraintStream<>(
+                constraintFactory, this, groupKeyMappingList, collectorList);
+        addChildStream(bridge);
+        bridge.setGroupStream(groupStream);
+        return groupStream;
+    }
+
+    // ************************************************************************
+    // Map, flatten and distinct
+    // ************************************************************************
+
+    @Override
+    public <ResultA_> UniConstraintStream<ResultA_> map(Function<A, ResultA_> mapping) {
+        BavetMapUniConstraintStream<Solution_, ResultA_> mapStream = new BavetMapUniConstraintStream<>(constraintFactory,
+                this);
+        BavetMapBridgeUniConstraintStream<Solution_, A, ResultA_> bridge = new BavetMapBridgeUniConstraintStream<>(
+                constraintFactory, this, mapping);
+        addChildStream(bridge);
+        bridge.setMapStream(mapStream);
+        return mapStream;
+    }
+
+    @Override
+    public <ResultA_> UniConstraintStream<ResultA_> flattenLast(Function<A, Iterable<ResultA_>> mapping) {
+        BavetMapUniConstraintStream<Solution_, ResultA_> mapStream = new BavetMapUniConstraintStream<>(constraintFactory,
+                this);
+        BavetFlattenLastBridgeUniConstraintStream<Solution_, A, ResultA_> bridge =
+                new BavetFlattenLastBridgeUniConstraintStream<>(constraintFactory, this, mapping);
+        addChildStream(bridge);
+        bridge.setMapStream(mapStream);
+        return mapStream;
     }
 
     // ************************************************************************
@@ -357,8 +431,21 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
                     + "Maybe don't create it.");
         }
         for (BavetAbstractUniConstraintStream<Solution_, A> childStream : childStreamList) {
-            childStream.createNodeChain(buildPolicy, constraintWeight, node);
+            // A child stream that is only reused by other constraints gets its nodes when those are built
+            if (childStream.leadsTo(buildPolicy.getConstraint())) {
+                childStream.createNodeChain(buildPolicy, constraintWeight, node);
+            }
+        }
+    }
+
+    @Override
+    public boolean leadsTo(BavetConstraint<Solution_> constraint) {
+        for (BavetAbstractUniConstraintStream<Solution_, A> childStream : childStreamList) {
+            if (childStream.leadsTo(constraint)) {
+                return true;
+            }
         }
+        return false;
     }
 
     protected abstract BavetAbstractUniNode<A> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
@@ -77,8 +77,7 @@ public final class BavetFilterUniNode<A> extends BavetAbstractUniNode<A> {
 
     @Override
     public BavetFilterUniTuple<A> createTuple(BavetAbstractUniTuple<A> parentTuple) {
-        // TODO Use childNodeList.size() to improve the tuple's childTupleList's capacity
-        return new BavetFilterUniTuple<>(this, parentTuple);
+        return new BavetFilterUniTuple<>(this, parentTuple, childNodeList.size());
     }
 
     @Override
@@ -86,17 +85,16 @@ public final class BavetFilterUniNode<A> extends BavetAbstractUniNode<A> {
         BavetFilterUniTuple<A> tuple = (BavetFilterUniTuple<A>) uncastTuple;
         A a = tuple.getFactA();
         List<BavetAbstractTuple> childTupleList = tuple.getChildTupleList();
-        for (BavetAbstractTuple childTuple : childTupleList) {
-            session.transitionTuple(childTuple, BavetTupleState.DYING);
-        }
-        childTupleList.clear();
-        if (tuple.isActive()) {
-            if (predicate.test(a)) {
-                for (BavetAbstractUniNode<A> childNode : childNodeList) {
-                    BavetAbstractUniTuple<A> childTuple = childNode.createTuple(tuple);
-                    childTupleList.add(childTuple);
-                    session.transitionTuple(childTuple, BavetTupleState.CREATING);
-                }
+        if (!tuple.isActive() || !predicate.test(a)) {
+            killChildTuples(childTupleList);
+        } else if (!childTupleList.isEmpty()) {
+            // It passed before too, so its child tuples only need to be refreshed
+            updateChildTuples(childTupleList);
+        } else {
+            for (BavetAbstractUniNode<A> childNode : childNodeList) {
+                BavetAbstractUniTuple<A> childTuple = childNode.createTuple(tuple);
+                childTupleList.add(childTuple);
+                session.transitionTuple(childTuple, BavetTupleState.CREATING);
             }
         }
     }
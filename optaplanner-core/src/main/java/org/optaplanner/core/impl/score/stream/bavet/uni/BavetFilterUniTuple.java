@@ -25,11 +25,12 @@ public final class BavetFilterUniTuple<A> extends BavetAbstractUniTuple<A> {
 
     private final BavetFilterUniNode<A> node;
     private final BavetAbstractUniTuple<A> parentTuple;
-    private final List<BavetAbstractTuple> childTupleList = new ArrayList<>(1);
+    private final List<BavetAbstractTuple> childTupleList;
 
-    public BavetFilterUniTuple(BavetFilterUniNode<A> node, BavetAbstractUniTuple<A> parentTuple) {
+    public BavetFilterUniTuple(BavetFilterUniNode<A> node, BavetAbstractUniTuple<A> parentTuple, int childTupleListSize) {
         this.node = node;
         this.parentTuple = parentTuple;
+        childTupleList = new ArrayList<>(childTupleListSize);
     }
 
     @Override
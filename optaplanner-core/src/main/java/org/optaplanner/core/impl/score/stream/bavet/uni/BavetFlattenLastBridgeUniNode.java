@@ -0,0 +1,120 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.uni;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+
+/**
+ * Every tuple keeps one child tuple per element of its {@link Iterable}.
+ * When it is updated, it reuses those child tuples in iteration order and changes their fact in place,
+ * so the nodes downstream only see a creation or a death if the number of elements changes.
+ */
+public final class BavetFlattenLastBridgeUniNode<A, ResultA_> extends BavetAbstractUniNode<A> {
+
+    private final BavetAbstractUniNode<A> parentNode;
+    private final Function<A, Iterable<ResultA_>> mapping;
+    private BavetMapUniNode<ResultA_> mapNode;
+
+    public BavetFlattenLastBridgeUniNode(BavetConstraintSession session, int nodeIndex,
+            BavetAbstractUniNode<A> parentNode, Function<A, Iterable<ResultA_>> mapping) {
+        super(session, nodeIndex);
+        this.parentNode = parentNode;
+        this.mapping = mapping;
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(parentNode), System.identityHashCode(mapping));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetFlattenLastBridgeUniNode) {
+            BavetFlattenLastBridgeUniNode<?, ?> other = (BavetFlattenLastBridgeUniNode<?, ?>) o;
+            return parentNode == other.parentNode
+                    && mapping == (Object) other.mapping;
+        } else {
+            return false;
+        }
+    }
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    @Override
+    public BavetFlattenLastBridgeUniTuple<A> createTuple(BavetAbstractUniTuple<A> parentTuple) {
+        return new BavetFlattenLastBridgeUniTuple<>(this, parentTuple);
+    }
+
+    public void setMapNode(BavetMapUniNode<ResultA_> mapNode) {
+        this.mapNode = mapNode;
+    }
+
+    @Override
+    public void refresh(BavetAbstractTuple uncastTuple) {
+        if (mapNode == null) {
+            throw new IllegalStateException("Impossible state: FlattenLastBridgeNode (" + this +
+                    ") has no child MapNode (" + mapNode + ").");
+        }
+        BavetFlattenLastBridgeUniTuple<A> tuple = (BavetFlattenLastBridgeUniTuple<A>) uncastTuple;
+        List<BavetAbstractTuple> childTupleList = tuple.getChildTupleList();
+        if (!tuple.isActive()) {
+            killChildTuples(childTupleList);
+            return;
+        }
+        int oldChildTupleCount = childTupleList.size();
+        int childTupleCount = 0;
+        for (ResultA_ resultA : mapping.apply(tuple.getFactA())) {
+            if (childTupleCount < oldChildTupleCount) {
+                BavetMapUniTuple<ResultA_> childTuple = (BavetMapUniTuple<ResultA_>) childTupleList.get(childTupleCount);
+                childTuple.updateFacts(resultA);
+                session.transitionTuple(childTuple, BavetTupleState.UPDATING);
+            } else {
+                BavetMapUniTuple<ResultA_> childTuple = mapNode.createMappedTuple(resultA);
+                childTupleList.add(childTuple);
+                session.transitionTuple(childTuple, BavetTupleState.CREATING);
+            }
+            childTupleCount++;
+        }
+        for (int i = oldChildTupleCount - 1; i >= childTupleCount; i--) {
+            session.transitionTuple(childTupleList.remove(i), BavetTupleState.DYING);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "FlattenLastBridge()";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
@@ -84,13 +84,12 @@ public final class BavetFromUniNode<A> extends BavetAbstractUniNode<A> {
     public void refresh(BavetAbstractTuple uncastTuple) {
         BavetFromUniTuple<A> tuple = (BavetFromUniTuple<A>) uncastTuple;
         List<BavetAbstractTuple> childTupleList = tuple.getChildTupleList();
-        for (BavetAbstractTuple childTuple : childTupleList) {
-            // TODO the entire FromUniNode isn't really doing anything
-            // so the destruction/construction is just an update op unless it's CREATING or DYING
-            session.transitionTuple(childTuple, BavetTupleState.DYING);
-        }
-        childTupleList.clear();
-        if (tuple.isActive()) {
+        if (tuple.getState() == BavetTupleState.UPDATING) {
+            // The fact is still the same instance, so its child tuples only need to be refreshed
+            updateChildTuples(childTupleList);
+        } else if (!tuple.isActive()) {
+            killChildTuples(childTupleList);
+        } else {
             for (BavetAbstractUniNode<A> childNode : childNodeList) {
                 BavetAbstractUniTuple<A> childTuple = childNode.createTuple(tuple);
                 childTupleList.add(childTuple);
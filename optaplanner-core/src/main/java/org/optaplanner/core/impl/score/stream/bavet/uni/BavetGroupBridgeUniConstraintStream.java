@@ -17,33 +17,38 @@
 package org.optaplanner.core.impl.score.stream.bavet.uni;
 
 import java.util.List;
+import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.stream.uni.UniConstraintCollector;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraint;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
-import org.optaplanner.core.impl.score.stream.bavet.bi.BavetGroupBiConstraintStream;
-import org.optaplanner.core.impl.score.stream.bavet.bi.BavetGroupBiNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupNode;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
 
-public final class BavetGroupBridgeUniConstraintStream<Solution_, A, NewA, ResultContainer_, NewB>
+public final class BavetGroupBridgeUniConstraintStream<Solution_, A>
         extends BavetAbstractUniConstraintStream<Solution_, A> {
 
     private final BavetAbstractUniConstraintStream<Solution_, A> parent;
-    private final Function<A, NewA> groupKeyMapping;
-    private final UniConstraintCollector<A, ResultContainer_, NewB> collector;
-    private BavetGroupBiConstraintStream<Solution_, NewA, ResultContainer_, NewB> groupStream;
+    private final List<Function<A, ?>> groupKeyMappingList;
+    private final List<UniConstraintCollector<A, ?, ?>> collectorList;
+    private BavetGroupConstraintStream<Solution_> groupStream;
 
     public BavetGroupBridgeUniConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
             BavetAbstractUniConstraintStream<Solution_, A> parent,
-            Function<A, NewA> groupKeyMapping, UniConstraintCollector<A, ResultContainer_, NewB> collector) {
+            List<Function<A, ?>> groupKeyMappingList,
+            List<UniConstraintCollector<A, ?, ?>> collectorList) {
         super(constraintFactory);
         this.parent = parent;
-        this.groupKeyMapping = groupKeyMapping;
-        this.collector = collector;
+        this.groupKeyMappingList = groupKeyMappingList;
+        this.collectorList = collectorList;
     }
 
-    public void setGroupStream(BavetGroupBiConstraintStream<Solution_, NewA, ResultContainer_, NewB> groupStream) {
+    public void setGroupStream(BavetGroupConstraintStream<Solution_> groupStream) {
         this.groupStream = groupStream;
     }
 
@@ -57,10 +62,19 @@ public final class BavetGroupBridgeUniConstraintStream<Solution_, A, NewA, Resul
     // ************************************************************************
 
     @Override
-    protected BavetGroupBridgeUniNode<A, NewA, ResultContainer_, NewB> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
+    protected BavetGroupBridgeUniNode<A> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
             Score<?> constraintWeight, BavetAbstractUniNode<A> parentNode) {
+        List<Supplier<?>> resultContainerSupplierList = collectorList.stream()
+                .map(UniConstraintCollector::supplier)
+                .collect(Collectors.toList());
+        List<BiFunction<Object, A, Runnable>> accumulatorList = collectorList.stream()
+                .map(collector -> (BiFunction<Object, A, Runnable>) collector.accumulator())
+                .collect(Collectors.toList());
+        List<Function<Object, ?>> finisherList = collectorList.stream()
+                .map(collector -> (Function<Object, ?>) collector.finisher())
+                .collect(Collectors.toList());
         return new BavetGroupBridgeUniNode<>(buildPolicy.getSession(), buildPolicy.nextNodeIndex(), parentNode,
-                groupKeyMapping, collector);
+                groupKeyMappingList, resultContainerSupplierList, accumulatorList, finisherList);
     }
 
     @Override
@@ -70,13 +84,19 @@ public final class BavetGroupBridgeUniConstraintStream<Solution_, A, NewA, Resul
             throw new IllegalStateException("Impossible state: the stream (" + this
                     + ") has an non-empty childStreamList (" + childStreamList + ") but it's a groupBy bridge.");
         }
-        BavetGroupBiNode<NewA, ResultContainer_, NewB> groupNode = groupStream.createNodeChain(buildPolicy,
-                constraintWeight, null);
-        BavetGroupBridgeUniNode<A, NewA, ResultContainer_, NewB> groupBridgeNode =
-                (BavetGroupBridgeUniNode<A, NewA, ResultContainer_, NewB>) node;
+        BavetGroupBridgeUniNode<A> groupBridgeNode = (BavetGroupBridgeUniNode<A>) node;
+        // If the groupBridgeNode is shared, this returns its existing groupNode
+        BavetGroupNode groupNode = groupStream.createNodeChain(buildPolicy, constraintWeight, groupBridgeNode,
+                groupKeyMappingList.size(), groupBridgeNode.getResultContainerSupplierList(),
+                groupBridgeNode.getFinisherList());
         groupBridgeNode.setGroupNode(groupNode);
     }
 
+    @Override
+    public boolean leadsTo(BavetConstraint<Solution_> constraint) {
+        return groupStream.leadsTo(constraint);
+    }
+
     @Override
     public String toString() {
         return "GroupBridge()";
@@ -16,47 +16,76 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.uni;
 
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
-import org.optaplanner.core.api.score.stream.uni.UniConstraintCollector;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
-import org.optaplanner.core.impl.score.stream.bavet.bi.BavetGroupBiNode;
-import org.optaplanner.core.impl.score.stream.bavet.bi.BavetGroupBiTuple;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
-import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupKey;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupTuple;
 
-public final class BavetGroupBridgeUniNode<A, NewA, ResultContainer_, NewB> extends BavetAbstractUniNode<A> {
+public final class BavetGroupBridgeUniNode<A> extends BavetAbstractUniNode<A> {
 
     private final BavetAbstractUniNode<A> parentNode;
-    private final Function<A, NewA> groupKeyMapping;
-    private final UniConstraintCollector<A, ResultContainer_, NewB> collector;
-    private final Map<NewA, BavetGroupBiTuple<NewA, ResultContainer_, NewB>> tupleMap;
-    private BavetGroupBiNode<NewA, ResultContainer_, NewB> groupNode;
+    private final List<Function<A, ?>> groupKeyMappingList;
+    private final List<Supplier<?>> resultContainerSupplierList;
+    private final List<BiFunction<Object, A, Runnable>> accumulatorList;
+    private final List<Function<Object, ?>> finisherList;
+    private BavetGroupNode groupNode;
 
-    public BavetGroupBridgeUniNode(BavetConstraintSession session, int nodeIndex, BavetAbstractUniNode<A> parentNode,
-            Function<A, NewA> groupKeyMapping, UniConstraintCollector<A, ResultContainer_, NewB> collector) {
+    public BavetGroupBridgeUniNode(BavetConstraintSession session, int nodeIndex,
+            BavetAbstractUniNode<A> parentNode, List<Function<A, ?>> groupKeyMappingList,
+            List<Supplier<?>> resultContainerSupplierList, List<BiFunction<Object, A, Runnable>> accumulatorList,
+            List<Function<Object, ?>> finisherList) {
         super(session, nodeIndex);
         this.parentNode = parentNode;
-        this.groupKeyMapping = groupKeyMapping;
-        this.collector = collector;
-        tupleMap = new HashMap<>();
+        this.groupKeyMappingList = groupKeyMappingList;
+        this.resultContainerSupplierList = resultContainerSupplierList;
+        this.accumulatorList = accumulatorList;
+        this.finisherList = finisherList;
     }
 
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
     @Override
-    public List<BavetAbstractUniNode<A>> getChildNodeList() {
-        return Collections.emptyList();
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(parentNode), identityHashCode(groupKeyMappingList),
+                identityHashCode(resultContainerSupplierList), identityHashCode(accumulatorList),
+                identityHashCode(finisherList));
     }
 
     @Override
-    public BavetGroupBridgeUniTuple<A, NewA, ResultContainer_, NewB> createTuple(BavetAbstractUniTuple<A> parentTuple) {
-        return new BavetGroupBridgeUniTuple<>(this, parentTuple);
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetGroupBridgeUniNode) {
+            BavetGroupBridgeUniNode<?> other = (BavetGroupBridgeUniNode<?>) o;
+            return parentNode == other.parentNode
+                    && identityEquals(groupKeyMappingList, other.groupKeyMappingList)
+                    && identityEquals(resultContainerSupplierList, other.resultContainerSupplierList)
+                    && identityEquals(accumulatorList, other.accumulatorList)
+                    && identityEquals(finisherList, other.finisherList);
+        } else {
+            return false;
+        }
     }
 
-    public void setGroupNode(BavetGroupBiNode<NewA, ResultContainer_, NewB> groupNode) {
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    @Override
+    public BavetGroupBridgeUniTuple<A> createTuple(BavetAbstractUniTuple<A> parentTuple) {
+        return new BavetGroupBridgeUniTuple<>(this, parentTuple, accumulatorList.size());
+    }
+
+    public void setGroupNode(BavetGroupNode groupNode) {
         this.groupNode = groupNode;
     }
 
@@ -66,43 +95,41 @@ public final class BavetGroupBridgeUniNode<A, NewA, ResultContainer_, NewB> exte
             throw new IllegalStateException("Impossible state: GroupBridgeNode (" + this +
                     ") has no child GroupNode (" + groupNode + ").");
         }
-        BavetGroupBridgeUniTuple<A, NewA, ResultContainer_, NewB> tuple =
-                (BavetGroupBridgeUniTuple<A, NewA, ResultContainer_, NewB>) uncastTuple;
-        if (tuple.getChildTuple() != null) {
-            BavetGroupBiTuple<NewA, ResultContainer_, NewB> childTuple = tuple.getChildTuple();
-            NewA oldGroupKey = childTuple.getGroupKey();
-            int parentCount = childTuple.decreaseParentCount();
-            tuple.getUndoAccumulator().run();
-            childTuple.clearResult();
-            tuple.setChildTuple(null);
-            tuple.setUndoAccumulator(null);
-            if (parentCount == 0) {
-                // Clean up tupleMap
-                tupleMap.remove(oldGroupKey);
-                session.transitionTuple(childTuple, BavetTupleState.DYING);
-            } else {
-                session.transitionTuple(childTuple, BavetTupleState.UPDATING);
+        BavetGroupBridgeUniTuple<A> tuple = (BavetGroupBridgeUniTuple<A>) uncastTuple;
+        Runnable[] undoAccumulators = tuple.getUndoAccumulators();
+        BavetGroupTuple oldChildTuple = tuple.getChildTuple();
+        if (oldChildTuple != null) {
+            for (int i = 0; i < undoAccumulators.length; i++) {
+                undoAccumulators[i].run();
+                undoAccumulators[i] = null;
             }
+            tuple.setChildTuple(null);
+            groupNode.releaseGroupTuple(oldChildTuple);
         }
         if (tuple.isActive()) {
             A a = tuple.getFactA();
-            NewA groupKey = groupKeyMapping.apply(a);
-            BavetGroupBiTuple<NewA, ResultContainer_, NewB> childTuple = tupleMap.computeIfAbsent(groupKey,
-                    k -> groupNode.createTuple(groupKey, collector.supplier().get()));
-            int parentCount = childTuple.increaseParentCount();
-
-            Runnable undoAccumulator = collector.accumulator().apply(childTuple.getResultContainer(), a);
-            tuple.setUndoAccumulator(undoAccumulator);
-            childTuple.clearResult();
+            BavetGroupTuple childTuple = groupNode.acquireGroupTuple(extractGroupKey(a));
+            Object[] resultContainers = childTuple.getResultContainers();
+            for (int i = 0; i < undoAccumulators.length; i++) {
+                undoAccumulators[i] = accumulatorList.get(i).apply(resultContainers[i], a);
+            }
             tuple.setChildTuple(childTuple);
-            if (parentCount == 1) {
-                session.transitionTuple(childTuple, BavetTupleState.CREATING);
-            } else {
-                // It might have just been created by an earlier tuple in the same nodeIndex
-                if (childTuple.getState() != BavetTupleState.CREATING) {
-                    session.transitionTuple(childTuple, BavetTupleState.UPDATING);
+        }
+    }
+
+    private Object extractGroupKey(A a) {
+        int groupKeyCount = groupKeyMappingList.size();
+        switch (groupKeyCount) {
+            case 0:
+                return BavetGroupKey.EMPTY;
+            case 1:
+                return groupKeyMappingList.get(0).apply(a);
+            default:
+                Object[] groupKeys = new Object[groupKeyCount];
+                for (int i = 0; i < groupKeyCount; i++) {
+                    groupKeys[i] = groupKeyMappingList.get(i).apply(a);
                 }
-            }
+                return new BavetGroupKey(groupKeys);
         }
     }
 
@@ -115,4 +142,12 @@ public final class BavetGroupBridgeUniNode<A, NewA, ResultContainer_, NewB> exte
     // Getters/setters
     // ************************************************************************
 
+    public List<Supplier<?>> getResultContainerSupplierList() {
+        return resultContainerSupplierList;
+    }
+
+    public List<Function<Object, ?>> getFinisherList() {
+        return finisherList;
+    }
+
 }
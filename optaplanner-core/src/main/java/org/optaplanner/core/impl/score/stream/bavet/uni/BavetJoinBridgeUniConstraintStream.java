@@ -20,12 +20,14 @@ import java.util.List;
 import java.util.function.Function;
 
 import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraint;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeNode;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
 import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndexFactory;
+import org.optaplanner.core.impl.score.stream.common.AbstractJoiner;
 
 public final class BavetJoinBridgeUniConstraintStream<Solution_, A>
         extends BavetAbstractUniConstraintStream<Solution_, A>
@@ -34,16 +36,18 @@ public final class BavetJoinBridgeUniConstraintStream<Solution_, A>
     private final BavetAbstractUniConstraintStream<Solution_, A> parent;
     private BavetJoinConstraintStream<Solution_> joinStream;
     private final boolean isLeftBridge;
+    private final AbstractJoiner joiner;
     private final Function<A, Object[]> mapping;
     private final BavetIndexFactory indexFactory;
 
     public BavetJoinBridgeUniConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
             BavetAbstractUniConstraintStream<Solution_, A> parent,
-            boolean isLeftBridge,
+            boolean isLeftBridge, AbstractJoiner joiner,
             Function<A, Object[]> mapping, BavetIndexFactory indexFactory) {
         super(constraintFactory);
         this.parent = parent;
         this.isLeftBridge = isLeftBridge;
+        this.joiner = joiner;
         this.mapping = mapping;
         this.indexFactory = indexFactory;
     }
@@ -64,8 +68,8 @@ public final class BavetJoinBridgeUniConstraintStream<Solution_, A>
     @Override
     protected BavetJoinBridgeUniNode<A> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
             Score<?> constraintWeight, BavetAbstractUniNode<A> parentNode) {
-        return new BavetJoinBridgeUniNode<>(buildPolicy.getSession(), buildPolicy.nextNodeIndex(), parentNode, mapping,
-                indexFactory.buildIndex(isLeftBridge));
+        return new BavetJoinBridgeUniNode<>(buildPolicy.getSession(), buildPolicy.nextNodeIndex(), parentNode,
+                isLeftBridge, joiner, mapping, indexFactory.buildIndex(isLeftBridge));
     }
 
     @Override
@@ -76,7 +80,8 @@ public final class BavetJoinBridgeUniConstraintStream<Solution_, A>
                     + ") has an non-empty childStreamList (" + childStreamList + ") but it's a join bridge.");
         }
         BavetJoinBridgeUniNode<A> node = (BavetJoinBridgeUniNode<A>) uncastedNode;
-        BavetJoinBridgeNode otherBridgeNode = buildPolicy.getJoinConstraintStreamToJoinBridgeNodeMap().get(joinStream);
+        // Remove the other bridge node once paired, so another constraint that reuses this join stream pairs again
+        BavetJoinBridgeNode otherBridgeNode = buildPolicy.getJoinConstraintStreamToJoinBridgeNodeMap().remove(joinStream);
         if (otherBridgeNode == null) {
             buildPolicy.getJoinConstraintStreamToJoinBridgeNodeMap().put(joinStream, node);
         } else {
@@ -86,6 +91,11 @@ public final class BavetJoinBridgeUniConstraintStream<Solution_, A>
         }
     }
 
+    @Override
+    public boolean leadsTo(BavetConstraint<Solution_> constraint) {
+        return joinStream.leadsTo(constraint);
+    }
+
     @Override
     public String toString() {
         return "JoinBridge()";
@@ -16,8 +16,10 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.uni;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -27,25 +29,66 @@ import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeNode;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
 import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndex;
+import org.optaplanner.core.impl.score.stream.common.AbstractJoiner;
 
 public final class BavetJoinBridgeUniNode<A> extends BavetAbstractUniNode<A>
         implements BavetJoinBridgeNode {
 
     private final BavetAbstractUniNode<A> parentNode;
     private final Function<A, Object[]> mapping;
-    /** Calls {@link BavetJoinBiNode#refreshChildTuplesLeft(BavetJoinBridgeUniTuple)}, right or tri/quad/... variants. */
-    private Consumer<BavetJoinBridgeUniTuple<A>> childTupleRefresher;
+    private final boolean isLeftBridge;
+    private final AbstractJoiner joiner;
+    /**
+     * Calls {@link BavetJoinBiNode#refreshChildTuplesLeft(BavetJoinBridgeUniTuple)}, right or tri/quad/... variants.
+     * Has 1 element per child join node, because join bridge nodes are shared.
+     */
+    private final List<Consumer<BavetJoinBridgeUniTuple<A>>> childTupleRefresherList = new ArrayList<>();
+    /**
+     * Called instead of {@link #childTupleRefresherList} if an updated tuple's index properties didn't change.
+     * Has the same order as {@link #childTupleRefresherList}.
+     */
+    private final List<Consumer<BavetJoinBridgeUniTuple<A>>> childTupleUpdaterList = new ArrayList<>();
 
     private final BavetIndex<BavetJoinBridgeUniTuple<A>> index;
 
     public BavetJoinBridgeUniNode(BavetConstraintSession session, int nodeIndex, BavetAbstractUniNode<A> parentNode,
-            Function<A, Object[]> mapping, BavetIndex<BavetJoinBridgeUniTuple<A>> index) {
+            boolean isLeftBridge, AbstractJoiner joiner, Function<A, Object[]> mapping,
+            BavetIndex<BavetJoinBridgeUniTuple<A>> index) {
         super(session, nodeIndex);
         this.parentNode = parentNode;
+        this.isLeftBridge = isLeftBridge;
+        this.joiner = joiner;
         this.mapping = mapping;
         this.index = index;
     }
 
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(parentNode), isLeftBridge, joiner);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetJoinBridgeUniNode) {
+            BavetJoinBridgeUniNode<?> other = (BavetJoinBridgeUniNode<?>) o;
+            return parentNode == other.parentNode
+                    && isLeftBridge == other.isLeftBridge
+                    && joiner.equals(other.joiner);
+        } else {
+            return false;
+        }
+    }
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
     @Override
     public List<BavetAbstractUniNode<A>> getChildNodeList() {
         return Collections.emptyList();
@@ -60,15 +103,25 @@ public final class BavetJoinBridgeUniNode<A> extends BavetAbstractUniNode<A>
     public void refresh(BavetAbstractTuple uncastTuple) {
         BavetJoinBridgeUniTuple<A> tuple = (BavetJoinBridgeUniTuple<A>) uncastTuple;
         A a = tuple.getFactA();
+        Object[] indexProperties = tuple.isActive() ? mapping.apply(a) : null;
+        if (tuple.getState() == BavetTupleState.UPDATING
+                && isIndexUnchanged(tuple.getIndexProperties(), indexProperties)) {
+            // Keep the index entry, because every child join node still has the same matches for this tuple
+            for (Consumer<BavetJoinBridgeUniTuple<A>> childTupleUpdater : childTupleUpdaterList) {
+                childTupleUpdater.accept(tuple);
+            }
+            return;
+        }
         if (tuple.getState() != BavetTupleState.CREATING) {
             // Clean up index
             index.remove(tuple);
         }
-        if (tuple.isActive()) {
-            Object[] indexProperties = mapping.apply(a);
+        if (indexProperties != null) {
             index.put(indexProperties, tuple);
         }
-        childTupleRefresher.accept(tuple);
+        for (Consumer<BavetJoinBridgeUniTuple<A>> childTupleRefresher : childTupleRefresherList) {
+            childTupleRefresher.accept(tuple);
+        }
     }
 
     @Override
@@ -84,8 +137,20 @@ public final class BavetJoinBridgeUniNode<A> extends BavetAbstractUniNode<A>
         return index;
     }
 
-    public void setChildTupleRefresher(Consumer<BavetJoinBridgeUniTuple<A>> childTupleRefresher) {
-        this.childTupleRefresher = childTupleRefresher;
+    /**
+     * @param childTupleRefresher never null, called when a tuple of this node is created, killed or reindexed
+     * @param childTupleUpdater never null, called when a tuple of this node is updated but keeps its index entry
+     * @return the index of the childTupleList, in every tuple of this node, that belongs to that child join node
+     */
+    public int addChildTupleRefresher(Consumer<BavetJoinBridgeUniTuple<A>> childTupleRefresher,
+            Consumer<BavetJoinBridgeUniTuple<A>> childTupleUpdater) {
+        childTupleRefresherList.add(childTupleRefresher);
+        childTupleUpdaterList.add(childTupleUpdater);
+        return childTupleRefresherList.size() - 1;
+    }
+
+    public int getChildTupleRefresherCount() {
+        return childTupleRefresherList.size();
     }
 
 }
@@ -27,7 +27,8 @@ public final class BavetJoinBridgeUniTuple<A> extends BavetAbstractUniTuple<A>
 
     protected final BavetAbstractUniTuple<A> parentTuple;
     private final BavetJoinBridgeUniNode<A> node;
-    private final List<BavetAbstractTuple> childTupleList = new ArrayList<>();
+    /** 1 childTupleList per child join node of the (shared) node. */
+    private final List<BavetAbstractTuple>[] childTupleLists;
 
     private Object[] indexProperties;
 
@@ -35,11 +36,15 @@ public final class BavetJoinBridgeUniTuple<A> extends BavetAbstractUniTuple<A>
             BavetAbstractUniTuple<A> parentTuple) {
         this.parentTuple = parentTuple;
         this.node = node;
+        childTupleLists = new List[node.getChildTupleRefresherCount()];
+        for (int i = 0; i < childTupleLists.length; i++) {
+            childTupleLists[i] = new ArrayList<>();
+        }
     }
 
     @Override
     public String toString() {
-        return "JoinBridge(" + getFactsString() + ") with " + childTupleList.size() + " children";
+        return "JoinBridge(" + getFactsString() + ") with " + childTupleLists.length + " child joins";
     }
 
     // ************************************************************************
@@ -53,7 +58,16 @@ public final class BavetJoinBridgeUniTuple<A> extends BavetAbstractUniTuple<A>
 
     @Override
     public List<BavetAbstractTuple> getChildTupleList() {
-        return childTupleList;
+        throw new UnsupportedOperationException("Impossible state: the join bridge tuple (" + this
+                + ") has a childTupleList per child join node.");
+    }
+
+    /**
+     * @param childTupleListIndex as returned by {@link BavetJoinBridgeUniNode#addChildTupleRefresher}
+     * @return never null
+     */
+    public List<BavetAbstractTuple> getChildTupleList(int childTupleListIndex) {
+        return childTupleLists[childTupleListIndex];
     }
 
     @Override
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.uni;
+
+import java.util.List;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+
+public final class BavetMapBridgeUniTuple<A, ResultA_> extends BavetAbstractUniTuple<A> {
+
+    private final BavetMapBridgeUniNode<A, ResultA_> node;
+    private final BavetAbstractUniTuple<A> parentTuple;
+
+    private BavetMapUniTuple<ResultA_> childTuple;
+
+    public BavetMapBridgeUniTuple(BavetMapBridgeUniNode<A, ResultA_> node, BavetAbstractUniTuple<A> parentTuple) {
+        this.node = node;
+        this.parentTuple = parentTuple;
+    }
+
+    @Override
+    public String toString() {
+        return "MapBridge(" + getFactsString() + ") with " + (childTuple == null ? 0 : 1) + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    @Override
+    public BavetMapBridgeUniNode<A, ResultA_> getNode() {
+        return node;
+    }
+
+    @Override
+    public List<BavetAbstractTuple> getChildTupleList() {
+        throw new IllegalStateException("Impossible state: map bridges only have 1 child tuple.");
+    }
+
+    @Override
+    public A getFactA() {
+        return parentTuple.getFactA();
+    }
+
+    public BavetMapUniTuple<ResultA_> getChildTuple() {
+        return childTuple;
+    }
+
+    public void setChildTuple(BavetMapUniTuple<ResultA_> childTuple) {
+        this.childTuple = childTuple;
+    }
+
+}
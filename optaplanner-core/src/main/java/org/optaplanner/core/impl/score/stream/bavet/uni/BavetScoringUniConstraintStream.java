@@ -18,7 +18,7 @@ package org.optaplanner.core.impl.score.stream.bavet.uni;
 
 import java.math.BigDecimal;
 import java.util.List;
-import java.util.function.BiFunction;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.ToIntFunction;
@@ -30,11 +30,11 @@ import org.optaplanner.core.impl.score.inliner.BigDecimalWeightedScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.IntWeightedScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.LongWeightedScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.ScoreInliner;
-import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.WeightedScoreImpacter;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraint;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoringTuple;
 
 public final class BavetScoringUniConstraintStream<Solution_, A> extends BavetAbstractUniConstraintStream<Solution_, A> {
 
@@ -106,18 +106,21 @@ public final class BavetScoringUniConstraintStream<Solution_, A> extends BavetAb
             Score<?> constraintWeight, BavetAbstractUniNode<A> parentNode) {
         ScoreInliner scoreInliner = buildPolicy.getSession().getScoreInliner();
         WeightedScoreImpacter weightedScoreImpacter = scoreInliner.buildWeightedScoreImpacter(constraintWeight);
-        BiFunction<A, Consumer<Score<?>>, UndoScoreImpacter> scoreImpacter;
+        BiConsumer<BavetScoringUniTuple<A>, Consumer<Score<?>>> scoreImpacter;
         if (weightedScoreImpacter instanceof IntWeightedScoreImpacter) {
             IntWeightedScoreImpacter castedWeightedScoreImpacter = (IntWeightedScoreImpacter) weightedScoreImpacter;
             if (intMatchWeigher != null) {
-                scoreImpacter = (A a, Consumer<Score<?>> matchScoreConsumer) -> {
-                    int matchWeight = intMatchWeigher.applyAsInt(a);
+                scoreImpacter = (BavetScoringUniTuple<A> tuple, Consumer<Score<?>> matchScoreConsumer) -> {
+                    int matchWeight = intMatchWeigher.applyAsInt(tuple.getFactA());
                     constraint.assertCorrectImpact(matchWeight);
-                    return castedWeightedScoreImpacter.impactScore(matchWeight, matchScoreConsumer);
+                    castedWeightedScoreImpacter.impactScore(matchWeight, matchScoreConsumer);
+                    tuple.setMatchWeight(matchWeight);
                 };
             } else if (noMatchWeigher) {
-                scoreImpacter = (A a, Consumer<Score<?>> matchScoreConsumer) -> castedWeightedScoreImpacter.impactScore(1,
-                        matchScoreConsumer);
+                scoreImpacter = (BavetScoringUniTuple<A> tuple, Consumer<Score<?>> matchScoreConsumer) -> {
+                    castedWeightedScoreImpacter.impactScore(1, matchScoreConsumer);
+                    tuple.setMatchWeight(1L);
+                };
             } else {
                 throw new IllegalStateException("The matchWeigher of " + UniConstraintStream.class.getSimpleName()
                         + ".penalize(matchWeigher) of the constraint (" + constraint.getConstraintId()
@@ -127,14 +130,17 @@ public final class BavetScoringUniConstraintStream<Solution_, A> extends BavetAb
         } else if (weightedScoreImpacter instanceof LongWeightedScoreImpacter) {
             LongWeightedScoreImpacter castedWeightedScoreImpacter = (LongWeightedScoreImpacter) weightedScoreImpacter;
             if (longMatchWeigher != null) {
-                scoreImpacter = (A a, Consumer<Score<?>> matchScoreConsumer) -> {
-                    long matchWeight = longMatchWeigher.applyAsLong(a);
+                scoreImpacter = (BavetScoringUniTuple<A> tuple, Consumer<Score<?>> matchScoreConsumer) -> {
+                    long matchWeight = longMatchWeigher.applyAsLong(tuple.getFactA());
                     constraint.assertCorrectImpact(matchWeight);
-                    return castedWeightedScoreImpacter.impactScore(matchWeight, matchScoreConsumer);
+                    castedWeightedScoreImpacter.impactScore(matchWeight, matchScoreConsumer);
+                    tuple.setMatchWeight(matchWeight);
                 };
             } else if (noMatchWeigher) {
-                scoreImpacter = (A a, Consumer<Score<?>> matchScoreConsumer) -> castedWeightedScoreImpacter.impactScore(1L,
-                        matchScoreConsumer);
+                scoreImpacter = (BavetScoringUniTuple<A> tuple, Consumer<Score<?>> matchScoreConsumer) -> {
+                    castedWeightedScoreImpacter.impactScore(1L, matchScoreConsumer);
+                    tuple.setMatchWeight(1L);
+                };
             } else {
                 throw new IllegalStateException("The matchWeigher of " + UniConstraintStream.class.getSimpleName()
                         + ".penalize(matchWeigher) of the constraint (" + constraint.getConstraintId()
@@ -145,14 +151,17 @@ public final class BavetScoringUniConstraintStream<Solution_, A> extends BavetAb
             BigDecimalWeightedScoreImpacter castedWeightedScoreImpacter =
                     (BigDecimalWeightedScoreImpacter) weightedScoreImpacter;
             if (bigDecimalMatchWeigher != null) {
-                scoreImpacter = (A a, Consumer<Score<?>> matchScoreConsumer) -> {
-                    BigDecimal matchWeight = bigDecimalMatchWeigher.apply(a);
+                scoreImpacter = (BavetScoringUniTuple<A> tuple, Consumer<Score<?>> matchScoreConsumer) -> {
+                    BigDecimal matchWeight = bigDecimalMatchWeigher.apply(tuple.getFactA());
                     constraint.assertCorrectImpact(matchWeight);
-                    return castedWeightedScoreImpacter.impactScore(matchWeight, matchScoreConsumer);
+                    castedWeightedScoreImpacter.impactScore(matchWeight, matchScoreConsumer);
+                    tuple.setBigDecimalMatchWeight(matchWeight);
                 };
             } else if (noMatchWeigher) {
-                scoreImpacter = (A a, Consumer<Score<?>> matchScoreConsumer) -> castedWeightedScoreImpacter
-                        .impactScore(BigDecimal.ONE, matchScoreConsumer);
+                scoreImpacter = (BavetScoringUniTuple<A> tuple, Consumer<Score<?>> matchScoreConsumer) -> {
+                    castedWeightedScoreImpacter.impactScore(BigDecimal.ONE, matchScoreConsumer);
+                    tuple.setBigDecimalMatchWeight(BigDecimal.ONE);
+                };
             } else {
                 throw new IllegalStateException("The matchWeigher of " + UniConstraintStream.class.getSimpleName()
                         + ".penalize(matchWeigher) of the constraint (" + constraint.getConstraintId()
@@ -164,7 +173,7 @@ public final class BavetScoringUniConstraintStream<Solution_, A> extends BavetAb
         }
         BavetScoringUniNode<A> node = new BavetScoringUniNode<>(buildPolicy.getSession(), buildPolicy.nextNodeIndex(),
                 parentNode, constraint.getConstraintPackage(), constraint.getConstraintName(), constraintWeight,
-                scoreImpacter);
+                scoreImpacter, BavetScoringTuple.buildUndoScoreImpacter(weightedScoreImpacter));
         buildPolicy.addScoringNode(node);
         return node;
     }
@@ -178,6 +187,11 @@ public final class BavetScoringUniConstraintStream<Solution_, A> extends BavetAb
         }
     }
 
+    @Override
+    public boolean leadsTo(BavetConstraint<Solution_> constraint) {
+        return this.constraint == constraint;
+    }
+
     @Override
     public String toString() {
         return "Scoring()";
@@ -17,19 +17,17 @@
 package org.optaplanner.core.impl.score.stream.bavet.uni;
 
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
-import java.util.function.BiFunction;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
 import org.optaplanner.core.impl.score.constraint.DefaultConstraintMatchTotal;
-import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoringNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoringTuple;
 
 public final class BavetScoringUniNode<A> extends BavetAbstractUniNode<A> implements BavetScoringNode {
 
@@ -37,22 +35,26 @@ public final class BavetScoringUniNode<A> extends BavetAbstractUniNode<A> implem
     private final String constraintPackage;
     private final String constraintName;
     private final Score<?> constraintWeight;
-    private final BiFunction<A, Consumer<Score<?>>, UndoScoreImpacter> scoreImpacter;
+    private final BiConsumer<BavetScoringUniTuple<A>, Consumer<Score<?>>> scoreImpacter;
+    private final Consumer<BavetScoringTuple> undoScoreImpacter;
 
     private final boolean constraintMatchEnabled;
-    private final Set<BavetScoringUniTuple<A>> tupleSet;
+    /** Null if {@link #constraintMatchEnabled} is false. */
+    private final DefaultConstraintMatchTotal constraintMatchTotal;
 
     public BavetScoringUniNode(BavetConstraintSession session, int nodeIndex, BavetAbstractUniNode<A> parentNode,
             String constraintPackage, String constraintName, Score<?> constraintWeight,
-            BiFunction<A, Consumer<Score<?>>, UndoScoreImpacter> scoreImpacter) {
+            BiConsumer<BavetScoringUniTuple<A>, Consumer<Score<?>>> scoreImpacter,
+            Consumer<BavetScoringTuple> undoScoreImpacter) {
         super(session, nodeIndex);
         this.parentNode = parentNode;
         this.constraintPackage = constraintPackage;
         this.constraintName = constraintName;
         this.constraintWeight = constraintWeight;
         this.scoreImpacter = scoreImpacter;
+        this.undoScoreImpacter = undoScoreImpacter;
         this.constraintMatchEnabled = session.isConstraintMatchEnabled();
-        tupleSet = constraintMatchEnabled ? new HashSet<>() : null;
+        constraintMatchTotal = session.registerConstraintMatchTotal(constraintPackage, constraintName, constraintWeight);
     }
 
     // ************************************************************************
@@ -79,42 +81,21 @@ public final class BavetScoringUniNode<A> extends BavetAbstractUniNode<A> implem
     public void refresh(BavetAbstractTuple uncastTuple) {
         BavetScoringUniTuple<A> tuple = (BavetScoringUniTuple<A>) uncastTuple;
         A a = tuple.getFactA();
-        UndoScoreImpacter oldUndoScoreImpacter = tuple.getUndoScoreImpacter();
-        if (oldUndoScoreImpacter != null) {
-            oldUndoScoreImpacter.undoScoreImpact();
-            if (constraintMatchEnabled) {
-                tuple.setMatchScore(null);
-                boolean removed = tupleSet.remove(tuple);
-                if (!removed) {
-                    throw new IllegalStateException("Impossible state: The node with constraintId ("
-                            + getConstraintId() + ") could not remove the tuple (" + tuple + ") from the tupleSet.");
-                }
-            }
+        undoScoreImpacter.accept(tuple);
+        if (constraintMatchEnabled && tuple.getConstraintMatch() != null) {
+            tuple.setMatchScore(null);
+            session.removeConstraintMatch(constraintMatchTotal, tuple.getConstraintMatch());
+            tuple.setConstraintMatch(null);
         }
         if (tuple.isActive()) {
-            UndoScoreImpacter undoScoreImpacter = scoreImpacter.apply(a, tuple::setMatchScore);
-            tuple.setUndoScoreImpacter(undoScoreImpacter);
             if (constraintMatchEnabled) {
-                boolean added = tupleSet.add(tuple);
-                if (!added) {
-                    throw new IllegalStateException("Impossible state: The node with constraintId ("
-                            + getConstraintId() + ") could not add the tuple (" + tuple + ") to the tupleSet.");
-                }
+                scoreImpacter.accept(tuple, tuple::setMatchScore);
+                tuple.setConstraintMatch(session.addConstraintMatch(constraintMatchTotal,
+                        Collections.singletonList(a), tuple.getMatchScore()));
+            } else {
+                scoreImpacter.accept(tuple, null);
             }
-        } else {
-            tuple.setUndoScoreImpacter(null);
-        }
-    }
-
-    @Override
-    public <Score_ extends Score<Score_>> ConstraintMatchTotal<Score_> buildConstraintMatchTotal(Score_ zeroScore) {
-        DefaultConstraintMatchTotal<Score_> constraintMatchTotal = new DefaultConstraintMatchTotal(constraintPackage,
-                constraintName, constraintWeight, zeroScore);
-        for (BavetScoringUniTuple<A> tuple : tupleSet) {
-            constraintMatchTotal.addConstraintMatch(
-                    Collections.singletonList(tuple.getFactA()), (Score_) tuple.getMatchScore());
         }
-        return constraintMatchTotal;
     }
 
     @Override
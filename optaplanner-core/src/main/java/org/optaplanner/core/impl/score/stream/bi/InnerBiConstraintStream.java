@@ -31,6 +31,12 @@ import org.optaplanner.core.impl.score.stream.common.ScoreImpactType;
 
 public interface InnerBiConstraintStream<A, B> extends BiConstraintStream<A, B> {
 
+    @Override
+    default BiConstraintStream<A, B> distinct() {
+        // A groupBy keeps a reference count per group key, so it removes a tuple after its last duplicate is gone
+        return groupBy((a, b) -> a, (a, b) -> b);
+    }
+
     @Override
     default Constraint penalize(String constraintPackage, String constraintName, Score<?> constraintWeight,
             ToIntBiFunction<A, B> matchWeigher) {
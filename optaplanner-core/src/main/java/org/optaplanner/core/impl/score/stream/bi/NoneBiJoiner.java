@@ -53,4 +53,14 @@ public final class NoneBiJoiner<A, B> extends AbstractBiJoiner<A, B> {
     public Function<B, Object[]> getRightCombinedMapping() {
         return b -> EMPTY_OBJECT_ARRAY;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof NoneBiJoiner;
+    }
+
+    @Override
+    public int hashCode() {
+        return NoneBiJoiner.class.hashCode();
+    }
 }
@@ -16,6 +16,7 @@
 
 package org.optaplanner.core.impl.score.stream.bi;
 
+import java.util.Objects;
 import java.util.function.Function;
 
 import org.optaplanner.core.impl.score.stream.common.JoinerType;
@@ -72,4 +73,23 @@ public final class SingleBiJoiner<A, B> extends AbstractBiJoiner<A, B> {
     public Function<B, Object[]> getRightCombinedMapping() {
         return (B b) -> new Object[] { getRightMapping(0).apply(b) };
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof SingleBiJoiner) {
+            SingleBiJoiner<?, ?> other = (SingleBiJoiner<?, ?>) o;
+            return joinerType == other.joinerType
+                    && Objects.equals(leftMapping, other.leftMapping)
+                    && Objects.equals(rightMapping, other.rightMapping);
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(leftMapping, joinerType, rightMapping);
+    }
 }
@@ -0,0 +1,288 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.common;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import org.optaplanner.core.api.score.stream.common.Break;
+import org.optaplanner.core.api.score.stream.common.Sequence;
+import org.optaplanner.core.api.score.stream.common.SequenceChain;
+
+/**
+ * Keeps the {@link Sequence}s of consecutive indexes up to date while elements are added and removed.
+ * <p>
+ * Adding or removing an element only extends, shrinks, merges or splits the sequences around its index,
+ * which takes O(log n), instead of rebuilding every sequence.
+ * The sequences are linked to their neighbours, so the {@link Break}s don't need to be searched either.
+ *
+ * @param <Value_> the type of the elements
+ */
+public final class ConsecutiveSetTree<Value_> implements SequenceChain<Value_> {
+
+    private final NavigableMap<Integer, List<Value_>> itemMap = new TreeMap<>();
+    private final NavigableMap<Integer, SequenceImpl<Value_>> sequenceMap = new TreeMap<>();
+
+    public void add(int index, Value_ value) {
+        List<Value_> valueList = itemMap.get(index);
+        if (valueList != null) {
+            // The index is already in a sequence
+            valueList.add(value);
+            return;
+        }
+        valueList = new ArrayList<>(1);
+        valueList.add(value);
+        itemMap.put(index, valueList);
+        SequenceImpl<Value_> previous = (index == Integer.MIN_VALUE) ? null : findSequenceEndingAt(index - 1);
+        SequenceImpl<Value_> next = (index == Integer.MAX_VALUE) ? null : sequenceMap.get(index + 1);
+        if (previous != null && next != null) {
+            // The index fills the only gap between both
+            previous.lastIndex = next.lastIndex;
+            sequenceMap.remove(next.firstIndex);
+            unlink(next);
+        } else if (previous != null) {
+            previous.lastIndex = index;
+        } else if (next != null) {
+            sequenceMap.remove(next.firstIndex);
+            next.firstIndex = index;
+            sequenceMap.put(index, next);
+        } else {
+            SequenceImpl<Value_> sequence = new SequenceImpl<>(this, index, index);
+            Map.Entry<Integer, SequenceImpl<Value_>> lowerEntry = sequenceMap.lowerEntry(index);
+            if (lowerEntry != null) {
+                linkAfter(lowerEntry.getValue(), sequence);
+            } else {
+                Map.Entry<Integer, SequenceImpl<Value_>> higherEntry = sequenceMap.higherEntry(index);
+                if (higherEntry != null) {
+                    sequence.next = higherEntry.getValue();
+                    sequence.next.previous = sequence;
+                }
+            }
+            sequenceMap.put(index, sequence);
+        }
+    }
+
+    public void remove(int index, Value_ value) {
+        List<Value_> valueList = itemMap.get(index);
+        if (valueList == null || !valueList.remove(value)) {
+            throw new IllegalStateException("Impossible state: the value (" + value + ") with index (" + index
+                    + ") is removed more times than it was added.");
+        }
+        if (!valueList.isEmpty()) {
+            return;
+        }
+        itemMap.remove(index);
+        SequenceImpl<Value_> sequence = sequenceMap.floorEntry(index).getValue();
+        if (sequence.firstIndex == sequence.lastIndex) {
+            sequenceMap.remove(index);
+            unlink(sequence);
+        } else if (index == sequence.firstIndex) {
+            sequenceMap.remove(index);
+            sequence.firstIndex = index + 1;
+            sequenceMap.put(sequence.firstIndex, sequence);
+        } else if (index == sequence.lastIndex) {
+            sequence.lastIndex = index - 1;
+        } else {
+            // The index splits the sequence in 2
+            SequenceImpl<Value_> nextSequence = new SequenceImpl<>(this, index + 1, sequence.lastIndex);
+            sequence.lastIndex = index - 1;
+            linkAfter(sequence, nextSequence);
+            sequenceMap.put(nextSequence.firstIndex, nextSequence);
+        }
+    }
+
+    private SequenceImpl<Value_> findSequenceEndingAt(int index) {
+        Map.Entry<Integer, SequenceImpl<Value_>> entry = sequenceMap.floorEntry(index);
+        if (entry == null || entry.getValue().lastIndex != index) {
+            return null;
+        }
+        return entry.getValue();
+    }
+
+    private static <Value_> void linkAfter(SequenceImpl<Value_> previous, SequenceImpl<Value_> sequence) {
+        sequence.previous = previous;
+        sequence.next = previous.next;
+        if (sequence.next != null) {
+            sequence.next.previous = sequence;
+        }
+        previous.next = sequence;
+    }
+
+    private static <Value_> void unlink(SequenceImpl<Value_> sequence) {
+        if (sequence.previous != null) {
+            sequence.previous.next = sequence.next;
+        }
+        if (sequence.next != null) {
+            sequence.next.previous = sequence.previous;
+        }
+        sequence.previous = null;
+        sequence.next = null;
+    }
+
+    // ************************************************************************
+    // SequenceChain
+    // ************************************************************************
+
+    @Override
+    public Collection<Sequence<Value_>> getConsecutiveSequences() {
+        return Collections.unmodifiableCollection(sequenceMap.values());
+    }
+
+    @Override
+    public Collection<Break<Value_>> getBreaks() {
+        if (sequenceMap.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Break<Value_>> breakList = new ArrayList<>(sequenceMap.size() - 1);
+        for (SequenceImpl<Value_> sequence = sequenceMap.firstEntry().getValue().next; sequence != null;
+                sequence = sequence.next) {
+            breakList.add(sequence.previousBreak);
+        }
+        return breakList;
+    }
+
+    @Override
+    public Sequence<Value_> getFirstSequence() {
+        return sequenceMap.isEmpty() ? null : sequenceMap.firstEntry().getValue();
+    }
+
+    @Override
+    public Sequence<Value_> getLastSequence() {
+        return sequenceMap.isEmpty() ? null : sequenceMap.lastEntry().getValue();
+    }
+
+    @Override
+    public String toString() {
+        return "SequenceChain " + sequenceMap.values();
+    }
+
+    private static final class SequenceImpl<Value_> implements Sequence<Value_> {
+
+        private final ConsecutiveSetTree<Value_> tree;
+        private final BreakImpl<Value_> previousBreak = new BreakImpl<>(this);
+        private int firstIndex;
+        private int lastIndex;
+        private SequenceImpl<Value_> previous = null;
+        private SequenceImpl<Value_> next = null;
+
+        private SequenceImpl(ConsecutiveSetTree<Value_> tree, int firstIndex, int lastIndex) {
+            this.tree = tree;
+            this.firstIndex = firstIndex;
+            this.lastIndex = lastIndex;
+        }
+
+        private Collection<List<Value_>> getValueLists() {
+            return tree.itemMap.subMap(firstIndex, true, lastIndex, true).values();
+        }
+
+        @Override
+        public int getFirstIndex() {
+            return firstIndex;
+        }
+
+        @Override
+        public int getLastIndex() {
+            return lastIndex;
+        }
+
+        @Override
+        public Value_ getFirstItem() {
+            return tree.itemMap.get(firstIndex).get(0);
+        }
+
+        @Override
+        public Value_ getLastItem() {
+            List<Value_> valueList = tree.itemMap.get(lastIndex);
+            return valueList.get(valueList.size() - 1);
+        }
+
+        @Override
+        public List<Value_> getItems() {
+            List<Value_> itemList = new ArrayList<>(getLength());
+            for (List<Value_> valueList : getValueLists()) {
+                itemList.addAll(valueList);
+            }
+            return itemList;
+        }
+
+        @Override
+        public int getCount() {
+            int count = 0;
+            for (List<Value_> valueList : getValueLists()) {
+                count += valueList.size();
+            }
+            return count;
+        }
+
+        @Override
+        public int getLength() {
+            return lastIndex - firstIndex + 1;
+        }
+
+        @Override
+        public Break<Value_> getPreviousBreak() {
+            return (previous == null) ? null : previousBreak;
+        }
+
+        @Override
+        public Break<Value_> getNextBreak() {
+            return (next == null) ? null : next.previousBreak;
+        }
+
+        @Override
+        public String toString() {
+            return "Sequence [" + firstIndex + ", " + lastIndex + "]";
+        }
+
+    }
+
+    private static final class BreakImpl<Value_> implements Break<Value_> {
+
+        private final SequenceImpl<Value_> nextSequence;
+
+        private BreakImpl(SequenceImpl<Value_> nextSequence) {
+            this.nextSequence = nextSequence;
+        }
+
+        @Override
+        public Sequence<Value_> getPreviousSequence() {
+            return nextSequence.previous;
+        }
+
+        @Override
+        public Sequence<Value_> getNextSequence() {
+            return nextSequence;
+        }
+
+        @Override
+        public int getLength() {
+            return nextSequence.firstIndex - nextSequence.previous.lastIndex - 1;
+        }
+
+        @Override
+        public String toString() {
+            return "Break [" + (nextSequence.previous.lastIndex + 1) + ", " + (nextSequence.firstIndex - 1) + "]";
+        }
+
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.common;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.optaplanner.core.api.score.stream.common.LoadBalance;
+
+/**
+ * Keeps the count, sum and sum of squares of the loads up to date while elements are added and removed,
+ * so a fairness constraint doesn't need to visit every balanced item after every change.
+ * <p>
+ * The aggregates only depend on the exact long loads,
+ * so the incremental result always equals the result calculated from scratch.
+ * If a load, the sum or the sum of squares overflows a long, an {@link ArithmeticException} is thrown,
+ * instead of silently corrupting the score.
+ *
+ * @param <Balanced_> the type of the balanced items
+ */
+public final class DefaultLoadBalance<Balanced_> implements LoadBalance<Balanced_> {
+
+    private final Map<Balanced_, Load> loadMap = new HashMap<>();
+    private long sum = 0L;
+    private long sumOfSquares = 0L;
+
+    public void add(Balanced_ balanced, long load) {
+        Load currentLoad = loadMap.get(balanced);
+        long oldValue = (currentLoad == null) ? 0L : currentLoad.value;
+        // Calculate everything before changing anything, in case of an overflow
+        long newValue = Math.addExact(oldValue, load);
+        // (value + load)² - value² = load * (value + newValue)
+        long newSumOfSquares = Math.addExact(sumOfSquares, Math.multiplyExact(load, Math.addExact(oldValue, newValue)));
+        long newSum = Math.addExact(sum, load);
+        if (currentLoad == null) {
+            currentLoad = new Load();
+            loadMap.put(balanced, currentLoad);
+        }
+        sumOfSquares = newSumOfSquares;
+        sum = newSum;
+        currentLoad.value = newValue;
+        currentLoad.elementCount++;
+    }
+
+    public void remove(Balanced_ balanced, long load) {
+        Load currentLoad = loadMap.get(balanced);
+        if (currentLoad == null) {
+            throw new IllegalStateException("Impossible state: the balanced item (" + balanced
+                    + ") with load (" + load + ") is removed more times than it was added.");
+        }
+        long oldValue = currentLoad.value;
+        long newValue = Math.subtractExact(oldValue, load);
+        // value² - (value - load)² = load * (value + newValue)
+        long newSumOfSquares = Math.subtractExact(sumOfSquares,
+                Math.multiplyExact(load, Math.addExact(oldValue, newValue)));
+        long newSum = Math.subtractExact(sum, load);
+        sumOfSquares = newSumOfSquares;
+        sum = newSum;
+        currentLoad.value = newValue;
+        currentLoad.elementCount--;
+        if (currentLoad.elementCount == 0) {
+            loadMap.remove(balanced);
+        }
+    }
+
+    // ************************************************************************
+    // LoadBalance
+    // ************************************************************************
+
+    @Override
+    public Map<Balanced_, Long> getLoads() {
+        Map<Balanced_, Long> loads = new LinkedHashMap<>(loadMap.size() * 2);
+        loadMap.forEach((balanced, load) -> loads.put(balanced, load.value));
+        return loads;
+    }
+
+    @Override
+    public long getLoad(Balanced_ balanced) {
+        Load load = loadMap.get(balanced);
+        return (load == null) ? 0L : load.value;
+    }
+
+    @Override
+    public int getCount() {
+        return loadMap.size();
+    }
+
+    @Override
+    public long getSum() {
+        return sum;
+    }
+
+    @Override
+    public long getSumOfSquares() {
+        return sumOfSquares;
+    }
+
+    @Override
+    public BigDecimal getSquaredDeviation() {
+        int count = loadMap.size();
+        if (count == 0) {
+            return BigDecimal.ZERO;
+        }
+        // Σ (value - sum / count)² = (count * sumOfSquares - sum²) / count, which only rounds once
+        BigDecimal countDecimal = BigDecimal.valueOf(count);
+        BigDecimal sumDecimal = BigDecimal.valueOf(sum);
+        return BigDecimal.valueOf(sumOfSquares).multiply(countDecimal)
+                .subtract(sumDecimal.multiply(sumDecimal))
+                .divide(countDecimal, MathContext.DECIMAL64);
+    }
+
+    @Override
+    public String toString() {
+        return "LoadBalance (" + loadMap.size() + " balanced items, sum " + sum
+                + ", sum of squares " + sumOfSquares + ")";
+    }
+
+    private static final class Load {
+        long value = 0L;
+        int elementCount = 0;
+    }
+
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.common;
+
+import java.util.Arrays;
+
+/**
+ * A bag of {@code long} values that knows its minimum (or maximum) value
+ * while values are added and removed incrementally.
+ * <p>
+ * Every distinct value is in a binary heap once, together with the number of times it was added.
+ * An open addressing hash table (with linear probing) maps every distinct value to its heap position,
+ * so removing a value doesn't search the heap.
+ * Neither {@link #add(long)} nor {@link #remove(long)} box or allocate, unless the arrays need to grow.
+ */
+public final class LongCountHeap {
+
+    private static final int INITIAL_HEAP_CAPACITY = 8;
+
+    private final boolean min;
+
+    // The heap, as parallel arrays indexed by heap position
+    private long[] heapValues = new long[INITIAL_HEAP_CAPACITY];
+    private int[] heapCounts = new int[INITIAL_HEAP_CAPACITY];
+    /** The table slot of every heap position. */
+    private int[] heapSlots = new int[INITIAL_HEAP_CAPACITY];
+    private int size = 0;
+
+    // The table, as parallel arrays indexed by slot, with a power of 2 length that is at least twice the size
+    private long[] tableValues = new long[INITIAL_HEAP_CAPACITY * 2];
+    /** The heap position + 1 of every slot, or 0 if that slot is empty. */
+    private int[] tablePositions = new int[INITIAL_HEAP_CAPACITY * 2];
+
+    /**
+     * @param min true if {@link #peek()} returns the minimum, false if it returns the maximum
+     */
+    public LongCountHeap(boolean min) {
+        this.min = min;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return the minimum (or maximum) value
+     * @throws IllegalStateException if {@link #isEmpty()}
+     */
+    public long peek() {
+        if (size == 0) {
+            throw new IllegalStateException("Impossible state: the heap is empty.");
+        }
+        return heapValues[0];
+    }
+
+    public void add(long value) {
+        int slot = findSlot(value);
+        int position = tablePositions[slot] - 1;
+        if (position >= 0) {
+            heapCounts[position]++;
+            return;
+        }
+        if (size == heapValues.length) {
+            int capacity = size * 2;
+            heapValues = Arrays.copyOf(heapValues, capacity);
+            heapCounts = Arrays.copyOf(heapCounts, capacity);
+            heapSlots = Arrays.copyOf(heapSlots, capacity);
+        }
+        if ((size + 1) * 2 > tableValues.length) {
+            rehash(tableValues.length * 2);
+            slot = findSlot(value);
+        }
+        tableValues[slot] = value;
+        size++;
+        siftUp(size - 1, value, 1, slot);
+    }
+
+    public void remove(long value) {
+        int slot = findSlot(value);
+        int position = tablePositions[slot] - 1;
+        if (position < 0) {
+            throw new IllegalStateException("Impossible state: the value (" + value
+                    + ") is removed more times than it was added.");
+        }
+        heapCounts[position]--;
+        if (heapCounts[position] > 0) {
+            return;
+        }
+        deleteSlot(slot);
+        size--;
+        if (position == size) {
+            return;
+        }
+        long lastValue = heapValues[size];
+        int lastCount = heapCounts[size];
+        int lastSlot = heapSlots[size];
+        if (position > 0 && isAbove(lastValue, heapValues[(position - 1) >>> 1])) {
+            siftUp(position, lastValue, lastCount, lastSlot);
+        } else {
+            siftDown(position, lastValue, lastCount, lastSlot);
+        }
+    }
+
+    // ************************************************************************
+    // Heap
+    // ************************************************************************
+
+    private boolean isAbove(long a, long b) {
+        return min ? a < b : a > b;
+    }
+
+    private void siftUp(int position, long value, int count, int slot) {
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!isAbove(value, heapValues[parent])) {
+                break;
+            }
+            place(position, heapValues[parent], heapCounts[parent], heapSlots[parent]);
+            position = parent;
+        }
+        place(position, value, count, slot);
+    }
+
+    private void siftDown(int position, long value, int count, int slot) {
+        int half = size >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            int right = child + 1;
+            if (right < size && isAbove(heapValues[right], heapValues[child])) {
+                child = right;
+            }
+            if (!isAbove(heapValues[child], value)) {
+                break;
+            }
+            place(position, heapValues[child], heapCounts[child], heapSlots[child]);
+            position = child;
+        }
+        place(position, value, count, slot);
+    }
+
+    private void place(int position, long value, int count, int slot) {
+        heapValues[position] = value;
+        heapCounts[position] = count;
+        heapSlots[position] = slot;
+        tablePositions[slot] = position + 1;
+    }
+
+    // ************************************************************************
+    // Table
+    // ************************************************************************
+
+    private static int hash(long value) {
+        int hash = (int) (value ^ (value >>> 32)) * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private int findSlot(long value) {
+        int mask = tableValues.length - 1;
+        int slot = hash(value) & mask;
+        while (tablePositions[slot] != 0 && tableValues[slot] != value) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Shifts the following entries of the same probe sequence back,
+     * so no tombstones are needed.
+     */
+    private void deleteSlot(int slot) {
+        int mask = tableValues.length - 1;
+        int hole = slot;
+        int next = (slot + 1) & mask;
+        while (tablePositions[next] != 0) {
+            int ideal = hash(tableValues[next]) & mask;
+            // Move the entry into the hole, unless its ideal slot lies cyclically between the hole and the entry
+            if (((next - ideal) & mask) >= ((next - hole) & mask)) {
+                tableValues[hole] = tableValues[next];
+                tablePositions[hole] = tablePositions[next];
+                heapSlots[tablePositions[hole] - 1] = hole;
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        tablePositions[hole] = 0;
+    }
+
+    private void rehash(int capacity) {
+        tableValues = new long[capacity];
+        tablePositions = new int[capacity];
+        for (int position = 0; position < size; position++) {
+            long value = heapValues[position];
+            int slot = findSlot(value);
+            tableValues[slot] = value;
+            tablePositions[slot] = position + 1;
+            heapSlots[position] = slot;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return (min ? "Min" : "Max") + "Heap(" + size + " distinct values)";
+    }
+
+}
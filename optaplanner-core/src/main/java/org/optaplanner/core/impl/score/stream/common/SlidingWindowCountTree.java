@@ -0,0 +1,107 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.common;
+
+/**
+ * Counts the elements in every window of {@code windowSize} consecutive indexes
+ * and keeps the maximum of those counts up to date while elements are added and removed.
+ * <p>
+ * An element at an index is in every window that starts at most {@code windowSize - 1} indexes before it.
+ * So adding or removing it changes the count of a range of window starts,
+ * which a sparse segment tree over the window starts does in O(log(index range)).
+ */
+public final class SlidingWindowCountTree {
+
+    private static final long LOWEST_WINDOW_START = (long) Integer.MIN_VALUE - Integer.MAX_VALUE;
+    private static final long HIGHEST_WINDOW_START = Integer.MAX_VALUE;
+
+    private final int windowSize;
+    private final Node root = new Node();
+
+    public SlidingWindowCountTree(int windowSize) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("The windowSize (" + windowSize + ") must be at least 1.");
+        }
+        this.windowSize = windowSize;
+    }
+
+    public void add(int index) {
+        update(root, LOWEST_WINDOW_START, HIGHEST_WINDOW_START, (long) index - windowSize + 1L, index, 1);
+    }
+
+    public void remove(int index) {
+        update(root, LOWEST_WINDOW_START, HIGHEST_WINDOW_START, (long) index - windowSize + 1L, index, -1);
+    }
+
+    /**
+     * @return the highest number of elements in any window of {@code windowSize} consecutive indexes
+     */
+    public int getMaxCount() {
+        return root.max;
+    }
+
+    /**
+     * Adds the delta to every window start in the range [from, to].
+     * A node's max is its own pending delta plus the max of its children, so nothing needs to be pushed down.
+     */
+    private static void update(Node node, long low, long high, long from, long to, int delta) {
+        if (from <= low && high <= to) {
+            node.delta += delta;
+            node.max += delta;
+            return;
+        }
+        long middle = low + (high - low) / 2L;
+        if (from <= middle) {
+            if (node.left == null) {
+                node.left = new Node();
+            }
+            update(node.left, low, middle, from, to, delta);
+            if (node.left.isEmpty()) {
+                node.left = null;
+            }
+        }
+        if (to > middle) {
+            if (node.right == null) {
+                node.right = new Node();
+            }
+            update(node.right, middle + 1L, high, from, to, delta);
+            if (node.right.isEmpty()) {
+                node.right = null;
+            }
+        }
+        node.max = node.delta + Math.max(node.left == null ? 0 : node.left.max, node.right == null ? 0 : node.right.max);
+    }
+
+    @Override
+    public String toString() {
+        return "SlidingWindowCount(" + windowSize + ") with max " + root.max;
+    }
+
+    private static final class Node {
+
+        private int delta = 0;
+        private int max = 0;
+        private Node left = null;
+        private Node right = null;
+
+        private boolean isEmpty() {
+            return delta == 0 && left == null && right == null;
+        }
+
+    }
+
+}
@@ -25,6 +25,8 @@ import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
 import org.optaplanner.core.api.score.constraint.Indictment;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.score.constraint.ConstraintProfile;
+import org.optaplanner.core.impl.score.director.drools.ConstraintProfilingAgendaEventListener;
 import org.optaplanner.core.impl.score.holder.AbstractScoreHolder;
 import org.optaplanner.core.impl.score.stream.ConstraintSession;
 
@@ -34,12 +36,15 @@ public class DroolsConstraintSession<Solution_, Score_ extends Score<Score_>>
     private final SolutionDescriptor<Solution_> solutionDescriptor;
     private final KieSession kieSession;
     private final AbstractScoreHolder<Score_> scoreHolder;
+    /** Null if constraint profiling is disabled. */
+    private final ConstraintProfilingAgendaEventListener constraintProfilingListener;
 
     public DroolsConstraintSession(SolutionDescriptor<Solution_> solutionDescriptor, KieSession kieSession,
-            AbstractScoreHolder<Score_> scoreHolder) {
+            AbstractScoreHolder<Score_> scoreHolder, ConstraintProfilingAgendaEventListener constraintProfilingListener) {
         this.solutionDescriptor = solutionDescriptor;
         this.kieSession = kieSession;
         this.scoreHolder = scoreHolder;
+        this.constraintProfilingListener = constraintProfilingListener;
     }
 
     @Override
@@ -85,6 +90,15 @@ public class DroolsConstraintSession<Solution_, Score_ extends Score<Score_>>
         return scoreHolder.getIndictmentMap();
     }
 
+    @Override
+    public Map<String, ConstraintProfile> getConstraintProfileMap() {
+        if (constraintProfilingListener == null) {
+            throw new IllegalStateException("When constraintProfilingEnabled (false) is disabled"
+                    + " when building the session, this method should not be called.");
+        }
+        return constraintProfilingListener.buildConstraintProfileMap();
+    }
+
     @Override
     public void close() {
         kieSession.dispose();
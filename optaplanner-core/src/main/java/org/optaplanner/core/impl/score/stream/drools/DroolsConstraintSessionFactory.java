@@ -37,6 +37,7 @@ import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.stream.Constraint;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
+import org.optaplanner.core.impl.score.director.drools.ConstraintProfilingAgendaEventListener;
 import org.optaplanner.core.impl.score.director.drools.DroolsScoreDirector;
 import org.optaplanner.core.impl.score.director.drools.OptaPlannerRuleEventListener;
 import org.optaplanner.core.impl.score.holder.AbstractScoreHolder;
@@ -51,17 +52,19 @@ public final class DroolsConstraintSessionFactory<Solution_, Score_ extends Scor
     private final KieBase originalKieBase;
     private final Map<Rule, DroolsConstraint<Solution_>> compiledRuleToConstraintMap;
     private final Map<String, org.drools.model.Rule> constraintToModelRuleMap;
-    private KieBase currentKieBase;
-    private Set<String> currentlyDisabledConstraintIdSet = null;
+    /**
+     * Null if no KieBase without some constraints was built yet.
+     * Volatile and immutable, because the session factory can be shared between solver threads.
+     */
+    private volatile KieBaseWithDisabledConstraints lastKieBaseWithDisabledConstraints = null;
 
     public DroolsConstraintSessionFactory(SolutionDescriptor<Solution_> solutionDescriptor, Model model,
             List<DroolsConstraint<Solution_>> constraints) {
         this.solutionDescriptor = solutionDescriptor;
         this.originalModel = model;
         this.originalKieBase = buildKieBaseFromModel(model);
-        this.currentKieBase = originalKieBase;
         this.compiledRuleToConstraintMap = constraints.stream()
-                .collect(toMap(constraint -> currentKieBase.getRule(constraint.getConstraintPackage(),
+                .collect(toMap(constraint -> originalKieBase.getRule(constraint.getConstraintPackage(),
                         constraint.getConstraintName()), Function.identity()));
         this.constraintToModelRuleMap = constraints.stream()
                 .collect(toMap(Constraint::getConstraintId, constraint -> model.getRules().stream()
@@ -77,7 +80,8 @@ public final class DroolsConstraintSessionFactory<Solution_, Score_ extends Scor
     }
 
     @Override
-    public ConstraintSession<Solution_, Score_> buildSession(boolean constraintMatchEnabled, Solution_ workingSolution) {
+    public ConstraintSession<Solution_, Score_> buildSession(boolean constraintMatchEnabled,
+            boolean constraintProfilingEnabled, Solution_ workingSolution) {
         ScoreDefinition<Score_> scoreDefinition = solutionDescriptor.getScoreDefinition();
         AbstractScoreHolder<Score_> scoreHolder = scoreDefinition.buildScoreHolder(constraintMatchEnabled);
         // Determine which rules to enable based on the fact that their constraints carry weight.
@@ -91,26 +95,48 @@ public final class DroolsConstraintSessionFactory<Solution_, Score_ extends Scor
             }
         });
         // Determine the KieBase to use.
+        KieBase kieBase;
         if (disabledConstraintIdSet.isEmpty()) { // Shortcut; don't change the original KieBase.
-            currentKieBase = originalKieBase;
-            currentlyDisabledConstraintIdSet = null;
-        } else if (!disabledConstraintIdSet.equals(currentlyDisabledConstraintIdSet)) {
-            // Only rebuild the active KieBase when the set of disabled constraints changed.
-            ModelImpl model = new ModelImpl().withGlobals(originalModel.getGlobals());
-            constraintToModelRuleMap.forEach((constraintId, modelRule) -> {
-                if (disabledConstraintIdSet.contains(constraintId)) {
-                    return;
-                }
-                model.addRule(modelRule);
-            });
-            currentKieBase = buildKieBaseFromModel(model);
-            currentlyDisabledConstraintIdSet = disabledConstraintIdSet;
+            kieBase = originalKieBase;
+        } else {
+            KieBaseWithDisabledConstraints last = lastKieBaseWithDisabledConstraints;
+            if (last != null && disabledConstraintIdSet.equals(last.disabledConstraintIdSet)) {
+                kieBase = last.kieBase;
+            } else {
+                // Only rebuild the active KieBase when the set of disabled constraints changed.
+                ModelImpl model = new ModelImpl().withGlobals(originalModel.getGlobals());
+                constraintToModelRuleMap.forEach((constraintId, modelRule) -> {
+                    if (disabledConstraintIdSet.contains(constraintId)) {
+                        return;
+                    }
+                    model.addRule(modelRule);
+                });
+                kieBase = buildKieBaseFromModel(model);
+                lastKieBaseWithDisabledConstraints = new KieBaseWithDisabledConstraints(disabledConstraintIdSet, kieBase);
+            }
         }
         // Create the session itself.
-        KieSession kieSession = currentKieBase.newKieSession();
+        KieSession kieSession = kieBase.newKieSession();
         ((RuleEventManager) kieSession).addEventListener(new OptaPlannerRuleEventListener()); // Enables undo in rules.
+        ConstraintProfilingAgendaEventListener constraintProfilingListener = null;
+        if (constraintProfilingEnabled) {
+            constraintProfilingListener = new ConstraintProfilingAgendaEventListener();
+            kieSession.addEventListener(constraintProfilingListener);
+        }
         kieSession.setGlobal(DroolsScoreDirector.GLOBAL_SCORE_HOLDER_KEY, scoreHolder);
-        return new DroolsConstraintSession<>(solutionDescriptor, kieSession, scoreHolder);
+        return new DroolsConstraintSession<>(solutionDescriptor, kieSession, scoreHolder, constraintProfilingListener);
+    }
+
+    private static final class KieBaseWithDisabledConstraints {
+
+        private final Set<String> disabledConstraintIdSet;
+        private final KieBase kieBase;
+
+        private KieBaseWithDisabledConstraints(Set<String> disabledConstraintIdSet, KieBase kieBase) {
+            this.disabledConstraintIdSet = disabledConstraintIdSet;
+            this.kieBase = kieBase;
+        }
+
     }
 
 }
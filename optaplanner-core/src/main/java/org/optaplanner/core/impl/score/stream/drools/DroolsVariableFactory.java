@@ -16,6 +16,9 @@
 
 package org.optaplanner.core.impl.score.stream.drools;
 
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
 import org.drools.model.DSL;
 import org.drools.model.Variable;
 
@@ -54,6 +57,53 @@ public interface DroolsVariableFactory {
      */
     <X> Variable<X> createVariable(String baseName, Variable<X> source);
 
+    /**
+     * Declare a new {@link Variable} with a given name, the contents of which will be the result of applying
+     * a mapping function on the source variable.
+     * Delegates to {@link DSL#declarationOf(Class, String, org.drools.model.DeclarationSource)}.
+     *
+     * @param baseName name of the variable, mostly useful for debugging purposes. Will be decorated by a numeric
+     *        identifier to prevent multiple variables of the same name to exist within left-hand side of a single rule.
+     * @param source source of the variable
+     * @param mapping function to apply on the source variable, its result is never flattened
+     * @param <Source_> generic type of the source variable
+     * @param <Result_> generic type of the new variable
+     * @return new variable declaration, not yet bound to anything
+     */
+    <Source_, Result_> Variable<Result_> createMappedVariable(String baseName, Variable<Source_> source,
+            Function<Source_, Result_> mapping);
+
+    /**
+     * As defined by {@link #createMappedVariable(String, Variable, Function)},
+     * but with the mapping function applied on two source variables.
+     *
+     * @param baseName name of the variable, mostly useful for debugging purposes
+     * @param sourceA first source of the variable
+     * @param sourceB second source of the variable
+     * @param mapping function to apply on the source variables, its result is never flattened
+     * @param <SourceA_> generic type of the first source variable
+     * @param <SourceB_> generic type of the second source variable
+     * @param <Result_> generic type of the new variable
+     * @return new variable declaration, not yet bound to anything
+     */
+    <SourceA_, SourceB_, Result_> Variable<Result_> createMappedVariable(String baseName, Variable<SourceA_> sourceA,
+            Variable<SourceB_> sourceB, BiFunction<SourceA_, SourceB_, Result_> mapping);
+
+    /**
+     * Declare a new {@link Variable} with a given name, which will be bound to every element of the {@link Iterable}
+     * that results from applying a mapping function on the source variable.
+     * Delegates to {@link DSL#declarationOf(Class, String, org.drools.model.DeclarationSource)}.
+     *
+     * @param baseName name of the variable, mostly useful for debugging purposes
+     * @param source source of the variable
+     * @param mapping function to apply on the source variable
+     * @param <Source_> generic type of the source variable
+     * @param <Result_> generic type of the new variable
+     * @return new variable declaration, not yet bound to anything
+     */
+    <Source_, Result_> Variable<Result_> createFlattenedVariable(String baseName, Variable<Source_> source,
+            Function<Source_, Iterable<Result_>> mapping);
+
     /**
      * Declares a new {@link Object}-typed variable, see {@link #createVariable(Class, String)} for details.
      */
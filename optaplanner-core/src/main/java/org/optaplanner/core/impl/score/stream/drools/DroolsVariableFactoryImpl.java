@@ -16,10 +16,13 @@
 
 package org.optaplanner.core.impl.score.stream.drools;
 
+import static java.util.Collections.singletonList;
 import static org.drools.model.DSL.declarationOf;
 import static org.drools.model.DSL.from;
 
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import org.drools.model.Variable;
 
@@ -45,4 +48,27 @@ final class DroolsVariableFactoryImpl implements DroolsVariableFactory {
         return declarationOf(source.getType(), generateUniqueId(baseName), from(source));
     }
 
+    @Override
+    public <Source_, Result_> Variable<Result_> createMappedVariable(String baseName, Variable<Source_> source,
+            Function<Source_, Result_> mapping) {
+        // Drools unrolls an Iterable that comes out of from(), so wrap it to keep it a single fact
+        return (Variable<Result_>) declarationOf(Object.class, generateUniqueId(baseName),
+                from(source, s -> singletonList(mapping.apply(s))));
+    }
+
+    @Override
+    public <SourceA_, SourceB_, Result_> Variable<Result_> createMappedVariable(String baseName,
+            Variable<SourceA_> sourceA, Variable<SourceB_> sourceB, BiFunction<SourceA_, SourceB_, Result_> mapping) {
+        // Drools unrolls an Iterable that comes out of from(), so wrap it to keep it a single fact
+        return (Variable<Result_>) declarationOf(Object.class, generateUniqueId(baseName),
+                from(sourceA, sourceB, (a, b) -> singletonList(mapping.apply(a, b))));
+    }
+
+    @Override
+    public <Source_, Result_> Variable<Result_> createFlattenedVariable(String baseName, Variable<Source_> source,
+            Function<Source_, Iterable<Result_>> mapping) {
+        return (Variable<Result_>) declarationOf(Object.class, generateUniqueId(baseName),
+                from(source, mapping::apply));
+    }
+
 }
@@ -18,6 +18,7 @@ package org.optaplanner.core.impl.score.stream.drools.bi;
 import java.math.BigDecimal;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
+import java.util.function.Function;
 import java.util.function.ToIntBiFunction;
 import java.util.function.ToLongBiFunction;
 
@@ -41,6 +42,7 @@ import org.optaplanner.core.impl.score.stream.drools.tri.DroolsGroupingTriConstr
 import org.optaplanner.core.impl.score.stream.drools.tri.DroolsJoinTriConstraintStream;
 import org.optaplanner.core.impl.score.stream.drools.uni.DroolsAbstractUniConstraintStream;
 import org.optaplanner.core.impl.score.stream.drools.uni.DroolsGroupingUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.drools.uni.DroolsMappingUniConstraintStream;
 import org.optaplanner.core.impl.score.stream.tri.FilteringTriJoiner;
 
 public abstract class DroolsAbstractBiConstraintStream<Solution_, A, B>
@@ -221,6 +223,26 @@ public abstract class DroolsAbstractBiConstraintStream<Solution_, A, B>
         return stream;
     }
 
+    // ************************************************************************
+    // Map, flatten and distinct
+    // ************************************************************************
+
+    @Override
+    public <ResultA_> UniConstraintStream<ResultA_> map(BiFunction<A, B, ResultA_> mapping) {
+        DroolsMappingUniConstraintStream<Solution_, ResultA_> stream =
+                new DroolsMappingUniConstraintStream<>(constraintFactory, this, mapping);
+        addChildStream(stream);
+        return stream;
+    }
+
+    @Override
+    public <ResultB_> BiConstraintStream<A, ResultB_> flattenLast(Function<B, Iterable<ResultB_>> mapping) {
+        DroolsFlatteningBiConstraintStream<Solution_, A, ResultB_> stream =
+                new DroolsFlatteningBiConstraintStream<>(constraintFactory, this, mapping);
+        addChildStream(stream);
+        return stream;
+    }
+
     // ************************************************************************
     // Penalize/reward
     // ************************************************************************
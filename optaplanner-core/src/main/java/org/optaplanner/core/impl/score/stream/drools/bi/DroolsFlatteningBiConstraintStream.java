@@ -0,0 +1,48 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.drools.bi;
+
+import java.util.function.Function;
+
+import org.optaplanner.core.impl.score.stream.drools.DroolsConstraintFactory;
+import org.optaplanner.core.impl.score.stream.drools.common.BiLeftHandSide;
+
+public final class DroolsFlatteningBiConstraintStream<Solution_, A, NewB>
+        extends DroolsAbstractBiConstraintStream<Solution_, A, NewB> {
+
+    private final BiLeftHandSide<A, NewB> leftHandSide;
+
+    public <B> DroolsFlatteningBiConstraintStream(DroolsConstraintFactory<Solution_> constraintFactory,
+            DroolsAbstractBiConstraintStream<Solution_, A, B> parent, Function<B, Iterable<NewB>> mapping) {
+        super(constraintFactory);
+        this.leftHandSide = parent.getLeftHandSide().andFlattenLast(mapping);
+    }
+
+    // ************************************************************************
+    // Pattern creation
+    // ************************************************************************
+
+    @Override
+    public BiLeftHandSide<A, NewB> getLeftHandSide() {
+        return leftHandSide;
+    }
+
+    @Override
+    public String toString() {
+        return "BiFlattenLast() with " + getChildStreams().size() + " children.";
+    }
+}
@@ -26,6 +26,7 @@ import static org.drools.model.PatternDSL.betaIndexedBy;
 import static org.drools.model.PatternDSL.pattern;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
@@ -498,6 +499,21 @@ public final class BiLeftHandSide<A, B> extends AbstractLeftHandSide {
                 new DirectPatternVariable<>(accumulateOutputD, prerequisites), variableFactory);
     }
 
+    public <NewA> UniLeftHandSide<NewA> andMap(BiFunction<A, B, NewA> mapping) {
+        Variable<NewA> newA = variableFactory.createMappedVariable("mapped", patternVariableA.getPrimaryVariable(),
+                patternVariableB.getPrimaryVariable(), mapping);
+        List<ViewItem<?>> prerequisites = new ArrayList<>(patternVariableA.build());
+        prerequisites.addAll(patternVariableB.build());
+        return new UniLeftHandSide<>(new DirectPatternVariable<>(newA, prerequisites), variableFactory);
+    }
+
+    public <NewB> BiLeftHandSide<A, NewB> andFlattenLast(Function<B, Iterable<NewB>> mapping) {
+        Variable<NewB> newB = variableFactory.createFlattenedVariable("flattened", patternVariableB.getPrimaryVariable(),
+                mapping);
+        return new BiLeftHandSide<>(patternVariableA, new DirectPatternVariable<>(newB, patternVariableB.build()),
+                variableFactory);
+    }
+
     public <Solution_> RuleBuilder<Solution_> andTerminate() {
         return ruleContext.newRuleBuilder();
     }
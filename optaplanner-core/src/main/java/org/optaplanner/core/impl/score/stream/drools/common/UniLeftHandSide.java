@@ -114,6 +114,13 @@ public final class UniLeftHandSide<A> extends AbstractLeftHandSide {
         this.ruleContext = buildDefaultRuleContext();
     }
 
+    protected UniLeftHandSide(PatternVariable<A, ?, ?> patternVariable, DroolsVariableFactory variableFactory) {
+        super(variableFactory);
+        this.patternVariable = patternVariable;
+        // This LHS will use the same variable access both for direct consequence and for subsequent operations.
+        this.ruleContext = buildDefaultRuleContext();
+    }
+
     protected UniLeftHandSide(UniRuleContext<A> ruleContext, PatternVariable<A, ?, ?> patternVariable,
             DroolsVariableFactory variableFactory) {
         super(variableFactory);
@@ -424,6 +431,18 @@ public final class UniLeftHandSide<A> extends AbstractLeftHandSide {
                 variableFactory);
     }
 
+    public <NewA> UniLeftHandSide<NewA> andMap(Function<A, NewA> mapping) {
+        Variable<NewA> newA = variableFactory.createMappedVariable("mapped", patternVariable.getPrimaryVariable(),
+                mapping);
+        return new UniLeftHandSide<>(new DirectPatternVariable<>(newA, patternVariable.build()), variableFactory);
+    }
+
+    public <NewA> UniLeftHandSide<NewA> andFlattenLast(Function<A, Iterable<NewA>> mapping) {
+        Variable<NewA> newA = variableFactory.createFlattenedVariable("flattened", patternVariable.getPrimaryVariable(),
+                mapping);
+        return new UniLeftHandSide<>(new DirectPatternVariable<>(newA, patternVariable.build()), variableFactory);
+    }
+
     public <Solution_> RuleBuilder<Solution_> andTerminate() {
         return ruleContext.newRuleBuilder();
     }
@@ -83,4 +83,21 @@ public final class CompositePentaJoiner<A, B, C, D, E> extends AbstractPentaJoin
                 .toArray();
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof CompositePentaJoiner) {
+            CompositePentaJoiner<?, ?, ?, ?, ?> other = (CompositePentaJoiner<?, ?, ?, ?, ?>) o;
+            return joinerList.equals(other.joinerList);
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return joinerList.hashCode();
+    }
+
 }
@@ -16,6 +16,7 @@
 
 package org.optaplanner.core.impl.score.stream.penta;
 
+import java.util.Objects;
 import java.util.function.Function;
 
 import org.optaplanner.core.api.function.QuadFunction;
@@ -74,4 +75,23 @@ public final class SinglePentaJoiner<A, B, C, D, E> extends AbstractPentaJoiner<
     public Function<E, Object[]> getRightCombinedMapping() {
         return (E e) -> new Object[] { getRightMapping().apply(e) };
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof SinglePentaJoiner) {
+            SinglePentaJoiner<?, ?, ?, ?, ?> other = (SinglePentaJoiner<?, ?, ?, ?, ?>) o;
+            return joinerType == other.joinerType
+                    && Objects.equals(leftMapping, other.leftMapping)
+                    && Objects.equals(rightMapping, other.rightMapping);
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(leftMapping, joinerType, rightMapping);
+    }
 }
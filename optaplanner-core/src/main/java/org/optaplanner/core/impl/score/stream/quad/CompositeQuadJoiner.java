@@ -83,4 +83,21 @@ public final class CompositeQuadJoiner<A, B, C, D> extends AbstractQuadJoiner<A,
                 .toArray();
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof CompositeQuadJoiner) {
+            CompositeQuadJoiner<?, ?, ?, ?> other = (CompositeQuadJoiner<?, ?, ?, ?>) o;
+            return joinerList.equals(other.joinerList);
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return joinerList.hashCode();
+    }
+
 }
@@ -55,4 +55,14 @@ public final class NoneQuadJoiner<A, B, C, D> extends AbstractQuadJoiner<A, B, C
         return (D d) -> EMPTY_OBJECT_ARRAY;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof NoneQuadJoiner;
+    }
+
+    @Override
+    public int hashCode() {
+        return NoneQuadJoiner.class.hashCode();
+    }
+
 }
@@ -83,4 +83,21 @@ public final class CompositeTriJoiner<A, B, C> extends AbstractTriJoiner<A, B, C
                 .toArray();
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof CompositeTriJoiner) {
+            CompositeTriJoiner<?, ?, ?> other = (CompositeTriJoiner<?, ?, ?>) o;
+            return joinerList.equals(other.joinerList);
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return joinerList.hashCode();
+    }
+
 }
@@ -16,6 +16,7 @@
 
 package org.optaplanner.core.impl.score.stream.tri;
 
+import java.util.Objects;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -73,4 +74,23 @@ public final class SingleTriJoiner<A, B, C> extends AbstractTriJoiner<A, B, C> {
     public Function<C, Object[]> getRightCombinedMapping() {
         return (C c) -> new Object[] { getRightMapping().apply(c) };
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof SingleTriJoiner) {
+            SingleTriJoiner<?, ?, ?> other = (SingleTriJoiner<?, ?, ?>) o;
+            return joinerType == other.joinerType
+                    && Objects.equals(leftMapping, other.leftMapping)
+                    && Objects.equals(rightMapping, other.rightMapping);
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(leftMapping, joinerType, rightMapping);
+    }
 }
@@ -27,6 +27,12 @@ import org.optaplanner.core.impl.score.stream.common.ScoreImpactType;
 
 public interface InnerUniConstraintStream<A> extends UniConstraintStream<A> {
 
+    @Override
+    default UniConstraintStream<A> distinct() {
+        // A groupBy keeps a reference count per group key, so it removes a tuple after its last duplicate is gone
+        return groupBy(Function.identity());
+    }
+
     @Override
     default Constraint penalize(String constraintPackage, String constraintName, Score<?> constraintWeight,
             ToIntFunction<A> matchWeigher) {
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver;
+
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+
+/**
+ * Delivers the intermediate best solutions of 1 solver job to its bestSolutionConsumer on a consumer thread,
+ * so a slow consumer doesn't slow down the solver thread.
+ * <p>
+ * Only the latest best solution is buffered: if a newer one is produced before the previous one is consumed,
+ * the previous one is skipped (skip ahead).
+ * After every consumption, the next one waits until the throttlingDelay has passed since that consumption started.
+ * The consumptions of 1 job never overlap, but they don't necessarily happen on the same consumer thread.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public final class BestSolutionConsumerSupport<Solution_> {
+
+    private final Consumer<? super Solution_> bestSolutionConsumer;
+    private final Executor consumerExecutor;
+    private final long throttlingDelayMillis;
+    private final Runnable consumptionFailedCallback;
+
+    // All the fields below are guarded by this
+    private Solution_ pendingBestSolution = null;
+    private boolean consuming = false;
+    private boolean flushing = false;
+    private boolean closed = false;
+    private long nextConsumptionTimeMillis = 0L;
+    private Throwable consumptionThrowable = null;
+
+    /**
+     * @param bestSolutionConsumer never null
+     * @param consumerExecutor never null
+     * @param throttlingDelayMillis {@code >= 0}
+     * @param consumptionFailedCallback never null, called on the consumer thread if the bestSolutionConsumer fails
+     */
+    public BestSolutionConsumerSupport(Consumer<? super Solution_> bestSolutionConsumer, Executor consumerExecutor,
+            long throttlingDelayMillis, Runnable consumptionFailedCallback) {
+        this.bestSolutionConsumer = bestSolutionConsumer;
+        this.consumerExecutor = consumerExecutor;
+        this.throttlingDelayMillis = throttlingDelayMillis;
+        this.consumptionFailedCallback = consumptionFailedCallback;
+    }
+
+    /**
+     * Called on the solver thread. Never blocks.
+     *
+     * @param bestSolution never null, not modified afterwards
+     */
+    public void produce(Solution_ bestSolution) {
+        synchronized (this) {
+            if (closed || consumptionThrowable != null) {
+                return;
+            }
+            // Skip ahead: a best solution that hasn't been consumed yet is outdated
+            pendingBestSolution = bestSolution;
+            if (consuming) {
+                return;
+            }
+            consuming = true;
+        }
+        try {
+            consumerExecutor.execute(this::consume);
+        } catch (RuntimeException e) {
+            // For example, the SolverManager is closed
+            synchronized (this) {
+                consuming = false;
+                notifyAll();
+            }
+            throw e;
+        }
+    }
+
+    private void consume() {
+        while (true) {
+            Solution_ bestSolution;
+            synchronized (this) {
+                try {
+                    long waitingMillis;
+                    while (!flushing && !closed
+                            && (waitingMillis = nextConsumptionTimeMillis - System.currentTimeMillis()) > 0L) {
+                        wait(waitingMillis);
+                    }
+                } catch (InterruptedException e) {
+                    // The SolverManager is closing
+                    Thread.currentThread().interrupt();
+                    pendingBestSolution = null;
+                }
+                bestSolution = pendingBestSolution;
+                pendingBestSolution = null;
+                if (bestSolution == null || consumptionThrowable != null) {
+                    consuming = false;
+                    notifyAll();
+                    return;
+                }
+                if (throttlingDelayMillis > 0L) {
+                    nextConsumptionTimeMillis = System.currentTimeMillis() + throttlingDelayMillis;
+                }
+            }
+            try {
+                bestSolutionConsumer.accept(bestSolution);
+            } catch (Throwable throwable) {
+                synchronized (this) {
+                    consumptionThrowable = throwable;
+                }
+                consumptionFailedCallback.run();
+            }
+        }
+    }
+
+    /**
+     * Called on the solver thread, after solving ended normally.
+     * Consumes the pending best solution (if any) without waiting for the throttlingDelay
+     * and waits until it has been consumed.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     * @throws IllegalStateException if the bestSolutionConsumer failed
+     */
+    public void flush() throws InterruptedException {
+        synchronized (this) {
+            flushing = true;
+            notifyAll();
+            while (consuming) {
+                wait();
+            }
+            if (consumptionThrowable != null) {
+                throw new IllegalStateException("The bestSolutionConsumer failed.", consumptionThrowable);
+            }
+        }
+    }
+
+    /**
+     * Called on the solver thread, when the solver job ends (normally or not).
+     * Discards the pending best solution (if any) and waits until the ongoing consumption (if any) has finished,
+     * so the bestSolutionConsumer is never called after this method returns.
+     */
+    public void close() {
+        synchronized (this) {
+            closed = true;
+            pendingBestSolution = null;
+            notifyAll();
+            try {
+                while (consuming) {
+                    wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+}
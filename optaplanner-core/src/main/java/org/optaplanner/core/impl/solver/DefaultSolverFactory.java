@@ -27,6 +27,7 @@ import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.api.solver.SolverFactory;
 import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
 import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
+import org.optaplanner.core.config.partitionedsearch.PartitionedSearchPhaseConfig;
 import org.optaplanner.core.config.phase.PhaseConfig;
 import org.optaplanner.core.config.score.director.ScoreDirectorFactoryConfig;
 import org.optaplanner.core.config.solver.EnvironmentMode;
@@ -36,6 +37,7 @@ import org.optaplanner.core.config.solver.termination.TerminationConfig;
 import org.optaplanner.core.config.util.ConfigUtils;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.heuristic.HeuristicConfigPolicy;
+import org.optaplanner.core.impl.partitionedsearch.DefaultPartitionedSearchPhaseFactory;
 import org.optaplanner.core.impl.phase.Phase;
 import org.optaplanner.core.impl.phase.PhaseFactory;
 import org.optaplanner.core.impl.score.director.InnerScoreDirectorFactory;
@@ -88,8 +90,8 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
         BestSolutionRecaller<Solution_> bestSolutionRecaller =
                 BestSolutionRecallerFactory.create().buildBestSolutionRecaller(environmentMode_);
         HeuristicConfigPolicy<Solution_> configPolicy = new HeuristicConfigPolicy<>(environmentMode_,
-                moveThreadCount_, solverConfig.getMoveThreadBufferSize(), solverConfig.getThreadFactoryClass(),
-                scoreDirectorFactory);
+                moveThreadCount_, solverConfig.getMoveThreadBufferSize(), solverConfig.getMoveThreadBatchSize(),
+                solverConfig.getThreadFactoryClass(), scoreDirectorFactory);
         TerminationConfig terminationConfig_ = solverConfig.getTerminationConfig() == null
                 ? new TerminationConfig()
                 : solverConfig.getTerminationConfig();
@@ -102,6 +104,36 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
                 moveThreadCount_ == null ? SolverConfig.MOVE_THREAD_COUNT_NONE : Integer.toString(moveThreadCount_));
     }
 
+    /**
+     * Each phase runs either on the solver thread and its move threads,
+     * or on partition threads that each have their own move threads.
+     * The solver thread is counted in both cases, even if it mostly waits during a partitioned search.
+     *
+     * @return null if a partitioned search has an unlimited runnablePartThreadLimit,
+     *         otherwise at least 1, the number of threads that a solver built by this factory runs at the same time
+     */
+    public Integer resolveRunnableThreadCount() {
+        Integer moveThreadCount_ = new MoveThreadCountResolver().resolveMoveThreadCount(solverConfig.getMoveThreadCount());
+        int threadCountPerSolverThread = (moveThreadCount_ == null) ? 1 : 1 + moveThreadCount_;
+        int childThreadCount = threadCountPerSolverThread - 1;
+        List<PhaseConfig> phaseConfigList_ = solverConfig.getPhaseConfigList();
+        if (phaseConfigList_ != null) {
+            for (PhaseConfig phaseConfig : phaseConfigList_) {
+                if (phaseConfig instanceof PartitionedSearchPhaseConfig) {
+                    PartitionedSearchPhaseConfig partitionedSearchPhaseConfig = (PartitionedSearchPhaseConfig) phaseConfig;
+                    Integer partThreadCount = new DefaultPartitionedSearchPhaseFactory<Solution_>(
+                            partitionedSearchPhaseConfig)
+                                    .resolveActiveThreadCount(partitionedSearchPhaseConfig.getRunnablePartThreadLimit());
+                    if (partThreadCount == null) {
+                        return null;
+                    }
+                    childThreadCount = Math.max(childThreadCount, partThreadCount * threadCountPerSolverThread);
+                }
+            }
+        }
+        return 1 + childThreadCount;
+    }
+
     /**
      * @param environmentMode never null
      * @return never null
@@ -22,6 +22,7 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -47,6 +48,8 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
     private final DefaultSolver<Solution_> solver;
     private final ProblemId_ problemId;
     private final Function<? super ProblemId_, ? extends Solution_> problemFinder;
+    /** Null if there is no bestSolutionConsumer. */
+    private final BestSolutionConsumerSupport<Solution_> bestSolutionConsumerSupport;
     private final Consumer<? super Solution_> finalBestSolutionConsumer;
     private final BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler;
 
@@ -59,6 +62,7 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
             DefaultSolverManager<Solution_, ProblemId_> solverManager,
             Solver<Solution_> solver, ProblemId_ problemId,
             Function<? super ProblemId_, ? extends Solution_> problemFinder,
+            BestSolutionConsumerSupport<Solution_> bestSolutionConsumerSupport,
             Consumer<? super Solution_> finalBestSolutionConsumer,
             BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler) {
         this.solverManager = solverManager;
@@ -69,6 +73,7 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
         }
         this.solver = (DefaultSolver<Solution_>) solver;
         this.problemFinder = problemFinder;
+        this.bestSolutionConsumerSupport = bestSolutionConsumerSupport;
         this.finalBestSolutionConsumer = finalBestSolutionConsumer;
         this.exceptionHandler = exceptionHandler;
         solverStatusReference = new AtomicReference<>(SolverStatus.SOLVING_SCHEDULED);
@@ -99,9 +104,12 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
         try {
             Solution_ problem = problemFinder.apply(problemId);
             final Solution_ finalBestSolution = solver.solve(problem);
+            if (bestSolutionConsumerSupport != null) {
+                // The last best solution is never skipped or throttled
+                bestSolutionConsumerSupport.flush();
+            }
             if (finalBestSolutionConsumer != null) {
-                // TODO consumption should happen on different thread than solver thread
-                finalBestSolutionConsumer.accept(finalBestSolution);
+                consumeFinalBestSolution(finalBestSolution);
             }
             return finalBestSolution;
         } catch (Exception e) {
@@ -112,7 +120,41 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
         }
     }
 
+    /**
+     * Consumes the final best solution on a consumer thread, after every intermediate best solution,
+     * and waits until it has been consumed, so {@link #getFinalBestSolution()} returns afterwards.
+     *
+     * @param finalBestSolution never null
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private void consumeFinalBestSolution(Solution_ finalBestSolution) throws InterruptedException {
+        Future<?> consumption;
+        try {
+            consumption = solverManager.getConsumerThreadPool()
+                    .submit(() -> finalBestSolutionConsumer.accept(finalBestSolution));
+        } catch (RejectedExecutionException e) {
+            // The SolverManager is closed, so there is no consumer thread left
+            finalBestSolutionConsumer.accept(finalBestSolution);
+            return;
+        }
+        try {
+            consumption.get();
+        } catch (ExecutionException e) {
+            // Propagate the original exception to the exceptionHandler, as if it had been thrown on this thread
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException("The finalBestSolutionConsumer failed.", cause);
+        }
+    }
+
     private void solvingTerminated() {
+        if (bestSolutionConsumerSupport != null) {
+            bestSolutionConsumerSupport.close();
+        }
         solverStatusReference.set(SolverStatus.NOT_SOLVING);
         solverManager.getProblemIdToSolverJobMap().remove(problemId);
         terminatedLatch.countDown();
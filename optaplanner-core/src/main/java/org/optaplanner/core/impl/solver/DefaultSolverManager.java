@@ -21,7 +21,12 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -33,6 +38,8 @@ import org.optaplanner.core.api.solver.SolverJob;
 import org.optaplanner.core.api.solver.SolverManager;
 import org.optaplanner.core.api.solver.SolverStatus;
 import org.optaplanner.core.config.solver.SolverManagerConfig;
+import org.optaplanner.core.config.util.ConfigUtils;
+import org.optaplanner.core.impl.solver.thread.DefaultSolverThreadFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,6 +55,9 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
     private final SolverFactory<Solution_> solverFactory;
     private final int parallelSolverCount;
     private final ExecutorService solverThreadPool;
+    private final ExecutorService consumerThreadPool;
+    private final long throttlingDelayMillis;
+    private final AtomicLong solverJobSequence = new AtomicLong(0L);
 
     private ConcurrentMap<Object, DefaultSolverJob<Solution_, ProblemId_>> problemIdToSolverJobMap;
 
@@ -57,8 +67,14 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
                 "Solving failed for problemId ({}).", problemId, throwable);
         this.solverFactory = solverFactory;
         validateSolverFactory();
-        this.parallelSolverCount = solverManagerConfig.resolveParallelSolverCount();
-        solverThreadPool = Executors.newFixedThreadPool(parallelSolverCount);
+        this.parallelSolverCount = resolveParallelSolverCount(solverManagerConfig);
+        // The waiting solver jobs are ordered by SolverJobFutureTask.compareTo()
+        solverThreadPool = new ThreadPoolExecutor(parallelSolverCount, parallelSolverCount, 0L, TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(), buildThreadFactory(solverManagerConfig, "Solver"));
+        // Every active solver job consumes at most 1 best solution at a time
+        consumerThreadPool = Executors.newFixedThreadPool(parallelSolverCount,
+                buildThreadFactory(solverManagerConfig, "Consumer"));
+        throttlingDelayMillis = solverManagerConfig.resolveThrottlingDelayMillis();
         problemIdToSolverJobMap = new ConcurrentHashMap<>(parallelSolverCount * 10);
     }
 
@@ -70,36 +86,85 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
         solverFactory.buildSolver();
     }
 
+    private int resolveParallelSolverCount(SolverManagerConfig solverManagerConfig) {
+        int resolvedParallelSolverCount = solverManagerConfig.resolveParallelSolverCount();
+        Integer resolvedRunnableThreadLimit = solverManagerConfig.resolveRunnableThreadLimit();
+        if (resolvedRunnableThreadLimit == null) {
+            return resolvedParallelSolverCount;
+        }
+        // Every solver job uses the same solverFactory, so every solver runs the same number of threads
+        Integer runnableThreadCountPerSolver = (solverFactory instanceof DefaultSolverFactory)
+                ? ((DefaultSolverFactory<Solution_>) solverFactory).resolveRunnableThreadCount()
+                : Integer.valueOf(1);
+        if (runnableThreadCountPerSolver == null || runnableThreadCountPerSolver > resolvedRunnableThreadLimit) {
+            logger.warn("The runnableThreadCountPerSolver ({}) is higher than the resolvedRunnableThreadLimit ({}),"
+                    + " so only 1 solver job solves at a time.",
+                    runnableThreadCountPerSolver, resolvedRunnableThreadLimit);
+            return 1;
+        }
+        int limitedParallelSolverCount = resolvedRunnableThreadLimit / runnableThreadCountPerSolver;
+        if (limitedParallelSolverCount < resolvedParallelSolverCount) {
+            logger.debug("The resolvedParallelSolverCount ({}) is lowered to {}, because every solver runs {} threads"
+                    + " and the resolvedRunnableThreadLimit is {}.",
+                    resolvedParallelSolverCount, limitedParallelSolverCount, runnableThreadCountPerSolver,
+                    resolvedRunnableThreadLimit);
+            return limitedParallelSolverCount;
+        }
+        return resolvedParallelSolverCount;
+    }
+
+    private ThreadFactory buildThreadFactory(SolverManagerConfig solverManagerConfig, String threadPrefix) {
+        if (solverManagerConfig.getThreadFactoryClass() != null) {
+            return ConfigUtils.newInstance(solverManagerConfig, "threadFactoryClass",
+                    solverManagerConfig.getThreadFactoryClass());
+        } else {
+            return new DefaultSolverThreadFactory(threadPrefix);
+        }
+    }
+
+    public int getParallelSolverCount() {
+        return parallelSolverCount;
+    }
+
     protected ConcurrentMap<Object, DefaultSolverJob<Solution_, ProblemId_>> getProblemIdToSolverJobMap() {
         return problemIdToSolverJobMap;
     }
 
+    protected ExecutorService getConsumerThreadPool() {
+        return consumerThreadPool;
+    }
+
     @Override
-    public SolverJob<Solution_, ProblemId_> solve(ProblemId_ problemId,
+    public SolverJob<Solution_, ProblemId_> solve(ProblemId_ problemId, int priority,
             Function<? super ProblemId_, ? extends Solution_> problemFinder,
             Consumer<? super Solution_> finalBestSolutionConsumer,
             BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler) {
-        return solve(problemId, problemFinder, null, finalBestSolutionConsumer, exceptionHandler);
+        return solve(problemId, priority, problemFinder, null, finalBestSolutionConsumer, exceptionHandler);
     }
 
     @Override
-    public SolverJob<Solution_, ProblemId_> solveAndListen(ProblemId_ problemId,
+    public SolverJob<Solution_, ProblemId_> solveAndListen(ProblemId_ problemId, int priority,
             Function<? super ProblemId_, ? extends Solution_> problemFinder,
             Consumer<? super Solution_> bestSolutionConsumer,
             Consumer<? super Solution_> finalBestSolutionConsumer,
             BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler) {
-        return solve(problemId, problemFinder, bestSolutionConsumer, finalBestSolutionConsumer, exceptionHandler);
+        return solve(problemId, priority, problemFinder, bestSolutionConsumer, finalBestSolutionConsumer,
+                exceptionHandler);
     }
 
-    protected SolverJob<Solution_, ProblemId_> solve(ProblemId_ problemId,
+    protected SolverJob<Solution_, ProblemId_> solve(ProblemId_ problemId, int priority,
             Function<? super ProblemId_, ? extends Solution_> problemFinder,
             Consumer<? super Solution_> bestSolutionConsumer,
             Consumer<? super Solution_> finalBestSolutionConsumer,
             BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler) {
         Solver<Solution_> solver = solverFactory.buildSolver();
-        // TODO consumption should happen on different thread than solver thread, doing skipAhead and throttling
+        BestSolutionConsumerSupport<Solution_> bestSolutionConsumerSupport;
         if (bestSolutionConsumer != null) {
-            solver.addEventListener(event -> bestSolutionConsumer.accept(event.getNewBestSolution()));
+            bestSolutionConsumerSupport = new BestSolutionConsumerSupport<>(bestSolutionConsumer, consumerThreadPool,
+                    throttlingDelayMillis, solver::terminateEarly);
+            solver.addEventListener(event -> bestSolutionConsumerSupport.produce(event.getNewBestSolution()));
+        } else {
+            bestSolutionConsumerSupport = null;
         }
         BiConsumer<? super ProblemId_, ? super Throwable> finalExceptionHandler = (exceptionHandler != null)
                 ? exceptionHandler
@@ -110,12 +175,14 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
                         // TODO Future features: automatically restart solving by calling reloadProblem()
                         throw new IllegalStateException("The problemId (" + problemId + ") is already solving.");
                     } else {
-                        return new DefaultSolverJob<>(this, solver, problemId, problemFinder, finalBestSolutionConsumer,
-                                finalExceptionHandler);
+                        return new DefaultSolverJob<>(this, solver, problemId, problemFinder,
+                                bestSolutionConsumerSupport, finalBestSolutionConsumer, finalExceptionHandler);
                     }
                 });
-        Future<Solution_> future = solverThreadPool.submit(solverJob);
+        SolverJobFutureTask<Solution_> future = new SolverJobFutureTask<>(solverJob, priority,
+                solverJobSequence.getAndIncrement());
         solverJob.setFuture(future);
+        solverThreadPool.execute(future);
         return solverJob;
     }
 
@@ -166,6 +233,33 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
     @Override
     public void close() {
         solverThreadPool.shutdownNow();
+        consumerThreadPool.shutdownNow();
+    }
+
+    /**
+     * Orders the solver jobs that wait for a solver thread:
+     * the highest priority first and for the same priority, the first submitted first.
+     */
+    private static final class SolverJobFutureTask<Solution_> extends FutureTask<Solution_>
+            implements Comparable<SolverJobFutureTask<?>> {
+
+        private final int priority;
+        private final long sequence;
+
+        public SolverJobFutureTask(DefaultSolverJob<Solution_, ?> solverJob, int priority, long sequence) {
+            super(solverJob);
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(SolverJobFutureTask<?> other) {
+            if (priority != other.priority) {
+                return Integer.compare(other.priority, priority);
+            }
+            return Long.compare(sequence, other.sequence);
+        }
+
     }
 
 }
@@ -17,6 +17,7 @@
 package org.optaplanner.core.impl.solver.scope;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.Semaphore;
 
@@ -25,6 +26,7 @@ import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.score.constraint.ConstraintProfile;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.termination.Termination;
@@ -105,6 +107,14 @@ public class SolverScope<Solution_> {
         return scoreDirector.getScoreDefinition();
     }
 
+    /**
+     * @return never null
+     * @see InnerScoreDirector#getConstraintProfileMap()
+     */
+    public Map<String, ConstraintProfile> getConstraintProfileMap() {
+        return scoreDirector.getConstraintProfileMap();
+    }
+
     public Solution_ getWorkingSolution() {
         return scoreDirector.getWorkingSolution();
     }
@@ -16,6 +16,7 @@
 
 package org.optaplanner.core.impl.solver.thread;
 
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 
@@ -63,6 +64,28 @@ public class ThreadUtils {
         }
     }
 
+    /**
+     * Waits until the latch has counted down to zero, even if the current thread is interrupted meanwhile.
+     * The interrupted flag is restored afterwards.
+     * Only for a latch that is guaranteed to count down soon, regardless of interruption.
+     *
+     * @param latch never null
+     */
+    public static void awaitUninterruptibly(CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     // ************************************************************************
     // Private constructor
     // ************************************************************************
@@ -45,7 +45,6 @@ public class AdvancedGroupByConstraintStreamTest extends AbstractConstraintStrea
 
     @TestTemplate
     public void collectedDowngradedAndFiltered() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 7);
         TestdataLavishEntity entity = new TestdataLavishEntity("MyEntity 1", solution.getFirstEntityGroup(),
                 solution.getFirstValue());
@@ -71,7 +70,6 @@ public class AdvancedGroupByConstraintStreamTest extends AbstractConstraintStrea
 
     @TestTemplate
     public void collectedAndFiltered() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 7);
         TestdataLavishEntityGroup entityGroup1 = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup1);
@@ -105,7 +103,6 @@ public class AdvancedGroupByConstraintStreamTest extends AbstractConstraintStrea
 
     @TestTemplate
     public void collectedFilteredRecollected() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 2, 2, 2);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
@@ -129,7 +126,6 @@ public class AdvancedGroupByConstraintStreamTest extends AbstractConstraintStrea
 
     @TestTemplate
     public void uniGroupByRecollected() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 2, 2, 2);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
@@ -157,7 +153,6 @@ public class AdvancedGroupByConstraintStreamTest extends AbstractConstraintStrea
 
     @TestTemplate
     public void biGroupByRecollected() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 3, 2, 5);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
@@ -186,7 +181,6 @@ public class AdvancedGroupByConstraintStreamTest extends AbstractConstraintStrea
 
     @TestTemplate
     public void triGroupByRecollected() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 3, 2, 6);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
@@ -218,7 +212,6 @@ public class AdvancedGroupByConstraintStreamTest extends AbstractConstraintStrea
 
     @TestTemplate
     public void quadGroupByRecollected() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 3, 2, 8);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
@@ -253,7 +246,6 @@ public class AdvancedGroupByConstraintStreamTest extends AbstractConstraintStrea
 
     @TestTemplate
     public void biGroupByRegrouped() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 2, 2, 4);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
@@ -281,7 +273,6 @@ public class AdvancedGroupByConstraintStreamTest extends AbstractConstraintStrea
 
     @TestTemplate
     public void triGroupByRegrouped() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 2, 2, 6);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
@@ -313,7 +304,6 @@ public class AdvancedGroupByConstraintStreamTest extends AbstractConstraintStrea
 
     @TestTemplate
     public void quadGroupByRegrouped() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 2, 2, 8);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
@@ -348,7 +338,6 @@ public class AdvancedGroupByConstraintStreamTest extends AbstractConstraintStrea
 
     @TestTemplate
     public void biGroupByRegroupedDouble() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 2, 2, 4);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
@@ -377,7 +366,6 @@ public class AdvancedGroupByConstraintStreamTest extends AbstractConstraintStrea
 
     @TestTemplate
     public void triGroupByRegroupedDouble() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 2, 2, 6);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
@@ -410,7 +398,6 @@ public class AdvancedGroupByConstraintStreamTest extends AbstractConstraintStrea
 
     @TestTemplate
     public void quadGroupByRegroupedDouble() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 2, 2, 8);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
@@ -446,7 +433,6 @@ public class AdvancedGroupByConstraintStreamTest extends AbstractConstraintStrea
 
     @TestTemplate
     public void existsAfterGroupBy() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 1);
         TestdataLavishEntityGroup entityGroup1 = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup1);
@@ -481,7 +467,6 @@ public class AdvancedGroupByConstraintStreamTest extends AbstractConstraintStrea
 
     @TestTemplate
     public void groupByAfterExists() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 1);
         TestdataLavishEntityGroup entityGroup1 = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup1);
@@ -517,7 +502,6 @@ public class AdvancedGroupByConstraintStreamTest extends AbstractConstraintStrea
 
     @TestTemplate
     public void groupByAfterExistsBi() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 1);
         TestdataLavishEntityGroup entityGroup1 = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup1);
@@ -585,7 +569,6 @@ public class AdvancedGroupByConstraintStreamTest extends AbstractConstraintStrea
 
     @TestTemplate
     public void groupByThenJoinThenGroupBy() { // PLANNER-2270
-        assumeDrools();
         assertThatCode(() -> buildScoreDirector((factory) -> {
             return factory.from(TestdataLavishEntity.class)
                     .groupBy(TestdataLavishEntity::getEntityGroup, TestdataLavishEntity::getValue)
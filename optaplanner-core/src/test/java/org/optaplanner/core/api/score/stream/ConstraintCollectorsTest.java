@@ -25,6 +25,8 @@ import static java.util.Collections.emptySortedSet;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.entry;
 import static org.optaplanner.core.api.score.stream.ConstraintCollectors.countLongBi;
 import static org.optaplanner.core.api.score.stream.ConstraintCollectors.countLongQuad;
 import static org.optaplanner.core.api.score.stream.ConstraintCollectors.countLongTri;
@@ -50,6 +52,10 @@ import java.util.function.Function;
 
 import org.junit.jupiter.api.Test;
 import org.optaplanner.core.api.score.stream.bi.BiConstraintCollector;
+import org.optaplanner.core.api.score.stream.common.Break;
+import org.optaplanner.core.api.score.stream.common.LoadBalance;
+import org.optaplanner.core.api.score.stream.common.Sequence;
+import org.optaplanner.core.api.score.stream.common.SequenceChain;
 import org.optaplanner.core.api.score.stream.quad.QuadConstraintCollector;
 import org.optaplanner.core.api.score.stream.tri.TriConstraintCollector;
 import org.optaplanner.core.api.score.stream.uni.UniConstraintCollector;
@@ -1486,6 +1492,138 @@ public class ConstraintCollectorsTest {
         assertResult(collector, container, null);
     }
 
+    @Test
+    public void minInt() {
+        UniConstraintCollector<Integer, ?, Integer> collector = ConstraintCollectors.minInt(a -> a);
+        Object container = collector.supplier().get();
+        int firstValue = 2;
+        int secondValue = 1;
+        // add first value, which becomes the min
+        Runnable firstRetractor = accumulate(collector, container, firstValue);
+        assertResult(collector, container, 2);
+        // add second value, lesser than the first, becomes the new min
+        Runnable secondRetractor = accumulate(collector, container, secondValue);
+        assertResult(collector, container, 1);
+        // add third value, same as the second, result does not change
+        Runnable thirdRetractor = accumulate(collector, container, secondValue);
+        assertResult(collector, container, 1);
+        // retract one instance of the second value; second value is still the min value, nothing should change
+        secondRetractor.run();
+        assertResult(collector, container, 1);
+        // retract final instance of the second value; first value is now the min value
+        thirdRetractor.run();
+        assertResult(collector, container, 2);
+        // retract last value; there are no values now
+        firstRetractor.run();
+        assertResult(collector, container, null);
+    }
+
+    @Test
+    public void minLong() {
+        UniConstraintCollector<Long, ?, Long> collector = ConstraintCollectors.minLong(a -> a);
+        Object container = collector.supplier().get();
+        long firstValue = 2L;
+        long secondValue = 1L;
+        // add first value, which becomes the min
+        Runnable firstRetractor = accumulate(collector, container, firstValue);
+        assertResult(collector, container, 2L);
+        // add second value, lesser than the first, becomes the new min
+        Runnable secondRetractor = accumulate(collector, container, secondValue);
+        assertResult(collector, container, 1L);
+        // add third value, same as the second, result does not change
+        Runnable thirdRetractor = accumulate(collector, container, secondValue);
+        assertResult(collector, container, 1L);
+        // retract one instance of the second value; second value is still the min value, nothing should change
+        secondRetractor.run();
+        assertResult(collector, container, 1L);
+        // retract final instance of the second value; first value is now the min value
+        thirdRetractor.run();
+        assertResult(collector, container, 2L);
+        // retract last value; there are no values now
+        firstRetractor.run();
+        assertResult(collector, container, null);
+    }
+
+    @Test
+    public void minIntBi() {
+        BiConstraintCollector<Integer, Integer, ?, Integer> collector = ConstraintCollectors.minInt((a, b) -> a + b);
+        Object container = collector.supplier().get();
+        int firstValue = 2;
+        int secondValue = 1;
+        // add first value, which becomes the min
+        Runnable firstRetractor = accumulate(collector, container, firstValue, 0);
+        assertResult(collector, container, 2);
+        // add second value, lesser than the first, becomes the new min
+        Runnable secondRetractor = accumulate(collector, container, secondValue, 0);
+        assertResult(collector, container, 1);
+        // add third value, same as the second, result does not change
+        Runnable thirdRetractor = accumulate(collector, container, secondValue, 0);
+        assertResult(collector, container, 1);
+        // retract one instance of the second value; second value is still the min value, nothing should change
+        secondRetractor.run();
+        assertResult(collector, container, 1);
+        // retract final instance of the second value; first value is now the min value
+        thirdRetractor.run();
+        assertResult(collector, container, 2);
+        // retract last value; there are no values now
+        firstRetractor.run();
+        assertResult(collector, container, null);
+    }
+
+    @Test
+    public void minIntTri() {
+        TriConstraintCollector<Integer, Integer, Integer, ?, Integer> collector =
+                ConstraintCollectors.minInt((a, b, c) -> a + b + c);
+        Object container = collector.supplier().get();
+        int firstValue = 2;
+        int secondValue = 1;
+        // add first value, which becomes the min
+        Runnable firstRetractor = accumulate(collector, container, firstValue, 0, 0);
+        assertResult(collector, container, 2);
+        // add second value, lesser than the first, becomes the new min
+        Runnable secondRetractor = accumulate(collector, container, secondValue, 0, 0);
+        assertResult(collector, container, 1);
+        // add third value, same as the second, result does not change
+        Runnable thirdRetractor = accumulate(collector, container, secondValue, 0, 0);
+        assertResult(collector, container, 1);
+        // retract one instance of the second value; second value is still the min value, nothing should change
+        secondRetractor.run();
+        assertResult(collector, container, 1);
+        // retract final instance of the second value; first value is now the min value
+        thirdRetractor.run();
+        assertResult(collector, container, 2);
+        // retract last value; there are no values now
+        firstRetractor.run();
+        assertResult(collector, container, null);
+    }
+
+    @Test
+    public void minIntQuad() {
+        QuadConstraintCollector<Integer, Integer, Integer, Integer, ?, Integer> collector =
+                ConstraintCollectors.minInt((a, b, c, d) -> a + b + c + d);
+        Object container = collector.supplier().get();
+        int firstValue = 2;
+        int secondValue = 1;
+        // add first value, which becomes the min
+        Runnable firstRetractor = accumulate(collector, container, firstValue, 0, 0, 0);
+        assertResult(collector, container, 2);
+        // add second value, lesser than the first, becomes the new min
+        Runnable secondRetractor = accumulate(collector, container, secondValue, 0, 0, 0);
+        assertResult(collector, container, 1);
+        // add third value, same as the second, result does not change
+        Runnable thirdRetractor = accumulate(collector, container, secondValue, 0, 0, 0);
+        assertResult(collector, container, 1);
+        // retract one instance of the second value; second value is still the min value, nothing should change
+        secondRetractor.run();
+        assertResult(collector, container, 1);
+        // retract final instance of the second value; first value is now the min value
+        thirdRetractor.run();
+        assertResult(collector, container, 2);
+        // retract last value; there are no values now
+        firstRetractor.run();
+        assertResult(collector, container, null);
+    }
+
     // ************************************************************************
     // max
     // ************************************************************************
@@ -1701,6 +1839,138 @@ public class ConstraintCollectorsTest {
         assertResult(collector, container, null);
     }
 
+    @Test
+    public void maxInt() {
+        UniConstraintCollector<Integer, ?, Integer> collector = ConstraintCollectors.maxInt(a -> a);
+        Object container = collector.supplier().get();
+        int firstValue = 1;
+        int secondValue = 2;
+        // add first value, which becomes the max
+        Runnable firstRetractor = accumulate(collector, container, firstValue);
+        assertResult(collector, container, 1);
+        // add second value, greater than the first, becomes the new max
+        Runnable secondRetractor = accumulate(collector, container, secondValue);
+        assertResult(collector, container, 2);
+        // add third value, same as the second, result does not change
+        Runnable thirdRetractor = accumulate(collector, container, secondValue);
+        assertResult(collector, container, 2);
+        // retract one instance of the second value; second value is still the max value, nothing should change
+        secondRetractor.run();
+        assertResult(collector, container, 2);
+        // retract final instance of the second value; first value is now the max value
+        thirdRetractor.run();
+        assertResult(collector, container, 1);
+        // retract last value; there are no values now
+        firstRetractor.run();
+        assertResult(collector, container, null);
+    }
+
+    @Test
+    public void maxLong() {
+        UniConstraintCollector<Long, ?, Long> collector = ConstraintCollectors.maxLong(a -> a);
+        Object container = collector.supplier().get();
+        long firstValue = 1L;
+        long secondValue = 2L;
+        // add first value, which becomes the max
+        Runnable firstRetractor = accumulate(collector, container, firstValue);
+        assertResult(collector, container, 1L);
+        // add second value, greater than the first, becomes the new max
+        Runnable secondRetractor = accumulate(collector, container, secondValue);
+        assertResult(collector, container, 2L);
+        // add third value, same as the second, result does not change
+        Runnable thirdRetractor = accumulate(collector, container, secondValue);
+        assertResult(collector, container, 2L);
+        // retract one instance of the second value; second value is still the max value, nothing should change
+        secondRetractor.run();
+        assertResult(collector, container, 2L);
+        // retract final instance of the second value; first value is now the max value
+        thirdRetractor.run();
+        assertResult(collector, container, 1L);
+        // retract last value; there are no values now
+        firstRetractor.run();
+        assertResult(collector, container, null);
+    }
+
+    @Test
+    public void maxIntBi() {
+        BiConstraintCollector<Integer, Integer, ?, Integer> collector = ConstraintCollectors.maxInt((a, b) -> a + b);
+        Object container = collector.supplier().get();
+        int firstValue = 1;
+        int secondValue = 2;
+        // add first value, which becomes the max
+        Runnable firstRetractor = accumulate(collector, container, firstValue, 0);
+        assertResult(collector, container, 1);
+        // add second value, greater than the first, becomes the new max
+        Runnable secondRetractor = accumulate(collector, container, secondValue, 0);
+        assertResult(collector, container, 2);
+        // add third value, same as the second, result does not change
+        Runnable thirdRetractor = accumulate(collector, container, secondValue, 0);
+        assertResult(collector, container, 2);
+        // retract one instance of the second value; second value is still the max value, nothing should change
+        secondRetractor.run();
+        assertResult(collector, container, 2);
+        // retract final instance of the second value; first value is now the max value
+        thirdRetractor.run();
+        assertResult(collector, container, 1);
+        // retract last value; there are no values now
+        firstRetractor.run();
+        assertResult(collector, container, null);
+    }
+
+    @Test
+    public void maxIntTri() {
+        TriConstraintCollector<Integer, Integer, Integer, ?, Integer> collector =
+                ConstraintCollectors.maxInt((a, b, c) -> a + b + c);
+        Object container = collector.supplier().get();
+        int firstValue = 1;
+        int secondValue = 2;
+        // add first value, which becomes the max
+        Runnable firstRetractor = accumulate(collector, container, firstValue, 0, 0);
+        assertResult(collector, container, 1);
+        // add second value, greater than the first, becomes the new max
+        Runnable secondRetractor = accumulate(collector, container, secondValue, 0, 0);
+        assertResult(collector, container, 2);
+        // add third value, same as the second, result does not change
+        Runnable thirdRetractor = accumulate(collector, container, secondValue, 0, 0);
+        assertResult(collector, container, 2);
+        // retract one instance of the second value; second value is still the max value, nothing should change
+        secondRetractor.run();
+        assertResult(collector, container, 2);
+        // retract final instance of the second value; first value is now the max value
+        thirdRetractor.run();
+        assertResult(collector, container, 1);
+        // retract last value; there are no values now
+        firstRetractor.run();
+        assertResult(collector, container, null);
+    }
+
+    @Test
+    public void maxIntQuad() {
+        QuadConstraintCollector<Integer, Integer, Integer, Integer, ?, Integer> collector =
+                ConstraintCollectors.maxInt((a, b, c, d) -> a + b + c + d);
+        Object container = collector.supplier().get();
+        int firstValue = 1;
+        int secondValue = 2;
+        // add first value, which becomes the max
+        Runnable firstRetractor = accumulate(collector, container, firstValue, 0, 0, 0);
+        assertResult(collector, container, 1);
+        // add second value, greater than the first, becomes the new max
+        Runnable secondRetractor = accumulate(collector, container, secondValue, 0, 0, 0);
+        assertResult(collector, container, 2);
+        // add third value, same as the second, result does not change
+        Runnable thirdRetractor = accumulate(collector, container, secondValue, 0, 0, 0);
+        assertResult(collector, container, 2);
+        // retract one instance of the second value; second value is still the max value, nothing should change
+        secondRetractor.run();
+        assertResult(collector, container, 2);
+        // retract final instance of the second value; first value is now the max value
+        thirdRetractor.run();
+        assertResult(collector, container, 1);
+        // retract last value; there are no values now
+        firstRetractor.run();
+        assertResult(collector, container, null);
+    }
+
     // ************************************************************************
     // toCollection
     // ************************************************************************
@@ -2553,6 +2823,185 @@ public class ConstraintCollectorsTest {
         assertResult(collector, container, emptySortedMap());
     }
 
+    // ************************************************************************
+    // consecutive sequences and sliding windows
+    // ************************************************************************
+
+    @Test
+    public void toConsecutiveSequences() {
+        UniConstraintCollector<Integer, ?, SequenceChain<Integer>> collector =
+                ConstraintCollectors.toConsecutiveSequences(Integer::intValue);
+        Object container = collector.supplier().get();
+        // Add values 1, 2 and 4, which are 2 sequences.
+        Runnable firstRetractor = accumulate(collector, container, 1);
+        Runnable secondRetractor = accumulate(collector, container, 2);
+        Runnable thirdRetractor = accumulate(collector, container, 4);
+        assertSequences(collector, container, asList(1, 2), singletonList(4));
+        // Add value 3, which merges both sequences.
+        Runnable fourthRetractor = accumulate(collector, container, 3);
+        assertSequences(collector, container, asList(1, 2, 3, 4));
+        // Add a second value 3, which is in the same sequence.
+        Runnable fifthRetractor = accumulate(collector, container, 3);
+        assertSequences(collector, container, asList(1, 2, 3, 3, 4));
+        // Retract value 2, which splits the sequence.
+        secondRetractor.run();
+        assertSequences(collector, container, singletonList(1), asList(3, 3, 4));
+        // Retract all values; there are no sequences now.
+        firstRetractor.run();
+        thirdRetractor.run();
+        fourthRetractor.run();
+        fifthRetractor.run();
+        assertSequences(collector, container);
+    }
+
+    @Test
+    public void toConsecutiveSequencesBi() {
+        BiConstraintCollector<Integer, Integer, ?, SequenceChain<Integer>> collector =
+                ConstraintCollectors.toConsecutiveSequences((a, b) -> a + b, Integer::intValue);
+        Object container = collector.supplier().get();
+        // Add values 1 and 3, which are 2 sequences.
+        Runnable firstRetractor = accumulate(collector, container, 1, 0);
+        Runnable secondRetractor = accumulate(collector, container, 2, 1);
+        SequenceChain<Integer> chain = collector.finisher().apply(cast(container));
+        assertThat(chain.getConsecutiveSequences()).extracting(Sequence::getItems)
+                .containsExactly(singletonList(1), singletonList(3));
+        assertThat(chain.getBreaks()).extracting(Break::getLength).containsExactly(1);
+        // Retract value 1, so there is 1 sequence left.
+        firstRetractor.run();
+        assertThat(chain.getFirstSequence().getItems()).containsExactly(3);
+        assertThat(chain.getBreaks()).isEmpty();
+        // Retract value 3; there are no sequences now.
+        secondRetractor.run();
+        assertThat(chain.getFirstSequence()).isNull();
+    }
+
+    @Test
+    public void maxCountInWindow() {
+        UniConstraintCollector<Integer, ?, Integer> collector =
+                ConstraintCollectors.maxCountInWindow(Integer::intValue, 3);
+        Object container = collector.supplier().get();
+        // Add values 1 and 5, which are never in the same window.
+        Runnable firstRetractor = accumulate(collector, container, 1);
+        assertResult(collector, container, 1);
+        Runnable secondRetractor = accumulate(collector, container, 5);
+        assertResult(collector, container, 1);
+        // Add value 3, which is in a window with 1 and in a window with 5, but never with both.
+        Runnable thirdRetractor = accumulate(collector, container, 3);
+        assertResult(collector, container, 2);
+        // Add a second value 3.
+        Runnable fourthRetractor = accumulate(collector, container, 3);
+        assertResult(collector, container, 3);
+        // Retract value 5; values 1 and 3 are still in the same window.
+        secondRetractor.run();
+        assertResult(collector, container, 3);
+        // Retract the other values; there are no values now.
+        firstRetractor.run();
+        assertResult(collector, container, 2);
+        thirdRetractor.run();
+        fourthRetractor.run();
+        assertResult(collector, container, 0);
+    }
+
+    @Test
+    public void maxCountInWindowBi() {
+        BiConstraintCollector<Integer, Integer, ?, Integer> collector =
+                ConstraintCollectors.maxCountInWindow((a, b) -> a + b, 2);
+        Object container = collector.supplier().get();
+        Runnable firstRetractor = accumulate(collector, container, 1, 0);
+        Runnable secondRetractor = accumulate(collector, container, 1, 1);
+        assertResult(collector, container, 2);
+        firstRetractor.run();
+        assertResult(collector, container, 1);
+        secondRetractor.run();
+        assertResult(collector, container, 0);
+    }
+
+    @Test
+    public void maxCountInWindowWithoutWindow() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> ConstraintCollectors.maxCountInWindow(Integer::intValue, 0));
+    }
+
+    // ************************************************************************
+    // load balance
+    // ************************************************************************
+
+    @Test
+    public void loadBalance() {
+        UniConstraintCollector<String, ?, LoadBalance<String>> collector =
+                ConstraintCollectors.loadBalance(s -> s.substring(0, 1), String::length);
+        Object container = collector.supplier().get();
+        // Add a load of 3 and 2 on "A" and a load of 1 on "B".
+        Runnable firstRetractor = accumulate(collector, container, "A12");
+        Runnable secondRetractor = accumulate(collector, container, "A1");
+        Runnable thirdRetractor = accumulate(collector, container, "B");
+        assertLoadBalance(collector, container, 2, 6L, 26L);
+        LoadBalance<String> loadBalance = collector.finisher().apply(cast(container));
+        assertThat(loadBalance.getLoads()).containsOnly(entry("A", 5L), entry("B", 1L));
+        assertThat(loadBalance.getLoad("A")).isEqualTo(5L);
+        assertThat(loadBalance.getLoad("C")).isEqualTo(0L);
+        // (5 - 3)² + (1 - 3)² = 8
+        assertThat(loadBalance.getSquaredDeviation()).isEqualByComparingTo("8");
+        // Retract the load of 2 on "A".
+        secondRetractor.run();
+        assertLoadBalance(collector, container, 2, 4L, 10L);
+        assertThat(loadBalance.getSquaredDeviation()).isEqualByComparingTo("2");
+        // Retract the load on "B"; a single balanced item is always fair.
+        thirdRetractor.run();
+        assertLoadBalance(collector, container, 1, 3L, 9L);
+        assertThat(loadBalance.getSquaredDeviation()).isEqualByComparingTo("0");
+        // Retract the last load.
+        firstRetractor.run();
+        assertLoadBalance(collector, container, 0, 0L, 0L);
+        assertThat(loadBalance.getLoads()).isEmpty();
+        assertThat(loadBalance.getSquaredDeviation()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    public void loadBalanceBi() {
+        BiConstraintCollector<String, Integer, ?, LoadBalance<String>> collector =
+                ConstraintCollectors.loadBalance((a, b) -> a);
+        Object container = collector.supplier().get();
+        // Add 2 elements on "A" and 1 element on "B".
+        Runnable firstRetractor = accumulate(collector, container, "A", 1);
+        Runnable secondRetractor = accumulate(collector, container, "A", 2);
+        Runnable thirdRetractor = accumulate(collector, container, "B", 3);
+        LoadBalance<String> loadBalance = collector.finisher().apply(cast(container));
+        assertThat(loadBalance.getLoads()).containsOnly(entry("A", 2L), entry("B", 1L));
+        assertThat(loadBalance.getSumOfSquares()).isEqualTo(5L);
+        // (2 - 1.5)² + (1 - 1.5)² = 0.5
+        assertThat(loadBalance.getSquaredDeviation()).isEqualByComparingTo("0.5");
+        // Retract an element on "A", which makes it fair.
+        firstRetractor.run();
+        assertThat(loadBalance.getSquaredDeviation()).isEqualByComparingTo("0");
+        secondRetractor.run();
+        thirdRetractor.run();
+        assertThat(loadBalance.getCount()).isEqualTo(0);
+    }
+
+    private static <Container_> void assertLoadBalance(
+            UniConstraintCollector<String, Container_, LoadBalance<String>> collector, Object container,
+            int expectedCount, long expectedSum, long expectedSumOfSquares) {
+        LoadBalance<String> loadBalance = collector.finisher().apply((Container_) container);
+        assertThat(loadBalance.getCount()).isEqualTo(expectedCount);
+        assertThat(loadBalance.getSum()).isEqualTo(expectedSum);
+        assertThat(loadBalance.getSumOfSquares()).isEqualTo(expectedSumOfSquares);
+    }
+
+    @SafeVarargs
+    private static <Container_> void assertSequences(
+            UniConstraintCollector<Integer, Container_, SequenceChain<Integer>> collector, Object container,
+            List<Integer>... expectedSequences) {
+        SequenceChain<Integer> chain = collector.finisher().apply((Container_) container);
+        assertThat(chain.getConsecutiveSequences()).extracting(Sequence::getItems)
+                .containsExactly(expectedSequences);
+        assertThat(chain.getBreaks()).hasSize(Math.max(0, expectedSequences.length - 1));
+    }
+
+    private static <Container_> Container_ cast(Object container) {
+        return (Container_) container;
+    }
+
     private static <A, B, C, D, Container_, Result_> Runnable accumulate(
             QuadConstraintCollector<A, B, C, D, Container_, Result_> collector, Object container, A valueA, B valueB,
             C valueC, D valueD) {
@@ -679,7 +679,6 @@ public class ScoringConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void penalizeQuadUnweighed() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution();
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(
@@ -695,7 +694,6 @@ public class ScoringConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void penalizeQuad() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution();
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(
@@ -711,7 +709,6 @@ public class ScoringConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void penalizeQuadLong() {
-        assumeDrools();
         TestdataSimpleLongScoreSolution solution = TestdataSimpleLongScoreSolution.generateSolution();
 
         InnerScoreDirector<TestdataSimpleLongScoreSolution, SimpleLongScore> scoreDirector = buildScoreDirector(
@@ -728,7 +725,6 @@ public class ScoringConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void penalizeQuadBigDecimal() {
-        assumeDrools();
         TestdataSimpleBigDecimalScoreSolution solution = TestdataSimpleBigDecimalScoreSolution.generateSolution();
 
         InnerScoreDirector<TestdataSimpleBigDecimalScoreSolution, SimpleBigDecimalScore> scoreDirector =
@@ -746,7 +742,6 @@ public class ScoringConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void rewardQuadUnweighed() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution();
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(
@@ -762,7 +757,6 @@ public class ScoringConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void rewardQuad() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution();
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(
@@ -778,7 +772,6 @@ public class ScoringConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void rewardQuadLong() {
-        assumeDrools();
         TestdataSimpleLongScoreSolution solution = TestdataSimpleLongScoreSolution.generateSolution();
 
         InnerScoreDirector<TestdataSimpleLongScoreSolution, SimpleLongScore> scoreDirector = buildScoreDirector(
@@ -795,7 +788,6 @@ public class ScoringConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void rewardQuadBigDecimal() {
-        assumeDrools();
         TestdataSimpleBigDecimalScoreSolution solution = TestdataSimpleBigDecimalScoreSolution.generateSolution();
 
         InnerScoreDirector<TestdataSimpleBigDecimalScoreSolution, SimpleBigDecimalScore> scoreDirector =
@@ -813,7 +805,6 @@ public class ScoringConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void impactPositiveQuadUnweighed() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution();
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(
@@ -829,7 +820,6 @@ public class ScoringConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void impactPositiveQuad() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution();
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(
@@ -845,7 +835,6 @@ public class ScoringConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void impactPositiveQuadLong() {
-        assumeDrools();
         TestdataSimpleLongScoreSolution solution = TestdataSimpleLongScoreSolution.generateSolution();
 
         InnerScoreDirector<TestdataSimpleLongScoreSolution, SimpleLongScore> scoreDirector = buildScoreDirector(
@@ -862,7 +851,6 @@ public class ScoringConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void impactPositiveQuadBigDecimal() {
-        assumeDrools();
         TestdataSimpleBigDecimalScoreSolution solution = TestdataSimpleBigDecimalScoreSolution.generateSolution();
 
         InnerScoreDirector<TestdataSimpleBigDecimalScoreSolution, SimpleBigDecimalScore> scoreDirector =
@@ -880,7 +868,6 @@ public class ScoringConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void impactNegativeQuad() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution();
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(
@@ -896,7 +883,6 @@ public class ScoringConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void impactNegativeQuadLong() {
-        assumeDrools();
         TestdataSimpleLongScoreSolution solution = TestdataSimpleLongScoreSolution.generateSolution();
 
         InnerScoreDirector<TestdataSimpleLongScoreSolution, SimpleLongScore> scoreDirector = buildScoreDirector(
@@ -913,7 +899,6 @@ public class ScoringConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void impactNegativeQuadBigDecimal() {
-        assumeDrools();
         TestdataSimpleBigDecimalScoreSolution solution = TestdataSimpleBigDecimalScoreSolution.generateSolution();
 
         InnerScoreDirector<TestdataSimpleBigDecimalScoreSolution, SimpleBigDecimalScore> scoreDirector =
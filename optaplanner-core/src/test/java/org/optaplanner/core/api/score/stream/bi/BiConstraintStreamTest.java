@@ -29,6 +29,7 @@ import static org.optaplanner.core.api.score.stream.Joiners.filtering;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -410,6 +411,63 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
         assertScore(scoreDirector);
     }
 
+    @TestTemplate
+    public void join_updateKeepingAndChangingIndex() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 0, 1, 0);
+        TestdataLavishValue value1 = new TestdataLavishValue("MyValue 1", solution.getFirstValueGroup());
+        solution.getValueList().add(value1);
+        TestdataLavishEntity entity1 = new TestdataLavishEntity("MyEntity 1", solution.getFirstEntityGroup(), value1);
+        entity1.setIntegerProperty(7);
+        solution.getEntityList().add(entity1);
+        TestdataLavishExtra extra1 = new TestdataLavishExtra("MyExtra 1");
+        extra1.setIntegerProperty(7);
+        solution.getExtraList().add(extra1);
+        TestdataLavishExtra extra2 = new TestdataLavishExtra("MyExtra 2");
+        extra2.setIntegerProperty(8);
+        solution.getExtraList().add(extra2);
+
+        InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
+            return factory.from(TestdataLavishEntity.class)
+                    .join(TestdataLavishValue.class, equal(TestdataLavishEntity::getValue, Function.identity()))
+                    .join(TestdataLavishExtra.class,
+                            equal((entity, value) -> entity.getIntegerProperty(), TestdataLavishExtra::getIntegerProperty))
+                    .penalize(TEST_CONSTRAINT_NAME, SimpleScore.ONE,
+                            (entity, value, extra) -> entity.getLongProperty().intValue());
+        });
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        assertScore(scoreDirector,
+                assertMatchWithScore(-1, entity1, value1, extra1));
+
+        // Incremental: the integerProperty is unchanged, so the tuple keeps its index entry
+        scoreDirector.beforeProblemPropertyChanged(entity1);
+        entity1.setLongProperty(3L);
+        scoreDirector.afterProblemPropertyChanged(entity1);
+        assertScore(scoreDirector,
+                assertMatchWithScore(-3, entity1, value1, extra1));
+
+        // Incremental: the integerProperty changes, so the tuple moves to another index entry
+        scoreDirector.beforeProblemPropertyChanged(entity1);
+        entity1.setIntegerProperty(8);
+        scoreDirector.afterProblemPropertyChanged(entity1);
+        assertScore(scoreDirector,
+                assertMatchWithScore(-3, entity1, value1, extra2));
+
+        // Incremental: the left side keeps its index entry and the right side changes it in the same step
+        scoreDirector.beforeProblemPropertyChanged(entity1);
+        entity1.setLongProperty(2L);
+        scoreDirector.afterProblemPropertyChanged(entity1);
+        scoreDirector.beforeProblemPropertyChanged(extra1);
+        extra1.setIntegerProperty(8);
+        scoreDirector.afterProblemPropertyChanged(extra1);
+        scoreDirector.beforeProblemPropertyChanged(extra2);
+        extra2.setIntegerProperty(7);
+        scoreDirector.afterProblemPropertyChanged(extra2);
+        assertScore(scoreDirector,
+                assertMatchWithScore(-2, entity1, value1, extra1));
+    }
+
     // ************************************************************************
     // If (not) exists
     // ************************************************************************
@@ -417,7 +475,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void ifExists_unknownClass() {
-        assumeDrools();
         assertThatThrownBy(() -> buildScoreDirector((factory) -> {
             return factory.fromUniquePair(TestdataLavishEntity.class)
                     .ifExists(Integer.class)
@@ -430,7 +487,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void ifExists_0Joiner0Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 1);
         TestdataLavishValueGroup valueGroup = new TestdataLavishValueGroup("MyValueGroup");
         solution.getValueGroupList().add(valueGroup);
@@ -457,7 +513,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void ifExists_0Join1Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -491,7 +546,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void ifExists_1Join0Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -527,7 +581,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void ifExists_1Join1Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -561,7 +614,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void ifNotExists_unknownClass() {
-        assumeDrools();
         assertThatThrownBy(() -> buildScoreDirector((factory) -> {
             return factory.fromUniquePair(TestdataLavishEntity.class)
                     .ifNotExists(Integer.class)
@@ -574,7 +626,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void ifNotExists_0Joiner0Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 1);
         TestdataLavishValueGroup valueGroup = new TestdataLavishValueGroup("MyValueGroup");
         solution.getValueGroupList().add(valueGroup);
@@ -601,7 +652,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void ifNotExists_0Join1Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -639,7 +689,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void ifNotExists_1Join0Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -671,7 +720,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void ifNotExists_1Join1Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -713,7 +761,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void groupBy_1Mapping0Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 7);
         TestdataLavishEntityGroup entityGroup1 = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup1);
@@ -776,7 +823,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void groupBy_1Mapping2Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
@@ -808,7 +854,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void groupBy_1Mapping3Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
@@ -846,7 +891,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void groupBy_0Mapping1Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 2, 3);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
@@ -870,7 +914,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void groupBy_0Mapping2Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
             return factory.fromUniquePair(TestdataLavishEntity.class)
@@ -895,7 +938,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void groupBy_0Mapping3Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
             return factory.fromUniquePair(TestdataLavishEntity.class)
@@ -928,7 +970,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void groupBy_0Mapping4Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
             return factory.fromUniquePair(TestdataLavishEntity.class)
@@ -962,7 +1003,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void groupBy_2Mapping0Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 3, 3);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
             return factory.fromUniquePair(TestdataLavishEntity.class)
@@ -993,7 +1033,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void groupBy_2Mapping1Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 4);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
@@ -1027,7 +1066,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void groupBy_2Mapping2Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 4);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
@@ -1059,6 +1097,104 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
                 assertMatchWithScore(-2, group2, group1, 1, 1));
     }
 
+    // ************************************************************************
+    // Map, flatten and distinct
+    // ************************************************************************
+
+    @TestTemplate
+    public void map() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 2, 1, 3);
+        TestdataLavishValueGroup valueGroup1 = solution.getValueGroupList().get(0);
+        TestdataLavishValueGroup valueGroup2 = solution.getValueGroupList().get(1);
+        TestdataLavishEntity entity2 = solution.getEntityList().get(1);
+
+        InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
+            return factory.from(TestdataLavishEntity.class)
+                    .join(TestdataLavishValue.class, equal(TestdataLavishEntity::getValue, Function.identity()))
+                    .map((entity, value) -> value.getValueGroup())
+                    .penalize(TEST_CONSTRAINT_NAME, SimpleScore.ONE);
+        });
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        assertScore(scoreDirector,
+                assertMatch(valueGroup1),
+                assertMatch(valueGroup2),
+                assertMatch(valueGroup1));
+
+        // Incrementally update
+        scoreDirector.beforeVariableChanged(entity2, "value");
+        entity2.setValue(solution.getFirstValue());
+        scoreDirector.afterVariableChanged(entity2, "value");
+        assertScore(scoreDirector,
+                assertMatch(valueGroup1),
+                assertMatch(valueGroup1),
+                assertMatch(valueGroup1));
+    }
+
+    @TestTemplate
+    public void flattenLast() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 2, 1, 3);
+        TestdataLavishValue value1 = solution.getValueList().get(0);
+        TestdataLavishValue value2 = solution.getValueList().get(1);
+        TestdataLavishEntityGroup entityGroup = solution.getFirstEntityGroup();
+        TestdataLavishEntity entity1 = solution.getEntityList().get(0);
+        entity1.setIntegerProperty(2);
+
+        InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
+            return factory.from(TestdataLavishValue.class)
+                    .join(TestdataLavishEntity.class, equal(Function.identity(), TestdataLavishEntity::getValue))
+                    .flattenLast(entity -> Collections.nCopies(entity.getIntegerProperty(), entity.getEntityGroup()))
+                    .penalize(TEST_CONSTRAINT_NAME, SimpleScore.ONE);
+        });
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        assertScore(scoreDirector,
+                assertMatch(value1, entityGroup),
+                assertMatch(value1, entityGroup),
+                assertMatch(value2, entityGroup),
+                assertMatch(value1, entityGroup));
+
+        // Incrementally update
+        scoreDirector.beforeProblemPropertyChanged(entity1);
+        entity1.setIntegerProperty(0);
+        scoreDirector.afterProblemPropertyChanged(entity1);
+        assertScore(scoreDirector,
+                assertMatch(value2, entityGroup),
+                assertMatch(value1, entityGroup));
+    }
+
+    @TestTemplate
+    public void distinct() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 2, 1, 3);
+        TestdataLavishValue value1 = solution.getValueList().get(0);
+        TestdataLavishValue value2 = solution.getValueList().get(1);
+        TestdataLavishEntityGroup entityGroup = solution.getFirstEntityGroup();
+        TestdataLavishEntity entity2 = solution.getEntityList().get(1);
+
+        InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
+            return factory.from(TestdataLavishValue.class)
+                    .join(TestdataLavishEntity.class, equal(Function.identity(), TestdataLavishEntity::getValue))
+                    .flattenLast(entity -> Collections.singletonList(entity.getEntityGroup()))
+                    .distinct()
+                    .penalize(TEST_CONSTRAINT_NAME, SimpleScore.ONE);
+        });
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        assertScore(scoreDirector,
+                assertMatch(value1, entityGroup),
+                assertMatch(value2, entityGroup));
+
+        // Incrementally update
+        scoreDirector.beforeVariableChanged(entity2, "value");
+        entity2.setValue(value1);
+        scoreDirector.afterVariableChanged(entity2, "value");
+        assertScore(scoreDirector,
+                assertMatch(value1, entityGroup));
+    }
+
     // ************************************************************************
     // Penalize/reward
     // ************************************************************************
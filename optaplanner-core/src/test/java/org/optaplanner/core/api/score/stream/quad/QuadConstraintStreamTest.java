@@ -68,7 +68,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void filter_entity() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 0, 1, 0);
         TestdataLavishValue value1 = new TestdataLavishValue("MyValue 1", solution.getFirstValueGroup());
         solution.getValueList().add(value1);
@@ -121,7 +120,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void filter_consecutive() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(5, 5);
         TestdataLavishEntity entity1 = solution.getEntityList().get(0);
         TestdataLavishEntity entity2 = solution.getEntityList().get(1);
@@ -158,7 +156,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void ifExists_unknownClass() {
-        assumeDrools();
         assertThatThrownBy(() -> buildScoreDirector((factory) -> {
             return factory.from(TestdataLavishEntity.class)
                     .join(TestdataLavishEntityGroup.class, equal(TestdataLavishEntity::getEntityGroup, identity()))
@@ -176,7 +173,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void ifExists_0Joiner0Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 1);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
@@ -206,7 +202,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void ifExists_0Join1Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 2, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -244,7 +239,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void ifExists_1Join0Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -282,7 +276,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void ifExists_1Join1Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -315,10 +308,61 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
         assertScore(scoreDirector);
     }
 
+    @TestTemplate
+    public void ifExists_updateKeepingAndChangingIndex() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 0, 1, 0);
+        TestdataLavishValue value1 = new TestdataLavishValue("MyValue 1", solution.getFirstValueGroup());
+        solution.getValueList().add(value1);
+        TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
+        TestdataLavishEntity entity1 = new TestdataLavishEntity("MyEntity 1", solution.getFirstEntityGroup(), value1);
+        solution.getEntityList().add(entity1);
+        TestdataLavishEntity entity2 = new TestdataLavishEntity("MyEntity 2", solution.getFirstEntityGroup(), value1);
+        solution.getEntityList().add(entity2);
+        TestdataLavishExtra extra1 = new TestdataLavishExtra("MyExtra 1");
+        solution.getExtraList().add(extra1);
+
+        InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
+            return factory.fromUniquePair(TestdataLavishEntity.class)
+                    .join(TestdataLavishValue.class, equal((e1, e2) -> e1.getValue(), identity()))
+                    .join(TestdataLavishExtra.class)
+                    .ifExists(TestdataLavishEntityGroup.class,
+                            equal((e1, e2, value, extra) -> e2.getEntityGroup(), identity()))
+                    .penalize(TEST_CONSTRAINT_NAME, SimpleScore.ONE,
+                            (e1, e2, value, extra) -> e2.getLongProperty().intValue());
+        });
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        assertScore(scoreDirector,
+                assertMatchWithScore(-1, entity1, entity2, value1, extra1));
+
+        // Incremental: the entityGroup is unchanged, so the tuple keeps its index entry
+        scoreDirector.beforeProblemPropertyChanged(entity2);
+        entity2.setLongProperty(3L);
+        scoreDirector.afterProblemPropertyChanged(entity2);
+        assertScore(scoreDirector,
+                assertMatchWithScore(-3, entity1, entity2, value1, extra1));
+
+        // Incremental: the entityGroup changes to one that is not a fact, so the tuple moves to another index entry
+        scoreDirector.beforeProblemPropertyChanged(entity2);
+        entity2.setEntityGroup(entityGroup);
+        scoreDirector.afterProblemPropertyChanged(entity2);
+        assertScore(scoreDirector);
+
+        // Incremental: the left side keeps its index entry and the right side gets a matching fact in the same step
+        scoreDirector.beforeProblemPropertyChanged(entity2);
+        entity2.setLongProperty(2L);
+        scoreDirector.afterProblemPropertyChanged(entity2);
+        scoreDirector.beforeProblemFactAdded(entityGroup);
+        solution.getEntityGroupList().add(entityGroup);
+        scoreDirector.afterProblemFactAdded(entityGroup);
+        assertScore(scoreDirector,
+                assertMatchWithScore(-2, entity1, entity2, value1, extra1));
+    }
+
     @Override
     @TestTemplate
     public void ifNotExists_unknownClass() {
-        assumeDrools();
         assertThatThrownBy(() -> buildScoreDirector((factory) -> {
             return factory.from(TestdataLavishEntity.class)
                     .join(TestdataLavishEntityGroup.class, equal(TestdataLavishEntity::getEntityGroup, identity()))
@@ -336,7 +380,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void ifNotExists_0Joiner0Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 1);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
@@ -366,7 +409,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void ifNotExists_0Join1Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 2, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -404,7 +446,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void ifNotExists_1Join0Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -438,7 +479,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void ifNotExists_1Join1Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -479,7 +519,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void groupBy_0Mapping1Collector() {
-        assumeDrools();
         /*
          * E1 has G1 and V1
          * E2 has G2 and V2
@@ -514,7 +553,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void groupBy_0Mapping2Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
             return factory.fromUniquePair(TestdataLavishEntity.class)
@@ -541,7 +579,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void groupBy_0Mapping3Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
             return factory.fromUniquePair(TestdataLavishEntity.class)
@@ -578,7 +615,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void groupBy_0Mapping4Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
             return factory.fromUniquePair(TestdataLavishEntity.class)
@@ -616,7 +652,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void groupBy_1Mapping0Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 2, 2, 3);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
@@ -641,7 +676,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void groupBy_1Mapping1Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 2, 2, 3);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
@@ -676,7 +710,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void groupBy_1Mapping2Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
@@ -710,7 +743,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void groupBy_1Mapping3Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
@@ -752,7 +784,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void groupBy_2Mapping0Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 2, 2, 3);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
             return factory.from(TestdataLavishEntity.class)
@@ -788,7 +819,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void groupBy_2Mapping1Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 2, 2, 3);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
@@ -826,7 +856,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void groupBy_2Mapping2Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 2, 2, 3);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
@@ -868,7 +897,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void penalize_Int() {
-        assumeDrools();
         TestdataSolution solution = new TestdataSolution();
         TestdataValue v1 = new TestdataValue("v1");
         solution.setValueList(Arrays.asList(v1));
@@ -898,7 +926,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void penalize_Long() {
-        assumeDrools();
         TestdataSimpleLongScoreSolution solution = new TestdataSimpleLongScoreSolution();
         TestdataValue v1 = new TestdataValue("v1");
         solution.setValueList(Arrays.asList(v1));
@@ -930,7 +957,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void penalize_BigDecimal() {
-        assumeDrools();
         TestdataSimpleBigDecimalScoreSolution solution = new TestdataSimpleBigDecimalScoreSolution();
         TestdataValue v1 = new TestdataValue("v1");
         solution.setValueList(Arrays.asList(v1));
@@ -962,7 +988,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void penalize_negative() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 2);
 
         String constraintName = "myConstraint";
@@ -985,7 +1010,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void reward_Int() {
-        assumeDrools();
         TestdataSolution solution = new TestdataSolution();
         TestdataValue v1 = new TestdataValue("v1");
         solution.setValueList(Arrays.asList(v1));
@@ -1015,7 +1039,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void reward_Long() {
-        assumeDrools();
         TestdataSimpleLongScoreSolution solution = new TestdataSimpleLongScoreSolution();
         TestdataValue v1 = new TestdataValue("v1");
         solution.setValueList(Arrays.asList(v1));
@@ -1046,7 +1069,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void reward_BigDecimal() {
-        assumeDrools();
         TestdataSimpleBigDecimalScoreSolution solution = new TestdataSimpleBigDecimalScoreSolution();
         TestdataValue v1 = new TestdataValue("v1");
         solution.setValueList(Arrays.asList(v1));
@@ -1078,7 +1100,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void reward_negative() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 2);
 
         String constraintName = "myConstraint";
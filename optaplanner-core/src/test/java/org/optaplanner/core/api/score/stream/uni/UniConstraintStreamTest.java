@@ -21,32 +21,48 @@ import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.optaplanner.core.api.score.stream.ConstraintCollectors.count;
 import static org.optaplanner.core.api.score.stream.ConstraintCollectors.countDistinct;
+import static org.optaplanner.core.api.score.stream.ConstraintCollectors.loadBalance;
 import static org.optaplanner.core.api.score.stream.ConstraintCollectors.max;
 import static org.optaplanner.core.api.score.stream.ConstraintCollectors.min;
+import static org.optaplanner.core.api.score.stream.ConstraintCollectors.toConsecutiveSequences;
 import static org.optaplanner.core.api.score.stream.ConstraintCollectors.toSet;
 import static org.optaplanner.core.api.score.stream.Joiners.equal;
 import static org.optaplanner.core.api.score.stream.Joiners.filtering;
+import static org.optaplanner.core.api.score.stream.Joiners.greaterThan;
+import static org.optaplanner.core.api.score.stream.Joiners.lessThan;
+import static org.optaplanner.core.api.score.stream.Joiners.overlapping;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.TestTemplate;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
 import org.optaplanner.core.api.score.buildin.simplebigdecimal.SimpleBigDecimalScore;
 import org.optaplanner.core.api.score.buildin.simplelong.SimpleLongScore;
+import org.optaplanner.core.api.score.constraint.ConstraintMatch;
 import org.optaplanner.core.api.score.stream.AbstractConstraintStreamTest;
 import org.optaplanner.core.api.score.stream.Constraint;
 import org.optaplanner.core.api.score.stream.ConstraintProvider;
 import org.optaplanner.core.api.score.stream.ConstraintStreamFunctionalTest;
 import org.optaplanner.core.api.score.stream.ConstraintStreamImplType;
+import org.optaplanner.core.api.score.stream.common.LoadBalance;
+import org.optaplanner.core.api.score.stream.common.Sequence;
+import org.optaplanner.core.api.score.stream.common.SequenceChain;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.score.director.stream.ConstraintStreamScoreDirectorFactory;
+import org.optaplanner.core.impl.score.stream.bi.SingleBiJoiner;
+import org.optaplanner.core.impl.score.stream.common.JoinerType;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 import org.optaplanner.core.impl.testdata.domain.TestdataValue;
@@ -311,6 +327,442 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
                 assertMatch(entity3, entity3));
     }
 
+    @TestTemplate
+    public void join_equalAndRange() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
+        TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
+        solution.getEntityGroupList().add(entityGroup);
+        TestdataLavishEntity entity1 = new TestdataLavishEntity("MyEntity 1", entityGroup, solution.getFirstValue());
+        entity1.setIntegerProperty(1);
+        solution.getEntityList().add(entity1);
+        TestdataLavishEntity entity2 = new TestdataLavishEntity("MyEntity 2", entityGroup, solution.getFirstValue());
+        entity2.setIntegerProperty(2);
+        solution.getEntityList().add(entity2);
+        TestdataLavishEntity entity3 = new TestdataLavishEntity("MyEntity 3", entityGroup, solution.getFirstValue());
+        entity3.setIntegerProperty(3);
+        solution.getEntityList().add(entity3);
+
+        InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
+            return factory.from(TestdataLavishEntity.class)
+                    .join(TestdataLavishEntity.class,
+                            equal(TestdataLavishEntity::getEntityGroup),
+                            lessThan(TestdataLavishEntity::getIntegerProperty),
+                            greaterThan(entity -> entity.getIntegerProperty() + 2,
+                                    TestdataLavishEntity::getIntegerProperty))
+                    .penalize(TEST_CONSTRAINT_NAME, SimpleScore.ONE);
+        });
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        assertScore(scoreDirector,
+                assertMatch(entity1, entity2),
+                assertMatch(entity2, entity3));
+
+        // Incremental
+        scoreDirector.beforeProblemPropertyChanged(entity3);
+        entity3.setIntegerProperty(1);
+        scoreDirector.afterProblemPropertyChanged(entity3);
+        assertScore(scoreDirector,
+                assertMatch(entity1, entity2),
+                assertMatch(entity3, entity2));
+    }
+
+    @TestTemplate
+    public void join_equalAndOverlapping() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
+        TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
+        solution.getEntityGroupList().add(entityGroup);
+        TestdataLavishEntity entity1 = new TestdataLavishEntity("MyEntity 1", entityGroup, solution.getFirstValue());
+        entity1.setIntegerProperty(0);
+        entity1.setLongProperty(5L);
+        solution.getEntityList().add(entity1);
+        TestdataLavishEntity entity2 = new TestdataLavishEntity("MyEntity 2", entityGroup, solution.getFirstValue());
+        entity2.setIntegerProperty(3);
+        entity2.setLongProperty(4L);
+        solution.getEntityList().add(entity2);
+        TestdataLavishEntity entity3 = new TestdataLavishEntity("MyEntity 3", entityGroup, solution.getFirstValue());
+        entity3.setIntegerProperty(5);
+        entity3.setLongProperty(8L);
+        solution.getEntityList().add(entity3);
+
+        InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
+            return factory.from(TestdataLavishEntity.class)
+                    .join(TestdataLavishEntity.class,
+                            equal(TestdataLavishEntity::getEntityGroup),
+                            overlapping(entity -> entity.getIntegerProperty().longValue(),
+                                    TestdataLavishEntity::getLongProperty))
+                    .penalize(TEST_CONSTRAINT_NAME, SimpleScore.ONE);
+        });
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        assertScore(scoreDirector,
+                assertMatch(entity1, entity1),
+                assertMatch(entity1, entity2),
+                assertMatch(entity2, entity1),
+                assertMatch(entity2, entity2),
+                assertMatch(entity3, entity3));
+
+        // Incremental
+        scoreDirector.beforeProblemPropertyChanged(entity2);
+        entity2.setLongProperty(8L);
+        scoreDirector.afterProblemPropertyChanged(entity2);
+        assertScore(scoreDirector,
+                assertMatch(entity1, entity1),
+                assertMatch(entity1, entity2),
+                assertMatch(entity2, entity1),
+                assertMatch(entity2, entity2),
+                assertMatch(entity2, entity3),
+                assertMatch(entity3, entity2),
+                assertMatch(entity3, entity3));
+    }
+
+    @TestTemplate
+    public void join_intersecting() {
+        assumeBavet();
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
+        TestdataLavishEntity entity1 = new TestdataLavishEntity("MyEntity 1", solution.getFirstEntityGroup(),
+                solution.getFirstValue());
+        entity1.setStringProperty("a,b");
+        solution.getEntityList().add(entity1);
+        TestdataLavishEntity entity2 = new TestdataLavishEntity("MyEntity 2", solution.getFirstEntityGroup(),
+                solution.getFirstValue());
+        entity2.setStringProperty("b,c");
+        solution.getEntityList().add(entity2);
+        TestdataLavishEntity entity3 = new TestdataLavishEntity("MyEntity 3", solution.getFirstEntityGroup(),
+                solution.getFirstValue());
+        entity3.setStringProperty("d");
+        solution.getEntityList().add(entity3);
+        Function<TestdataLavishEntity, List<String>> tagsMapping =
+                entity -> Arrays.asList(entity.getStringProperty().split(","));
+
+        InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
+            return factory.from(TestdataLavishEntity.class)
+                    .join(TestdataLavishEntity.class,
+                            new SingleBiJoiner<>(tagsMapping, JoinerType.INTERSECTING, tagsMapping))
+                    .penalize(TEST_CONSTRAINT_NAME, SimpleScore.ONE);
+        });
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        assertScore(scoreDirector,
+                assertMatch(solution.getFirstEntity(), solution.getFirstEntity()),
+                assertMatch(entity1, entity1),
+                assertMatch(entity1, entity2),
+                assertMatch(entity2, entity1),
+                assertMatch(entity2, entity2),
+                assertMatch(entity3, entity3));
+
+        // Incremental
+        scoreDirector.beforeProblemPropertyChanged(entity3);
+        entity3.setStringProperty("c,d");
+        scoreDirector.afterProblemPropertyChanged(entity3);
+        assertScore(scoreDirector,
+                assertMatch(solution.getFirstEntity(), solution.getFirstEntity()),
+                assertMatch(entity1, entity1),
+                assertMatch(entity1, entity2),
+                assertMatch(entity2, entity1),
+                assertMatch(entity2, entity2),
+                assertMatch(entity2, entity3),
+                assertMatch(entity3, entity2),
+                assertMatch(entity3, entity3));
+    }
+
+    @TestTemplate
+    public void join_disjoint() {
+        assumeBavet();
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
+        TestdataLavishEntity entity1 = new TestdataLavishEntity("MyEntity 1", solution.getFirstEntityGroup(),
+                solution.getFirstValue());
+        entity1.setStringProperty("a,b");
+        solution.getEntityList().add(entity1);
+        TestdataLavishEntity entity2 = new TestdataLavishEntity("MyEntity 2", solution.getFirstEntityGroup(),
+                solution.getFirstValue());
+        entity2.setStringProperty("b,c");
+        solution.getEntityList().add(entity2);
+        Function<TestdataLavishEntity, List<String>> tagsMapping =
+                entity -> Arrays.asList(entity.getStringProperty().split(","));
+
+        InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
+            return factory.from(TestdataLavishEntity.class)
+                    .join(TestdataLavishEntity.class,
+                            new SingleBiJoiner<>(tagsMapping, JoinerType.DISJOINT, tagsMapping))
+                    .penalize(TEST_CONSTRAINT_NAME, SimpleScore.ONE);
+        });
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        assertScore(scoreDirector,
+                assertMatch(solution.getFirstEntity(), entity1),
+                assertMatch(solution.getFirstEntity(), entity2),
+                assertMatch(entity1, solution.getFirstEntity()),
+                assertMatch(entity2, solution.getFirstEntity()));
+
+        // Incremental
+        scoreDirector.beforeProblemPropertyChanged(entity2);
+        entity2.setStringProperty("c");
+        scoreDirector.afterProblemPropertyChanged(entity2);
+        assertScore(scoreDirector,
+                assertMatch(solution.getFirstEntity(), entity1),
+                assertMatch(solution.getFirstEntity(), entity2),
+                assertMatch(entity1, solution.getFirstEntity()),
+                assertMatch(entity1, entity2),
+                assertMatch(entity2, solution.getFirstEntity()),
+                assertMatch(entity2, entity1));
+    }
+
+    @TestTemplate
+    public void join_updateKeepingIndex() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 0);
+        TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
+        solution.getEntityGroupList().add(entityGroup);
+        TestdataLavishEntity entity1 = new TestdataLavishEntity("MyEntity 1", entityGroup, solution.getFirstValue());
+        solution.getEntityList().add(entity1);
+        TestdataLavishEntity entity2 = new TestdataLavishEntity("MyEntity 2", entityGroup, solution.getFirstValue());
+        entity2.setIntegerProperty(2);
+        solution.getEntityList().add(entity2);
+        TestdataLavishEntity entity3 = new TestdataLavishEntity("MyEntity 3", solution.getFirstEntityGroup(),
+                solution.getFirstValue());
+        entity3.setIntegerProperty(3);
+        solution.getEntityList().add(entity3);
+
+        InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
+            return factory.from(TestdataLavishEntity.class)
+                    .join(TestdataLavishEntity.class, equal(TestdataLavishEntity::getEntityGroup))
+                    .penalize(TEST_CONSTRAINT_NAME, SimpleScore.ONE,
+                            (a, b) -> a.getIntegerProperty() + b.getIntegerProperty());
+        });
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        assertScore(scoreDirector,
+                assertMatchWithScore(-2, entity1, entity1),
+                assertMatchWithScore(-3, entity1, entity2),
+                assertMatchWithScore(-3, entity2, entity1),
+                assertMatchWithScore(-4, entity2, entity2),
+                assertMatchWithScore(-6, entity3, entity3));
+
+        // Incremental: the entityGroup is unchanged, so the tuples keep their index entry
+        scoreDirector.beforeProblemPropertyChanged(entity1);
+        entity1.setIntegerProperty(5);
+        scoreDirector.afterProblemPropertyChanged(entity1);
+        assertScore(scoreDirector,
+                assertMatchWithScore(-10, entity1, entity1),
+                assertMatchWithScore(-7, entity1, entity2),
+                assertMatchWithScore(-7, entity2, entity1),
+                assertMatchWithScore(-4, entity2, entity2),
+                assertMatchWithScore(-6, entity3, entity3));
+    }
+
+    @TestTemplate
+    public void join_updateChangingIndex() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 0);
+        TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
+        solution.getEntityGroupList().add(entityGroup);
+        TestdataLavishEntity entity1 = new TestdataLavishEntity("MyEntity 1", entityGroup, solution.getFirstValue());
+        solution.getEntityList().add(entity1);
+        TestdataLavishEntity entity2 = new TestdataLavishEntity("MyEntity 2", entityGroup, solution.getFirstValue());
+        solution.getEntityList().add(entity2);
+        TestdataLavishEntity entity3 = new TestdataLavishEntity("MyEntity 3", solution.getFirstEntityGroup(),
+                solution.getFirstValue());
+        solution.getEntityList().add(entity3);
+
+        InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
+            return factory.from(TestdataLavishEntity.class)
+                    .join(TestdataLavishEntity.class, equal(TestdataLavishEntity::getEntityGroup))
+                    .penalize(TEST_CONSTRAINT_NAME, SimpleScore.ONE);
+        });
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        assertScore(scoreDirector,
+                assertMatch(entity1, entity1),
+                assertMatch(entity1, entity2),
+                assertMatch(entity2, entity1),
+                assertMatch(entity2, entity2),
+                assertMatch(entity3, entity3));
+
+        // Incremental: the entityGroup changes, so the tuples move to another index entry
+        scoreDirector.beforeProblemPropertyChanged(entity1);
+        entity1.setEntityGroup(solution.getFirstEntityGroup());
+        scoreDirector.afterProblemPropertyChanged(entity1);
+        assertScore(scoreDirector,
+                assertMatch(entity1, entity1),
+                assertMatch(entity1, entity3),
+                assertMatch(entity2, entity2),
+                assertMatch(entity3, entity1),
+                assertMatch(entity3, entity3));
+    }
+
+    @TestTemplate
+    public void join_updateFlippingFilter() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 0);
+        TestdataLavishEntity entity1 = new TestdataLavishEntity("MyEntity 1", solution.getFirstEntityGroup(),
+                solution.getFirstValue());
+        solution.getEntityList().add(entity1);
+        TestdataLavishEntity entity2 = new TestdataLavishEntity("MyEntity 2", solution.getFirstEntityGroup(),
+                solution.getFirstValue());
+        entity2.setIntegerProperty(2);
+        solution.getEntityList().add(entity2);
+
+        InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
+            return factory.from(TestdataLavishEntity.class)
+                    .filter(entity -> entity.getIntegerProperty() > 0)
+                    .join(TestdataLavishEntity.class, equal(TestdataLavishEntity::getEntityGroup))
+                    .filter((a, b) -> b.getIntegerProperty() < 10)
+                    .penalize(TEST_CONSTRAINT_NAME, SimpleScore.ONE);
+        });
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        assertScore(scoreDirector,
+                assertMatch(entity1, entity1),
+                assertMatch(entity1, entity2),
+                assertMatch(entity2, entity1),
+                assertMatch(entity2, entity2));
+
+        // Incremental: the uni filter no longer accepts entity2
+        scoreDirector.beforeProblemPropertyChanged(entity2);
+        entity2.setIntegerProperty(0);
+        scoreDirector.afterProblemPropertyChanged(entity2);
+        assertScore(scoreDirector,
+                assertMatch(entity1, entity1),
+                assertMatch(entity1, entity2));
+
+        // Incremental: the uni filter accepts entity2 again, but the bi filter no longer does
+        scoreDirector.beforeProblemPropertyChanged(entity2);
+        entity2.setIntegerProperty(20);
+        scoreDirector.afterProblemPropertyChanged(entity2);
+        assertScore(scoreDirector,
+                assertMatch(entity1, entity1),
+                assertMatch(entity2, entity1));
+
+        // Incremental: both filters accept entity2 again
+        scoreDirector.beforeProblemPropertyChanged(entity2);
+        entity2.setIntegerProperty(2);
+        scoreDirector.afterProblemPropertyChanged(entity2);
+        assertScore(scoreDirector,
+                assertMatch(entity1, entity1),
+                assertMatch(entity1, entity2),
+                assertMatch(entity2, entity1),
+                assertMatch(entity2, entity2));
+    }
+
+    @TestTemplate
+    public void join_collectionMutatedInPlace() {
+        assumeBavet();
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 0);
+        TestdataLavishEntity entity1 = new TestdataLavishEntity("MyEntity 1", solution.getFirstEntityGroup(),
+                solution.getFirstValue());
+        solution.getEntityList().add(entity1);
+        TestdataLavishEntity entity2 = new TestdataLavishEntity("MyEntity 2", solution.getFirstEntityGroup(),
+                solution.getFirstValue());
+        solution.getEntityList().add(entity2);
+        TestdataLavishEntity entity3 = new TestdataLavishEntity("MyEntity 3", solution.getFirstEntityGroup(),
+                solution.getFirstValue());
+        solution.getEntityList().add(entity3);
+        // The mapping returns the same list instance every time, so mutating that list changes the index property
+        Map<TestdataLavishEntity, List<String>> tagsMap = new HashMap<>();
+        tagsMap.put(entity1, new ArrayList<>(Arrays.asList("a", "b")));
+        tagsMap.put(entity2, new ArrayList<>(Arrays.asList("b", "c")));
+        tagsMap.put(entity3, new ArrayList<>(Arrays.asList("d")));
+        Function<TestdataLavishEntity, List<String>> tagsMapping = tagsMap::get;
+
+        InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
+            return factory.from(TestdataLavishEntity.class)
+                    .join(TestdataLavishEntity.class,
+                            new SingleBiJoiner<>(tagsMapping, JoinerType.INTERSECTING, tagsMapping))
+                    .penalize(TEST_CONSTRAINT_NAME, SimpleScore.ONE);
+        });
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        assertScore(scoreDirector,
+                assertMatch(entity1, entity1),
+                assertMatch(entity1, entity2),
+                assertMatch(entity2, entity1),
+                assertMatch(entity2, entity2),
+                assertMatch(entity3, entity3));
+
+        // Incremental: remove an element in place
+        scoreDirector.beforeProblemPropertyChanged(entity1);
+        tagsMap.get(entity1).remove("b");
+        scoreDirector.afterProblemPropertyChanged(entity1);
+        assertScore(scoreDirector,
+                assertMatch(entity1, entity1),
+                assertMatch(entity2, entity2),
+                assertMatch(entity3, entity3));
+
+        // Incremental: add an element in place
+        scoreDirector.beforeProblemPropertyChanged(entity3);
+        tagsMap.get(entity3).add("c");
+        scoreDirector.afterProblemPropertyChanged(entity3);
+        assertScore(scoreDirector,
+                assertMatch(entity1, entity1),
+                assertMatch(entity2, entity2),
+                assertMatch(entity2, entity3),
+                assertMatch(entity3, entity2),
+                assertMatch(entity3, entity3));
+
+        // Incremental: empty the collection in place
+        scoreDirector.beforeProblemPropertyChanged(entity2);
+        tagsMap.get(entity2).clear();
+        scoreDirector.afterProblemPropertyChanged(entity2);
+        assertScore(scoreDirector,
+                assertMatch(entity1, entity1),
+                assertMatch(entity3, entity3));
+    }
+
+    @TestTemplate
+    public void join_updateBothSides() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 0);
+        TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
+        solution.getEntityGroupList().add(entityGroup);
+        TestdataLavishEntity entity1 = new TestdataLavishEntity("MyEntity 1", entityGroup, solution.getFirstValue());
+        solution.getEntityList().add(entity1);
+        TestdataLavishEntity entity2 = new TestdataLavishEntity("MyEntity 2", solution.getFirstEntityGroup(),
+                solution.getFirstValue());
+        solution.getEntityList().add(entity2);
+        TestdataLavishEntity entity3 = new TestdataLavishEntity("MyEntity 3", entityGroup, solution.getFirstValue());
+        solution.getEntityList().add(entity3);
+
+        InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
+            return factory.from(TestdataLavishEntity.class)
+                    .join(TestdataLavishEntity.class,
+                            equal(TestdataLavishEntity::getEntityGroup),
+                            lessThan(TestdataLavishEntity::getIntegerProperty))
+                    .penalize(TEST_CONSTRAINT_NAME, SimpleScore.ONE,
+                            (a, b) -> a.getLongProperty().intValue() + b.getLongProperty().intValue());
+        });
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        assertScore(scoreDirector);
+
+        // Incremental: the left and the right side both change their index entry in the same step
+        scoreDirector.beforeProblemPropertyChanged(entity1);
+        entity1.setIntegerProperty(0);
+        scoreDirector.afterProblemPropertyChanged(entity1);
+        scoreDirector.beforeProblemPropertyChanged(entity2);
+        entity2.setEntityGroup(entityGroup);
+        entity2.setIntegerProperty(2);
+        scoreDirector.afterProblemPropertyChanged(entity2);
+        assertScore(scoreDirector,
+                assertMatchWithScore(-2, entity1, entity2),
+                assertMatchWithScore(-2, entity1, entity3),
+                assertMatchWithScore(-2, entity3, entity2));
+
+        // Incremental: one side keeps its index entry and the other side changes it in the same step
+        scoreDirector.beforeProblemPropertyChanged(entity1);
+        entity1.setLongProperty(3L);
+        scoreDirector.afterProblemPropertyChanged(entity1);
+        scoreDirector.beforeProblemPropertyChanged(entity3);
+        entity3.setEntityGroup(solution.getFirstEntityGroup());
+        scoreDirector.afterProblemPropertyChanged(entity3);
+        assertScore(scoreDirector,
+                assertMatchWithScore(-4, entity1, entity2));
+    }
+
     // ************************************************************************
     // If (not) exists
     // ************************************************************************
@@ -318,7 +770,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void ifExists_unknownClass() {
-        assumeDrools();
         assertThatThrownBy(() -> buildScoreDirector((factory) -> {
             return factory.from(TestdataLavishValueGroup.class)
                     .ifExists(Integer.class)
@@ -331,7 +782,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void ifExists_0Joiner0Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 1);
         TestdataLavishValueGroup valueGroup = new TestdataLavishValueGroup("MyValueGroup");
         solution.getValueGroupList().add(valueGroup);
@@ -362,7 +812,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void ifExists_0Join1Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -398,7 +847,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void ifExists_1Join0Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -433,7 +881,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void ifExists_1Join1Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -468,7 +915,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
 
     @TestTemplate
     public void ifExistsOther_1Join0Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -499,10 +945,58 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
                 assertMatch(entity2));
     }
 
+    @TestTemplate
+    public void ifExists_updateBothSides() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 0);
+        TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
+        solution.getEntityGroupList().add(entityGroup);
+        TestdataLavishEntity entity1 = new TestdataLavishEntity("MyEntity 1", entityGroup, solution.getFirstValue());
+        solution.getEntityList().add(entity1);
+        TestdataLavishEntity entity2 = new TestdataLavishEntity("MyEntity 2", entityGroup, solution.getFirstValue());
+        entity2.setIntegerProperty(2);
+        solution.getEntityList().add(entity2);
+        TestdataLavishEntity entity3 = new TestdataLavishEntity("MyEntity 3", solution.getFirstEntityGroup(),
+                solution.getFirstValue());
+        entity3.setIntegerProperty(3);
+        solution.getEntityList().add(entity3);
+
+        InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
+            return factory.from(TestdataLavishEntity.class)
+                    .ifExists(TestdataLavishEntity.class,
+                            equal(TestdataLavishEntity::getEntityGroup),
+                            filtering((a, b) -> a.getIntegerProperty() < b.getIntegerProperty()))
+                    .penalize(TEST_CONSTRAINT_NAME, SimpleScore.ONE);
+        });
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        assertScore(scoreDirector,
+                assertMatch(entity1));
+
+        // Incremental: the left and the right side both keep their index entry, but the filter flips
+        scoreDirector.beforeProblemPropertyChanged(entity1);
+        entity1.setIntegerProperty(5);
+        scoreDirector.afterProblemPropertyChanged(entity1);
+        scoreDirector.beforeProblemPropertyChanged(entity2);
+        entity2.setIntegerProperty(4);
+        scoreDirector.afterProblemPropertyChanged(entity2);
+        assertScore(scoreDirector,
+                assertMatch(entity2));
+
+        // Incremental: one side changes its index entry and the other side keeps it in the same step
+        scoreDirector.beforeProblemPropertyChanged(entity2);
+        entity2.setEntityGroup(solution.getFirstEntityGroup());
+        scoreDirector.afterProblemPropertyChanged(entity2);
+        scoreDirector.beforeProblemPropertyChanged(entity3);
+        entity3.setIntegerProperty(0);
+        scoreDirector.afterProblemPropertyChanged(entity3);
+        assertScore(scoreDirector,
+                assertMatch(entity3));
+    }
+
     @Override
     @TestTemplate
     public void ifNotExists_unknownClass() {
-        assumeDrools();
         assertThatThrownBy(() -> buildScoreDirector((factory) -> {
             return factory.from(TestdataLavishValueGroup.class)
                     .ifNotExists(Integer.class)
@@ -515,7 +1009,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void ifNotExists_0Joiner0Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 1);
         TestdataLavishValueGroup valueGroup = new TestdataLavishValueGroup("MyValueGroup");
         solution.getValueGroupList().add(valueGroup);
@@ -542,7 +1035,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void ifNotExists_0Join1Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -574,7 +1066,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void ifNotExists_1Join0Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -606,7 +1097,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void ifNotExists_1Join1Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -641,7 +1131,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
 
     @TestTemplate
     public void ifNotExistsOther_1Join0Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -746,7 +1235,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
 
     @TestTemplate
     public void groupBy_1Mapping0Collect_filtered() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 7);
         TestdataLavishEntityGroup entityGroup1 = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup1);
@@ -771,7 +1259,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
 
     @TestTemplate
     public void groupBy_1Mapping1Collect_filtered() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 7);
         TestdataLavishEntityGroup entityGroup1 = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup1);
@@ -798,7 +1285,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
 
     @TestTemplate
     public void groupBy_joinedAndFiltered() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 7);
         TestdataLavishEntityGroup entityGroup1 = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup1);
@@ -827,7 +1313,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void groupBy_1Mapping0Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 7);
         TestdataLavishEntityGroup entityGroup1 = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup1);
@@ -863,7 +1348,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void groupBy_1Mapping1Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
             return factory.from(TestdataLavishEntity.class)
@@ -891,7 +1375,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void groupBy_1Mapping2Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
             return factory.from(TestdataLavishEntity.class)
@@ -923,7 +1406,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void groupBy_1Mapping3Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
             return factory.from(TestdataLavishEntity.class)
@@ -956,7 +1438,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void groupBy_0Mapping1Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 7);
         TestdataLavishEntityGroup entityGroup1 = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup1);
@@ -991,7 +1472,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void groupBy_0Mapping2Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
             return factory.from(TestdataLavishEntity.class)
@@ -1016,7 +1496,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void groupBy_0Mapping3Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
             return factory.from(TestdataLavishEntity.class)
@@ -1049,7 +1528,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void groupBy_0Mapping4Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
             return factory.from(TestdataLavishEntity.class)
@@ -1121,7 +1599,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void groupBy_2Mapping0Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 7);
         TestdataLavishEntityGroup entityGroup1 = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup1);
@@ -1178,7 +1655,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void groupBy_2Mapping1Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 7);
         TestdataLavishEntityGroup entityGroup1 = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup1);
@@ -1216,7 +1692,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void groupBy_2Mapping2Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 7);
         TestdataLavishEntityGroup entityGroup1 = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup1);
@@ -1251,6 +1726,321 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
                 assertMatchWithScore(-2, entityGroup1, value1, 2, 2));
     }
 
+    // ************************************************************************
+    // Map, flatten and distinct
+    // ************************************************************************
+
+    @TestTemplate
+    public void map() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 2, 1, 3);
+        TestdataLavishValue value1 = solution.getValueList().get(0);
+        TestdataLavishValue value2 = solution.getValueList().get(1);
+        TestdataLavishEntity entity2 = solution.getEntityList().get(1);
+
+        InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
+            return factory.from(TestdataLavishEntity.class)
+                    .map(TestdataLavishEntity::getValue)
+                    .penalize(TEST_CONSTRAINT_NAME, SimpleScore.ONE);
+        });
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        assertScore(scoreDirector,
+                assertMatch(value1),
+                assertMatch(value2),
+                assertMatch(value1));
+
+        // Incrementally update
+        scoreDirector.beforeVariableChanged(entity2, "value");
+        entity2.setValue(value1);
+        scoreDirector.afterVariableChanged(entity2, "value");
+        assertScore(scoreDirector,
+                assertMatch(value1),
+                assertMatch(value1),
+                assertMatch(value1));
+
+        // Remove entity
+        scoreDirector.beforeEntityRemoved(entity2);
+        solution.getEntityList().remove(entity2);
+        scoreDirector.afterEntityRemoved(entity2);
+        assertScore(scoreDirector,
+                assertMatch(value1),
+                assertMatch(value1));
+    }
+
+    @TestTemplate
+    public void flattenLast() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 2, 1, 3);
+        TestdataLavishValue value1 = solution.getValueList().get(0);
+        TestdataLavishValue value2 = solution.getValueList().get(1);
+        TestdataLavishEntity entity1 = solution.getEntityList().get(0);
+        entity1.setIntegerProperty(2);
+
+        InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
+            return factory.from(TestdataLavishEntity.class)
+                    .flattenLast(entity -> Collections.nCopies(entity.getIntegerProperty(), entity.getValue()))
+                    .penalize(TEST_CONSTRAINT_NAME, SimpleScore.ONE);
+        });
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        assertScore(scoreDirector,
+                assertMatch(value1),
+                assertMatch(value1),
+                assertMatch(value2),
+                assertMatch(value1));
+
+        // Incrementally update
+        scoreDirector.beforeProblemPropertyChanged(entity1);
+        entity1.setIntegerProperty(0);
+        scoreDirector.afterProblemPropertyChanged(entity1);
+        assertScore(scoreDirector,
+                assertMatch(value2),
+                assertMatch(value1));
+
+        scoreDirector.beforeProblemPropertyChanged(entity1);
+        entity1.setIntegerProperty(3);
+        scoreDirector.afterProblemPropertyChanged(entity1);
+        assertScore(scoreDirector,
+                assertMatch(value1),
+                assertMatch(value1),
+                assertMatch(value1),
+                assertMatch(value2),
+                assertMatch(value1));
+    }
+
+    @TestTemplate
+    public void distinct() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 2, 1, 3);
+        TestdataLavishValue value1 = solution.getValueList().get(0);
+        TestdataLavishValue value2 = solution.getValueList().get(1);
+        TestdataLavishEntity entity1 = solution.getEntityList().get(0);
+        TestdataLavishEntity entity2 = solution.getEntityList().get(1);
+
+        InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
+            return factory.from(TestdataLavishEntity.class)
+                    .map(TestdataLavishEntity::getValue)
+                    .distinct()
+                    .penalize(TEST_CONSTRAINT_NAME, SimpleScore.ONE);
+        });
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        assertScore(scoreDirector,
+                assertMatch(value1),
+                assertMatch(value2));
+
+        // Incrementally update
+        scoreDirector.beforeVariableChanged(entity2, "value");
+        entity2.setValue(value1);
+        scoreDirector.afterVariableChanged(entity2, "value");
+        assertScore(scoreDirector,
+                assertMatch(value1));
+
+        // Remove entity, a duplicate keeps the match alive
+        scoreDirector.beforeEntityRemoved(entity1);
+        solution.getEntityList().remove(entity1);
+        scoreDirector.afterEntityRemoved(entity1);
+        assertScore(scoreDirector,
+                assertMatch(value1));
+    }
+
+    @TestTemplate
+    public void flattenLastConsecutiveSequences() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 3);
+        TestdataLavishEntity entity2 = solution.getEntityList().get(1);
+        entity2.setIntegerProperty(2);
+        TestdataLavishEntity entity3 = solution.getEntityList().get(2);
+        entity3.setIntegerProperty(4);
+
+        InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
+            return factory.from(TestdataLavishEntity.class)
+                    .groupBy(toConsecutiveSequences(TestdataLavishEntity::getIntegerProperty))
+                    .flattenLast(SequenceChain::getConsecutiveSequences)
+                    .map(Sequence::getLength)
+                    .penalize(TEST_CONSTRAINT_NAME, SimpleScore.ONE, length -> length);
+        });
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        assertScore(scoreDirector,
+                assertMatchWithScore(-2, 2),
+                assertMatchWithScore(-1, 1));
+
+        // Incrementally update, which closes the break
+        scoreDirector.beforeProblemPropertyChanged(entity3);
+        entity3.setIntegerProperty(3);
+        scoreDirector.afterProblemPropertyChanged(entity3);
+        assertScore(scoreDirector,
+                assertMatchWithScore(-3, 3));
+    }
+
+    @TestTemplate
+    public void consecutiveSequencesAsJustification() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 3);
+        TestdataLavishEntity entity2 = solution.getEntityList().get(1);
+        entity2.setIntegerProperty(2);
+        TestdataLavishEntity entity3 = solution.getEntityList().get(2);
+        entity3.setIntegerProperty(4);
+
+        InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
+            return factory.from(TestdataLavishEntity.class)
+                    .groupBy(toConsecutiveSequences(TestdataLavishEntity::getIntegerProperty))
+                    .penalize(TEST_CONSTRAINT_NAME, SimpleScore.ONE, chain -> chain.getConsecutiveSequences().size());
+        });
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-2));
+        SequenceChain<?> chain = (SequenceChain<?>) getOnlyJustification(scoreDirector);
+        if (chain != null) {
+            assertThat(chain.getConsecutiveSequences()).hasSize(2);
+        }
+
+        // Incrementally update, which closes the break
+        scoreDirector.beforeProblemPropertyChanged(entity3);
+        entity3.setIntegerProperty(3);
+        scoreDirector.afterProblemPropertyChanged(entity3);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-1));
+        SequenceChain<?> updatedChain = (SequenceChain<?>) getOnlyJustification(scoreDirector);
+        if (chain != null) {
+            // The justification is a live view, so the old justification shows the latest state too
+            assertThat(updatedChain).isSameAs(chain);
+            assertThat(chain.getConsecutiveSequences()).hasSize(1);
+            assertThat(chain.getFirstSequence().getLength()).isEqualTo(3);
+        }
+    }
+
+    @TestTemplate
+    public void consecutiveSequencesMappedAsJustification() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 3);
+        TestdataLavishEntity entity2 = solution.getEntityList().get(1);
+        entity2.setIntegerProperty(2);
+        TestdataLavishEntity entity3 = solution.getEntityList().get(2);
+        entity3.setIntegerProperty(4);
+
+        InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
+            return factory.from(TestdataLavishEntity.class)
+                    .groupBy(toConsecutiveSequences(TestdataLavishEntity::getIntegerProperty))
+                    .map(chain -> chain.getConsecutiveSequences().stream()
+                            .map(Sequence::getLength)
+                            .collect(Collectors.toList()))
+                    .penalize(TEST_CONSTRAINT_NAME, SimpleScore.ONE, List::size);
+        });
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        assertScore(scoreDirector,
+                assertMatchWithScore(-2, Arrays.asList(2, 1)));
+
+        // Incrementally update, which closes the break
+        scoreDirector.beforeProblemPropertyChanged(entity3);
+        entity3.setIntegerProperty(3);
+        scoreDirector.afterProblemPropertyChanged(entity3);
+        assertScore(scoreDirector,
+                assertMatchWithScore(-1, Arrays.asList(3)));
+
+        // Incrementally update, which reopens the break
+        scoreDirector.beforeProblemPropertyChanged(entity3);
+        entity3.setIntegerProperty(4);
+        scoreDirector.afterProblemPropertyChanged(entity3);
+        assertScore(scoreDirector,
+                assertMatchWithScore(-2, Arrays.asList(2, 1)));
+    }
+
+    @TestTemplate
+    public void loadBalanceAsJustification() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
+        TestdataLavishEntity entity2 = solution.getEntityList().get(1);
+        TestdataLavishEntityGroup entityGroup2 = entity2.getEntityGroup();
+
+        InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
+            return factory.from(TestdataLavishEntity.class)
+                    .groupBy(loadBalance(TestdataLavishEntity::getEntityGroup, TestdataLavishEntity::getIntegerProperty))
+                    .penalize(TEST_CONSTRAINT_NAME, SimpleScore.ONE, balance -> (int) balance.getSumOfSquares());
+        });
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-5));
+        LoadBalance<?> balance = (LoadBalance<?>) getOnlyJustification(scoreDirector);
+        if (balance != null) {
+            assertThat(balance.getSumOfSquares()).isEqualTo(5L);
+        }
+
+        // Incrementally update
+        scoreDirector.beforeProblemPropertyChanged(entity2);
+        entity2.setIntegerProperty(3);
+        scoreDirector.afterProblemPropertyChanged(entity2);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-13));
+        LoadBalance<?> updatedBalance = (LoadBalance<?>) getOnlyJustification(scoreDirector);
+        if (balance != null) {
+            // The justification is a live view, so the old justification shows the latest state too
+            assertThat(updatedBalance).isSameAs(balance);
+            assertThat(balance.getSumOfSquares()).isEqualTo(13L);
+            assertThat(balance.getLoads().get(entityGroup2)).isEqualTo(3L);
+        }
+    }
+
+    @TestTemplate
+    public void loadBalanceMappedAsJustification() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
+        TestdataLavishEntity entity2 = solution.getEntityList().get(1);
+        TestdataLavishEntityGroup entityGroup1 = solution.getEntityGroupList().get(0);
+        TestdataLavishEntityGroup entityGroup2 = solution.getEntityGroupList().get(1);
+
+        InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
+            return factory.from(TestdataLavishEntity.class)
+                    .groupBy(loadBalance(TestdataLavishEntity::getEntityGroup, TestdataLavishEntity::getIntegerProperty))
+                    .map(LoadBalance::getLoads)
+                    .penalize(TEST_CONSTRAINT_NAME, SimpleScore.ONE, loads -> (int) loads.values().stream()
+                            .mapToLong(load -> load * load)
+                            .sum());
+        });
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        Map<TestdataLavishEntityGroup, Long> expectedLoads = new HashMap<>();
+        expectedLoads.put(entityGroup1, 2L);
+        expectedLoads.put(entityGroup2, 1L);
+        assertScore(scoreDirector,
+                assertMatchWithScore(-5, expectedLoads));
+
+        // Incrementally update
+        scoreDirector.beforeProblemPropertyChanged(entity2);
+        entity2.setIntegerProperty(3);
+        scoreDirector.afterProblemPropertyChanged(entity2);
+        Map<TestdataLavishEntityGroup, Long> updatedLoads = new HashMap<>();
+        updatedLoads.put(entityGroup1, 2L);
+        updatedLoads.put(entityGroup2, 3L);
+        assertScore(scoreDirector,
+                assertMatchWithScore(-13, updatedLoads));
+
+        // Incrementally remove the only element of a balanced item
+        scoreDirector.beforeEntityRemoved(entity2);
+        solution.getEntityList().remove(entity2);
+        scoreDirector.afterEntityRemoved(entity2);
+        assertScore(scoreDirector,
+                assertMatchWithScore(-4, Collections.singletonMap(entityGroup1, 2L)));
+    }
+
+    /**
+     * @return null if constraint matching is disabled
+     */
+    private Object getOnlyJustification(InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector) {
+        if (!constraintMatchEnabled) {
+            return null;
+        }
+        List<ConstraintMatch<SimpleScore>> constraintMatchList = scoreDirector.getConstraintMatchTotalMap().values()
+                .stream()
+                .flatMap(constraintMatchTotal -> constraintMatchTotal.getConstraintMatchSet().stream())
+                .collect(Collectors.toList());
+        assertThat(constraintMatchList).hasSize(1);
+        List<Object> justificationList = constraintMatchList.get(0).getJustificationList();
+        assertThat(justificationList).hasSize(1);
+        return justificationList.get(0);
+    }
+
     // ************************************************************************
     // Penalize/reward
     // ************************************************************************
@@ -1555,7 +2345,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
 
     @TestTemplate
     public void reuseFilteredStream() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 3, 2);
         TestdataLavishEntity entity1 = solution.getEntityList().get(0);
 
@@ -1582,7 +2371,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
 
     @TestTemplate
     public void reuseGroupedStream() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 3, 2);
         TestdataLavishEntity entity1 = solution.getEntityList().get(0);
         TestdataLavishEntityGroup entityGroup1 = solution.getFirstEntityGroup();
@@ -24,6 +24,7 @@ import static org.optaplanner.core.api.solver.SolverStatus.SOLVING_ACTIVE;
 import static org.optaplanner.core.api.solver.SolverStatus.SOLVING_SCHEDULED;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertSolutionInitialized;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -33,7 +34,9 @@ import java.util.concurrent.BrokenBarrierException;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -51,6 +54,7 @@ import org.optaplanner.core.config.phase.custom.CustomPhaseConfig;
 import org.optaplanner.core.config.solver.SolverConfig;
 import org.optaplanner.core.config.solver.SolverManagerConfig;
 import org.optaplanner.core.config.solver.termination.TerminationConfig;
+import org.optaplanner.core.impl.solver.DefaultSolverManager;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 import org.optaplanner.core.impl.testdata.domain.extended.TestdataUnannotatedExtendedSolution;
@@ -194,6 +198,38 @@ public class SolverManagerTest {
         solverManager.close();
     }
 
+    @Test
+    @Timeout(60)
+    public void finalBestSolutionConsumedOnConsumerThreadAfterBestSolutions()
+            throws ExecutionException, InterruptedException {
+        AtomicReference<Thread> solverThreadReference = new AtomicReference<>();
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(new CustomPhaseConfig().withCustomPhaseCommands(
+                        scoreDirector -> solverThreadReference.set(Thread.currentThread())),
+                        new ConstructionHeuristicPhaseConfig());
+        SolverManager<TestdataSolution, Long> solverManager = SolverManager.create(
+                solverConfig, new SolverManagerConfig().withParallelSolverCount("1"));
+
+        List<String> consumptionList = Collections.synchronizedList(new ArrayList<>());
+        AtomicReference<Thread> finalBestSolutionThreadReference = new AtomicReference<>();
+        SolverJob<TestdataSolution, Long> solverJob1 = solverManager.solveAndListen(1L,
+                problemId -> PlannerTestUtils.generateTestdataSolution("s1"),
+                bestSolution -> consumptionList.add("best"),
+                finalBestSolution -> {
+                    finalBestSolutionThreadReference.set(Thread.currentThread());
+                    consumptionList.add("final");
+                }, (problemId, throwable) -> fail("Solving failed.", throwable));
+        assertSolutionInitialized(solverJob1.getFinalBestSolution());
+        // The finalBestSolutionConsumer has finished by the time the final best solution is returned
+        assertThat(finalBestSolutionThreadReference.get())
+                .isNotNull()
+                .isNotSameAs(solverThreadReference.get());
+        assertThat(consumptionList).isNotEmpty();
+        assertThat(consumptionList.subList(0, consumptionList.size() - 1)).containsOnly("best");
+        assertThat(consumptionList.get(consumptionList.size() - 1)).isEqualTo("final");
+        solverManager.close();
+    }
+
     @Test
     @Timeout(60)
     public void solveGenerics() throws ExecutionException, InterruptedException {
@@ -214,11 +250,12 @@ public class SolverManagerTest {
         solverManager.close();
     }
 
-    @Disabled("Skip ahead not yet supported")
     @Test
     @Timeout(60)
     public void skipAhead() throws ExecutionException, InterruptedException {
-        CountDownLatch latch = new CountDownLatch(1);
+        CountDownLatch firstBestSolutionConsumingLatch = new CountDownLatch(1);
+        CountDownLatch laterBestSolutionsProducedLatch = new CountDownLatch(1);
+        CountDownLatch lastBestSolutionConsumingLatch = new CountDownLatch(1);
         SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class,
                 TestdataEntity.class)
                 .withPhases(new CustomPhaseConfig().withCustomPhaseCommands(
@@ -237,6 +274,8 @@ public class SolverManagerTest {
                             scoreDirector.afterVariableChanged(entity, "value");
                             scoreDirector.triggerVariableListeners();
                         }, (ScoreDirector<TestdataSolution> scoreDirector) -> {
+                            // Don't let this best solution skip the previous one
+                            awaitLatch(firstBestSolutionConsumingLatch);
                             TestdataSolution solution = scoreDirector.getWorkingSolution();
                             TestdataEntity entity = solution.getEntityList().get(2);
                             scoreDirector.beforeVariableChanged(entity, "value");
@@ -244,18 +283,21 @@ public class SolverManagerTest {
                             scoreDirector.afterVariableChanged(entity, "value");
                             scoreDirector.triggerVariableListeners();
                         }, (ScoreDirector<TestdataSolution> scoreDirector) -> {
-                            // In the next best solution event, both e1 and e2 are definitely not null (but e3 might be).
-                            latch.countDown();
                             TestdataSolution solution = scoreDirector.getWorkingSolution();
                             TestdataEntity entity = solution.getEntityList().get(3);
                             scoreDirector.beforeVariableChanged(entity, "value");
                             entity.setValue(solution.getValueList().get(3));
                             scoreDirector.afterVariableChanged(entity, "value");
                             scoreDirector.triggerVariableListeners();
+                        }, (ScoreDirector<TestdataSolution> scoreDirector) -> {
+                            // The best solutions of the previous 2 steps have been produced
+                            laterBestSolutionsProducedLatch.countDown();
+                            // This step fires a best solution event too, so don't let it skip the previous one
+                            awaitLatch(lastBestSolutionConsumingLatch);
                         }));
         SolverManager<TestdataSolution, Long> solverManager = SolverManager.create(
                 solverConfig, new SolverManagerConfig().withParallelSolverCount("1"));
-        AtomicInteger bestSolutionCount = new AtomicInteger();
+        List<TestdataSolution> consumedBestSolutionList = Collections.synchronizedList(new ArrayList<>());
         AtomicInteger finalBestSolutionCount = new AtomicInteger();
         AtomicInteger exceptionCount = new AtomicInteger();
         SolverJob<TestdataSolution, Long> solverJob1 = solverManager.solveAndListen(1L,
@@ -265,27 +307,166 @@ public class SolverManagerTest {
                         // The problem itself causes a best solution event. TODO Do we really want that behavior?
                         return;
                     }
-                    bestSolutionCount.incrementAndGet();
+                    consumedBestSolutionList.add(bestSolution);
                     if (bestSolution.getEntityList().get(2).getValue() == null) {
-                        try {
-                            latch.await();
-                        } catch (InterruptedException e) {
-                            fail("Latch failed.");
-                        }
-                    } else if (bestSolution.getEntityList().get(3).getValue() == null) {
-                        fail("No skip ahead occurred: both e2 and e3 are null in a best solution event.");
+                        // Block the consumer until the solver has produced the next 2 best solutions
+                        firstBestSolutionConsumingLatch.countDown();
+                        awaitLatch(laterBestSolutionsProducedLatch);
+                    } else {
+                        lastBestSolutionConsumingLatch.countDown();
                     }
                 },
                 finalBestSolution -> finalBestSolutionCount.incrementAndGet(),
                 (problemId, throwable) -> exceptionCount.incrementAndGet());
-        assertSolutionInitialized(solverJob1.getFinalBestSolution());
-        // EventCount can be 2 or 3, depending on the race, but it can never be 4.
-        assertThat(bestSolutionCount).hasValueLessThan(4);
+        TestdataSolution finalBestSolution = solverJob1.getFinalBestSolution();
+        assertSolutionInitialized(finalBestSolution);
+        // The best solution with only e4 uninitialized has been skipped
+        assertThat(consumedBestSolutionList)
+                .extracting(solution -> solution.getEntityList().stream()
+                        .filter(entity -> entity.getValue() != null)
+                        .count())
+                .containsExactly(2L, 4L, 4L);
+        // The last best solution is never skipped
+        TestdataSolution lastBestSolution = consumedBestSolutionList.get(2);
+        assertSolutionInitialized(lastBestSolution);
+        assertThat(lastBestSolution.getScore()).isEqualTo(finalBestSolution.getScore());
+        assertThat(lastBestSolution.getEntityList())
+                .extracting(entity -> entity.getValue().getCode())
+                .containsExactlyElementsOf(finalBestSolution.getEntityList().stream()
+                        .map(entity -> entity.getValue().getCode())
+                        .collect(Collectors.toList()));
         assertThat(finalBestSolutionCount).hasValue(1);
         assertThat(exceptionCount).hasValue(0);
         solverManager.close();
     }
 
+    private static void awaitLatch(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail("Latch failed.");
+        }
+    }
+
+    @Test
+    @Timeout(60)
+    public void throttlingDelay() throws ExecutionException, InterruptedException {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(new ConstructionHeuristicPhaseConfig());
+        SolverManager<TestdataSolution, Long> solverManager = SolverManager.create(solverConfig,
+                new SolverManagerConfig().withParallelSolverCount("1").withThrottlingDelay(Duration.ofDays(1)));
+        List<TestdataSolution> consumedBestSolutionList = Collections.synchronizedList(new ArrayList<>());
+        SolverJob<TestdataSolution, Long> solverJob1 = solverManager.solveAndListen(1L,
+                problemId -> PlannerTestUtils.generateTestdataSolution("s1", 4),
+                consumedBestSolutionList::add);
+        assertSolutionInitialized(solverJob1.getFinalBestSolution());
+        // At most the first best solution and the last best solution, which doesn't wait for the throttlingDelay
+        assertThat(consumedBestSolutionList.size()).isBetween(1, 2);
+        assertSolutionInitialized(consumedBestSolutionList.get(consumedBestSolutionList.size() - 1));
+        solverManager.close();
+    }
+
+    @Test
+    @Timeout(60)
+    public void exceptionInBestSolutionConsumer() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(new ConstructionHeuristicPhaseConfig());
+        SolverManager<TestdataSolution, Long> solverManager = SolverManager.create(
+                solverConfig, new SolverManagerConfig().withParallelSolverCount("1"));
+
+        AtomicInteger exceptionCount = new AtomicInteger();
+        SolverJob<TestdataSolution, Long> solverJob1 = solverManager.solveAndListen(1L,
+                problemId -> PlannerTestUtils.generateTestdataSolution("s1"),
+                bestSolution -> {
+                    throw new IllegalStateException("exceptionInBestSolutionConsumer");
+                }, (problemId, throwable) -> exceptionCount.incrementAndGet());
+        assertThatThrownBy(solverJob1::getFinalBestSolution)
+                .isInstanceOf(ExecutionException.class)
+                .hasRootCauseMessage("exceptionInBestSolutionConsumer");
+        assertThat(exceptionCount.get()).isEqualTo(1);
+        assertThat(solverJob1.getSolverStatus()).isEqualTo(NOT_SOLVING);
+        solverManager.close();
+    }
+
+    @Test
+    @Timeout(60)
+    public void solveWithPriority() throws ExecutionException, InterruptedException {
+        CountDownLatch startedLatch = new CountDownLatch(1);
+        CountDownLatch releaseLatch = new CountDownLatch(1);
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(new CustomPhaseConfig().withCustomPhaseCommands((scoreDirector) -> {
+                    startedLatch.countDown();
+                    try {
+                        releaseLatch.await();
+                    } catch (InterruptedException e) {
+                        throw new IllegalStateException("The releaseLatch failed.", e);
+                    }
+                }));
+        SolverManager<TestdataSolution, Long> solverManager = SolverManager.create(solverConfig,
+                new SolverManagerConfig().withParallelSolverCount("1")
+                        .withThreadFactoryClass(TestdataThreadFactory.class));
+        List<Long> startedProblemIdList = Collections.synchronizedList(new ArrayList<>());
+        List<String> threadNameList = Collections.synchronizedList(new ArrayList<>());
+        Function<Long, TestdataSolution> problemFinder = problemId -> {
+            startedProblemIdList.add(problemId);
+            threadNameList.add(Thread.currentThread().getName());
+            return PlannerTestUtils.generateTestdataSolution("s" + problemId);
+        };
+        List<SolverJob<TestdataSolution, Long>> solverJobList = new ArrayList<>();
+        solverJobList.add(solverManager.solve(1L, problemFinder, null));
+        startedLatch.await();
+        solverJobList.add(solverManager.solve(2L, 0, problemFinder, null, null));
+        solverJobList.add(solverManager.solve(3L, 5, problemFinder, null, null));
+        solverJobList.add(solverManager.solve(4L, problemFinder, null));
+        solverJobList.add(solverManager.solveAndListen(5L, 5, problemFinder, bestSolution -> {
+        }, null, null));
+        releaseLatch.countDown();
+        for (SolverJob<TestdataSolution, Long> solverJob : solverJobList) {
+            solverJob.getFinalBestSolution();
+        }
+        // A higher priority doesn't interrupt the solver job that is already solving
+        assertThat(startedProblemIdList).containsExactly(1L, 3L, 5L, 2L, 4L);
+        assertThat(threadNameList).allMatch(threadName -> threadName.startsWith(TestdataThreadFactory.NAME_PREFIX));
+        solverManager.close();
+    }
+
+    public static class TestdataThreadFactory implements ThreadFactory {
+
+        public static final String NAME_PREFIX = "TestdataThread-";
+
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            return new Thread(runnable, NAME_PREFIX + threadCount.incrementAndGet());
+        }
+
+    }
+
+    @Test
+    @Timeout(60)
+    public void runnableThreadLimit() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withMoveThreadCount("2");
+        SolverManagerConfig solverManagerConfig = new SolverManagerConfig().withParallelSolverCount("4");
+        assertThat(resolveParallelSolverCount(solverConfig, solverManagerConfig)).isEqualTo(4);
+        // Every solver runs 1 solver thread and 2 move threads
+        solverManagerConfig.setRunnableThreadLimit("7");
+        assertThat(resolveParallelSolverCount(solverConfig, solverManagerConfig)).isEqualTo(2);
+        solverManagerConfig.setRunnableThreadLimit("2");
+        assertThat(resolveParallelSolverCount(solverConfig, solverManagerConfig)).isEqualTo(1);
+    }
+
+    private int resolveParallelSolverCount(SolverConfig solverConfig, SolverManagerConfig solverManagerConfig) {
+        DefaultSolverManager<TestdataSolution, Long> solverManager =
+                (DefaultSolverManager<TestdataSolution, Long>) SolverManager
+                        .<TestdataSolution, Long> create(solverConfig, solverManagerConfig);
+        int parallelSolverCount = solverManager.getParallelSolverCount();
+        solverManager.close();
+        return parallelSolverCount;
+    }
+
     @Test
     @Timeout(600)
     public void terminateEarly() throws InterruptedException, BrokenBarrierException {
@@ -468,9 +649,12 @@ public class SolverManagerTest {
 
     private void assertConsumedSolutions(Map<Integer, List<TestdataSolution>> consumedSolutions) {
         for (List<TestdataSolution> consumedSolution : consumedSolutions.values()) {
-            assertThat(consumedSolution).hasSize(2);
-            assertConsumedFirstBestSolution(consumedSolution.get(0));
-            assertConsumedFinalBestSolution(consumedSolution.get(1));
+            // The first best solution is skipped if the final best solution is found before it's consumed
+            assertThat(consumedSolution.size()).isBetween(1, 2);
+            if (consumedSolution.size() == 2) {
+                assertConsumedFirstBestSolution(consumedSolution.get(0));
+            }
+            assertConsumedFinalBestSolution(consumedSolution.get(consumedSolution.size() - 1));
         }
     }
 
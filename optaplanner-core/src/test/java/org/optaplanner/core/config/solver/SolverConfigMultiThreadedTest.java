@@ -18,13 +18,23 @@ package org.optaplanner.core.config.solver;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.calculator.EasyScoreCalculator;
+import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
+import org.optaplanner.core.config.localsearch.decider.forager.LocalSearchForagerConfig;
+import org.optaplanner.core.config.phase.PhaseConfig;
+import org.optaplanner.core.config.score.director.ScoreDirectorFactoryConfig;
+import org.optaplanner.core.config.solver.termination.TerminationConfig;
 import org.optaplanner.core.config.solver.testutil.MockThreadFactory;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
@@ -39,6 +49,67 @@ public class SolverConfigMultiThreadedTest {
         runSolvingAndVerifySolution(10, 20, "256");
     }
 
+    @Test
+    @Timeout(5)
+    public void solvingWithMoveThreadBatchSizeIsReproducible() {
+        TestdataSolution unbatchedSolution = solveWithMoveThreadBatchSize(1);
+        TestdataSolution batchedSolution = solveWithMoveThreadBatchSize(3);
+        assertThat(batchedSolution.getScore().isSolutionInitialized()).isTrue();
+        // The batch size only changes how the moves are handed to the move threads, not which moves are foraged
+        assertThat(batchedSolution.getScore()).isEqualTo(unbatchedSolution.getScore());
+        assertThat(extractValueCodes(batchedSolution)).isEqualTo(extractValueCodes(unbatchedSolution));
+    }
+
+    private TestdataSolution solveWithMoveThreadBatchSize(int moveThreadBatchSize) {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class,
+                TestdataEntity.class);
+        // Unlike the dummy score calculator, the score depends on which moves have been done
+        solverConfig.setScoreDirectorFactoryConfig(new ScoreDirectorFactoryConfig()
+                .withEasyScoreCalculatorClass(TestdataPositionalScoreCalculator.class));
+        solverConfig.setRandomSeed(37L);
+        solverConfig.setMoveThreadCount("2");
+        solverConfig.setMoveThreadBufferSize(4);
+        solverConfig.setMoveThreadBatchSize(moveThreadBatchSize);
+        return PlannerTestUtils.solve(solverConfig, createTestSolution(30, 15));
+    }
+
+    private static List<String> extractValueCodes(TestdataSolution solution) {
+        return solution.getEntityList().stream()
+                .map(entity -> entity.getValue().getCode())
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    @Timeout(5)
+    public void solvingWithEarlyQuittingForagerAndSlowMoveThreadSetup() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class,
+                TestdataEntity.class);
+        solverConfig.setEnvironmentMode(EnvironmentMode.FULL_ASSERT);
+        solverConfig.setScoreDirectorFactoryConfig(new ScoreDirectorFactoryConfig()
+                .withEasyScoreCalculatorClass(TestdataPositionalScoreCalculator.class));
+        solverConfig.setThreadFactoryClass(SlowMoveThreadSetupThreadFactory.class);
+        solverConfig.setMoveThreadCount(Integer.toString(SlowMoveThreadSetupThreadFactory.MOVE_THREAD_COUNT));
+        // The first batch goes to the first move thread, so the forager can accept a move before the others are set up
+        solverConfig.setMoveThreadBatchSize(20);
+        solverConfig.setMoveThreadBufferSize(80);
+        for (PhaseConfig phaseConfig : solverConfig.getPhaseConfigList()) {
+            if (phaseConfig instanceof LocalSearchPhaseConfig) {
+                LocalSearchPhaseConfig localSearchPhaseConfig = (LocalSearchPhaseConfig) phaseConfig;
+                localSearchPhaseConfig.setForagerConfig(new LocalSearchForagerConfig().withAcceptedCountLimit(1));
+                // Still solving when the slow move threads start, so their exceptions are relayed
+                localSearchPhaseConfig.setTerminationConfig(new TerminationConfig().withMillisecondsSpentLimit(500L));
+            }
+        }
+
+        TestdataSolution solution = createTestSolution(30, 15);
+
+        // A move thread that clones the working solution after a step would apply that step twice,
+        // which FULL_ASSERT detects as score corruption
+        solution = PlannerTestUtils.solve(solverConfig, solution);
+        assertThat(solution).isNotNull();
+        assertThat(solution.getScore().isSolutionInitialized()).isTrue();
+    }
+
     @Disabled("PLANNER-1180")
     @Test
     @Timeout(5)
@@ -89,4 +160,56 @@ public class SolverConfigMultiThreadedTest {
         assertThat(MockThreadFactory.hasBeenCalled()).isTrue();
     }
 
+    /**
+     * Delays the start of every move thread except the first one of each phase.
+     */
+    public static class SlowMoveThreadSetupThreadFactory implements ThreadFactory {
+
+        private static final int MOVE_THREAD_COUNT = 4;
+
+        private final AtomicInteger threadCount = new AtomicInteger(0);
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            boolean slow = threadCount.getAndIncrement() % MOVE_THREAD_COUNT != 0;
+            return new Thread(() -> {
+                if (slow) {
+                    try {
+                        Thread.sleep(100L);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                runnable.run();
+            }, "testing thread");
+        }
+
+    }
+
+    /**
+     * Unlike most testdata score calculators, swapping the values of 2 entities changes the score.
+     */
+    public static class TestdataPositionalScoreCalculator implements EasyScoreCalculator<TestdataSolution, SimpleScore> {
+
+        @Override
+        public SimpleScore calculateScore(TestdataSolution solution) {
+            List<TestdataEntity> entityList = solution.getEntityList();
+            List<TestdataValue> valueList = solution.getValueList();
+            List<TestdataValue> usedValueList = new ArrayList<>(entityList.size());
+            int score = 0;
+            for (int i = 0; i < entityList.size(); i++) {
+                TestdataValue value = entityList.get(i).getValue();
+                if (value != null) {
+                    score -= Math.abs(valueList.indexOf(value) * 7 - i * 3) % 11;
+                    if (usedValueList.contains(value)) {
+                        score -= 5;
+                    }
+                    usedValueList.add(value);
+                }
+            }
+            return SimpleScore.of(score);
+        }
+
+    }
+
 }
@@ -93,7 +93,7 @@ public class QueuedEntityPlacerFactoryTest extends AbstractEntityPlacerTest {
                 mock(InnerScoreDirectorFactory.class);
         when(scoreDirectorFactory.getSolutionDescriptor()).thenReturn(solutionDescriptor);
         when(scoreDirectorFactory.getScoreDefinition()).thenReturn(new SimpleScoreDefinition());
-        return new HeuristicConfigPolicy<>(EnvironmentMode.REPRODUCIBLE, null, null, null, scoreDirectorFactory);
+        return new HeuristicConfigPolicy<>(EnvironmentMode.REPRODUCIBLE, null, null, null, null, scoreDirectorFactory);
     }
 
     private TestdataMultiVarSolution generateTestdataSolution() {
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.lookup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.impl.domain.solution.cloner.FieldAccessingSolutionCloner;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+
+public class CloneLookUpManagerTest {
+
+    @Test
+    public void lookUpClonedAndSharedObjects() {
+        TestdataSolution original = TestdataSolution.generateSolution(3, 2);
+        FieldAccessingSolutionCloner<TestdataSolution> cloner =
+                new FieldAccessingSolutionCloner<>(TestdataSolution.buildSolutionDescriptor());
+        Map<Object, Object> originalToCloneMap = new IdentityHashMap<>();
+        TestdataSolution clone = cloner.cloneSolution(original, originalToCloneMap);
+        CloneLookUpManager lookUpManager = new CloneLookUpManager(cloner, originalToCloneMap);
+
+        TestdataEntity originalEntity = original.getEntityList().get(1);
+        TestdataEntity cloneEntity = clone.getEntityList().get(1);
+        assertThat(cloneEntity).isNotSameAs(originalEntity);
+        assertThat(lookUpManager.lookUpWorkingObject(originalEntity)).isSameAs(cloneEntity);
+        assertThat(lookUpManager.lookUpWorkingObjectOrReturnNull(originalEntity)).isSameAs(cloneEntity);
+        assertThat(lookUpManager.lookUpWorkingObject(original)).isSameAs(clone);
+        // A problem fact isn't cloned, so it is its own working object
+        TestdataValue value = original.getValueList().get(2);
+        assertThat(clone.getValueList().get(2)).isSameAs(value);
+        assertThat(lookUpManager.lookUpWorkingObject(value)).isSameAs(value);
+        assertThat(lookUpManager.lookUpWorkingObject((Object) null)).isNull();
+        assertThat(originalToCloneMap).doesNotContainKey(value);
+    }
+
+    @Test
+    public void lookUpEntityThatHasNotBeenCloned() {
+        TestdataSolution original = TestdataSolution.generateSolution(3, 2);
+        FieldAccessingSolutionCloner<TestdataSolution> cloner =
+                new FieldAccessingSolutionCloner<>(TestdataSolution.buildSolutionDescriptor());
+        Map<Object, Object> originalToCloneMap = new IdentityHashMap<>();
+        cloner.cloneSolution(original, originalToCloneMap);
+        CloneLookUpManager lookUpManager = new CloneLookUpManager(cloner, originalToCloneMap);
+
+        TestdataEntity otherEntity = new TestdataEntity("other");
+        assertThat(lookUpManager.lookUpWorkingObjectOrReturnNull(otherEntity)).isNull();
+        assertThatIllegalStateException()
+                .isThrownBy(() -> lookUpManager.lookUpWorkingObject(otherEntity))
+                .withMessageContaining("other");
+    }
+
+    @Test
+    public void addRemoveAndResetWorkingObjectsDoNothing() {
+        TestdataSolution original = TestdataSolution.generateSolution(3, 2);
+        FieldAccessingSolutionCloner<TestdataSolution> cloner =
+                new FieldAccessingSolutionCloner<>(TestdataSolution.buildSolutionDescriptor());
+        Map<Object, Object> originalToCloneMap = new IdentityHashMap<>();
+        TestdataSolution clone = cloner.cloneSolution(original, originalToCloneMap);
+        CloneLookUpManager lookUpManager = new CloneLookUpManager(cloner, originalToCloneMap);
+
+        TestdataEntity cloneEntity = clone.getEntityList().get(0);
+        lookUpManager.resetWorkingObjects(Collections.singletonList(cloneEntity));
+        lookUpManager.addWorkingObject(new TestdataEntity("added"));
+        lookUpManager.removeWorkingObject(cloneEntity);
+        assertThat(lookUpManager.lookUpWorkingObject(original.getEntityList().get(0))).isSameAs(cloneEntity);
+    }
+
+    @Test
+    public void overridesEveryPublicMethodOfLookUpManager() {
+        // CloneLookUpManager passes no LookUpStrategyResolver to its superclass, so no inherited method may be used
+        for (Method method : LookUpManager.class.getDeclaredMethods()) {
+            if (Modifier.isPublic(method.getModifiers())) {
+                assertThat(isMethodDeclared(CloneLookUpManager.class, method))
+                        .as("The public method (" + method + ") must be overridden.")
+                        .isTrue();
+            }
+        }
+    }
+
+    private static boolean isMethodDeclared(Class<?> clazz, Method superMethod) {
+        try {
+            clazz.getDeclaredMethod(superMethod.getName(), superMethod.getParameterTypes());
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+}
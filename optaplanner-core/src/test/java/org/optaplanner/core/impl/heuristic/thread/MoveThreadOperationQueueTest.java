@@ -0,0 +1,190 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.thread;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.heuristic.move.DummyMove;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+
+public class MoveThreadOperationQueueTest {
+
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        executorService.shutdownNow();
+        executorService.awaitTermination(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void addAndTakeInOrder() throws InterruptedException {
+        MoveThreadOperationQueue<TestdataSolution> queue = new MoveThreadOperationQueue<>(3);
+        MoveEvaluationOperation<TestdataSolution> a0 = new MoveEvaluationOperation<>(0, 0, new DummyMove("a0"));
+        MoveEvaluationOperation<TestdataSolution> a1 = new MoveEvaluationOperation<>(0, 1, new DummyMove("a1"));
+        DestroyOperation<TestdataSolution> destroyOperation = new DestroyOperation<>();
+        queue.add(a0);
+        queue.add(a1);
+        assertThat(queue.size()).isEqualTo(2);
+        assertThat(queue.take()).isSameAs(a0);
+        queue.add(destroyOperation);
+        assertThat(queue.take()).isSameAs(a1);
+        assertThat(queue.take()).isSameAs(destroyOperation);
+        assertThat(queue.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void discardMoveEvaluations() throws InterruptedException {
+        MoveThreadOperationQueue<TestdataSolution> queue = new MoveThreadOperationQueue<>(8);
+        queue.add(new MoveEvaluationOperation<>(0, 0, new DummyMove("a0")));
+        queue.add(new MoveEvaluationOperation<>(0, 1, new DummyMove("a1")));
+        queue.discardMoveEvaluations(0);
+        ApplyStepOperation<TestdataSolution, SimpleScore> applyStepOperation =
+                new ApplyStepOperation<>(1, new DummyMove("a1"), SimpleScore.ZERO);
+        MoveEvaluationOperation<TestdataSolution> b0 = new MoveEvaluationOperation<>(1, 0, new DummyMove("b0"));
+        queue.add(applyStepOperation);
+        queue.add(b0);
+        assertThat(queue.take()).isSameAs(applyStepOperation);
+        assertThat(queue.take()).isSameAs(b0);
+    }
+
+    @Test
+    public void addToShortestQueue() throws InterruptedException {
+        List<MoveThreadOperationQueue<TestdataSolution>> queueList = new ArrayList<>(3);
+        for (int i = 0; i < 3; i++) {
+            queueList.add(new MoveThreadOperationQueue<>(8));
+        }
+        // Empty queues are used round robin
+        assertThat(MoveThreadOperationQueue.addToShortestQueue(queueList, 0,
+                new MoveEvaluationOperation<>(0, 0, new DummyMove("a0")))).isEqualTo(1);
+        assertThat(MoveThreadOperationQueue.addToShortestQueue(queueList, 1,
+                new MoveEvaluationOperation<>(0, 1, new DummyMove("a1")))).isEqualTo(2);
+        assertThat(MoveThreadOperationQueue.addToShortestQueue(queueList, 2,
+                new MoveEvaluationOperation<>(0, 2, new DummyMove("a2")))).isEqualTo(0);
+        // A slow move thread keeps its queue, so the others get the next operations
+        queueList.get(1).take();
+        queueList.get(2).take();
+        assertThat(MoveThreadOperationQueue.addToShortestQueue(queueList, 0,
+                new MoveEvaluationOperation<>(0, 3, new DummyMove("a3")))).isEqualTo(2);
+        assertThat(MoveThreadOperationQueue.addToShortestQueue(queueList, 2,
+                new MoveEvaluationOperation<>(0, 4, new DummyMove("a4")))).isEqualTo(0);
+        assertThat(queueList.get(0).size()).isEqualTo(1);
+        assertThat(queueList.get(1).size()).isEqualTo(1);
+        assertThat(queueList.get(2).size()).isEqualTo(1);
+    }
+
+    @Test
+    public void dispatchAndReturnBatches() throws InterruptedException, ExecutionException, TimeoutException {
+        MoveThreadOperationQueue<TestdataSolution> operationQueue = new MoveThreadOperationQueue<>(2);
+        OrderByMoveIndexBlockingQueue<TestdataSolution> resultQueue = new OrderByMoveIndexBlockingQueue<>(16);
+        resultQueue.startNextStep(0);
+        // The move thread returns the results of every batch as 1 batch
+        Future<Integer> future = executorService.submit(() -> {
+            int batchCount = 0;
+            while (true) {
+                MoveThreadOperation<TestdataSolution> operation = operationQueue.take();
+                if (operation instanceof DestroyOperation) {
+                    return batchCount;
+                }
+                MoveEvaluationOperation<TestdataSolution> moveEvaluationOperation =
+                        (MoveEvaluationOperation<TestdataSolution>) operation;
+                List<OrderByMoveIndexBlockingQueue.MoveResult<TestdataSolution>> resultList = new ArrayList<>();
+                int moveIndex = moveEvaluationOperation.getMoveIndex();
+                for (Move<TestdataSolution> move : moveEvaluationOperation.getMoveList()) {
+                    resultList.add(new OrderByMoveIndexBlockingQueue.MoveResult<>(0,
+                            moveEvaluationOperation.getStepIndex(), moveIndex, move, true, SimpleScore.of(-moveIndex)));
+                    moveIndex++;
+                }
+                resultQueue.addResultBatch(resultList);
+                batchCount++;
+            }
+        });
+
+        // Batches of 3, 3, 3 and 1 moves
+        int moveCount = 10;
+        int batchSize = 3;
+        for (int moveIndex = 0; moveIndex < moveCount; moveIndex += batchSize) {
+            List<Move<TestdataSolution>> moveList = new ArrayList<>(batchSize);
+            for (int i = moveIndex; i < Math.min(moveIndex + batchSize, moveCount); i++) {
+                moveList.add(new DummyMove("a" + i));
+            }
+            operationQueue.add(new MoveEvaluationOperation<>(0, moveIndex, moveList));
+        }
+        for (int moveIndex = 0; moveIndex < moveCount; moveIndex++) {
+            OrderByMoveIndexBlockingQueue.MoveResult<TestdataSolution> result = resultQueue.take();
+            assertThat(result.getMoveIndex()).isEqualTo(moveIndex);
+            assertThat(((DummyMove) result.getMove()).getCode()).isEqualTo("a" + moveIndex);
+            assertThat(result.getScore()).isEqualTo(SimpleScore.of(-moveIndex));
+        }
+        operationQueue.add(new DestroyOperation<>());
+        assertThat(future.get(10, TimeUnit.SECONDS)).isEqualTo(4);
+    }
+
+    @Test
+    public void takeWaitsForAdd() throws InterruptedException, ExecutionException, TimeoutException {
+        MoveThreadOperationQueue<TestdataSolution> queue = new MoveThreadOperationQueue<>(2);
+        Future<MoveThreadOperation<TestdataSolution>> future = executorService.submit(queue::take);
+        Thread.sleep(10L); // Let the consumer park
+        DestroyOperation<TestdataSolution> destroyOperation = new DestroyOperation<>();
+        queue.add(destroyOperation);
+        assertThat(future.get(10, TimeUnit.SECONDS)).isSameAs(destroyOperation);
+    }
+
+    @Test
+    public void addWaitsForCapacity() throws InterruptedException, ExecutionException, TimeoutException {
+        MoveThreadOperationQueue<TestdataSolution> queue = new MoveThreadOperationQueue<>(2);
+        int operationCount = 1000;
+        Future<Integer> future = executorService.submit(() -> {
+            int expectedMoveIndex = 0;
+            for (int i = 0; i < operationCount; i++) {
+                MoveEvaluationOperation<TestdataSolution> operation =
+                        (MoveEvaluationOperation<TestdataSolution>) queue.take();
+                assertThat(operation.getMoveIndex()).isEqualTo(expectedMoveIndex);
+                expectedMoveIndex++;
+            }
+            return expectedMoveIndex;
+        });
+        for (int i = 0; i < operationCount; i++) {
+            queue.add(new MoveEvaluationOperation<>(0, i, new DummyMove("a" + i)));
+        }
+        assertThat(future.get(10, TimeUnit.SECONDS)).isEqualTo(operationCount);
+    }
+
+    @Test
+    public void addAfterCloseOnFullQueue() throws InterruptedException {
+        MoveThreadOperationQueue<TestdataSolution> queue = new MoveThreadOperationQueue<>(1);
+        queue.add(new MoveEvaluationOperation<>(0, 0, new DummyMove("a0")));
+        queue.close();
+        // Doesn't wait forever
+        queue.add(new MoveEvaluationOperation<>(0, 1, new DummyMove("a1")));
+        assertThat(queue.size()).isEqualTo(1);
+    }
+
+}
@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertCode;
 
+import java.util.Arrays;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -115,6 +116,38 @@ public class OrderByMoveIndexBlockingQueueTest {
         assertResult("b1", -1, queue.take());
     }
 
+    @Test
+    public void addResultBatch() throws InterruptedException {
+        // Capacity: 6 moves in circulation
+        OrderByMoveIndexBlockingQueue<TestdataSolution> queue = new OrderByMoveIndexBlockingQueue<>(6);
+
+        queue.startNextStep(0);
+        executorService.submit(() -> queue.addResultBatch(Arrays.asList(
+                new OrderByMoveIndexBlockingQueue.MoveResult<>(1, 0, 3, new DummyMove("a3"), true, SimpleScore.of(-3)),
+                new OrderByMoveIndexBlockingQueue.MoveResult<>(1, 0, 4, new DummyMove("a4"), false, null))));
+        executorService.submit(() -> queue.addResultBatch(Arrays.asList(
+                new OrderByMoveIndexBlockingQueue.MoveResult<>(0, 0, 0, new DummyMove("a0"), true, SimpleScore.of(0)),
+                new OrderByMoveIndexBlockingQueue.MoveResult<>(0, 0, 1, new DummyMove("a1"), true, SimpleScore.of(-1)),
+                new OrderByMoveIndexBlockingQueue.MoveResult<>(0, 0, 2, new DummyMove("a2"), true, SimpleScore.of(-2)))));
+        assertResult("a0", 0, queue.take());
+        assertResult("a1", -1, queue.take());
+        assertResult("a2", -2, queue.take());
+        assertResult("a3", -3, queue.take());
+        assertResult("a4", false, queue.take());
+
+        // The rest of a batch that has been partially taken is discarded when the next step starts
+        executorService.submit(() -> queue.addResultBatch(Arrays.asList(
+                new OrderByMoveIndexBlockingQueue.MoveResult<>(0, 0, 5, new DummyMove("a5"), true, SimpleScore.of(-5)),
+                new OrderByMoveIndexBlockingQueue.MoveResult<>(0, 0, 6, new DummyMove("a6"), true, SimpleScore.of(-6)))));
+        assertResult("a5", -5, queue.take());
+        queue.startNextStep(1);
+        executorService.submit(() -> queue.addResultBatch(Arrays.asList(
+                new OrderByMoveIndexBlockingQueue.MoveResult<>(1, 1, 0, new DummyMove("b0"), true, SimpleScore.of(0)),
+                new OrderByMoveIndexBlockingQueue.MoveResult<>(1, 1, 1, new DummyMove("b1"), true, SimpleScore.of(-1)))));
+        assertResult("b0", 0, queue.take());
+        assertResult("b1", -1, queue.take());
+    }
+
     @Test
     public void addExceptionThrown() throws InterruptedException, ExecutionException {
         // Capacity: 4 moves in circulation + 2 exception handling results
@@ -137,8 +170,8 @@ public class OrderByMoveIndexBlockingQueueTest {
         Future<?> exceptionFuture = executorService.submit(() -> queue.addExceptionThrown(1, exception));
         exceptionFuture.get(); // Avoid random failing test when the task hasn't started yet or the next task finishes earlier
         executorService.submit(() -> queue.addMove(0, 1, 2, new DummyMove("b2"), SimpleScore.of(-2)));
-        assertResult("b0", false, queue.take());
-        assertResult("b1", -1, queue.take());
+        // Fail fast: the results that haven't been taken yet aren't returned anymore
+        assertThatThrownBy(queue::take).hasCause(exception);
         assertThatThrownBy(queue::take).hasCause(exception);
     }
 
@@ -171,4 +171,14 @@ public class BendableScoreDefinitionTest {
                 .isEqualTo(scoreDefinition.createScoreUninitialized(0, 0, 1));
     }
 
+    @Test
+    public void subtractToLevelDoubles() {
+        BendableScoreDefinition scoreDefinition = new BendableScoreDefinition(1, 2);
+        BendableScore minuend = scoreDefinition.createScoreUninitialized(-3, -1, -20, 300);
+        BendableScore subtrahend = scoreDefinition.createScore(-4, 10, 300);
+        double[] levelDoubles = new double[scoreDefinition.getLevelsSize()];
+        scoreDefinition.subtractToLevelDoubles(minuend, subtrahend, levelDoubles);
+        assertThat(levelDoubles).containsExactly(3.0, -30.0, 0.0);
+    }
+
 }
@@ -24,7 +24,6 @@ import org.junit.jupiter.api.Test;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.buildin.bendable.BendableScore;
 import org.optaplanner.core.impl.score.inliner.IntWeightedScoreImpacter;
-import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
 
 public class BendableScoreInlinerTest {
 
@@ -37,32 +36,32 @@ public class BendableScoreInlinerTest {
         assertThat(scoreInliner.extractScore(0)).isEqualTo(BendableScore.zero(1, 2));
 
         IntWeightedScoreImpacter hardImpacter = scoreInliner.buildWeightedScoreImpacter(BendableScore.ofHard(1, 2, 0, -90));
-        UndoScoreImpacter hardUndo = hardImpacter.impactScore(1, scoreConsumer);
+        hardImpacter.impactScore(1, scoreConsumer);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(BendableScore.of(new int[] { -90 }, new int[] { 0, 0 }));
         scoreInliner.buildWeightedScoreImpacter(BendableScore.ofHard(1, 2, 0, -800)).impactScore(1, scoreConsumer);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(BendableScore.of(new int[] { -890 }, new int[] { 0, 0 }));
-        hardUndo.undoScoreImpact();
+        hardImpacter.undoScoreImpact(1);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(BendableScore.of(new int[] { -800 }, new int[] { 0, 0 }));
 
         IntWeightedScoreImpacter mediumImpacter = scoreInliner.buildWeightedScoreImpacter(BendableScore.ofSoft(1, 2, 0, -7));
-        UndoScoreImpacter mediumUndo = mediumImpacter.impactScore(1, scoreConsumer);
+        mediumImpacter.impactScore(1, scoreConsumer);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(BendableScore.of(new int[] { -800 }, new int[] { -7, 0 }));
-        mediumUndo.undoScoreImpact();
+        mediumImpacter.undoScoreImpact(1);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(BendableScore.of(new int[] { -800 }, new int[] { 0, 0 }));
 
         IntWeightedScoreImpacter softImpacter = scoreInliner.buildWeightedScoreImpacter(BendableScore.ofSoft(1, 2, 1, -1));
-        UndoScoreImpacter softUndo = softImpacter.impactScore(3, scoreConsumer);
+        softImpacter.impactScore(3, scoreConsumer);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(BendableScore.of(new int[] { -800 }, new int[] { 0, -3 }));
         softImpacter.impactScore(10, scoreConsumer);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(BendableScore.of(new int[] { -800 }, new int[] { 0, -13 }));
-        softUndo.undoScoreImpact();
+        softImpacter.undoScoreImpact(3);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(BendableScore.of(new int[] { -800 }, new int[] { 0, -10 }));
 
         IntWeightedScoreImpacter allLevelsImpacter = scoreInliner
                 .buildWeightedScoreImpacter(BendableScore.of(new int[] { -1000 }, new int[] { -2000, -3000 }));
-        UndoScoreImpacter allLevelsUndo = allLevelsImpacter.impactScore(1, scoreConsumer);
+        allLevelsImpacter.impactScore(1, scoreConsumer);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(BendableScore.of(new int[] { -1800 }, new int[] { -2000, -3010 }));
-        allLevelsUndo.undoScoreImpact();
+        allLevelsImpacter.undoScoreImpact(1);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(BendableScore.of(new int[] { -800 }, new int[] { 0, -10 }));
     }
 
@@ -25,7 +25,6 @@ import org.junit.jupiter.api.Test;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.buildin.bendablebigdecimal.BendableBigDecimalScore;
 import org.optaplanner.core.impl.score.inliner.BigDecimalWeightedScoreImpacter;
-import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
 
 public class BendableBigDecimalScoreInlinerTest {
 
@@ -39,7 +38,7 @@ public class BendableBigDecimalScoreInlinerTest {
 
         BigDecimalWeightedScoreImpacter hardImpacter = scoreInliner
                 .buildWeightedScoreImpacter(BendableBigDecimalScore.ofHard(1, 2, 0, new BigDecimal("-90")));
-        UndoScoreImpacter hardUndo = hardImpacter.impactScore(new BigDecimal("1"), scoreConsumer);
+        hardImpacter.impactScore(new BigDecimal("1"), scoreConsumer);
         assertThat(scoreInliner.extractScore(0))
                 .isEqualTo(BendableBigDecimalScore.of(new BigDecimal[] { new BigDecimal("-90") },
                         new BigDecimal[] { new BigDecimal("0"), new BigDecimal("0") }));
@@ -48,25 +47,25 @@ public class BendableBigDecimalScoreInlinerTest {
         assertThat(scoreInliner.extractScore(0))
                 .isEqualTo(BendableBigDecimalScore.of(new BigDecimal[] { new BigDecimal("-890") },
                         new BigDecimal[] { new BigDecimal("0"), new BigDecimal("0") }));
-        hardUndo.undoScoreImpact();
+        hardImpacter.undoScoreImpact(new BigDecimal("1"));
         assertThat(scoreInliner.extractScore(0))
                 .isEqualTo(BendableBigDecimalScore.of(new BigDecimal[] { new BigDecimal("-800") },
                         new BigDecimal[] { new BigDecimal("0"), new BigDecimal("0") }));
 
         BigDecimalWeightedScoreImpacter mediumImpacter = scoreInliner
                 .buildWeightedScoreImpacter(BendableBigDecimalScore.ofSoft(1, 2, 0, new BigDecimal("-7")));
-        UndoScoreImpacter mediumUndo = mediumImpacter.impactScore(new BigDecimal("1"), scoreConsumer);
+        mediumImpacter.impactScore(new BigDecimal("1"), scoreConsumer);
         assertThat(scoreInliner.extractScore(0))
                 .isEqualTo(BendableBigDecimalScore.of(new BigDecimal[] { new BigDecimal("-800") },
                         new BigDecimal[] { new BigDecimal("-7"), new BigDecimal("0") }));
-        mediumUndo.undoScoreImpact();
+        mediumImpacter.undoScoreImpact(new BigDecimal("1"));
         assertThat(scoreInliner.extractScore(0))
                 .isEqualTo(BendableBigDecimalScore.of(new BigDecimal[] { new BigDecimal("-800") },
                         new BigDecimal[] { new BigDecimal("0"), new BigDecimal("0") }));
 
         BigDecimalWeightedScoreImpacter softImpacter = scoreInliner
                 .buildWeightedScoreImpacter(BendableBigDecimalScore.ofSoft(1, 2, 1, new BigDecimal("-1")));
-        UndoScoreImpacter softUndo = softImpacter.impactScore(new BigDecimal("3"), scoreConsumer);
+        softImpacter.impactScore(new BigDecimal("3"), scoreConsumer);
         assertThat(scoreInliner.extractScore(0))
                 .isEqualTo(BendableBigDecimalScore.of(new BigDecimal[] { new BigDecimal("-800") },
                         new BigDecimal[] { new BigDecimal("0"), new BigDecimal("-3") }));
@@ -74,7 +73,7 @@ public class BendableBigDecimalScoreInlinerTest {
         assertThat(scoreInliner.extractScore(0))
                 .isEqualTo(BendableBigDecimalScore.of(new BigDecimal[] { new BigDecimal("-800") },
                         new BigDecimal[] { new BigDecimal("0"), new BigDecimal("-13") }));
-        softUndo.undoScoreImpact();
+        softImpacter.undoScoreImpact(new BigDecimal("3"));
         assertThat(scoreInliner.extractScore(0))
                 .isEqualTo(BendableBigDecimalScore.of(new BigDecimal[] { new BigDecimal("-800") },
                         new BigDecimal[] { new BigDecimal("0"), new BigDecimal("-10") }));
@@ -82,11 +81,11 @@ public class BendableBigDecimalScoreInlinerTest {
         BigDecimalWeightedScoreImpacter allLevelsImpacter = scoreInliner
                 .buildWeightedScoreImpacter(BendableBigDecimalScore.of(new BigDecimal[] { new BigDecimal("-1000") },
                         new BigDecimal[] { new BigDecimal("-2000"), new BigDecimal("-3000") }));
-        UndoScoreImpacter allLevelsUndo = allLevelsImpacter.impactScore(new BigDecimal("1"), scoreConsumer);
+        allLevelsImpacter.impactScore(new BigDecimal("1"), scoreConsumer);
         assertThat(scoreInliner.extractScore(0))
                 .isEqualTo(BendableBigDecimalScore.of(new BigDecimal[] { new BigDecimal("-1800") },
                         new BigDecimal[] { new BigDecimal("-2000"), new BigDecimal("-3010") }));
-        allLevelsUndo.undoScoreImpact();
+        allLevelsImpacter.undoScoreImpact(new BigDecimal("1"));
         assertThat(scoreInliner.extractScore(0))
                 .isEqualTo(BendableBigDecimalScore.of(new BigDecimal[] { new BigDecimal("-800") },
                         new BigDecimal[] { new BigDecimal("0"), new BigDecimal("-10") }));
@@ -171,4 +171,14 @@ public class BendableLongScoreDefinitionTest {
                 .isEqualTo(scoreDefinition.createScoreUninitialized(2, 0, 10));
     }
 
+    @Test
+    public void subtractToLevelDoubles() {
+        BendableLongScoreDefinition scoreDefinition = new BendableLongScoreDefinition(1, 2);
+        BendableLongScore minuend = scoreDefinition.createScoreUninitialized(-3, -1L, -20L, 300L);
+        BendableLongScore subtrahend = scoreDefinition.createScore(-4L, 10L, 300L);
+        double[] levelDoubles = new double[scoreDefinition.getLevelsSize()];
+        scoreDefinition.subtractToLevelDoubles(minuend, subtrahend, levelDoubles);
+        assertThat(levelDoubles).containsExactly(3.0, -30.0, 0.0);
+    }
+
 }
@@ -24,7 +24,6 @@ import org.junit.jupiter.api.Test;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.buildin.bendablelong.BendableLongScore;
 import org.optaplanner.core.impl.score.inliner.LongWeightedScoreImpacter;
-import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
 
 public class BendableLongScoreInlinerTest {
 
@@ -38,35 +37,35 @@ public class BendableLongScoreInlinerTest {
 
         LongWeightedScoreImpacter hardImpacter = scoreInliner
                 .buildWeightedScoreImpacter(BendableLongScore.ofHard(1, 2, 0, -90L));
-        UndoScoreImpacter hardUndo = hardImpacter.impactScore(1L, scoreConsumer);
+        hardImpacter.impactScore(1L, scoreConsumer);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(BendableLongScore.of(new long[] { -90L }, new long[] { 0L, 0L }));
         scoreInliner.buildWeightedScoreImpacter(BendableLongScore.ofHard(1, 2, 0, -800L)).impactScore(1L, scoreConsumer);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(BendableLongScore.of(new long[] { -890L }, new long[] { 0L, 0L }));
-        hardUndo.undoScoreImpact();
+        hardImpacter.undoScoreImpact(1L);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(BendableLongScore.of(new long[] { -800L }, new long[] { 0L, 0L }));
 
         LongWeightedScoreImpacter mediumImpacter = scoreInliner
                 .buildWeightedScoreImpacter(BendableLongScore.ofSoft(1, 2, 0, -7L));
-        UndoScoreImpacter mediumUndo = mediumImpacter.impactScore(1L, scoreConsumer);
+        mediumImpacter.impactScore(1L, scoreConsumer);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(BendableLongScore.of(new long[] { -800L }, new long[] { -7L, 0L }));
-        mediumUndo.undoScoreImpact();
+        mediumImpacter.undoScoreImpact(1L);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(BendableLongScore.of(new long[] { -800L }, new long[] { 0L, 0L }));
 
         LongWeightedScoreImpacter softImpacter = scoreInliner
                 .buildWeightedScoreImpacter(BendableLongScore.ofSoft(1, 2, 1, -1L));
-        UndoScoreImpacter softUndo = softImpacter.impactScore(3L, scoreConsumer);
+        softImpacter.impactScore(3L, scoreConsumer);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(BendableLongScore.of(new long[] { -800L }, new long[] { 0L, -3L }));
         softImpacter.impactScore(10L, scoreConsumer);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(BendableLongScore.of(new long[] { -800L }, new long[] { 0L, -13L }));
-        softUndo.undoScoreImpact();
+        softImpacter.undoScoreImpact(3L);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(BendableLongScore.of(new long[] { -800L }, new long[] { 0L, -10L }));
 
         LongWeightedScoreImpacter allLevelsImpacter = scoreInliner
                 .buildWeightedScoreImpacter(BendableLongScore.of(new long[] { -1000L }, new long[] { -2000L, -3000L }));
-        UndoScoreImpacter allLevelsUndo = allLevelsImpacter.impactScore(1L, scoreConsumer);
+        allLevelsImpacter.impactScore(1L, scoreConsumer);
         assertThat(scoreInliner.extractScore(0))
                 .isEqualTo(BendableLongScore.of(new long[] { -1800L }, new long[] { -2000L, -3010L }));
-        allLevelsUndo.undoScoreImpact();
+        allLevelsImpacter.undoScoreImpact(1L);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(BendableLongScore.of(new long[] { -800L }, new long[] { 0L, -10L }));
     }
 
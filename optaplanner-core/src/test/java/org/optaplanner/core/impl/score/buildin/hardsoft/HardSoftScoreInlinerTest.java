@@ -18,13 +18,14 @@ package org.optaplanner.core.impl.score.buildin.hardsoft;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Consumer;
 
 import org.junit.jupiter.api.Test;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
 import org.optaplanner.core.impl.score.inliner.IntWeightedScoreImpacter;
-import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
 
 public class HardSoftScoreInlinerTest {
 
@@ -37,26 +38,42 @@ public class HardSoftScoreInlinerTest {
         assertThat(scoreInliner.extractScore(0)).isEqualTo(HardSoftScore.ZERO);
 
         IntWeightedScoreImpacter hardImpacter = scoreInliner.buildWeightedScoreImpacter(HardSoftScore.ofHard(-90));
-        UndoScoreImpacter hardUndo = hardImpacter.impactScore(1, scoreConsumer);
+        hardImpacter.impactScore(1, scoreConsumer);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(HardSoftScore.of(-90, 0));
         scoreInliner.buildWeightedScoreImpacter(HardSoftScore.ofHard(-800)).impactScore(1, scoreConsumer);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(HardSoftScore.of(-890, 0));
-        hardUndo.undoScoreImpact();
+        hardImpacter.undoScoreImpact(1);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(HardSoftScore.of(-800, 0));
 
         IntWeightedScoreImpacter softImpacter = scoreInliner.buildWeightedScoreImpacter(HardSoftScore.ofSoft(-1));
-        UndoScoreImpacter softUndo = softImpacter.impactScore(3, scoreConsumer);
+        softImpacter.impactScore(3, scoreConsumer);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(HardSoftScore.of(-800, -3));
         softImpacter.impactScore(10, scoreConsumer);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(HardSoftScore.of(-800, -13));
-        softUndo.undoScoreImpact();
+        softImpacter.undoScoreImpact(3);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(HardSoftScore.of(-800, -10));
 
         IntWeightedScoreImpacter allLevelsImpacter = scoreInliner.buildWeightedScoreImpacter(HardSoftScore.of(-1000, -3000));
-        UndoScoreImpacter allLevelsUndo = allLevelsImpacter.impactScore(1, scoreConsumer);
+        allLevelsImpacter.impactScore(1, scoreConsumer);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(HardSoftScore.of(-1800, -3010));
-        allLevelsUndo.undoScoreImpact();
+        allLevelsImpacter.undoScoreImpact(1);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(HardSoftScore.of(-800, -10));
     }
 
+    @Test
+    public void undoScoreImpactAfterOverflow() {
+        boolean constraintMatchEnabled = true;
+        List<Score<?>> matchScoreList = new ArrayList<>();
+
+        HardSoftScoreInliner scoreInliner = new HardSoftScoreInliner(constraintMatchEnabled);
+        IntWeightedScoreImpacter impacter = scoreInliner.buildWeightedScoreImpacter(HardSoftScore.of(-1000, 3));
+        impacter.impactScore(Integer.MAX_VALUE, matchScoreList::add);
+        impacter.impactScore(Integer.MIN_VALUE, matchScoreList::add);
+        impacter.undoScoreImpact(Integer.MAX_VALUE);
+        impacter.undoScoreImpact(Integer.MIN_VALUE);
+        assertThat(scoreInliner.extractScore(0)).isEqualTo(HardSoftScore.ZERO);
+        // Undoing an impact doesn't report a match score
+        assertThat(matchScoreList).hasSize(2);
+    }
+
 }
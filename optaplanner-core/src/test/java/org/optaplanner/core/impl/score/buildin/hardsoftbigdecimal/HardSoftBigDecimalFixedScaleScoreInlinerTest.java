@@ -0,0 +1,104 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.buildin.hardsoftbigdecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.buildin.hardsoftbigdecimal.HardSoftBigDecimalScore;
+import org.optaplanner.core.impl.score.inliner.BigDecimalWeightedScoreImpacter;
+
+public class HardSoftBigDecimalFixedScaleScoreInlinerTest {
+
+    @Test
+    public void buildWeightedScoreImpacter() {
+        boolean constraintMatchEnabled = false;
+        Consumer<Score<?>> scoreConsumer = null;
+
+        HardSoftBigDecimalFixedScaleScoreInliner scoreInliner =
+                new HardSoftBigDecimalFixedScaleScoreInliner(constraintMatchEnabled, 4);
+        assertThat(scoreInliner.extractScore(0)).isEqualTo(HardSoftBigDecimalScore.ZERO);
+
+        BigDecimalWeightedScoreImpacter hardImpacter = scoreInliner
+                .buildWeightedScoreImpacter(HardSoftBigDecimalScore.ofHard(new BigDecimal("90.5")));
+        hardImpacter.impactScore(new BigDecimal("2"), scoreConsumer);
+        assertThat(scoreInliner.extractScore(0)).isEqualTo(HardSoftBigDecimalScore.of(new BigDecimal("181"), BigDecimal.ZERO));
+        hardImpacter.impactScore(new BigDecimal("0.001"), scoreConsumer);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftBigDecimalScore.of(new BigDecimal("181.0905"), BigDecimal.ZERO));
+        hardImpacter.undoScoreImpact(new BigDecimal("2"));
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftBigDecimalScore.of(new BigDecimal("0.0905"), BigDecimal.ZERO));
+
+        BigDecimalWeightedScoreImpacter softImpacter = scoreInliner
+                .buildWeightedScoreImpacter(HardSoftBigDecimalScore.ofSoft(new BigDecimal("-1")));
+        softImpacter.impactScore(new BigDecimal("3.1234"), scoreConsumer);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftBigDecimalScore.of(new BigDecimal("0.0905"), new BigDecimal("-3.1234")));
+        softImpacter.undoScoreImpact(new BigDecimal("3.1234"));
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftBigDecimalScore.of(new BigDecimal("0.0905"), BigDecimal.ZERO));
+
+        BigDecimalWeightedScoreImpacter allLevelsImpacter = scoreInliner
+                .buildWeightedScoreImpacter(HardSoftBigDecimalScore.of(new BigDecimal("0.01"), new BigDecimal("0.02")));
+        allLevelsImpacter.impactScore(new BigDecimal("0.50"), scoreConsumer);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftBigDecimalScore.of(new BigDecimal("0.0955"), new BigDecimal("0.01")));
+    }
+
+    @Test
+    public void constraintMatchScore() {
+        List<Score<?>> matchScoreList = new ArrayList<>();
+        HardSoftBigDecimalFixedScaleScoreInliner scoreInliner = new HardSoftBigDecimalFixedScaleScoreInliner(true, 2);
+        BigDecimalWeightedScoreImpacter impacter = scoreInliner
+                .buildWeightedScoreImpacter(HardSoftBigDecimalScore.of(new BigDecimal("-2"), new BigDecimal("0.5")));
+        impacter.impactScore(new BigDecimal("1.5"), matchScoreList::add);
+        assertThat(matchScoreList)
+                .containsExactly(HardSoftBigDecimalScore.of(new BigDecimal("-3.00"), new BigDecimal("0.75")));
+    }
+
+    @Test
+    public void impactNotRepresentable() {
+        HardSoftBigDecimalFixedScaleScoreInliner scoreInliner = new HardSoftBigDecimalFixedScaleScoreInliner(false, 2);
+        assertThatIllegalArgumentException().isThrownBy(() -> scoreInliner
+                .buildWeightedScoreImpacter(HardSoftBigDecimalScore.ofSoft(new BigDecimal("0.001"))));
+        BigDecimalWeightedScoreImpacter impacter = scoreInliner
+                .buildWeightedScoreImpacter(HardSoftBigDecimalScore.ofSoft(new BigDecimal("0.1")));
+        assertThatIllegalArgumentException().isThrownBy(() -> impacter.impactScore(new BigDecimal("0.05"), null));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> impacter.impactScore(new BigDecimal("1E+18"), null));
+        assertThat(scoreInliner.extractScore(0)).isEqualTo(HardSoftBigDecimalScore.ZERO);
+    }
+
+    @Test
+    public void scoreOverflow() {
+        HardSoftBigDecimalFixedScaleScoreInliner scoreInliner = new HardSoftBigDecimalFixedScaleScoreInliner(false, 0);
+        BigDecimalWeightedScoreImpacter impacter = scoreInliner
+                .buildWeightedScoreImpacter(HardSoftBigDecimalScore.ofHard(BigDecimal.ONE));
+        impacter.impactScore(BigDecimal.valueOf(Long.MAX_VALUE), null);
+        assertThatIllegalStateException().isThrownBy(() -> impacter.impactScore(BigDecimal.ONE, null));
+    }
+
+}
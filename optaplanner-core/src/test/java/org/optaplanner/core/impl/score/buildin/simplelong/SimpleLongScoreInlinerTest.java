@@ -24,7 +24,6 @@ import org.junit.jupiter.api.Test;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.buildin.simplelong.SimpleLongScore;
 import org.optaplanner.core.impl.score.inliner.LongWeightedScoreImpacter;
-import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
 
 public class SimpleLongScoreInlinerTest {
 
@@ -37,19 +36,19 @@ public class SimpleLongScoreInlinerTest {
         assertThat(scoreInliner.extractScore(0)).isEqualTo(SimpleLongScore.ZERO);
 
         LongWeightedScoreImpacter impacter1 = scoreInliner.buildWeightedScoreImpacter(SimpleLongScore.of(-90L));
-        UndoScoreImpacter undo1 = impacter1.impactScore(1L, scoreConsumer);
+        impacter1.impactScore(1L, scoreConsumer);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(SimpleLongScore.of(-90L));
         scoreInliner.buildWeightedScoreImpacter(SimpleLongScore.of(-800L)).impactScore(1L, scoreConsumer);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(SimpleLongScore.of(-890L));
-        undo1.undoScoreImpact();
+        impacter1.undoScoreImpact(1L);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(SimpleLongScore.of(-800L));
 
         LongWeightedScoreImpacter impacter2 = scoreInliner.buildWeightedScoreImpacter(SimpleLongScore.of(-1L));
-        UndoScoreImpacter undo2 = impacter2.impactScore(3L, scoreConsumer);
+        impacter2.impactScore(3L, scoreConsumer);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(SimpleLongScore.of(-803L));
         impacter2.impactScore(10L, scoreConsumer);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(SimpleLongScore.of(-813L));
-        undo2.undoScoreImpact();
+        impacter2.undoScoreImpact(3L);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(SimpleLongScore.of(-810L));
     }
 
@@ -37,6 +37,7 @@ import org.optaplanner.core.config.score.director.ScoreDirectorFactoryConfig;
 import org.optaplanner.core.config.solver.EnvironmentMode;
 import org.optaplanner.core.impl.score.director.easy.EasyScoreDirector;
 import org.optaplanner.core.impl.score.director.incremental.IncrementalScoreDirector;
+import org.optaplanner.core.impl.score.director.stream.ConstraintStreamScoreDirectorFactory;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 
 class ScoreDirectorFactoryFactoryTest {
@@ -166,6 +167,28 @@ class ScoreDirectorFactoryFactoryTest {
                 .withMessageContaining("scoreDrl");
     }
 
+    @Test
+    void constraintSessionFactoryCache() {
+        ScoreDirectorFactoryConfig config = new ScoreDirectorFactoryConfig()
+                .withConstraintProviderClass(TestdataConstraintProvider.class);
+        ConstraintStreamScoreDirectorFactory<TestdataSolution, ?> scoreDirectorFactory1;
+        ScoreDirectorFactoryFactory.enableConstraintSessionFactoryCache();
+        try {
+            scoreDirectorFactory1 =
+                    (ConstraintStreamScoreDirectorFactory<TestdataSolution, ?>) buildTestdataScoreDirectoryFactory(config);
+            ConstraintStreamScoreDirectorFactory<TestdataSolution, ?> scoreDirectorFactory2 =
+                    (ConstraintStreamScoreDirectorFactory<TestdataSolution, ?>) buildTestdataScoreDirectoryFactory(config);
+            assertThat(scoreDirectorFactory2).isNotSameAs(scoreDirectorFactory1);
+            assertThat(scoreDirectorFactory2.getConstraints()).isSameAs(scoreDirectorFactory1.getConstraints());
+        } finally {
+            ScoreDirectorFactoryFactory.disableConstraintSessionFactoryCache();
+        }
+        // Once disabled, the cached constraints are neither reused nor kept reachable
+        ConstraintStreamScoreDirectorFactory<TestdataSolution, ?> scoreDirectorFactory3 =
+                (ConstraintStreamScoreDirectorFactory<TestdataSolution, ?>) buildTestdataScoreDirectoryFactory(config);
+        assertThat(scoreDirectorFactory3.getConstraints()).isNotSameAs(scoreDirectorFactory1.getConstraints());
+    }
+
     private <Score_ extends Score<Score_>> ScoreDirectorFactory<TestdataSolution> buildTestdataScoreDirectoryFactory(
             ScoreDirectorFactoryConfig config, EnvironmentMode environmentMode) {
         return new ScoreDirectorFactoryFactory<TestdataSolution, Score_>(config)
@@ -21,12 +21,28 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.withSettings;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
+import org.kie.api.event.rule.AfterMatchFiredEvent;
+import org.kie.api.event.rule.DefaultAgendaEventListener;
 import org.kie.api.runtime.KieSession;
 import org.kie.internal.event.rule.RuleEventManager;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.config.score.director.ScoreDirectorFactoryConfig;
+import org.optaplanner.core.config.solver.EnvironmentMode;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.score.buildin.simple.SimpleScoreDefinition;
+import org.optaplanner.core.impl.score.director.ScoreDirectorFactoryFactory;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.domain.extended.TestdataUnannotatedExtendedEntity;
+import org.optaplanner.core.impl.testdata.domain.multivar.TestdataMultiVarEntity;
+import org.optaplanner.core.impl.testdata.domain.multivar.TestdataMultiVarSolution;
 
 public class DroolsScoreDirectorTest {
 
@@ -54,6 +70,109 @@ public class DroolsScoreDirectorTest {
         assertThat(director.getIndictmentMap()).isNotNull();
     }
 
+    @Test
+    public void variableChangedOnlyRefiresRulesThatDependOnThatVariable() {
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataMultiVarEntity entity = new TestdataMultiVarEntity("e1", v1, v1, null);
+        TestdataMultiVarSolution solution = new TestdataMultiVarSolution("s1");
+        solution.setValueList(Arrays.asList(v1, v2));
+        solution.setOtherValueList(Collections.emptyList());
+        solution.setMultiVarEntityList(Collections.singletonList(entity));
+
+        DroolsScoreDirector<TestdataMultiVarSolution, SimpleScore> scoreDirector =
+                buildPropertyReactiveScoreDirector(TestdataMultiVarSolution.buildSolutionDescriptor());
+        scoreDirector.setWorkingSolution(solution);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-2));
+        List<String> firedRuleNameList = recordFiredRuleNames(scoreDirector);
+
+        scoreDirector.beforeVariableChanged(entity, "primaryValue");
+        entity.setPrimaryValue(v2);
+        scoreDirector.afterVariableChanged(entity, "primaryValue");
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-2));
+        assertThat(firedRuleNameList).containsExactly("primaryValue");
+
+        // The second change of the same variable uses the cached mask
+        firedRuleNameList.clear();
+        scoreDirector.beforeVariableChanged(entity, "primaryValue");
+        entity.setPrimaryValue(v1);
+        scoreDirector.afterVariableChanged(entity, "primaryValue");
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-2));
+        assertThat(firedRuleNameList).containsExactly("primaryValue");
+
+        firedRuleNameList.clear();
+        scoreDirector.beforeVariableChanged(entity, "secondaryValue");
+        entity.setSecondaryValue(v2);
+        scoreDirector.afterVariableChanged(entity, "secondaryValue");
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-2));
+        assertThat(firedRuleNameList).containsExactly("secondaryValue");
+        scoreDirector.close();
+    }
+
+    @Test
+    public void variableChangedOnEntitySubclassOnlyRefiresRulesThatDependOnThatVariable() {
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataEntity entity = new TestdataEntity("e1", v1);
+        // The subclass has an extra accessible property, so its property indexes differ from those of its superclass
+        TestdataUnannotatedExtendedEntity extendedEntity = new TestdataUnannotatedExtendedEntity("e2", v1, "extra");
+        TestdataSolution solution = new TestdataSolution("s1");
+        solution.setValueList(Arrays.asList(v1, v2));
+        solution.setEntityList(Arrays.asList(entity, extendedEntity));
+
+        DroolsScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                buildPropertyReactiveScoreDirector(TestdataSolution.buildSolutionDescriptor());
+        scoreDirector.setWorkingSolution(solution);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-5));
+        List<String> firedRuleNameList = recordFiredRuleNames(scoreDirector);
+
+        scoreDirector.beforeVariableChanged(extendedEntity, "value");
+        extendedEntity.setValue(v2);
+        scoreDirector.afterVariableChanged(extendedEntity, "value");
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-5));
+        assertThat(firedRuleNameList).containsExactly("value");
+
+        // The superclass entity uses the cached mask, the subclass entity does not
+        firedRuleNameList.clear();
+        scoreDirector.beforeVariableChanged(entity, "value");
+        entity.setValue(v2);
+        scoreDirector.afterVariableChanged(entity, "value");
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-5));
+        assertThat(firedRuleNameList).containsExactly("value");
+
+        firedRuleNameList.clear();
+        scoreDirector.beforeVariableChanged(extendedEntity, "value");
+        extendedEntity.setValue(v1);
+        scoreDirector.afterVariableChanged(extendedEntity, "value");
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-5));
+        assertThat(firedRuleNameList).containsExactly("value");
+        scoreDirector.close();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <Solution_> DroolsScoreDirector<Solution_, SimpleScore> buildPropertyReactiveScoreDirector(
+            SolutionDescriptor<Solution_> solutionDescriptor) {
+        ScoreDirectorFactoryConfig config = new ScoreDirectorFactoryConfig()
+                .withScoreDrls(getClass().getPackage().getName().replace('.', '/')
+                        + "/propertyReactiveDroolsConstraints.drl");
+        ScoreDirectorFactoryFactory<Solution_, SimpleScore> scoreDirectorFactoryFactory =
+                new ScoreDirectorFactoryFactory<>(config);
+        return (DroolsScoreDirector<Solution_, SimpleScore>) scoreDirectorFactoryFactory
+                .buildScoreDirectorFactory(getClass().getClassLoader(), EnvironmentMode.REPRODUCIBLE, solutionDescriptor)
+                .buildScoreDirector(false, false);
+    }
+
+    private static List<String> recordFiredRuleNames(DroolsScoreDirector<?, ?> scoreDirector) {
+        List<String> firedRuleNameList = new ArrayList<>();
+        scoreDirector.getKieSession().addEventListener(new DefaultAgendaEventListener() {
+            @Override
+            public void afterMatchFired(AfterMatchFiredEvent event) {
+                firedRuleNameList.add(event.getMatch().getRule().getName());
+            }
+        });
+        return firedRuleNameList;
+    }
+
     @SuppressWarnings("unchecked")
     private DroolsScoreDirectorFactory<Object, SimpleScore> mockDroolsScoreDirectorFactory() {
         DroolsScoreDirectorFactory<Object, SimpleScore> factory = mock(DroolsScoreDirectorFactory.class);
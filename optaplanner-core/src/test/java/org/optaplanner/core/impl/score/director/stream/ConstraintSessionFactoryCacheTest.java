@@ -0,0 +1,114 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.director.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.domain.common.DomainAccessType;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.ConstraintFactory;
+import org.optaplanner.core.api.score.stream.ConstraintProvider;
+import org.optaplanner.core.api.score.stream.ConstraintStreamImplType;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+
+public class ConstraintSessionFactoryCacheTest {
+
+    private static final AtomicInteger DEFINE_CONSTRAINTS_COUNT = new AtomicInteger();
+
+    @Test
+    public void buildScoreDirectorFactory() {
+        ConstraintSessionFactoryCache cache = new ConstraintSessionFactoryCache();
+        int defineConstraintsCount = DEFINE_CONSTRAINTS_COUNT.get();
+        SolutionDescriptor<TestdataSolution> solutionDescriptor1 = TestdataSolution.buildSolutionDescriptor();
+        ConstraintStreamScoreDirectorFactory<TestdataSolution, SimpleScore> directorFactory1 =
+                cache.buildScoreDirectorFactory(null, solutionDescriptor1, CountingConstraintProvider.class, null,
+                        ConstraintStreamImplType.BAVET, CountingConstraintProvider::new);
+        SolutionDescriptor<TestdataSolution> solutionDescriptor2 = TestdataSolution.buildSolutionDescriptor();
+        ConstraintStreamScoreDirectorFactory<TestdataSolution, SimpleScore> directorFactory2 =
+                cache.buildScoreDirectorFactory(null, solutionDescriptor2, CountingConstraintProvider.class, null,
+                        ConstraintStreamImplType.BAVET, CountingConstraintProvider::new);
+        assertThat(DEFINE_CONSTRAINTS_COUNT.get()).isEqualTo(defineConstraintsCount + 1);
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(directorFactory1).isNotSameAs(directorFactory2);
+        assertThat(directorFactory2.getSolutionDescriptor()).isSameAs(solutionDescriptor2);
+        assertThat(directorFactory2.getConstraints()).isSameAs(directorFactory1.getConstraints());
+
+        TestdataSolution solution = TestdataSolution.generateSolution(2, 3);
+        ConstraintStreamScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                directorFactory2.buildScoreDirector(false, false);
+        scoreDirector.setWorkingSolution(solution);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-3));
+    }
+
+    @Test
+    public void differentCustomProperties() {
+        ConstraintSessionFactoryCache cache = new ConstraintSessionFactoryCache();
+        cache.buildScoreDirectorFactory(null, TestdataSolution.buildSolutionDescriptor(),
+                CountingConstraintProvider.class, null, ConstraintStreamImplType.BAVET, CountingConstraintProvider::new);
+        cache.buildScoreDirectorFactory(null, TestdataSolution.buildSolutionDescriptor(),
+                CountingConstraintProvider.class, Collections.singletonMap("key", "value"),
+                ConstraintStreamImplType.BAVET, CountingConstraintProvider::new);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void differentClassLoader() {
+        ConstraintSessionFactoryCache cache = new ConstraintSessionFactoryCache();
+        ClassLoader classLoader = new ClassLoader(getClass().getClassLoader()) {
+        };
+        cache.buildScoreDirectorFactory(null, TestdataSolution.buildSolutionDescriptor(),
+                CountingConstraintProvider.class, null, ConstraintStreamImplType.BAVET, CountingConstraintProvider::new);
+        cache.buildScoreDirectorFactory(classLoader, TestdataSolution.buildSolutionDescriptor(),
+                CountingConstraintProvider.class, null, ConstraintStreamImplType.BAVET, CountingConstraintProvider::new);
+        cache.buildScoreDirectorFactory(classLoader, TestdataSolution.buildSolutionDescriptor(),
+                CountingConstraintProvider.class, null, ConstraintStreamImplType.BAVET, CountingConstraintProvider::new);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void differentDomainAccessType() {
+        ConstraintSessionFactoryCache cache = new ConstraintSessionFactoryCache();
+        cache.buildScoreDirectorFactory(null, TestdataSolution.buildSolutionDescriptor(),
+                CountingConstraintProvider.class, null, ConstraintStreamImplType.BAVET, CountingConstraintProvider::new);
+        SolutionDescriptor<TestdataSolution> gizmoSolutionDescriptor = TestdataSolution.buildSolutionDescriptor();
+        gizmoSolutionDescriptor.setDomainAccessType(DomainAccessType.GIZMO);
+        cache.buildScoreDirectorFactory(null, gizmoSolutionDescriptor,
+                CountingConstraintProvider.class, null, ConstraintStreamImplType.BAVET, CountingConstraintProvider::new);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    public static class CountingConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint[] defineConstraints(ConstraintFactory constraintFactory) {
+            DEFINE_CONSTRAINTS_COUNT.incrementAndGet();
+            return new Constraint[] {
+                    constraintFactory.from(TestdataEntity.class)
+                            .penalize("Penalize every entity", SimpleScore.ONE)
+            };
+        }
+
+    }
+
+}
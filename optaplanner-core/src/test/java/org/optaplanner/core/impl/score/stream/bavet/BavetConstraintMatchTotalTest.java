@@ -0,0 +1,157 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.optaplanner.core.impl.score.stream.bavet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.optaplanner.core.api.score.stream.Joiners.equal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.constraint.ConstraintMatch;
+import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+import org.optaplanner.core.api.score.constraint.Indictment;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.ConstraintStreamImplType;
+import org.optaplanner.core.impl.score.director.stream.ConstraintStreamScoreDirector;
+import org.optaplanner.core.impl.score.director.stream.ConstraintStreamScoreDirectorFactory;
+import org.optaplanner.core.impl.testdata.domain.score.lavish.TestdataLavishEntity;
+import org.optaplanner.core.impl.testdata.domain.score.lavish.TestdataLavishSolution;
+import org.optaplanner.core.impl.testdata.domain.score.lavish.TestdataLavishValue;
+
+/**
+ * The constraint match totals and indictments are maintained incrementally,
+ * so after every change they must equal those of a session built from scratch.
+ */
+public class BavetConstraintMatchTotalTest {
+
+    @Test
+    public void incrementalEqualsFromScratch() {
+        // Every entity is a justification of both constraints, so the indictments combine them
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5);
+        List<TestdataLavishEntity> entityList = solution.getEntityList();
+        TestdataLavishValue value1 = solution.getValueList().get(0);
+        TestdataLavishValue value2 = solution.getValueList().get(1);
+        ConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector();
+        scoreDirector.setWorkingSolution(solution);
+        assertEqualsFromScratch(scoreDirector, solution);
+
+        // Insert
+        TestdataLavishEntity entity = new TestdataLavishEntity("New entity", solution.getEntityGroupList().get(0),
+                value1);
+        scoreDirector.beforeEntityAdded(entity);
+        entityList.add(entity);
+        scoreDirector.afterEntityAdded(entity);
+        assertEqualsFromScratch(scoreDirector, solution);
+
+        // Update
+        TestdataLavishEntity entity1 = entityList.get(0);
+        scoreDirector.beforeVariableChanged(entity1, "value");
+        entity1.setValue(value2);
+        scoreDirector.afterVariableChanged(entity1, "value");
+        assertEqualsFromScratch(scoreDirector, solution);
+
+        // Remove a match and then re-add it
+        scoreDirector.beforeVariableChanged(entity, "value");
+        entity.setValue(null);
+        scoreDirector.afterVariableChanged(entity, "value");
+        assertEqualsFromScratch(scoreDirector, solution);
+        assertThat(scoreDirector.getIndictmentMap()).doesNotContainKey(entity);
+        scoreDirector.beforeVariableChanged(entity, "value");
+        entity.setValue(value1);
+        scoreDirector.afterVariableChanged(entity, "value");
+        assertEqualsFromScratch(scoreDirector, solution);
+        assertThat(scoreDirector.getIndictmentMap()).containsKey(entity);
+
+        // Retract
+        scoreDirector.beforeEntityRemoved(entity1);
+        entityList.remove(entity1);
+        scoreDirector.afterEntityRemoved(entity1);
+        assertEqualsFromScratch(scoreDirector, solution);
+        assertThat(scoreDirector.getIndictmentMap()).doesNotContainKey(entity1);
+    }
+
+    private static void assertEqualsFromScratch(
+            ConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector,
+            TestdataLavishSolution solution) {
+        scoreDirector.triggerVariableListeners();
+        SimpleScore score = scoreDirector.calculateScore();
+        ConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> fromScratchScoreDirector =
+                buildScoreDirector();
+        fromScratchScoreDirector.setWorkingSolution(solution);
+        assertThat(score).isEqualTo(fromScratchScoreDirector.calculateScore());
+
+        Map<String, ConstraintMatchTotal<SimpleScore>> constraintMatchTotalMap =
+                scoreDirector.getConstraintMatchTotalMap();
+        Map<String, ConstraintMatchTotal<SimpleScore>> fromScratchConstraintMatchTotalMap =
+                fromScratchScoreDirector.getConstraintMatchTotalMap();
+        assertThat(constraintMatchTotalMap.keySet())
+                .containsExactlyInAnyOrderElementsOf(fromScratchConstraintMatchTotalMap.keySet());
+        fromScratchConstraintMatchTotalMap.forEach((constraintId, fromScratchConstraintMatchTotal) -> {
+            ConstraintMatchTotal<SimpleScore> constraintMatchTotal = constraintMatchTotalMap.get(constraintId);
+            assertThat(constraintMatchTotal.getScore()).isEqualTo(fromScratchConstraintMatchTotal.getScore());
+            assertThat(toComparableList(constraintMatchTotal.getConstraintMatchSet()))
+                    .containsExactlyInAnyOrderElementsOf(
+                            toComparableList(fromScratchConstraintMatchTotal.getConstraintMatchSet()));
+        });
+
+        Map<Object, Indictment<SimpleScore>> indictmentMap = scoreDirector.getIndictmentMap();
+        Map<Object, Indictment<SimpleScore>> fromScratchIndictmentMap = fromScratchScoreDirector.getIndictmentMap();
+        assertThat(indictmentMap.keySet()).containsExactlyInAnyOrderElementsOf(fromScratchIndictmentMap.keySet());
+        fromScratchIndictmentMap.forEach((justification, fromScratchIndictment) -> {
+            Indictment<SimpleScore> indictment = indictmentMap.get(justification);
+            assertThat(indictment.getJustification()).isSameAs(justification);
+            assertThat(indictment.getScore()).isEqualTo(fromScratchIndictment.getScore());
+            assertThat(toComparableList(indictment.getConstraintMatchSet()))
+                    .containsExactlyInAnyOrderElementsOf(toComparableList(fromScratchIndictment.getConstraintMatchSet()));
+        });
+        fromScratchScoreDirector.close();
+    }
+
+    /**
+     * Different sessions create different {@link ConstraintMatch} instances, which aren't equal.
+     */
+    private static List<List<Object>> toComparableList(Collection<ConstraintMatch<SimpleScore>> constraintMatches) {
+        return constraintMatches.stream()
+                .map(constraintMatch -> Arrays.<Object> asList(constraintMatch.getConstraintId(),
+                        new ArrayList<>(constraintMatch.getJustificationList()), constraintMatch.getScore()))
+                .collect(Collectors.toList());
+    }
+
+    private static ConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> buildScoreDirector() {
+        ConstraintStreamScoreDirectorFactory<TestdataLavishSolution, SimpleScore> scoreDirectorFactory =
+                new ConstraintStreamScoreDirectorFactory<>(TestdataLavishSolution.buildSolutionDescriptor(),
+                        constraintFactory -> new Constraint[] {
+                                constraintFactory.from(TestdataLavishEntity.class)
+                                        .filter(entity -> entity.getValue() != null)
+                                        .penalize("Assigned", SimpleScore.ONE),
+                                constraintFactory.fromUniquePair(TestdataLavishEntity.class,
+                                        equal(TestdataLavishEntity::getValue))
+                                        .penalize("Same value", SimpleScore.of(2))
+                        },
+                        ConstraintStreamImplType.BAVET);
+        return scoreDirectorFactory.buildScoreDirector(false, true);
+    }
+
+}
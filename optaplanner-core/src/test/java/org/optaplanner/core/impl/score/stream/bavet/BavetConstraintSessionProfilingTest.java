@@ -0,0 +1,98 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.ConstraintCollectors;
+import org.optaplanner.core.api.score.stream.ConstraintStreamImplType;
+import org.optaplanner.core.impl.score.constraint.ConstraintProfile;
+import org.optaplanner.core.impl.score.director.stream.ConstraintStreamScoreDirector;
+import org.optaplanner.core.impl.score.director.stream.ConstraintStreamScoreDirectorFactory;
+import org.optaplanner.core.impl.testdata.domain.score.lavish.TestdataLavishEntity;
+import org.optaplanner.core.impl.testdata.domain.score.lavish.TestdataLavishSolution;
+
+public class BavetConstraintSessionProfilingTest {
+
+    private static final String CONSTRAINT_PACKAGE = TestdataLavishSolution.class.getPackage().getName();
+
+    @Test
+    public void constraintProfileMap() {
+        ConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector();
+        scoreDirector.overwriteConstraintProfilingEnabledPreference(true);
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution();
+        scoreDirector.setWorkingSolution(solution);
+        assertThat(scoreDirector.isConstraintProfilingEnabled()).isTrue();
+        scoreDirector.calculateScore();
+
+        Map<String, ConstraintProfile> constraintProfileMap = scoreDirector.getConstraintProfileMap();
+        assertThat(constraintProfileMap).containsOnlyKeys(CONSTRAINT_PACKAGE + "/Assigned",
+                CONSTRAINT_PACKAGE + "/Assigned count");
+        ConstraintProfile assignedProfile = constraintProfileMap.get(CONSTRAINT_PACKAGE + "/Assigned");
+        assertThat(assignedProfile.getConstraintName()).isEqualTo("Assigned");
+        assertThat(assignedProfile.getEvaluationCount()).isPositive();
+        assertThat(assignedProfile.getCreatedTupleCount()).isPositive();
+        assertThat(assignedProfile.getRetractedTupleCount()).isZero();
+        assertThat(assignedProfile.getTimeNanosSpent()).isNotNegative();
+
+        TestdataLavishEntity entity = solution.getEntityList().get(0);
+        scoreDirector.beforeEntityRemoved(entity);
+        solution.getEntityList().remove(entity);
+        scoreDirector.afterEntityRemoved(entity);
+        scoreDirector.triggerVariableListeners();
+        scoreDirector.calculateScore();
+
+        ConstraintProfile updatedAssignedProfile = scoreDirector.getConstraintProfileMap()
+                .get(CONSTRAINT_PACKAGE + "/Assigned");
+        assertThat(updatedAssignedProfile.getEvaluationCount()).isGreaterThan(assignedProfile.getEvaluationCount());
+        assertThat(updatedAssignedProfile.getRetractedTupleCount()).isPositive();
+    }
+
+    @Test
+    public void constraintProfilingDisabled() {
+        ConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector();
+        scoreDirector.setWorkingSolution(TestdataLavishSolution.generateSolution());
+        assertThat(scoreDirector.isConstraintProfilingEnabled()).isFalse();
+        assertThatIllegalStateException().isThrownBy(scoreDirector::getConstraintProfileMap);
+    }
+
+    private static ConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> buildScoreDirector() {
+        // The same filter instance makes both constraints share their from and filter nodes.
+        Predicate<TestdataLavishEntity> assignedFilter = entity -> entity.getValue() != null;
+        ConstraintStreamScoreDirectorFactory<TestdataLavishSolution, SimpleScore> scoreDirectorFactory =
+                new ConstraintStreamScoreDirectorFactory<>(TestdataLavishSolution.buildSolutionDescriptor(),
+                        constraintFactory -> new Constraint[] {
+                                constraintFactory.from(TestdataLavishEntity.class)
+                                        .filter(assignedFilter)
+                                        .penalize("Assigned", SimpleScore.ONE),
+                                constraintFactory.from(TestdataLavishEntity.class)
+                                        .filter(assignedFilter)
+                                        .groupBy(ConstraintCollectors.count())
+                                        .penalize("Assigned count", SimpleScore.ONE)
+                        },
+                        ConstraintStreamImplType.BAVET);
+        return scoreDirectorFactory.buildScoreDirector(false, false);
+    }
+
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.optaplanner.core.api.score.stream.Joiners.equal;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.ConstraintCollectors;
+import org.optaplanner.core.api.score.stream.ConstraintFactory;
+import org.optaplanner.core.api.score.stream.ConstraintProvider;
+import org.optaplanner.core.api.score.stream.ConstraintStreamImplType;
+import org.optaplanner.core.api.score.stream.bi.BiConstraintCollector;
+import org.optaplanner.core.api.score.stream.bi.BiConstraintStream;
+import org.optaplanner.core.api.score.stream.bi.BiJoiner;
+import org.optaplanner.core.api.score.stream.uni.UniConstraintCollector;
+import org.optaplanner.core.impl.score.director.stream.ConstraintStreamScoreDirector;
+import org.optaplanner.core.impl.score.director.stream.ConstraintStreamScoreDirectorFactory;
+import org.optaplanner.core.impl.score.stream.bavet.bi.BavetFilterBiNode;
+import org.optaplanner.core.impl.score.stream.bavet.bi.BavetGroupBiNode;
+import org.optaplanner.core.impl.score.stream.bavet.bi.BavetGroupBridgeBiNode;
+import org.optaplanner.core.impl.score.stream.bavet.bi.BavetJoinBiNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetNode;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetFilterUniNode;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetFromUniNode;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetGroupBridgeUniNode;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetIfExistsUniNode;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniNode;
+import org.optaplanner.core.impl.testdata.domain.score.lavish.TestdataLavishEntity;
+import org.optaplanner.core.impl.testdata.domain.score.lavish.TestdataLavishEntityGroup;
+import org.optaplanner.core.impl.testdata.domain.score.lavish.TestdataLavishSolution;
+import org.optaplanner.core.impl.testdata.domain.score.lavish.TestdataLavishValue;
+
+/**
+ * Nodes are only shared if their lambdas are the same instances,
+ * so these constraints reuse the same filter, joiner and collector instances.
+ */
+public class BavetConstraintStreamNodeSharingTest {
+
+    private static final Predicate<TestdataLavishEntity> FILTER = entity -> entity.getValue() != null;
+    private static final BiJoiner<TestdataLavishEntity, TestdataLavishEntity> GROUP_JOINER =
+            equal(TestdataLavishEntity::getEntityGroup);
+    private static final BiJoiner<TestdataLavishEntity, TestdataLavishValue> VALUE_JOINER =
+            equal(TestdataLavishEntity::getValue, Function.identity());
+    private static final Function<TestdataLavishEntity, TestdataLavishEntityGroup> GROUP_KEY_MAPPING =
+            TestdataLavishEntity::getEntityGroup;
+    private static final UniConstraintCollector<TestdataLavishEntity, ?, Integer> COUNT = ConstraintCollectors.count();
+    private static final BiFunction<TestdataLavishEntity, TestdataLavishEntity, TestdataLavishEntityGroup>
+            BI_GROUP_KEY_MAPPING = (entity, otherEntity) -> entity.getEntityGroup();
+    private static final BiConstraintCollector<TestdataLavishEntity, TestdataLavishEntity, ?, Integer> COUNT_BI =
+            ConstraintCollectors.countBi();
+
+    @Test
+    void filterAndJoin() {
+        BavetConstraintSession<TestdataLavishSolution, SimpleScore> session = buildSession(
+                factory -> factory.from(TestdataLavishEntity.class)
+                        .filter(FILTER)
+                        .join(TestdataLavishEntity.class, GROUP_JOINER)
+                        .penalize("First constraint", SimpleScore.ONE),
+                factory -> factory.from(TestdataLavishEntity.class)
+                        .filter(FILTER)
+                        .join(TestdataLavishEntity.class, GROUP_JOINER)
+                        .reward("Second constraint", SimpleScore.ONE));
+        List<BavetNode> nodeList = session.getNodes();
+        assertThat(filterNodes(nodeList, BavetFromUniNode.class)).hasSize(1);
+        assertThat(filterNodes(nodeList, BavetFilterUniNode.class))
+                .as("Both the isInitialized filter and the custom filter are shared.")
+                .hasSize(2);
+        assertThat(filterNodes(nodeList, BavetJoinBridgeUniNode.class)).hasSize(2);
+        List<BavetJoinBiNode> joinNodeList = filterNodes(nodeList, BavetJoinBiNode.class);
+        assertThat(joinNodeList).hasSize(1);
+        assertThat(joinNodeList.get(0).getChildNodeList())
+                .as("Scoring nodes aren't shared.")
+                .hasSize(2);
+        assertThat(session.getScoringNodes()).hasSize(2);
+    }
+
+    @Test
+    void differentJoinerInstances() {
+        BavetConstraintSession<TestdataLavishSolution, SimpleScore> session = buildSession(
+                factory -> factory.from(TestdataLavishEntity.class)
+                        .join(TestdataLavishEntity.class, equal(TestdataLavishEntity::getStringProperty))
+                        .penalize("First constraint", SimpleScore.ONE),
+                factory -> factory.from(TestdataLavishEntity.class)
+                        .join(TestdataLavishEntity.class, equal(TestdataLavishEntity::getIntegerProperty))
+                        .penalize("Second constraint", SimpleScore.ONE));
+        List<BavetNode> nodeList = session.getNodes();
+        assertThat(filterNodes(nodeList, BavetFromUniNode.class)).hasSize(1);
+        assertThat(filterNodes(nodeList, BavetJoinBridgeUniNode.class)).hasSize(4);
+        assertThat(filterNodes(nodeList, BavetJoinBiNode.class)).hasSize(2);
+    }
+
+    @Test
+    void fromUniquePair() {
+        BavetConstraintSession<TestdataLavishSolution, SimpleScore> session = buildSession(
+                factory -> factory.fromUniquePair(TestdataLavishEntity.class, GROUP_JOINER)
+                        .penalize("First constraint", SimpleScore.ONE),
+                factory -> factory.fromUniquePair(TestdataLavishEntity.class, GROUP_JOINER)
+                        .reward("Second constraint", SimpleScore.ONE));
+        List<BavetNode> nodeList = session.getNodes();
+        assertThat(filterNodes(nodeList, BavetJoinBridgeUniNode.class)).hasSize(2);
+        assertThat(filterNodes(nodeList, BavetJoinBiNode.class)).hasSize(1);
+    }
+
+    @Test
+    void ifExists() {
+        BavetConstraintSession<TestdataLavishSolution, SimpleScore> session = buildSession(
+                factory -> factory.from(TestdataLavishEntity.class)
+                        .ifExists(TestdataLavishValue.class, VALUE_JOINER)
+                        .penalize("First constraint", SimpleScore.ONE),
+                factory -> factory.from(TestdataLavishEntity.class)
+                        .ifExists(TestdataLavishValue.class, VALUE_JOINER)
+                        .reward("Second constraint", SimpleScore.ONE),
+                factory -> factory.from(TestdataLavishEntity.class)
+                        .ifNotExists(TestdataLavishValue.class, VALUE_JOINER)
+                        .penalize("Third constraint", SimpleScore.ONE));
+        List<BavetNode> nodeList = session.getNodes();
+        assertThat(filterNodes(nodeList, BavetJoinBridgeUniNode.class)).hasSize(2);
+        assertThat(filterNodes(nodeList, BavetIfExistsUniNode.class))
+                .as("The ifNotExists() node isn't shared with the ifExists() node.")
+                .hasSize(2);
+    }
+
+    @Test
+    void groupBy() {
+        BavetConstraintSession<TestdataLavishSolution, SimpleScore> session = buildSession(
+                factory -> factory.from(TestdataLavishEntity.class)
+                        .groupBy(GROUP_KEY_MAPPING, COUNT)
+                        .penalize("First constraint", SimpleScore.ONE),
+                factory -> factory.from(TestdataLavishEntity.class)
+                        .groupBy(GROUP_KEY_MAPPING, COUNT)
+                        .reward("Second constraint", SimpleScore.ONE));
+        List<BavetNode> nodeList = session.getNodes();
+        assertThat(filterNodes(nodeList, BavetGroupBridgeUniNode.class)).hasSize(1);
+        assertThat(filterNodes(nodeList, BavetGroupBiNode.class)).hasSize(1);
+        assertThat(session.getScoringNodes()).hasSize(2);
+    }
+
+    @Test
+    void joinAndGroupBy() {
+        BavetConstraintSession<TestdataLavishSolution, SimpleScore> session = buildSession(
+                factory -> factory.from(TestdataLavishEntity.class)
+                        .join(TestdataLavishEntity.class, GROUP_JOINER)
+                        .groupBy(BI_GROUP_KEY_MAPPING, COUNT_BI)
+                        .penalize("First constraint", SimpleScore.ONE),
+                factory -> factory.from(TestdataLavishEntity.class)
+                        .join(TestdataLavishEntity.class, GROUP_JOINER)
+                        .groupBy(BI_GROUP_KEY_MAPPING, COUNT_BI)
+                        .reward("Second constraint", SimpleScore.ONE));
+        List<BavetNode> nodeList = session.getNodes();
+        assertThat(filterNodes(nodeList, BavetJoinBridgeUniNode.class)).hasSize(2);
+        assertThat(filterNodes(nodeList, BavetJoinBiNode.class)).hasSize(1);
+        assertThat(filterNodes(nodeList, BavetGroupBridgeBiNode.class)).hasSize(1);
+        assertThat(filterNodes(nodeList, BavetGroupBiNode.class)).hasSize(1);
+        assertThat(session.getScoringNodes()).hasSize(2);
+    }
+
+    @Test
+    void reusedStream() {
+        BavetConstraintSession<TestdataLavishSolution, SimpleScore> session = buildSession((ConstraintProvider) factory -> {
+            BiConstraintStream<TestdataLavishEntityGroup, Integer> base = factory.from(TestdataLavishEntity.class)
+                    .join(TestdataLavishEntity.class, GROUP_JOINER)
+                    .groupBy(BI_GROUP_KEY_MAPPING, COUNT_BI);
+            return new Constraint[] {
+                    base.penalize("First constraint", SimpleScore.ONE),
+                    base.filter((group, count) -> count > 1)
+                            .reward("Second constraint", SimpleScore.ONE)
+            };
+        });
+        List<BavetNode> nodeList = session.getNodes();
+        assertThat(filterNodes(nodeList, BavetJoinBridgeUniNode.class)).hasSize(2);
+        assertThat(filterNodes(nodeList, BavetJoinBiNode.class)).hasSize(1);
+        assertThat(filterNodes(nodeList, BavetGroupBridgeBiNode.class)).hasSize(1);
+        assertThat(filterNodes(nodeList, BavetGroupBiNode.class)).hasSize(1);
+        assertThat(filterNodes(nodeList, BavetFilterBiNode.class))
+                .as("Only the second constraint creates the filter node.")
+                .hasSize(1);
+        assertThat(session.getScoringNodes())
+                .as("Every constraint creates its scoring node only once.")
+                .hasSize(2);
+    }
+
+    private static <Node_ extends BavetNode> List<Node_> filterNodes(List<BavetNode> nodeList, Class<?> nodeClass) {
+        return nodeList.stream()
+                .filter(nodeClass::isInstance)
+                .map(node -> (Node_) node)
+                .collect(Collectors.toList());
+    }
+
+    @SafeVarargs
+    private static BavetConstraintSession<TestdataLavishSolution, SimpleScore> buildSession(
+            Function<ConstraintFactory, Constraint>... functions) {
+        return buildSession((ConstraintProvider) constraintFactory -> {
+            Constraint[] constraints = new Constraint[functions.length];
+            for (int i = 0; i < functions.length; i++) {
+                constraints[i] = functions[i].apply(constraintFactory);
+            }
+            return constraints;
+        });
+    }
+
+    private static BavetConstraintSession<TestdataLavishSolution, SimpleScore> buildSession(
+            ConstraintProvider constraintProvider) {
+        ConstraintStreamScoreDirectorFactory<TestdataLavishSolution, SimpleScore> scoreDirectorFactory =
+                new ConstraintStreamScoreDirectorFactory<>(TestdataLavishSolution.buildSolutionDescriptor(),
+                        constraintProvider, ConstraintStreamImplType.BAVET);
+        ConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector =
+                scoreDirectorFactory.buildScoreDirector(false, false);
+        scoreDirector.setWorkingSolution(TestdataLavishSolution.generateSolution());
+        return (BavetConstraintSession<TestdataLavishSolution, SimpleScore>) scoreDirector.getSession();
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.optaplanner.core.impl.score.stream.bavet.common.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.impl.score.stream.common.JoinerType;
+
+public class BavetComparisonIndexLevelTest {
+
+    @Test
+    public void lessThan() {
+        BavetIndexLevel<String> level = buildLevel(JoinerType.LESS_THAN);
+        assertThat(visit(level, 2)).containsExactly("a1");
+        assertThat(visit(level, 1)).isEmpty();
+        assertThat(visit(level, 4)).containsExactly("a1", "a2", "a3");
+    }
+
+    @Test
+    public void lessThanOrEqual() {
+        BavetIndexLevel<String> level = buildLevel(JoinerType.LESS_THAN_OR_EQUAL);
+        assertThat(visit(level, 2)).containsExactly("a1", "a2");
+        assertThat(visit(level, 0)).isEmpty();
+    }
+
+    @Test
+    public void greaterThan() {
+        BavetIndexLevel<String> level = buildLevel(JoinerType.GREATER_THAN);
+        assertThat(visit(level, 2)).containsExactly("a3");
+        assertThat(visit(level, 3)).isEmpty();
+        assertThat(visit(level, 0)).containsExactly("a1", "a2", "a3");
+    }
+
+    @Test
+    public void greaterThanOrEqual() {
+        BavetIndexLevel<String> level = buildLevel(JoinerType.GREATER_THAN_OR_EQUAL);
+        assertThat(visit(level, 2)).containsExactly("a2", "a3");
+        assertThat(visit(level, 4)).isEmpty();
+    }
+
+    @Test
+    public void notAComparison() {
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> new BavetComparisonIndexLevel<String>(0, JoinerType.EQUAL, BavetTupleSetIndexLevel::new));
+    }
+
+    @Test
+    public void emptyLevel() {
+        BavetIndexLevel<String> level = new BavetComparisonIndexLevel<>(0, JoinerType.LESS_THAN,
+                BavetTupleSetIndexLevel::new);
+        assertThat(level.isEmpty()).isTrue();
+        assertThat(visit(level, 1)).isEmpty();
+        assertThat(level.remove(new Object[] { 1 }, "a1")).isFalse();
+    }
+
+    @Test
+    public void duplicateKeys() {
+        BavetIndexLevel<String> level = new BavetComparisonIndexLevel<>(0, JoinerType.LESS_THAN,
+                BavetTupleSetIndexLevel::new);
+        level.put(new Object[] { 1 }, "a1");
+        level.put(new Object[] { 1 }, "b1");
+        assertThat(visit(level, 2)).containsExactly("a1", "b1");
+
+        assertThat(level.remove(new Object[] { 1 }, "a1")).isTrue();
+        assertThat(visit(level, 2)).containsExactly("b1");
+        // Removing the same tuple twice, or with another key, fails
+        assertThat(level.remove(new Object[] { 1 }, "a1")).isFalse();
+        assertThat(level.remove(new Object[] { 0 }, "b1")).isFalse();
+        assertThat(level.isEmpty()).isFalse();
+
+        assertThat(level.remove(new Object[] { 1 }, "b1")).isTrue();
+        assertThat(level.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void composite() {
+        // A tuple matches if its first property is less than the other first property
+        // and its second property is greater than or equal to the other second property
+        BavetIndexLevel<String> level = new BavetComparisonIndexLevel<>(0, JoinerType.LESS_THAN,
+                () -> new BavetComparisonIndexLevel<>(1, JoinerType.GREATER_THAN_OR_EQUAL,
+                        BavetTupleSetIndexLevel::new));
+        level.put(new Object[] { 1, 10 }, "a1");
+        level.put(new Object[] { 1, 20 }, "b1");
+        level.put(new Object[] { 2, 10 }, "a2");
+        level.put(new Object[] { 3, 30 }, "a3");
+
+        assertThat(visit(level, 2, 10)).containsExactly("a1", "b1");
+        assertThat(visit(level, 2, 15)).containsExactly("b1");
+        assertThat(visit(level, 3, 10)).containsExactly("a1", "b1", "a2");
+        assertThat(visit(level, 4, 25)).containsExactly("a3");
+        assertThat(visit(level, 1, 0)).isEmpty();
+
+        // Removing the last tuple of a nested level removes that nested level too
+        assertThat(level.remove(new Object[] { 2, 10 }, "a2")).isTrue();
+        assertThat(visit(level, 3, 10)).containsExactly("a1", "b1");
+        assertThat(level.remove(new Object[] { 1, 20 }, "a1")).isFalse();
+        assertThat(level.remove(new Object[] { 1, 10 }, "a1")).isTrue();
+        assertThat(level.remove(new Object[] { 1, 20 }, "b1")).isTrue();
+        assertThat(level.remove(new Object[] { 3, 30 }, "a3")).isTrue();
+        assertThat(level.isEmpty()).isTrue();
+        assertThat(visit(level, 4, 0)).isEmpty();
+    }
+
+    private static BavetIndexLevel<String> buildLevel(JoinerType comparisonJoinerType) {
+        BavetIndexLevel<String> level = new BavetComparisonIndexLevel<>(0, comparisonJoinerType,
+                BavetTupleSetIndexLevel::new);
+        level.put(new Object[] { 3 }, "a3");
+        level.put(new Object[] { 1 }, "a1");
+        level.put(new Object[] { 2 }, "a2");
+        return level;
+    }
+
+    private static List<String> visit(BavetIndexLevel<String> level, Object... indexProperties) {
+        List<String> visitedList = new ArrayList<>();
+        level.visit(indexProperties, visitedList::add);
+        return visitedList;
+    }
+
+}
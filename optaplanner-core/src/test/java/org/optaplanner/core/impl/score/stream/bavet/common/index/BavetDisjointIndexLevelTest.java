@@ -0,0 +1,117 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.optaplanner.core.impl.score.stream.bavet.common.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.impl.score.stream.common.JoinerType;
+
+public class BavetDisjointIndexLevelTest {
+
+    @Test
+    public void disjoint() {
+        BavetIndexLevel<String> level = new BavetDisjointIndexLevel<>(0, BavetTupleSetIndexLevel::new);
+        put(level, Arrays.asList("x", "y"), "a");
+        put(level, Arrays.asList("y", "z"), "b");
+        put(level, Collections.singletonList("w"), "c");
+        assertThat(visit(level, Collections.singletonList("x"))).containsExactlyInAnyOrder("b", "c");
+        assertThat(visit(level, Collections.singletonList("y"))).containsExactly("c");
+        assertThat(visit(level, Arrays.asList("x", "z", "w"))).isEmpty();
+        assertThat(visit(level, Collections.singletonList("v"))).containsExactlyInAnyOrder("a", "b", "c");
+
+        assertThat(remove(level, Arrays.asList("y", "z"), "b")).isTrue();
+        assertThat(visit(level, Collections.singletonList("x"))).containsExactly("c");
+        assertThat(remove(level, Arrays.asList("y", "z"), "b")).isFalse();
+        // The element z is no longer stored
+        assertThat(visit(level, Collections.singletonList("z"))).containsExactlyInAnyOrder("a", "c");
+        assertThat(remove(level, Arrays.asList("x", "y"), "a")).isTrue();
+        assertThat(remove(level, Collections.singletonList("w"), "c")).isTrue();
+        assertThat(level.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void emptyCollections() {
+        BavetIndexLevel<String> level = new BavetDisjointIndexLevel<>(0, BavetTupleSetIndexLevel::new);
+        assertThat(visit(level, Collections.emptyList())).isEmpty();
+        put(level, Collections.emptyList(), "a");
+        put(level, Collections.singletonList("x"), "b");
+        // An empty collection is disjoint with every collection, including another empty collection
+        assertThat(visit(level, Collections.singletonList("x"))).containsExactly("a");
+        assertThat(visit(level, Collections.emptyList())).containsExactlyInAnyOrder("a", "b");
+
+        assertThat(remove(level, Collections.emptyList(), "a")).isTrue();
+        assertThat(remove(level, Collections.emptyList(), "a")).isFalse();
+        assertThat(remove(level, Collections.singletonList("x"), "b")).isTrue();
+        assertThat(level.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void duplicateElements() {
+        BavetIndexLevel<String> level = new BavetDisjointIndexLevel<>(0, BavetTupleSetIndexLevel::new);
+        put(level, Arrays.asList("x", "x", "y"), "a");
+        put(level, Arrays.asList("z", "z"), "b");
+        assertThat(visit(level, Arrays.asList("x", "x"))).containsExactly("b");
+        assertThat(visit(level, Arrays.asList("w", "w"))).containsExactlyInAnyOrder("a", "b");
+
+        assertThat(remove(level, Arrays.asList("x", "x", "y"), "a")).isTrue();
+        assertThat(visit(level, Collections.singletonList("x"))).containsExactly("b");
+        assertThat(remove(level, Arrays.asList("z", "z"), "b")).isTrue();
+        assertThat(level.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void matchesJoinerType() {
+        List<List<String>> collectionList = Arrays.asList(Collections.emptyList(), Collections.singletonList("x"),
+                Arrays.asList("x", "y"), Arrays.asList("y", "y"), Arrays.asList("z", "x"));
+        BavetIndexLevel<String> level = new BavetDisjointIndexLevel<>(0, BavetTupleSetIndexLevel::new);
+        for (int i = 0; i < collectionList.size(); i++) {
+            put(level, collectionList.get(i), Integer.toString(i));
+        }
+        for (Collection<String> otherCollection : collectionList) {
+            List<String> expectedList = new ArrayList<>();
+            for (int i = 0; i < collectionList.size(); i++) {
+                if (JoinerType.DISJOINT.matches(collectionList.get(i), otherCollection)) {
+                    expectedList.add(Integer.toString(i));
+                }
+            }
+            assertThat(visit(level, otherCollection)).containsExactlyInAnyOrderElementsOf(expectedList);
+        }
+    }
+
+    private static void put(BavetIndexLevel<String> level, Collection<String> indexProperty, String tuple) {
+        level.put(new Object[] { indexProperty }, tuple);
+    }
+
+    private static boolean remove(BavetIndexLevel<String> level, Collection<String> indexProperty, String tuple) {
+        return level.remove(new Object[] { indexProperty }, tuple);
+    }
+
+    private static List<String> visit(BavetIndexLevel<String> level, Collection<String> otherIndexProperty) {
+        List<String> visitedList = new ArrayList<>();
+        level.visit(new Object[] { otherIndexProperty }, visitedList::add);
+        return visitedList;
+    }
+
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.optaplanner.core.impl.score.stream.bavet.common.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetNode;
+import org.optaplanner.core.impl.score.stream.bi.SingleBiJoiner;
+import org.optaplanner.core.impl.score.stream.common.JoinerType;
+
+public class BavetIntersectingIndexLevelTest {
+
+    @Test
+    public void intersecting() {
+        BavetIndexLevel<String> level = new BavetIntersectingIndexLevel<>(0, true, true, BavetTupleSetIndexLevel::new);
+        put(level, Arrays.asList("x", "y"), "a");
+        put(level, Arrays.asList("y", "z"), "b");
+        put(level, Collections.singletonList("w"), "c");
+        assertThat(visit(level, Collections.singletonList("y"))).containsExactlyInAnyOrder("a", "b");
+        // A tuple that shares several elements with the other side is visited once
+        assertThat(visit(level, Arrays.asList("x", "y", "z"))).containsExactlyInAnyOrder("a", "b");
+        assertThat(visit(level, Arrays.asList("v", "w"))).containsExactly("c");
+        assertThat(visit(level, Collections.singletonList("v"))).isEmpty();
+
+        assertThat(remove(level, Arrays.asList("x", "y"), "a")).isTrue();
+        assertThat(visit(level, Arrays.asList("x", "y", "z"))).containsExactly("b");
+        assertThat(remove(level, Arrays.asList("x", "y"), "a")).isFalse();
+        assertThat(remove(level, Arrays.asList("y", "z"), "b")).isTrue();
+        assertThat(remove(level, Collections.singletonList("w"), "c")).isTrue();
+        assertThat(level.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void emptyCollections() {
+        BavetIndexLevel<String> level = new BavetIntersectingIndexLevel<>(0, true, true, BavetTupleSetIndexLevel::new);
+        assertThat(visit(level, Arrays.asList("x", "y"))).isEmpty();
+        put(level, Collections.emptyList(), "a");
+        put(level, Collections.singletonList("x"), "b");
+        // An empty collection never intersects, not even with another empty collection
+        assertThat(visit(level, Arrays.asList("x", "y"))).containsExactly("b");
+        assertThat(visit(level, Collections.emptyList())).isEmpty();
+        assertThat(level.isEmpty()).isFalse();
+
+        // But it's still removable
+        assertThat(remove(level, Collections.emptyList(), "a")).isTrue();
+        assertThat(remove(level, Collections.emptyList(), "a")).isFalse();
+        assertThat(remove(level, Collections.singletonList("x"), "b")).isTrue();
+        assertThat(level.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void duplicateElements() {
+        BavetIndexLevel<String> level = new BavetIntersectingIndexLevel<>(0, true, true, BavetTupleSetIndexLevel::new);
+        put(level, Arrays.asList("x", "x", "y"), "a");
+        put(level, Arrays.asList("x", "x"), "b");
+        assertThat(visit(level, Arrays.asList("x", "x"))).containsExactlyInAnyOrder("a", "b");
+        assertThat(visit(level, Arrays.asList("y", "y", "x"))).containsExactlyInAnyOrder("a", "b");
+
+        assertThat(remove(level, Arrays.asList("x", "x"), "b")).isTrue();
+        assertThat(visit(level, Collections.singletonList("x"))).containsExactly("a");
+        assertThat(remove(level, Arrays.asList("x", "x", "y"), "a")).isTrue();
+        assertThat(level.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void containingStoredCollection() {
+        BavetIndexLevel<String> level = new BavetIntersectingIndexLevel<>(0, true, false,
+                BavetTupleSetIndexLevel::new);
+        put(level, Arrays.asList("x", "y"), "a");
+        put(level, Collections.singletonList("y"), "b");
+        put(level, Collections.emptyList(), "c");
+        assertThat(visit(level, "y")).containsExactlyInAnyOrder("a", "b");
+        assertThat(visit(level, "x")).containsExactly("a");
+        assertThat(visit(level, "z")).isEmpty();
+
+        assertThat(remove(level, Arrays.asList("x", "y"), "a")).isTrue();
+        assertThat(visit(level, "y")).containsExactly("b");
+        assertThat(remove(level, Collections.singletonList("y"), "b")).isTrue();
+        assertThat(remove(level, Collections.emptyList(), "c")).isTrue();
+        assertThat(level.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void containingStoredElement() {
+        BavetIndexLevel<String> level = new BavetIntersectingIndexLevel<>(0, false, true,
+                BavetTupleSetIndexLevel::new);
+        put(level, "x", "a");
+        put(level, "y", "b");
+        put(level, "y", "c");
+        assertThat(visit(level, Arrays.asList("x", "y"))).containsExactlyInAnyOrder("a", "b", "c");
+        assertThat(visit(level, Arrays.asList("y", "y"))).containsExactlyInAnyOrder("b", "c");
+        assertThat(visit(level, Collections.emptyList())).isEmpty();
+
+        assertThat(remove(level, "y", "b")).isTrue();
+        assertThat(remove(level, "x", "c")).isFalse();
+        assertThat(visit(level, Arrays.asList("x", "y"))).containsExactlyInAnyOrder("a", "c");
+        assertThat(remove(level, "x", "a")).isTrue();
+        assertThat(remove(level, "y", "c")).isTrue();
+        assertThat(level.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void noCollection() {
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> new BavetIntersectingIndexLevel<String>(0, false, false, BavetTupleSetIndexLevel::new));
+    }
+
+    @Test
+    public void containingLeftAndRightBridge() {
+        // The left side is the collection and the right side is the element, regardless of which bridge stores
+        BavetIndexFactory indexFactory = new BavetIndexFactory(
+                new SingleBiJoiner<List<String>, String>(Function.identity(), JoinerType.CONTAINING, Function.identity()));
+
+        BavetIndex<TestTuple> leftIndex = indexFactory.buildIndex(true);
+        TestTuple leftTupleA = new TestTuple("a");
+        TestTuple leftTupleB = new TestTuple("b");
+        leftIndex.put(new Object[] { Arrays.asList("x", "y") }, leftTupleA);
+        leftIndex.put(new Object[] { Collections.singletonList("y") }, leftTupleB);
+        assertThat(visit(leftIndex, "y")).containsExactlyInAnyOrder(leftTupleA, leftTupleB);
+        assertThat(visit(leftIndex, "x")).containsExactly(leftTupleA);
+        leftIndex.remove(leftTupleA);
+        assertThat(visit(leftIndex, "x")).isEmpty();
+
+        BavetIndex<TestTuple> rightIndex = indexFactory.buildIndex(false);
+        TestTuple rightTupleX = new TestTuple("x");
+        TestTuple rightTupleY = new TestTuple("y");
+        rightIndex.put(new Object[] { "x" }, rightTupleX);
+        rightIndex.put(new Object[] { "y" }, rightTupleY);
+        assertThat(visit(rightIndex, Arrays.asList("x", "y"))).containsExactlyInAnyOrder(rightTupleX, rightTupleY);
+        assertThat(visit(rightIndex, Collections.singletonList("y"))).containsExactly(rightTupleY);
+        rightIndex.remove(rightTupleY);
+        assertThat(visit(rightIndex, Collections.singletonList("y"))).isEmpty();
+    }
+
+    private static void put(BavetIndexLevel<String> level, Object indexProperty, String tuple) {
+        level.put(new Object[] { indexProperty }, tuple);
+    }
+
+    private static boolean remove(BavetIndexLevel<String> level, Object indexProperty, String tuple) {
+        return level.remove(new Object[] { indexProperty }, tuple);
+    }
+
+    private static List<String> visit(BavetIndexLevel<String> level, Object otherIndexProperty) {
+        List<String> visitedList = new ArrayList<>();
+        level.visit(new Object[] { otherIndexProperty }, visitedList::add);
+        return visitedList;
+    }
+
+    private static List<TestTuple> visit(BavetIndex<TestTuple> index, Object otherIndexProperty) {
+        List<TestTuple> visitedList = new ArrayList<>();
+        index.visit(new Object[] { otherIndexProperty }, visitedList::add);
+        return visitedList;
+    }
+
+    private static final class TestTuple implements BavetJoinBridgeTuple {
+
+        private final Object fact;
+        private Object[] indexProperties = null;
+
+        private TestTuple(Object fact) {
+            this.fact = fact;
+        }
+
+        @Override
+        public BavetNode getNode() {
+            return null;
+        }
+
+        @Override
+        public Object[] getFacts() {
+            return new Object[] { fact };
+        }
+
+        @Override
+        public Object[] getIndexProperties() {
+            return indexProperties;
+        }
+
+        @Override
+        public void setIndexProperties(Object[] indexProperties) {
+            this.indexProperties = indexProperties;
+        }
+
+        @Override
+        public String toString() {
+            return "TestTuple(" + fact + ")";
+        }
+
+    }
+
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.optaplanner.core.impl.score.stream.bavet.common.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.impl.score.stream.common.JoinerType;
+
+/**
+ * Like {@link org.optaplanner.core.api.score.stream.Joiners#overlapping},
+ * a stored tuple has the index properties {@code [start, end]}
+ * and the other side looks up with the index properties {@code [otherEnd, otherStart]}.
+ */
+public class BavetIntervalIndexLevelTest {
+
+    @Test
+    public void touchingExclusive() {
+        BavetIndexLevel<String> level = buildLevel(JoinerType.LESS_THAN, JoinerType.GREATER_THAN);
+        put(level, 0, 3, "a");
+        put(level, 5, 8, "b");
+        assertThat(visit(level, 3, 5)).isEmpty();
+        assertThat(visit(level, 2, 6)).containsExactlyInAnyOrder("a", "b");
+        assertThat(visit(level, 8, 10)).isEmpty();
+        assertThat(visit(level, -2, 0)).isEmpty();
+    }
+
+    @Test
+    public void touchingInclusive() {
+        BavetIndexLevel<String> level = buildLevel(JoinerType.LESS_THAN_OR_EQUAL, JoinerType.GREATER_THAN_OR_EQUAL);
+        put(level, 0, 3, "a");
+        put(level, 5, 8, "b");
+        assertThat(visit(level, 3, 5)).containsExactlyInAnyOrder("a", "b");
+        assertThat(visit(level, 8, 10)).containsExactly("b");
+        assertThat(visit(level, -2, 0)).containsExactly("a");
+        assertThat(visit(level, 4, 4)).isEmpty();
+    }
+
+    @Test
+    public void nested() {
+        BavetIndexLevel<String> level = buildLevel(JoinerType.LESS_THAN, JoinerType.GREATER_THAN);
+        put(level, 0, 10, "outer");
+        put(level, 2, 8, "middle");
+        put(level, 4, 6, "inner");
+        assertThat(visit(level, 10, 12)).isEmpty();
+        assertThat(visit(level, 5, 5)).containsExactlyInAnyOrder("outer", "middle", "inner");
+        assertThat(visit(level, 6, 7)).containsExactlyInAnyOrder("outer", "middle");
+        assertThat(visit(level, 1, 9)).containsExactlyInAnyOrder("outer", "middle", "inner");
+        assertThat(visit(level, 8, 9)).containsExactly("outer");
+        // An interval that contains all others overlaps with all of them
+        assertThat(visit(level, -1, 11)).containsExactlyInAnyOrder("outer", "middle", "inner");
+
+        assertThat(remove(level, 2, 8, "middle")).isTrue();
+        assertThat(visit(level, 1, 9)).containsExactlyInAnyOrder("outer", "inner");
+    }
+
+    @Test
+    public void equalEndpoints() {
+        BavetIndexLevel<String> level = buildLevel(JoinerType.LESS_THAN, JoinerType.GREATER_THAN);
+        put(level, 0, 5, "a");
+        put(level, 0, 5, "b");
+        put(level, 0, 7, "c");
+        put(level, 3, 5, "d");
+        assertThat(visit(level, 4, 6)).containsExactlyInAnyOrder("a", "b", "c", "d");
+        assertThat(visit(level, 5, 6)).containsExactly("c");
+
+        assertThat(remove(level, 0, 5, "a")).isTrue();
+        assertThat(visit(level, 4, 6)).containsExactlyInAnyOrder("b", "c", "d");
+        // Removing the same tuple twice, or with another end, fails
+        assertThat(remove(level, 0, 5, "a")).isFalse();
+        assertThat(remove(level, 0, 7, "b")).isFalse();
+        assertThat(remove(level, 1, 5, "b")).isFalse();
+
+        assertThat(remove(level, 0, 7, "c")).isTrue();
+        // The maximum end of the node shrinks
+        assertThat(visit(level, 5, 6)).isEmpty();
+        assertThat(remove(level, 0, 5, "b")).isTrue();
+        assertThat(remove(level, 3, 5, "d")).isTrue();
+        assertThat(level.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void emptyLevel() {
+        BavetIndexLevel<String> level = buildLevel(JoinerType.LESS_THAN, JoinerType.GREATER_THAN);
+        assertThat(level.isEmpty()).isTrue();
+        assertThat(visit(level, 0, 10)).isEmpty();
+        assertThat(remove(level, 0, 10, "a")).isFalse();
+    }
+
+    @Test
+    public void wrongJoinerTypes() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new BavetIntervalIndexLevel<String>(
+                0, JoinerType.GREATER_THAN, 1, JoinerType.GREATER_THAN, BavetTupleSetIndexLevel::new));
+        assertThatIllegalArgumentException().isThrownBy(() -> new BavetIntervalIndexLevel<String>(
+                0, JoinerType.LESS_THAN, 1, JoinerType.EQUAL, BavetTupleSetIndexLevel::new));
+    }
+
+    @Test
+    public void rebalanceWhileRemoving() {
+        // Ascending starts are the worst case for an unbalanced tree, so every put and remove rotates
+        BavetIndexLevel<String> level = buildLevel(JoinerType.LESS_THAN, JoinerType.GREATER_THAN);
+        List<int[]> intervalList = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            int[] interval = { i, i + 1 + (i % 7) * 3 };
+            intervalList.add(interval);
+            put(level, interval[0], interval[1], toTuple(interval));
+        }
+        assertVisitEqualsBruteForce(level, intervalList);
+        // Removing the middle starts first removes nodes with 2 children, starting with the root
+        for (int i = 0; i < 32; i++) {
+            int[] interval = intervalList.remove(intervalList.size() / 2);
+            assertThat(remove(level, interval[0], interval[1], toTuple(interval))).isTrue();
+            assertVisitEqualsBruteForce(level, intervalList);
+        }
+        for (int i = intervalList.size() - 1; i >= 0; i--) {
+            int[] interval = intervalList.remove(i);
+            assertThat(remove(level, interval[0], interval[1], toTuple(interval))).isTrue();
+            assertVisitEqualsBruteForce(level, intervalList);
+        }
+        assertThat(level.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void randomPutAndRemove() {
+        Random workingRandom = new Random(37);
+        BavetIndexLevel<String> level = buildLevel(JoinerType.LESS_THAN, JoinerType.GREATER_THAN);
+        List<int[]> intervalList = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            if (intervalList.isEmpty() || workingRandom.nextInt(3) != 0) {
+                int start = workingRandom.nextInt(50);
+                // Many intervals share a start, an end or both
+                int[] interval = { start, start + workingRandom.nextInt(10), i };
+                intervalList.add(interval);
+                put(level, interval[0], interval[1], toTuple(interval));
+            } else {
+                int[] interval = intervalList.remove(workingRandom.nextInt(intervalList.size()));
+                assertThat(remove(level, interval[0], interval[1], toTuple(interval))).isTrue();
+            }
+            assertVisitEqualsBruteForce(level, intervalList);
+        }
+        Collections.shuffle(intervalList, workingRandom);
+        for (int[] interval : intervalList) {
+            assertThat(remove(level, interval[0], interval[1], toTuple(interval))).isTrue();
+        }
+        assertThat(level.isEmpty()).isTrue();
+    }
+
+    private static void assertVisitEqualsBruteForce(BavetIndexLevel<String> level, List<int[]> intervalList) {
+        for (int otherStart = -1; otherStart < 62; otherStart += 3) {
+            for (int otherEnd = otherStart; otherEnd < otherStart + 8; otherEnd += 2) {
+                List<String> expectedList = new ArrayList<>();
+                for (int[] interval : intervalList) {
+                    if (interval[0] < otherEnd && interval[1] > otherStart) {
+                        expectedList.add(toTuple(interval));
+                    }
+                }
+                assertThat(visit(level, otherStart, otherEnd)).containsExactlyInAnyOrderElementsOf(expectedList);
+            }
+        }
+    }
+
+    private static BavetIndexLevel<String> buildLevel(JoinerType startJoinerType, JoinerType endJoinerType) {
+        return new BavetIntervalIndexLevel<>(0, startJoinerType, 1, endJoinerType, BavetTupleSetIndexLevel::new);
+    }
+
+    private static String toTuple(int[] interval) {
+        return interval.length > 2 ? interval[0] + "-" + interval[1] + "#" + interval[2]
+                : interval[0] + "-" + interval[1];
+    }
+
+    private static void put(BavetIndexLevel<String> level, int start, int end, String tuple) {
+        level.put(new Object[] { start, end }, tuple);
+    }
+
+    private static boolean remove(BavetIndexLevel<String> level, int start, int end, String tuple) {
+        return level.remove(new Object[] { start, end }, tuple);
+    }
+
+    private static List<String> visit(BavetIndexLevel<String> level, int otherStart, int otherEnd) {
+        List<String> visitedList = new ArrayList<>();
+        level.visit(new Object[] { otherEnd, otherStart }, visitedList::add);
+        return visitedList;
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.common;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.stream.common.Break;
+import org.optaplanner.core.api.score.stream.common.Sequence;
+
+public class ConsecutiveSetTreeTest {
+
+    @Test
+    public void extendAndMerge() {
+        ConsecutiveSetTree<String> tree = new ConsecutiveSetTree<>();
+        assertThat(tree.getConsecutiveSequences()).isEmpty();
+        assertThat(tree.getFirstSequence()).isNull();
+        tree.add(3, "c");
+        tree.add(1, "a");
+        tree.add(6, "f");
+        tree.add(2, "b");
+        assertThat(tree.getConsecutiveSequences()).extracting(Sequence::getItems)
+                .containsExactly(asList("a", "b", "c"), asList("f"));
+        assertThat(tree.getBreaks()).extracting(Break::getLength).containsExactly(2);
+        tree.add(5, "e");
+        tree.add(4, "d");
+        assertThat(tree.getConsecutiveSequences()).hasSize(1);
+        Sequence<String> sequence = tree.getFirstSequence();
+        assertThat(tree.getLastSequence()).isSameAs(sequence);
+        assertThat(sequence.getFirstIndex()).isEqualTo(1);
+        assertThat(sequence.getLastIndex()).isEqualTo(6);
+        assertThat(sequence.getFirstItem()).isEqualTo("a");
+        assertThat(sequence.getLastItem()).isEqualTo("f");
+        assertThat(sequence.getLength()).isEqualTo(6);
+        assertThat(sequence.getPreviousBreak()).isNull();
+        assertThat(sequence.getNextBreak()).isNull();
+        assertThat(tree.getBreaks()).isEmpty();
+    }
+
+    @Test
+    public void splitAndShrink() {
+        ConsecutiveSetTree<String> tree = new ConsecutiveSetTree<>();
+        for (int i = 0; i < 10; i++) {
+            tree.add(i, "v" + i);
+        }
+        tree.remove(4, "v4");
+        tree.remove(7, "v7");
+        assertThat(tree.getConsecutiveSequences()).extracting(Sequence::getLength)
+                .containsExactly(4, 2, 2);
+        Break<String> firstBreak = tree.getFirstSequence().getNextBreak();
+        assertThat(firstBreak.getPreviousSequence()).isSameAs(tree.getFirstSequence());
+        assertThat(firstBreak.getNextSequence().getFirstIndex()).isEqualTo(5);
+        assertThat(firstBreak.getLength()).isEqualTo(1);
+        tree.remove(0, "v0");
+        tree.remove(9, "v9");
+        assertThat(tree.getFirstSequence().getFirstIndex()).isEqualTo(1);
+        assertThat(tree.getLastSequence().getLastIndex()).isEqualTo(8);
+        tree.remove(8, "v8");
+        assertThat(tree.getConsecutiveSequences()).extracting(Sequence::getLength)
+                .containsExactly(3, 2);
+    }
+
+    @Test
+    public void duplicateIndexes() {
+        ConsecutiveSetTree<String> tree = new ConsecutiveSetTree<>();
+        tree.add(1, "a");
+        tree.add(1, "b");
+        tree.add(2, "c");
+        Sequence<String> sequence = tree.getFirstSequence();
+        assertThat(sequence.getCount()).isEqualTo(3);
+        assertThat(sequence.getLength()).isEqualTo(2);
+        tree.remove(1, "a");
+        assertThat(tree.getFirstSequence()).isSameAs(sequence);
+        assertThat(sequence.getItems()).containsExactly("b", "c");
+        assertThatIllegalStateException().isThrownBy(() -> tree.remove(1, "a"));
+    }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import org.junit.jupiter.api.Test;
+
+public class DefaultLoadBalanceTest {
+
+    @Test
+    public void addAndRemove() {
+        DefaultLoadBalance<String> loadBalance = new DefaultLoadBalance<>();
+        loadBalance.add("A", 4L);
+        loadBalance.add("B", 1L);
+        loadBalance.add("C", 1L);
+        assertThat(loadBalance.getSum()).isEqualTo(6L);
+        assertThat(loadBalance.getSumOfSquares()).isEqualTo(18L);
+        // (4 - 2)² + (1 - 2)² + (1 - 2)² = 6
+        assertThat(loadBalance.getSquaredDeviation()).isEqualByComparingTo("6");
+        loadBalance.add("B", 1L);
+        loadBalance.remove("A", 4L);
+        loadBalance.add("A", 2L);
+        assertThat(loadBalance.getSumOfSquares()).isEqualTo(9L);
+        assertThat(loadBalance.getSquaredDeviation()).isEqualByComparingTo("0.6666666666666667");
+    }
+
+    @Test
+    public void zeroAndNegativeLoads() {
+        DefaultLoadBalance<String> loadBalance = new DefaultLoadBalance<>();
+        loadBalance.add("A", 0L);
+        loadBalance.add("B", -2L);
+        loadBalance.add("B", 2L);
+        // A balanced item with a load of 0 is still known, as long as it has elements.
+        assertThat(loadBalance.getCount()).isEqualTo(2);
+        assertThat(loadBalance.getSumOfSquares()).isEqualTo(0L);
+        loadBalance.remove("B", -2L);
+        assertThat(loadBalance.getLoad("B")).isEqualTo(2L);
+        assertThat(loadBalance.getSumOfSquares()).isEqualTo(4L);
+        loadBalance.remove("A", 0L);
+        assertThat(loadBalance.getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void removeAbsent() {
+        DefaultLoadBalance<String> loadBalance = new DefaultLoadBalance<>();
+        assertThatIllegalStateException().isThrownBy(() -> loadBalance.remove("A", 1L));
+    }
+
+    @Test
+    public void sumOfSquaresOverflow() {
+        DefaultLoadBalance<String> loadBalance = new DefaultLoadBalance<>();
+        loadBalance.add("A", 3_037_000_499L);
+        assertThat(loadBalance.getSumOfSquares()).isEqualTo(3_037_000_499L * 3_037_000_499L);
+        assertThatExceptionOfType(ArithmeticException.class).isThrownBy(() -> loadBalance.add("A", 1L));
+        assertThatExceptionOfType(ArithmeticException.class).isThrownBy(() -> loadBalance.add("B", Long.MAX_VALUE));
+        // A failed add doesn't change anything
+        assertThat(loadBalance.getCount()).isEqualTo(1);
+        assertThat(loadBalance.getSum()).isEqualTo(3_037_000_499L);
+    }
+
+}
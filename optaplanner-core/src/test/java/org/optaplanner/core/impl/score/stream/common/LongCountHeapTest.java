@@ -0,0 +1,83 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import org.junit.jupiter.api.Test;
+
+public class LongCountHeapTest {
+
+    @Test
+    public void min() {
+        LongCountHeap heap = new LongCountHeap(true);
+        assertThat(heap.isEmpty()).isTrue();
+        heap.add(5L);
+        heap.add(3L);
+        heap.add(7L);
+        heap.add(3L);
+        assertThat(heap.peek()).isEqualTo(3L);
+        heap.remove(3L);
+        assertThat(heap.peek()).isEqualTo(3L);
+        heap.remove(3L);
+        assertThat(heap.peek()).isEqualTo(5L);
+        heap.remove(5L);
+        assertThat(heap.peek()).isEqualTo(7L);
+        heap.remove(7L);
+        assertThat(heap.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void max() {
+        LongCountHeap heap = new LongCountHeap(false);
+        heap.add(5L);
+        heap.add(Long.MIN_VALUE);
+        heap.add(Long.MAX_VALUE);
+        assertThat(heap.peek()).isEqualTo(Long.MAX_VALUE);
+        heap.remove(Long.MAX_VALUE);
+        assertThat(heap.peek()).isEqualTo(5L);
+        heap.remove(5L);
+        assertThat(heap.peek()).isEqualTo(Long.MIN_VALUE);
+    }
+
+    @Test
+    public void growAndShrink() {
+        LongCountHeap heap = new LongCountHeap(true);
+        for (long i = 1000L; i > 0L; i--) {
+            heap.add(i * 31L);
+            assertThat(heap.peek()).isEqualTo(i * 31L);
+        }
+        for (long i = 1L; i < 1000L; i++) {
+            heap.remove(i * 31L);
+            assertThat(heap.peek()).isEqualTo((i + 1L) * 31L);
+        }
+        heap.remove(1000L * 31L);
+        assertThat(heap.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void removeAbsent() {
+        LongCountHeap heap = new LongCountHeap(true);
+        heap.add(1L);
+        assertThatIllegalStateException().isThrownBy(() -> heap.remove(2L));
+        heap.remove(1L);
+        assertThatIllegalStateException().isThrownBy(() -> heap.remove(1L));
+        assertThatIllegalStateException().isThrownBy(heap::peek);
+    }
+
+}
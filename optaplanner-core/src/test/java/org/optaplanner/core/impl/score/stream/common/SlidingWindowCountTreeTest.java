@@ -0,0 +1,65 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.junit.jupiter.api.Test;
+
+public class SlidingWindowCountTreeTest {
+
+    @Test
+    public void maxCount() {
+        SlidingWindowCountTree tree = new SlidingWindowCountTree(7);
+        assertThat(tree.getMaxCount()).isEqualTo(0);
+        tree.add(0);
+        tree.add(7);
+        assertThat(tree.getMaxCount()).isEqualTo(1);
+        tree.add(6);
+        assertThat(tree.getMaxCount()).isEqualTo(2);
+        tree.add(3);
+        assertThat(tree.getMaxCount()).isEqualTo(3);
+        tree.add(3);
+        assertThat(tree.getMaxCount()).isEqualTo(4);
+        tree.remove(3);
+        tree.remove(6);
+        assertThat(tree.getMaxCount()).isEqualTo(2);
+        tree.remove(0);
+        tree.remove(3);
+        tree.remove(7);
+        assertThat(tree.getMaxCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void extremeIndexes() {
+        SlidingWindowCountTree tree = new SlidingWindowCountTree(2);
+        tree.add(Integer.MIN_VALUE);
+        tree.add(Integer.MAX_VALUE);
+        tree.add(Integer.MAX_VALUE - 1);
+        assertThat(tree.getMaxCount()).isEqualTo(2);
+        tree.add(Integer.MIN_VALUE + 1);
+        tree.add(Integer.MIN_VALUE + 1);
+        assertThat(tree.getMaxCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void windowSizeTooSmall() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new SlidingWindowCountTree(0));
+    }
+
+}
@@ -20,6 +20,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 import org.junit.jupiter.api.Test;
+import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
+import org.optaplanner.core.config.partitionedsearch.PartitionedSearchPhaseConfig;
 import org.optaplanner.core.config.solver.SolverConfig;
 
 class DefaultSolverFactoryTest {
@@ -67,4 +69,19 @@ class DefaultSolverFactoryTest {
                 new DefaultSolverFactory.MoveThreadCountResolver();
         return moveThreadCountResolver.resolveMoveThreadCount(moveThreadCountString);
     }
+
+    @Test
+    void resolveRunnableThreadCount() {
+        SolverConfig solverConfig = new SolverConfig();
+        assertThat(new DefaultSolverFactory<>(solverConfig).resolveRunnableThreadCount()).isEqualTo(1);
+        solverConfig.setMoveThreadCount("2");
+        assertThat(new DefaultSolverFactory<>(solverConfig).resolveRunnableThreadCount()).isEqualTo(3);
+        PartitionedSearchPhaseConfig partitionedSearchPhaseConfig = new PartitionedSearchPhaseConfig();
+        partitionedSearchPhaseConfig.setRunnablePartThreadLimit("4");
+        solverConfig.withPhases(new ConstructionHeuristicPhaseConfig(), partitionedSearchPhaseConfig);
+        // 4 partition threads that each have 2 move threads
+        assertThat(new DefaultSolverFactory<>(solverConfig).resolveRunnableThreadCount()).isEqualTo(13);
+        partitionedSearchPhaseConfig.setRunnablePartThreadLimit(PartitionedSearchPhaseConfig.ACTIVE_THREAD_COUNT_UNLIMITED);
+        assertThat(new DefaultSolverFactory<>(solverConfig).resolveRunnableThreadCount()).isNull();
+    }
 }
@@ -52,9 +52,11 @@ import org.optaplanner.core.config.score.director.ScoreDirectorFactoryConfig;
 import org.optaplanner.core.config.solver.SolverConfig;
 import org.optaplanner.core.config.solver.SolverManagerConfig;
 import org.optaplanner.core.config.solver.termination.TerminationConfig;
+import org.optaplanner.core.config.util.ConfigUtils;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.quarkus.OptaPlannerBeanProvider;
 import org.optaplanner.quarkus.OptaPlannerRecorder;
+import org.optaplanner.quarkus.gizmo.OptaPlannerGizmoInitializer;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.GeneratedBeanBuildItem;
@@ -70,10 +72,14 @@ import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.deployment.builditem.HotDeploymentWatchedFileBuildItem;
 import io.quarkus.deployment.builditem.IndexDependencyBuildItem;
+import io.quarkus.deployment.builditem.LaunchModeBuildItem;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveHierarchyBuildItem;
 import io.quarkus.deployment.recording.RecorderContext;
 import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.runtime.LaunchMode;
+import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.configuration.ConfigurationException;
 
 class OptaPlannerProcessor {
@@ -110,7 +116,7 @@ class OptaPlannerProcessor {
     @BuildStep
     @Record(STATIC_INIT)
     void recordAndRegisterBeans(OptaPlannerRecorder recorder, RecorderContext recorderContext,
-            CombinedIndexBuildItem combinedIndex,
+            CombinedIndexBuildItem combinedIndex, LaunchModeBuildItem launchMode, ShutdownContextBuildItem shutdownContext,
             BuildProducer<ReflectiveHierarchyBuildItem> reflectiveHierarchyClass,
             BuildProducer<ReflectiveClassBuildItem> reflectiveClass,
             BuildProducer<SyntheticBeanBuildItem> syntheticBeanBuildItemBuildProducer,
@@ -159,7 +165,8 @@ class OptaPlannerProcessor {
                     .build());
         }
 
-        generateDomainAccessors(solverConfig, indexView, generatedBeans, generatedClasses, transformers);
+        String gizmoInitializerClassName =
+                generateDomainAccessors(solverConfig, indexView, generatedBeans, generatedClasses, transformers);
 
         List<Class<?>> reflectiveClassList = new ArrayList<>(5);
         ScoreDirectorFactoryConfig scoreDirectorFactoryConfig = solverConfig.getScoreDirectorFactoryConfig();
@@ -191,6 +198,13 @@ class OptaPlannerProcessor {
                 .defaultBean()
                 .supplier(recorder.solverManagerConfig(solverManagerConfig)).done());
 
+        // Hot reload loads new constraint provider classes, so dev mode can't reuse constraints built during static init
+        if (isConstraintProviderOnly(scoreDirectorFactoryConfig) && launchMode.getLaunchMode() != LaunchMode.DEVELOPMENT) {
+            RuntimeValue<OptaPlannerGizmoInitializer> gizmoInitializer =
+                    (RuntimeValue<OptaPlannerGizmoInitializer>) recorderContext.newInstance(gizmoInitializerClassName);
+            recorder.initializeConstraints(gizmoInitializer, solverConfig, shutdownContext);
+        }
+
         additionalBeans.produce(new AdditionalBeanBuildItem(OptaPlannerBeanProvider.class));
     }
 
@@ -418,7 +432,17 @@ class OptaPlannerProcessor {
         }
     }
 
-    private void generateDomainAccessors(SolverConfig solverConfig, IndexView indexView,
+    private boolean isConstraintProviderOnly(ScoreDirectorFactoryConfig scoreDirectorFactoryConfig) {
+        // Other score calculation types, including invalid combinations, still fail on the first buildSolver() call
+        return scoreDirectorFactoryConfig != null
+                && scoreDirectorFactoryConfig.getConstraintProviderClass() != null
+                && scoreDirectorFactoryConfig.getEasyScoreCalculatorClass() == null
+                && scoreDirectorFactoryConfig.getIncrementalScoreCalculatorClass() == null
+                && ConfigUtils.isEmptyCollection(scoreDirectorFactoryConfig.getScoreDrlList())
+                && ConfigUtils.isEmptyCollection(scoreDirectorFactoryConfig.getScoreDrlFileList());
+    }
+
+    private String generateDomainAccessors(SolverConfig solverConfig, IndexView indexView,
             BuildProducer<GeneratedBeanBuildItem> generatedBeans,
             BuildProducer<GeneratedClassBuildItem> generatedClasses,
             BuildProducer<BytecodeTransformerBuildItem> transformers) {
@@ -504,7 +528,8 @@ class OptaPlannerProcessor {
             }
         }
 
-        GizmoMemberAccessorEntityEnhancer.generateGizmoInitializer(beanClassOutput, generatedMemberAccessorsClassNameSet,
+        return GizmoMemberAccessorEntityEnhancer.generateGizmoInitializer(beanClassOutput,
+                generatedMemberAccessorsClassNameSet,
                 gizmoSolutionClonerClassNameSet);
     }
 
@@ -18,6 +18,7 @@ package org.optaplanner.quarkus.constraints;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import javax.inject.Inject;
 
@@ -27,6 +28,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 import org.optaplanner.core.api.solver.SolverFactory;
 import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.impl.score.director.ScoreDirectorFactoryFactory;
+import org.optaplanner.core.impl.score.director.stream.ConstraintSessionFactoryCache;
+import org.optaplanner.core.impl.score.director.stream.ConstraintStreamScoreDirectorFactory;
+import org.optaplanner.core.impl.solver.DefaultSolverFactory;
 import org.optaplanner.quarkus.testdata.normal.constraints.TestdataQuarkusConstraintProvider;
 import org.optaplanner.quarkus.testdata.normal.domain.TestdataQuarkusEntity;
 import org.optaplanner.quarkus.testdata.normal.domain.TestdataQuarkusSolution;
@@ -53,4 +58,22 @@ public class OptaPlannerProcessorConstraintProviderTest {
         assertNotNull(solverFactory.buildSolver());
     }
 
+    @Test
+    public void constraintsBuiltDuringStaticInit() {
+        ConstraintSessionFactoryCache cache = ScoreDirectorFactoryFactory.getConstraintSessionFactoryCache();
+        // Static init already built the constraints, before any score director factory is requested at runtime
+        assertEquals(1, cache.size());
+        DefaultSolverFactory<TestdataQuarkusSolution> defaultSolverFactory =
+                (DefaultSolverFactory<TestdataQuarkusSolution>) solverFactory;
+        ConstraintStreamScoreDirectorFactory<TestdataQuarkusSolution, ?> scoreDirectorFactory =
+                (ConstraintStreamScoreDirectorFactory<TestdataQuarkusSolution, ?>) defaultSolverFactory
+                        .getScoreDirectorFactory();
+        ConstraintStreamScoreDirectorFactory<TestdataQuarkusSolution, ?> otherScoreDirectorFactory =
+                (ConstraintStreamScoreDirectorFactory<TestdataQuarkusSolution, ?>) defaultSolverFactory
+                        .getScoreDirectorFactory();
+        // Both reuse the constraints built during static init instead of defining them again
+        assertSame(scoreDirectorFactory.getConstraints(), otherScoreDirectorFactory.getConstraints());
+        assertEquals(1, cache.size());
+    }
+
 }
@@ -20,7 +20,12 @@ import java.util.function.Supplier;
 
 import org.optaplanner.core.config.solver.SolverConfig;
 import org.optaplanner.core.config.solver.SolverManagerConfig;
+import org.optaplanner.core.impl.score.director.ScoreDirectorFactoryFactory;
+import org.optaplanner.core.impl.solver.DefaultSolverFactory;
+import org.optaplanner.quarkus.gizmo.OptaPlannerGizmoInitializer;
 
+import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
@@ -44,4 +49,21 @@ public class OptaPlannerRecorder {
         };
     }
 
+    /**
+     * Defines the constraints of the constraint provider and builds their constraint network (the Drools KieBase
+     * or the Bavet node plan) during static init, so every solver built afterwards reuses them.
+     * A native executable runs static init during its image build, so the constraints end up in its image heap.
+     *
+     * @param gizmoInitializer never null, registers the generated member accessors and solution cloners
+     * @param solverConfig never null, with a constraintProviderClass
+     * @param shutdownContext never null, disables the cache again when the application stops
+     */
+    public void initializeConstraints(RuntimeValue<OptaPlannerGizmoInitializer> gizmoInitializer,
+            SolverConfig solverConfig, ShutdownContext shutdownContext) {
+        gizmoInitializer.getValue().setup();
+        ScoreDirectorFactoryFactory.enableConstraintSessionFactoryCache();
+        shutdownContext.addShutdownTask(ScoreDirectorFactoryFactory::disableConstraintSessionFactoryCache);
+        new DefaultSolverFactory<>(solverConfig).getScoreDirectorFactory();
+    }
+
 }